@@ -23,6 +23,7 @@ import org.marketcetera.trade.Future;
 import org.marketcetera.trade.Hierarchy;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.trade.Option;
+import org.marketcetera.trade.Order;
 import org.marketcetera.trade.OrderCancel;
 import org.marketcetera.trade.OrderID;
 import org.marketcetera.trade.OrderReplace;
@@ -33,6 +34,8 @@ import org.marketcetera.trade.UserID;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.tags.SessionId;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
 /* $License$ */
 
 /**
@@ -52,6 +55,9 @@ import org.marketcetera.util.ws.tags.SessionId;
  *      <li>sendOrder: {@link #sendOrder(OrderSingle)},
  *      {@link #sendOrder(OrderReplace)}, {@link #sendOrder(OrderCancel)},
  *      {@link #sendOrderRaw(FIXOrder)}</li>
+ *      <li>sendOrderAsync: {@link #sendOrderAsync(OrderSingle)},
+ *      {@link #sendOrderAsync(OrderReplace)}, {@link #sendOrderAsync(OrderCancel)},
+ *      {@link #sendOrderRawAsync(FIXOrder)}</li>
  *      <li>{@link #addReportListener(ReportListener) receive reports}</li>
  *      <li>{@link #addBrokerStatusListener(BrokerStatusListener) receive broker status updates}</li>
  *      <li>{@link #getReportsSince(Date) fetch past reports} </li>
@@ -129,6 +135,79 @@ public interface Client
      */
     public void sendOrderRaw(FIXOrder inFIXOrder)
             throws ConnectionException, OrderValidationException;
+    /**
+     * Submits the supplied order to be sent to the server without waiting
+     * for it to be sent.
+     * <p>
+     * Orders submitted this way are sent in batches, in the order in which
+     * they were submitted. The batch size and the time an order waits for
+     * its batch to fill are set by {@link ClientParameters#getOrderBatchSize()}
+     * and {@link ClientParameters#getOrderBatchLinger()}. At most
+     * {@link ClientParameters#getOrderBatchCapacity()} orders wait to be
+     * sent; once that many are waiting this method blocks until the client
+     * has caught up. {@link #sendOrder(OrderSingle)} and related methods
+     * wait for orders submitted earlier with this method to be sent first,
+     * so orders sent by one thread reach the server in the order they were
+     * sent.
+     *
+     * @param inOrderSingle The order to send.
+     *
+     * @return a future that yields the order once it has been sent, or
+     * fails with a {@link ConnectionException} if it could not be sent.
+     *
+     * @throws OrderValidationException if the order didn't have complete
+     * or consistent data to be sent to the server.
+     */
+    public ListenableFuture<Order> sendOrderAsync(OrderSingle inOrderSingle)
+            throws OrderValidationException;
+    /**
+     * Submits the supplied order to be sent to the server without waiting
+     * for it to be sent.
+     *
+     * @param inOrderReplace The order to send.
+     *
+     * @return a future that yields the order once it has been sent, or
+     * fails with a {@link ConnectionException} if it could not be sent.
+     *
+     * @throws OrderValidationException if the order didn't have complete
+     * or consistent data to be sent to the server.
+     *
+     * @see #sendOrderAsync(OrderSingle)
+     */
+    public ListenableFuture<Order> sendOrderAsync(OrderReplace inOrderReplace)
+            throws OrderValidationException;
+    /**
+     * Submits the supplied order to be sent to the server without waiting
+     * for it to be sent.
+     *
+     * @param inOrderCancel The order to send.
+     *
+     * @return a future that yields the order once it has been sent, or
+     * fails with a {@link ConnectionException} if it could not be sent.
+     *
+     * @throws OrderValidationException if the order didn't have complete
+     * or consistent data to be sent to the server.
+     *
+     * @see #sendOrderAsync(OrderSingle)
+     */
+    public ListenableFuture<Order> sendOrderAsync(OrderCancel inOrderCancel)
+            throws OrderValidationException;
+    /**
+     * Submits the supplied FIX Message Order to be sent to the server
+     * without waiting for it to be sent.
+     *
+     * @param inFIXOrder the raw FIX Order to send.
+     *
+     * @return a future that yields the order once it has been sent, or
+     * fails with a {@link ConnectionException} if it could not be sent.
+     *
+     * @throws OrderValidationException if the supplied message was not of a
+     * type that's supported by the system.
+     *
+     * @see #sendOrderAsync(OrderSingle)
+     */
+    public ListenableFuture<Order> sendOrderRawAsync(FIXOrder inFIXOrder)
+            throws OrderValidationException;
     /**
      * Send the supplied Event to the server.
      *
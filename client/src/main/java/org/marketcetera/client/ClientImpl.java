@@ -12,7 +12,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
 import javax.xml.bind.JAXBException;
 
 import org.apache.commons.lang.ObjectUtils;
@@ -29,6 +33,7 @@ import org.marketcetera.core.Util;
 import org.marketcetera.core.notifications.ServerStatusListener;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.event.Event;
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.metrics.ThreadedMetric;
 import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.Currency;
@@ -72,8 +77,13 @@ import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.context.support.FileSystemXmlApplicationContext;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.jms.core.JmsOperations;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.SessionCallback;
 import org.springframework.jms.listener.SimpleMessageListenerContainer;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
 /* $License$ */
 /**
  * The implementation of Client that connects to the server.
@@ -117,6 +127,46 @@ public class ClientImpl
         Validations.validate(inFIXOrder);
         convertAndSend(inFIXOrder);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderSingle inOrderSingle)
+            throws OrderValidationException
+    {
+        Validations.validate(inOrderSingle);
+        return submit(inOrderSingle);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderReplace)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderReplace inOrderReplace)
+            throws OrderValidationException
+    {
+        Validations.validate(inOrderReplace);
+        return submit(inOrderReplace);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderCancel)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderCancel inOrderCancel)
+            throws OrderValidationException
+    {
+        Validations.validate(inOrderCancel);
+        return submit(inOrderCancel);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderRawAsync(org.marketcetera.trade.FIXOrder)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderRawAsync(FIXOrder inFIXOrder)
+            throws OrderValidationException
+    {
+        Validations.validate(inFIXOrder);
+        return submit(inFIXOrder);
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.client.Client#sendEvent(org.marketcetera.event.Event)
      */
@@ -1016,6 +1066,18 @@ public class ClientImpl
         mBrokerStatusListener.start();
         mToServer = mJmsMgr.getOutgoingJmsFactory().createJmsTemplateX(Service.REQUEST_QUEUE,
                                                                        false);
+        JmsTemplate batchToServer = mJmsMgr.getOutgoingJmsFactory().createJmsTemplateX(Service.REQUEST_QUEUE,
+                                                                                       false);
+        batchToServer.setSessionTransacted(true);
+        mBatchToServer = batchToServer;
+        mOrderBatcher = new OrderBatcher(new OrderBatcher.BatchSender() {
+            @Override
+            public void send(List<Order> inOrders)
+                    throws ConnectionException
+            {
+                sendBatch(inOrders);
+            }
+        },mParameters.getOrderBatchSize(),mParameters.getOrderBatchLinger(),mParameters.getOrderBatchCapacity(),Messages.ORDER_BATCHER_THREAD_NAME.getText());
     }
     /**
      * Modify the given order.
@@ -1124,6 +1186,7 @@ public class ClientImpl
                 inOrder instanceof OrderBase
                         ? ((OrderBase) inOrder).getOrderID()
                         : null);
+        CheckpointLatency.checkpoint(OUT_STAGE);
         failIfClosed();
         SLF4JLoggerProxy.debug(TRAFFIC, "Sending order:{}", inOrder);  //$NON-NLS-1$
         try {
@@ -1131,6 +1194,11 @@ public class ClientImpl
                 throw new ClientInitException(Messages.NOT_CONNECTED_TO_SERVER);
             }
             failIfDisconnected();
+            // keep orders submitted earlier for asynchronous delivery ahead of this one
+            OrderBatcher batcher = mOrderBatcher;
+            if(batcher != null) {
+                batcher.awaitSubmitted();
+            }
             modifyOrder(inOrder);
             mToServer.convertAndSend(new DataEnvelope(inOrder,
                                                       getSessionId()));
@@ -1146,6 +1214,97 @@ public class ClientImpl
             throw exception;
         }
     }
+    /**
+     * Submits the given order to be sent to the server with the next batch.
+     *
+     * @param inOrder an <code>Order</code> value
+     * @return a <code>ListenableFuture&lt;Order&gt;</code> value
+     */
+    private ListenableFuture<Order> submit(Order inOrder)
+    {
+        ThreadedMetric.event("client-OUT",  //$NON-NLS-1$ 
+                inOrder instanceof OrderBase
+                        ? ((OrderBase) inOrder).getOrderID()
+                        : null);
+        CheckpointLatency.checkpoint(OUT_STAGE);
+        failIfClosed();
+        SLF4JLoggerProxy.debug(TRAFFIC, "Submitting order:{}", inOrder);  //$NON-NLS-1$
+        OrderBatcher batcher = mOrderBatcher;
+        if(batcher == null) {
+            return Futures.immediateFailedFuture(new ConnectionException(Messages.NOT_CONNECTED_TO_SERVER));
+        }
+        modifyOrder(inOrder);
+        return batcher.submit(inOrder);
+    }
+    /**
+     * Sends the given orders to the server in one JMS transaction.
+     *
+     * @param inOrders a <code>List&lt;Order&gt;</code> value
+     * @throws ConnectionException if the orders could not be sent to the server
+     */
+    private void sendBatch(final List<Order> inOrders)
+            throws ConnectionException
+    {
+        SLF4JLoggerProxy.debug(TRAFFIC, "Sending orders:{}", inOrders);  //$NON-NLS-1$
+        try {
+            final JmsTemplate template = mBatchToServer;
+            if(template == null) {
+                throw new ClientInitException(Messages.NOT_CONNECTED_TO_SERVER);
+            }
+            failIfDisconnected();
+            final SessionId sessionId = getSessionId();
+            template.execute(new SessionCallback<Void>() {
+                @Override
+                public Void doInJms(Session inSession)
+                        throws JMSException
+                {
+                    Destination destination = template.getDestinationResolver().resolveDestinationName(inSession,
+                                                                                                      template.getDefaultDestinationName(),
+                                                                                                      template.isPubSubDomain());
+                    MessageProducer producer = inSession.createProducer(destination);
+                    try {
+                        // apply the template's settings as JmsTemplate itself would
+                        if(!template.isMessageIdEnabled()) {
+                            producer.setDisableMessageID(true);
+                        }
+                        if(!template.isMessageTimestampEnabled()) {
+                            producer.setDisableMessageTimestamp(true);
+                        }
+                        for(Order order : inOrders) {
+                            Message message = template.getMessageConverter().toMessage(new DataEnvelope(order,
+                                                                                                        sessionId),
+                                                                                       inSession);
+                            if(template.isExplicitQosEnabled()) {
+                                producer.send(message,
+                                              template.getDeliveryMode(),
+                                              template.getPriority(),
+                                              template.getTimeToLive());
+                            } else {
+                                producer.send(message);
+                            }
+                        }
+                        inSession.commit();
+                    } catch (JMSException | RuntimeException e) {
+                        inSession.rollback();
+                        throw e;
+                    } finally {
+                        producer.close();
+                    }
+                    return null;
+                }
+            },true);
+        } catch (Exception e) {
+            ConnectionException exception;
+            exception = new ConnectionException(e, new I18NBoundMessage1P(Messages.ERROR_SEND_MESSAGE,
+                                                                          ObjectUtils.toString(inOrders)));
+            Messages.LOG_ERROR_SEND_EXCEPTION.warn(this,
+                                                   exception,
+                                                   ObjectUtils.toString(inOrders));
+            ExceptUtils.interrupt(e);
+            exceptionThrown(exception);
+            throw exception;
+        }
+    }
     /**
      * Convert the given event and send it to the server.
      *
@@ -1157,6 +1316,7 @@ public class ClientImpl
     {
         ThreadedMetric.event("client-OUT",  //$NON-NLS-1$ 
                              inEvent.getMessageId());
+        CheckpointLatency.checkpoint(OUT_STAGE);
         failIfClosed();
         SLF4JLoggerProxy.debug(TRAFFIC,
                                "Sending: {}",  //$NON-NLS-1$
@@ -1253,6 +1413,11 @@ public class ClientImpl
             }
         }
         mToServer = null;
+        mBatchToServer = null;
+        if(mOrderBatcher != null) {
+            mOrderBatcher.stop(new ConnectionException(Messages.NOT_CONNECTED_TO_SERVER));
+            mOrderBatcher = null;
+        }
     }
     /**
      * Sets the server connection status. If the status changed, the
@@ -1309,6 +1474,8 @@ public class ClientImpl
     private volatile SimpleMessageListenerContainer mTradeMessageListener;
     private volatile SimpleMessageListenerContainer mBrokerStatusListener;
     private volatile JmsOperations mToServer;
+    private volatile JmsTemplate mBatchToServer;
+    private volatile OrderBatcher mOrderBatcher;
     protected volatile ClientParameters mParameters;
     private volatile boolean mClosed = false;
     private volatile boolean mServerAlive = false;
@@ -1332,4 +1499,6 @@ public class ClientImpl
             getName() + ".traffic";  //$NON-NLS-1$
     private static final String HEARTBEATS = ClientImpl.class.getPackage().
             getName() + ".heartbeats";  //$NON-NLS-1$
+    private static final CheckpointLatency.Stage OUT_STAGE =
+            CheckpointLatency.stage("client-OUT");  //$NON-NLS-1$
 }
@@ -7,6 +7,7 @@ import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.except.I18NException;
 import org.marketcetera.module.*;
 import org.marketcetera.trade.*;
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.metrics.ThreadedMetric;
 import org.apache.commons.lang.ObjectUtils;
 
@@ -57,6 +58,7 @@ class ClientModule extends Module implements DataReceiver,
     public void receiveData(DataFlowID inFlowID, Object inData)
             throws ReceiveDataException {
         ThreadedMetric.event("client-IN");  //$NON-NLS-1$
+        CheckpointLatency.checkpoint(IN_STAGE);
         try {
             if(inData instanceof OrderSingle) {
                 getClient().sendOrder((OrderSingle) inData);
@@ -200,4 +202,8 @@ class ClientModule extends Module implements DataReceiver,
 
         private final DataEmitterSupport mSupport;
     }
+    /**
+     * Records the latency of delivering orders to the client.
+     */
+    private static final CheckpointLatency.Stage IN_STAGE = CheckpointLatency.stage("client-IN");  //$NON-NLS-1$
 }
@@ -86,6 +86,67 @@ public class ClientParameters
         return mHeartbeatInterval;
     }
 
+    /**
+     * The most orders submitted with {@link Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)}
+     * and related methods that are sent to the server in one batch.
+     *
+     * @return the batch size.
+     */
+    public int getOrderBatchSize() {
+        return mOrderBatchSize;
+    }
+
+    /**
+     * Sets the most orders sent to the server in one batch.
+     *
+     * @param inOrderBatchSize the batch size, at least 1.
+     */
+    public void setOrderBatchSize(int inOrderBatchSize) {
+        mOrderBatchSize = inOrderBatchSize;
+    }
+
+    /**
+     * The time, in ms, that an order submitted with
+     * {@link Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)} and related methods waits
+     * for other orders to join its batch before the batch is sent.
+     *
+     * @return the linger time.
+     */
+    public long getOrderBatchLinger() {
+        return mOrderBatchLinger;
+    }
+
+    /**
+     * Sets the time, in ms, that an order waits for other orders to join
+     * its batch. 0 sends whatever is waiting without delay.
+     *
+     * @param inOrderBatchLinger the linger time.
+     */
+    public void setOrderBatchLinger(long inOrderBatchLinger) {
+        mOrderBatchLinger = inOrderBatchLinger;
+    }
+
+    /**
+     * The most orders submitted with
+     * {@link Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)} and related methods
+     * that may wait to be sent. Once that many are waiting, submitting
+     * another order blocks until the client has caught up.
+     *
+     * @return the capacity.
+     */
+    public int getOrderBatchCapacity() {
+        return mOrderBatchCapacity;
+    }
+
+    /**
+     * Sets the most orders that may wait to be sent to the server.
+     *
+     * @param inOrderBatchCapacity the capacity, at least 1.
+     */
+    public void setOrderBatchCapacity(int inOrderBatchCapacity) {
+        mOrderBatchCapacity = inOrderBatchCapacity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -99,7 +160,10 @@ public class ClientParameters
                 ObjectUtils.equals(mHostname, that.mHostname) &&
                 ObjectUtils.equals(mIDPrefix, that.mIDPrefix) &&
                 ObjectUtils.equals(mPort, that.mPort) &&
-                ObjectUtils.equals(mHeartbeatInterval, that.mHeartbeatInterval);
+                ObjectUtils.equals(mHeartbeatInterval, that.mHeartbeatInterval) &&
+                mOrderBatchSize == that.mOrderBatchSize &&
+                mOrderBatchLinger == that.mOrderBatchLinger &&
+                mOrderBatchCapacity == that.mOrderBatchCapacity;
     }
 
     @Override
@@ -109,6 +173,9 @@ public class ClientParameters
                 ObjectUtils.hashCode(mHostname) +
                 ObjectUtils.hashCode(mPort) +
                 ObjectUtils.hashCode(mHeartbeatInterval) +
+                ObjectUtils.hashCode(mOrderBatchSize) +
+                ObjectUtils.hashCode(mOrderBatchLinger) +
+                ObjectUtils.hashCode(mOrderBatchCapacity) +
                 ObjectUtils.hashCode(mIDPrefix) +
                 ObjectUtils.hashCode(mURL);
     }
@@ -209,6 +276,9 @@ public class ClientParameters
                 ", Port='" + mPort + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
                 ", IDPrefix='" + mIDPrefix + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
                 ", HeartbeatInterval='" + mHeartbeatInterval + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
+                ", OrderBatchSize='" + mOrderBatchSize + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
+                ", OrderBatchLinger='" + mOrderBatchLinger + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
+                ", OrderBatchCapacity='" + mOrderBatchCapacity + '\'' +  //$NON-NLS-1$ $NON-NLS-2$
                 '}';  //$NON-NLS-1$
     }
 
@@ -219,6 +289,12 @@ public class ClientParameters
     private String mURL;
     private String mIDPrefix;
     private int mHeartbeatInterval;
+    private int mOrderBatchSize = DEFAULT_ORDER_BATCH_SIZE;
+    private long mOrderBatchLinger = DEFAULT_ORDER_BATCH_LINGER;
+    private int mOrderBatchCapacity = DEFAULT_ORDER_BATCH_CAPACITY;
 
     public static final int DEFAULT_HEARTBEAT_INTERVAL = 5000;
+    public static final int DEFAULT_ORDER_BATCH_SIZE = 100;
+    public static final long DEFAULT_ORDER_BATCH_LINGER = 1;
+    public static final int DEFAULT_ORDER_BATCH_CAPACITY = 10000;
 }
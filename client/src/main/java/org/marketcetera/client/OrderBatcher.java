@@ -0,0 +1,355 @@
+package org.marketcetera.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.trade.Order;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+/* $License$ */
+
+/**
+ * Groups orders submitted for asynchronous delivery into batches and hands each batch to a {@link BatchSender}.
+ *
+ * <p>A single thread drains submitted orders in the order they were submitted and sends one batch at a time,
+ * so orders submitted to one batcher reach the sender in submission order. A batch is sent when it holds the
+ * configured number of orders or when the configured linger time has passed since its first order was taken,
+ * whichever comes first. A linger of 0 sends whatever is queued as soon as the thread wakes up.
+ *
+ * <p>At most the configured capacity of orders wait to be sent. Once that many are waiting, submitting
+ * another blocks until the sender has caught up, so a submitter faster than the server cannot exhaust
+ * the heap.
+ *
+ * <p>The future returned for each order completes with the order once the batch containing it has been sent,
+ * or fails with the {@link ConnectionException} that prevented it from being sent.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+class OrderBatcher
+{
+    /**
+     * Sends a batch of orders.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    interface BatchSender
+    {
+        /**
+         * Sends the given orders, all or none. The list is reused once the call returns.
+         *
+         * @param inOrders a <code>List&lt;Order&gt;</code> value
+         * @throws ConnectionException if the orders could not be sent
+         */
+        void send(List<Order> inOrders)
+                throws ConnectionException;
+    }
+    /**
+     * Create a new OrderBatcher instance.
+     *
+     * @param inSender a <code>BatchSender</code> value
+     * @param inBatchSize an <code>int</code> value indicating the most orders sent in one batch
+     * @param inLingerMillis a <code>long</code> value indicating how long to wait for a batch to fill
+     * @param inCapacity an <code>int</code> value indicating the most orders waiting to be sent
+     * @param inThreadName a <code>String</code> value
+     * @throws IllegalArgumentException if the batch size or capacity is less than 1 or the linger is negative
+     */
+    OrderBatcher(BatchSender inSender,
+                 int inBatchSize,
+                 long inLingerMillis,
+                 int inCapacity,
+                 String inThreadName)
+    {
+        Validate.notNull(inSender);
+        Validate.isTrue(inBatchSize >= 1);
+        Validate.isTrue(inLingerMillis >= 0);
+        Validate.isTrue(inCapacity >= 1);
+        sender = inSender;
+        batchSize = inBatchSize;
+        lingerNanos = TimeUnit.MILLISECONDS.toNanos(inLingerMillis);
+        queue = new LinkedBlockingQueue<Entry>(inCapacity);
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                drain();
+            }
+        },inThreadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+    /**
+     * Submits the given order to be sent, blocking while the batcher holds as many orders as it can.
+     *
+     * <p>If the calling thread is interrupted while blocked, the returned future fails and the interrupt
+     * status of the thread is restored.
+     *
+     * @param inOrder an <code>Order</code> value
+     * @return a <code>ListenableFuture&lt;Order&gt;</code> value
+     */
+    ListenableFuture<Order> submit(Order inOrder)
+    {
+        Entry entry = new Entry(inOrder);
+        // submitters queue one at a time so the last submitted order is the last in the queue
+        synchronized(submitLock) {
+            ConnectionException cause = getStopCause();
+            if(cause != null) {
+                entry.future.setException(cause);
+                return entry.future;
+            }
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.future.setException(new ConnectionException(e,
+                                                                  Messages.NOT_CONNECTED_TO_SERVER));
+                return entry.future;
+            }
+            lastSubmitted = entry;
+        }
+        // the batcher may have been stopped while this order was being queued, after the queue was drained
+        synchronized(lock) {
+            if(stopCause != null && queue.remove(entry)) {
+                entry.future.setException(stopCause);
+            }
+        }
+        return entry.future;
+    }
+    /**
+     * Waits until the orders submitted so far have been sent or have failed to be sent.
+     *
+     * <p>Returns early, with the interrupt status of the thread set, if the calling thread is interrupted.
+     * Returns immediately when called from a listener of one of the futures, which runs on the batcher thread,
+     * since the orders being waited for could not be sent until it returned.
+     */
+    void awaitSubmitted()
+    {
+        Entry last = lastSubmitted;
+        if(last == null || Thread.currentThread() == thread) {
+            return;
+        }
+        // batches are sent one at a time in queue order, so once the last order completes all earlier ones have
+        try {
+            last.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // a failure to send earlier orders is reported through their own futures
+        }
+    }
+    /**
+     * Stops the batcher. Orders that have not been handed to the sender fail with the given exception, as do
+     * orders submitted later.
+     *
+     * @param inCause a <code>ConnectionException</code> value
+     */
+    void stop(ConnectionException inCause)
+    {
+        Validate.notNull(inCause);
+        List<Entry> unsent = new ArrayList<Entry>();
+        synchronized(lock) {
+            if(stopCause != null) {
+                return;
+            }
+            stopCause = inCause;
+            queue.drainTo(unsent);
+        }
+        thread.interrupt();
+        for(Entry entry : unsent) {
+            entry.future.setException(inCause);
+        }
+    }
+    /**
+     * Gets the number of orders waiting to be sent.
+     *
+     * @return an <code>int</code> value
+     */
+    int getQueuedCount()
+    {
+        return queue.size();
+    }
+    /**
+     * Indicates if the batcher has been stopped.
+     *
+     * @return a <code>boolean</code> value
+     */
+    private boolean isStopped()
+    {
+        return getStopCause() != null;
+    }
+    /**
+     * Gets the reason the batcher was stopped.
+     *
+     * @return a <code>ConnectionException</code> value or <code>null</code> if the batcher is running
+     */
+    private ConnectionException getStopCause()
+    {
+        synchronized(lock) {
+            return stopCause;
+        }
+    }
+    /**
+     * Takes batches from the queue and sends them until stopped.
+     */
+    private void drain()
+    {
+        List<Entry> batch = new ArrayList<Entry>(batchSize);
+        List<Order> orders = new ArrayList<Order>(batchSize);
+        try {
+            while(!isStopped()) {
+                batch.add(queue.take());
+                if(lingerNanos == 0) {
+                    queue.drainTo(batch,
+                                  batchSize - 1);
+                } else {
+                    long deadline = System.nanoTime() + lingerNanos;
+                    while(batch.size() < batchSize) {
+                        queue.drainTo(batch,
+                                      batchSize - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if(batch.size() == batchSize || remaining <= 0) {
+                            break;
+                        }
+                        Entry next = queue.poll(remaining,
+                                                TimeUnit.NANOSECONDS);
+                        if(next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+                for(Entry entry : batch) {
+                    orders.add(entry.order);
+                }
+                send(batch,
+                     orders);
+                batch.clear();
+                orders.clear();
+            }
+        } catch (InterruptedException e) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Order batcher stopped"); //$NON-NLS-1$
+        } finally {
+            ConnectionException cause;
+            synchronized(lock) {
+                cause = stopCause == null ? new ConnectionException(Messages.NOT_CONNECTED_TO_SERVER) : stopCause;
+            }
+            // orders taken from the queue but not yet sent when the batcher stopped
+            for(Entry entry : batch) {
+                entry.future.setException(cause);
+            }
+        }
+    }
+    /**
+     * Sends the given batch and completes its futures.
+     *
+     * @param inBatch a <code>List&lt;Entry&gt;</code> value
+     * @param inOrders a <code>List&lt;Order&gt;</code> value containing the orders of the batch
+     */
+    private void send(List<Entry> inBatch,
+                      List<Order> inOrders)
+    {
+        SLF4JLoggerProxy.debug(this,
+                               "Sending a batch of {} orders", //$NON-NLS-1$
+                               inOrders.size());
+        try {
+            sender.send(inOrders);
+        } catch (ConnectionException e) {
+            for(Entry entry : inBatch) {
+                entry.future.setException(e);
+            }
+            return;
+        } catch (RuntimeException e) {
+            ConnectionException exception = new ConnectionException(e,
+                                                                    Messages.NOT_CONNECTED_TO_SERVER);
+            for(Entry entry : inBatch) {
+                entry.future.setException(exception);
+            }
+            return;
+        }
+        for(Entry entry : inBatch) {
+            entry.future.set(entry.order);
+        }
+    }
+    /**
+     * An order waiting to be sent with its completion handle.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Entry
+    {
+        /**
+         * Create a new Entry instance.
+         *
+         * @param inOrder an <code>Order</code> value
+         */
+        private Entry(Order inOrder)
+        {
+            order = inOrder;
+        }
+        /**
+         * order to send
+         */
+        private final Order order;
+        /**
+         * completes when the order is sent
+         */
+        private final SettableFuture<Order> future = SettableFuture.create();
+    }
+    /**
+     * sends batches
+     */
+    private final BatchSender sender;
+    /**
+     * most orders sent in one batch
+     */
+    private final int batchSize;
+    /**
+     * how long to wait for a batch to fill in nanoseconds
+     */
+    private final long lingerNanos;
+    /**
+     * orders waiting to be sent in submission order
+     */
+    private final BlockingQueue<Entry> queue;
+    /**
+     * drains the queue
+     */
+    private final Thread thread;
+    /**
+     * guards the transition to stopped
+     */
+    private final Object lock = new Object();
+    /**
+     * serializes submitters so that {@link #lastSubmitted} is the tail of the queue
+     */
+    private final Object submitLock = new Object();
+    /**
+     * most recently queued order, <code>null</code> if none has been queued
+     */
+    private volatile Entry lastSubmitted;
+    /**
+     * reason the batcher was stopped, <code>null</code> while running
+     */
+    @GuardedBy("lock")
+    private ConnectionException stopCause;
+}
@@ -1,16 +1,11 @@
 package org.marketcetera.client.jms;
 
-import java.io.StringReader;
-import java.io.StringWriter;
-
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.lang.ObjectUtils;
 import org.marketcetera.client.brokers.BrokerStatus;
@@ -41,6 +36,7 @@ import org.marketcetera.event.impl.OptionImbalanceEvent;
 import org.marketcetera.event.impl.OptionMarketstatEventImpl;
 import org.marketcetera.event.impl.OptionTradeEventImpl;
 import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.module.DataFlowID;
 import org.marketcetera.module.RequestID;
 import org.marketcetera.trade.FIXResponseImpl;
@@ -48,6 +44,7 @@ import org.marketcetera.trade.ReportBaseImpl;
 import org.marketcetera.util.log.I18NBoundMessage1P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.springframework.jms.support.converter.MessageConversionException;
 import org.springframework.jms.support.converter.MessageConverter;
 
@@ -78,7 +75,9 @@ public class JMSXMLMessageConverter
     public JMSXMLMessageConverter()
             throws JAXBException
     {
-        mContext = JAXBContext.newInstance(contextTypes);
+        mPool = new MarshallerPool(JAXBContext.newInstance(contextTypes));
+        MarshallerPoolMetrics.register(JMSXMLMessageConverter.class.getSimpleName(),
+                                       mPool);
     }
     /**
      * Converts a JMS Message to a messaging object.
@@ -167,11 +166,7 @@ public class JMSXMLMessageConverter
      * to XML.
      */
     String toXML(Object inObject) throws JAXBException {
-        Marshaller marshaller = getMarshaller();
-        StringWriter writer = new StringWriter();
-        marshaller.marshal(inObject, writer);
-        //no need to close or flush the writer as they do nothing.
-        return writer.toString();
+        return mPool.marshal(inObject);
     }
 
     /**
@@ -185,9 +180,7 @@ public class JMSXMLMessageConverter
      * object from XML.
      */
     Object fromXML(String inXML) throws JAXBException {
-        Unmarshaller unMarshaller = getUnMarshaller();
-        StringReader reader = new StringReader(inXML);
-        return unMarshaller.unmarshal(reader);
+        return mPool.unmarshal(inXML);
     }
 
     /**
@@ -196,40 +189,7 @@ public class JMSXMLMessageConverter
      * @return the underlying JAXB context.
      */
     JAXBContext getContext() {
-        return mContext;
-    }
-
-    /**
-     * Gets cached copy of the marshaller to use for marshalling objects to XML.
-     *
-     * @return the marshaller to use for marshalling objects to XML.
-     *
-     * @throws JAXBException if there were errors getting the marshaller.
-     */
-    private Marshaller getMarshaller() throws JAXBException {
-        Marshaller m = mMarshallers.get();
-        if(m == null) {
-            m = mContext.createMarshaller();
-            mMarshallers.set(m);
-        }
-        return m;
-    }
-
-    /**
-     * Gets the cached copy of the unmarshaller to use for unmarshalling objects
-     * from XML.
-     *
-     * @return the unmarshaller to use for unmarshalling objects from XML.
-     *
-     * @throws JAXBException if there were errors getting the unmarshaller.
-     */
-    private Unmarshaller getUnMarshaller() throws JAXBException {
-        Unmarshaller u = mUnmarshallers.get();
-        if(u == null) {
-            u = mContext.createUnmarshaller();
-            mUnmarshallers.set(u);
-        }
-        return u;
+        return mPool.getContext();
     }
     /**
      * Indicate if the given object is of a supported type.
@@ -256,11 +216,10 @@ public class JMSXMLMessageConverter
             }
             return false;
         }});
-    private final ThreadLocal<Marshaller> mMarshallers =
-            new ThreadLocal<Marshaller>();
-    private final ThreadLocal<Unmarshaller> mUnmarshallers =
-            new ThreadLocal<Unmarshaller>();
-    private final JAXBContext mContext;
+    /**
+     * marshals and unmarshals messages, shared by all threads using this converter
+     */
+    private final MarshallerPool mPool;
     private static final String JMS_TYPE_PROPERTY = "metc_type";  //$NON-NLS-1$
     /**
      * holds supported context types
@@ -5,8 +5,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,10 +18,7 @@ import java.util.Set;
 
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.lang.Validate;
 import org.marketcetera.algo.BrokerAlgoSpec;
@@ -54,6 +49,7 @@ import org.marketcetera.client.users.UserInfo;
 import org.marketcetera.core.Util;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.Currency;
 import org.marketcetera.trade.Equity;
@@ -70,6 +66,7 @@ import org.marketcetera.trade.UserID;
 import org.marketcetera.util.except.I18NException;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.tags.NodeId;
 import org.marketcetera.util.ws.tags.SessionId;
 import org.marketcetera.util.ws.wrappers.RemoteException;
@@ -257,10 +254,7 @@ public class RpcClientImpl
                                                                                    RpcClient.ResolveSymbolRequest.newBuilder().setSessionId(sessionId.getValue()).setSymbol(inSymbol).build());
             Instrument instrument = null;
             if(response.hasInstrument()) {
-                synchronized(contextLock) {
-                    Unmarshaller unmarshaller = getUnmarshaller();
-                    instrument = (Instrument)unmarshaller.unmarshal(new StringReader(response.getInstrument().getPayload()));
-                }
+                instrument = getMarshallerPool().unmarshal(response.getInstrument().getPayload());
                 SLF4JLoggerProxy.debug(this,
                                        "Resolved {} to {}",
                                        inSymbol,
@@ -296,17 +290,12 @@ public class RpcClientImpl
                           Hierarchy inHierarchy)
             throws ConnectionException
     {
-        StringWriter output = new StringWriter();
         try {
-            synchronized(contextLock) {
-                Marshaller marshaller = getMarshaller();
-                marshaller.marshal(inReport,
-                                   output);
-            }
+            String output = getMarshallerPool().marshal(inReport);
             RpcClient.AddReportRequest request = RpcClient.AddReportRequest.newBuilder()
                     .setSessionId(sessionId.getValue())
                     .setBrokerId(inBrokerID.getValue())
-                    .setMessage(output.toString())
+                    .setMessage(output)
                     .setHierarchy(RpcClient.Hierarchy.valueOf(inHierarchy.name())).build();
             SLF4JLoggerProxy.debug(this,
                                    "AddReport request: {}",
@@ -331,14 +320,9 @@ public class RpcClientImpl
     public void deleteReport(ExecutionReportImpl inReport)
             throws ConnectionException
     {
-        StringWriter output = new StringWriter();
         try {
-            synchronized(contextLock) {
-                Marshaller marshaller = getMarshaller();
-                marshaller.marshal(inReport,
-                                         output);
-            }
-            RpcClient.DeleteReportRequest request = RpcClient.DeleteReportRequest.newBuilder().setSessionId(sessionId.getValue()).setMessage(output.toString()).build();
+            String output = getMarshallerPool().marshal(inReport);
+            RpcClient.DeleteReportRequest request = RpcClient.DeleteReportRequest.newBuilder().setSessionId(sessionId.getValue()).setMessage(output).build();
             SLF4JLoggerProxy.debug(this,
                                    "DeleteReport request: {}",
                                    request);
@@ -437,10 +421,9 @@ public class RpcClientImpl
             ReportsSinceResponse response = clientService.getReportsSince(controller,
                                                                           request);
             List<ReportBase> reports = Lists.newArrayList();
+            MarshallerPool marshallerPool = getMarshallerPool();
             for(String report : response.getReports().getReportsList()) {
-                synchronized(contextLock) {
-                    reports.add((ReportBase)getUnmarshaller().unmarshal(new StringReader(report)));
-                }
+                reports.add(marshallerPool.<ReportBase>unmarshal(report));
             }
             SLF4JLoggerProxy.debug(this,
                                    "Retrieved reports: {}",
@@ -465,10 +448,9 @@ public class RpcClientImpl
             OpenOrdersResponse response = clientService.getOpenOrders(controller,
                                                                       request);
             List<ReportBaseImpl> reports = Lists.newArrayList();
+            MarshallerPool marshallerPool = getMarshallerPool();
             for(String report : response.getReports().getReportsList()) {
-                synchronized(contextLock) {
-                    reports.add((ReportBaseImpl)getUnmarshaller().unmarshal(new StringReader(report)));
-                }
+                reports.add(marshallerPool.<ReportBaseImpl>unmarshal(report));
             }
             SLF4JLoggerProxy.debug(this,
                                    "Retrieved open orders: {}",
@@ -838,18 +820,15 @@ public class RpcClientImpl
                     request = RpcClient.PositionRequest.newBuilder().setSessionId(sessionId.getValue()).setInstrumentType(inInstrumentType).setOrigin(inDate.getTime()).build(); 
                 }
             } else {
-                StringWriter output = new StringWriter();
+                String output;
                 try {
-                    synchronized(contextLock) {
-                        getMarshaller().marshal(inInstrument,
-                                                output);
-                    }
+                    output = getMarshallerPool().marshal(inInstrument);
                 } catch (JAXBException e) {
                     throw new ServiceException(e);
                 }
                 request = RpcClient.PositionRequest.newBuilder()
                         .setSessionId(sessionId.getValue())
-                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(output.toString()))
+                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(output))
                         .setOrigin(inDate.getTime()).build(); 
             }
             RpcClient.PositionResponse response = clientService.getPositions(controller,
@@ -861,10 +840,7 @@ public class RpcClientImpl
                 RpcClient.Instrument rpcInstrument = rpcKey.getInstrument();
                 String rpcAccount = rpcKey.getAccount();
                 String rpcTraderId = rpcKey.getTraderId();
-                Instrument instrument;
-                synchronized(contextLock) {
-                    instrument = (Instrument)getUnmarshaller().unmarshal(new StringReader(rpcInstrument.getPayload()));
-                }
+                Instrument instrument = getMarshallerPool().unmarshal(rpcInstrument.getPayload());
                 PositionKey<? extends Instrument> positionKey = null;
                 if(instrument instanceof Equity) {
                     positionKey = PositionKeyFactory.createEquityKey(instrument.getSymbol(),
@@ -920,49 +896,21 @@ public class RpcClientImpl
         return new Class<?>[0];
     }
     /**
-     * Gets the context marshaller.
-     *
-     * @return a <code>Marshaller</code> value
-     * @throws JAXBException if an error occurs creating the marshaller 
-     */
-    private Marshaller getMarshaller()
-            throws JAXBException
-    {
-        synchronized(contextLock) {
-            if(context == null) {
-                initContext();
-            }
-            return marshaller;
-        }
-    }
-    /**
-     * Gets the context unmarshaller.
+     * Gets the pool used to marshal and unmarshal messages, creating it if necessary.
      *
-     * @return an <code>Unmarshaller</code> value
-     * @throws JAXBException if an error occurs creating the unmarshaller 
+     * @return a <code>MarshallerPool</code> value
+     * @throws JAXBException if an error occurs creating the context
      */
-    private Unmarshaller getUnmarshaller()
+    private MarshallerPool getMarshallerPool()
             throws JAXBException
     {
         synchronized(contextLock) {
-            if(context == null) {
-                initContext();
+            if(marshallerPool == null) {
+                marshallerPool = new MarshallerPool(getContextClasses());
+                MarshallerPoolMetrics.register(RpcClientImpl.class.getSimpleName(),
+                                               marshallerPool);
             }
-            return unmarshaller;
-        }
-    }
-    /**
-     * Initializes the marshalling/unmarshalling context.
-     *
-     * @throws JAXBException if an error occurs creating the unmarshaller 
-     */
-    private void initContext()
-            throws JAXBException
-    {
-        synchronized(contextLock) {
-            context = JAXBContext.newInstance(getContextClasses());
-            marshaller = context.createMarshaller();
-            unmarshaller = context.createUnmarshaller();
+            return marshallerPool;
         }
     }
     /**
@@ -990,18 +938,8 @@ public class RpcClientImpl
      */
     private final Object contextLock = new Object();
     /**
-     * context used to serialize and unserialize messages as necessary
-     */
-    @GuardedBy("contextLock")
-    private JAXBContext context;
-    /**
-     * marshals messages
-     */
-    @GuardedBy("contextLock")
-    private Marshaller marshaller;
-    /**
-     * unmarshals messages
+     * marshals and unmarshals messages as necessary
      */
     @GuardedBy("contextLock")
-    private Unmarshaller unmarshaller;
+    private MarshallerPool marshallerPool;
 }
@@ -14,6 +14,8 @@ import org.marketcetera.trade.Currency;
 import org.marketcetera.util.ws.tags.SessionId;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /* $License$ */
 
@@ -110,6 +112,57 @@ public class MockClient
     {
         throw new UnsupportedOperationException(); // TODO
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderSingle inOrderSingle)
+            throws OrderValidationException
+    {
+        try {
+            sendOrder(inOrderSingle);
+        } catch (ConnectionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        return Futures.<Order>immediateFuture(inOrderSingle);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderReplace)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderReplace inOrderReplace)
+            throws OrderValidationException
+    {
+        try {
+            sendOrder(inOrderReplace);
+        } catch (ConnectionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        return Futures.<Order>immediateFuture(inOrderReplace);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderCancel)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderAsync(OrderCancel inOrderCancel)
+            throws OrderValidationException
+    {
+        try {
+            sendOrder(inOrderCancel);
+        } catch (ConnectionException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+        return Futures.<Order>immediateFuture(inOrderCancel);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.Client#sendOrderRawAsync(org.marketcetera.trade.FIXOrder)
+     */
+    @Override
+    public ListenableFuture<Order> sendOrderRawAsync(FIXOrder inFIXOrder)
+            throws OrderValidationException
+    {
+        throw new UnsupportedOperationException(); // TODO
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.client.Client#getReportsSince(java.util.Date)
      */
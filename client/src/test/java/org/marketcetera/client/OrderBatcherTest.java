@@ -0,0 +1,370 @@
+package org.marketcetera.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Order;
+import org.marketcetera.trade.OrderSingle;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/* $License$ */
+
+/**
+ * Tests {@link OrderBatcher}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class OrderBatcherTest
+{
+    /**
+     * Cleans up after each test.
+     */
+    @After
+    public void cleanup()
+    {
+        if(batcher != null) {
+            batcher.stop(new ConnectionException(Messages.NOT_CONNECTED_TO_SERVER));
+        }
+    }
+    /**
+     * Tests constructor validation.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConstructor()
+            throws Exception
+    {
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new OrderBatcher(null,
+                                 1,
+                                 0,
+                                 100,
+                                 "test"); //$NON-NLS-1$
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new OrderBatcher(sender,
+                                 0,
+                                 0,
+                                 100,
+                                 "test"); //$NON-NLS-1$
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new OrderBatcher(sender,
+                                 1,
+                                 -1,
+                                 100,
+                                 "test"); //$NON-NLS-1$
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new OrderBatcher(sender,
+                                 1,
+                                 0,
+                                 0,
+                                 "test"); //$NON-NLS-1$
+            }
+        };
+    }
+    /**
+     * Tests that orders are sent in submission order in batches no larger than the batch size.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOrderingAndBatchSize()
+            throws Exception
+    {
+        sender.block = new CountDownLatch(1);
+        batcher = new OrderBatcher(sender,
+                                   10,
+                                   0,
+                                   100,
+                                   "test"); //$NON-NLS-1$
+        List<Order> submitted = new ArrayList<Order>();
+        List<ListenableFuture<Order>> futures = new ArrayList<ListenableFuture<Order>>();
+        for(int i=0;i<35;i++) {
+            OrderSingle order = Factory.getInstance().createOrderSingle();
+            submitted.add(order);
+            futures.add(batcher.submit(order));
+        }
+        // the first batch is held by the sender while the remaining orders queue up
+        sender.block.countDown();
+        for(int i=0;i<futures.size();i++) {
+            assertSame(submitted.get(i),
+                       futures.get(i).get(10,
+                                          TimeUnit.SECONDS));
+        }
+        assertEquals(submitted,
+                     sender.sent);
+        for(int size : sender.batchSizes) {
+            assertTrue(size <= 10);
+        }
+        assertTrue(sender.batchSizes.size() < submitted.size());
+        assertEquals(0,
+                     batcher.getQueuedCount());
+    }
+    /**
+     * Tests that orders wait for the linger time to join a batch.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testLinger()
+            throws Exception
+    {
+        batcher = new OrderBatcher(sender,
+                                   100,
+                                   500,
+                                   100,
+                                   "test"); //$NON-NLS-1$
+        ListenableFuture<Order> first = batcher.submit(Factory.getInstance().createOrderSingle());
+        ListenableFuture<Order> second = batcher.submit(Factory.getInstance().createOrderSingle());
+        first.get(10,
+                  TimeUnit.SECONDS);
+        second.get(10,
+                   TimeUnit.SECONDS);
+        assertEquals(1,
+                     sender.batchSizes.size());
+        assertEquals(2,
+                     (int)sender.batchSizes.get(0));
+    }
+    /**
+     * Tests that a failed batch fails the futures of its orders only.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSendFailure()
+            throws Exception
+    {
+        batcher = new OrderBatcher(sender,
+                                   1,
+                                   0,
+                                   100,
+                                   "test"); //$NON-NLS-1$
+        ConnectionException failure = new ConnectionException(Messages.NOT_CONNECTED_TO_SERVER);
+        sender.failure = failure;
+        ListenableFuture<Order> failed = batcher.submit(Factory.getInstance().createOrderSingle());
+        try {
+            failed.get(10,
+                       TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(failure,
+                       e.getCause());
+        }
+        sender.failure = null;
+        OrderSingle order = Factory.getInstance().createOrderSingle();
+        assertSame(order,
+                   batcher.submit(order).get(10,
+                                             TimeUnit.SECONDS));
+    }
+    /**
+     * Tests that stopping fails unsent and later orders.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStop()
+            throws Exception
+    {
+        sender.block = new CountDownLatch(1);
+        batcher = new OrderBatcher(sender,
+                                   1,
+                                   0,
+                                   100,
+                                   "test"); //$NON-NLS-1$
+        batcher.submit(Factory.getInstance().createOrderSingle());
+        ListenableFuture<Order> queued = batcher.submit(Factory.getInstance().createOrderSingle());
+        ConnectionException cause = new ConnectionException(Messages.CLIENT_CLOSED);
+        batcher.stop(cause);
+        sender.block.countDown();
+        assertFailedWith(cause,
+                         queued);
+        assertFailedWith(cause,
+                         batcher.submit(Factory.getInstance().createOrderSingle()));
+    }
+    /**
+     * Tests that submitting blocks while the batcher is full.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBackpressure()
+            throws Exception
+    {
+        sender.block = new CountDownLatch(1);
+        batcher = new OrderBatcher(sender,
+                                   1,
+                                   0,
+                                   2,
+                                   "test"); //$NON-NLS-1$
+        // the first order is held by the sender, the next two fill the queue
+        batcher.submit(Factory.getInstance().createOrderSingle());
+        long deadline = System.currentTimeMillis() + 10000;
+        while(batcher.getQueuedCount() != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        batcher.submit(Factory.getInstance().createOrderSingle());
+        batcher.submit(Factory.getInstance().createOrderSingle());
+        final CountDownLatch submitted = new CountDownLatch(1);
+        Thread submitter = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                batcher.submit(Factory.getInstance().createOrderSingle());
+                submitted.countDown();
+            }
+        });
+        submitter.start();
+        assertFalse(submitted.await(200,
+                                    TimeUnit.MILLISECONDS));
+        assertEquals(2,
+                     batcher.getQueuedCount());
+        sender.block.countDown();
+        assertTrue(submitted.await(10,
+                                   TimeUnit.SECONDS));
+        batcher.awaitSubmitted();
+        assertEquals(4,
+                     sender.sent.size());
+    }
+    /**
+     * Tests waiting for submitted orders to be sent.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testAwaitSubmitted()
+            throws Exception
+    {
+        batcher = new OrderBatcher(sender,
+                                   100,
+                                   0,
+                                   100,
+                                   "test"); //$NON-NLS-1$
+        // nothing submitted yet
+        batcher.awaitSubmitted();
+        sender.block = new CountDownLatch(1);
+        List<ListenableFuture<Order>> futures = new ArrayList<ListenableFuture<Order>>();
+        for(int i=0;i<5;i++) {
+            futures.add(batcher.submit(Factory.getInstance().createOrderSingle()));
+        }
+        sender.block.countDown();
+        batcher.awaitSubmitted();
+        for(ListenableFuture<Order> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertEquals(5,
+                     sender.sent.size());
+    }
+    /**
+     * Verifies that the given future failed with the given exception.
+     *
+     * @param inExpected a <code>ConnectionException</code> value
+     * @param inFuture a <code>ListenableFuture&lt;Order&gt;</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void assertFailedWith(ConnectionException inExpected,
+                                         ListenableFuture<Order> inFuture)
+            throws Exception
+    {
+        try {
+            inFuture.get(10,
+                         TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(inExpected,
+                       e.getCause());
+        }
+    }
+    /**
+     * Records the batches it is given.
+     */
+    private static class RecordingSender
+            implements OrderBatcher.BatchSender
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.OrderBatcher.BatchSender#send(java.util.List)
+         */
+        @Override
+        public void send(List<Order> inOrders)
+                throws ConnectionException
+        {
+            CountDownLatch latch = block;
+            if(latch != null) {
+                try {
+                    latch.await(10,
+                                TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if(failure != null) {
+                throw failure;
+            }
+            synchronized(sent) {
+                sent.addAll(inOrders);
+                batchSizes.add(inOrders.size());
+            }
+        }
+        /**
+         * holds each batch until counted down, if non-null
+         */
+        private volatile CountDownLatch block;
+        /**
+         * failure to throw, if non-null
+         */
+        private volatile ConnectionException failure;
+        /**
+         * orders sent
+         */
+        private final List<Order> sent = new ArrayList<Order>();
+        /**
+         * sizes of the batches sent
+         */
+        private final List<Integer> batchSizes = new ArrayList<Integer>();
+    }
+    /**
+     * test sender
+     */
+    private final RecordingSender sender = new RecordingSender();
+    /**
+     * test batcher
+     */
+    private OrderBatcher batcher;
+}
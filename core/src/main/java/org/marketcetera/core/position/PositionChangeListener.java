@@ -0,0 +1,33 @@
+package org.marketcetera.core.position;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Receives changes to positions from a position engine that has no list-based view.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public interface PositionChangeListener {
+
+    /**
+     * Called when the metrics of a position change.
+     * <p>
+     * Changes to the same instrument are delivered in order on the thread that caused them. The
+     * engine is blocked for that instrument until this method returns, so implementations should
+     * return quickly.
+     *
+     * @param key
+     *            the position that changed
+     * @param oldMetrics
+     *            the metrics before the change, null if the position is new
+     * @param newMetrics
+     *            the metrics after the change
+     */
+    void positionChanged(PositionKey<?> key, PositionMetrics oldMetrics,
+            PositionMetrics newMetrics);
+}
@@ -0,0 +1,255 @@
+package org.marketcetera.core.position.impl;
+
+import java.math.BigDecimal;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.core.position.PositionMetrics;
+import org.marketcetera.core.position.Trade;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.math.LongMath;
+
+/* $License$ */
+
+/**
+ * A {@link PositionMetricsCalculator} that keeps its state in fixed-point <code>long</code> values.
+ * <p>
+ * Quantities are held with a fixed number of decimal places and prices with another, so costs and
+ * P&L are exact with the sum of the two. <code>BigDecimal</code> values are only created when
+ * metrics are returned. The results compare equal to those of {@link PositionMetricsCalculatorImpl}
+ * but carry the fixed scales.
+ * <p>
+ * A quantity or price with more decimal places than its scale, or a result that does not fit in a
+ * <code>long</code>, causes an <code>ArithmeticException</code>. The state of the calculator is
+ * undefined afterwards, callers should recalculate the position with
+ * {@link PositionMetricsCalculatorImpl}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@NotThreadSafe
+@ClassVersion("$Id$")
+public final class FixedPointPositionMetricsCalculator implements PositionMetricsCalculator {
+
+    private final int mQuantityScale;
+    private final int mPriceScale;
+    private final int mCostScale;
+    private final BigDecimal mIncomingPosition;
+    private final long mIncomingQuantity;
+    private final boolean mClosingPriceAvailable;
+    private final long mPositionCost;
+    private long mPosition;
+    private long mTradingCost;
+    private long mUnrealizedQuantity;
+    private long mUnrealizedCost;
+    private long mRealizedPL;
+    private boolean mLastTradePriceAvailable;
+    private long mLastTradePrice;
+    /*
+     * Open lots, oldest first, in a circular buffer.
+     */
+    private long[] mLotQuantities = new long[4];
+    private long[] mLotPrices = new long[4];
+    private int mLotHead;
+    private int mLotCount;
+
+    /**
+     * Constructor.
+     *
+     * @param incomingPosition
+     *            the incoming position that will be used to calculate position PL
+     * @param closingPrice
+     *            the closing price that will be used to calculate position PL
+     * @param quantityScale
+     *            the number of decimal places kept for quantities
+     * @param priceScale
+     *            the number of decimal places kept for prices
+     * @throws IllegalArgumentException
+     *             if incomingPosition is null or a scale is negative
+     * @throws ArithmeticException
+     *             if the incoming position or closing price cannot be represented
+     */
+    public FixedPointPositionMetricsCalculator(BigDecimal incomingPosition,
+            BigDecimal closingPrice, int quantityScale, int priceScale) {
+        Validate.notNull(incomingPosition);
+        Validate.isTrue(quantityScale >= 0 && priceScale >= 0);
+        mQuantityScale = quantityScale;
+        mPriceScale = priceScale;
+        mCostScale = quantityScale + priceScale;
+        mIncomingPosition = incomingPosition;
+        mIncomingQuantity = toFixedPoint(incomingPosition, quantityScale);
+        mPosition = mIncomingQuantity;
+        mClosingPriceAvailable = closingPrice != null;
+        if (mClosingPriceAvailable) {
+            long price = toFixedPoint(closingPrice, priceScale);
+            mPositionCost = LongMath.checkedMultiply(mIncomingQuantity, price);
+            if (mIncomingQuantity != 0) {
+                openLot(mIncomingQuantity, price);
+            }
+        } else {
+            mPositionCost = 0;
+        }
+    }
+
+    @Override
+    public PositionMetrics tick(BigDecimal tradePrice) {
+        mLastTradePriceAvailable = tradePrice != null;
+        if (mLastTradePriceAvailable) {
+            mLastTradePrice = toFixedPoint(tradePrice, mPriceScale);
+        }
+        return createPositionMetrics();
+    }
+
+    @Override
+    public PositionMetrics trade(Trade<?> trade) {
+        processTrade(toFixedPoint(trade.getQuantity(), mQuantityScale),
+                toFixedPoint(trade.getPrice(), mPriceScale));
+        return createPositionMetrics();
+    }
+
+    /**
+     * Converts a value to a fixed-point value with the given scale.
+     *
+     * @param value
+     *            the value to convert
+     * @param scale
+     *            the number of decimal places to keep
+     * @return the unscaled value
+     * @throws ArithmeticException
+     *             if the value has more decimal places than the scale or does not fit in a long
+     */
+    static long toFixedPoint(BigDecimal value, int scale) {
+        return value.movePointRight(scale).longValueExact();
+    }
+
+    /**
+     * Processes a trade, closing existing lots first in first out and opening a new one for the
+     * remainder. See {@link PositionMetricsCalculatorImpl}.
+     *
+     * @param quantity
+     *            the quantity of the trade, positive for a buy and negative for a sell
+     * @param price
+     *            the price of the trade
+     */
+    private void processTrade(long quantity, long price) {
+        mPosition = LongMath.checkedAdd(mPosition, quantity);
+        // only bother with PNL if the closing price is available
+        if (!mClosingPriceAvailable) {
+            return;
+        }
+        mTradingCost = LongMath.checkedAdd(mTradingCost, LongMath.checkedMultiply(quantity, price));
+        int holdingSide = Long.signum(mUnrealizedQuantity);
+        long remaining = quantity;
+        if (Long.signum(quantity) * holdingSide == -1) {
+            while (mLotCount > 0) {
+                long lotQuantity = mLotQuantities[mLotHead];
+                long lotPrice = mLotPrices[mLotHead];
+                long leftover = LongMath.checkedAdd(lotQuantity, remaining);
+                int leftoverSide = Long.signum(leftover);
+                if (leftoverSide == holdingSide) {
+                    // the trade only partially closed this lot
+                    processClose(remaining, lotPrice, price);
+                    mLotQuantities[mLotHead] = leftover;
+                    return;
+                }
+                // the trade completely closed this lot
+                processClose(LongMath.checkedSubtract(0, lotQuantity), lotPrice, price);
+                mLotHead = (mLotHead + 1) % mLotQuantities.length;
+                mLotCount -= 1;
+                remaining = leftover;
+                if (leftoverSide == 0) {
+                    return;
+                }
+            }
+        }
+        if (remaining != 0) {
+            openLot(remaining, price);
+        }
+    }
+
+    /**
+     * Processes a lot close, updating realized P&L and the unrealized cost.
+     *
+     * @param quantity
+     *            the quantity being closed, negative when closing a long lot and positive when
+     *            closing a short lot
+     * @param openPrice
+     *            the price at which the lot was opened
+     * @param closePrice
+     *            the price at which the lot is closing
+     */
+    private void processClose(long quantity, long openPrice, long closePrice) {
+        mRealizedPL = LongMath.checkedAdd(mRealizedPL, LongMath.checkedMultiply(quantity,
+                LongMath.checkedSubtract(openPrice, closePrice)));
+        mUnrealizedQuantity = LongMath.checkedAdd(mUnrealizedQuantity, quantity);
+        mUnrealizedCost = LongMath.checkedAdd(mUnrealizedCost, LongMath.checkedMultiply(quantity,
+                openPrice));
+    }
+
+    /**
+     * Opens a new lot.
+     *
+     * @param quantity
+     *            the quantity of the lot
+     * @param price
+     *            the price of the lot
+     */
+    private void openLot(long quantity, long price) {
+        long cost = LongMath.checkedMultiply(quantity, price);
+        mUnrealizedCost = LongMath.checkedAdd(mUnrealizedCost, cost);
+        mUnrealizedQuantity = LongMath.checkedAdd(mUnrealizedQuantity, quantity);
+        if (mLotCount == mLotQuantities.length) {
+            long[] quantities = new long[mLotCount * 2];
+            long[] prices = new long[mLotCount * 2];
+            for (int i = 0; i < mLotCount; i++) {
+                int index = (mLotHead + i) % mLotCount;
+                quantities[i] = mLotQuantities[index];
+                prices[i] = mLotPrices[index];
+            }
+            mLotQuantities = quantities;
+            mLotPrices = prices;
+            mLotHead = 0;
+        }
+        int tail = (mLotHead + mLotCount) % mLotQuantities.length;
+        mLotQuantities[tail] = quantity;
+        mLotPrices[tail] = price;
+        mLotCount += 1;
+    }
+
+    /**
+     * Computes the P&L of a quantity at the last trade price.
+     *
+     * @param quantity
+     *            the quantity
+     * @param cost
+     *            the cost of the quantity
+     * @return the P&L
+     */
+    private BigDecimal getPL(long quantity, long cost) {
+        return BigDecimal.valueOf(LongMath.checkedSubtract(LongMath.checkedMultiply(quantity,
+                mLastTradePrice), cost), mCostScale);
+    }
+
+    private PositionMetrics createPositionMetrics() {
+        BigDecimal unrealizedPL = null;
+        BigDecimal realizedPL = null;
+        BigDecimal tradingPL = null;
+        BigDecimal positionPL = null;
+        BigDecimal totalPL = null;
+        if (mClosingPriceAvailable) {
+            realizedPL = BigDecimal.valueOf(mRealizedPL, mCostScale);
+            if (mLastTradePriceAvailable) {
+                positionPL = getPL(mIncomingQuantity, mPositionCost);
+                unrealizedPL = getPL(mUnrealizedQuantity, mUnrealizedCost);
+                tradingPL = getPL(LongMath.checkedSubtract(mPosition, mIncomingQuantity),
+                        mTradingCost);
+                totalPL = realizedPL.add(unrealizedPL);
+            }
+        }
+        return new PositionMetricsImpl(mIncomingPosition, BigDecimal.valueOf(mPosition,
+                mQuantityScale), positionPL, tradingPL, realizedPL, unrealizedPL, totalPL);
+    }
+}
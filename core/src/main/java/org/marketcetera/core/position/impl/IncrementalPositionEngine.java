@@ -0,0 +1,426 @@
+package org.marketcetera.core.position.impl;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.core.position.IncomingPositionSupport;
+import org.marketcetera.core.position.MarketDataSupport;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataEvent;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListener;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListenerBase;
+import org.marketcetera.core.position.PositionChangeListener;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionMetrics;
+import org.marketcetera.core.position.Trade;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Position engine without list-based views that updates each position incrementally.
+ * <p>
+ * Positions are kept in a hash index by {@link PositionKey}. A trade updates only its own position
+ * and a tick only the positions of its instrument, using {@link FixedPointPositionMetricsCalculator}.
+ * A position falls back to {@link PositionMetricsCalculatorImpl} if one of its values cannot be
+ * represented in fixed point, so results are always exact. Each change is published to the
+ * registered {@link PositionChangeListener} objects.
+ * <p>
+ * The trades of each position are retained so that it can be recalculated when the closing price or
+ * multiplier changes or a trade arrives out of sequence.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public final class IncrementalPositionEngine {
+
+    /**
+     * The default number of decimal places kept for quantities.
+     */
+    public static final int DEFAULT_QUANTITY_SCALE = 2;
+    /**
+     * The default number of decimal places kept for prices.
+     */
+    public static final int DEFAULT_PRICE_SCALE = 6;
+
+    private final IncomingPositionSupport mIncomingPositionSupport;
+    private final MarketDataSupport mMarketDataSupport;
+    private final int mQuantityScale;
+    private final int mPriceScale;
+    private final ConcurrentMap<PositionKey<?>, PositionState> mPositions = new ConcurrentHashMap<PositionKey<?>, PositionState>();
+    private final ConcurrentMap<Instrument, InstrumentState> mInstruments = new ConcurrentHashMap<Instrument, InstrumentState>();
+    private final List<PositionChangeListener> mListeners = new CopyOnWriteArrayList<PositionChangeListener>();
+
+    /**
+     * Constructor.
+     *
+     * @param incomingPositionSupport
+     *            support for incoming positions, cannot be null
+     * @param marketDataSupport
+     *            support for market data, cannot be null
+     * @throws IllegalArgumentException
+     *             if any parameter is null
+     */
+    public IncrementalPositionEngine(IncomingPositionSupport incomingPositionSupport,
+            MarketDataSupport marketDataSupport) {
+        this(incomingPositionSupport, marketDataSupport, DEFAULT_QUANTITY_SCALE,
+                DEFAULT_PRICE_SCALE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param incomingPositionSupport
+     *            support for incoming positions, cannot be null
+     * @param marketDataSupport
+     *            support for market data, cannot be null
+     * @param quantityScale
+     *            the number of decimal places kept for quantities
+     * @param priceScale
+     *            the number of decimal places kept for prices
+     * @throws IllegalArgumentException
+     *             if any parameter is null or a scale is negative
+     */
+    public IncrementalPositionEngine(IncomingPositionSupport incomingPositionSupport,
+            MarketDataSupport marketDataSupport, int quantityScale, int priceScale) {
+        Validate.noNullElements(new Object[] { incomingPositionSupport, marketDataSupport });
+        Validate.isTrue(quantityScale >= 0 && priceScale >= 0);
+        mIncomingPositionSupport = incomingPositionSupport;
+        mMarketDataSupport = marketDataSupport;
+        mQuantityScale = quantityScale;
+        mPriceScale = priceScale;
+        for (PositionKey<?> key : mIncomingPositionSupport.getIncomingPositions().keySet()) {
+            getPosition(key);
+        }
+    }
+
+    /**
+     * Adds a listener to be notified of position changes.
+     *
+     * @param listener
+     *            the listener to add
+     */
+    public void addPositionChangeListener(PositionChangeListener listener) {
+        Validate.notNull(listener);
+        mListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener. This has no effect if the listener was not added.
+     *
+     * @param listener
+     *            the listener to remove
+     */
+    public void removePositionChangeListener(PositionChangeListener listener) {
+        mListeners.remove(listener);
+    }
+
+    /**
+     * Applies a trade to its position, creating the position if necessary.
+     * <p>
+     * Trades are expected in sequence number order. A trade with a lower sequence number than one
+     * already applied to the same position causes that position to be recalculated.
+     *
+     * @param trade
+     *            the trade, cannot be null
+     * @throws IllegalArgumentException
+     *             if the trade is null
+     */
+    public void trade(Trade<?> trade) {
+        Validate.notNull(trade);
+        PositionState position = getPosition(trade.getPositionKey());
+        synchronized (position.mInstrument) {
+            position.trade(trade);
+        }
+    }
+
+    /**
+     * Returns the current metrics of a position.
+     *
+     * @param key
+     *            the position key
+     * @return the metrics, or null if the position is unknown
+     */
+    public PositionMetrics getPositionMetrics(PositionKey<?> key) {
+        PositionState position = mPositions.get(key);
+        return position == null ? null : position.mMetrics;
+    }
+
+    /**
+     * Returns a snapshot of all positions.
+     *
+     * @return the metrics of every known position by key
+     */
+    public Map<PositionKey<?>, PositionMetrics> getPositions() {
+        ImmutableMap.Builder<PositionKey<?>, PositionMetrics> positions = ImmutableMap.builder();
+        for (PositionState position : mPositions.values()) {
+            positions.put(position.mKey, position.mMetrics);
+        }
+        return positions.build();
+    }
+
+    /**
+     * Returns the number of positions.
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return mPositions.size();
+    }
+
+    /**
+     * Releases the resources held by the engine. After it is called, the engine can no longer be
+     * used.
+     */
+    public void dispose() {
+        for (InstrumentState instrument : mInstruments.values()) {
+            mMarketDataSupport.removeInstrumentMarketDataListener(instrument.mInstrument,
+                    instrument.mListener);
+        }
+        mInstruments.clear();
+        mPositions.clear();
+        mListeners.clear();
+    }
+
+    private PositionState getPosition(PositionKey<?> key) {
+        PositionState position = mPositions.get(key);
+        if (position != null) {
+            return position;
+        }
+        InstrumentState instrument = getInstrument(key.getInstrument());
+        synchronized (instrument) {
+            position = mPositions.get(key);
+            if (position == null) {
+                position = new PositionState(key, instrument,
+                        mIncomingPositionSupport.getIncomingPositionFor(key));
+                position.recalculate();
+                instrument.mPositions.add(position);
+                mPositions.put(key, position);
+            }
+        }
+        return position;
+    }
+
+    private InstrumentState getInstrument(Instrument instrument) {
+        InstrumentState state = mInstruments.get(instrument);
+        if (state != null) {
+            return state;
+        }
+        state = new InstrumentState(instrument);
+        InstrumentState existing = mInstruments.putIfAbsent(instrument, state);
+        if (existing != null) {
+            return existing;
+        }
+        mMarketDataSupport.addInstrumentMarketDataListener(instrument, state.mListener);
+        return state;
+    }
+
+    private void publish(PositionKey<?> key, PositionMetrics oldMetrics,
+            PositionMetrics newMetrics) {
+        for (PositionChangeListener listener : mListeners) {
+            try {
+                listener.positionChanged(key, oldMetrics, newMetrics);
+            } catch (RuntimeException e) {
+                Messages.POSITION_CHANGE_LISTENER_FAILED.warn(this, e, key);
+            }
+        }
+    }
+
+    private static boolean isSame(BigDecimal oldValue, BigDecimal newValue) {
+        if (oldValue == null || newValue == null) {
+            return oldValue == newValue;
+        }
+        return oldValue.compareTo(newValue) == 0;
+    }
+
+    /**
+     * Market data and positions of one instrument. All changes to the positions of the instrument
+     * are made while holding its lock.
+     */
+    @ClassVersion("$Id$")
+    private final class InstrumentState {
+
+        private final Instrument mInstrument;
+        @GuardedBy("this")
+        private final List<PositionState> mPositions = Lists.newArrayList();
+        @GuardedBy("this")
+        private BigDecimal mClosingPrice;
+        @GuardedBy("this")
+        private BigDecimal mLastTradePrice;
+        @GuardedBy("this")
+        private BigDecimal mMultiplier;
+        private final InstrumentMarketDataListener mListener = new InstrumentMarketDataListenerBase() {
+
+            @Override
+            public void symbolTraded(InstrumentMarketDataEvent event) {
+                tick(event.getNewAmount());
+            }
+
+            @Override
+            public void closePriceChanged(InstrumentMarketDataEvent event) {
+                InstrumentState.this.closePriceChanged(event.getNewAmount());
+            }
+
+            @Override
+            public void optionMultiplierChanged(InstrumentMarketDataEvent event) {
+                multiplierChanged(event.getNewAmount());
+            }
+
+            @Override
+            public void futureMultiplierChanged(InstrumentMarketDataEvent event) {
+                multiplierChanged(event.getNewAmount());
+            }
+        };
+
+        private InstrumentState(Instrument instrument) {
+            mInstrument = instrument;
+            mClosingPrice = mMarketDataSupport.getClosingPrice(instrument);
+            mLastTradePrice = mMarketDataSupport.getLastTradePrice(instrument);
+            if (instrument instanceof Option) {
+                mMultiplier = mMarketDataSupport.getOptionMultiplier((Option) instrument);
+            } else if (instrument instanceof Future) {
+                mMultiplier = mMarketDataSupport.getFutureMultiplier((Future) instrument);
+            }
+        }
+
+        private synchronized void tick(BigDecimal tradePrice) {
+            if (isSame(mLastTradePrice, tradePrice)) {
+                return;
+            }
+            mLastTradePrice = tradePrice;
+            for (PositionState position : mPositions) {
+                position.tick(tradePrice);
+            }
+        }
+
+        private synchronized void closePriceChanged(BigDecimal closePrice) {
+            if (isSame(mClosingPrice, closePrice)) {
+                return;
+            }
+            mClosingPrice = closePrice;
+            for (PositionState position : mPositions) {
+                position.recalculate();
+            }
+        }
+
+        private synchronized void multiplierChanged(BigDecimal multiplier) {
+            if (isSame(mMultiplier, multiplier)) {
+                return;
+            }
+            mMultiplier = multiplier;
+            for (PositionState position : mPositions) {
+                position.recalculate();
+            }
+        }
+    }
+
+    /**
+     * The state of one position. Only used while holding the lock of its instrument.
+     */
+    @ClassVersion("$Id$")
+    private final class PositionState {
+
+        private final PositionKey<?> mKey;
+        private final InstrumentState mInstrument;
+        private final BigDecimal mIncomingPosition;
+        private final List<Trade<?>> mTrades = Lists.newArrayList();
+        private PositionMetricsCalculator mCalculator;
+        private boolean mFixedPoint = true;
+        private volatile PositionMetrics mMetrics;
+
+        private PositionState(PositionKey<?> key, InstrumentState instrument,
+                BigDecimal incomingPosition) {
+            mKey = key;
+            mInstrument = instrument;
+            mIncomingPosition = incomingPosition;
+        }
+
+        private void trade(Trade<?> trade) {
+            int size = mTrades.size();
+            if (size > 0 && mTrades.get(size - 1).getSequenceNumber() > trade.getSequenceNumber()) {
+                int index = size - 1;
+                while (index > 0
+                        && mTrades.get(index - 1).getSequenceNumber() > trade.getSequenceNumber()) {
+                    index -= 1;
+                }
+                mTrades.add(index, trade);
+                recalculate();
+                return;
+            }
+            mTrades.add(trade);
+            try {
+                update(mCalculator.trade(trade));
+            } catch (ArithmeticException e) {
+                fallBack(e);
+            }
+        }
+
+        private void tick(BigDecimal tradePrice) {
+            try {
+                update(mCalculator.tick(tradePrice));
+            } catch (ArithmeticException e) {
+                fallBack(e);
+            }
+        }
+
+        private void recalculate() {
+            try {
+                update(calculate());
+            } catch (ArithmeticException e) {
+                fallBack(e);
+            }
+        }
+
+        private void fallBack(ArithmeticException e) {
+            SLF4JLoggerProxy.debug(IncrementalPositionEngine.this, e,
+                    "{} cannot be held in fixed point, using BigDecimal", //$NON-NLS-1$
+                    mKey);
+            mFixedPoint = false;
+            update(calculate());
+        }
+
+        private PositionMetrics calculate() {
+            PositionMetricsCalculator calculator;
+            if (mFixedPoint) {
+                calculator = new FixedPointPositionMetricsCalculator(mIncomingPosition,
+                        mInstrument.mClosingPrice, mQuantityScale, mPriceScale);
+            } else {
+                calculator = new PositionMetricsCalculatorImpl(mIncomingPosition,
+                        mInstrument.mClosingPrice);
+            }
+            if (mInstrument.mInstrument instanceof Option
+                    || mInstrument.mInstrument instanceof Future) {
+                calculator = new MultiplierCalculator(calculator, mInstrument.mMultiplier);
+            }
+            mCalculator = calculator;
+            PositionMetrics metrics = calculator.tick(mInstrument.mLastTradePrice);
+            for (Trade<?> trade : mTrades) {
+                metrics = calculator.trade(trade);
+            }
+            return metrics;
+        }
+
+        private void update(PositionMetrics metrics) {
+            PositionMetrics oldMetrics = mMetrics;
+            mMetrics = metrics;
+            publish(mKey, oldMetrics, metrics);
+        }
+    }
+}
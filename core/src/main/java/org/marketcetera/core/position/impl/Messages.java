@@ -35,4 +35,6 @@ public interface Messages {
             LOGGER, "execution_report_adapter.to_string"); //$NON-NLS-1$
     static final I18NMessage1P VALIDATION_MATCHER_INVALID_EXECUTION_REPORT = new I18NMessage1P(
             LOGGER, "validation_matcher.invalid_execution_report"); //$NON-NLS-1$
+    static final I18NMessage1P POSITION_CHANGE_LISTENER_FAILED = new I18NMessage1P(
+            LOGGER, "position_change_listener.failed"); //$NON-NLS-1$
 }
@@ -0,0 +1,220 @@
+package org.marketcetera.core.publisher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Publication engine which routes each publication to the subscribers of a key instead of offering it to every subscriber.
+ *
+ * <p>Where {@link PublisherEngine} asks every subscriber whether each published object is interesting, this engine
+ * looks up the subscribers of the key given with the publication and notifies only those, so the cost of a publication
+ * depends on the number of subscribers that want it rather than on the number of subscribers overall. Subscribers are
+ * still asked {@link ISubscriber#isInteresting(Object)} before being notified.
+ *
+ * <p>Publications are made synchronously in the publishing thread. Publishers do not lock: the subscribers of each key
+ * are held in an array which is replaced, never modified, when subscriptions change. Subscribers of a key are notified
+ * in the order they subscribed to it.
+ *
+ * @param <K> the type of the routing key, which must implement <code>equals</code> and <code>hashCode</code>
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public final class KeyedPublisherEngine<K>
+{
+    /**
+     * Publishes the given object to the subscribers of the given key.
+     *
+     * @param inKey a <code>K</code> value
+     * @param inData an <code>Object</code> value
+     */
+    public void publish(K inKey,
+                        Object inData)
+    {
+        if(inKey == null) {
+            return;
+        }
+        ISubscriber[] subscribers = subscribersByKey.get(inKey);
+        if(subscribers == null) {
+            return;
+        }
+        for(ISubscriber subscriber : subscribers) {
+            try {
+                if(subscriber.isInteresting(inData)) {
+                    subscriber.publishTo(inData);
+                }
+            } catch (Throwable t) {
+                SLF4JLoggerProxy.debug(KeyedPublisherEngine.class,
+                                       t,
+                                       "Subscriber {} threw an exception during publication, skipping", //$NON-NLS-1$
+                                       subscriber);
+            }
+        }
+    }
+    /**
+     * Subscribes the given subscriber to publications for the given key.
+     *
+     * <p>Subscribing a subscriber to a key it is already subscribed to has no effect.
+     *
+     * @param inKey a <code>K</code> value
+     * @param inSubscriber an <code>ISubscriber</code> value
+     */
+    public void subscribe(K inKey,
+                          ISubscriber inSubscriber)
+    {
+        Validate.notNull(inKey);
+        if(inSubscriber == null) {
+            return;
+        }
+        synchronized(lock) {
+            Set<K> keys = keysBySubscriber.get(inSubscriber);
+            if(keys == null) {
+                keys = new LinkedHashSet<K>();
+                keysBySubscriber.put(inSubscriber,
+                                     keys);
+            }
+            if(!keys.add(inKey)) {
+                return;
+            }
+            ISubscriber[] subscribers = subscribersByKey.get(inKey);
+            if(subscribers == null) {
+                subscribersByKey.put(inKey,
+                                     new ISubscriber[] { inSubscriber });
+            } else {
+                ISubscriber[] newSubscribers = Arrays.copyOf(subscribers,
+                                                             subscribers.length + 1);
+                newSubscribers[subscribers.length] = inSubscriber;
+                subscribersByKey.put(inKey,
+                                     newSubscribers);
+            }
+        }
+    }
+    /**
+     * Unsubscribes the given subscriber from publications for the given key.
+     *
+     * @param inKey a <code>K</code> value
+     * @param inSubscriber an <code>ISubscriber</code> value
+     */
+    public void unsubscribe(K inKey,
+                            ISubscriber inSubscriber)
+    {
+        if(inKey == null || inSubscriber == null) {
+            return;
+        }
+        synchronized(lock) {
+            Set<K> keys = keysBySubscriber.get(inSubscriber);
+            if(keys == null || !keys.remove(inKey)) {
+                return;
+            }
+            if(keys.isEmpty()) {
+                keysBySubscriber.remove(inSubscriber);
+            }
+            removeFromKey(inKey,
+                          inSubscriber);
+        }
+    }
+    /**
+     * Unsubscribes the given subscriber from publications for all keys.
+     *
+     * @param inSubscriber an <code>ISubscriber</code> value
+     */
+    public void unsubscribe(ISubscriber inSubscriber)
+    {
+        if(inSubscriber == null) {
+            return;
+        }
+        synchronized(lock) {
+            Set<K> keys = keysBySubscriber.remove(inSubscriber);
+            if(keys == null) {
+                return;
+            }
+            for(K key : keys) {
+                removeFromKey(key,
+                              inSubscriber);
+            }
+        }
+    }
+    /**
+     * Gets the number of subscribers subscribed to at least one key.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getSubscriptionCount()
+    {
+        synchronized(lock) {
+            return keysBySubscriber.size();
+        }
+    }
+    /**
+     * Gets the number of subscribers subscribed to the given key.
+     *
+     * @param inKey a <code>K</code> value
+     * @return an <code>int</code> value
+     */
+    public int getSubscriptionCount(K inKey)
+    {
+        if(inKey == null) {
+            return 0;
+        }
+        ISubscriber[] subscribers = subscribersByKey.get(inKey);
+        return subscribers == null ? 0 : subscribers.length;
+    }
+    /**
+     * Removes the given subscriber from the subscribers of the given key.
+     *
+     * <p>The caller must hold {@link #lock}.
+     *
+     * @param inKey a <code>K</code> value
+     * @param inSubscriber an <code>ISubscriber</code> value
+     */
+    private void removeFromKey(K inKey,
+                               ISubscriber inSubscriber)
+    {
+        ISubscriber[] subscribers = subscribersByKey.get(inKey);
+        if(subscribers == null) {
+            return;
+        }
+        if(subscribers.length == 1) {
+            subscribersByKey.remove(inKey);
+            return;
+        }
+        ISubscriber[] newSubscribers = new ISubscriber[subscribers.length - 1];
+        int index = 0;
+        for(ISubscriber subscriber : subscribers) {
+            if(!subscriber.equals(inSubscriber)) {
+                newSubscribers[index++] = subscriber;
+            }
+        }
+        subscribersByKey.put(inKey,
+                             newSubscribers);
+    }
+    /**
+     * subscribers by key in subscription order, replaced rather than modified when subscriptions change
+     */
+    private final ConcurrentMap<K,ISubscriber[]> subscribersByKey = new ConcurrentHashMap<K,ISubscriber[]>();
+    /**
+     * guards changes to subscriptions
+     */
+    private final Object lock = new Object();
+    /**
+     * keys by subscriber
+     */
+    @GuardedBy("lock")
+    private final Map<ISubscriber,Set<K>> keysBySubscriber = new HashMap<ISubscriber,Set<K>>();
+}
@@ -40,6 +40,16 @@ public class ConvertibleBondBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>ConvertibleBondBean</code> to the attributes of a new <code>ConvertibleBondBean</code>.
+     *
+     * @param inBean a <code>ConvertibleBondBean</code> value
+     */
+    public static void reset(ConvertibleBondBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Builds a <code>ConvertibleBondBean</code> based on the values of
      * the given event.
@@ -813,4 +823,8 @@ public class ConvertibleBondBean
     @XmlAttribute
     private String estimatedSizeInd;
     private static final long serialVersionUID = -6504290148975073754L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final ConvertibleBondBean EMPTY = new ConvertibleBondBean();
 }
@@ -40,6 +40,16 @@ public class CurrencyBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>CurrencyBean</code> to the attributes of a new <code>CurrencyBean</code>.
+     *
+     * @param inBean a <code>CurrencyBean</code> value
+     */
+    public static void reset(CurrencyBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Builds a <code>CurrencyBean</code> based on the values of
      * the given event.
@@ -211,4 +221,8 @@ public class CurrencyBean
     @XmlAttribute
     private int contractSize = 1;
     private final static long serialVersionUID = 1L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final CurrencyBean EMPTY = new CurrencyBean();
 }
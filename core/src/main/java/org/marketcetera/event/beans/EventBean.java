@@ -1,12 +1,15 @@
 package org.marketcetera.event.beans;
 
 import java.io.Serializable;
+import java.math.RoundingMode;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlAttribute;
 
 import org.apache.commons.lang.builder.EqualsBuilder;
@@ -17,6 +20,8 @@ import org.marketcetera.event.util.EventServices;
 import org.marketcetera.util.log.I18NBoundMessage1P;
 import org.marketcetera.util.misc.ClassVersion;
 
+import com.google.common.math.LongMath;
+
 /* $License$ */
 
 /**
@@ -83,22 +88,33 @@ public class EventBean
     }
     /**
      * Get the timestamp value.
+     * 
+     * <p>If the timestamp was set with {@link #setTimestampNanos(long)}, the
+     * <code>Date</code> is created on first use.
      *
      * @return a <code>Date</code> value
      */
     public final Date getTimestamp()
     {
-        return timestamp;
+        Date result = timestamp;
+        if(result == null && isTimestampNanos) {
+            result = new Date(nanosToMillis(timestampNanos));
+            timestamp = result;
+        }
+        return result;
     }
     /**
      * Get the timestamp value as millis.
      *
      * @return a <code>long</code> value
      * @throws NullPointerException if the timestamp value has not been set with
-     *  {@link #setTimestamp(Date)}
+     *  {@link #setTimestamp(Date)} or {@link #setTimestampNanos(long)}
      */
     public final long getTimeMillis()
     {
+        if(isTimestampNanos) {
+            return nanosToMillis(timestampNanos);
+        }
         return getTimestamp().getTime();
     }
     /**
@@ -109,6 +125,33 @@ public class EventBean
     public final void setTimestamp(Date inTimestamp)
     {
         timestamp = inTimestamp;
+        timestampNanos = 0;
+        isTimestampNanos = false;
+    }
+    /**
+     * Get the timestamp value as nanoseconds since the epoch.
+     *
+     * @return a <code>long</code> value
+     * @throws NullPointerException if the timestamp value has not been set with
+     *  {@link #setTimestamp(Date)} or {@link #setTimestampNanos(long)}
+     */
+    public final long getTimestampNanos()
+    {
+        if(isTimestampNanos) {
+            return timestampNanos;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(getTimestamp().getTime());
+    }
+    /**
+     * Sets the timestamp value as nanoseconds since the epoch without creating a <code>Date</code>.
+     *
+     * @param inTimestampNanos a <code>long</code> value
+     */
+    public final void setTimestampNanos(long inTimestampNanos)
+    {
+        timestampNanos = inTimestampNanos;
+        isTimestampNanos = true;
+        timestamp = null;
     }
     /**
      * Get the source value.
@@ -160,7 +203,8 @@ public class EventBean
             EventServices.error(new I18NBoundMessage1P(Messages.VALIDATION_INVALID_MESSAGEID,
                                                        messageId));
         }
-        if(timestamp == null) {
+        if(timestamp == null &&
+           !isTimestampNanos) {
             EventServices.error(Messages.VALIDATION_NULL_TIMESTAMP);
         }
     }
@@ -175,7 +219,8 @@ public class EventBean
         if(messageId == Long.MIN_VALUE) {
             messageId = counter.incrementAndGet();
         }
-        if(timestamp == null) {
+        if(timestamp == null &&
+           !isTimestampNanos) {
             timestamp = new Date();
         }
     }
@@ -203,7 +248,7 @@ public class EventBean
     @Override
     public int hashCode()
     {
-        return new HashCodeBuilder().append(messageId).append(source).append(provider).append(timestamp).toHashCode();
+        return new HashCodeBuilder().append(messageId).append(source).append(provider).append(getTimestamp()).toHashCode();
     }
     /* (non-Javadoc)
      * @see java.lang.Object#equals(java.lang.Object)
@@ -221,7 +266,7 @@ public class EventBean
             return false;
         }
         EventBean other = (EventBean) obj;
-        return new EqualsBuilder().append(messageId,other.messageId).append(source,other.source).append(provider,other.provider).append(timestamp,other.timestamp).isEquals();
+        return new EqualsBuilder().append(messageId,other.messageId).append(source,other.source).append(provider,other.provider).append(getTimestamp(),other.getTimestamp()).isEquals();
     }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -233,7 +278,7 @@ public class EventBean
                              messageId,
                              source,
                              provider,
-                             timestamp);
+                             getTimestamp());
     }
     /**
      * Copies all member attributes from the donor to the recipient.
@@ -246,10 +291,40 @@ public class EventBean
     {
         inRecipient.setMessageId(inDonor.getMessageId());
         inRecipient.setSource(inDonor.getSource());
-        inRecipient.setTimestamp(inDonor.getTimestamp());
+        inRecipient.timestamp = inDonor.timestamp;
+        inRecipient.timestampNanos = inDonor.timestampNanos;
+        inRecipient.isTimestampNanos = inDonor.isTimestampNanos;
         inRecipient.setProvider(inDonor.getProvider());
         inRecipient.setRequestId(inDonor.getRequestId());
     }
+    /**
+     * Creates the lazily created values before the object is marshalled.
+     * 
+     * <p>Subclasses that create values lazily should override this method
+     * and invoke the parent method.
+     *
+     * @param inMarshaller a <code>Marshaller</code> value
+     */
+    protected void beforeMarshal(Marshaller inMarshaller)
+    {
+        getTimestamp();
+    }
+    /**
+     * Converts the given nanoseconds since the epoch to milliseconds since the epoch.
+     *
+     * @param inNanos a <code>long</code> value
+     * @return a <code>long</code> value
+     */
+    protected static long nanosToMillis(long inNanos)
+    {
+        return LongMath.divide(inNanos,
+                               NANOS_PER_MILLI,
+                               RoundingMode.FLOOR);
+    }
+    /**
+     * number of nanoseconds in a millisecond
+     */
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
     /**
      * the event messageId
      */
@@ -259,7 +334,15 @@ public class EventBean
      * the event timestamp
      */
     @XmlAttribute
-    private Date timestamp = null;
+    private volatile Date timestamp = null;
+    /**
+     * the event timestamp in nanoseconds since the epoch, if it was set that way
+     */
+    private long timestampNanos;
+    /**
+     * indicates if the event timestamp was set in nanoseconds
+     */
+    private boolean isTimestampNanos;
     /**
      * the event source
      */
@@ -43,6 +43,16 @@ public class FutureBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>FutureBean</code> to the attributes of a new <code>FutureBean</code>.
+     *
+     * @param inBean a <code>FutureBean</code> value
+     */
+    public static void reset(FutureBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Builds a <code>FutureBean</code> based on the values of
      * the given event.
@@ -369,4 +379,8 @@ public class FutureBean
     @XmlAttribute
     private int contractSize = 1;
     private final static long serialVersionUID = 1L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final FutureBean EMPTY = new FutureBean();
 }
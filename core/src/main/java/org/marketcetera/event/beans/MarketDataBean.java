@@ -2,8 +2,10 @@ package org.marketcetera.event.beans;
 
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.concurrent.NotThreadSafe;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
@@ -22,6 +24,11 @@ import org.marketcetera.util.misc.ClassVersion;
 
 /**
  * Stores the attributes necessary for {@link MarketDataEvent}.
+ * 
+ * <p>Price, size, and exchange timestamp may optionally be stored in a compact form: price and
+ * size as a <code>long</code> unscaled value with a scale, and the exchange timestamp as
+ * nanoseconds since the epoch. Values stored this way are converted to <code>BigDecimal</code>
+ * and <code>Date</code> only when those getters are first invoked.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -101,7 +108,12 @@ public class MarketDataBean
      */
     public final Date getExchangeTimestamp()
     {
-        return exchangeTimestamp;
+        Date result = exchangeTimestamp;
+        if(result == null && isExchangeTimestampNanos) {
+            result = new Date(nanosToMillis(exchangeTimestampNanos));
+            exchangeTimestamp = result;
+        }
+        return result;
     }
     /**
      * Sets the exchangeTimestamp value.
@@ -111,6 +123,32 @@ public class MarketDataBean
     public final void setExchangeTimestamp(Date inExchangeTimestamp)
     {
         exchangeTimestamp = inExchangeTimestamp;
+        exchangeTimestampNanos = 0;
+        isExchangeTimestampNanos = false;
+    }
+    /**
+     * Get the exchangeTimestamp value as nanoseconds since the epoch.
+     *
+     * @return a <code>long</code> value
+     * @throws NullPointerException if the exchangeTimestamp value has not been set
+     */
+    public final long getExchangeTimestampNanos()
+    {
+        if(isExchangeTimestampNanos) {
+            return exchangeTimestampNanos;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(getExchangeTimestamp().getTime());
+    }
+    /**
+     * Sets the exchangeTimestamp value as nanoseconds since the epoch without creating a <code>Date</code>.
+     *
+     * @param inExchangeTimestampNanos a <code>long</code> value
+     */
+    public final void setExchangeTimestampNanos(long inExchangeTimestampNanos)
+    {
+        exchangeTimestampNanos = inExchangeTimestampNanos;
+        isExchangeTimestampNanos = true;
+        exchangeTimestamp = null;
     }
     /**
      * Get the receivedTimestamp value.
@@ -155,7 +193,13 @@ public class MarketDataBean
      */
     public final BigDecimal getPrice()
     {
-        return price;
+        BigDecimal result = price;
+        if(result == null && isFixedPointPrice) {
+            result = BigDecimal.valueOf(unscaledPrice,
+                                        priceScale);
+            price = result;
+        }
+        return result;
     }
     /**
      * Sets the price value.
@@ -165,6 +209,56 @@ public class MarketDataBean
     public final void setPrice(BigDecimal inPrice)
     {
         price = inPrice;
+        unscaledPrice = 0;
+        priceScale = 0;
+        isFixedPointPrice = false;
+    }
+    /**
+     * Sets the price value in fixed-point form without creating a <code>BigDecimal</code>.
+     * 
+     * <p>The price is <code>inUnscaledPrice</code> &times; 10<sup>-<code>inScale</code></sup>.
+     *
+     * @param inUnscaledPrice a <code>long</code> value
+     * @param inScale an <code>int</code> value
+     */
+    public final void setPrice(long inUnscaledPrice,
+                               int inScale)
+    {
+        unscaledPrice = inUnscaledPrice;
+        priceScale = inScale;
+        isFixedPointPrice = true;
+        price = null;
+    }
+    /**
+     * Indicates if the price value was set in fixed-point form.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public final boolean isFixedPointPrice()
+    {
+        return isFixedPointPrice;
+    }
+    /**
+     * Get the unscaled price value.
+     * 
+     * <p>The return value is meaningful only if {@link #isFixedPointPrice()} is true.
+     *
+     * @return a <code>long</code> value
+     */
+    public final long getUnscaledPrice()
+    {
+        return unscaledPrice;
+    }
+    /**
+     * Get the price scale value.
+     * 
+     * <p>The return value is meaningful only if {@link #isFixedPointPrice()} is true.
+     *
+     * @return an <code>int</code> value
+     */
+    public final int getPriceScale()
+    {
+        return priceScale;
     }
     /**
      * Get the size value.
@@ -173,7 +267,13 @@ public class MarketDataBean
      */
     public final BigDecimal getSize()
     {
-        return size;
+        BigDecimal result = size;
+        if(result == null && isFixedPointSize) {
+            result = BigDecimal.valueOf(unscaledSize,
+                                        sizeScale);
+            size = result;
+        }
+        return result;
     }
     /**
      * Sets the size value.
@@ -183,6 +283,98 @@ public class MarketDataBean
     public final void setSize(BigDecimal inSize)
     {
         size = inSize;
+        unscaledSize = 0;
+        sizeScale = 0;
+        isFixedPointSize = false;
+    }
+    /**
+     * Sets the size value in fixed-point form without creating a <code>BigDecimal</code>.
+     * 
+     * <p>The size is <code>inUnscaledSize</code> &times; 10<sup>-<code>inScale</code></sup>.
+     *
+     * @param inUnscaledSize a <code>long</code> value
+     * @param inScale an <code>int</code> value
+     */
+    public final void setSize(long inUnscaledSize,
+                              int inScale)
+    {
+        unscaledSize = inUnscaledSize;
+        sizeScale = inScale;
+        isFixedPointSize = true;
+        size = null;
+    }
+    /**
+     * Indicates if the size value was set in fixed-point form.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public final boolean isFixedPointSize()
+    {
+        return isFixedPointSize;
+    }
+    /**
+     * Get the unscaled size value.
+     * 
+     * <p>The return value is meaningful only if {@link #isFixedPointSize()} is true.
+     *
+     * @return a <code>long</code> value
+     */
+    public final long getUnscaledSize()
+    {
+        return unscaledSize;
+    }
+    /**
+     * Get the size scale value.
+     * 
+     * <p>The return value is meaningful only if {@link #isFixedPointSize()} is true.
+     *
+     * @return an <code>int</code> value
+     */
+    public final int getSizeScale()
+    {
+        return sizeScale;
+    }
+    /**
+     * Compares the prices of the given beans.
+     * 
+     * <p>If both prices are in fixed-point form with the same scale, the unscaled
+     * values are compared without creating <code>BigDecimal</code> values.
+     *
+     * @param inBean1 a <code>MarketDataBean</code> value
+     * @param inBean2 a <code>MarketDataBean</code> value
+     * @return an <code>int</code> value less than, equal to, or greater than zero as the first price is less than, equal to, or greater than the second
+     */
+    public static int comparePrices(MarketDataBean inBean1,
+                                    MarketDataBean inBean2)
+    {
+        if(inBean1.isFixedPointPrice &&
+           inBean2.isFixedPointPrice &&
+           inBean1.priceScale == inBean2.priceScale) {
+            return Long.compare(inBean1.unscaledPrice,
+                                inBean2.unscaledPrice);
+        }
+        return inBean1.getPrice().compareTo(inBean2.getPrice());
+    }
+    /**
+     * Compares the sizes of the given beans.
+     * 
+     * <p>If both sizes are in fixed-point form with the same scale, the unscaled
+     * values are compared without creating <code>BigDecimal</code> values.
+     *
+     * @param inBean1 a <code>MarketDataBean</code> value
+     * @param inBean2 a <code>MarketDataBean</code> value
+     * @return an <code>int</code> value less than, equal to, or greater than zero as the first size is less than, equal to, or greater than the second
+     */
+    public static int compareSizes(MarketDataBean inBean1,
+                                   MarketDataBean inBean2)
+    {
+        if(inBean1.isFixedPointSize &&
+           inBean2.isFixedPointSize &&
+           inBean1.sizeScale == inBean2.sizeScale) {
+            return Long.compare(inBean1.unscaledSize,
+                                inBean2.unscaledSize);
+        }
+        return inBean1.getSize().compareTo(inBean2.getSize());
     }
     /**
      * Get the exchange value.
@@ -223,17 +415,17 @@ public class MarketDataBean
         if(instrument == null) {
             EventServices.error(Messages.VALIDATION_NULL_INSTRUMENT);
         }
-        if(price == null) {
+        if(price == null && !isFixedPointPrice) {
             EventServices.error(Messages.VALIDATION_NULL_PRICE);
         }
-        if(size == null) {
+        if(size == null && !isFixedPointSize) {
             EventServices.error(Messages.VALIDATION_NULL_SIZE);
         }
         if(exchange == null ||
            exchange.isEmpty()) {
             EventServices.error(Messages.VALIDATION_NULL_EXCHANGE);
         }
-        if(exchangeTimestamp == null) {
+        if(exchangeTimestamp == null && !isExchangeTimestampNanos) {
             EventServices.error(Messages.VALIDATION_NULL_EXCHANGE_TIMESTAMP);
         }
         if(eventType == null) {
@@ -246,7 +438,7 @@ public class MarketDataBean
     @Override
     public int hashCode()
     {
-        return new HashCodeBuilder().appendSuper(super.hashCode()).append(exchange).append(exchangeTimestamp).append(receivedTimestamp).append(processedTimestamp).append(instrument).append(price).append(size).append(eventType).toHashCode();
+        return new HashCodeBuilder().appendSuper(super.hashCode()).append(exchange).append(getExchangeTimestamp()).append(receivedTimestamp).append(processedTimestamp).append(instrument).append(getPrice()).append(getSize()).append(eventType).toHashCode();
     }
     /* (non-Javadoc)
      * @see java.lang.Object#equals(java.lang.Object)
@@ -264,9 +456,9 @@ public class MarketDataBean
             return false;
         }
         MarketDataBean other = (MarketDataBean) obj;
-        return new EqualsBuilder().appendSuper(super.equals(obj)).append(exchange,other.exchange).append(exchangeTimestamp,other.exchangeTimestamp).append(receivedTimestamp,other.receivedTimestamp)
+        return new EqualsBuilder().appendSuper(super.equals(obj)).append(exchange,other.exchange).append(getExchangeTimestamp(),other.getExchangeTimestamp()).append(receivedTimestamp,other.receivedTimestamp)
                 .append(processedTimestamp,other.processedTimestamp).append(instrument,other.instrument)
-                .append(price,other.price).append(size,other.size).append(eventType,other.eventType).isEquals();
+                .append(getPrice(),other.getPrice()).append(getSize(),other.getSize()).append(eventType,other.eventType).isEquals();
     }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -275,11 +467,11 @@ public class MarketDataBean
     public String toString()
     {
         return String.format("MarketData: %s at %s of %s on %s at %s %s [%s with source %s at %s]", //$NON-NLS-1$
-                             size,
-                             price,
+                             getSize(),
+                             getPrice(),
                              instrument,
                              exchange,
-                             exchangeTimestamp,
+                             getExchangeTimestamp(),
                              eventType,
                              getMessageId(),
                              getSource(),
@@ -298,23 +490,66 @@ public class MarketDataBean
                                  inRecipient);
         inRecipient.setEventType(inDonor.getEventType());
         inRecipient.setExchange(inDonor.getExchange());
-        inRecipient.setExchangeTimestamp(inDonor.getExchangeTimestamp());
+        inRecipient.exchangeTimestamp = inDonor.exchangeTimestamp;
+        inRecipient.exchangeTimestampNanos = inDonor.exchangeTimestampNanos;
+        inRecipient.isExchangeTimestampNanos = inDonor.isExchangeTimestampNanos;
         inRecipient.setInstrument(inDonor.getInstrument());
-        inRecipient.setPrice(inDonor.getPrice());
+        inRecipient.price = inDonor.price;
+        inRecipient.unscaledPrice = inDonor.unscaledPrice;
+        inRecipient.priceScale = inDonor.priceScale;
+        inRecipient.isFixedPointPrice = inDonor.isFixedPointPrice;
         inRecipient.setProcessedTimestamp(inDonor.getProcessedTimestamp());
         inRecipient.setReceivedTimestamp(inDonor.getReceivedTimestamp());
-        inRecipient.setSize(inDonor.getSize());
+        inRecipient.size = inDonor.size;
+        inRecipient.unscaledSize = inDonor.unscaledSize;
+        inRecipient.sizeScale = inDonor.sizeScale;
+        inRecipient.isFixedPointSize = inDonor.isFixedPointSize;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.event.beans.EventBean#beforeMarshal(javax.xml.bind.Marshaller)
+     */
+    @Override
+    protected void beforeMarshal(Marshaller inMarshaller)
+    {
+        super.beforeMarshal(inMarshaller);
+        getPrice();
+        getSize();
+        getExchangeTimestamp();
     }
     /**
      * the market data price
      */
     @XmlAttribute
-    private BigDecimal price;
+    private volatile BigDecimal price;
+    /**
+     * the unscaled market data price, if the price was set in fixed-point form
+     */
+    private long unscaledPrice;
+    /**
+     * the scale of the market data price, if the price was set in fixed-point form
+     */
+    private int priceScale;
+    /**
+     * indicates if the market data price was set in fixed-point form
+     */
+    private boolean isFixedPointPrice;
     /**
      * the market data size
      */
     @XmlAttribute
-    private BigDecimal size;
+    private volatile BigDecimal size;
+    /**
+     * the unscaled market data size, if the size was set in fixed-point form
+     */
+    private long unscaledSize;
+    /**
+     * the scale of the market data size, if the size was set in fixed-point form
+     */
+    private int sizeScale;
+    /**
+     * indicates if the market data size was set in fixed-point form
+     */
+    private boolean isFixedPointSize;
     /**
      * the market data exchange
      */
@@ -324,7 +559,15 @@ public class MarketDataBean
      * the market data exchange timestamp (format is dependent on the market data provider)
      */
     @XmlAttribute
-    private Date exchangeTimestamp;
+    private volatile Date exchangeTimestamp;
+    /**
+     * the market data exchange timestamp in nanoseconds since the epoch, if it was set that way
+     */
+    private long exchangeTimestampNanos;
+    /**
+     * indicates if the market data exchange timestamp was set in nanoseconds
+     */
+    private boolean isExchangeTimestampNanos;
     /**
      * the timestamp when the raw data was received from the market data provider; occurs within the market data adapter
      */
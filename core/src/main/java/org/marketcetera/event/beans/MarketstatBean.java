@@ -41,6 +41,16 @@ public final class MarketstatBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>MarketstatBean</code> to the attributes of a new <code>MarketstatBean</code>.
+     *
+     * @param inBean a <code>MarketstatBean</code> value
+     */
+    public static void reset(MarketstatBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Get the openPrice value.
      *
@@ -687,4 +697,8 @@ public final class MarketstatBean
     @XmlAttribute
     private EventType eventType = EventType.UNKNOWN;
     private static final long serialVersionUID = 1L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final MarketstatBean EMPTY = new MarketstatBean();
 }
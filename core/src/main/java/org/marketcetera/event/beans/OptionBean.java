@@ -45,6 +45,16 @@ public final class OptionBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>OptionBean</code> to the attributes of a new <code>OptionBean</code>.
+     *
+     * @param inBean a <code>OptionBean</code> value
+     */
+    public static void reset(OptionBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Builds an <code>OptionBean</code> based on the values of
      * the given event.
@@ -319,4 +329,8 @@ public final class OptionBean
     @XmlElement
     private Instrument instrument;
     private final static long serialVersionUID = 1L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final OptionBean EMPTY = new OptionBean();
 }
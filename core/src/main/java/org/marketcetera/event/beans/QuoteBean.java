@@ -46,6 +46,16 @@ public final class QuoteBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>QuoteBean</code> to the attributes of a new <code>QuoteBean</code>.
+     *
+     * @param inBean a <code>QuoteBean</code> value
+     */
+    public static void reset(QuoteBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Builds a <code>QuoteBean</code> based on the values of
      * the given event and attributes.
@@ -282,4 +292,8 @@ public final class QuoteBean
     @XmlAttribute
     private int level;
     private static final long serialVersionUID = -9073507264607915378L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final QuoteBean EMPTY = new QuoteBean();
 }
@@ -43,6 +43,16 @@ public class TradeBean
                        newBean);
         return newBean;
     }
+    /**
+     * Resets the given <code>TradeBean</code> to the attributes of a new <code>TradeBean</code>.
+     *
+     * @param inBean a <code>TradeBean</code> value
+     */
+    public static void reset(TradeBean inBean)
+    {
+        copyAttributes(EMPTY,
+                       inBean);
+    }
     /**
      * Get the tradeCondition value.
      *
@@ -135,4 +145,8 @@ public class TradeBean
     @XmlAttribute
     private String tradeCondition;
     private static final long serialVersionUID = -5204822157837756706L;
+    /**
+     * bean with the attributes of a new bean, used to reset other beans
+     */
+    private static final TradeBean EMPTY = new TradeBean();
 }
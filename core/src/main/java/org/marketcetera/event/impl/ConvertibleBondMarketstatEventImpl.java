@@ -276,7 +276,7 @@ public class ConvertibleBondMarketstatEventImpl
                                        ConvertibleBondBean inConvertibleBond)
     {
         super(inMarketstat);
-        bond = inConvertibleBond;
+        bond = ConvertibleBondBean.copy(inConvertibleBond);
         bond.validate();
     }
     /**
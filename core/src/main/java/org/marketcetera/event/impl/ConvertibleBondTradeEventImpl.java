@@ -272,7 +272,7 @@ public class ConvertibleBondTradeEventImpl
                                   ConvertibleBondBean inConvertibleBond)
     {
         super(inTradeData);
-        convertibleBond = inConvertibleBond;
+        convertibleBond = ConvertibleBondBean.copy(inConvertibleBond);
         convertibleBond.validate();
     }
     /* (non-Javadoc)
@@ -64,7 +64,7 @@ public class CurrencyMarketstatEventImpl
                                 CurrencyBean inCurrency)
     {
         super(inMarketstat);
-        currency = inCurrency;
+        currency = CurrencyBean.copy(inCurrency);
         currency.validate();
     }
     /**
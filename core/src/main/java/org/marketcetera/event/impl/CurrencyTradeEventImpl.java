@@ -59,7 +59,7 @@ public class CurrencyTradeEventImpl
                            CurrencyBean inCurrency)
     {
         super(inTradeData);
-        currency = inCurrency;
+        currency = CurrencyBean.copy(inCurrency);
         currency.validate();
     }
     /* (non-Javadoc)
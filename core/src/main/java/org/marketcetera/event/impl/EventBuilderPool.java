@@ -0,0 +1,499 @@
+package org.marketcetera.event.impl;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.Messages;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+/* $License$ */
+
+/**
+ * Provides reusable market data event builders for high-rate feed translators.
+ *
+ * <p>Builders are pooled per thread. A builder acquired from this class belongs to the acquiring
+ * thread until it is returned with {@link #release(Object)} or, at the end of a unit of work such as
+ * the translation of one feed message, with {@link #releaseAll()}. A released builder is reset to the
+ * attributes of a new builder before it is handed out again. Events created by a builder are
+ * independent of it and remain valid after the builder is released; events themselves are never
+ * recycled because they are retained by order books and data flows.
+ *
+ * <p>Pooling is off unless enabled with the <code>org.marketcetera.event.builderPool</code> system
+ * property or {@link #setEnabled(boolean)}. While pooling is off, each acquisition creates a new
+ * builder and releasing a builder does nothing, so callers may use this class unconditionally.
+ *
+ * <p>Builders that are acquired but never released are leaks. When a thread holds more than
+ * {@link #LEAK_THRESHOLD} unreleased builders, the pool logs a warning and stops tracking them. If
+ * leak detection is on, either with the <code>org.marketcetera.event.builderPool.leakDetection</code>
+ * system property or by enabling debug logging for this class, the warning includes the location
+ * at which the oldest of those builders was acquired.
+ *
+ * <p>The number of builders created, reused, released, and leaked is reported to the {@link MetricService}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class EventBuilderPool
+{
+    /**
+     * Indicates if builders are pooled.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+    /**
+     * Sets whether builders are pooled.
+     *
+     * <p>Builders acquired before pooling is disabled may still be released.
+     *
+     * @param inEnabled a <code>boolean</code> value
+     */
+    public static void setEnabled(boolean inEnabled)
+    {
+        enabled = inEnabled;
+    }
+    /**
+     * Acquires a <code>QuoteEventBuilder</code> suitable for constructing a new <code>BidEvent</code> for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>QuoteEventBuilder&lt;BidEvent&gt;</code> value
+     * @throws UnsupportedOperationException if the asset class of the given instrument isn't supported
+     * @see QuoteEventBuilder#bidEvent(Instrument)
+     */
+    @SuppressWarnings("unchecked")
+    public static QuoteEventBuilder<BidEvent> bidEvent(Instrument inInstrument)
+    {
+        return ((QuoteEventBuilder<BidEvent>)acquire(Kind.BID,
+                                                     inInstrument)).withInstrument(inInstrument);
+    }
+    /**
+     * Acquires a <code>QuoteEventBuilder</code> suitable for constructing a new <code>AskEvent</code> for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>QuoteEventBuilder&lt;AskEvent&gt;</code> value
+     * @throws UnsupportedOperationException if the asset class of the given instrument isn't supported
+     * @see QuoteEventBuilder#askEvent(Instrument)
+     */
+    @SuppressWarnings("unchecked")
+    public static QuoteEventBuilder<AskEvent> askEvent(Instrument inInstrument)
+    {
+        return ((QuoteEventBuilder<AskEvent>)acquire(Kind.ASK,
+                                                     inInstrument)).withInstrument(inInstrument);
+    }
+    /**
+     * Acquires a <code>TradeEventBuilder</code> suitable for constructing a new <code>TradeEvent</code> for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>TradeEventBuilder&lt;TradeEvent&gt;</code> value
+     * @throws UnsupportedOperationException if the asset class of the given instrument isn't supported
+     * @see TradeEventBuilder#tradeEvent(Instrument)
+     */
+    @SuppressWarnings("unchecked")
+    public static TradeEventBuilder<TradeEvent> tradeEvent(Instrument inInstrument)
+    {
+        return ((TradeEventBuilder<TradeEvent>)acquire(Kind.TRADE,
+                                                       inInstrument)).withInstrument(inInstrument);
+    }
+    /**
+     * Acquires a <code>MarketstatEventBuilder</code> suitable for constructing a new <code>MarketstatEvent</code> for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>MarketstatEventBuilder</code> value
+     * @throws UnsupportedOperationException if the asset class of the given instrument isn't supported
+     * @see MarketstatEventBuilder#marketstat(Instrument)
+     */
+    public static MarketstatEventBuilder marketstat(Instrument inInstrument)
+    {
+        return ((MarketstatEventBuilder)acquire(Kind.MARKETSTAT,
+                                                inInstrument)).withInstrument(inInstrument);
+    }
+    /**
+     * Returns the given builder, acquired by the current thread, to the pool.
+     *
+     * <p>Builders that were not acquired from the pool by the current thread or that have already been
+     * released are ignored.
+     *
+     * @param inBuilder an <code>Object</code> value containing a builder or <code>null</code>
+     */
+    public static void release(Object inBuilder)
+    {
+        if(inBuilder == null) {
+            return;
+        }
+        builders.get().release(inBuilder);
+    }
+    /**
+     * Returns all the builders acquired by the current thread to the pool.
+     *
+     * <p>Feed translators should call this method at the end of each unit of work, typically in a
+     * <code>finally</code> block.
+     */
+    public static void releaseAll()
+    {
+        builders.get().releaseAll();
+    }
+    /**
+     * Gets the number of builders acquired and not yet released by the current thread.
+     *
+     * @return an <code>int</code> value
+     */
+    public static int getInUseCount()
+    {
+        return builders.get().inUse.size();
+    }
+    /**
+     * Acquires a builder of the given kind for the given instrument.
+     *
+     * @param inKind a <code>Kind</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>Object</code> value containing the builder
+     * @throws IllegalArgumentException if the instrument is <code>null</code>
+     * @throws UnsupportedOperationException if the asset class of the given instrument isn't supported
+     */
+    private static Object acquire(Kind inKind,
+                                  Instrument inInstrument)
+    {
+        Validate.notNull(inInstrument);
+        if(!enabled) {
+            createdMeter.mark();
+            return inKind.create(inInstrument);
+        }
+        return builders.get().acquire(inKind,
+                                      inInstrument);
+    }
+    /**
+     * Indicates the kind of builder.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private enum Kind
+    {
+        BID {
+            @Override
+            Object create(Instrument inInstrument)
+            {
+                return QuoteEventBuilder.bidEvent(inInstrument);
+            }
+            @Override
+            void reset(Object inBuilder)
+            {
+                ((QuoteEventBuilder<?>)inBuilder).reset();
+            }
+        },
+        ASK {
+            @Override
+            Object create(Instrument inInstrument)
+            {
+                return QuoteEventBuilder.askEvent(inInstrument);
+            }
+            @Override
+            void reset(Object inBuilder)
+            {
+                ((QuoteEventBuilder<?>)inBuilder).reset();
+            }
+        },
+        TRADE {
+            @Override
+            Object create(Instrument inInstrument)
+            {
+                return TradeEventBuilder.tradeEvent(inInstrument);
+            }
+            @Override
+            void reset(Object inBuilder)
+            {
+                ((TradeEventBuilder<?>)inBuilder).reset();
+            }
+        },
+        MARKETSTAT {
+            @Override
+            Object create(Instrument inInstrument)
+            {
+                return MarketstatEventBuilder.marketstat(inInstrument);
+            }
+            @Override
+            void reset(Object inBuilder)
+            {
+                ((MarketstatEventBuilder)inBuilder).reset();
+            }
+        };
+        /**
+         * Creates a new builder of this kind for the given instrument.
+         *
+         * @param inInstrument an <code>Instrument</code> value
+         * @return an <code>Object</code> value containing the builder
+         */
+        abstract Object create(Instrument inInstrument);
+        /**
+         * Resets the given builder of this kind.
+         *
+         * @param inBuilder an <code>Object</code> value containing the builder
+         */
+        abstract void reset(Object inBuilder);
+    }
+    /**
+     * Records a builder that has been acquired and not yet released.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Lease
+    {
+        /**
+         * Create a new Lease instance.
+         *
+         * @param inBuilder an <code>Object</code> value
+         * @param inKind a <code>Kind</code> value
+         * @param inInstrumentType a <code>Class&lt;?&gt;</code> value
+         * @param inAcquiredAt a <code>Throwable</code> value or <code>null</code>
+         */
+        private Lease(Object inBuilder,
+                      Kind inKind,
+                      Class<?> inInstrumentType,
+                      Throwable inAcquiredAt)
+        {
+            builder = inBuilder;
+            kind = inKind;
+            instrumentType = inInstrumentType;
+            acquiredAt = inAcquiredAt;
+        }
+        /**
+         * the builder
+         */
+        private final Object builder;
+        /**
+         * the kind of the builder
+         */
+        private final Kind kind;
+        /**
+         * the type of instrument the builder was created for
+         */
+        private final Class<?> instrumentType;
+        /**
+         * the location at which the builder was acquired or <code>null</code> if leak detection was off
+         */
+        private final Throwable acquiredAt;
+    }
+    /**
+     * Holds the builders of a single thread.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @NotThreadSafe
+    private static class ThreadBuilders
+    {
+        /**
+         * Acquires a builder of the given kind for the given instrument.
+         *
+         * @param inKind a <code>Kind</code> value
+         * @param inInstrument an <code>Instrument</code> value
+         * @return an <code>Object</code> value containing the builder
+         */
+        private Object acquire(Kind inKind,
+                               Instrument inInstrument)
+        {
+            Class<?> instrumentType = inInstrument.getClass();
+            Deque<Object> pool = getPool(inKind,
+                                         instrumentType);
+            Object builder = pool.pollFirst();
+            if(builder == null) {
+                builder = inKind.create(inInstrument);
+                createdMeter.mark();
+            } else {
+                reusedMeter.mark();
+            }
+            if(inUse.size() >= LEAK_THRESHOLD) {
+                abandon();
+            }
+            inUse.add(new Lease(builder,
+                                inKind,
+                                instrumentType,
+                                isLeakDetectionEnabled() ? new Throwable() : null));
+            return builder;
+        }
+        /**
+         * Returns the given builder to its pool.
+         *
+         * @param inBuilder an <code>Object</code> value
+         */
+        private void release(Object inBuilder)
+        {
+            // builders are usually released in the reverse order of acquisition
+            for(int i=inUse.size()-1;i>=0;i--) {
+                Lease lease = inUse.get(i);
+                if(lease.builder == inBuilder) {
+                    inUse.remove(i);
+                    recycle(lease);
+                    return;
+                }
+            }
+        }
+        /**
+         * Returns all acquired builders to their pools.
+         */
+        private void releaseAll()
+        {
+            for(Lease lease : inUse) {
+                recycle(lease);
+            }
+            inUse.clear();
+        }
+        /**
+         * Resets the builder of the given lease and returns it to its pool if the pool has room.
+         *
+         * @param inLease a <code>Lease</code> value
+         */
+        private void recycle(Lease inLease)
+        {
+            releasedCounter.inc();
+            Deque<Object> pool = getPool(inLease.kind,
+                                         inLease.instrumentType);
+            if(pool.size() < MAX_POOLED_BUILDERS) {
+                inLease.kind.reset(inLease.builder);
+                pool.addFirst(inLease.builder);
+            }
+        }
+        /**
+         * Stops tracking the acquired builders, which have not been released.
+         */
+        private void abandon()
+        {
+            leakedCounter.inc(inUse.size());
+            Messages.EVENT_BUILDER_LEAK.warn(EventBuilderPool.class,
+                                             inUse.get(0).acquiredAt,
+                                             inUse.size(),
+                                             Thread.currentThread().getName());
+            inUse.clear();
+        }
+        /**
+         * Gets the pool of free builders of the given kind and instrument type.
+         *
+         * @param inKind a <code>Kind</code> value
+         * @param inInstrumentType a <code>Class&lt;?&gt;</code> value
+         * @return a <code>Deque&lt;Object&gt;</code> value
+         */
+        private Deque<Object> getPool(Kind inKind,
+                                      Class<?> inInstrumentType)
+        {
+            Map<Class<?>,Deque<Object>> poolsByInstrumentType = pools.get(inKind);
+            if(poolsByInstrumentType == null) {
+                poolsByInstrumentType = new HashMap<Class<?>,Deque<Object>>();
+                pools.put(inKind,
+                          poolsByInstrumentType);
+            }
+            Deque<Object> pool = poolsByInstrumentType.get(inInstrumentType);
+            if(pool == null) {
+                pool = new ArrayDeque<Object>();
+                poolsByInstrumentType.put(inInstrumentType,
+                                          pool);
+            }
+            return pool;
+        }
+        /**
+         * free builders by instrument type by kind
+         */
+        private final Map<Kind,Map<Class<?>,Deque<Object>>> pools = new EnumMap<Kind,Map<Class<?>,Deque<Object>>>(Kind.class);
+        /**
+         * builders acquired and not yet released in the order of acquisition
+         */
+        private final List<Lease> inUse = new ArrayList<Lease>();
+    }
+    /**
+     * Indicates if the location at which each builder is acquired should be recorded.
+     *
+     * @return a <code>boolean</code> value
+     */
+    private static boolean isLeakDetectionEnabled()
+    {
+        return LEAK_DETECTION || SLF4JLoggerProxy.isDebugEnabled(EventBuilderPool.class);
+    }
+    /**
+     * system property used to enable pooling
+     */
+    public static final String ENABLED_KEY = "org.marketcetera.event.builderPool"; //$NON-NLS-1$
+    /**
+     * system property used to enable leak detection
+     */
+    public static final String LEAK_DETECTION_KEY = "org.marketcetera.event.builderPool.leakDetection"; //$NON-NLS-1$
+    /**
+     * number of unreleased builders a thread may hold before they are considered leaked
+     */
+    public static final int LEAK_THRESHOLD = 1024;
+    /**
+     * maximum number of free builders held per kind and instrument type per thread
+     */
+    public static final int MAX_POOLED_BUILDERS = 16;
+    /**
+     * indicates if leak detection is enabled by system property
+     */
+    private static final boolean LEAK_DETECTION = Boolean.getBoolean(LEAK_DETECTION_KEY);
+    /**
+     * indicates if builders are pooled
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_KEY);
+    /**
+     * builders of each thread
+     */
+    private static final ThreadLocal<ThreadBuilders> builders = new ThreadLocal<ThreadBuilders>() {
+        @Override
+        protected ThreadBuilders initialValue()
+        {
+            return new ThreadBuilders();
+        }
+    };
+    /**
+     * metrics for all pools
+     */
+    private static final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * rate at which new builders are created
+     */
+    private static final Meter createdMeter = metrics.meter(name(EventBuilderPool.class,
+                                                                 "created")); //$NON-NLS-1$
+    /**
+     * rate at which pooled builders are reused
+     */
+    private static final Meter reusedMeter = metrics.meter(name(EventBuilderPool.class,
+                                                                "reused")); //$NON-NLS-1$
+    /**
+     * number of builders released
+     */
+    private static final Counter releasedCounter = metrics.counter(name(EventBuilderPool.class,
+                                                                        "released")); //$NON-NLS-1$
+    /**
+     * number of builders acquired and never released
+     */
+    private static final Counter leakedCounter = metrics.counter(name(EventBuilderPool.class,
+                                                                      "leaked")); //$NON-NLS-1$
+}
@@ -98,7 +98,7 @@ public class FutureMarketstatEventImpl
                               FutureBean inFuture)
     {
         super(inMarketstat);
-        future = inFuture;
+        future = FutureBean.copy(inFuture);
         future.validate();
     }
     /**
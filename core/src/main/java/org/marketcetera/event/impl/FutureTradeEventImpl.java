@@ -106,7 +106,7 @@ public class FutureTradeEventImpl
                          FutureBean inFuture)
     {
         super(inTradeData);
-        future = inFuture;
+        future = FutureBean.copy(inFuture);
         future.validate();
     }
     /* (non-Javadoc)
@@ -809,6 +809,21 @@ public abstract class MarketstatEventBuilder
                              future,
                              convertibleBond);
     }
+    /**
+     * Resets the attributes of this builder to those of a new builder so that it can be reused.
+     *
+     * <p>Events already created by this builder are not affected.
+     */
+    void reset()
+    {
+        MarketstatBean.reset(marketstat);
+        OptionBean.reset(option);
+        FutureBean.reset(future);
+        CurrencyBean.reset(currency);
+        ConvertibleBondBean.reset(convertibleBond);
+        volumeChange = null;
+        interestChange = null;
+    }
     /**
      * Get the marketstat value.
      *
@@ -26,6 +26,7 @@ import org.marketcetera.event.beans.CurrencyBean;
 import org.marketcetera.event.beans.FutureBean;
 import org.marketcetera.event.beans.OptionBean;
 import org.marketcetera.event.beans.QuoteBean;
+import org.marketcetera.event.util.MarketDataScales;
 import org.marketcetera.options.ExpirationType;
 import org.marketcetera.trade.ConvertibleBond;
 import org.marketcetera.trade.Currency;
@@ -645,6 +646,17 @@ public abstract class QuoteEventBuilder<E extends QuoteEvent>
         quote.setTimestamp(inTimestamp);
         return this;
     }
+    /**
+     * Sets the timestamp value to use with the new event as nanoseconds since the epoch.
+     *
+     * @param inTimestampNanos a <code>long</code> value
+     * @return a <code>QuoteEventBuilder&lt;E&gt;</code> value
+     */
+    public QuoteEventBuilder<E> withTimestampNanos(long inTimestampNanos)
+    {
+        quote.setTimestampNanos(inTimestampNanos);
+        return this;
+    }
     /**
      * Sets the processed timestamp value to use with the new event.
      *
@@ -726,6 +738,23 @@ public abstract class QuoteEventBuilder<E extends QuoteEvent>
         quote.setPrice(inPrice);
         return this;
     }
+    /**
+     * Sets the price value in fixed-point form.
+     * 
+     * <p>The price is <code>inUnscaledPrice</code> &times; 10<sup>-<code>inScale</code></sup>.
+     * The <code>BigDecimal</code> price is created only if it is requested.
+     *
+     * @param inUnscaledPrice a <code>long</code> value
+     * @param inScale an <code>int</code> value, usually {@link MarketDataScales#getPriceScale(Instrument)}
+     * @return a <code>QuoteEventBuilder&lt;E&gt;</code> value
+     */
+    public QuoteEventBuilder<E> withPrice(long inUnscaledPrice,
+                                          int inScale)
+    {
+        quote.setPrice(inUnscaledPrice,
+                       inScale);
+        return this;
+    }
     /**
      * Set the count value.
      *
@@ -759,6 +788,23 @@ public abstract class QuoteEventBuilder<E extends QuoteEvent>
         quote.setSize(inSize);
         return this;
     }
+    /**
+     * Sets the size value in fixed-point form.
+     * 
+     * <p>The size is <code>inUnscaledSize</code> &times; 10<sup>-<code>inScale</code></sup>.
+     * The <code>BigDecimal</code> size is created only if it is requested.
+     *
+     * @param inUnscaledSize a <code>long</code> value
+     * @param inScale an <code>int</code> value, usually {@link MarketDataScales#getSizeScale(Instrument)}
+     * @return a <code>QuoteEventBuilder&lt;E&gt;</code> value
+     */
+    public QuoteEventBuilder<E> withSize(long inUnscaledSize,
+                                         int inScale)
+    {
+        quote.setSize(inUnscaledSize,
+                      inScale);
+        return this;
+    }
     /**
      * Sets the exchange value.
      *
@@ -781,6 +827,19 @@ public abstract class QuoteEventBuilder<E extends QuoteEvent>
         quote.setExchangeTimestamp(inQuoteDate);
         return this;
     }
+    /**
+     * Sets the quoteDate value as nanoseconds since the epoch.
+     * 
+     * <p>The <code>Date</code> value is created only if it is requested.
+     *
+     * @param inQuoteDateNanos a <code>long</code> value
+     * @return a <code>QuoteEventBuilder&lt;E&gt;</code> value
+     */
+    public QuoteEventBuilder<E> withQuoteDateNanos(long inQuoteDateNanos)
+    {
+        quote.setExchangeTimestampNanos(inQuoteDateNanos);
+        return this;
+    }
     /**
      * Sets the quote action value. 
      *
@@ -1169,6 +1228,19 @@ public abstract class QuoteEventBuilder<E extends QuoteEvent>
                              future,
                              convertibleBond);
     }
+    /**
+     * Resets the attributes of this builder to those of a new builder so that it can be reused.
+     *
+     * <p>Events already created by this builder are not affected.
+     */
+    void reset()
+    {
+        QuoteBean.reset(quote);
+        OptionBean.reset(option);
+        FutureBean.reset(future);
+        CurrencyBean.reset(currency);
+        ConvertibleBondBean.reset(convertibleBond);
+    }
     /**
      * Get the quote value.
      *
@@ -18,6 +18,7 @@ import org.marketcetera.event.beans.CurrencyBean;
 import org.marketcetera.event.beans.FutureBean;
 import org.marketcetera.event.beans.OptionBean;
 import org.marketcetera.event.beans.TradeBean;
+import org.marketcetera.event.util.MarketDataScales;
 import org.marketcetera.options.ExpirationType;
 import org.marketcetera.trade.ConvertibleBond;
 import org.marketcetera.trade.Currency;
@@ -214,6 +215,17 @@ public abstract class TradeEventBuilder<E extends TradeEvent>
         tradeData.setTimestamp(inTimestamp);
         return this;
     }
+    /**
+     * Sets the timestamp value to use with the new event as nanoseconds since the epoch.
+     *
+     * @param inTimestampNanos a <code>long</code> value
+     * @return a <code>TradeEventBuilder</code> value
+     */
+    public TradeEventBuilder<E> withTimestampNanos(long inTimestampNanos)
+    {
+        tradeData.setTimestampNanos(inTimestampNanos);
+        return this;
+    }
     /**
      * Sets the processed timestamp value to use with the new event.
      *
@@ -306,6 +318,23 @@ public abstract class TradeEventBuilder<E extends TradeEvent>
         tradeData.setPrice(inPrice);
         return this;
     }
+    /**
+     * Sets the price value in fixed-point form.
+     * 
+     * <p>The price is <code>inUnscaledPrice</code> &times; 10<sup>-<code>inScale</code></sup>.
+     * The <code>BigDecimal</code> price is created only if it is requested.
+     *
+     * @param inUnscaledPrice a <code>long</code> value
+     * @param inScale an <code>int</code> value, usually {@link MarketDataScales#getPriceScale(Instrument)}
+     * @return a <code>TradeEventBuilder</code> value
+     */
+    public TradeEventBuilder<E> withPrice(long inUnscaledPrice,
+                                          int inScale)
+    {
+        tradeData.setPrice(inUnscaledPrice,
+                           inScale);
+        return this;
+    }
     /**
      * Sets the size value.
      *
@@ -317,6 +346,23 @@ public abstract class TradeEventBuilder<E extends TradeEvent>
         tradeData.setSize(inSize);
         return this;
     }
+    /**
+     * Sets the size value in fixed-point form.
+     * 
+     * <p>The size is <code>inUnscaledSize</code> &times; 10<sup>-<code>inScale</code></sup>.
+     * The <code>BigDecimal</code> size is created only if it is requested.
+     *
+     * @param inUnscaledSize a <code>long</code> value
+     * @param inScale an <code>int</code> value, usually {@link MarketDataScales#getSizeScale(Instrument)}
+     * @return a <code>TradeEventBuilder</code> value
+     */
+    public TradeEventBuilder<E> withSize(long inUnscaledSize,
+                                         int inScale)
+    {
+        tradeData.setSize(inUnscaledSize,
+                          inScale);
+        return this;
+    }
     /**
      * Sets the exchange value.
      *
@@ -339,6 +385,19 @@ public abstract class TradeEventBuilder<E extends TradeEvent>
         tradeData.setExchangeTimestamp(inTradeDate);
         return this;
     }
+    /**
+     * Sets the tradeDate value as nanoseconds since the epoch.
+     * 
+     * <p>The <code>Date</code> value is created only if it is requested.
+     *
+     * @param inTradeDateNanos a <code>long</code> value
+     * @return a <code>TradeEventBuilder</code> value
+     */
+    public TradeEventBuilder<E> withTradeDateNanos(long inTradeDateNanos)
+    {
+        tradeData.setExchangeTimestampNanos(inTradeDateNanos);
+        return this;
+    }
     /**
      * Sets the underlyingInstrument value.
      *
@@ -726,6 +785,19 @@ public abstract class TradeEventBuilder<E extends TradeEvent>
                              future,
                              convertibleBond);
     }
+    /**
+     * Resets the attributes of this builder to those of a new builder so that it can be reused.
+     *
+     * <p>Events already created by this builder are not affected.
+     */
+    void reset()
+    {
+        TradeBean.reset(tradeData);
+        OptionBean.reset(option);
+        FutureBean.reset(future);
+        CurrencyBean.reset(currency);
+        ConvertibleBondBean.reset(convertibleBond);
+    }
     /**
      * Get the tradeData value.
      *
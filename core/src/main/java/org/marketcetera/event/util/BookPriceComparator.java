@@ -54,7 +54,8 @@ public final class BookPriceComparator
             return 0;
         }
         // the first key is price, either ascending or descending
-        int result = inO1.getPrice().compareTo(inO2.getPrice());
+        int result = EventServices.comparePrices(inO1,
+                                                 inO2);
         if(result == 0) {
             // prices are equal
             // secondary sort should be on the timestamp
@@ -3,7 +3,10 @@ package org.marketcetera.event.util;
 import javax.annotation.concurrent.Immutable;
 
 import org.marketcetera.event.Event;
+import org.marketcetera.event.MarketDataEvent;
+import org.marketcetera.event.beans.EventBean;
 import org.marketcetera.event.beans.HasEventBean;
+import org.marketcetera.event.beans.MarketDataBean;
 import org.marketcetera.util.log.I18NBoundMessage;
 import org.marketcetera.util.misc.ClassVersion;
 
@@ -93,6 +96,66 @@ public final class EventServices
         result = prime * result + ((inEventBean == null || inEventBean.getEventBean() == null) ? 0 : (int)(inEventBean.getEventBean().getMessageId() ^ (inEventBean.getEventBean().getMessageId() >>> 32)));
         return result;
     }
+    /**
+     * Compares the prices of the given events.
+     * 
+     * <p>If both events carry their price in fixed-point form with the same
+     * scale, the prices are compared without creating <code>BigDecimal</code> values.
+     *
+     * @param inEvent1 a <code>MarketDataEvent</code> value
+     * @param inEvent2 a <code>MarketDataEvent</code> value
+     * @return an <code>int</code> value less than, equal to, or greater than zero as the first price is less than, equal to, or greater than the second
+     */
+    public static int comparePrices(MarketDataEvent inEvent1,
+                                    MarketDataEvent inEvent2)
+    {
+        MarketDataBean bean1 = getMarketDataBean(inEvent1);
+        MarketDataBean bean2 = getMarketDataBean(inEvent2);
+        if(bean1 != null &&
+           bean2 != null) {
+            return MarketDataBean.comparePrices(bean1,
+                                                bean2);
+        }
+        return inEvent1.getPrice().compareTo(inEvent2.getPrice());
+    }
+    /**
+     * Compares the sizes of the given events.
+     * 
+     * <p>If both events carry their size in fixed-point form with the same
+     * scale, the sizes are compared without creating <code>BigDecimal</code> values.
+     *
+     * @param inEvent1 a <code>MarketDataEvent</code> value
+     * @param inEvent2 a <code>MarketDataEvent</code> value
+     * @return an <code>int</code> value less than, equal to, or greater than zero as the first size is less than, equal to, or greater than the second
+     */
+    public static int compareSizes(MarketDataEvent inEvent1,
+                                   MarketDataEvent inEvent2)
+    {
+        MarketDataBean bean1 = getMarketDataBean(inEvent1);
+        MarketDataBean bean2 = getMarketDataBean(inEvent2);
+        if(bean1 != null &&
+           bean2 != null) {
+            return MarketDataBean.compareSizes(bean1,
+                                               bean2);
+        }
+        return inEvent1.getSize().compareTo(inEvent2.getSize());
+    }
+    /**
+     * Gets the <code>MarketDataBean</code> that backs the given event, if any.
+     *
+     * @param inEvent a <code>MarketDataEvent</code> value
+     * @return a <code>MarketDataBean</code> value or <code>null</code>
+     */
+    private static MarketDataBean getMarketDataBean(MarketDataEvent inEvent)
+    {
+        if(inEvent instanceof HasEventBean) {
+            EventBean bean = ((HasEventBean)inEvent).getEventBean();
+            if(bean instanceof MarketDataBean) {
+                return (MarketDataBean)bean;
+            }
+        }
+        return null;
+    }
     /**
      * Create a new EventValidationServices instance.
      */
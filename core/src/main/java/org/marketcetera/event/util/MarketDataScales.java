@@ -0,0 +1,175 @@
+package org.marketcetera.event.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.event.beans.MarketDataBean;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Holds the fixed-point scales used to encode prices and sizes of market data events for each instrument.
+ *
+ * <p>Market data sources that build events in fixed-point form should use the same scales for all
+ * events of an instrument so that comparisons between those events, for example in an order book,
+ * need not create <code>BigDecimal</code> values.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class MarketDataScales
+{
+    /**
+     * Gets the <code>MarketDataScales</code> instance.
+     *
+     * @return a <code>MarketDataScales</code> value
+     */
+    public static MarketDataScales getInstance()
+    {
+        return instance;
+    }
+    /**
+     * Gets the price scale for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>int</code> value
+     */
+    public int getPriceScale(Instrument inInstrument)
+    {
+        int[] scales = scalesByInstrument.get(inInstrument);
+        return scales == null ? DEFAULT_PRICE_SCALE : scales[0];
+    }
+    /**
+     * Gets the size scale for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>int</code> value
+     */
+    public int getSizeScale(Instrument inInstrument)
+    {
+        int[] scales = scalesByInstrument.get(inInstrument);
+        return scales == null ? DEFAULT_SIZE_SCALE : scales[1];
+    }
+    /**
+     * Sets the price and size scales for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inPriceScale an <code>int</code> value
+     * @param inSizeScale an <code>int</code> value
+     * @throws IllegalArgumentException if the instrument is <code>null</code> or a scale is negative
+     */
+    public void setScales(Instrument inInstrument,
+                          int inPriceScale,
+                          int inSizeScale)
+    {
+        Validate.notNull(inInstrument);
+        Validate.isTrue(inPriceScale >= 0);
+        Validate.isTrue(inSizeScale >= 0);
+        scalesByInstrument.put(inInstrument,
+                               new int[] { inPriceScale, inSizeScale });
+    }
+    /**
+     * Removes the scales for the given instrument so that the default scales apply.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     */
+    public void clearScales(Instrument inInstrument)
+    {
+        scalesByInstrument.remove(inInstrument);
+    }
+    /**
+     * Sets the price of the given bean in fixed-point form using the price scale of its instrument.
+     *
+     * <p>If the price cannot be represented exactly at that scale, the <code>BigDecimal</code>
+     * value is stored instead.
+     *
+     * @param inBean a <code>MarketDataBean</code> value with its instrument set
+     * @param inPrice a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public void setPrice(MarketDataBean inBean,
+                         BigDecimal inPrice)
+    {
+        int scale = getPriceScale(inBean.getInstrument());
+        Long unscaledPrice = toUnscaled(inPrice,
+                                        scale);
+        if(unscaledPrice == null) {
+            inBean.setPrice(inPrice);
+        } else {
+            inBean.setPrice(unscaledPrice,
+                            scale);
+        }
+    }
+    /**
+     * Sets the size of the given bean in fixed-point form using the size scale of its instrument.
+     *
+     * <p>If the size cannot be represented exactly at that scale, the <code>BigDecimal</code>
+     * value is stored instead.
+     *
+     * @param inBean a <code>MarketDataBean</code> value with its instrument set
+     * @param inSize a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public void setSize(MarketDataBean inBean,
+                        BigDecimal inSize)
+    {
+        int scale = getSizeScale(inBean.getInstrument());
+        Long unscaledSize = toUnscaled(inSize,
+                                       scale);
+        if(unscaledSize == null) {
+            inBean.setSize(inSize);
+        } else {
+            inBean.setSize(unscaledSize,
+                           scale);
+        }
+    }
+    /**
+     * Converts the given value to an unscaled value at the given scale.
+     *
+     * @param inValue a <code>BigDecimal</code> value or <code>null</code>
+     * @param inScale an <code>int</code> value
+     * @return a <code>Long</code> value or <code>null</code> if the value is <code>null</code> or cannot be represented exactly
+     */
+    private static Long toUnscaled(BigDecimal inValue,
+                                   int inScale)
+    {
+        if(inValue == null) {
+            return null;
+        }
+        BigInteger unscaledValue;
+        try {
+            // throws if the value has more digits after the point than the scale allows
+            unscaledValue = inValue.setScale(inScale).unscaledValue();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        if(unscaledValue.bitLength() > 63) {
+            return null;
+        }
+        return unscaledValue.longValue();
+    }
+    /**
+     * the default scale for prices
+     */
+    public static final int DEFAULT_PRICE_SCALE = 6;
+    /**
+     * the default scale for sizes
+     */
+    public static final int DEFAULT_SIZE_SCALE = 4;
+    /**
+     * price and size scales by instrument
+     */
+    private final ConcurrentMap<Instrument,int[]> scalesByInstrument = new ConcurrentHashMap<Instrument,int[]>();
+    /**
+     * the instance to use
+     */
+    private static final MarketDataScales instance = new MarketDataScales();
+}
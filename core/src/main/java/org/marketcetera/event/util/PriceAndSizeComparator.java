@@ -13,7 +13,9 @@ import org.marketcetera.util.misc.ClassVersion;
  * Compares two <code>QuoteEvent</code> values based on their price and size
  * only.
  * 
- * <p>Price is compared first, followed by size, if necessary.
+ * <p>Price is compared first, followed by size, if necessary.  Events
+ * that carry their values in fixed-point form are compared without creating
+ * <code>BigDecimal</code> values.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -39,10 +41,12 @@ public class PriceAndSizeComparator
             return 0;
         }
         int result;
-        if((result = inO1.getPrice().compareTo(inO2.getPrice())) != 0) {
+        if((result = EventServices.comparePrices(inO1,
+                                                 inO2)) != 0) {
             return result;
         }
-        return inO1.getSize().compareTo(inO2.getSize());
+        return EventServices.compareSizes(inO1,
+                                          inO2);
     }
     /**
      * Create a new PriceAndSizeComparator instance.
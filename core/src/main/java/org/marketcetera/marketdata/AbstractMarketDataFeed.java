@@ -23,6 +23,7 @@ import org.marketcetera.event.Event;
 import org.marketcetera.event.EventTranslator;
 import org.marketcetera.event.HasTimestamps;
 import org.marketcetera.marketdata.MarketDataFeedToken.Status;
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.metrics.ConditionsFactory;
 import org.marketcetera.metrics.ThreadedMetric;
 import org.marketcetera.util.log.I18NBoundMessage1P;
@@ -119,6 +120,10 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
      */
     private static final Callable<Boolean> PUBLISHING_CONDITION = ConditionsFactory.createSamplingCondition(100,
                                                                                                             "metc.metrics.marketdata.sampling.interval");  //$NON-NLS-1$
+    /**
+     * records the latency of translating data received from the feed into events
+     */
+    private static final CheckpointLatency.Stage TRANSLATED_STAGE = CheckpointLatency.stage("mdata-translated"); //$NON-NLS-1$
     /**
      * Indicates if the feed is allowed to simulate market data if the normal source is not
      * available.
@@ -518,6 +523,7 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
                                       Object inData)
     {
         ThreadedMetric.begin();
+        CheckpointLatency.begin();
         try {
             MarketDataHandle mdHandle = compose(inHandle);
             T token = mHandleHolder.getToken(mdHandle);
@@ -542,6 +548,7 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
                         }
                     }
                     ThreadedMetric.event("mdata-translated");  //$NON-NLS-1$
+                    CheckpointLatency.checkpoint(TRANSLATED_STAGE);
                     // now publish the complete list of events in the proper order
                     long processedTimestamp = System.currentTimeMillis();
                     for(Event event : actualEvents) {
@@ -563,6 +570,7 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
             }
         } finally {
             ThreadedMetric.end(PUBLISHING_CONDITION);
+            CheckpointLatency.end();
         }
     }
     /*
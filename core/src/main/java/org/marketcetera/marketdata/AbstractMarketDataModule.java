@@ -22,6 +22,7 @@ import org.marketcetera.core.LockHelper;
 import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.event.Event;
 import org.marketcetera.marketdata.IFeedComponent.FeedType;
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.metrics.ThreadedMetric;
 import org.marketcetera.module.DataEmitter;
 import org.marketcetera.module.DataEmitterSupport;
@@ -198,6 +199,7 @@ public abstract class AbstractMarketDataModule<T extends MarketDataFeedToken,
                         });
                     }
                     ThreadedMetric.event("mdata-OUT");  //$NON-NLS-1$
+                    CheckpointLatency.checkpoint(OUT_STAGE);
                     inSupport.send(inEvent);
                 }
             };
@@ -418,4 +420,8 @@ public abstract class AbstractMarketDataModule<T extends MarketDataFeedToken,
      * used to indicate unknown supported asset classes of a provider
      */
     private static final Set<AssetClass> unknownAssetClasses = EnumSet.noneOf(AssetClass.class);
+    /**
+     * records the latency of publishing events from the feed to the module
+     */
+    private static final CheckpointLatency.Stage OUT_STAGE = CheckpointLatency.stage("mdata-OUT"); //$NON-NLS-1$
 }
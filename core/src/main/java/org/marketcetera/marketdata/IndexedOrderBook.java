@@ -0,0 +1,787 @@
+package org.marketcetera.marketdata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang.SystemUtils;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.DepthOfBookEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.DepthOfBookEventBuilder;
+import org.marketcetera.event.impl.TopOfBookEventBuilder;
+import org.marketcetera.event.util.EventServices;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Represents the order book for a given symbol, maintained in price order at all times.
+ *
+ * <p>This book is functionally equivalent to {@link OrderBook}: events are added, changed, and deleted
+ * according to their <code>Action</code> and keyed by their message id, the book is pruned by age, not
+ * by price, when a maximum depth is set, and the views returned are sorted in the same order as
+ * {@link org.marketcetera.event.util.BookPriceComparator}.
+ *
+ * <p>Unlike {@link OrderBook}, each side of the book is kept as a set of sorted price levels with an index
+ * by message id, so that:
+ * <ul>
+ *   <li>adds, changes, and deletes are O(log L) where L is the number of distinct prices on the side</li>
+ *   <li>deletes from a book with a maximum depth are O(1) rather than O(n)</li>
+ *   <li>the best bid and ask are tracked as the book changes, so {@link #getTopOfBook()} does not sort</li>
+ *   <li>the sorted views returned by {@link #getBidBook()} and {@link #getAskBook()} are built by walking the
+ *       price levels only when the side has changed since the last view was requested</li>
+ *   <li>price levels are found with {@link EventServices#comparePrices(org.marketcetera.event.MarketDataEvent, org.marketcetera.event.MarketDataEvent)},
+ *       so events that carry fixed-point prices of the same scale are placed without creating <code>BigDecimal</code> prices</li>
+ * </ul>
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public class IndexedOrderBook
+{
+    /**
+     * Create a new IndexedOrderBook instance with unlimited maximum depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     */
+    public IndexedOrderBook(Instrument inInstrument)
+    {
+        this(inInstrument,
+             OrderBook.UNLIMITED_DEPTH);
+    }
+    /**
+     * Create a new IndexedOrderBook instance with unlimited maximum depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inLenient a <code>boolean</code> value
+     */
+    public IndexedOrderBook(Instrument inInstrument,
+                            boolean inLenient)
+    {
+        this(inInstrument,
+             OrderBook.UNLIMITED_DEPTH,
+             inLenient);
+    }
+    /**
+     * Create a new IndexedOrderBook instance.
+     *
+     * <p>An <code>IndexedOrderBook</code> with a maximum depth will
+     * never grow larger than the specified depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inMaxDepth an <code>int</code> value
+     * @throws IllegalArgumentException if the given depth is invalid
+     */
+    public IndexedOrderBook(Instrument inInstrument,
+                            int inMaxDepth)
+    {
+        this(inInstrument,
+             inMaxDepth,
+             false);
+    }
+    /**
+     * Create a new IndexedOrderBook instance.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inMaxDepth an <code>int</code> value
+     * @param inLenient a <code>boolean</code> value
+     * @throws IllegalArgumentException if the given depth is invalid
+     */
+    public IndexedOrderBook(Instrument inInstrument,
+                            int inMaxDepth,
+                            boolean inLenient)
+    {
+        if(inInstrument == null) {
+            throw new NullPointerException();
+        }
+        OrderBook.validateMaximumBookDepth(inMaxDepth);
+        mInstrument = inInstrument;
+        mAskBook = new BookSide<AskEvent>(inMaxDepth,
+                                          true);
+        mBidBook = new BookSide<BidEvent>(inMaxDepth,
+                                          false);
+        mMaxDepth = inMaxDepth;
+        lenient = inLenient;
+    }
+    /**
+     * Get the instrument value.
+     *
+     * @return an <code>Instrument</code> value
+     */
+    public final Instrument getInstrument()
+    {
+        return mInstrument;
+    }
+    /**
+     * Get the maxDepth value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxDepth()
+    {
+        return mMaxDepth;
+    }
+    /**
+     * Clear the order book.
+     */
+    public void clear()
+    {
+        mAskBook.clear();
+        mBidBook.clear();
+    }
+    /**
+     * Gets the best bid on the book.
+     *
+     * @return a <code>BidEvent</code> value or <code>null</code> if the bid book is empty
+     */
+    public final BidEvent getBestBid()
+    {
+        return mBidBook.getBest();
+    }
+    /**
+     * Gets the best ask on the book.
+     *
+     * @return an <code>AskEvent</code> value or <code>null</code> if the ask book is empty
+     */
+    public final AskEvent getBestAsk()
+    {
+        return mAskBook.getBest();
+    }
+    /**
+     * Gets the {@link TopOfBookEvent} view of the order book.
+     *
+     * @return a <code>TopOfBookEvent</code> value
+     */
+    public final TopOfBookEvent getTopOfBook()
+    {
+        return TopOfBookEventBuilder.topOfBookEvent().withBid(mBidBook.getBest())
+                                                     .withAsk(mAskBook.getBest())
+                                                     .withInstrument(getInstrument())
+                                                     .withTimestamp(new Date()).create();
+    }
+    /**
+     * Returns the {@link DepthOfBookEvent} view of the order book.
+     *
+     * @return a <code>DepthOfBookEvent</code> value
+     */
+    public final DepthOfBookEvent getDepthOfBook()
+    {
+        return DepthOfBookEventBuilder.depthOfBook().withBids(getBidBook())
+                                                    .withAsks(getAskBook())
+                                                    .withInstrument(getInstrument()).create();
+    }
+    /**
+     * Gets the current state of the <code>Bid</code> book.
+     *
+     * <p>The returned list is unmodifiable and is shared between callers until the bid book next changes.
+     *
+     * @return a <code>List&lt;BidEvent&gt;</code> value
+     */
+    public final List<BidEvent> getBidBook()
+    {
+        return mBidBook.getSortedView();
+    }
+    /**
+     * Gets the current state of the <code>Ask</code> book.
+     *
+     * <p>The returned list is unmodifiable and is shared between callers until the ask book next changes.
+     *
+     * @return a <code>List&lt;AskEvent&gt;</code> value
+     */
+    public final List<AskEvent> getAskBook()
+    {
+        return mAskBook.getSortedView();
+    }
+    /**
+     * Processes all the events in the given list.
+     *
+     * @param inEvents a <code>List&lt;Event&gt;</code> value
+     * @return a <code>List&lt;QuoteEvent&gt;</code> value containing the events displaced by the change, may be empty
+     * @throws IllegalArgumentException if any quote in the give list is not a <code>QuoteEvent</code> or the event's symbol does not match the book's symbol
+     */
+    public final List<QuoteEvent> processAll(List<Event> inEvents)
+    {
+        List<QuoteEvent> results = Lists.newArrayList();
+        for(Event quote : inEvents) {
+            if(quote instanceof QuoteEvent) {
+                results.add(process((QuoteEvent)quote));
+            } else {
+                throw new IllegalArgumentException();
+            }
+        }
+        return results;
+    }
+    /**
+     * Processes the given event for the order book.
+     *
+     * <p>An <code>ADD</code> for a message id that is already on the book replaces the existing
+     * event as if it were a <code>CHANGE</code>.
+     *
+     * @param inEvent a <code>QuoteEvent</code> value
+     * @return a <code>QuoteEvent</code> value containing the event displaced by the change or <code>null</code>
+     * @throws IllegalArgumentException if the event's symbol does not match the book's symbol
+     */
+    public final QuoteEvent process(QuoteEvent inEvent)
+    {
+        // make sure the event is valid before proceeding
+        checkEvent(inEvent);
+        SLF4JLoggerProxy.debug(this,
+                               "Received {}\nBook starts at\n{}", //$NON-NLS-1$
+                               inEvent,
+                               this);
+        QuoteEvent eventToReturn = null;
+        if(inEvent instanceof BidEvent) {
+            eventToReturn = process(mBidBook,
+                                    (BidEvent)inEvent);
+        } else if(inEvent instanceof AskEvent) {
+            eventToReturn = process(mAskBook,
+                                    (AskEvent)inEvent);
+        } else if(!inEvent.isEmpty()) {
+            throw new UnsupportedOperationException();
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "Book is now\n{}", //$NON-NLS-1$
+                               this);
+        return eventToReturn;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((mInstrument == null) ? 0 : mInstrument.hashCode());
+        return result;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final IndexedOrderBook other = (IndexedOrderBook) obj;
+        if (mInstrument == null) {
+            if (other.mInstrument != null)
+                return false;
+        } else if (!mInstrument.equals(other.mInstrument))
+            return false;
+        return true;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder book = new StringBuilder();
+        book.append(getInstrument()).append(SystemUtils.LINE_SEPARATOR);
+        book.append(OrderBook.printBook(getBidBook().iterator(),
+                                        getAskBook().iterator(),
+                                        false));
+        return book.toString();
+    }
+    /**
+     * Processes the given event against the given side of the book.
+     *
+     * @param inSide a <code>BookSide&lt;E&gt;</code> value
+     * @param inEvent an <code>E</code> value
+     * @return an <code>E</code> value containing the event displaced by the change or <code>null</code>
+     */
+    private <E extends QuoteEvent> E process(BookSide<E> inSide,
+                                             E inEvent)
+    {
+        if(inEvent.isEmpty()) {
+            SLF4JLoggerProxy.debug(this,
+                                   "{} order book received empty event: {}", //$NON-NLS-1$
+                                   getInstrument(),
+                                   inEvent);
+            inSide.clear();
+            return null;
+        }
+        E eventToReturn = null;
+        switch(inEvent.getAction()) {
+            case ADD :
+                eventToReturn = inSide.add(inEvent);
+                break;
+            case DELETE :
+                inSide.remove(inEvent);
+                break;
+            case CHANGE :
+                inSide.change(inEvent);
+                break;
+            default:
+                throw new UnsupportedOperationException();
+        }
+        inSide.updateLevels();
+        return eventToReturn;
+    }
+    /**
+     * Checks the given event to make sure it is appropriate to add to the book.
+     *
+     * @param inEvent a <code>QuoteEvent</code> value
+     * @throws IllegalArgumentException if the event's symbol does not match the book's symbol
+     */
+    private void checkEvent(QuoteEvent inEvent)
+    {
+        if(!lenient && !inEvent.getInstrument().equals(getInstrument())) {
+            throw new IllegalArgumentException(Messages.INSTRUMENT_DOES_NOT_MATCH_ORDER_BOOK_INSTRUMENT.getText(inEvent.getInstrument(),
+                                                                                                                getInstrument()));
+        }
+    }
+    /**
+     * Holds a single event on one side of the book.
+     *
+     * <p>Each entry is linked into two lists: the list of entries at its price level, in time priority order,
+     * and the list of all entries on the side, in age order.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ClassVersion("$Id$")
+    private static class BookEntry<E extends QuoteEvent>
+    {
+        /**
+         * Create a new BookEntry instance.
+         *
+         * @param inEvent an <code>E</code> value
+         */
+        private BookEntry(E inEvent)
+        {
+            event = inEvent;
+        }
+        /**
+         * the event currently held by this entry
+         */
+        private E event;
+        /**
+         * the price level which holds this entry
+         */
+        private PriceLevel<E> level;
+        /**
+         * the entry ahead of this entry at the same price level
+         */
+        private BookEntry<E> levelPrevious;
+        /**
+         * the entry behind this entry at the same price level
+         */
+        private BookEntry<E> levelNext;
+        /**
+         * the next newer entry on the side
+         */
+        private BookEntry<E> newer;
+        /**
+         * the next older entry on the side
+         */
+        private BookEntry<E> older;
+    }
+    /**
+     * Holds the entries at a single price on one side of the book.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ClassVersion("$Id$")
+    private static class PriceLevel<E extends QuoteEvent>
+    {
+        /**
+         * Create a new PriceLevel instance.
+         *
+         * @param inPriceEvent an <code>E</code> value containing the event which opened this level
+         */
+        private PriceLevel(E inPriceEvent)
+        {
+            priceEvent = inPriceEvent;
+        }
+        /**
+         * the event whose price is the price of this level, also the key of this level on its side
+         */
+        private final E priceEvent;
+        /**
+         * the first entry at this level
+         */
+        private BookEntry<E> head;
+        /**
+         * the last entry at this level
+         */
+        private BookEntry<E> tail;
+    }
+    /**
+     * Stores the orders of one side of a book in price order.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ClassVersion("$Id$")
+    private static class BookSide<E extends QuoteEvent>
+    {
+        /**
+         * Create a new BookSide instance.
+         *
+         * @param inMaxDepth an <code>int</code> value indicating the maximum depth of the book or {@link OrderBook#UNLIMITED_DEPTH} if the book is to have no depth limit
+         * @param inIsAscending a <code>boolean</code> value indicating if the side is sorted by ascending price (asks) or descending price (bids)
+         */
+        private BookSide(int inMaxDepth,
+                         boolean inIsAscending)
+        {
+            mMaxDepth = inMaxDepth;
+            mIsAscending = inIsAscending;
+            mLevels = new TreeMap<QuoteEvent,PriceLevel<E>>(inIsAscending ? PRICE_ORDER : Collections.reverseOrder(PRICE_ORDER));
+            // an order book will generally fill to its max depth, so pre-allocate the memory, if a max depth is set
+            mEntries = inMaxDepth == OrderBook.UNLIMITED_DEPTH ? new HashMap<Long,BookEntry<E>>() : new HashMap<Long,BookEntry<E>>(inMaxDepth*2);
+        }
+        /**
+         * Adds the given event to the book.
+         *
+         * @param inEvent an <code>E</code> value to add to the book
+         * @return an <code>E</code> value if the incoming event displaced an existing event because the book is already at its maximum depth or null if no event was displaced
+         */
+        private synchronized E add(E inEvent)
+        {
+            BookEntry<E> entry = mEntries.get(inEvent.getMessageId());
+            if(entry != null) {
+                replace(entry,
+                        inEvent);
+                return null;
+            }
+            // holds the value to return, if any
+            E oldestEvent = null;
+            // check to see if the max depth will be exceeded, if so, the oldest event is displaced, not the worst
+            if(mMaxDepth != OrderBook.UNLIMITED_DEPTH &&
+               mEntries.size() >= mMaxDepth) {
+                BookEntry<E> oldestEntry = mOldest;
+                oldestEvent = oldestEntry.event;
+                unlink(oldestEntry);
+            }
+            entry = new BookEntry<E>(inEvent);
+            mEntries.put(inEvent.getMessageId(),
+                         entry);
+            // the new entry is the newest on the side
+            entry.older = mNewest;
+            if(mNewest == null) {
+                mOldest = entry;
+            } else {
+                mNewest.newer = entry;
+            }
+            mNewest = entry;
+            insertIntoLevel(entry);
+            mSortedView = null;
+            return oldestEvent;
+        }
+        /**
+         * Updates the given event, if present.
+         *
+         * <p>If the event is not present in the order book, this method does nothing.  Executing
+         * this method does not change the age of the order on the book.
+         *
+         * @param inEvent an <code>E</code> value
+         */
+        private synchronized void change(E inEvent)
+        {
+            BookEntry<E> entry = mEntries.get(inEvent.getMessageId());
+            if(entry != null) {
+                replace(entry,
+                        inEvent);
+            }
+        }
+        /**
+         * Removes the given event from the book, if present.
+         *
+         * <p>If the event is not present in the order book, this method does nothing.
+         *
+         * @param inEvent an <code>E</code> value
+         */
+        private synchronized void remove(E inEvent)
+        {
+            BookEntry<E> entry = mEntries.get(inEvent.getMessageId());
+            if(entry != null) {
+                unlink(entry);
+            }
+        }
+        /**
+         * Gets the best event on this side of the book.
+         *
+         * @return an <code>E</code> value or <code>null</code> if the side is empty
+         */
+        private synchronized E getBest()
+        {
+            return mBest == null ? null : mBest.event;
+        }
+        /**
+         * Returns a view of the book in price order.
+         *
+         * @return a <code>List&lt;E&gt;</code> value
+         */
+        private synchronized List<E> getSortedView()
+        {
+            if(mSortedView == null) {
+                List<E> events = new ArrayList<E>(mEntries.size());
+                for(PriceLevel<E> level : mLevels.values()) {
+                    for(BookEntry<E> entry = level.head;entry != null;entry = entry.levelNext) {
+                        events.add(entry.event);
+                    }
+                }
+                mSortedView = Collections.unmodifiableList(events);
+            }
+            return mSortedView;
+        }
+        /**
+         * Update/reset the levels of the book.
+         */
+        private synchronized void updateLevels()
+        {
+            if(mMaxDepth == OrderBook.UNLIMITED_DEPTH) {
+                return;
+            }
+            int level = 1;
+            for(BookEntry<E> entry = mNewest;entry != null;entry = entry.older) {
+                entry.event.setLevel(level++);
+            }
+        }
+        /**
+         * Clear the book.
+         */
+        private synchronized void clear()
+        {
+            mEntries.clear();
+            mLevels.clear();
+            mNewest = null;
+            mOldest = null;
+            mBest = null;
+            mSortedView = null;
+        }
+        /**
+         * Replaces the event held by the given entry, moving the entry to a new price level if necessary.
+         *
+         * @param inEntry a <code>BookEntry&lt;E&gt;</code> value
+         * @param inEvent an <code>E</code> value
+         */
+        private void replace(BookEntry<E> inEntry,
+                             E inEvent)
+        {
+            removeFromLevel(inEntry);
+            inEntry.event = inEvent;
+            insertIntoLevel(inEntry);
+            mSortedView = null;
+        }
+        /**
+         * Removes the given entry from the side completely.
+         *
+         * @param inEntry a <code>BookEntry&lt;E&gt;</code> value
+         */
+        private void unlink(BookEntry<E> inEntry)
+        {
+            mEntries.remove(inEntry.event.getMessageId());
+            removeFromLevel(inEntry);
+            if(inEntry.newer == null) {
+                mNewest = inEntry.older;
+            } else {
+                inEntry.newer.older = inEntry.older;
+            }
+            if(inEntry.older == null) {
+                mOldest = inEntry.newer;
+            } else {
+                inEntry.older.newer = inEntry.newer;
+            }
+            inEntry.newer = null;
+            inEntry.older = null;
+            mSortedView = null;
+        }
+        /**
+         * Inserts the given entry at its price level in time priority order.
+         *
+         * <p>Events generally arrive in time order, so the entry is checked against the ends of the level before
+         * the level is scanned.
+         *
+         * @param inEntry a <code>BookEntry&lt;E&gt;</code> value
+         */
+        private void insertIntoLevel(BookEntry<E> inEntry)
+        {
+            PriceLevel<E> level = mLevels.get(inEntry.event);
+            if(level == null) {
+                level = new PriceLevel<E>(inEntry.event);
+                mLevels.put(inEntry.event,
+                            level);
+            }
+            inEntry.level = level;
+            if(level.head == null) {
+                level.head = inEntry;
+                level.tail = inEntry;
+            } else if(comparePriority(inEntry,
+                                      level.tail) >= 0) {
+                inEntry.levelPrevious = level.tail;
+                level.tail.levelNext = inEntry;
+                level.tail = inEntry;
+            } else {
+                BookEntry<E> next = level.head;
+                while(comparePriority(inEntry,
+                                      next) >= 0) {
+                    next = next.levelNext;
+                }
+                inEntry.levelNext = next;
+                inEntry.levelPrevious = next.levelPrevious;
+                if(next.levelPrevious == null) {
+                    level.head = inEntry;
+                } else {
+                    next.levelPrevious.levelNext = inEntry;
+                }
+                next.levelPrevious = inEntry;
+            }
+            // the new entry is the best if it is now the head of a level that sorts ahead of the current best level
+            if(mBest == null ||
+               (level.head == inEntry && (level == mBest.level || comparePrice(level.priceEvent,
+                                                                               mBest.level.priceEvent) < 0))) {
+                mBest = inEntry;
+            }
+        }
+        /**
+         * Removes the given entry from its price level.
+         *
+         * @param inEntry a <code>BookEntry&lt;E&gt;</code> value
+         */
+        private void removeFromLevel(BookEntry<E> inEntry)
+        {
+            PriceLevel<E> level = inEntry.level;
+            if(inEntry.levelPrevious == null) {
+                level.head = inEntry.levelNext;
+            } else {
+                inEntry.levelPrevious.levelNext = inEntry.levelNext;
+            }
+            if(inEntry.levelNext == null) {
+                level.tail = inEntry.levelPrevious;
+            } else {
+                inEntry.levelNext.levelPrevious = inEntry.levelPrevious;
+            }
+            if(level.head == null) {
+                mLevels.remove(level.priceEvent);
+            }
+            inEntry.levelPrevious = null;
+            inEntry.levelNext = null;
+            inEntry.level = null;
+            if(mBest == inEntry) {
+                mBest = mLevels.isEmpty() ? null : mLevels.firstEntry().getValue().head;
+            }
+        }
+        /**
+         * Compares the prices of the given events according to the sort order of this side.
+         *
+         * @param inEvent an <code>E</code> value
+         * @param inOtherEvent an <code>E</code> value
+         * @return an <code>int</code> value less than, equal to, or greater than zero if the first price sorts ahead of, with, or behind the second
+         */
+        private int comparePrice(E inEvent,
+                                 E inOtherEvent)
+        {
+            int result = EventServices.comparePrices(inEvent,
+                                                     inOtherEvent);
+            return mIsAscending ? result : -result;
+        }
+        /**
+         * Compares the time priority of the given entries at the same price level.
+         *
+         * <p>Asks at the same price are sorted oldest first, bids at the same price are sorted newest first,
+         * consistent with {@link org.marketcetera.event.util.BookPriceComparator}.
+         *
+         * @param inEntry a <code>BookEntry&lt;E&gt;</code> value
+         * @param inOtherEntry a <code>BookEntry&lt;E&gt;</code> value
+         * @return an <code>int</code> value less than, equal to, or greater than zero if the first entry sorts ahead of, with, or behind the second
+         */
+        private int comparePriority(BookEntry<E> inEntry,
+                                    BookEntry<E> inOtherEntry)
+        {
+            long time = inEntry.event.getTimeMillis();
+            long otherTime = inOtherEntry.event.getTimeMillis();
+            int result = time < otherTime ? -1 : (time > otherTime ? 1 : 0);
+            return mIsAscending ? result : -result;
+        }
+        /**
+         * the maximum depth of the book.  if set to {@link OrderBook#UNLIMITED_DEPTH}, the book has no maximum depth.
+         */
+        private final int mMaxDepth;
+        /**
+         * indicates if the side is sorted by ascending price
+         */
+        private final boolean mIsAscending;
+        /**
+         * the price levels of the side keyed by the event which opened each level, best price first
+         */
+        private final TreeMap<QuoteEvent,PriceLevel<E>> mLevels;
+        /**
+         * the entries of the side by message id
+         */
+        private final Map<Long,BookEntry<E>> mEntries;
+        /**
+         * the newest entry on the side
+         */
+        private BookEntry<E> mNewest;
+        /**
+         * the oldest entry on the side
+         */
+        private BookEntry<E> mOldest;
+        /**
+         * the best entry on the side
+         */
+        private BookEntry<E> mBest;
+        /**
+         * the cached sorted view of the side, <code>null</code> if the side has changed since the view was built
+         */
+        private List<E> mSortedView;
+    }
+    /**
+     * orders events by ascending price without creating <code>BigDecimal</code> prices where possible
+     */
+    private static final Comparator<QuoteEvent> PRICE_ORDER = new Comparator<QuoteEvent>() {
+        @Override
+        public int compare(QuoteEvent inEvent1,
+                           QuoteEvent inEvent2)
+        {
+            return EventServices.comparePrices(inEvent1,
+                                               inEvent2);
+        }
+    };
+    /**
+     * the instrument for this book
+     */
+    private final Instrument mInstrument;
+    /**
+     * the ask side of the book
+     */
+    private final BookSide<AskEvent> mAskBook;
+    /**
+     * the bid side of the book
+     */
+    private final BookSide<BidEvent> mBidBook;
+    /**
+     * the maximum depth of the order book
+     */
+    private final int mMaxDepth;
+    /**
+     * indicates if the order book is lenient or not with respect to event validation
+     */
+    private final boolean lenient;
+}
@@ -121,6 +121,8 @@ public interface Messages
                                                                                     "simulated_exchange_code_mismatch");  //$NON-NLS-1$
     static final I18NMessage2P SIMULATED_EXCHANGE_SKIPPED_EVENT = new I18NMessage2P(LOGGER,
                                                                                     "simulated_exchange_skipped_event"); //$NON-NLS-1$
+    static final I18NMessage1P SIMULATED_EXCHANGE_MXBEAN_ERROR = new I18NMessage1P(LOGGER,
+                                                                                   "simulated_exchange_mxbean_error"); //$NON-NLS-1$
     static final I18NMessage1P SCHEME_REQUIRED = new I18NMessage1P(LOGGER,
                                                                    "missing_scheme"); //$NON-NLS-1$
     static final I18NMessage1P INVALID_HOSTNAME = new I18NMessage1P(LOGGER,
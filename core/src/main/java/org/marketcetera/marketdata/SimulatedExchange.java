@@ -2,6 +2,7 @@ package org.marketcetera.marketdata;
 
 import static org.marketcetera.marketdata.Messages.DIVIDEND_REQUEST_MISSING_INSTRUMENT;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_CODE_MISMATCH;
+import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_MXBEAN_ERROR;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_OUT_OF_EVENTS;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_SKIPPED_EVENT;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_TICK_ERROR;
@@ -9,33 +10,39 @@ import static org.marketcetera.marketdata.Messages.STARTING_RANDOM_EXCHANGE;
 import static org.marketcetera.marketdata.Messages.STARTING_SCRIPTED_EXCHANGE;
 import static org.marketcetera.marketdata.Messages.STOPPING_SIMULATED_EXCHANGE;
 
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
+import org.apache.commons.lang.Validate;
 import org.marketcetera.core.Pair;
 import org.marketcetera.core.publisher.ISubscriber;
-import org.marketcetera.core.publisher.PublisherEngine;
+import org.marketcetera.core.publisher.KeyedPublisherEngine;
 import org.marketcetera.event.AskEvent;
 import org.marketcetera.event.BidEvent;
 import org.marketcetera.event.DividendEvent;
@@ -62,6 +69,7 @@ import org.marketcetera.trade.DeliveryType;
 import org.marketcetera.trade.Equity;
 import org.marketcetera.trade.Future;
 import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.InstrumentRegistry;
 import org.marketcetera.trade.Option;
 import org.marketcetera.trade.StandardType;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -99,6 +107,13 @@ import com.google.common.collect.Multimaps;
  * {@link SimulatedExchange#start(List)} with a null or empty list.  In random mode, the exchange will
  * continue to simulate behavior in a modified Monte Carlo method.  The exchange will continue simulating
  * market data until stopped. 
+ * 
+ * <p>In random mode, all books are ticked once per tick interval, one second unless changed with
+ * {@link #setTickInterval(long, TimeUnit)}.  The books are ticked in parallel on a fork-join pool common to
+ * all exchanges; each book is ticked by one thread at a time, so the events of one book are published in order.
+ * Each book draws its random values from its own source, seeded from the exchange's random seed and
+ * the book's instrument, so an exchange given the same seed with {@link #setRandomSeed(long)} produces the same
+ * sequence of values for each book.  While running, the exchange is registered as a {@link SimulatedExchangeMXBean}.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -107,7 +122,7 @@ import com.google.common.collect.Multimaps;
 @ThreadSafe
 @ClassVersion("$Id$")
 public class SimulatedExchange
-        implements Exchange<SimulatedExchange.Token>
+        implements Exchange<SimulatedExchange.Token>,SimulatedExchangeMXBean
 {
     /**
      * Create a new <code>SimulatedExchange</code> instance.
@@ -280,23 +295,29 @@ public class SimulatedExchange
                 // synchronization and accuracy aren't relevant here because the data are random
                 //  anyway
                 BigDecimal currentValue = book.getValue();
+                Random random = book.getRandom();
                 // determine open and close prices (set to current value +/- 0.00-9.99 inclusive)
-                BigDecimal openPrice = currentValue.add(randomDecimalDifference(10));
+                BigDecimal openPrice = currentValue.add(randomDecimalDifference(random,
+                                                                                10));
                 if(openPrice.compareTo(BigDecimal.ZERO) == -1) {
                     openPrice = PENNY;
                 }
-                BigDecimal closePrice = currentValue.add(randomDecimalDifference(10));
+                BigDecimal closePrice = currentValue.add(randomDecimalDifference(random,
+                                                                                 10));
                 if(closePrice.compareTo(BigDecimal.ZERO) == -1) {
                     closePrice = PENNY;
                 }
-                BigDecimal previousClosePrice = currentValue.add(randomDecimalDifference(10));
+                BigDecimal previousClosePrice = currentValue.add(randomDecimalDifference(random,
+                                                                                         10));
                 if(previousClosePrice.compareTo(BigDecimal.ZERO) == -1) {
                     previousClosePrice = PENNY;
                 }
                 // calculate high price (the max of current, open, and close + 0.00-4.99 inclusive)
-                BigDecimal highPrice = currentValue.max(openPrice).max(closePrice).add(randomDecimalDifference(5).abs());
+                BigDecimal highPrice = currentValue.max(openPrice).max(closePrice).add(randomDecimalDifference(random,
+                                                                                                               5).abs());
                 // calculate low price (the min of current, open, and close - 0.00-4.99 inclusive)
-                BigDecimal lowPrice = currentValue.min(openPrice).min(closePrice).subtract(randomDecimalDifference(5).abs());
+                BigDecimal lowPrice = currentValue.min(openPrice).min(closePrice).subtract(randomDecimalDifference(random,
+                                                                                                                   5).abs());
                 // ready to return the data
                 Instrument requestInstrument = book.getInstrument();
                 MarketstatEventBuilder builder = MarketstatEventBuilder.marketstat(requestInstrument);
@@ -306,8 +327,10 @@ public class SimulatedExchange
                        .withLowPrice(lowPrice)
                        .withClosePrice(closePrice)
                        .withPreviousClosePrice(previousClosePrice)
-                       .withVolume(randomInteger(100000))
-                       .withValue(randomInteger(100000))
+                       .withVolume(randomInteger(random,
+                                                 100000))
+                       .withValue(randomInteger(random,
+                                                100000))
                        .withCloseDate(DateUtils.dateToString(new Date(startingTime-(HOURms*8))))
                        .withPreviousCloseDate(DateUtils.dateToString(new Date(startingTime-(DAYms))))
                        .withTradeHighTime(DateUtils.dateToString(new Date(startingTime-(HOURms*4))))
@@ -323,8 +346,10 @@ public class SimulatedExchange
                     assert(sharedInfo.getUnderlyingInstrument() != null);
                     builder.withExpirationType(getExpirationType((Option)requestInstrument))
                            .withUnderlyingInstrument(sharedInfo.getUnderlyingInstrument())
-                           .withInterestChange(randomInteger(1000))
-                           .withVolumeChange(randomInteger(1000));
+                           .withInterestChange(randomInteger(random,
+                                                             1000))
+                           .withVolumeChange(randomInteger(random,
+                                                           1000));
                 }
                 if(requestInstrument instanceof Future) {
                     builder.withContractSize(100)
@@ -446,7 +471,7 @@ public class SimulatedExchange
     @Override
     public void cancel(Token inToken)
     {
-        publisher.unsubscribe(inToken.getSubscriber());
+        inToken.getSubscriber().cancel();
     }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.Exchange#start()
@@ -489,26 +514,16 @@ public class SimulatedExchange
             STARTING_RANDOM_EXCHANGE.info(SimulatedExchange.class,
                                           getName());
             setStatus(Status.RANDOM);
-            // set up a job to run a tick every second until stopped
-            ticker = executor.scheduleAtFixedRate(new Runnable()
-            {
-                public void run()
-                {
-                    try {
-                        executeTick();
-                    } catch (Exception e) {
-                        SIMULATED_EXCHANGE_TICK_ERROR.warn(SimulatedExchange.class,
-                                                           e,
-                                                           getName());
-                    }
-                }
-            },
-                                                  0,
-                                                  1,
-                                                  TimeUnit.SECONDS);
             // prepare to execute ticks
             readyForTick.set(true);
+            synchronized(rateLock) {
+                rateWindowStart = System.nanoTime();
+                rateWindowEvents = publishedEventCount.get();
+            }
+            // set up a job to run a tick every tick interval until stopped
+            scheduleTicks();
         }
+        registerMgmtInterface();
     }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.Exchange#stop()
@@ -526,12 +541,127 @@ public class SimulatedExchange
             if(ticker != null) {
                 ticker.cancel(true);
                 executor.purge();
+                ticker = null;
             }
             books.clear();
         } finally {
             setStatus(Status.STOPPED);
+            unregisterMgmtInterface();
         }
     }
+    /**
+     * Sets the interval at which the books are ticked in random mode.
+     *
+     * <p>A running exchange begins ticking at the new interval immediately.  Intervals shorter than a millisecond
+     * are honored as closely as the scheduler allows; a tick that comes due while the previous tick is still
+     * running is skipped.
+     *
+     * @param inInterval a <code>long</code> value
+     * @param inUnit a <code>TimeUnit</code> value
+     * @throws IllegalArgumentException if the interval is less than 1 nanosecond
+     */
+    public synchronized void setTickInterval(long inInterval,
+                                             TimeUnit inUnit)
+    {
+        Validate.notNull(inUnit);
+        long interval = inUnit.toNanos(inInterval);
+        Validate.isTrue(interval > 0);
+        tickInterval = interval;
+        if(ticker != null) {
+            ticker.cancel(false);
+            executor.purge();
+            scheduleTicks();
+        }
+    }
+    /**
+     * Gets the interval at which the books are ticked in random mode.
+     *
+     * @param inUnit a <code>TimeUnit</code> value
+     * @return a <code>long</code> value in the given unit
+     */
+    public long getTickInterval(TimeUnit inUnit)
+    {
+        return inUnit.convert(tickInterval,
+                              TimeUnit.NANOSECONDS);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getTickIntervalMicros()
+     */
+    @Override
+    public long getTickIntervalMicros()
+    {
+        return getTickInterval(TimeUnit.MICROSECONDS);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#setTickIntervalMicros(long)
+     */
+    @Override
+    public void setTickIntervalMicros(long inTickIntervalMicros)
+    {
+        setTickInterval(inTickIntervalMicros,
+                        TimeUnit.MICROSECONDS);
+    }
+    /**
+     * Sets the seed from which the random sources of the books are derived.
+     *
+     * <p>The seed applies to books created after it is set, so it should be set before the exchange
+     * is started or any requests are made.  Information common to all exchanges for an instrument is created
+     * from the seed of the first exchange to see the instrument.
+     *
+     * @param inRandomSeed a <code>long</code> value
+     */
+    public void setRandomSeed(long inRandomSeed)
+    {
+        randomSeed = inRandomSeed;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getRandomSeed()
+     */
+    @Override
+    public long getRandomSeed()
+    {
+        return randomSeed;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getBookCount()
+     */
+    @Override
+    public int getBookCount()
+    {
+        return books.size();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getTickCount()
+     */
+    @Override
+    public long getTickCount()
+    {
+        return iterationCounter.get() - skippedTickCounter.get();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getSkippedTickCount()
+     */
+    @Override
+    public long getSkippedTickCount()
+    {
+        return skippedTickCounter.get();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getPublishedEventCount()
+     */
+    @Override
+    public long getPublishedEventCount()
+    {
+        return publishedEventCount.get();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.SimulatedExchangeMXBean#getEventsPerSecond()
+     */
+    @Override
+    public long getEventsPerSecond()
+    {
+        return eventsPerSecond;
+    }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
@@ -547,6 +677,7 @@ public class SimulatedExchange
      *
      * @return a <code>Status</code> value
      */
+    @Override
     public Status getStatus()
     {
         return status;
@@ -711,6 +842,51 @@ public class SimulatedExchange
             throw new NullPointerException();
         }
     }
+    /**
+     * Registers the management interface of this exchange.
+     */
+    private synchronized void registerMgmtInterface()
+    {
+        try {
+            ObjectName name = new ObjectName(String.format("%s:type=%s,name=%s", //$NON-NLS-1$
+                                                           SimulatedExchange.class.getPackage().getName(),
+                                                           SimulatedExchange.class.getSimpleName(),
+                                                           ObjectName.quote(getName())));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if(server.isRegistered(name)) {
+                SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                       "{} not registering the management interface, {} is already registered", //$NON-NLS-1$
+                                       this,
+                                       name);
+                return;
+            }
+            server.registerMBean(this,
+                                 name);
+            objectName = name;
+        } catch (Exception e) {
+            SIMULATED_EXCHANGE_MXBEAN_ERROR.warn(SimulatedExchange.class,
+                                                 e,
+                                                 getName());
+        }
+    }
+    /**
+     * Unregisters the management interface of this exchange, if registered.
+     */
+    private synchronized void unregisterMgmtInterface()
+    {
+        if(objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (Exception e) {
+            SIMULATED_EXCHANGE_MXBEAN_ERROR.warn(SimulatedExchange.class,
+                                                 e,
+                                                 getName());
+        } finally {
+            objectName = null;
+        }
+    }
     /**
      * Sets the status value.
      *
@@ -748,7 +924,8 @@ public class SimulatedExchange
      */
     private void updateInfo(HasInstrument inInstrumentProvider)
     {
-        updateSharedInfo(inInstrumentProvider);
+        updateSharedInfo(inInstrumentProvider,
+                         randomSeed);
         updatePrivateInfo(inInstrumentProvider);
     }
     /**
@@ -771,8 +948,9 @@ public class SimulatedExchange
                                        "{} creating book for {}", //$NON-NLS-1$
                                        this,
                                        inInstrumentProvider.getInstrument());
-                book = new PrivateInstrumentInfo(inInstrumentProvider.getInstrument());
-                books.put(inInstrumentProvider.getInstrument(),
+                Instrument instrument = instrumentRegistry.intern(primaryInstrument);
+                book = new PrivateInstrumentInfo(instrument);
+                books.put(instrument,
                           book);
                 if(getStatus().isRunning() &&
                    getStatus() == Status.RANDOM) {
@@ -788,6 +966,7 @@ public class SimulatedExchange
                 // there is an underlying instrument present - make sure it has a book, too
                 PrivateInstrumentInfo underlyingBook = books.get(underlyingInstrument);
                 if(underlyingBook == null) {
+                    underlyingInstrument = instrumentRegistry.intern(underlyingInstrument);
                     underlyingBook = new PrivateInstrumentInfo(underlyingInstrument);
                     books.put(underlyingInstrument,
                               underlyingBook);
@@ -889,7 +1068,54 @@ public class SimulatedExchange
             ((HasEventType)lastEvent).setEventType(EventType.UPDATE_FINAL);
         }
         for(Event event : inEventsToPublish) {
-            publisher.publish(event);
+            publishEvent(event);
+        }
+        publishedEventCount.addAndGet(inEventsToPublish.size());
+    }
+    /**
+     * Publishes the given event to the subscribers of this exchange that requested its instrument and type of data.
+     *
+     * @param inEvent an <code>Event</code> value
+     */
+    private void publishEvent(Event inEvent)
+    {
+        Instrument instrument = null;
+        if(inEvent instanceof HasInstrument) {
+            instrument = ((HasInstrument)inEvent).getInstrument();
+        } else if(inEvent instanceof DividendEvent) {
+            instrument = ((DividendEvent)inEvent).getEquity();
+        }
+        if(instrument == null) {
+            SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                   "{} has no instrument, not publishing {}", //$NON-NLS-1$
+                                   this,
+                                   inEvent);
+            return;
+        }
+        if(inEvent instanceof QuoteEvent) {
+            publisher.publish(new SubscriptionKey(getCode(),
+                                                  instrument,
+                                                  Type.TOP_OF_BOOK),
+                              inEvent);
+            publisher.publish(new SubscriptionKey(getCode(),
+                                                  instrument,
+                                                  Type.DEPTH_OF_BOOK),
+                              inEvent);
+        } else if(inEvent instanceof TradeEvent) {
+            publisher.publish(new SubscriptionKey(getCode(),
+                                                  instrument,
+                                                  Type.LATEST_TICK),
+                              inEvent);
+        } else if(inEvent instanceof MarketstatEvent) {
+            publisher.publish(new SubscriptionKey(getCode(),
+                                                  instrument,
+                                                  Type.STATISTICS),
+                              inEvent);
+        } else if(inEvent instanceof DividendEvent) {
+            publisher.publish(new SubscriptionKey(getCode(),
+                                                  instrument,
+                                                  Type.DIVIDENDS),
+                              inEvent);
         }
     }
     /**
@@ -905,28 +1131,107 @@ public class SimulatedExchange
         // if the previous tick hasn't completed yet, skip this tick and wait for the next one
         if(readyForTick.getAndSet(false)) {
             // the previous tick has completed, so we can begin this one
-            long startTime = System.currentTimeMillis();
+            final long startTime = System.nanoTime();
+            final long tick = iterationCounter.get();
+            final PrivateInstrumentInfo[] tickBooks = books.values().toArray(new PrivateInstrumentInfo[0]);
             try {
-                for(PrivateInstrumentInfo book : books.values()) {
-                    doRandomBookTick(book);
-                }
-            } finally {
-                // indicate that we're ready for the next tick
+                // the books are ticked on the pool so the scheduler thread is free to start ticks of other exchanges
+                tickPool.execute(new Runnable() {
+                    @Override
+                    public void run()
+                    {
+                        try {
+                            new BookTicker(tickBooks,
+                                           0,
+                                           tickBooks.length).invoke();
+                        } finally {
+                            completeTick(tick,
+                                         startTime);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
                 readyForTick.set(true);
-                SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                       "{} completed tick {} after {} ms", //$NON-NLS-1$
-                                       this,
-                                       iterationCounter.get(),
-                                       System.currentTimeMillis() - startTime);
+                throw e;
             }
         } else {
             // the previous tick has not yet completed, skip this one
+            skippedTickCounter.incrementAndGet();
             SLF4JLoggerProxy.debug(SimulatedExchange.class,
                                    "{} skipped tick {}", //$NON-NLS-1$
                                    this,
                                    iterationCounter.get()); //$NON-NLS-1$
         }
     }
+    /**
+     * Records the completion of a tick and indicates that the next tick may begin.
+     *
+     * @param inTick a <code>long</code> value containing the tick number
+     * @param inStartTime a <code>long</code> value containing the system time in nanoseconds at which the tick began
+     */
+    private void completeTick(long inTick,
+                              long inStartTime)
+    {
+        long now = System.nanoTime();
+        synchronized(rateLock) {
+            long elapsed = now - rateWindowStart;
+            if(elapsed >= RATE_WINDOW) {
+                long events = publishedEventCount.get();
+                eventsPerSecond = (events - rateWindowEvents) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+                rateWindowStart = now;
+                rateWindowEvents = events;
+            }
+        }
+        // indicate that we're ready for the next tick
+        readyForTick.set(true);
+        SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                               "{} completed tick {} after {} us", //$NON-NLS-1$
+                               this,
+                               inTick,
+                               TimeUnit.NANOSECONDS.toMicros(now - inStartTime));
+    }
+    /**
+     * Schedules the execution of ticks at the tick interval.
+     */
+    private synchronized void scheduleTicks()
+    {
+        ticker = executor.scheduleAtFixedRate(new Runnable()
+        {
+            public void run()
+            {
+                try {
+                    executeTick();
+                } catch (Exception e) {
+                    SIMULATED_EXCHANGE_TICK_ERROR.warn(SimulatedExchange.class,
+                                                       e,
+                                                       getName());
+                }
+            }
+        },
+                                              0,
+                                              tickInterval,
+                                              TimeUnit.NANOSECONDS);
+    }
+    /**
+     * Executes a single tick for the given order book, logging rather than propagating errors.
+     *
+     * <p>Does nothing if the exchange is no longer running in random mode.
+     *
+     * @param inBook a <code>PrivateInstrumentInfo</code> value
+     */
+    private void tickBook(PrivateInstrumentInfo inBook)
+    {
+        if(getStatus() != Status.RANDOM) {
+            return;
+        }
+        try {
+            doRandomBookTick(inBook);
+        } catch (Exception e) {
+            SIMULATED_EXCHANGE_TICK_ERROR.warn(SimulatedExchange.class,
+                                               e,
+                                               getName());
+        }
+    }
     /**
      * Executes a single tick for the given order book.
      *
@@ -934,18 +1239,21 @@ public class SimulatedExchange
      */
     private void doRandomBookTick(PrivateInstrumentInfo inBook)
     {
-        // adjust the order book base value
-        inBook.adjustPrice();
-        // settle the book (generates additional activity which needs to be published)
-        Deque<Event> eventsToPublish = Lists.newLinkedList();
-        eventsToPublish.addAll(settleBook(inBook));
-        // produce statistics
-        eventsToPublish.addAll(getStatistics(ExchangeRequestBuilder.newRequest().withInstrument(inBook.getBook().getInstrument())
-                                                                                .withUnderlyingInstrument(inBook.getUnderlyingInstrument()).create()));
-        if(inBook.getInstrument() instanceof Equity) {
-            eventsToPublish.addAll(getDividends(ExchangeRequestBuilder.newRequest().withInstrument(inBook.getBook().getInstrument()).create()));
+        // books may be ticked on different threads, one tick of a book at a time keeps its events in order
+        synchronized(inBook) {
+            // adjust the order book base value
+            inBook.adjustPrice();
+            // settle the book (generates additional activity which needs to be published)
+            Deque<Event> eventsToPublish = Lists.newLinkedList();
+            eventsToPublish.addAll(settleBook(inBook));
+            // produce statistics
+            eventsToPublish.addAll(getStatistics(ExchangeRequestBuilder.newRequest().withInstrument(inBook.getBook().getInstrument())
+                                                                                    .withUnderlyingInstrument(inBook.getUnderlyingInstrument()).create()));
+            if(inBook.getInstrument() instanceof Equity) {
+                eventsToPublish.addAll(getDividends(ExchangeRequestBuilder.newRequest().withInstrument(inBook.getBook().getInstrument()).create()));
+            }
+            publishEvents(eventsToPublish);
         }
-        publishEvents(eventsToPublish);
     }
     /**
      * Determines the correct <code>ExpirationType</code> to use for the given <code>Option</code>.
@@ -982,8 +1290,10 @@ public class SimulatedExchange
      * may be called more than once with the same <code>HasInstrument</code> with no ill effect.
      *
      * @param inInstrumentProvider a <code>HasInstrument</code> value
+     * @param inRandomSeed a <code>long</code> value containing the seed from which to derive the random sources of new information
      */
-    private static synchronized void updateSharedInfo(HasInstrument inInstrumentProvider)
+    private static synchronized void updateSharedInfo(HasInstrument inInstrumentProvider,
+                                                      long inRandomSeed)
     {
         // this method is synchronized because of the put-if-absent performed on sharedInstruments
         // figure out what information we have
@@ -993,6 +1303,13 @@ public class SimulatedExchange
             HasUnderlyingInstrument underlyingInstrumentProvider = (HasUnderlyingInstrument)inInstrumentProvider;
             underlyingInstrument = underlyingInstrumentProvider.getUnderlyingInstrument();
         }
+        // use the canonical instances so the shared info and option chains hold one instance per instrument
+        if(instrument != null) {
+            instrument = instrumentRegistry.intern(instrument);
+        }
+        if(underlyingInstrument != null) {
+            underlyingInstrument = instrumentRegistry.intern(underlyingInstrument);
+        }
         // check to see if we already know about this instrument
         if(instrument != null) {
             SharedInstrumentInfo info = sharedInstruments.get(instrument);
@@ -1002,7 +1319,9 @@ public class SimulatedExchange
                                        instrument);
                 // this instrument is new, update the shared info (underlyingInstrument may be null, that's OK)
                 info = new SharedInstrumentInfo(instrument,
-                                                underlyingInstrument);
+                                                underlyingInstrument,
+                                                newRandom(~inRandomSeed,
+                                                          instrument));
                 sharedInstruments.put(instrument,
                                       info);
             }
@@ -1022,7 +1341,9 @@ public class SimulatedExchange
             if(underlyingInfo == null) {
                 // the info for the underlying instrument doesn't exist yet - create it
                 underlyingInfo = new SharedInstrumentInfo(underlyingInstrument,
-                                                          null);
+                                                          null,
+                                                          newRandom(~inRandomSeed,
+                                                                    underlyingInstrument));
                 sharedInstruments.put(underlyingInstrument,
                                       underlyingInfo);
                 SLF4JLoggerProxy.debug(SimulatedExchange.class,
@@ -1188,40 +1509,62 @@ public class SimulatedExchange
     /**
      * Generates a random decimal value in the interval (-(inUpperBound-1).99,+(inUpperBound-1).99).
      *
+     * @param inRandom a <code>Random</code> value from which to draw the value
      * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
      * @return a <code>BigDecimal</code> value in the interval (-(inUpperBound-1).99,+(inUpperBound-1).99)
      */
-    private static BigDecimal randomDecimalDifference(int inUpperBound)
+    private static BigDecimal randomDecimalDifference(Random inRandom,
+                                                      int inUpperBound)
     {
-        if(random.nextBoolean()) {
+        if(inRandom.nextBoolean()) {
             // higher
-            return BigDecimal.ZERO.add(randomDecimal(inUpperBound));
+            return BigDecimal.ZERO.add(randomDecimal(inRandom,
+                                                     inUpperBound));
         } else {
             // lower
-            return BigDecimal.ZERO.subtract(randomDecimal(inUpperBound));
+            return BigDecimal.ZERO.subtract(randomDecimal(inRandom,
+                                                          inUpperBound));
         }
     }
     /**
      * Generates a random integer in the interval (0,inUpperBound].
      *
+     * @param inRandom a <code>Random</code> value from which to draw the value
      * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
      * @return a <code>BigDecimal</code> value in the interval (0,inUpperBound]
      */
-    private static BigDecimal randomInteger(int inUpperBound)
+    private static BigDecimal randomInteger(Random inRandom,
+                                            int inUpperBound)
     {
-        return new BigDecimal(random.nextInt(inUpperBound));
+        return new BigDecimal(inRandom.nextInt(inUpperBound));
     }
     /**
      * Generates a random decimal value in the interval (0.00,(inUpperBound-1).99).
      *
+     * @param inRandom a <code>Random</code> value from which to draw the value
      * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
      * @return a <code>BigDecimal</code> value in the interval (0.00,(inUpperBound-1).99)
      */
-    private static BigDecimal randomDecimal(int inUpperBound)
+    private static BigDecimal randomDecimal(Random inRandom,
+                                            int inUpperBound)
     {
         return new BigDecimal(String.format("%s.%s", //$NON-NLS-1$
-                                            random.nextInt(inUpperBound),
-                                            random.nextInt(100)));
+                                            inRandom.nextInt(inUpperBound),
+                                            inRandom.nextInt(100)));
+    }
+    /**
+     * Creates a random source for the given instrument derived from the given seed.
+     *
+     * <p>The same seed and instrument always produce a source with the same sequence of values.
+     *
+     * @param inSeed a <code>long</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>Random</code> value
+     */
+    private static Random newRandom(long inSeed,
+                                    Instrument inInstrument)
+    {
+        return new Random(inSeed * 31 + inInstrument.getFullSymbol().hashCode());
     }
     // immutable state of this exchange
     /**
@@ -1265,6 +1608,45 @@ public class SimulatedExchange
      * stores the handle for the task submitted to the scheduler to run updates on this exchange
      */
     private volatile ScheduledFuture<?> ticker = null;
+    /**
+     * the interval at which books are ticked in nanoseconds
+     */
+    private volatile long tickInterval = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * the seed from which the random sources of new books are derived
+     */
+    private volatile long randomSeed = System.nanoTime();
+    /**
+     * counter of ticks skipped because the previous tick had not completed
+     */
+    private final AtomicLong skippedTickCounter = new AtomicLong(0);
+    /**
+     * counter of events published by this exchange
+     */
+    private final AtomicLong publishedEventCount = new AtomicLong(0);
+    /**
+     * guards the measurement of the publication rate
+     */
+    private final Object rateLock = new Object();
+    /**
+     * system time in nanoseconds at which the current rate measurement began
+     */
+    @GuardedBy("rateLock")
+    private long rateWindowStart;
+    /**
+     * number of events published when the current rate measurement began
+     */
+    @GuardedBy("rateLock")
+    private long rateWindowEvents;
+    /**
+     * the number of events published per second in the most recent measurement
+     */
+    private volatile long eventsPerSecond = 0;
+    /**
+     * the name under which the management interface of this exchange is registered, <code>null</code> if it is not registered
+     */
+    @GuardedBy("this")
+    private ObjectName objectName;
     // common to all exchanges
     // immutable state of all exchanges
     /**
@@ -1280,21 +1662,36 @@ public class SimulatedExchange
      */
     private static final long DAYms = HOURms * 24l;
     /**
-     * random generator used to manipulate prices
+     * the interval in nanoseconds over which the publication rate is measured
      */
-    private static final Random random = new Random(System.nanoTime());
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * the largest number of books ticked by one task of the tick pool
+     */
+    private static final int TICK_BATCH_SIZE = 16;
     /**
      * data for instruments shared across exchanges
      */
     private static final Map<Instrument,SharedInstrumentInfo> sharedInstruments = new ConcurrentHashMap<Instrument,SharedInstrumentInfo>();
+    /**
+     * canonical instances and ids of the instruments used as book keys and in subscriptions
+     */
+    private static final InstrumentRegistry instrumentRegistry = InstrumentRegistry.getInstance();
     /**
      * mechanism which manages the threads that create the market data
      */
     private static final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
     /**
-     * publishes events generated by order books from exchanges and manages subscriptions 
+     * ticks the books of all exchanges in parallel
+     */
+    private static final ForkJoinPool tickPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                                                                  ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+                                                                  null,
+                                                                  true);
+    /**
+     * publishes events generated by order books from exchanges to the subscribers of their exchange, instrument, and type of data
      */
-    private static final PublisherEngine publisher = new PublisherEngine(true);
+    private static final KeyedPublisherEngine<SubscriptionKey> publisher = new KeyedPublisherEngine<SubscriptionKey>();
     // inner classes
     /**
      * The status of the exchange.
@@ -1419,6 +1816,8 @@ public class SimulatedExchange
         {
             assert(inInstrument != null);
             instrument = inInstrument;
+            random = newRandom(randomSeed,
+                               inInstrument);
             latestTrade = null;
             SharedInstrumentInfo sharedInfo = getSharedInstrumentInfo(instrument);
             assert(sharedInfo != null);
@@ -1510,6 +1909,26 @@ public class SimulatedExchange
             process(askBuilder.create());
             process(bidBuilder.create());
         }
+        /**
+         * Gets the random source of this book.
+         *
+         * @return a <code>Random</code> value
+         */
+        private Random getRandom()
+        {
+            return random;
+        }
+        /**
+         * Generates a random integer from the random source of this book.
+         *
+         * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
+         * @return a <code>BigDecimal</code> value in the interval (0,inUpperBound]
+         */
+        private BigDecimal randomInteger(int inUpperBound)
+        {
+            return SimulatedExchange.randomInteger(random,
+                                                   inUpperBound);
+        }
         /**
          * Get the book value.
          *
@@ -1573,6 +1992,10 @@ public class SimulatedExchange
          * the order book itself
          */
         private final OrderBook book;
+        /**
+         * the source of random values for this book
+         */
+        private final Random random;
         // mutable state
         /**
          * the most recent value of the instrument
@@ -1611,12 +2034,15 @@ public class SimulatedExchange
          *
          * @param inInstrument an <code>Instrument</code> value
          * @param inUnderlyingInstrument an <code>Instrument</code> value
+         * @param inRandom a <code>Random</code> value from which to draw the initial value and dividends
          */
         private SharedInstrumentInfo(Instrument inInstrument,
-                                     Instrument inUnderlyingInstrument)
+                                     Instrument inUnderlyingInstrument,
+                                     Random inRandom)
         {
             instrument = inInstrument;
             underlyingInstrument = inUnderlyingInstrument;
+            random = inRandom;
             setMostRecentValue(randomDecimal(100).add(PENNY));
             // dividends may be issued for equities only
             List<DividendEvent> tempDividends = new ArrayList<DividendEvent>();
@@ -1721,6 +2147,28 @@ public class SimulatedExchange
         {
             return dividends;
         }
+        /**
+         * Generates a random integer from the random source of this info.
+         *
+         * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
+         * @return a <code>BigDecimal</code> value in the interval (0,inUpperBound]
+         */
+        private BigDecimal randomInteger(int inUpperBound)
+        {
+            return SimulatedExchange.randomInteger(random,
+                                                   inUpperBound);
+        }
+        /**
+         * Generates a random decimal value from the random source of this info.
+         *
+         * @param inUpperBound an <code>int</code> value used to define the interval in which the returned value may occur
+         * @return a <code>BigDecimal</code> value in the interval (0.00,(inUpperBound-1).99)
+         */
+        private BigDecimal randomDecimal(int inUpperBound)
+        {
+            return SimulatedExchange.randomDecimal(random,
+                                                   inUpperBound);
+        }
         /**
          * the instrument of the shared info
          */
@@ -1741,6 +2189,10 @@ public class SimulatedExchange
          * contains the dividends, if any, issued for this instrument
          */
         private final List<DividendEvent> dividends;
+        /**
+         * the source of random values for this info
+         */
+        private final Random random;
     }
     /**
      * <code>ISubscriber</code> that filters publications to an enclosed <code>ISubscriber</code>
@@ -1764,7 +2216,7 @@ public class SimulatedExchange
             return String.format("FilteringSubscriber for %s on %s watching %s", //$NON-NLS-1$
                                  type,
                                  exchange,
-                                 instruments);
+                                 getWatchedInstruments());
         }
         /**
          * Subscribes the given <code>ISubscriber</code> to market data updates of the given
@@ -1785,7 +2237,6 @@ public class SimulatedExchange
         {
             FilteringSubscriber subscriber = new FilteringSubscriber(inOriginalSubscriber,
                                                                      inType,
-                                                                     inInstruments,
                                                                      inExchange);
             // it's possible if this request is by underlying
             //  instrument that entries will be added to the underlying instrument's option chain later.
@@ -1797,7 +2248,9 @@ public class SimulatedExchange
                 inExchange.optionChainSubscribers.put(inExchangeRequest.getUnderlyingInstrument(),
                                                       subscriber);
             }
-            publisher.subscribe(subscriber);
+            for(Instrument instrument : inInstruments) {
+                subscriber.watch(instrument);
+            }
             return subscriber.getToken();
         }
         /**
@@ -1805,17 +2258,14 @@ public class SimulatedExchange
          *
          * @param inSubscriber an <code>ISubscriber</code> value
          * @param inType a <code>Type</code> value
-         * @param inInstruments a <code>Collection&lt;Instrument&gt;</code> value
          * @param inExchange a <code>SimulatedExchange</code> value containing the owning exchange
          */
         private FilteringSubscriber(ISubscriber inSubscriber,
                                     Type inType,
-                                    Collection<Instrument> inInstruments,
                                     SimulatedExchange inExchange)
         {
             originalSubscriber = inSubscriber;
             type = inType;
-            instruments.addAll(inInstruments);
             token = new Token(this);
             exchange = inExchange;
             Multimap<Instrument,DividendEvent> dividends = HashMultimap.create();
@@ -1831,22 +2281,7 @@ public class SimulatedExchange
             if(!(inData instanceof Event)) {
                 return true;
             }
-            // verify the exchange matches
-            if(inData instanceof MarketDataEvent) {
-                if(!((MarketDataEvent)inData).getExchange().equals(exchange.getCode())) {
-                    return false;
-                }
-            }
-            // verify the object has a relevant instrument (if it has has one)
-            if(inData instanceof HasInstrument) {
-                if(!instruments.contains(((HasInstrument)inData).getInstrument())) {
-                    SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                           "{} not interested in {}", //$NON-NLS-1$
-                                           this,
-                                           inData);
-                    return false;
-                }
-            }
+            // the exchange and instrument already match, the publisher only routes events to the subscribers of both
             // verify the object's type is relevant
             switch(type) {
                 case TOP_OF_BOOK :
@@ -1974,7 +2409,64 @@ public class SimulatedExchange
                                    "{} received notification of a potential new option chain entry: {}", //$NON-NLS-1$
                                    this,
                                    inOptionChainEntry);
-            instruments.add(inOptionChainEntry);
+            watch(inOptionChainEntry);
+        }
+        /**
+         * Gets the instruments this subscriber is interested in.
+         *
+         * @return a <code>List&lt;Instrument&gt;</code> value
+         */
+        private List<Instrument> getWatchedInstruments()
+        {
+            List<Instrument> watched = new ArrayList<Instrument>();
+            synchronized(instrumentIds) {
+                for(int id=instrumentIds.nextSetBit(0);id>=0;id=instrumentIds.nextSetBit(id+1)) {
+                    Instrument instrument = instrumentRegistry.getInstrument(id);
+                    if(instrument != null) {
+                        watched.add(instrument);
+                    }
+                }
+            }
+            return watched;
+        }
+        /**
+         * Adds the given instrument to the instruments this subscriber is interested in and subscribes to its events.
+         *
+         * <p>The instrument stays pinned in the registry while it is watched, so its id keeps identifying it.
+         * Has no effect once the subscriber has been canceled.
+         *
+         * @param inInstrument an <code>Instrument</code> value
+         */
+        private void watch(Instrument inInstrument)
+        {
+            int id = instrumentRegistry.pin(inInstrument);
+            synchronized(instrumentIds) {
+                if(!canceled && !instrumentIds.get(id)) {
+                    instrumentIds.set(id);
+                    publisher.subscribe(new SubscriptionKey(exchange.getCode(),
+                                                            instrumentRegistry.getInstrument(id),
+                                                            type),
+                                        this);
+                    return;
+                }
+            }
+            instrumentRegistry.unpin(id);
+        }
+        /**
+         * Stops publication to this subscriber and releases the instruments it watches.
+         */
+        private void cancel()
+        {
+            BitSet watchedIds;
+            synchronized(instrumentIds) {
+                canceled = true;
+                watchedIds = (BitSet)instrumentIds.clone();
+                instrumentIds.clear();
+            }
+            publisher.unsubscribe(this);
+            for(int id=watchedIds.nextSetBit(0);id>=0;id=watchedIds.nextSetBit(id+1)) {
+                instrumentRegistry.unpin(id);
+            }
         }
         /**
          * Publishes the side of the book implied by the type of the given <code>QuoteEvent</code>,
@@ -2099,9 +2591,14 @@ public class SimulatedExchange
          */
         private final Type type;
         /**
-         * the instrument for which the request was made
+         * the ids assigned by the {@link InstrumentRegistry} of the instruments for which the request was made
          */
-        private final Set<Instrument> instruments = Collections.synchronizedSet(new HashSet<Instrument>());
+        private final BitSet instrumentIds = new BitSet();
+        /**
+         * indicates if the subscription has been canceled
+         */
+        @GuardedBy("instrumentIds")
+        private boolean canceled = false;
         /**
          * the subscription token returned to the caller
          */
@@ -2231,6 +2728,147 @@ public class SimulatedExchange
             return 0;
         }
     }
+    /**
+     * Ticks a range of books, splitting the range among the threads of the tick pool.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private class BookTicker
+            extends RecursiveAction
+    {
+        /**
+         * Create a new BookTicker instance.
+         *
+         * @param inBooks a <code>PrivateInstrumentInfo[]</code> value
+         * @param inFrom an <code>int</code> value containing the index of the first book to tick
+         * @param inTo an <code>int</code> value containing the index after the last book to tick
+         */
+        private BookTicker(PrivateInstrumentInfo[] inBooks,
+                           int inFrom,
+                           int inTo)
+        {
+            tickBooks = inBooks;
+            from = inFrom;
+            to = inTo;
+        }
+        /* (non-Javadoc)
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute()
+        {
+            if(to - from <= TICK_BATCH_SIZE) {
+                for(int i=from;i<to;i++) {
+                    tickBook(tickBooks[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BookTicker(tickBooks,
+                                     from,
+                                     middle),
+                      new BookTicker(tickBooks,
+                                     middle,
+                                     to));
+        }
+        /**
+         * the books of the tick
+         */
+        private final PrivateInstrumentInfo[] tickBooks;
+        /**
+         * the index of the first book to tick
+         */
+        private final int from;
+        /**
+         * the index after the last book to tick
+         */
+        private final int to;
+        private static final long serialVersionUID = 1L;
+    }
+    /**
+     * Identifies the events of one type of data for one instrument on one exchange.
+     *
+     * <p>Keys hold the instrument itself rather than its registry id, so a route never depends on the id staying
+     * assigned to the instrument. Instruments are interned, so comparing them usually stops at identity.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @Immutable
+    private static final class SubscriptionKey
+    {
+        /**
+         * Create a new SubscriptionKey instance.
+         *
+         * @param inExchange a <code>String</code> value containing the exchange code
+         * @param inInstrument an <code>Instrument</code> value
+         * @param inType a <code>Type</code> value
+         */
+        private SubscriptionKey(String inExchange,
+                                Instrument inInstrument,
+                                Type inType)
+        {
+            exchange = inExchange;
+            instrument = inInstrument;
+            type = inType;
+            hashCode = (31 * exchange.hashCode() + instrument.hashCode()) * 31 + type.hashCode();
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object inObject)
+        {
+            if(this == inObject) {
+                return true;
+            }
+            if(!(inObject instanceof SubscriptionKey)) {
+                return false;
+            }
+            SubscriptionKey other = (SubscriptionKey)inObject;
+            return type == other.type &&
+                   (instrument == other.instrument || instrument.equals(other.instrument)) &&
+                   exchange.equals(other.exchange);
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return String.format("%s %s %s", //$NON-NLS-1$
+                                 exchange,
+                                 instrument,
+                                 type);
+        }
+        /**
+         * exchange code
+         */
+        private final String exchange;
+        /**
+         * instrument
+         */
+        private final Instrument instrument;
+        /**
+         * type of data
+         */
+        private final Type type;
+        /**
+         * hash code of this key
+         */
+        private final int hashCode;
+    }
     /**
      * Unique identifier for a specific subscription request to the {@link SimulatedExchange}.
      * 
@@ -0,0 +1,104 @@
+package org.marketcetera.marketdata;
+
+import javax.management.MXBean;
+
+import org.marketcetera.module.DisplayName;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * <code>MXBean</code> interface for a {@link SimulatedExchange} enumerating the <code>MXBean</code>
+ * methods available.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+@MXBean(true)
+@DisplayName("Management Interface for Simulated Exchanges")
+public interface SimulatedExchangeMXBean
+{
+    /**
+     * Gets the name of the exchange.
+     *
+     * @return a <code>String</code> value
+     */
+    @DisplayName("The name of the exchange")
+    public String getName();
+    /**
+     * Gets the exchange code of the exchange.
+     *
+     * @return a <code>String</code> value
+     */
+    @DisplayName("The exchange code of the exchange")
+    public String getCode();
+    /**
+     * Gets the status of the exchange.
+     *
+     * @return a <code>SimulatedExchange.Status</code> value
+     */
+    @DisplayName("The status of the exchange")
+    public SimulatedExchange.Status getStatus();
+    /**
+     * Gets the interval at which the books of the exchange are ticked in random mode.
+     *
+     * @return a <code>long</code> value in microseconds
+     */
+    @DisplayName("The interval at which books are ticked in microseconds")
+    public long getTickIntervalMicros();
+    /**
+     * Sets the interval at which the books of the exchange are ticked in random mode.
+     *
+     * <p>A running exchange begins ticking at the new interval immediately.
+     *
+     * @param inTickIntervalMicros a <code>long</code> value in microseconds
+     * @throws IllegalArgumentException if the interval is less than 1
+     */
+    @DisplayName("The interval at which books are ticked in microseconds")
+    public void setTickIntervalMicros(@DisplayName("The interval at which books are ticked in microseconds")
+                                      long inTickIntervalMicros);
+    /**
+     * Gets the seed from which the random sources of the books of the exchange are derived.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The seed from which the random sources of the books are derived")
+    public long getRandomSeed();
+    /**
+     * Gets the number of books managed by the exchange.
+     *
+     * @return an <code>int</code> value
+     */
+    @DisplayName("The number of books managed by the exchange")
+    public int getBookCount();
+    /**
+     * Gets the number of ticks executed since the exchange was created.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The number of ticks executed")
+    public long getTickCount();
+    /**
+     * Gets the number of ticks skipped because the previous tick had not completed.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The number of ticks skipped because the previous tick had not completed")
+    public long getSkippedTickCount();
+    /**
+     * Gets the number of events published since the exchange was created.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The number of events published")
+    public long getPublishedEventCount();
+    /**
+     * Gets the number of events published per second, measured over the most recent interval of about a second.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The number of events published per second")
+    public long getEventsPerSecond();
+}
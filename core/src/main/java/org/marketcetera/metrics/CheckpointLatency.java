@@ -0,0 +1,678 @@
+package org.marketcetera.metrics;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+
+/* $License$ */
+
+/**
+ * Records the latency between checkpoints in data processing as live percentiles.
+ *
+ * <p>Where {@link ThreadedMetric} keeps every sampled iteration and writes them out when the JVM exits,
+ * this class counts the time taken to reach each checkpoint in a {@link LatencyHistogram} and publishes
+ * the 50th, 99th, and 99.9th percentiles, the maximum, and the count of the last interval to the
+ * {@link MetricService} and, if {@link JmxUtils#METC_METRICS_JMX_ENABLE} is set, to JMX.
+ *
+ * <p>Each checkpoint is a {@link Stage}, typically held in a constant by the instrumented class:
+ * <pre>
+ * private static final CheckpointLatency.Stage TRANSLATED = CheckpointLatency.stage("mdata-translated");
+ * ...
+ * CheckpointLatency.begin();
+ * try {
+ *     ...
+ *     // records the time since begin()
+ *     CheckpointLatency.checkpoint(TRANSLATED);
+ *     ...
+ *     // records the time since the translated checkpoint
+ *     CheckpointLatency.checkpoint(PUBLISHED);
+ * } finally {
+ *     CheckpointLatency.end();
+ * }
+ * </pre>
+ * A checkpoint reached on a thread that has not begun is ignored, so checkpoints in shared code only
+ * record latencies on paths that have begun. Processing that is handed from one thread to another, for
+ * example through a queue, continues on the receiving thread if the state returned by {@link #capture()}
+ * on the handing thread is passed to {@link #resume(long)} on the receiving thread.
+ *
+ * <p>Each thread counts into its own buckets without locks or shared writes. A snapshot of the buckets of
+ * all threads is taken at most once an interval, and the difference from the previous snapshot is the
+ * distribution that is published. The counts of threads that have died are folded into their stage and
+ * the recorders of those threads are released. Recording is disabled by default, in which case a
+ * checkpoint costs a single volatile read.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public final class CheckpointLatency
+{
+    /**
+     * Gets the stage with the given name, creating it if necessary.
+     *
+     * @param inName a <code>String</code> value
+     * @return a <code>Stage</code> value
+     */
+    public static Stage stage(String inName)
+    {
+        Validate.notNull(inName);
+        Stage stage = stagesByName.get(inName);
+        if(stage == null) {
+            synchronized(stagesByName) {
+                stage = stagesByName.get(inName);
+                if(stage == null) {
+                    stage = new Stage(inName,
+                                      stageCounter.getAndIncrement());
+                    stagesByName.put(inName,
+                                     stage);
+                }
+            }
+        }
+        return stage;
+    }
+    /**
+     * Gets all stages.
+     *
+     * @return a <code>Collection&lt;Stage&gt;</code> value
+     */
+    public static Collection<Stage> getStages()
+    {
+        return new ArrayList<Stage>(stagesByName.values());
+    }
+    /**
+     * Marks the start of processing on the current thread.
+     */
+    public static void begin()
+    {
+        if(enabled) {
+            threadState.get().last = System.nanoTime();
+        }
+    }
+    /**
+     * Records the time since the previous checkpoint, or since {@link #begin()}, on the current thread
+     * as the latency of the given stage.
+     *
+     * @param inStage a <code>Stage</code> value
+     */
+    public static void checkpoint(Stage inStage)
+    {
+        if(enabled) {
+            ThreadState state = threadState.get();
+            if(state.last != 0) {
+                long now = System.nanoTime();
+                state.recorder(inStage).record(now - state.last);
+                state.last = now;
+            }
+        }
+    }
+    /**
+     * Marks the end of processing on the current thread.
+     */
+    public static void end()
+    {
+        if(enabled) {
+            threadState.get().last = 0;
+        }
+    }
+    /**
+     * Gets the checkpoint state of the current thread so that processing can continue on another thread.
+     *
+     * @return a <code>long</code> value to pass to {@link #resume(long)} or 0 if processing has not begun on
+     *  the current thread or latencies are not recorded
+     */
+    public static long capture()
+    {
+        if(enabled) {
+            return threadState.get().last;
+        }
+        return 0;
+    }
+    /**
+     * Gets a checkpoint state that begins processing now, for processing that is handed to another thread
+     * before it reaches its first checkpoint.
+     *
+     * @return a <code>long</code> value to pass to {@link #resume(long)} or 0 if latencies are not recorded
+     */
+    public static long now()
+    {
+        if(enabled) {
+            return System.nanoTime();
+        }
+        return 0;
+    }
+    /**
+     * Continues processing on the current thread from the given checkpoint state.
+     *
+     * <p>The next checkpoint on the current thread records the time since the last checkpoint on the thread
+     * the state was captured on, including the time taken to hand the processing over. A state of 0 ends
+     * processing on the current thread.
+     *
+     * @param inCheckpoint a <code>long</code> value returned by {@link #capture()} or {@link #now()}
+     */
+    public static void resume(long inCheckpoint)
+    {
+        if(enabled) {
+            threadState.get().last = inCheckpoint;
+        }
+    }
+    /**
+     * Indicates if latencies are recorded.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+    /**
+     * Sets whether latencies are recorded.
+     *
+     * @param inEnabled a <code>boolean</code> value
+     */
+    public static void setEnabled(boolean inEnabled)
+    {
+        enabled = inEnabled;
+    }
+    /**
+     * Gets the length of the interval over which published latencies are collected.
+     *
+     * @return a <code>long</code> value in milliseconds
+     */
+    public static long getIntervalMillis()
+    {
+        return intervalMillis;
+    }
+    /**
+     * Sets the length of the interval over which published latencies are collected.
+     *
+     * @param inIntervalMillis a <code>long</code> value in milliseconds
+     * @throws IllegalArgumentException if the value is not positive
+     */
+    public static void setIntervalMillis(long inIntervalMillis)
+    {
+        Validate.isTrue(inIntervalMillis > 0);
+        intervalMillis = inIntervalMillis;
+    }
+    /**
+     * A point in processing whose latency is recorded.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ThreadSafe
+    public static final class Stage
+    {
+        /**
+         * Gets the stage name.
+         *
+         * @return a <code>String</code> value
+         */
+        public String getName()
+        {
+            return name;
+        }
+        /**
+         * Records the given latency on the current thread, regardless of checkpoints.
+         *
+         * @param inNanos a <code>long</code> value
+         */
+        public void record(long inNanos)
+        {
+            if(enabled) {
+                threadState.get().recorder(this).record(inNanos);
+            }
+        }
+        /**
+         * Gets the latencies recorded in the last completed interval.
+         *
+         * @return a <code>LatencyHistogram</code> value
+         */
+        public synchronized LatencyHistogram getIntervalHistogram()
+        {
+            long now = System.currentTimeMillis();
+            if(now - intervalStart >= intervalMillis) {
+                long[] current = sumRecorders();
+                long[] interval = new long[current.length];
+                for(int i=0;i<current.length;i++) {
+                    interval[i] = current[i] - previous[i];
+                }
+                previous = current;
+                intervalHistogram = new LatencyHistogram(interval);
+                intervalStart = now;
+            }
+            return intervalHistogram;
+        }
+        /**
+         * Gets all latencies recorded since the stage was created.
+         *
+         * @return a <code>LatencyHistogram</code> value
+         */
+        public synchronized LatencyHistogram getTotalHistogram()
+        {
+            return new LatencyHistogram(sumRecorders());
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return name;
+        }
+        /**
+         * Gets the number of recorders held for live threads.
+         *
+         * @return an <code>int</code> value
+         */
+        synchronized int getRecorderCount()
+        {
+            sumRecorders();
+            return recorders.size();
+        }
+        /**
+         * Create a new Stage instance.
+         *
+         * @param inName a <code>String</code> value
+         * @param inIndex an <code>int</code> value
+         */
+        private Stage(String inName,
+                      int inIndex)
+        {
+            name = inName;
+            index = inIndex;
+            publish();
+        }
+        /**
+         * Creates a recorder for the current thread.
+         *
+         * @return a <code>Recorder</code> value
+         */
+        private synchronized Recorder newRecorder()
+        {
+            // a new thread is a good time to let go of the threads that have died
+            sumRecorders();
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            return recorder;
+        }
+        /**
+         * Sums the counts of all recorders, releasing the recorders of threads that have died.
+         *
+         * @return a <code>long[]</code> value
+         */
+        @GuardedBy("this")
+        private long[] sumRecorders()
+        {
+            long[] counts = retired.clone();
+            for(Recorder recorder : recorders) {
+                recorder.addTo(counts);
+                if(recorder.isRetired()) {
+                    recorder.addTo(retired);
+                    recorders.remove(recorder);
+                }
+            }
+            return counts;
+        }
+        /**
+         * Registers the interval latencies of this stage with the metric service.
+         */
+        private void publish()
+        {
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            register(metrics,
+                     "p50", //$NON-NLS-1$
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             return getIntervalHistogram().getValueAtPercentile(50);
+                         }
+                     });
+            register(metrics,
+                     "p99", //$NON-NLS-1$
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             return getIntervalHistogram().getValueAtPercentile(99);
+                         }
+                     });
+            register(metrics,
+                     "p999", //$NON-NLS-1$
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             return getIntervalHistogram().getValueAtPercentile(99.9);
+                         }
+                     });
+            register(metrics,
+                     "max", //$NON-NLS-1$
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             return getIntervalHistogram().getMax();
+                         }
+                     });
+            register(metrics,
+                     "count", //$NON-NLS-1$
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             return getIntervalHistogram().getCount();
+                         }
+                     });
+        }
+        /**
+         * Registers the given gauge for this stage, replacing any existing gauge of the same name.
+         *
+         * @param inMetrics a <code>MetricRegistry</code> value
+         * @param inStatistic a <code>String</code> value
+         * @param inGauge a <code>Gauge&lt;Long&gt;</code> value
+         */
+        private void register(MetricRegistry inMetrics,
+                              String inStatistic,
+                              Gauge<Long> inGauge)
+        {
+            String metricName = name(CheckpointLatency.class,
+                                     name,
+                                     inStatistic);
+            inMetrics.remove(metricName);
+            inMetrics.register(metricName,
+                               inGauge);
+        }
+        /**
+         * stage name
+         */
+        private final String name;
+        /**
+         * index of the recorder of this stage in each thread
+         */
+        private final int index;
+        /**
+         * recorders of the threads that have recorded latencies for this stage and have not been released
+         */
+        private final List<Recorder> recorders = new CopyOnWriteArrayList<Recorder>();
+        /**
+         * counts of the threads that have died
+         */
+        @GuardedBy("this")
+        private final long[] retired = new long[LatencyHistogram.BUCKET_COUNT];
+        /**
+         * counts at the start of the current interval
+         */
+        @GuardedBy("this")
+        private long[] previous = new long[LatencyHistogram.BUCKET_COUNT];
+        /**
+         * latencies recorded in the last completed interval
+         */
+        @GuardedBy("this")
+        private LatencyHistogram intervalHistogram = new LatencyHistogram(new long[LatencyHistogram.BUCKET_COUNT]);
+        /**
+         * time the current interval started
+         */
+        @GuardedBy("this")
+        private long intervalStart = System.currentTimeMillis();
+    }
+    /**
+     * Counts the latencies of one stage recorded by one thread.
+     *
+     * <p>Only the owning thread writes to the counts, so increments need not be atomic, only visible.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ThreadSafe
+    private static final class Recorder
+    {
+        /**
+         * Counts the given latency.
+         *
+         * @param inNanos a <code>long</code> value
+         */
+        private void record(long inNanos)
+        {
+            if(inNanos < 0) {
+                return;
+            }
+            int index = LatencyHistogram.bucketIndex(inNanos);
+            counts.lazySet(index,
+                           counts.get(index) + 1);
+        }
+        /**
+         * Adds the counts of this recorder to the given counts.
+         *
+         * @param inCounts a <code>long[]</code> value
+         */
+        private void addTo(long[] inCounts)
+        {
+            for(int i=0;i<inCounts.length;i++) {
+                inCounts[i] += counts.get(i);
+            }
+        }
+        /**
+         * Indicates if the owning thread has died, after which the counts no longer change.
+         *
+         * @return a <code>boolean</code> value
+         */
+        private boolean isRetired()
+        {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+        /**
+         * counts by bucket
+         */
+        private final AtomicLongArray counts = new AtomicLongArray(LatencyHistogram.BUCKET_COUNT);
+        /**
+         * thread that records into this recorder
+         */
+        private final WeakReference<Thread> owner = new WeakReference<Thread>(Thread.currentThread());
+    }
+    /**
+     * Holds the checkpoint state of a thread.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static final class ThreadState
+    {
+        /**
+         * Gets the recorder of the given stage for this thread.
+         *
+         * @param inStage a <code>Stage</code> value
+         * @return a <code>Recorder</code> value
+         */
+        private Recorder recorder(Stage inStage)
+        {
+            if(inStage.index >= recorders.length) {
+                recorders = Arrays.copyOf(recorders,
+                                          Math.max(inStage.index + 1,
+                                                   recorders.length * 2));
+            }
+            Recorder recorder = recorders[inStage.index];
+            if(recorder == null) {
+                recorder = inStage.newRecorder();
+                recorders[inStage.index] = recorder;
+            }
+            return recorder;
+        }
+        /**
+         * time of the last checkpoint on this thread or 0 if processing has not begun
+         */
+        private long last;
+        /**
+         * recorders of this thread by stage index
+         */
+        private Recorder[] recorders = new Recorder[8];
+    }
+    /**
+     * Provides access to latencies through JMX.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static final class BeanImpl
+            implements CheckpointLatencyMXBean
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#isEnabled()
+         */
+        @Override
+        public boolean isEnabled()
+        {
+            return CheckpointLatency.isEnabled();
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#setEnabled(boolean)
+         */
+        @Override
+        public void setEnabled(boolean inEnabled)
+        {
+            CheckpointLatency.setEnabled(inEnabled);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#getIntervalMillis()
+         */
+        @Override
+        public long getIntervalMillis()
+        {
+            return CheckpointLatency.getIntervalMillis();
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#setIntervalMillis(long)
+         */
+        @Override
+        public void setIntervalMillis(long inIntervalMillis)
+        {
+            CheckpointLatency.setIntervalMillis(inIntervalMillis);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#getIntervalLatencies()
+         */
+        @Override
+        public List<String> getIntervalLatencies()
+        {
+            List<String> latencies = new ArrayList<String>();
+            for(Stage stage : getStages()) {
+                latencies.add(stage.getName() + ": " + stage.getIntervalHistogram()); //$NON-NLS-1$
+            }
+            return latencies;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.metrics.CheckpointLatencyMXBean#getTotalLatencies()
+         */
+        @Override
+        public List<String> getTotalLatencies()
+        {
+            List<String> latencies = new ArrayList<String>();
+            for(Stage stage : getStages()) {
+                latencies.add(stage.getName() + ": " + stage.getTotalHistogram()); //$NON-NLS-1$
+            }
+            return latencies;
+        }
+    }
+    /**
+     * Registers the management interface if JMX is enabled for metrics.
+     */
+    private static void registerMgmtInterface()
+    {
+        if(!Boolean.parseBoolean(Configurator.getProperty(JmxUtils.METC_METRICS_JMX_ENABLE,
+                                                          "false"))) { //$NON-NLS-1$
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if(!server.isRegistered(OBJECT_NAME)) {
+                server.registerMBean(new BeanImpl(),
+                                     OBJECT_NAME);
+                Messages.LOG_REGISTERED_MXBEAN.info(CheckpointLatency.class,
+                                                    OBJECT_NAME);
+            }
+        } catch (Exception e) {
+            Messages.LOG_ERROR_REGISTER_MXBEAN.warn(CheckpointLatency.class,
+                                                    e);
+        }
+    }
+    /**
+     * Utility class. Cannot be instantiated.
+     */
+    private CheckpointLatency() {}
+    /**
+     * name of the system property that enables recording when the class is loaded
+     */
+    public static final String ENABLED_KEY = "org.marketcetera.metrics.checkpointLatency"; //$NON-NLS-1$
+    /**
+     * the object name of the management interface
+     */
+    public static final ObjectName OBJECT_NAME;
+    static {
+        try {
+            OBJECT_NAME = new ObjectName(CheckpointLatency.class.getPackage().getName(),
+                                         "name", //$NON-NLS-1$
+                                         CheckpointLatency.class.getSimpleName());
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+    /**
+     * stages by name
+     */
+    private static final ConcurrentMap<String,Stage> stagesByName = new ConcurrentHashMap<String,Stage>();
+    /**
+     * used to number stages
+     */
+    private static final AtomicInteger stageCounter = new AtomicInteger();
+    /**
+     * checkpoint state of each thread
+     */
+    private static final ThreadLocal<ThreadState> threadState = new ThreadLocal<ThreadState>() {
+        @Override
+        protected ThreadState initialValue()
+        {
+            return new ThreadState();
+        }
+    };
+    /**
+     * indicates if latencies are recorded
+     */
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_KEY);
+    /**
+     * length of the interval over which published latencies are collected in milliseconds
+     */
+    private static volatile long intervalMillis = TimeUnit.SECONDS.toMillis(10);
+    static {
+        registerMgmtInterface();
+    }
+}
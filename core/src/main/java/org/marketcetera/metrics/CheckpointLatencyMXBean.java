@@ -0,0 +1,58 @@
+package org.marketcetera.metrics;
+
+import java.util.List;
+
+import javax.management.MXBean;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * JMX management interface for the latencies recorded by {@link CheckpointLatency}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+@MXBean(true)
+public interface CheckpointLatencyMXBean
+{
+    /**
+     * Indicates if latencies are recorded.
+     *
+     * @return a <code>boolean</code> value
+     */
+    boolean isEnabled();
+    /**
+     * Sets whether latencies are recorded.
+     *
+     * @param inEnabled a <code>boolean</code> value
+     */
+    void setEnabled(boolean inEnabled);
+    /**
+     * Gets the length of the interval over which latencies are collected.
+     *
+     * @return a <code>long</code> value in milliseconds
+     */
+    long getIntervalMillis();
+    /**
+     * Sets the length of the interval over which latencies are collected.
+     *
+     * @param inIntervalMillis a <code>long</code> value in milliseconds
+     */
+    void setIntervalMillis(long inIntervalMillis);
+    /**
+     * Gets a summary of the latencies of each stage over the last completed interval.
+     *
+     * @return a <code>List&lt;String&gt;</code> value
+     */
+    List<String> getIntervalLatencies();
+    /**
+     * Gets a summary of all latencies of each stage.
+     *
+     * @return a <code>List&lt;String&gt;</code> value
+     */
+    List<String> getTotalLatencies();
+}
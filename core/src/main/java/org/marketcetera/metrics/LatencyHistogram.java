@@ -0,0 +1,189 @@
+package org.marketcetera.metrics;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Holds a distribution of latencies recorded by {@link CheckpointLatency}.
+ *
+ * <p>Latencies are counted in log-linear buckets in the manner of HdrHistogram: values below
+ * {@value #SUB_BUCKET_COUNT} nanoseconds are counted exactly, larger values are counted in buckets whose
+ * width is 1/{@value #HALF_SUB_BUCKET_COUNT} of the power of two they fall in. Percentiles are therefore
+ * accurate to about three percent regardless of magnitude, and recording a value costs one array increment.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@Immutable
+@ClassVersion("$Id$")
+public class LatencyHistogram
+{
+    /**
+     * Gets the number of values recorded.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getCount()
+    {
+        return count;
+    }
+    /**
+     * Gets the value at or below which the given percentage of values fall.
+     *
+     * @param inPercentile a <code>double</code> value between 0 and 100
+     * @return a <code>long</code> value in nanoseconds or 0 if no values were recorded
+     */
+    public long getValueAtPercentile(double inPercentile)
+    {
+        if(count == 0) {
+            return 0;
+        }
+        double percentile = Math.min(Math.max(inPercentile,
+                                              0),
+                                     100);
+        long target = Math.max(1,
+                               (long)Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i=0;i<counts.length;i++) {
+            seen += counts[i];
+            if(seen >= target) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return getMax();
+    }
+    /**
+     * Gets the largest value recorded, to the precision of the histogram.
+     *
+     * @return a <code>long</code> value in nanoseconds or 0 if no values were recorded
+     */
+    public long getMax()
+    {
+        for(int i=counts.length-1;i>=0;i--) {
+            if(counts[i] != 0) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return 0;
+    }
+    /**
+     * Gets the mean of the values recorded, to the precision of the histogram.
+     *
+     * @return a <code>double</code> value in nanoseconds or 0 if no values were recorded
+     */
+    public double getMean()
+    {
+        if(count == 0) {
+            return 0;
+        }
+        double total = 0;
+        for(int i=0;i<counts.length;i++) {
+            if(counts[i] != 0) {
+                total += (double)counts[i] * ((lowestEquivalentValue(i) + highestEquivalentValue(i)) / 2);
+            }
+        }
+        return total / count;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append("count=").append(count) //$NON-NLS-1$
+                                  .append(" p50=").append(getValueAtPercentile(50)) //$NON-NLS-1$
+                                  .append(" p99=").append(getValueAtPercentile(99)) //$NON-NLS-1$
+                                  .append(" p99.9=").append(getValueAtPercentile(99.9)) //$NON-NLS-1$
+                                  .append(" max=").append(getMax()).toString(); //$NON-NLS-1$
+    }
+    /**
+     * Create a new LatencyHistogram instance.
+     *
+     * @param inCounts a <code>long[]</code> value of length {@link #BUCKET_COUNT}, which is not copied
+     */
+    LatencyHistogram(long[] inCounts)
+    {
+        counts = inCounts;
+        long total = 0;
+        for(long bucketCount : inCounts) {
+            total += bucketCount;
+        }
+        count = total;
+    }
+    /**
+     * Gets the bucket in which the given value is counted.
+     *
+     * @param inValue a <code>long</code> value, which must not be negative
+     * @return an <code>int</code> value
+     */
+    static int bucketIndex(long inValue)
+    {
+        if(inValue < SUB_BUCKET_COUNT) {
+            return (int)inValue;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(inValue)) - SUB_BUCKET_BITS + 1;
+        return SUB_BUCKET_COUNT + ((shift - 1) << HALF_SUB_BUCKET_BITS) + (int)(inValue >>> shift) - HALF_SUB_BUCKET_COUNT;
+    }
+    /**
+     * Gets the smallest value counted in the given bucket.
+     *
+     * @param inIndex an <code>int</code> value
+     * @return a <code>long</code> value
+     */
+    static long lowestEquivalentValue(int inIndex)
+    {
+        if(inIndex < SUB_BUCKET_COUNT) {
+            return inIndex;
+        }
+        int offset = inIndex - SUB_BUCKET_COUNT;
+        int shift = (offset >>> HALF_SUB_BUCKET_BITS) + 1;
+        long mantissa = (offset & (HALF_SUB_BUCKET_COUNT - 1)) + HALF_SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+    /**
+     * Gets the largest value counted in the given bucket.
+     *
+     * @param inIndex an <code>int</code> value
+     * @return a <code>long</code> value
+     */
+    static long highestEquivalentValue(int inIndex)
+    {
+        if(inIndex < SUB_BUCKET_COUNT) {
+            return inIndex;
+        }
+        int shift = ((inIndex - SUB_BUCKET_COUNT) >>> HALF_SUB_BUCKET_BITS) + 1;
+        return lowestEquivalentValue(inIndex) + (1L << shift) - 1;
+    }
+    /**
+     * number of bits of precision kept for each value
+     */
+    private static final int SUB_BUCKET_BITS = 6;
+    /**
+     * number of values counted exactly
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /**
+     * number of bits used to select a bucket within a power of two
+     */
+    private static final int HALF_SUB_BUCKET_BITS = SUB_BUCKET_BITS - 1;
+    /**
+     * number of buckets in each power of two
+     */
+    private static final int HALF_SUB_BUCKET_COUNT = 1 << HALF_SUB_BUCKET_BITS;
+    /**
+     * number of buckets needed to count any non-negative <code>long</code> value
+     */
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ((63 - SUB_BUCKET_BITS) << HALF_SUB_BUCKET_BITS);
+    /**
+     * counts by bucket
+     */
+    private final long[] counts;
+    /**
+     * total number of values recorded
+     */
+    private final long count;
+}
@@ -0,0 +1,179 @@
+package org.marketcetera.metrics;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.ws.MarshallerPool;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+
+/* $License$ */
+
+/**
+ * Publishes the statistics of {@link MarshallerPool} instances to the {@link MetricService}.
+ *
+ * <p>The gauges of a name report the combined statistics of all the pools registered under that
+ * name, so several instances of a class that register their pools under the same name do not
+ * replace each other's gauges. Pools are held weakly and stop being reported once they are
+ * no longer used.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public class MarshallerPoolMetrics
+{
+    /**
+     * Adds the given pool to the gauges of the given name, registering the gauges if necessary.
+     *
+     * @param inName a <code>String</code> value
+     * @param inPool a <code>MarshallerPool</code> value
+     */
+    public static void register(String inName,
+                                MarshallerPool inPool)
+    {
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        synchronized(pools) {
+            Set<MarshallerPool> namedPools = pools.get(inName);
+            if(namedPools == null) {
+                namedPools = Collections.newSetFromMap(new MapMaker().weakKeys().<MarshallerPool,Boolean>makeMap());
+                pools.put(inName,
+                          namedPools);
+            }
+            namedPools.add(inPool);
+            final Set<MarshallerPool> gaugePools = namedPools;
+            register(metrics,
+                     inName,
+                     ACQUIRED,
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             long acquired = 0;
+                             for(MarshallerPool pool : gaugePools) {
+                                 acquired += pool.getAcquiredCount();
+                             }
+                             return acquired;
+                         }
+                     });
+            register(metrics,
+                     inName,
+                     CREATED,
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             long created = 0;
+                             for(MarshallerPool pool : gaugePools) {
+                                 created += pool.getCreatedCount();
+                             }
+                             return created;
+                         }
+                     });
+            register(metrics,
+                     inName,
+                     MEAN_WAIT,
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             long acquired = 0;
+                             long totalWait = 0;
+                             for(MarshallerPool pool : gaugePools) {
+                                 acquired += pool.getAcquiredCount();
+                                 totalWait += pool.getTotalWaitNanos();
+                             }
+                             return acquired == 0 ? 0 : totalWait / acquired;
+                         }
+                     });
+            register(metrics,
+                     inName,
+                     MAX_WAIT,
+                     new Gauge<Long>() {
+                         @Override
+                         public Long getValue()
+                         {
+                             long maxWait = 0;
+                             for(MarshallerPool pool : gaugePools) {
+                                 maxWait = Math.max(maxWait,
+                                                    pool.getMaxWaitNanos());
+                             }
+                             return maxWait;
+                         }
+                     });
+        }
+    }
+    /**
+     * Removes the given pool from the gauges of the given name.
+     *
+     * @param inName a <code>String</code> value
+     * @param inPool a <code>MarshallerPool</code> value
+     */
+    public static void unregister(String inName,
+                                  MarshallerPool inPool)
+    {
+        synchronized(pools) {
+            Set<MarshallerPool> namedPools = pools.get(inName);
+            if(namedPools != null) {
+                namedPools.remove(inPool);
+            }
+        }
+    }
+    /**
+     * Registers the given gauge unless a gauge is already registered under its name.
+     *
+     * @param inMetrics a <code>MetricRegistry</code> value
+     * @param inName a <code>String</code> value
+     * @param inStatistic a <code>String</code> value
+     * @param inGauge a <code>Gauge&lt;Long&gt;</code> value
+     */
+    @GuardedBy("pools")
+    private static void register(MetricRegistry inMetrics,
+                                 String inName,
+                                 String inStatistic,
+                                 Gauge<Long> inGauge)
+    {
+        String metricName = name(MarshallerPool.class,
+                                 inName,
+                                 inStatistic);
+        if(!inMetrics.getGauges().containsKey(metricName)) {
+            inMetrics.register(metricName,
+                               inGauge);
+        }
+    }
+    /**
+     * Utility class. Cannot be instantiated.
+     */
+    private MarshallerPoolMetrics() {}
+    /**
+     * pools reported by the gauges of each name
+     */
+    @GuardedBy("pools")
+    private static final Map<String,Set<MarshallerPool>> pools = Maps.newHashMap();
+    /**
+     * name of the gauge of the number of marshallers and unmarshallers obtained
+     */
+    private static final String ACQUIRED = "acquired"; //$NON-NLS-1$
+    /**
+     * name of the gauge of the number of marshallers and unmarshallers created
+     */
+    private static final String CREATED = "created"; //$NON-NLS-1$
+    /**
+     * name of the gauge of the mean time to obtain a marshaller or unmarshaller
+     */
+    private static final String MEAN_WAIT = "meanWaitNanos"; //$NON-NLS-1$
+    /**
+     * name of the gauge of the longest time to obtain a marshaller or unmarshaller
+     */
+    private static final String MAX_WAIT = "maxWaitNanos"; //$NON-NLS-1$
+}
@@ -1,7 +1,9 @@
 package org.marketcetera.module;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.util.except.I18NException;
 import org.marketcetera.util.log.I18NBoundMessage;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -25,7 +27,9 @@ import org.marketcetera.util.misc.ClassVersion;
  * The <code>process()</code> method is called when the emitter module
  * emits data. From within <code>process()</code> method subclasses
  * eventually invoke {@link #receive(Object)} method to supply
- * the emitted data to the receiver module. 
+ * the emitted data to the receiver module. Subclasses that queue data
+ * may instead invoke {@link #receiveBatch(List)} to supply all the data
+ * waiting for the receiver at once.
  *
  * @author anshul@marketcetera.com
  * @version $Id$
@@ -173,25 +177,143 @@ abstract class AbstractDataCoupler
                 }
             }
         } catch (Throwable t) {
-            if(t instanceof I18NException) {
-                mLastReceiveError = ((I18NException)t).getLocalizedDetail();
-            } else {
-                mLastReceiveError = t.getLocalizedMessage();
+            receiveFailed(t,
+                          inData);
+        }
+    }
+
+    /**
+     * Indicates if the receiver of this coupling accepts batches of data.
+     *
+     * @return true if {@link #receiveBatch(List)} supplies the receiver with
+     * the whole batch in a single invocation.
+     */
+    protected final boolean isBatchReceiver() {
+        return mBatchReceiver != null;
+    }
+
+    /**
+     * Supplies a batch of data emitted by the emitter to the receiver.
+     * If the receiver is a {@link BatchDataReceiver}, the batch is supplied
+     * in a single invocation, otherwise each data object is supplied with
+     * {@link #receive(Object)}. The batch may be reused by the caller
+     * once this method returns.
+     *
+     * @param inBatch the data objects, individual data objects can be null
+     */
+    protected final void receiveBatch(List<Object> inBatch) {
+        if(mBatchReceiver == null) {
+            for(Object data : inBatch) {
+                receive(data);
             }
-            Messages.LOG_DATA_RECEIVE_ERROR.warn(this, t,
-                    mReceiver.getURN(), inData);
-            if(t instanceof StopDataFlowException) {
-                Messages.LOG_CANCELING_DATA_FLOW.info(this, t,
-                        mFlowID, getReceiverURN());
-                cancelDataFlow(mReceiver);
+            return;
+        }
+        try {
+            mReceived.addAndGet(inBatch.size());
+            boolean failed = true;
+            try {
+                mBatchReceiver.receiveBatch(mFlowID,inBatch);
+                failed = false;
+                SLF4JLoggerProxy.debug(this, "{} received {}",  //$NON-NLS-1$
+                        mReceiver.getURN(),
+                        mReceived);
+            } finally {
+                if(failed) {
+                    mReceiveErrors.incrementAndGet();
+                }
             }
-            if(exceptionHandler != null) {
-                try {
-                    exceptionHandler.onException(t);
-                } catch (Exception e) {
-                    SLF4JLoggerProxy.warn(this,
-                                          e);
+        } catch (Throwable t) {
+            receiveFailed(t,
+                          inBatch);
+        }
+    }
+
+    /**
+     * Prepares the given data to be received on another thread. If
+     * checkpoint latencies are being recorded on the emitting thread,
+     * the data is wrapped with the checkpoint state of the thread so
+     * that {@link #resumeCheckpoint(Object)} can continue recording on
+     * the receiving thread.
+     *
+     * @param inData the data object, can be null
+     * @return the data object to hand to the receiving thread
+     */
+    protected static Object captureCheckpoint(Object inData) {
+        long checkpoint = CheckpointLatency.capture();
+        if(checkpoint == 0) {
+            return inData;
+        }
+        return new CheckpointedData(inData,
+                                    checkpoint);
+    }
+
+    /**
+     * Continues recording checkpoint latencies on the current thread
+     * for data prepared with {@link #captureCheckpoint(Object)}.
+     *
+     * @param inData the data object as handed to the receiving thread
+     * @return the data object as emitted
+     */
+    protected static Object resumeCheckpoint(Object inData) {
+        if(inData instanceof CheckpointedData) {
+            CheckpointedData data = (CheckpointedData)inData;
+            CheckpointLatency.resume(data.checkpoint);
+            return data.data;
+        }
+        CheckpointLatency.end();
+        return inData;
+    }
+
+    /**
+     * Continues recording checkpoint latencies on the current thread
+     * for a batch of data prepared with {@link #captureCheckpoint(Object)},
+     * replacing each data object in the batch with the data object as
+     * emitted. Recording continues from the oldest data in the batch.
+     *
+     * @param inBatch the data objects as handed to the receiving thread
+     */
+    protected static void resumeCheckpoints(List<Object> inBatch) {
+        long checkpoint = 0;
+        for(int i=0;i<inBatch.size();i++) {
+            Object data = inBatch.get(i);
+            if(data instanceof CheckpointedData) {
+                CheckpointedData checkpointedData = (CheckpointedData)data;
+                if(checkpoint == 0) {
+                    checkpoint = checkpointedData.checkpoint;
                 }
+                inBatch.set(i,
+                            checkpointedData.data);
+            }
+        }
+        CheckpointLatency.resume(checkpoint);
+    }
+
+    /**
+     * Records and reports an error thrown by the receiver.
+     *
+     * @param inThrowable the error thrown by the receiver
+     * @param inData the data, or batch of data, being received
+     */
+    private void receiveFailed(Throwable inThrowable,
+                               Object inData) {
+        if(inThrowable instanceof I18NException) {
+            mLastReceiveError = ((I18NException)inThrowable).getLocalizedDetail();
+        } else {
+            mLastReceiveError = inThrowable.getLocalizedMessage();
+        }
+        Messages.LOG_DATA_RECEIVE_ERROR.warn(this, inThrowable,
+                mReceiver.getURN(), inData);
+        if(inThrowable instanceof StopDataFlowException) {
+            Messages.LOG_CANCELING_DATA_FLOW.info(this, inThrowable,
+                    mFlowID, getReceiverURN());
+            cancelDataFlow(mReceiver);
+        }
+        if(exceptionHandler != null) {
+            try {
+                exceptionHandler.onException(inThrowable);
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e);
             }
         }
     }
@@ -214,6 +336,7 @@ abstract class AbstractDataCoupler
         mManager = inManager;
         mEmitter = inEmitter;
         mReceiver = inReceiver;
+        mBatchReceiver = inReceiver instanceof BatchDataReceiver ? (BatchDataReceiver)inReceiver : null;
         mFlowID = inFlowID;
         exceptionHandler = inExceptionHandler;
     }
@@ -332,15 +455,49 @@ abstract class AbstractDataCoupler
                 .append(mReceiver).append('(').append(mReceived).append(')');
         return builder.toString();
     }
+    /**
+     * Holds data handed to another thread with the checkpoint state of
+     * the emitting thread.
+     */
+    private static final class CheckpointedData {
+        /**
+         * Creates new instance.
+         *
+         * @param inData the data object
+         * @param inCheckpoint the checkpoint state of the emitting thread
+         */
+        private CheckpointedData(Object inData,
+                                 long inCheckpoint) {
+            data = inData;
+            checkpoint = inCheckpoint;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString() {
+            return String.valueOf(data);
+        }
+        private final Object data;
+        private final long checkpoint;
+    }
     private final ModuleManager mManager;
     private final Module mEmitter;
     private final Module mReceiver;
+    /**
+     * The receiver, if it accepts batches of data, otherwise null.
+     */
+    private final BatchDataReceiver mBatchReceiver;
     private final AtomicLong mReceived = new AtomicLong(0);
     private final AtomicLong mEmitted = new AtomicLong(0);
     private final AtomicLong mReceiveErrors = new AtomicLong(0);
     private final AtomicLong mEmitErrors = new AtomicLong(0);
     private final DataFlowID mFlowID;
     private final DataFlowExceptionHandler exceptionHandler;
+    /**
+     * The maximum number of data objects supplied to a receiver in one batch.
+     */
+    static final int MAX_BATCH_SIZE = 1024;
 
     /*
      * The following variables are kept as volatile to avoid overhead
@@ -1,5 +1,8 @@
 package org.marketcetera.module;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.marketcetera.core.QueueProcessor;
 
 /* $License$ */
@@ -7,6 +10,12 @@ import org.marketcetera.core.QueueProcessor;
 /**
  * Manages asynchronous data flow coupling.
  * 
+ * <p>If the receiver is a {@link BatchDataReceiver}, all the data waiting in the queue, up to
+ * {@link #MAX_BATCH_SIZE}, is supplied to the receiver at once.
+ * 
+ * <p>The checkpoint latencies being recorded on the emitting thread, if any, continue
+ * to be recorded on the receiving thread.
+ * 
  * <p>Note that this class lacks a needed policy for thread management. Right now, a new thread is allocated for
  * each data flow. It is probably better to have a maximum number of threads set aside for async data flows. 
  *
@@ -44,7 +53,7 @@ public class AsyncCoupler
     @Override
     protected void process(Object inData)
     {
-        processor.add(inData);
+        processor.add(captureCheckpoint(inData));
     }
     /* (non-Javadoc)
      * @see org.marketcetera.module.AbstractDataCoupler#preInitiate()
@@ -93,8 +102,26 @@ public class AsyncCoupler
         protected void processData(Object inData)
                 throws Exception
         {
-            AsyncCoupler.this.receive(inData);
+            if(!isBatchReceiver()) {
+                AsyncCoupler.this.receive(resumeCheckpoint(inData));
+                return;
+            }
+            batch.add(inData);
+            int drained = getQueue().drainTo(batch,
+                                             MAX_BATCH_SIZE - 1);
+            queueCounterMetric.dec(drained);
+            processQueueMetric.mark(drained);
+            resumeCheckpoints(batch);
+            try {
+                receiveBatch(batch);
+            } finally {
+                batch.clear();
+            }
         }
+        /**
+         * holds data drained from the queue for a batch receiver, reused for each batch
+         */
+        private final List<Object> batch = new ArrayList<>();
     }
     /**
      * processes async data objects
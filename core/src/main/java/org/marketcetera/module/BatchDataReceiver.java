@@ -0,0 +1,49 @@
+package org.marketcetera.module;
+
+import java.util.List;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * Implemented by a {@link DataReceiver} that can receive several data
+ * objects in a single invocation.
+ *
+ * <p>Asynchronous couplings drain all the data that is waiting for the
+ * receiver and supply it through {@link #receiveBatch(DataFlowID, List)}
+ * instead of invoking {@link #receiveData(DataFlowID, Object)} for each
+ * data object. Synchronous couplings continue to use
+ * {@link #receiveData(DataFlowID, Object)}, so implementers must support both.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public interface BatchDataReceiver
+        extends DataReceiver
+{
+    /**
+     * The module framework invokes this method to supply a batch of data
+     * to this module, in the order in which it was emitted.
+     *
+     * <p>The list is reused by the framework once this method returns, so
+     * implementations must not retain a reference to it. If this method throws
+     * an exception, the batch is counted as a single receive error and the
+     * remaining data in the batch is not redelivered.
+     *
+     * @param inFlowID the ID of the data flow under the auspices of which
+     * this data is being sent to this module
+     * @param inBatch the data objects, never empty. Individual data objects can be null
+     *
+     * @throws UnsupportedDataTypeException if the module does not support
+     * receiving data that was sent to it.
+     * @throws StopDataFlowException if the module cannot receive any more
+     * data and wants to stop any more data flowing into it.
+     * @throws ReceiveDataException if the module cannot receive data for
+     * any other reason.
+     */
+    public void receiveBatch(DataFlowID inFlowID,
+                             List<Object> inBatch)
+            throws ReceiveDataException;
+}
@@ -0,0 +1,171 @@
+package org.marketcetera.module;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * Selects a handler for data by the class of the data.
+ *
+ * <p>Modules that treat received data differently depending on its type register a handler for each
+ * type they handle instead of testing the data against each type in turn. A handler registered for a
+ * type handles instances of that type and of its subtypes. If the class of some data is assignable to
+ * more than one registered type, the handler of the type registered first is selected, so handlers
+ * should be registered in the order in which the equivalent <code>instanceof</code> tests would be made.
+ * Data that matches no registered type is handled by the default handler, if any.
+ *
+ * <p>The handler selected for each class is cached, so selecting a handler for a class that has been seen
+ * before costs a single lookup regardless of the number of registered types. Registering a handler discards
+ * the cache. Handlers are typically registered once when the registry is created.
+ *
+ * @param <H> the type of the handlers
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class ClassDispatchRegistry<H>
+{
+    /**
+     * Registers the given handler for the given type and its subtypes.
+     *
+     * <p>If a handler is already registered for the type, it is replaced, keeping the precedence
+     * of the original registration.
+     *
+     * @param inType a <code>Class&lt;?&gt;</code> value
+     * @param inHandler an <code>H</code> value
+     * @return a <code>ClassDispatchRegistry&lt;H&gt;</code> value
+     * @throws IllegalArgumentException if the type or handler is <code>null</code>
+     */
+    public ClassDispatchRegistry<H> register(Class<?> inType,
+                                             H inHandler)
+    {
+        Validate.notNull(inType);
+        Validate.notNull(inHandler);
+        synchronized(handlersByType) {
+            handlersByType.put(inType,
+                               inHandler);
+            cache = newCache();
+        }
+        return this;
+    }
+    /**
+     * Sets the handler for data that matches no registered type.
+     *
+     * @param inHandler an <code>H</code> value or <code>null</code>
+     * @return a <code>ClassDispatchRegistry&lt;H&gt;</code> value
+     */
+    public ClassDispatchRegistry<H> setDefaultHandler(H inHandler)
+    {
+        synchronized(handlersByType) {
+            defaultHandler = inHandler;
+            cache = newCache();
+        }
+        return this;
+    }
+    /**
+     * Gets the handler for instances of the given class.
+     *
+     * @param inType a <code>Class&lt;?&gt;</code> value
+     * @return an <code>H</code> value or <code>null</code> if the class matches no registered type and there is no default handler
+     */
+    public H getHandler(Class<?> inType)
+    {
+        return cache.get(inType).handler;
+    }
+    /**
+     * Gets the handler for the given data.
+     *
+     * @param inData an <code>Object</code> value
+     * @return an <code>H</code> value or <code>null</code> if the data is <code>null</code>, or if the class of the data
+     *  matches no registered type and there is no default handler
+     */
+    public H getHandler(Object inData)
+    {
+        if(inData == null) {
+            return null;
+        }
+        return getHandler(inData.getClass());
+    }
+    /**
+     * Selects the handler for instances of the given class.
+     *
+     * @param inType a <code>Class&lt;?&gt;</code> value
+     * @return an <code>H</code> value or <code>null</code>
+     */
+    private H resolve(Class<?> inType)
+    {
+        synchronized(handlersByType) {
+            H handler = handlersByType.get(inType);
+            if(handler != null) {
+                return handler;
+            }
+            for(Map.Entry<Class<?>,H> entry : handlersByType.entrySet()) {
+                if(entry.getKey().isAssignableFrom(inType)) {
+                    return entry.getValue();
+                }
+            }
+            return defaultHandler;
+        }
+    }
+    /**
+     * Creates a cache of the handlers selected for each class.
+     *
+     * @return a <code>ClassValue&lt;Selection&lt;H&gt;&gt;</code> value
+     */
+    private ClassValue<Selection<H>> newCache()
+    {
+        return new ClassValue<Selection<H>>() {
+            @Override
+            protected Selection<H> computeValue(Class<?> inType)
+            {
+                return new Selection<H>(resolve(inType));
+            }
+        };
+    }
+    /**
+     * Holds the handler selected for a class, which may be <code>null</code>.
+     *
+     * @param <H> the type of the handler
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Selection<H>
+    {
+        /**
+         * Create a new Selection instance.
+         *
+         * @param inHandler an <code>H</code> value or <code>null</code>
+         */
+        private Selection(H inHandler)
+        {
+            handler = inHandler;
+        }
+        /**
+         * the selected handler or <code>null</code>
+         */
+        private final H handler;
+    }
+    /**
+     * registered handlers by type in the order of registration
+     */
+    @GuardedBy("handlersByType")
+    private final Map<Class<?>,H> handlersByType = new LinkedHashMap<Class<?>,H>();
+    /**
+     * the handler for data that matches no registered type
+     */
+    @GuardedBy("handlersByType")
+    private H defaultHandler;
+    /**
+     * handlers selected for each class since the last registration
+     */
+    private volatile ClassValue<Selection<H>> cache = newCache();
+}
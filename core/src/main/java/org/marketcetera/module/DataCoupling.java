@@ -50,6 +50,25 @@ public enum DataCoupling {
                                     inFlowID,
                                     inExceptionHandler);
         }
+    },
+    /**
+     * Data is communicated asynchronously through a bounded, preallocated
+     * ring. The capacity, wait strategy, and back pressure policy are
+     * configured on the {@link ModuleManager}.
+     */
+    RING {
+        AbstractDataCoupler createCoupler(ModuleManager inManager,
+                                          Module inEmitter,
+                                          Module inReceiver,
+                                          DataFlowID inFlowID,
+                                          DataFlowExceptionHandler inExceptionHandler)
+        {
+            return new RingCoupler(inManager,
+                                   inEmitter,
+                                   inReceiver,
+                                   inFlowID,
+                                   inExceptionHandler);
+        }
     };
 
     /**
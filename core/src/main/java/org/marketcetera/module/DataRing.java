@@ -0,0 +1,360 @@
+package org.marketcetera.module;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * A bounded, preallocated ring of data objects passed from one emitting
+ * thread to one receiving thread.
+ *
+ * <p>Slots are claimed by sequence number rather than by allocating queue nodes. The
+ * emitter publishes a slot by advancing the published sequence and the receiver
+ * releases it by advancing the consumed sequence, so the receiver never takes a lock
+ * unless it waits with {@link RingWaitStrategy#BLOCKING}. Released slots are cleared so that
+ * the ring does not keep data objects reachable after they have been received.
+ *
+ * <p>Publishing is serialized with the ring's monitor. A module may emit data from any thread,
+ * and a single published sequence is only correct for one publisher at a time. Letting
+ * several publishers claim slots without a lock would require a published flag per slot that
+ * the receiver checks for every data object. With the usual single emitting thread the
+ * monitor is never contended.
+ *
+ * <p>The receiver waits for data according to the given {@link RingWaitStrategy}. When
+ * the ring is full, the emitter behaves according to the given {@link RingBackPressure},
+ * parking briefly between checks for space if it has to wait.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+class DataRing
+{
+    /**
+     * Create a new DataRing instance.
+     *
+     * @param inCapacity an <code>int</code> value, rounded up to the next power of two
+     * @param inWaitStrategy a <code>RingWaitStrategy</code> value
+     * @param inBackPressure a <code>RingBackPressure</code> value
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws NullPointerException if the wait strategy or back pressure policy is <code>null</code>
+     */
+    DataRing(int inCapacity,
+             RingWaitStrategy inWaitStrategy,
+             RingBackPressure inBackPressure)
+    {
+        Validate.isTrue(inCapacity > 0,
+                        "Ring capacity must be positive");
+        if(inWaitStrategy == null || inBackPressure == null) {
+            throw new NullPointerException();
+        }
+        int capacity = Integer.highestOneBit(inCapacity);
+        if(capacity < inCapacity) {
+            capacity <<= 1;
+        }
+        entries = new Object[capacity];
+        mask = capacity - 1;
+        waitStrategy = inWaitStrategy;
+        backPressure = inBackPressure;
+    }
+    /**
+     * Publishes the given data to the ring.
+     *
+     * <p>Synchronized because emitters may send from more than one thread, see the class comment.
+     *
+     * @param inData an <code>Object</code> value
+     * @return a <code>boolean</code> value indicating if the data was accepted, <code>false</code> if
+     *  the ring is full and the back pressure policy is {@link RingBackPressure#FAIL} or the ring has been halted
+     * @throws InterruptedException if the calling thread is interrupted while waiting for space
+     */
+    synchronized boolean publish(Object inData)
+            throws InterruptedException
+    {
+        if(halted) {
+            return false;
+        }
+        long sequence = published.get() + 1;
+        long wrapPoint = sequence - entries.length;
+        while(wrapPoint > consumed.get()) {
+            switch(backPressure) {
+                case BLOCK:
+                    if(halted) {
+                        return false;
+                    }
+                    if(Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    LockSupport.parkNanos(1);
+                    break;
+                case DROP_OLDEST:
+                    long oldest = consumed.get();
+                    if(consumed.compareAndSet(oldest,
+                                              oldest + 1)) {
+                        dropped.incrementAndGet();
+                    }
+                    break;
+                case FAIL:
+                    return false;
+                default:
+                    throw new UnsupportedOperationException(backPressure.name());
+            }
+        }
+        if(backPressure == RingBackPressure.DROP_OLDEST) {
+            clearReleased();
+        }
+        entries[(int)(sequence & mask)] = inData;
+        if(waitStrategy == RingWaitStrategy.BLOCKING) {
+            // a full volatile write so that either this thread sees the receiver waiting or the receiver sees the new sequence
+            published.set(sequence);
+            if(receiverWaiting) {
+                lock.lock();
+                try {
+                    dataAvailable.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } else {
+            published.lazySet(sequence);
+        }
+        return true;
+    }
+    /**
+     * Takes the next data object from the ring, waiting if necessary.
+     *
+     * @return an <code>Object</code> value
+     * @throws InterruptedException if the ring is halted or the calling thread is interrupted while waiting
+     */
+    Object take()
+            throws InterruptedException
+    {
+        while(true) {
+            long current = consumed.get();
+            long next = current + 1;
+            waitFor(next);
+            Object data = entries[(int)(next & mask)];
+            if(backPressure == RingBackPressure.DROP_OLDEST) {
+                // the emitter may have discarded this slot and reused it while it was being read
+                if(consumed.compareAndSet(current,
+                                          next)) {
+                    return data;
+                }
+            } else {
+                entries[(int)(next & mask)] = null;
+                consumed.lazySet(next);
+                return data;
+            }
+        }
+    }
+    /**
+     * Moves the data objects that have been published but not yet taken to the given list, without waiting.
+     *
+     * @param inBatch a <code>List&lt;Object&gt;</code> value to which data objects are added in order
+     * @param inMaxElements an <code>int</code> value holding the maximum number of data objects to move
+     * @return an <code>int</code> value holding the number of data objects moved
+     */
+    int drainTo(List<Object> inBatch,
+                int inMaxElements)
+    {
+        if(backPressure == RingBackPressure.DROP_OLDEST) {
+            // each slot must be claimed individually since the emitter may discard it concurrently
+            int count = 0;
+            while(count < inMaxElements) {
+                long current = consumed.get();
+                long next = current + 1;
+                if(published.get() < next) {
+                    break;
+                }
+                Object data = entries[(int)(next & mask)];
+                if(consumed.compareAndSet(current,
+                                          next)) {
+                    inBatch.add(data);
+                    count += 1;
+                }
+            }
+            return count;
+        }
+        long current = consumed.get();
+        long last = Math.min(published.get(),
+                             current + inMaxElements);
+        for(long sequence=current+1;sequence<=last;sequence++) {
+            int index = (int)(sequence & mask);
+            inBatch.add(entries[index]);
+            entries[index] = null;
+        }
+        if(last > current) {
+            consumed.lazySet(last);
+            return (int)(last - current);
+        }
+        return 0;
+    }
+    /**
+     * Halts the ring, releasing any waiting receiver and rejecting further data.
+     */
+    void halt()
+    {
+        halted = true;
+        lock.lock();
+        try {
+            dataAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Gets the number of data objects published but not yet taken.
+     *
+     * @return an <code>int</code> value
+     */
+    int size()
+    {
+        long size = published.get() - consumed.get();
+        return size < 0 ? 0 : (int)size;
+    }
+    /**
+     * Gets the capacity of the ring.
+     *
+     * @return an <code>int</code> value
+     */
+    int getCapacity()
+    {
+        return entries.length;
+    }
+    /**
+     * Gets the number of data objects discarded to make room for newer data.
+     *
+     * @return a <code>long</code> value
+     */
+    long getDropped()
+    {
+        return dropped.get();
+    }
+    /**
+     * Clears the slots released by the receiver since the last time this method was called.
+     *
+     * <p>Used with {@link RingBackPressure#DROP_OLDEST}, where the receiver cannot clear a slot itself:
+     * once the receiver claims a slot, the emitter may discard the next one and reuse the claimed
+     * slot at once. Slots at or below the consumed sequence are no longer read, so the emitter can
+     * clear them before it publishes.
+     */
+    @GuardedBy("this")
+    private void clearReleased()
+    {
+        long last = consumed.get();
+        for(long sequence=Math.max(cleared,last-entries.length)+1;sequence<=last;sequence++) {
+            entries[(int)(sequence & mask)] = null;
+        }
+        cleared = Math.max(cleared,
+                           last);
+    }
+    /**
+     * Waits until the given sequence has been published.
+     *
+     * @param inSequence a <code>long</code> value
+     * @throws InterruptedException if the ring is halted or the calling thread is interrupted while waiting
+     */
+    private void waitFor(long inSequence)
+            throws InterruptedException
+    {
+        int spins = 0;
+        while(published.get() < inSequence) {
+            if(halted || Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if(waitStrategy == RingWaitStrategy.BLOCKING) {
+                lock.lockInterruptibly();
+                try {
+                    receiverWaiting = true;
+                    while(published.get() < inSequence && !halted) {
+                        dataAvailable.await();
+                    }
+                } finally {
+                    receiverWaiting = false;
+                    lock.unlock();
+                }
+            } else {
+                spins = pause(spins);
+            }
+        }
+    }
+    /**
+     * Pauses the receiving thread briefly according to the wait strategy.
+     *
+     * @param inSpins an <code>int</code> value holding the number of times the caller has paused so far
+     * @return an <code>int</code> value holding the updated number of pauses
+     */
+    private int pause(int inSpins)
+    {
+        if(waitStrategy == RingWaitStrategy.YIELDING) {
+            if(inSpins < SPIN_TRIES) {
+                return inSpins + 1;
+            }
+            Thread.yield();
+        }
+        return inSpins;
+    }
+    /**
+     * number of times to spin before yielding
+     */
+    private static final int SPIN_TRIES = 100;
+    /**
+     * preallocated slots, indexed by sequence &amp; {@link #mask}
+     */
+    private final Object[] entries;
+    /**
+     * mask applied to a sequence to find its slot
+     */
+    private final int mask;
+    /**
+     * determines how the receiver waits for data
+     */
+    private final RingWaitStrategy waitStrategy;
+    /**
+     * determines what happens when the ring is full
+     */
+    private final RingBackPressure backPressure;
+    /**
+     * sequence of the last published slot
+     */
+    private final AtomicLong published = new AtomicLong(-1);
+    /**
+     * sequence of the last consumed slot
+     */
+    private final AtomicLong consumed = new AtomicLong(-1);
+    /**
+     * sequence of the last slot cleared by {@link #clearReleased()}
+     */
+    @GuardedBy("this")
+    private long cleared = -1;
+    /**
+     * number of data objects discarded to make room for newer data
+     */
+    private final AtomicLong dropped = new AtomicLong(0);
+    /**
+     * guards the receiver while it waits for data with {@link RingWaitStrategy#BLOCKING}
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * signaled when data is published to a waiting receiver
+     */
+    private final Condition dataAvailable = lock.newCondition();
+    /**
+     * indicates if the receiver is waiting for data with {@link RingWaitStrategy#BLOCKING}
+     */
+    private volatile boolean receiverWaiting = false;
+    /**
+     * indicates if the ring has been halted
+     */
+    private volatile boolean halted = false;
+}
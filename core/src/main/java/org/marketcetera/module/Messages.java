@@ -179,5 +179,6 @@ public interface Messages {
     static final I18NMessage1P NO_APPLICATION_CONTEXT_MODULE = new I18NMessage1P(LOGGER,"no_application_context");   //$NON-NLS-1$
     static final I18NMessage1P CANNOT_AUTOWIRE_MODULE = new I18NMessage1P(LOGGER,"cannot_autowire_module");   //$NON-NLS-1$
     static final I18NMessage1P MODULE_REQUIRES_AUTOWIRING = new I18NMessage1P(LOGGER,"module_requires_autowiring");   //$NON-NLS-1$
+    static final I18NMessage2P RING_COUPLER_FULL = new I18NMessage2P(LOGGER,"ring_coupler_full");   //$NON-NLS-1$
 
 }
@@ -29,6 +29,7 @@ import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
+import org.apache.commons.lang.Validate;
 import org.marketcetera.core.ApplicationContextProvider;
 import org.marketcetera.core.CloseableLock;
 import org.marketcetera.util.log.I18NBoundMessage1P;
@@ -1133,6 +1134,71 @@ public final class ModuleManager
         addToFlowHistory(null);
     }
 
+    /**
+     * The number of data objects held by each {@link DataCoupling#RING}
+     * coupling. The default value is {@link #DEFAULT_RING_COUPLER_CAPACITY}.
+     *
+     * @return the ring capacity.
+     */
+    public int getRingCouplerCapacity() {
+        return mRingCouplerCapacity;
+    }
+
+    /**
+     * Sets the number of data objects held by each {@link DataCoupling#RING}
+     * coupling. The value is rounded up to the next power of two and
+     * applies to data flows created after it is set.
+     *
+     * @param inRingCouplerCapacity the ring capacity, must be positive.
+     */
+    public void setRingCouplerCapacity(int inRingCouplerCapacity) {
+        Validate.isTrue(inRingCouplerCapacity > 0,
+                        "Ring capacity must be positive"); //$NON-NLS-1$
+        mRingCouplerCapacity = inRingCouplerCapacity;
+    }
+
+    /**
+     * How the receiving thread of a {@link DataCoupling#RING} coupling
+     * waits for data. The default value is {@link RingWaitStrategy#BLOCKING}.
+     *
+     * @return the wait strategy.
+     */
+    public RingWaitStrategy getRingCouplerWaitStrategy() {
+        return mRingCouplerWaitStrategy;
+    }
+
+    /**
+     * Sets how the receiving thread of a {@link DataCoupling#RING} coupling
+     * waits for data. Applies to data flows created after it is set.
+     *
+     * @param inRingCouplerWaitStrategy the wait strategy.
+     */
+    public void setRingCouplerWaitStrategy(RingWaitStrategy inRingCouplerWaitStrategy) {
+        Validate.notNull(inRingCouplerWaitStrategy);
+        mRingCouplerWaitStrategy = inRingCouplerWaitStrategy;
+    }
+
+    /**
+     * What a {@link DataCoupling#RING} coupling does when its ring is full.
+     * The default value is {@link RingBackPressure#BLOCK}.
+     *
+     * @return the back pressure policy.
+     */
+    public RingBackPressure getRingCouplerBackPressure() {
+        return mRingCouplerBackPressure;
+    }
+
+    /**
+     * Sets what a {@link DataCoupling#RING} coupling does when its ring is
+     * full. Applies to data flows created after it is set.
+     *
+     * @param inRingCouplerBackPressure the back pressure policy.
+     */
+    public void setRingCouplerBackPressure(RingBackPressure inRingCouplerBackPressure) {
+        Validate.notNull(inRingCouplerBackPressure);
+        mRingCouplerBackPressure = inRingCouplerBackPressure;
+    }
+
     /**
      * Returns the MBean server to use for all JMX operations.
      *
@@ -2102,6 +2168,11 @@ public final class ModuleManager
      */
     public static final int DEFAULT_MAX_FLOW_HISTORY = 10;
 
+    /**
+     * The default number of data objects held by each ring coupling.
+     */
+    public static final int DEFAULT_RING_COUPLER_CAPACITY = 8192;
+
     /**
      * Array of listeners that listen to data received by the data sink
      */
@@ -2161,6 +2232,18 @@ public final class ModuleManager
      * Maximum number flow histories to keep a record of.
      */
     private volatile int mMaxFlowHistory = DEFAULT_MAX_FLOW_HISTORY;
+    /**
+     * Number of data objects held by each ring coupling.
+     */
+    private volatile int mRingCouplerCapacity = DEFAULT_RING_COUPLER_CAPACITY;
+    /**
+     * How the receiving thread of each ring coupling waits for data.
+     */
+    private volatile RingWaitStrategy mRingCouplerWaitStrategy = RingWaitStrategy.BLOCKING;
+    /**
+     * What each ring coupling does when its ring is full.
+     */
+    private volatile RingBackPressure mRingCouplerBackPressure = RingBackPressure.BLOCK;
 
     /**
      * The MBean server to use for all JMX operations.
@@ -0,0 +1,29 @@
+package org.marketcetera.module;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * Determines what a {@link DataCoupling#RING} coupling does when the emitter
+ * produces data faster than the receiver consumes it and the ring is full.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public enum RingBackPressure
+{
+    /**
+     * The emitter waits until the receiver frees space in the ring.
+     */
+    BLOCK,
+    /**
+     * The oldest data not yet delivered to the receiver is discarded to make room.
+     */
+    DROP_OLDEST,
+    /**
+     * The data is rejected and the data flow is canceled.
+     */
+    FAIL
+}
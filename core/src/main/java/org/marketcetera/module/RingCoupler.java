@@ -0,0 +1,255 @@
+package org.marketcetera.module;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.util.log.I18NBoundMessage2P;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+/* $License$ */
+/**
+ * Manages asynchronous data flow coupling through a preallocated ring.
+ *
+ * <p>Unlike {@link AsyncCoupler}, the data waiting to be received is bounded by the
+ * ring capacity and is held in preallocated slots. The capacity, the way the receiving
+ * thread waits for data, and the behavior when the ring is full are taken from the
+ * {@link ModuleManager} when the coupler is created.
+ *
+ * <p>If the receiver is a {@link BatchDataReceiver}, all the data waiting in the ring, up to
+ * {@link #MAX_BATCH_SIZE}, is supplied to the receiver at once.
+ *
+ * <p>The checkpoint latencies being recorded on the emitting thread, if any, continue
+ * to be recorded on the receiving thread.
+ *
+ * <p>Metrics are sampled once every {@link #SAMPLE_INTERVAL} data objects instead of
+ * being recorded for each one. The ring depth and the number of discarded data objects
+ * are exposed as gauges, which cost nothing until read.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+class RingCoupler
+        extends AbstractDataCoupler
+        implements Runnable
+{
+    /**
+     * Create a new RingCoupler instance.
+     *
+     * @param inManager a <code>ModuleManager</code> value
+     * @param inEmitter a <code>Module</code> value
+     * @param inReceiver a <code>Module</code> value
+     * @param inFlowID a <code>DataFlowID</code> value
+     * @param inExceptionHandler a <code>DataFlowExceptionHandler</code> value
+     */
+    RingCoupler(ModuleManager inManager,
+                Module inEmitter,
+                Module inReceiver,
+                DataFlowID inFlowID,
+                DataFlowExceptionHandler inExceptionHandler)
+    {
+        super(inManager,
+              inEmitter,
+              inReceiver,
+              inFlowID,
+              inExceptionHandler);
+        capacity = inManager.getRingCouplerCapacity();
+        waitStrategy = inManager.getRingCouplerWaitStrategy();
+        backPressure = inManager.getRingCouplerBackPressure();
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Runnable#run()
+     */
+    @Override
+    public void run()
+    {
+        DataRing currentRing = ring;
+        boolean batchReceiver = isBatchReceiver();
+        List<Object> batch = new ArrayList<>();
+        long delivered = 0;
+        long nextSample = SAMPLE_INTERVAL;
+        try {
+            while(true) {
+                Object data = currentRing.take();
+                if(batchReceiver) {
+                    batch.add(data);
+                    delivered += currentRing.drainTo(batch,
+                                                     MAX_BATCH_SIZE - 1) + 1;
+                    resumeCheckpoints(batch);
+                    try {
+                        receiveBatch(batch);
+                    } finally {
+                        batch.clear();
+                    }
+                } else {
+                    receive(resumeCheckpoint(data));
+                    delivered += 1;
+                }
+                if(delivered >= nextSample) {
+                    depthHistogram.update(currentRing.size());
+                    receiveMeter.mark(delivered - nextSample + SAMPLE_INTERVAL);
+                    nextSample = delivered + SAMPLE_INTERVAL;
+                }
+            }
+        } catch (InterruptedException e) {
+            SLF4JLoggerProxy.debug(this,
+                                   "{} stopped after delivering {}", //$NON-NLS-1$
+                                   this,
+                                   delivered);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#process(java.lang.Object)
+     */
+    @Override
+    protected void process(Object inData)
+    {
+        DataRing currentRing = ring;
+        if(currentRing == null) {
+            return;
+        }
+        boolean accepted;
+        try {
+            accepted = currentRing.publish(captureCheckpoint(inData));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if(!accepted && backPressure == RingBackPressure.FAIL) {
+            dataEmitError(new I18NBoundMessage2P(Messages.RING_COUPLER_FULL,
+                                                 getFlowID(),
+                                                 currentRing.getCapacity()),
+                          true);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#preInitiate()
+     */
+    @Override
+    protected void preInitiate()
+    {
+        final DataRing newRing = new DataRing(capacity,
+                                              waitStrategy,
+                                              backPressure);
+        String flowName = String.valueOf(getFlowID());
+        String metricName = name(RingCoupler.class,
+                                 flowName,
+                                 "depth"); //$NON-NLS-1$
+        metrics.register(metricName,
+                         new Gauge<Integer>() {
+                             @Override
+                             public Integer getValue()
+                             {
+                                 return newRing.size();
+                             }
+                         });
+        metricNames.add(metricName);
+        metricName = name(RingCoupler.class,
+                          flowName,
+                          "dropped"); //$NON-NLS-1$
+        metrics.register(metricName,
+                         new Gauge<Long>() {
+                             @Override
+                             public Long getValue()
+                             {
+                                 return newRing.getDropped();
+                             }
+                         });
+        metricNames.add(metricName);
+        metricName = name(RingCoupler.class,
+                          flowName,
+                          "depthHistogram"); //$NON-NLS-1$
+        depthHistogram = metrics.histogram(metricName);
+        metricNames.add(metricName);
+        metricName = name(RingCoupler.class,
+                          flowName,
+                          "receiveMeter"); //$NON-NLS-1$
+        receiveMeter = metrics.meter(metricName);
+        metricNames.add(metricName);
+        ring = newRing;
+        thread = new Thread(this,
+                            "Ring coupler for " + flowName); //$NON-NLS-1$
+        thread.start();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#postCancel()
+     */
+    @Override
+    protected void postCancel()
+    {
+        DataRing currentRing = ring;
+        ring = null;
+        if(currentRing != null) {
+            currentRing.halt();
+        }
+        Thread currentThread = thread;
+        thread = null;
+        // the flow may be canceled by the receiver, in which case this is the ring thread
+        if(currentThread != null && currentThread != Thread.currentThread()) {
+            currentThread.interrupt();
+            try {
+                currentThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for(String metricName : metricNames) {
+            try {
+                metrics.remove(metricName);
+            } catch (Exception ignored) {}
+        }
+        metricNames.clear();
+    }
+    /**
+     * number of data objects between metric samples
+     */
+    static final int SAMPLE_INTERVAL = 1024;
+    /**
+     * capacity of the ring
+     */
+    private final int capacity;
+    /**
+     * determines how the receiving thread waits for data
+     */
+    private final RingWaitStrategy waitStrategy;
+    /**
+     * determines what happens when the ring is full
+     */
+    private final RingBackPressure backPressure;
+    /**
+     * holds data waiting to be received, <code>null</code> when the flow is not active
+     */
+    private volatile DataRing ring;
+    /**
+     * delivers data to the receiver
+     */
+    private volatile Thread thread;
+    /**
+     * samples the ring depth
+     */
+    private Histogram depthHistogram;
+    /**
+     * samples the rate at which data is received
+     */
+    private Meter receiveMeter;
+    /**
+     * main metrics object
+     */
+    private final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * holds the names of the metrics used
+     */
+    private final Set<String> metricNames = new HashSet<>();
+}
@@ -0,0 +1,32 @@
+package org.marketcetera.module;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * Determines how the receiving thread of a {@link DataCoupling#RING} coupling
+ * waits for data to arrive.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public enum RingWaitStrategy
+{
+    /**
+     * The receiving thread parks until the emitter signals that data is available.
+     * Uses the least CPU at the cost of wake-up latency.
+     */
+    BLOCKING,
+    /**
+     * The receiving thread spins briefly and then yields the processor until data is available.
+     * Trades some CPU for lower latency than {@link #BLOCKING}.
+     */
+    YIELDING,
+    /**
+     * The receiving thread spins until data is available. Gives the lowest latency but
+     * occupies a processor for the life of the data flow.
+     */
+    BUSY_SPIN
+}
@@ -0,0 +1,723 @@
+package org.marketcetera.pool.impl;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.pool.ExecutorServiceProvider;
+import org.marketcetera.pool.PriorityRunnable;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/* $License$ */
+
+/**
+ * Provides a common thread pool that executes jobs by priority using striped, work-stealing queues.
+ *
+ * <p>As with {@link ExecutorServiceProviderImpl}, jobs with a lower priority value are executed before jobs
+ * with a higher priority value. Instead of a single queue shared by all threads, jobs are queued on one of
+ * a fixed number of stripes, each of which holds a lane per priority. Jobs submitted from a pool thread are
+ * queued on the stripe of that thread, other jobs are spread over the stripes. Each thread takes jobs from
+ * its own stripe first and steals from the other stripes when its own stripe is empty, so priority order is
+ * kept within a stripe and threads contend only when they run out of work.
+ *
+ * <p>A thread is added for each job submitted while there are fewer than <code>corePoolSize</code> threads.
+ * After that, a thread is added when a job is submitted while no thread is idle, up to <code>maxPoolSize</code>
+ * threads. Threads above <code>corePoolSize</code>, or all threads if <code>allowCoreThreadTimeOut</code> is
+ * set, stop after being idle for <code>keepAliveTime</code> milliseconds.
+ *
+ * <p>A job that has waited longer than <code>starvationThreshold</code> milliseconds is executed ahead of jobs
+ * with a lower priority value, so a steady stream of urgent jobs cannot hold back other jobs indefinitely.
+ *
+ * <p>The time each job waits to be executed and the time it takes to execute are reported to the
+ * {@link MetricService} per priority.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class WorkStealingExecutorServiceProvider
+        implements ExecutorServiceProvider
+{
+    /* (non-Javadoc)
+     * @see org.marketcetera.pool.ExecutorServiceProvider#execute(org.marketcetera.pool.PriorityRunnable)
+     */
+    @Override
+    public void execute(PriorityRunnable inJob)
+    {
+        Validate.notNull(inJob);
+        Stripe[] currentStripes = stripes;
+        if(!running || currentStripes == null) {
+            throw new RejectedExecutionException();
+        }
+        Job job = new Job(inJob,
+                          getMetrics(inJob.getPriority()));
+        Thread currentThread = Thread.currentThread();
+        int index;
+        if(currentThread instanceof Worker && ((Worker)currentThread).getOwner() == this) {
+            index = ((Worker)currentThread).home;
+        } else {
+            index = (nextStripe.getAndIncrement() & Integer.MAX_VALUE) % currentStripes.length;
+        }
+        currentStripes[index].offer(job);
+        queuedJobs.incrementAndGet();
+        if(threadCount.get() < corePoolSize && addWorker(corePoolSize)) {
+            return;
+        }
+        if(idleWorkers > 0) {
+            idleLock.lock();
+            try {
+                if(idleWorkers > 0) {
+                    workAvailable.signal();
+                    return;
+                }
+            } finally {
+                idleLock.unlock();
+            }
+        }
+        addWorker(maxPoolSize);
+    }
+    /**
+     * Validate and start the object.
+     */
+    @PostConstruct
+    public synchronized void start()
+    {
+        Validate.isTrue(corePoolSize >= 0);
+        Validate.isTrue(maxPoolSize > 0);
+        Validate.isTrue(maxPoolSize >= corePoolSize);
+        Validate.isTrue(keepAliveTime >= 0);
+        Validate.isTrue(starvationThreshold > 0);
+        int count = stripeCount > 0 ? stripeCount : Math.min(maxPoolSize,
+                                                            Runtime.getRuntime().availableProcessors());
+        Stripe[] newStripes = new Stripe[count];
+        for(int i=0;i<count;i++) {
+            newStripes[i] = new Stripe();
+        }
+        stripes = newStripes;
+        queuedJobs.set(0);
+        running = true;
+    }
+    /**
+     * Stop the object.
+     */
+    @PreDestroy
+    public synchronized void stop()
+    {
+        running = false;
+        idleLock.lock();
+        try {
+            workAvailable.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+        for(Worker worker : workers) {
+            try {
+                worker.interrupt();
+            } catch (Exception ignored) {}
+        }
+        Stripe[] currentStripes = stripes;
+        if(currentStripes != null) {
+            for(Stripe stripe : currentStripes) {
+                stripe.clear();
+            }
+        }
+        stripes = null;
+        queuedJobs.set(0);
+    }
+    /**
+     * Gets the number of threads in the pool.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getPoolSize()
+    {
+        return threadCount.get();
+    }
+    /**
+     * Gets the number of jobs waiting to be executed.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getQueuedJobCount()
+    {
+        return queuedJobs.get();
+    }
+    /**
+     * Get the maxPoolSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxPoolSize()
+    {
+        return maxPoolSize;
+    }
+    /**
+     * Sets the maxPoolSize value.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setMaxPoolSize(int inMaxPoolSize)
+    {
+        maxPoolSize = inMaxPoolSize;
+    }
+    /**
+     * Get the allowCoreThreadTimeOut value.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean getAllowCoreThreadTimeOut()
+    {
+        return allowCoreThreadTimeOut;
+    }
+    /**
+     * Sets the allowCoreThreadTimeOut value.
+     *
+     * @param a <code>boolean</code> value
+     */
+    public void setAllowCoreThreadTimeOut(boolean inAllowCoreThreadTimeOut)
+    {
+        allowCoreThreadTimeOut = inAllowCoreThreadTimeOut;
+    }
+    /**
+     * Get the corePoolSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getCorePoolSize()
+    {
+        return corePoolSize;
+    }
+    /**
+     * Sets the corePoolSize value.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setCorePoolSize(int inCorePoolSize)
+    {
+        corePoolSize = inCorePoolSize;
+    }
+    /**
+     * Get the keepAliveTime value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getKeepAliveTime()
+    {
+        return keepAliveTime;
+    }
+    /**
+     * Sets the keepAliveTime value.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setKeepAliveTime(int inKeepAliveTime)
+    {
+        keepAliveTime = inKeepAliveTime;
+    }
+    /**
+     * Get the starvationThreshold value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getStarvationThreshold()
+    {
+        return starvationThreshold;
+    }
+    /**
+     * Sets the starvationThreshold value.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setStarvationThreshold(int inStarvationThreshold)
+    {
+        starvationThreshold = inStarvationThreshold;
+    }
+    /**
+     * Get the stripeCount value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getStripeCount()
+    {
+        return stripeCount;
+    }
+    /**
+     * Sets the stripeCount value.
+     *
+     * <p>If the value is not positive, the smaller of <code>maxPoolSize</code> and the number of
+     * available processors is used.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setStripeCount(int inStripeCount)
+    {
+        stripeCount = inStripeCount;
+    }
+    /**
+     * Starts a new thread if there are fewer than the given number of threads.
+     *
+     * @param inLimit an <code>int</code> value
+     * @return a <code>boolean</code> value indicating if a thread was started
+     */
+    private boolean addWorker(int inLimit)
+    {
+        while(true) {
+            int count = threadCount.get();
+            if(count >= inLimit) {
+                return false;
+            }
+            if(threadCount.compareAndSet(count,
+                                         count+1)) {
+                break;
+            }
+        }
+        Stripe[] currentStripes = stripes;
+        int id = workerCounter.getAndIncrement();
+        Worker worker = new Worker(id,
+                                   currentStripes == null ? 0 : id % currentStripes.length);
+        workers.add(worker);
+        worker.start();
+        return true;
+    }
+    /**
+     * Takes the next job to execute, waiting until one is available.
+     * <p>
+     * When this method returns <code>null</code>, the calling thread has already been removed from the pool count.
+     *
+     * @param inWorker a <code>Worker</code> value
+     * @return a <code>Job</code> value or <code>null</code> if the thread should stop
+     */
+    private Job take(Worker inWorker)
+    {
+        while(running) {
+            Job job = poll(inWorker.home);
+            if(job != null) {
+                queuedJobs.decrementAndGet();
+                return job;
+            }
+            if(queuedJobs.get() > 0) {
+                // a job is being taken by another thread or is about to become visible
+                Thread.yield();
+                continue;
+            }
+            idleLock.lock();
+            try {
+                idleWorkers += 1;
+                try {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(keepAliveTime);
+                    while(running && queuedJobs.get() == 0) {
+                        if(!mayTimeOut()) {
+                            workAvailable.await();
+                            remaining = TimeUnit.MILLISECONDS.toNanos(keepAliveTime);
+                        } else if(remaining > 0) {
+                            remaining = workAvailable.awaitNanos(remaining);
+                        } else if(retire()) {
+                            return null;
+                        }
+                    }
+                } finally {
+                    idleWorkers -= 1;
+                }
+            } catch (InterruptedException e) {
+                if(!running) {
+                    break;
+                }
+            } finally {
+                idleLock.unlock();
+            }
+        }
+        threadCount.decrementAndGet();
+        return null;
+    }
+    /**
+     * Indicates if an idle thread may stop at the moment.
+     *
+     * @return a <code>boolean</code> value
+     */
+    private boolean mayTimeOut()
+    {
+        return allowCoreThreadTimeOut || threadCount.get() > corePoolSize;
+    }
+    /**
+     * Removes an idle thread from the pool count unless doing so would drop the pool below its core size.
+     *
+     * @return a <code>boolean</code> value indicating if the thread should stop
+     */
+    private boolean retire()
+    {
+        while(true) {
+            int count = threadCount.get();
+            if(!allowCoreThreadTimeOut && count <= corePoolSize) {
+                return false;
+            }
+            if(threadCount.compareAndSet(count,
+                                         count-1)) {
+                return true;
+            }
+        }
+    }
+    /**
+     * Takes a job from the given stripe or, if it is empty, from the other stripes.
+     *
+     * @param inHome an <code>int</code> value
+     * @return a <code>Job</code> value or <code>null</code> if no job is waiting
+     */
+    private Job poll(int inHome)
+    {
+        Stripe[] currentStripes = stripes;
+        if(currentStripes == null) {
+            return null;
+        }
+        long starvedBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(starvationThreshold);
+        for(int i=0;i<currentStripes.length;i++) {
+            Job job = currentStripes[(inHome+i) % currentStripes.length].poll(starvedBefore);
+            if(job != null) {
+                return job;
+            }
+        }
+        return null;
+    }
+    /**
+     * Gets the metrics for the given priority.
+     *
+     * @param inPriority an <code>int</code> value
+     * @return a <code>PriorityMetrics</code> value
+     */
+    private PriorityMetrics getMetrics(int inPriority)
+    {
+        PriorityMetrics priorityMetrics = metricsByPriority.get(inPriority);
+        if(priorityMetrics == null) {
+            priorityMetrics = new PriorityMetrics(inPriority);
+            PriorityMetrics existingMetrics = metricsByPriority.putIfAbsent(inPriority,
+                                                                            priorityMetrics);
+            if(existingMetrics != null) {
+                priorityMetrics = existingMetrics;
+            }
+        }
+        return priorityMetrics;
+    }
+    /**
+     * Holds the jobs queued on one stripe in a lane per priority.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ThreadSafe
+    private static class Stripe
+    {
+        /**
+         * Queues the given job.
+         *
+         * @param inJob a <code>Job</code> value
+         */
+        private void offer(Job inJob)
+        {
+            int priority = inJob.job.getPriority();
+            Deque<Job> lane = lanes.get(priority);
+            if(lane == null) {
+                lane = new ConcurrentLinkedDeque<Job>();
+                Deque<Job> existingLane = lanes.putIfAbsent(priority,
+                                                            lane);
+                if(existingLane != null) {
+                    lane = existingLane;
+                }
+            }
+            lane.offerLast(inJob);
+        }
+        /**
+         * Takes the next job from this stripe.
+         *
+         * <p>The oldest job queued before the given time is taken if there is one, otherwise the oldest
+         * job of the most urgent non-empty lane is taken.
+         *
+         * @param inStarvedBefore a <code>long</code> value in {@link System#nanoTime()} terms
+         * @return a <code>Job</code> value or <code>null</code> if the stripe is empty
+         */
+        private Job poll(long inStarvedBefore)
+        {
+            while(true) {
+                Deque<Job> urgentLane = null;
+                Deque<Job> starvedLane = null;
+                long oldestQueued = inStarvedBefore;
+                for(Deque<Job> lane : lanes.values()) {
+                    Job head = lane.peekFirst();
+                    if(head == null) {
+                        continue;
+                    }
+                    if(urgentLane == null) {
+                        urgentLane = lane;
+                    } else if(head.queued - oldestQueued < 0) {
+                        starvedLane = lane;
+                        oldestQueued = head.queued;
+                    }
+                }
+                if(urgentLane == null) {
+                    return null;
+                }
+                Job job = (starvedLane == null ? urgentLane : starvedLane).pollFirst();
+                if(job != null) {
+                    return job;
+                }
+                // another thread took the job, look again
+            }
+        }
+        /**
+         * Discards all queued jobs.
+         */
+        private void clear()
+        {
+            lanes.clear();
+        }
+        /**
+         * queued jobs by priority, most urgent first
+         */
+        private final ConcurrentNavigableMap<Integer,Deque<Job>> lanes = new ConcurrentSkipListMap<Integer,Deque<Job>>();
+    }
+    /**
+     * A queued job.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Job
+    {
+        /**
+         * Create a new Job instance.
+         *
+         * @param inJob a <code>PriorityRunnable</code> value
+         * @param inMetrics a <code>PriorityMetrics</code> value
+         */
+        private Job(PriorityRunnable inJob,
+                    PriorityMetrics inMetrics)
+        {
+            job = inJob;
+            metrics = inMetrics;
+            queued = System.nanoTime();
+        }
+        /**
+         * Executes the job and records its metrics.
+         */
+        private void run()
+        {
+            long start = System.nanoTime();
+            metrics.queueWait.update(start-queued,
+                                     TimeUnit.NANOSECONDS);
+            try {
+                job.run();
+            } catch (RuntimeException e) {
+                SLF4JLoggerProxy.warn(WorkStealingExecutorServiceProvider.class,
+                                      e,
+                                      "Job {} failed", //$NON-NLS-1$
+                                      job);
+            } finally {
+                metrics.execution.update(System.nanoTime()-start,
+                                         TimeUnit.NANOSECONDS);
+            }
+        }
+        /**
+         * the job to execute
+         */
+        private final PriorityRunnable job;
+        /**
+         * the metrics of the priority of the job
+         */
+        private final PriorityMetrics metrics;
+        /**
+         * the time the job was queued in {@link System#nanoTime()} terms
+         */
+        private final long queued;
+    }
+    /**
+     * Holds the metrics of a priority.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class PriorityMetrics
+    {
+        /**
+         * Create a new PriorityMetrics instance.
+         *
+         * @param inPriority an <code>int</code> value
+         */
+        private PriorityMetrics(int inPriority)
+        {
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            queueWait = metrics.timer(name(WorkStealingExecutorServiceProvider.class,
+                                           "priority", //$NON-NLS-1$
+                                           String.valueOf(inPriority),
+                                           "queueWait")); //$NON-NLS-1$
+            execution = metrics.timer(name(WorkStealingExecutorServiceProvider.class,
+                                           "priority", //$NON-NLS-1$
+                                           String.valueOf(inPriority),
+                                           "execution")); //$NON-NLS-1$
+        }
+        /**
+         * time jobs wait before they are executed
+         */
+        private final Timer queueWait;
+        /**
+         * time jobs take to execute
+         */
+        private final Timer execution;
+    }
+    /**
+     * Executes queued jobs.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private class Worker
+            extends Thread
+    {
+        /**
+         * Create a new Worker instance.
+         *
+         * @param inId an <code>int</code> value
+         * @param inHome an <code>int</code> value
+         */
+        private Worker(int inId,
+                       int inHome)
+        {
+            super("WorkStealingExecutorServiceProvider-" + inId); //$NON-NLS-1$
+            home = inHome;
+            setDaemon(true);
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Thread#run()
+         */
+        @Override
+        public void run()
+        {
+            boolean retired = false;
+            try {
+                Job job;
+                while((job = take(this)) != null) {
+                    job.run();
+                }
+                retired = true;
+            } finally {
+                workers.remove(this);
+                if(!retired) {
+                    // an error thrown by a job is killing this thread, keep the pool count accurate and replace the thread
+                    threadCount.decrementAndGet();
+                    if(running) {
+                        addWorker(Math.max(corePoolSize,
+                                           1));
+                    }
+                }
+            }
+        }
+        /**
+         * Gets the pool that owns this thread.
+         *
+         * @return a <code>WorkStealingExecutorServiceProvider</code> value
+         */
+        private WorkStealingExecutorServiceProvider getOwner()
+        {
+            return WorkStealingExecutorServiceProvider.this;
+        }
+        /**
+         * the stripe this thread takes jobs from first
+         */
+        private final int home;
+    }
+    /**
+     * the stripes on which jobs are queued, <code>null</code> if the pool is stopped
+     */
+    private volatile Stripe[] stripes;
+    /**
+     * indicates if the pool accepts jobs
+     */
+    private volatile boolean running;
+    /**
+     * number of queued jobs over all stripes
+     */
+    private final AtomicInteger queuedJobs = new AtomicInteger();
+    /**
+     * number of live threads
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+    /**
+     * used to number threads
+     */
+    private final AtomicInteger workerCounter = new AtomicInteger();
+    /**
+     * used to spread jobs submitted from outside the pool over the stripes
+     */
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    /**
+     * live threads
+     */
+    private final Set<Worker> workers = Collections.newSetFromMap(new ConcurrentHashMap<Worker,Boolean>());
+    /**
+     * metrics by priority
+     */
+    private final ConcurrentMap<Integer,PriorityMetrics> metricsByPriority = new ConcurrentHashMap<Integer,PriorityMetrics>();
+    /**
+     * guards idle threads
+     */
+    private final ReentrantLock idleLock = new ReentrantLock();
+    /**
+     * signalled when a job is queued while threads are idle
+     */
+    private final Condition workAvailable = idleLock.newCondition();
+    /**
+     * number of idle threads, only changed while holding {@link #idleLock}
+     */
+    @GuardedBy("idleLock")
+    private volatile int idleWorkers;
+    /**
+     * the maximum number of threads to allow in the pool
+     */
+    private int maxPoolSize = 100;
+    /**
+     * indicates if unused threads are allowed to timeout
+     */
+    private boolean allowCoreThreadTimeOut = false;
+    /**
+     * the number of threads to keep in the pool, even if they are idle, unless allowCoreThreadTimeOut is set
+     */
+    private int corePoolSize = 1;
+    /**
+     * when the number of threads is greater than the core, this is the maximum time that excess idle threads will wait for new tasks before terminating
+     */
+    private int keepAliveTime = 10000;
+    /**
+     * the time in milliseconds after which a waiting job is executed ahead of more urgent jobs
+     */
+    private int starvationThreshold = 1000;
+    /**
+     * the number of stripes on which jobs are queued, or a non-positive value to choose based on the number of processors
+     */
+    private int stripeCount = 0;
+}
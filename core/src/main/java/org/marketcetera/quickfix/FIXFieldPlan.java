@@ -0,0 +1,146 @@
+package org.marketcetera.quickfix;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+import quickfix.DataDictionary;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/* $License$ */
+
+/**
+ * Describes which fields a message type contains according to a <code>DataDictionary</code>.
+ *
+ * <p>The answers are computed once per dictionary and message type and held in bit sets, so
+ * checking a field needs neither a dictionary lookup nor an allocation. Plans are cached per
+ * <code>DataDictionary</code> instance, which means per FIX version for the dictionaries managed
+ * by {@link FIXDataDictionaryManager}. Fields added to a dictionary after a plan is created are
+ * not reflected in the plan.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@Immutable
+@ClassVersion("$Id$")
+public class FIXFieldPlan
+{
+    /**
+     * Gets the plan for the given message type.
+     *
+     * @param inDictionary a <code>DataDictionary</code> value
+     * @param inMsgType a <code>String</code> value
+     * @return a <code>FIXFieldPlan</code> value
+     */
+    public static FIXFieldPlan getPlan(DataDictionary inDictionary,
+                                       String inMsgType)
+    {
+        ConcurrentMap<String,FIXFieldPlan> plans = plansByDictionary.getUnchecked(inDictionary);
+        FIXFieldPlan plan = plans.get(inMsgType);
+        if(plan == null) {
+            plan = new FIXFieldPlan(inDictionary,
+                                    inMsgType);
+            FIXFieldPlan existingPlan = plans.putIfAbsent(inMsgType,
+                                                          plan);
+            if(existingPlan != null) {
+                plan = existingPlan;
+            }
+        }
+        return plan;
+    }
+    /**
+     * Gets the message type of this plan.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getMsgType()
+    {
+        return msgType;
+    }
+    /**
+     * Indicates if the given field is required in the body of the message type.
+     *
+     * @param inTag an <code>int</code> value
+     * @return a <code>boolean</code> value
+     */
+    public boolean isRequiredField(int inTag)
+    {
+        return inTag >= 0 && requiredFields.get(inTag);
+    }
+    /**
+     * Indicates if the given field may appear in the body of the message type.
+     *
+     * @param inTag an <code>int</code> value
+     * @return a <code>boolean</code> value
+     */
+    public boolean isMessageField(int inTag)
+    {
+        return inTag >= 0 && messageFields.get(inTag);
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append("FIXFieldPlan ").append(msgType).append(" required=").append(requiredFields) //$NON-NLS-1$ //$NON-NLS-2$
+                .append(" fields=").append(messageFields).toString(); //$NON-NLS-1$
+    }
+    /**
+     * Create a new FIXFieldPlan instance.
+     *
+     * @param inDictionary a <code>DataDictionary</code> value
+     * @param inMsgType a <code>String</code> value
+     */
+    private FIXFieldPlan(DataDictionary inDictionary,
+                         String inMsgType)
+    {
+        msgType = inMsgType;
+        requiredFields = new BitSet();
+        messageFields = new BitSet();
+        for(int tag : inDictionary.getOrderedFields()) {
+            if(tag < 0) {
+                continue;
+            }
+            if(inDictionary.isMsgField(inMsgType,
+                                       tag)) {
+                messageFields.set(tag);
+                if(inDictionary.isRequiredField(inMsgType,
+                                                tag)) {
+                    requiredFields.set(tag);
+                }
+            }
+        }
+    }
+    /**
+     * message type of this plan
+     */
+    private final String msgType;
+    /**
+     * fields required in the body
+     */
+    private final BitSet requiredFields;
+    /**
+     * fields allowed in the body
+     */
+    private final BitSet messageFields;
+    /**
+     * plans by message type by dictionary, dictionaries are compared by identity
+     */
+    private static final LoadingCache<DataDictionary,ConcurrentMap<String,FIXFieldPlan>> plansByDictionary = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<DataDictionary,ConcurrentMap<String,FIXFieldPlan>>() {
+        @Override
+        public ConcurrentMap<String,FIXFieldPlan> load(DataDictionary inKey)
+                throws Exception
+        {
+            return new ConcurrentHashMap<String,FIXFieldPlan>();
+        }
+    });
+}
@@ -113,19 +113,28 @@ public class FIXMessageUtil {
     }
 
     private static boolean msgTypeHelper(Message fixMessage, String msgType) {
-    	if (fixMessage != null){
-	    	try {
-	            MsgType msgTypeField = new MsgType();
-	            Header header = fixMessage.getHeader();
-				if (header.isSetField(msgTypeField)){
-	            	header.getField(msgTypeField);
-	            	return msgType.equals(msgTypeField.getValue());
-	            }
-	        } catch (Exception ignored) {
-                // ignored
-            }
-    	}
-        return false;
+        return msgType.equals(getMsgType(fixMessage));
+    }
+    /**
+     * Gets the message type of the given message without allocating a field.
+     *
+     * @param inMessage a <code>Message</code> value or <code>null</code>
+     * @return a <code>String</code> value or <code>null</code> if the message is <code>null</code> or has no message type
+     */
+    public static String getMsgType(Message inMessage)
+    {
+        if(inMessage == null) {
+            return null;
+        }
+        Header header = inMessage.getHeader();
+        if(!header.isSetField(MsgType.FIELD)) {
+            return null;
+        }
+        try {
+            return header.getString(MsgType.FIELD);
+        } catch (FieldNotFound ignored) {
+            return null;
+        }
     }
     /**
      * Get the <code>Instrument</code> value indicated in the given <code>Message</code> or <code>Group</code>.
@@ -966,6 +975,8 @@ public class FIXMessageUtil {
             return;
         }
 
+        FIXFieldPlan plan = FIXFieldPlan.getPlan(dict,
+                                                 msgType);
         Iterator<Field<?>> fieldItr=existingMessage.iterator();
         while (fieldItr.hasNext()) {
             Field<?> field = fieldItr.next();
@@ -973,16 +984,12 @@ public class FIXMessageUtil {
             if(inclusionSet != null && !(inclusionSet.contains(fieldInt))) {
                 continue;
             }
-            if ((!onlyCopyRequiredFields || dict.isRequiredField(msgType,
-                                                                 fieldInt))
-                && !outgoingMessage.isSetField(fieldInt)
-                && dict.isMsgField(msgType, fieldInt)) {
-                try {
-                    outgoingMessage.setField(existingMessage
-                                             .getField(new StringField(fieldInt)));
-                } catch (FieldNotFound e) {
-                    // do nothing and ignore
-                }
+            if ((!onlyCopyRequiredFields || plan.isRequiredField(fieldInt))
+                && plan.isMessageField(fieldInt)
+                && !outgoingMessage.isSetField(fieldInt)) {
+                copyField(outgoingMessage,
+                          existingMessage,
+                          field);
             }
         }
     }
@@ -996,14 +1003,38 @@ public class FIXMessageUtil {
     {
     	Iterator<Field<?>> iter = copyFrom.iterator();
     	while (iter.hasNext()){
-    		Field<?> field = iter.next();
-    		try {
-				copyTo.setField(copyFrom.getField(new StringField(field.getTag())));
-			} catch (FieldNotFound e) {
-				// do nothing
-			}
+    		copyField(copyTo,
+    		          copyFrom,
+    		          iter.next());
     	}
     }
+    /**
+     * Copies the given field of the given source to the given destination.
+     * 
+     * <p>The value of a <code>StringField</code> is taken directly from the field,
+     * so the only allocation is the copied field itself.
+     *
+     * @param inCopyTo a <code>FieldMap</code> value
+     * @param inCopyFrom a <code>FieldMap</code> value
+     * @param inField a <code>Field&lt;?&gt;</code> value from <code>inCopyFrom</code>
+     */
+    private static void copyField(FieldMap inCopyTo,
+                                  FieldMap inCopyFrom,
+                                  Field<?> inField)
+    {
+        int tag = inField.getTag();
+        if(inField instanceof StringField) {
+            inCopyTo.setString(tag,
+                               ((StringField)inField).getValue());
+            return;
+        }
+        try {
+            inCopyTo.setString(tag,
+                               inCopyFrom.getString(tag));
+        } catch (FieldNotFound e) {
+            // do nothing
+        }
+    }
 
     public static boolean isRequiredField(Message message, int whichField) {
     	boolean required = false;
@@ -4,10 +4,9 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.Validate;
-import org.apache.commons.lang.builder.EqualsBuilder;
-import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.marketcetera.util.misc.ClassVersion;
@@ -96,7 +95,13 @@ public class Equity
     @Override
     public int hashCode()
     {
-        return new HashCodeBuilder().append(symbol).append(symbolSfx).toHashCode();
+        int result = hashCode;
+        if(result == 0) {
+            // same value as HashCodeBuilder().append(symbol).append(symbolSfx), computed once
+            result = (17 * 37 + ObjectUtils.hashCode(symbol)) * 37 + ObjectUtils.hashCode(symbolSfx);
+            hashCode = result;
+        }
+        return result;
     }
     /* (non-Javadoc)
      * @see java.lang.Object#equals(java.lang.Object)
@@ -114,7 +119,7 @@ public class Equity
             return false;
         }
         Equity other = (Equity) obj;
-        return new EqualsBuilder().append(symbol,other.symbol).append(symbolSfx,other.symbolSfx).isEquals();
+        return hashCode() == other.hashCode() && ObjectUtils.equals(symbol,other.symbol) && ObjectUtils.equals(symbolSfx,other.symbolSfx);
     }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -151,5 +156,9 @@ public class Equity
      * full symbol display value
      */
     private final String fullSymbol;
+    /**
+     * cached hash code, 0 until computed
+     */
+    private transient int hashCode;
     private static final long serialVersionUID = -4249367582080830122L;
 }
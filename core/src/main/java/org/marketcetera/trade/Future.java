@@ -137,13 +137,19 @@ public class Future
     @Override
     public String getFullSymbol()
     {
-        String symbol = getSymbol();
-        if(FUTURE_STRING.matcher(symbol).matches()) {
-            return symbol;
+        String result = fullSymbol;
+        if(result == null) {
+            String symbol = getSymbol();
+            if(FUTURE_STRING.matcher(symbol).matches()) {
+                result = symbol;
+            } else {
+                result = String.format("%s-%s", //$NON-NLS-1$
+                                       symbol,
+                                       getExpiryAsString());
+            }
+            fullSymbol = result;
         }
-        return String.format("%s-%s", //$NON-NLS-1$
-                             symbol,
-                             getExpiryAsString());
+        return result;
     }
     /**
      * Get the expirationMonth value.
@@ -310,6 +316,10 @@ public class Future
      * the expiration day or <code>-1</code> if not specified
      */
     private final int expirationDay;
+    /**
+     * cached full symbol, computed when first needed
+     */
+    private transient String fullSymbol;
     /**
      * the long format of an expiration (including day)
      */
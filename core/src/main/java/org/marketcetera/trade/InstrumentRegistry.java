@@ -0,0 +1,411 @@
+package org.marketcetera.trade;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Canonicalizes instruments to a single shared instance per distinct instrument and assigns each a dense
+ * <code>int</code> id.
+ *
+ * <p>Caches keyed by interned instruments find their entries by identity, and the instruments' hash codes
+ * and full symbols are computed once. Structures that only need to know whether an instrument is present,
+ * like subscription filters, can hold the id in a <code>BitSet</code> instead of hashing the instrument at all.
+ *
+ * <p>The registry holds at most its maximum size of instruments that are not pinned. When an intern exceeds it,
+ * expired options and futures are evicted first and then the least recently interned instruments of any kind,
+ * until the registry is a tenth below its maximum size. Evicting an instrument only drops the shared instance;
+ * an equal instrument interned later becomes the new shared instance.
+ *
+ * <p>Ids of evicted instruments are reused, which keeps the id table as small as the registry. Anything that
+ * holds an id beyond the current call, like a subscription, must {@link #pin(Instrument) pin} the instrument and
+ * {@link #unpin(int) unpin} it when done. A pinned instrument is never evicted, so its id keeps identifying it.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class InstrumentRegistry
+{
+    /**
+     * Gets the shared registry instance.
+     *
+     * @return an <code>InstrumentRegistry</code> value
+     */
+    public static InstrumentRegistry getInstance()
+    {
+        return instance;
+    }
+    /**
+     * Create a new InstrumentRegistry instance.
+     *
+     * @param inMaxSize an <code>int</code> value indicating the number of unpinned instruments above which instruments are evicted
+     * @throws IllegalArgumentException if the maximum size is less than 1
+     */
+    public InstrumentRegistry(int inMaxSize)
+    {
+        Validate.isTrue(inMaxSize > 0);
+        maxSize = inMaxSize;
+        evictionTarget = inMaxSize - inMaxSize / 10;
+    }
+    /**
+     * Gets the canonical instance of the given instrument, interning it if necessary.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>I</code> value equal to the given instrument
+     */
+    @SuppressWarnings("unchecked")
+    public <I extends Instrument> I intern(I inInstrument)
+    {
+        return (I)entryFor(inInstrument).instrument;
+    }
+    /**
+     * Gets the id of the given instrument.
+     *
+     * <p>The instrument is not interned. The id is only guaranteed to keep identifying the instrument while
+     * the instrument is pinned.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>int</code> value or -1 if the instrument is not interned
+     */
+    public int getId(Instrument inInstrument)
+    {
+        Validate.notNull(inInstrument);
+        Entry entry = entries.get(inInstrument);
+        return entry == null ? -1 : entry.id;
+    }
+    /**
+     * Interns the given instrument and keeps it and its id from being evicted until it is unpinned.
+     *
+     * <p>An instrument may be pinned more than once and stays pinned until it is unpinned as many times.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>int</code> value containing the id of the instrument
+     */
+    public int pin(Instrument inInstrument)
+    {
+        Validate.notNull(inInstrument);
+        while(true) {
+            Entry entry = entryFor(inInstrument);
+            synchronized(lock) {
+                // the entry may have been evicted between being found and being pinned
+                if(entries.get(inInstrument) == entry) {
+                    entry.pins += 1;
+                    return entry.id;
+                }
+            }
+        }
+    }
+    /**
+     * Releases one pin of the instrument with the given id.
+     *
+     * @param inId an <code>int</code> value returned by {@link #pin(Instrument)}
+     * @throws IllegalArgumentException if the instrument with the given id is not pinned
+     */
+    public void unpin(int inId)
+    {
+        synchronized(lock) {
+            Instrument instrument = getInstrument(inId);
+            Entry entry = instrument == null ? null : entries.get(instrument);
+            Validate.isTrue(entry != null && entry.pins > 0);
+            entry.pins -= 1;
+        }
+    }
+    /**
+     * Gets the instrument with the given id.
+     *
+     * @param inId an <code>int</code> value
+     * @return an <code>Instrument</code> value or <code>null</code> if no instrument has the given id or it has been evicted
+     */
+    public Instrument getInstrument(int inId)
+    {
+        AtomicReferenceArray<Instrument> currentById = byId;
+        if(inId < 0 || inId >= currentById.length()) {
+            return null;
+        }
+        return currentById.get(inId);
+    }
+    /**
+     * Gets the number of interned instruments.
+     *
+     * @return an <code>int</code> value
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+    /**
+     * Evicts the options and futures that expired before the given date and are not pinned.
+     *
+     * @param inAsOf a <code>Date</code> value
+     * @return a <code>List&lt;Instrument&gt;</code> value containing the evicted instruments
+     */
+    public List<Instrument> evictExpired(Date inAsOf)
+    {
+        Validate.notNull(inAsOf);
+        int asOf = toDateKey(inAsOf);
+        List<Instrument> evicted = new ArrayList<Instrument>();
+        synchronized(lock) {
+            for(Iterator<Entry> iterator=entries.values().iterator();iterator.hasNext();) {
+                Entry entry = iterator.next();
+                if(entry.pins == 0 && entry.expiry < asOf) {
+                    iterator.remove();
+                    release(entry);
+                    evicted.add(entry.instrument);
+                }
+            }
+        }
+        if(!evicted.isEmpty()) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Evicted {} instruments that expired before {}", //$NON-NLS-1$
+                                   evicted.size(),
+                                   inAsOf);
+        }
+        return evicted;
+    }
+    /**
+     * Gets the entry for the given instrument, creating it if necessary.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>Entry</code> value
+     */
+    private Entry entryFor(Instrument inInstrument)
+    {
+        Validate.notNull(inInstrument);
+        Entry entry = entries.get(inInstrument);
+        if(entry != null) {
+            return entry;
+        }
+        boolean evict;
+        synchronized(lock) {
+            entry = entries.get(inInstrument);
+            if(entry != null) {
+                return entry;
+            }
+            int id = freeIds.isEmpty() ? nextId++ : freeIds.remove(freeIds.size() - 1);
+            if(id >= byId.length()) {
+                AtomicReferenceArray<Instrument> newById = new AtomicReferenceArray<Instrument>(byId.length() * 2);
+                for(int i=0;i<byId.length();i++) {
+                    newById.set(i,
+                                byId.get(i));
+                }
+                byId = newById;
+            }
+            entry = new Entry(inInstrument,
+                              id,
+                              nextSequence++);
+            byId.set(id,
+                     inInstrument);
+            entries.put(inInstrument,
+                        entry);
+            evict = entries.size() > maxSize;
+        }
+        if(evict) {
+            evict(entry);
+        }
+        return entry;
+    }
+    /**
+     * Evicts unpinned instruments until the registry is at its eviction target, expired instruments first and then
+     * the least recently interned.
+     *
+     * @param inNewest an <code>Entry</code> value containing the entry that was just interned, which is not evicted
+     */
+    private void evict(Entry inNewest)
+    {
+        int evicted = evictExpired(new Date()).size();
+        synchronized(lock) {
+            if(entries.size() <= evictionTarget) {
+                return;
+            }
+            List<Entry> candidates = new ArrayList<Entry>(entries.size());
+            for(Entry entry : entries.values()) {
+                if(entry.pins == 0 && entry != inNewest) {
+                    candidates.add(entry);
+                }
+            }
+            Collections.sort(candidates,
+                             SEQUENCE_ORDER);
+            for(Iterator<Entry> iterator=candidates.iterator();iterator.hasNext() && entries.size() > evictionTarget;) {
+                Entry entry = iterator.next();
+                entries.remove(entry.instrument);
+                release(entry);
+                evicted += 1;
+            }
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "Evicted {} instruments, {} remain", //$NON-NLS-1$
+                               evicted,
+                               entries.size());
+    }
+    /**
+     * Frees the id of the given evicted entry.
+     *
+     * @param inEntry an <code>Entry</code> value
+     */
+    @GuardedBy("lock")
+    private void release(Entry inEntry)
+    {
+        byId.set(inEntry.id,
+                 null);
+        freeIds.add(inEntry.id);
+    }
+    /**
+     * Gets the date after which the given instrument is expired.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>int</code> value in the form <code>YYYYMMDD</code> or {@link Integer#MAX_VALUE} if the instrument does not expire
+     */
+    static int expiryOf(Instrument inInstrument)
+    {
+        if(inInstrument instanceof Option) {
+            Option option = (Option)inInstrument;
+            String expiry = option.getAugmentedExpiry() == null ? option.getExpiry() : option.getAugmentedExpiry();
+            if(expiry != null && expiry.length() >= 8) {
+                try {
+                    return Integer.parseInt(expiry.substring(0,
+                                                             8));
+                } catch (NumberFormatException ignored) {}
+            }
+        } else if(inInstrument instanceof Future) {
+            Future future = (Future)inInstrument;
+            if(future.getExpirationMonth() != null) {
+                int day = future.getExpirationDay() == -1 ? 31 : future.getExpirationDay();
+                return future.getExpirationYear() * 10000 + Integer.parseInt(future.getExpirationMonth().getMonthOfYear()) * 100 + day;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+    /**
+     * Converts the given date to the form <code>YYYYMMDD</code>.
+     *
+     * @param inDate a <code>Date</code> value
+     * @return an <code>int</code> value
+     */
+    private static int toDateKey(Date inDate)
+    {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(inDate);
+        return calendar.get(Calendar.YEAR) * 10000 + (calendar.get(Calendar.MONTH) + 1) * 100 + calendar.get(Calendar.DAY_OF_MONTH);
+    }
+    /**
+     * An interned instrument with its id.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Entry
+    {
+        /**
+         * Create a new Entry instance.
+         *
+         * @param inInstrument an <code>Instrument</code> value
+         * @param inId an <code>int</code> value
+         * @param inSequence a <code>long</code> value indicating the order in which the instrument was interned
+         */
+        private Entry(Instrument inInstrument,
+                      int inId,
+                      long inSequence)
+        {
+            instrument = inInstrument;
+            id = inId;
+            sequence = inSequence;
+            expiry = expiryOf(inInstrument);
+        }
+        /**
+         * canonical instrument
+         */
+        private final Instrument instrument;
+        /**
+         * instrument id
+         */
+        private final int id;
+        /**
+         * order in which the instrument was interned
+         */
+        private final long sequence;
+        /**
+         * date after which the instrument is expired in the form <code>YYYYMMDD</code>
+         */
+        private final int expiry;
+        /**
+         * number of times the instrument is pinned
+         */
+        @GuardedBy("lock")
+        private int pins;
+    }
+    /**
+     * orders entries from the least to the most recently interned
+     */
+    private static final Comparator<Entry> SEQUENCE_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry inEntry1,
+                           Entry inEntry2)
+        {
+            return Long.compare(inEntry1.sequence,
+                                inEntry2.sequence);
+        }
+    };
+    /**
+     * default number of unpinned instruments above which instruments are evicted
+     */
+    public static final int DEFAULT_MAX_SIZE = 100000;
+    /**
+     * shared instance
+     */
+    private static final InstrumentRegistry instance = new InstrumentRegistry(DEFAULT_MAX_SIZE);
+    /**
+     * number of instruments above which instruments are evicted
+     */
+    private final int maxSize;
+    /**
+     * number of instruments to which an eviction reduces the registry
+     */
+    private final int evictionTarget;
+    /**
+     * interned instruments by instrument
+     */
+    private final ConcurrentMap<Instrument,Entry> entries = new ConcurrentHashMap<Instrument,Entry>();
+    /**
+     * guards assignment of ids and eviction
+     */
+    private final Object lock = new Object();
+    /**
+     * interned instruments by id, <code>null</code> for evicted ids
+     */
+    private volatile AtomicReferenceArray<Instrument> byId = new AtomicReferenceArray<Instrument>(1024);
+    /**
+     * next id to assign if no evicted id is free
+     */
+    @GuardedBy("lock")
+    private int nextId = 0;
+    /**
+     * ids of evicted instruments available for reuse
+     */
+    @GuardedBy("lock")
+    private final List<Integer> freeIds = new ArrayList<Integer>();
+    /**
+     * order of the next instrument to be interned
+     */
+    @GuardedBy("lock")
+    private long nextSequence = 0;
+}
@@ -46,6 +46,16 @@ public class Option extends Instrument {
 
     private final BigDecimal mStrikePrice;
 
+    /**
+     * cached OSI symbol, computed when first needed
+     */
+    private transient String mFullSymbol;
+
+    /**
+     * cached hash code, 0 until computed
+     */
+    private transient int mHashCode;
+
     /**
      * Constructor. Note that trailing zeros are stripped from strikePrice.
      * 
@@ -106,7 +116,12 @@ public class Option extends Instrument {
     @Override
     public String getFullSymbol()
     {
-        return OptionUtils.getOsiSymbolFromOption(this);
+        String result = mFullSymbol;
+        if(result == null) {
+            result = OptionUtils.getOsiSymbolFromOption(this);
+            mFullSymbol = result;
+        }
+        return result;
     }
     /**
      * Always returns {@link SecurityType#Option}.
@@ -161,14 +176,19 @@ public class Option extends Instrument {
 
     @Override
     public int hashCode() {
+        int result = mHashCode;
+        if(result != 0) {
+            return result;
+        }
         final int prime = 31;
-        int result = 1;
+        result = 1;
         result = prime * result + (mAugmentedExpiry == null
                 ? mExpiry.hashCode()
                 : mAugmentedExpiry.hashCode());
         result = prime * result + mStrikePrice.hashCode();
         result = prime * result + mSymbol.hashCode();
         result = prime * result + mType.hashCode();
+        mHashCode = result;
         return result;
     }
 
@@ -184,6 +204,9 @@ public class Option extends Instrument {
             return false;
         }
         Option other = (Option) obj;
+        if(hashCode() != other.hashCode()) {
+            return false;
+        }
         String expiry = mAugmentedExpiry == null
                 ? mExpiry
                 : mAugmentedExpiry;
@@ -1,16 +1,28 @@
 package org.marketcetera.trade.utils;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.GuardedBy;
-import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.apache.commons.lang.Validate;
 import org.marketcetera.marketdata.DateUtils;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.trade.ExecutionReport;
 import org.marketcetera.trade.Messages;
 import org.marketcetera.trade.OrderID;
+import org.marketcetera.trade.OrderStatus;
 import org.marketcetera.trade.ReportBase;
 import org.marketcetera.util.collections.UnmodifiableDeque;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -18,11 +30,29 @@ import org.marketcetera.util.misc.ClassVersion;
 import org.nocrala.tools.texttablefmt.*;
 import org.nocrala.tools.texttablefmt.CellStyle.HorizontalAlign;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
 /* $License$ */
 
 /**
  * Manages order history for multiple orders throughout the order lifecycle.
  *
+ * <p>Order histories are indexed by every order ID in their order chain, so lookups take
+ * constant time regardless of the number of orders. Reports for different order chains may
+ * be added concurrently.
+ *
+ * <p>By default, all history is kept until it is {@link #clear() cleared}. Orders that have
+ * reached a terminal state (filled, canceled, rejected, done for day, or expired) may instead be
+ * evicted after a {@link #setTerminalOrderTimeToLive(long, TimeUnit) time to live} or when there are
+ * more than {@link #setMaxTerminalOrders(int) a given number} of them, oldest first. Only orders that
+ * reach a terminal state while one of these limits is set are tracked for eviction. Filled orders
+ * may also be reduced to their {@link #setKeepFilledOrderHistory(boolean) latest report}.
+ *
+ * <p>The number of orders and reports held and the rate of evictions are reported to the {@link MetricService}
+ * for each instance, under the {@link #getName() name} of the instance.
+ *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
  * @since 2.1.4
@@ -31,6 +61,57 @@ import org.nocrala.tools.texttablefmt.CellStyle.HorizontalAlign;
 @ClassVersion("$Id$")
 public class OrderHistoryManager
 {
+    /**
+     * Create a new OrderHistoryManager instance with a generated name.
+     */
+    public OrderHistoryManager()
+    {
+        this(OrderHistoryManager.class.getSimpleName() + "-" + instanceCounter.incrementAndGet()); //$NON-NLS-1$
+    }
+    /**
+     * Create a new OrderHistoryManager instance.
+     *
+     * @param inName a <code>String</code> value used to name the metrics of this instance
+     */
+    public OrderHistoryManager(String inName)
+    {
+        Validate.notNull(inName);
+        name = inName;
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        orderCounterName = name(OrderHistoryManager.class,
+                                inName,
+                                "orders"); //$NON-NLS-1$
+        reportCounterName = name(OrderHistoryManager.class,
+                                 inName,
+                                 "reports"); //$NON-NLS-1$
+        evictionMeterName = name(OrderHistoryManager.class,
+                                 inName,
+                                 "evictions"); //$NON-NLS-1$
+        orderCounter = metrics.counter(orderCounterName);
+        reportCounter = metrics.counter(reportCounterName);
+        evictionMeter = metrics.meter(evictionMeterName);
+    }
+    /**
+     * Gets the name of this instance.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getName()
+    {
+        return name;
+    }
+    /**
+     * Removes the metrics of this instance from the {@link MetricService}.
+     *
+     * <p>The instance remains usable, its metrics are no longer reported.
+     */
+    public void removeMetrics()
+    {
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        metrics.remove(orderCounterName);
+        metrics.remove(reportCounterName);
+        metrics.remove(evictionMeterName);
+    }
     /**
      * Gets the root order ID for the given order ID.
      *
@@ -39,11 +120,14 @@ public class OrderHistoryManager
      */
     public OrderID getRootOrderIdFor(OrderID inOrderID)
     {
-        Deque<ReportBase> orders = getReportHistoryFor(inOrderID);
-        if(orders == null || orders.isEmpty()) {
+        if(inOrderID == null) {
+            throw new NullPointerException();
+        }
+        OrderHistory history = orders.get(inOrderID);
+        if(history == null) {
             return null;
         }
-        return orders.getLast().getOrderID();
+        return history.getRootOrderId();
     }
     /**
      * Gets the latest <code>ReportBase</code> for the given <code>OrderID</code>.
@@ -62,21 +146,19 @@ public class OrderHistoryManager
         SLF4JLoggerProxy.debug(this,
                                "Searching order tracker for {}", //$NON-NLS-1$
                                inOrderID);
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderID);
-            if(history != null) {
-                ReportBase report = history.getLatestReport();
-                SLF4JLoggerProxy.debug(this,
-                                       "Retrieved {} for {}",
-                                       report,
-                                       inOrderID);
-                return report;
-            }
+        OrderHistory history = getHistory(inOrderID);
+        if(history != null) {
+            ReportBase report = history.getLatestReport();
             SLF4JLoggerProxy.debug(this,
-                                   "No history for {}", //$NON-NLS-1$
+                                   "Retrieved {} for {}",
+                                   report,
                                    inOrderID);
-            return null;
+            return report;
         }
+        SLF4JLoggerProxy.debug(this,
+                               "No history for {}", //$NON-NLS-1$
+                               inOrderID);
+        return null;
     }
     /**
      * Adds the given <code>ReportBase</code> to the order history.
@@ -94,9 +176,9 @@ public class OrderHistoryManager
         SLF4JLoggerProxy.debug(this,
                                "Adding {} to order history",
                                inReport);
-        synchronized(orders) {
-            OrderID actualOrderID = inReport.getOrderID();
-            OrderID originalOrderID = inReport.getOriginalOrderID();
+        OrderID actualOrderID = inReport.getOrderID();
+        OrderID originalOrderID = inReport.getOriginalOrderID();
+        while(true) {
             // find the order history for this report
             // first, look for a match of the actual order ID (simple, non-replace order case)
             OrderHistory history = orders.get(actualOrderID);
@@ -104,13 +186,10 @@ public class OrderHistoryManager
                 // ok, no order history for the actual order ID. this is caused by one of two things:
                 //  1/ This is the first time we've seen anything in this chain
                 //  2/ The report is a replace order and we should search using the originalOrderID
-                history = orders.get(originalOrderID);
+                history = getHistory(originalOrderID);
                 if(history == null) {
                     // now we know this is case #1 from above: create a new order history and add it
                     history = new OrderHistory();
-                    // index the new history using the actual order ID
-                    orders.put(actualOrderID,
-                               history);
                     SLF4JLoggerProxy.debug(this,
                                            "Created new {} for actual order ID: {} because there was no order history for this actual order ID nor the original order ID: {}",
                                            history,
@@ -118,59 +197,41 @@ public class OrderHistoryManager
                                            originalOrderID);
                 } else {
                     // case #2 from above: add an index reference for the new actual order ID
-                    orders.put(actualOrderID,
-                               history);
                     SLF4JLoggerProxy.debug(this,
                                            "Using existing {} for actual order ID: {} because there was already history for original order ID: {}",
                                            history,
                                            actualOrderID,
                                            originalOrderID);
                 }
+                // index the history using the actual order ID unless another report for the same order got there first
+                OrderHistory existingHistory = orders.putIfAbsent(actualOrderID,
+                                                                  history);
+                if(existingHistory != null) {
+                    continue;
+                }
             } else {
                 SLF4JLoggerProxy.debug(this,
-                                       "Selected order history {} based on actual orderID: {} from {}",
+                                       "Selected order history {} based on actual orderID: {}",
                                        history,
-                                       actualOrderID,
-                                       orders);
+                                       actualOrderID);
             }
-            // add the report to the order history
-            history.add(inReport);
-            SLF4JLoggerProxy.debug(this,
-                                   "Added {} to {}",
-                                   inReport,
-                                   history);
-            // check to see if the report represents an open order
-            if(inReport.getOrderStatus().isCancellable()) {
-                // if a report is cancellable, at least by our current understanding, the report has to be an ExecutionReport (not an OrderCancelReject)
-                if(inReport instanceof ExecutionReport) {
-                    SLF4JLoggerProxy.debug(this,
-                                           "{} represents an open order ({}), updating live order list for {}", //$NON-NLS-1$
-                                           inReport.getOrderID(),
-                                           inReport.getOrderStatus(),
-                                           history);
-                    openOrders.put(inReport.getOrderID(),
-                                   (ExecutionReport)inReport);
+            synchronized(history) {
+                if(history.isEvicted()) {
+                    // the history was evicted or cleared after it was found, start over
+                    orders.remove(actualOrderID,
+                                  history);
+                    continue;
                 }
-            } else {
-                SLF4JLoggerProxy.debug(this,
-                                       "{} represents a closed order ({}) updating live order list for {}", //$NON-NLS-1$
-                                       inReport.getOrderID(),
-                                       inReport.getOrderStatus(),
-                                       history);
-                openOrders.remove(inReport.getOrderID());
-            }
-            if(inReport.getOriginalOrderID() != null) {
-                SLF4JLoggerProxy.debug(this,
-                                       "{} replaces {}, updating live order list", //$NON-NLS-1$
-                                       inReport.getOrderID(),
-                                       inReport.getOriginalOrderID());
-                openOrders.remove(inReport.getOriginalOrderID());
-            }
-            if(SLF4JLoggerProxy.isTraceEnabled(this)) {
-                SLF4JLoggerProxy.trace(this,
-                                       display());
+                addToHistory(inReport,
+                             history);
             }
+            break;
         }
+        if(SLF4JLoggerProxy.isTraceEnabled(this)) {
+            SLF4JLoggerProxy.trace(this,
+                                   display());
+        }
+        evictTerminalOrders();
         synchronized(this) {
             this.notifyAll();
         }
@@ -184,114 +245,112 @@ public class OrderHistoryManager
      */
     public String display()
     {
-        synchronized(orders) {
-            StringBuffer output = new StringBuffer();
-            output.append(nl).append("Order History as of ").append(new Date()).append(nl); //$NON-NLS-1$
-            Table latestReportTable = new Table(10,
-                                                BorderStyle.CLASSIC_COMPATIBLE_WIDE,
-                                                ShownBorders.ALL,
-                                                false);
-            latestReportTable.addCell("OrderID", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Status", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("SendingTime", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("OrderChain", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Side", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Quantity", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Symbol", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Type", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Price", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Text", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            Set<OrderID> handledOrders = new HashSet<OrderID>();
-            for(OrderHistory order : orders.values()) {
-                ReportBase report = order.getLatestReport();
-                if(report != null &&
-                   !handledOrders.contains(report.getOrderID())) {
-                    latestReportTable.addCell(order.getLatestReport().getOrderID().getValue());
-                    latestReportTable.addCell(order.getLatestReport().getOrderStatus().name());
-                    latestReportTable.addCell(DateUtils.dateToString(order.getLatestReport().getSendingTime()));
-                    latestReportTable.addCell(order.getOrderIdChain().toString());
-                    latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getSide().name() : none);
-                    latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderQuantity()) : none);
-                    latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getInstrument().getSymbol() : none);
-                    latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderType()) : none);
-                    latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getPrice()) : none);
-                    latestReportTable.addCell(order.getLatestReport().getText());
-                    handledOrders.add(report.getOrderID());
-                }
-            }
-            output.append(nl);
-            for(String line : latestReportTable.renderAsStringArray()) {
-                output.append(line).append(nl);
-            }
-            output.append(nl).append("Open Orders").append(nl); //$NON-NLS-1$
-            latestReportTable = new Table(9,
-                                          BorderStyle.CLASSIC_COMPATIBLE_WIDE,
-                                          ShownBorders.ALL,
-                                          false);
-            latestReportTable.addCell("OrderID", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Status", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("SendingTime", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Side", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Quantity", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Symbol", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Type", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Price", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            latestReportTable.addCell("Text", //$NON-NLS-1$
-                                      headerStyle,
-                                      1);
-            for(ReportBase report : openOrders.values()) {
+        StringBuffer output = new StringBuffer();
+        output.append(nl).append("Order History as of ").append(new Date()).append(nl); //$NON-NLS-1$
+        Table latestReportTable = new Table(10,
+                                            BorderStyle.CLASSIC_COMPATIBLE_WIDE,
+                                            ShownBorders.ALL,
+                                            false);
+        latestReportTable.addCell("OrderID", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Status", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("SendingTime", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("OrderChain", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Side", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Quantity", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Symbol", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Type", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Price", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Text", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        Set<OrderID> handledOrders = new HashSet<OrderID>();
+        for(OrderHistory order : orders.values()) {
+            ReportBase report = order.getLatestReport();
+            if(report != null &&
+               !handledOrders.contains(report.getOrderID())) {
                 latestReportTable.addCell(report.getOrderID().getValue());
                 latestReportTable.addCell(report.getOrderStatus().name());
                 latestReportTable.addCell(DateUtils.dateToString(report.getSendingTime()));
+                latestReportTable.addCell(order.getOrderIdChain().toString());
                 latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getSide().name() : none);
                 latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderQuantity()) : none);
                 latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getInstrument().getSymbol() : none);
                 latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderType()) : none);
                 latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getPrice()) : none);
                 latestReportTable.addCell(report.getText());
+                handledOrders.add(report.getOrderID());
             }
-            output.append(nl);
-            for(String line : latestReportTable.renderAsStringArray()) {
-                output.append(line).append(nl);
-            }
-            return output.toString();
         }
+        output.append(nl);
+        for(String line : latestReportTable.renderAsStringArray()) {
+            output.append(line).append(nl);
+        }
+        output.append(nl).append("Open Orders").append(nl); //$NON-NLS-1$
+        latestReportTable = new Table(9,
+                                      BorderStyle.CLASSIC_COMPATIBLE_WIDE,
+                                      ShownBorders.ALL,
+                                      false);
+        latestReportTable.addCell("OrderID", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Status", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("SendingTime", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Side", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Quantity", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Symbol", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Type", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Price", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        latestReportTable.addCell("Text", //$NON-NLS-1$
+                                  headerStyle,
+                                  1);
+        for(ReportBase report : openOrders.values()) {
+            latestReportTable.addCell(report.getOrderID().getValue());
+            latestReportTable.addCell(report.getOrderStatus().name());
+            latestReportTable.addCell(DateUtils.dateToString(report.getSendingTime()));
+            latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getSide().name() : none);
+            latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderQuantity()) : none);
+            latestReportTable.addCell(report instanceof ExecutionReport ? ((ExecutionReport)report).getInstrument().getSymbol() : none);
+            latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getOrderType()) : none);
+            latestReportTable.addCell(report instanceof ExecutionReport ? String.valueOf(((ExecutionReport)report).getPrice()) : none);
+            latestReportTable.addCell(report.getText());
+        }
+        output.append(nl);
+        for(String line : latestReportTable.renderAsStringArray()) {
+            output.append(line).append(nl);
+        }
+        return output.toString();
     }
     /**
      * Gets the <code>ReportBase</code> values for the given <code>OrderID</code>.
@@ -314,13 +373,11 @@ public class OrderHistoryManager
         if(inOrderId == null) {
             throw new NullPointerException();
         }
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderId);
-            if(history == null) {
-                return NO_ORDER_HISTORY;
-            }
-            return history.getOrderHistory();
+        OrderHistory history = orders.get(inOrderId);
+        if(history == null) {
+            return NO_ORDER_HISTORY;
         }
+        return history.getOrderHistory();
     }
     /**
      * Gets the open orders.
@@ -343,22 +400,22 @@ public class OrderHistoryManager
      */
     public Set<OrderID> getOrderIds()
     {
-        synchronized(orders) {
-            return Collections.unmodifiableSet(orders.keySet());
-        }
+        return Collections.unmodifiableSet(orders.keySet());
     }
     /**
      * Clears all order history.
      */
     public void clear()
     {
-        synchronized(orders) {
-            for(OrderHistory history : orders.values()) {
-                history.clear();
+        for(OrderHistory history : orders.values()) {
+            synchronized(history) {
+                removeHistory(history);
             }
-            orders.clear();
-            openOrders.clear();
         }
+        orders.clear();
+        openOrders.clear();
+        terminalOrders.clear();
+        terminalOrderCount.set(0);
     }
     /**
      * Clears the order history values for the given <code>OrderID</code> if any.
@@ -373,21 +430,20 @@ public class OrderHistoryManager
      */
     public void clear(OrderID inOrderId)
     {
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderId);
-            if(history != null) {
-                for(OrderID orderID : history.getOrderIdChain()) {
-                    SLF4JLoggerProxy.debug(this,
-                                           "Clearing history for {}", //$NON-NLS-1$
-                                           orderID);
-                    orders.remove(orderID);
-                }
-                history.clear();
+        OrderHistory history = getHistory(inOrderId);
+        if(history != null) {
+            TerminalOrder terminalOrder;
+            synchronized(history) {
+                terminalOrder = history.getTerminalOrder();
+                removeHistory(history);
             }
-            if(inOrderId != null) {
-                openOrders.remove(inOrderId);
+            if(terminalOrder != null) {
+                terminalOrders.remove(terminalOrder);
             }
         }
+        if(inOrderId != null) {
+            openOrders.remove(inOrderId);
+        }
     }
     /**
      * Gets the chain of <code>OrderID</code> values that describe the evolution of the
@@ -405,13 +461,243 @@ public class OrderHistoryManager
      */
     public Set<OrderID> getOrderChain(OrderID inOrderId)
     {
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderId);
-            if(history != null) {
-                return history.getOrderIdChain();
+        OrderHistory history = getHistory(inOrderId);
+        if(history != null) {
+            return history.getOrderIdChain();
+        }
+        return NO_ORDER_CHAIN;
+    }
+    /**
+     * Get the terminalOrderTimeToLive value.
+     *
+     * @param inUnit a <code>TimeUnit</code> value
+     * @return a <code>long</code> value in the given units or 0 if terminal orders are not evicted by age
+     */
+    public long getTerminalOrderTimeToLive(TimeUnit inUnit)
+    {
+        return inUnit.convert(terminalOrderTimeToLive,
+                              TimeUnit.MILLISECONDS);
+    }
+    /**
+     * Sets how long an order that has reached a terminal state is kept.
+     * 
+     * <p>Eviction happens as reports are added, so an order may be kept somewhat longer. Orders that
+     * reached a terminal state while neither this nor the {@link #setMaxTerminalOrders(int) maximum number
+     * of terminal orders} was set are kept.
+     *
+     * @param inTimeToLive a <code>long</code> value or 0 to keep terminal orders regardless of age
+     * @param inUnit a <code>TimeUnit</code> value
+     * @throws IllegalArgumentException if the given value is negative
+     */
+    public void setTerminalOrderTimeToLive(long inTimeToLive,
+                                           TimeUnit inUnit)
+    {
+        if(inTimeToLive < 0) {
+            throw new IllegalArgumentException();
+        }
+        terminalOrderTimeToLive = inUnit.toMillis(inTimeToLive);
+    }
+    /**
+     * Get the maxTerminalOrders value.
+     *
+     * @return an <code>int</code> value or 0 if the number of terminal orders is not limited
+     */
+    public int getMaxTerminalOrders()
+    {
+        return maxTerminalOrders;
+    }
+    /**
+     * Sets the number of orders that have reached a terminal state to keep.
+     * 
+     * <p>When there are more, the orders that reached a terminal state first are evicted. Orders that
+     * reached a terminal state while neither this nor the {@link #setTerminalOrderTimeToLive(long, TimeUnit) time to live}
+     * was set are kept and not counted.
+     *
+     * @param inMaxTerminalOrders an <code>int</code> value or 0 to keep all terminal orders
+     * @throws IllegalArgumentException if the given value is negative
+     */
+    public void setMaxTerminalOrders(int inMaxTerminalOrders)
+    {
+        if(inMaxTerminalOrders < 0) {
+            throw new IllegalArgumentException();
+        }
+        maxTerminalOrders = inMaxTerminalOrders;
+    }
+    /**
+     * Get the keepFilledOrderHistory value.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean getKeepFilledOrderHistory()
+    {
+        return keepFilledOrderHistory;
+    }
+    /**
+     * Sets whether the full report history of a filled order is kept.
+     * 
+     * <p>If <code>false</code>, only the latest report of a filled order is kept. The order chain
+     * and {@link #getRootOrderIdFor(OrderID) root order ID} are not affected.
+     *
+     * @param inKeepFilledOrderHistory a <code>boolean</code> value
+     */
+    public void setKeepFilledOrderHistory(boolean inKeepFilledOrderHistory)
+    {
+        keepFilledOrderHistory = inKeepFilledOrderHistory;
+    }
+    /**
+     * Gets the order history for the given order ID.
+     *
+     * @param inOrderID an <code>OrderID</code> value or <code>null</code>
+     * @return an <code>OrderHistory</code> value or <code>null</code>
+     */
+    private OrderHistory getHistory(OrderID inOrderID)
+    {
+        if(inOrderID == null) {
+            return null;
+        }
+        return orders.get(inOrderID);
+    }
+    /**
+     * Adds the given report to the given order history and updates the open and terminal orders.
+     * 
+     * <p>The caller must hold the lock on the given history.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @param inHistory an <code>OrderHistory</code> value
+     */
+    private void addToHistory(ReportBase inReport,
+                              OrderHistory inHistory)
+    {
+        int removedReports = inHistory.add(inReport,
+                                           !keepFilledOrderHistory && inReport.getOrderStatus() == OrderStatus.Filled);
+        if(inHistory.getReportCount() == 1 && removedReports == 0) {
+            orderCounter.inc();
+        }
+        reportCounter.inc(1 - removedReports);
+        SLF4JLoggerProxy.debug(this,
+                               "Added {} to {}",
+                               inReport,
+                               inHistory);
+        // check to see if the report represents an open order
+        if(inReport.getOrderStatus().isCancellable()) {
+            // if a report is cancellable, at least by our current understanding, the report has to be an ExecutionReport (not an OrderCancelReject)
+            if(inReport instanceof ExecutionReport) {
+                SLF4JLoggerProxy.debug(this,
+                                       "{} represents an open order ({}), updating live order list for {}", //$NON-NLS-1$
+                                       inReport.getOrderID(),
+                                       inReport.getOrderStatus(),
+                                       inHistory);
+                openOrders.put(inReport.getOrderID(),
+                               (ExecutionReport)inReport);
+            }
+        } else {
+            SLF4JLoggerProxy.debug(this,
+                                   "{} represents a closed order ({}) updating live order list for {}", //$NON-NLS-1$
+                                   inReport.getOrderID(),
+                                   inReport.getOrderStatus(),
+                                   inHistory);
+            openOrders.remove(inReport.getOrderID());
+        }
+        if(inReport.getOriginalOrderID() != null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "{} replaces {}, updating live order list", //$NON-NLS-1$
+                                   inReport.getOrderID(),
+                                   inReport.getOriginalOrderID());
+            openOrders.remove(inReport.getOriginalOrderID());
+        }
+        // track orders which have reached a terminal state so they can be evicted
+        TerminalOrder terminalOrder = inHistory.getTerminalOrder();
+        if(terminalOrder != null) {
+            // the order changed after it reached a terminal state, it is not known whether it is still terminal
+            terminalOrder.canceled = true;
+            inHistory.setTerminalOrder(null);
+            terminalOrderCount.decrementAndGet();
+            terminalOrders.remove(terminalOrder);
+        }
+        // without a limit terminal orders are never evicted, so they are not tracked
+        if((terminalOrderTimeToLive != 0 || maxTerminalOrders != 0) &&
+           inReport instanceof ExecutionReport && TERMINAL_STATUSES.contains(inReport.getOrderStatus())) {
+            terminalOrder = new TerminalOrder(inHistory);
+            inHistory.setTerminalOrder(terminalOrder);
+            terminalOrders.add(terminalOrder);
+            terminalOrderCount.incrementAndGet();
+        }
+    }
+    /**
+     * Evicts orders in a terminal state that are older than the time to live or exceed the maximum number of terminal orders.
+     * 
+     * <p>If another thread is already evicting orders, this method returns immediately.
+     */
+    private void evictTerminalOrders()
+    {
+        long timeToLive = terminalOrderTimeToLive;
+        int maxOrders = maxTerminalOrders;
+        if(timeToLive == 0 && maxOrders == 0) {
+            return;
+        }
+        // a thread which fails to get the lock relies on the holder to check the limit again after releasing it
+        do {
+            if(!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                long now = System.currentTimeMillis();
+                TerminalOrder terminalOrder;
+                while((terminalOrder = terminalOrders.peek()) != null) {
+                    boolean tooMany = maxOrders != 0 && terminalOrderCount.get() > maxOrders;
+                    boolean tooOld = timeToLive != 0 && now - terminalOrder.timestamp >= timeToLive;
+                    if(!terminalOrder.canceled && !tooMany && !tooOld) {
+                        break;
+                    }
+                    terminalOrders.poll();
+                    OrderHistory history = terminalOrder.history;
+                    synchronized(history) {
+                        if(terminalOrder.canceled || history.getTerminalOrder() != terminalOrder) {
+                            continue;
+                        }
+                        SLF4JLoggerProxy.debug(this,
+                                               "Evicting {}", //$NON-NLS-1$
+                                               history);
+                        removeHistory(history);
+                        evictionMeter.mark();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
             }
-            return NO_ORDER_CHAIN;
+        } while(maxOrders != 0 && terminalOrderCount.get() > maxOrders);
+    }
+    /**
+     * Removes the given order history from the index and the open orders and clears it.
+     * 
+     * <p>The caller must hold the lock on the given history.
+     *
+     * @param inHistory an <code>OrderHistory</code> value
+     */
+    private void removeHistory(OrderHistory inHistory)
+    {
+        if(inHistory.isEvicted()) {
+            return;
         }
+        for(OrderID orderID : inHistory.getOrderIdChain()) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Clearing history for {}", //$NON-NLS-1$
+                                   orderID);
+            orders.remove(orderID,
+                          inHistory);
+            openOrders.remove(orderID);
+        }
+        TerminalOrder terminalOrder = inHistory.getTerminalOrder();
+        if(terminalOrder != null) {
+            terminalOrder.canceled = true;
+            inHistory.setTerminalOrder(null);
+            terminalOrderCount.decrementAndGet();
+        }
+        if(inHistory.getReportCount() > 0) {
+            orderCounter.dec();
+            reportCounter.dec(inHistory.getReportCount());
+        }
+        inHistory.clear();
     }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -430,12 +716,15 @@ public class OrderHistoryManager
      * this same order chain. No validation is done to make sure that incoming
      * <code>ReportBase</code> objects are truly part of the order chain: the
      * act of invoking <code>add</code> implicitly establishes this fact.
+     * 
+     * <p>Modifications must be made holding the lock on this object. The history
+     * may be read at any time.
      *
      * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
      * @version $Id$
      * @since 2.1.4
      */
-    @NotThreadSafe
+    @ThreadSafe
     @ClassVersion("$Id$")
     private static class OrderHistory
     {
@@ -445,29 +734,59 @@ public class OrderHistoryManager
         @Override
         public String toString()
         {
+            ReportBase report = latestReport;
             StringBuilder builder = new StringBuilder();
-            builder.append("OrderHistory [").append(latestReport == null ? "none" : latestReport.getOrderID()).append("]");
+            builder.append("OrderHistory [").append(report == null ? "none" : report.getOrderID()).append("]");
             return builder.toString();
         }
         /**
          * Adds the given <code>ReportBase</code> to the order history.
          * 
          * @param inReport a <code>ReportBase</code> value
+         * @param inDiscardOlderReports a <code>boolean</code> value indicating whether to keep only the given report
+         * @return an <code>int</code> value containing the number of older reports discarded
          */
-        private void add(ReportBase inReport)
+        private int add(ReportBase inReport,
+                        boolean inDiscardOlderReports)
         {
+            if(rootOrderId == null) {
+                rootOrderId = inReport.getOrderID();
+            }
             orderHistory.addFirst(inReport);
             orderIdChain.add(inReport.getOrderID());
             latestReport = inReport;
+            reportCount += 1;
+            int discardedReports = 0;
+            if(inDiscardOlderReports) {
+                while(orderHistory.peekLast() != inReport) {
+                    orderHistory.pollLast();
+                    discardedReports += 1;
+                }
+                reportCount -= discardedReports;
+            }
+            return discardedReports;
         }
         /**
          * Clears the order history object.
+         * 
+         * <p>Once cleared, the object may not be used for further history.
          */
         private void clear()
         {
+            evicted = true;
             orderHistory.clear();
             orderIdChain.clear();
             latestReport = null;
+            reportCount = 0;
+        }
+        /**
+         * Indicates if the order history object has been cleared.
+         *
+         * @return a <code>boolean</code> value
+         */
+        private boolean isEvicted()
+        {
+            return evicted;
         }
         /**
          * Gets the order history.
@@ -492,6 +811,42 @@ public class OrderHistoryManager
         {
             return latestReport;
         }
+        /**
+         * Get the rootOrderId value.
+         *
+         * @return an <code>OrderID</code> value or <code>null</code>
+         */
+        private OrderID getRootOrderId()
+        {
+            return rootOrderId;
+        }
+        /**
+         * Get the reportCount value.
+         *
+         * @return an <code>int</code> value
+         */
+        private int getReportCount()
+        {
+            return reportCount;
+        }
+        /**
+         * Get the terminalOrder value.
+         *
+         * @return a <code>TerminalOrder</code> value or <code>null</code> if the order is not in a terminal state
+         */
+        private TerminalOrder getTerminalOrder()
+        {
+            return terminalOrder;
+        }
+        /**
+         * Sets the terminalOrder value.
+         *
+         * @param inTerminalOrder a <code>TerminalOrder</code> value or <code>null</code>
+         */
+        private void setTerminalOrder(TerminalOrder inTerminalOrder)
+        {
+            terminalOrder = inTerminalOrder;
+        }
         /**
          * Gets the chain of <code>OrderID</code> values that describe the evolution of this
          * order.
@@ -510,26 +865,139 @@ public class OrderHistoryManager
         /**
          * order history sorted from newest to oldest
          */
-        private final Deque<ReportBase> orderHistory = new LinkedList<ReportBase>();
+        private final Deque<ReportBase> orderHistory = new ConcurrentLinkedDeque<ReportBase>();
         /**
          * order IDs in the order chain in the order they occurred
          */
-        private final Set<OrderID> orderIdChain = new LinkedHashSet<OrderID>();
+        private final Set<OrderID> orderIdChain = new CopyOnWriteArraySet<OrderID>();
         /**
          * most recent <code>ExecutionReport</code>, may be <code>null</code>
          */
         private volatile ReportBase latestReport;
+        /**
+         * order ID of the first report in the order chain, may be <code>null</code>
+         */
+        private volatile OrderID rootOrderId;
+        /**
+         * indicates if the history has been cleared
+         */
+        private volatile boolean evicted;
+        /**
+         * number of reports in the history
+         */
+        @GuardedBy("this")
+        private int reportCount;
+        /**
+         * entry in the terminal order queue for this order, <code>null</code> if the order is not in a terminal state
+         */
+        @GuardedBy("this")
+        private TerminalOrder terminalOrder;
+    }
+    /**
+     * Records when an order reached a terminal state.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ThreadSafe
+    @ClassVersion("$Id$")
+    private static class TerminalOrder
+    {
+        /**
+         * Create a new TerminalOrder instance.
+         *
+         * @param inHistory an <code>OrderHistory</code> value
+         */
+        private TerminalOrder(OrderHistory inHistory)
+        {
+            history = inHistory;
+        }
+        /**
+         * order history of the order
+         */
+        private final OrderHistory history;
+        /**
+         * time at which the order reached a terminal state
+         */
+        private final long timestamp = System.currentTimeMillis();
+        /**
+         * indicates the order is no longer in the terminal state recorded by this entry
+         */
+        private volatile boolean canceled;
     }
     /**
-     * order history objects indexed by actual order ID
+     * order history objects indexed by each order ID in their order chain
      */
-    @GuardedBy("orders")
-    private final Map<OrderID,OrderHistory> orders = new LinkedHashMap<OrderID,OrderHistory>();
+    private final ConcurrentMap<OrderID,OrderHistory> orders = new ConcurrentHashMap<OrderID,OrderHistory>();
     /**
      * collection containing only the open orders
      */
-    @GuardedBy("orders")
     private final Map<OrderID,ExecutionReport> openOrders = new ConcurrentHashMap<OrderID,ExecutionReport>();
+    /**
+     * orders in a terminal state in the order they reached it
+     */
+    private final Queue<TerminalOrder> terminalOrders = new ConcurrentLinkedQueue<TerminalOrder>();
+    /**
+     * number of orders currently in a terminal state
+     */
+    private final AtomicInteger terminalOrderCount = new AtomicInteger();
+    /**
+     * allows one thread at a time to evict terminal orders
+     */
+    private final Lock evictionLock = new ReentrantLock();
+    /**
+     * time in milliseconds to keep orders in a terminal state or 0 to keep them regardless of age
+     */
+    private volatile long terminalOrderTimeToLive = 0;
+    /**
+     * number of orders in a terminal state to keep or 0 to keep all of them
+     */
+    private volatile int maxTerminalOrders = 0;
+    /**
+     * indicates whether to keep all reports for filled orders
+     */
+    private volatile boolean keepFilledOrderHistory = true;
+    /**
+     * order statuses after which an order receives no further reports
+     */
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.Filled,
+                                                                         OrderStatus.Canceled,
+                                                                         OrderStatus.Rejected,
+                                                                         OrderStatus.DoneForDay,
+                                                                         OrderStatus.Expired);
+    /**
+     * name of this instance
+     */
+    private final String name;
+    /**
+     * number of orders held by this instance
+     */
+    private final Counter orderCounter;
+    /**
+     * metric name of {@link #orderCounter}
+     */
+    private final String orderCounterName;
+    /**
+     * number of reports held by this instance
+     */
+    private final Counter reportCounter;
+    /**
+     * metric name of {@link #reportCounter}
+     */
+    private final String reportCounterName;
+    /**
+     * rate at which orders are evicted by this instance
+     */
+    private final Meter evictionMeter;
+    /**
+     * metric name of {@link #evictionMeter}
+     */
+    private final String evictionMeterName;
+    /**
+     * used to generate instance names
+     */
+    private static final AtomicInteger instanceCounter = new AtomicInteger();
     /**
      * sentinel collection used to indicate there is no order chain for a given order ID
      */
@@ -0,0 +1,95 @@
+package org.marketcetera.core.position.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.marketcetera.core.position.MockTrade;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Test {@link FixedPointPositionMetricsCalculator}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class FixedPointPositionMetricsCalculatorTest {
+
+    private static final int NUM_ITERATIONS = 1000;
+
+    @Test
+    public void stressTest() {
+        new PositionMetricsCalculatorTestTemplate(NUM_ITERATIONS) {
+
+            @Override
+            protected PositionMetricsCalculator createCalculator(BigDecimal incomingPosition,
+                    BigDecimal closingPrice) {
+                return new FixedPointPositionMetricsCalculator(incomingPosition, closingPrice,
+                        IncrementalPositionEngine.DEFAULT_QUANTITY_SCALE,
+                        IncrementalPositionEngine.DEFAULT_PRICE_SCALE);
+            }
+        }.run();
+    }
+
+    @Test
+    public void testManyLots() {
+        PositionMetricsCalculator calculator = new FixedPointPositionMetricsCalculator(
+                BigDecimal.ZERO, new BigDecimal("10"), 0, 2);
+        for (int i = 1; i <= 10; i++) {
+            calculator.trade(MockTrade.createEquityTrade("METC", "A", "T", "10",
+                    String.valueOf(i)));
+        }
+        // closes the first 9 lots and part of the last
+        PositionMetricsImplTest.assertPositionMetrics(calculator.trade(MockTrade
+                .createEquityTrade("METC", "A", "T", "-95", "20")), "0", "5", null, null,
+                "1400", null, null);
+        PositionMetricsImplTest.assertPositionMetrics(calculator.tick(new BigDecimal("11")),
+                "0", "5", "0", "1405", "1400", "5", "1405");
+    }
+
+    @Test
+    public void testScale() {
+        PositionMetricsCalculator calculator = new FixedPointPositionMetricsCalculator(
+                new BigDecimal("100"), new BigDecimal("1.5"), 2, 4);
+        calculator.trade(MockTrade.createEquityTrade("METC", "A", "T", "0.25", "1.2345"));
+        BigDecimal totalPL = calculator.tick(new BigDecimal("2")).getTotalPL();
+        assertEquals(new BigDecimal("50.191375"), totalPL);
+        assertEquals(6, totalPL.scale());
+    }
+
+    @Test
+    public void testUnrepresentable() throws Exception {
+        final PositionMetricsCalculator calculator = new FixedPointPositionMetricsCalculator(
+                BigDecimal.ONE, BigDecimal.ONE, 2, 4);
+        new ExpectedFailure<ArithmeticException>() {
+            @Override
+            protected void run() throws Exception {
+                calculator.tick(new BigDecimal("1.00001"));
+            }
+        };
+        new ExpectedFailure<ArithmeticException>() {
+            @Override
+            protected void run() throws Exception {
+                calculator.trade(MockTrade.createEquityTrade("METC", "A", "T", "0.001", "1"));
+            }
+        };
+        new ExpectedFailure<ArithmeticException>() {
+            @Override
+            protected void run() throws Exception {
+                new FixedPointPositionMetricsCalculator(new BigDecimal("1E+20"), BigDecimal.ONE,
+                        2, 4);
+            }
+        };
+        new ExpectedFailure<ArithmeticException>() {
+            @Override
+            protected void run() throws Exception {
+                calculator.trade(MockTrade.createEquityTrade("METC", "A", "T", "1E+15",
+                        "100000"));
+            }
+        };
+    }
+}
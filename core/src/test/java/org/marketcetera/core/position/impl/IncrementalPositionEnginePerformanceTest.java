@@ -0,0 +1,206 @@
+package org.marketcetera.core.position.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.marketcetera.core.instruments.UnderlyingSymbolSupport;
+import org.marketcetera.core.position.ImmutablePositionSupport;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataEvent;
+import org.marketcetera.core.position.MockTrade;
+import org.marketcetera.core.position.PositionEngine;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.core.position.Trade;
+import org.marketcetera.core.position.impl.IncrementalPositionEngineTest.MockMarketData;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+import ca.odell.glazedlists.BasicEventList;
+import ca.odell.glazedlists.EventList;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Measures {@link IncrementalPositionEngine} with many positions.
+ * <p>
+ * {@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class IncrementalPositionEnginePerformanceTest {
+
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void jitCompilation() throws Exception {
+        run("jitCompile", 1000);
+    }
+
+    /**
+     * Measures 10,000 positions.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void positions10k() throws Exception {
+        run("10k", 10000);
+    }
+
+    /**
+     * Measures 100,000 positions.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void positions100k() throws Exception {
+        run("100k", 100000);
+    }
+
+    /**
+     * Measures trades for 10,000 positions with {@link PositionEngineImpl} for comparison.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void listEngine10k() throws Exception {
+        List<Trade<?>> trades = createTrades(10000);
+        EventList<Trade<?>> tradeList = new BasicEventList<Trade<?>>();
+        PositionEngine engine = new PositionEngineImpl(tradeList, new ImmutablePositionSupport(
+                ImmutableMap.<PositionKey<?>, BigDecimal> of()), new MockMarketData(),
+                new UnderlyingSymbolSupport() {
+                    @Override
+                    public String getUnderlying(Instrument instrument) {
+                        return instrument.getSymbol();
+                    }
+                });
+        try {
+            long start = System.nanoTime();
+            for (Trade<?> trade : trades) {
+                tradeList.getReadWriteLock().writeLock().lock();
+                try {
+                    tradeList.add(trade);
+                } finally {
+                    tradeList.getReadWriteLock().writeLock().unlock();
+                }
+            }
+            log("list 10k trades", trades.size(), System.nanoTime() - start);
+            assertEquals(10000, engine.getFlatData().getPositions().size());
+        } finally {
+            engine.dispose();
+        }
+    }
+
+    /**
+     * Trades and ticks the given number of positions and logs the time taken.
+     *
+     * @param label
+     *            the label to use when logging time
+     * @param positionCount
+     *            the number of positions
+     */
+    private static void run(String label, int positionCount) {
+        List<Trade<?>> trades = createTrades(positionCount);
+        MockMarketData marketData = new MockMarketData();
+        IncrementalPositionEngine engine = new IncrementalPositionEngine(
+                new ImmutablePositionSupport(ImmutableMap.<PositionKey<?>, BigDecimal> of()),
+                marketData);
+        try {
+            long start = System.nanoTime();
+            for (Trade<?> trade : trades) {
+                engine.trade(trade);
+            }
+            log(label + " trades", trades.size(), System.nanoTime() - start);
+            assertEquals(positionCount, engine.size());
+            List<Instrument> instruments = Lists.newArrayList(marketData.mListeners.keySet());
+            for (Instrument instrument : instruments) {
+                marketData.mListeners.get(instrument).closePriceChanged(
+                        new InstrumentMarketDataEvent(marketData, new BigDecimal("50")));
+            }
+            Random random = new Random(1);
+            int tickCount = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < TICK_ROUNDS; i++) {
+                for (Instrument instrument : instruments) {
+                    marketData.mListeners.get(instrument).symbolTraded(
+                            new InstrumentMarketDataEvent(marketData, BigDecimal.valueOf(
+                                    4000 + random.nextInt(2000), 2)));
+                    tickCount += POSITIONS_PER_INSTRUMENT;
+                }
+            }
+            log(label + " ticks", tickCount, System.nanoTime() - start);
+        } finally {
+            engine.dispose();
+        }
+    }
+
+    /**
+     * Creates trades for the given number of positions.
+     *
+     * @param positionCount
+     *            the number of positions
+     * @return the trades
+     */
+    private static List<Trade<?>> createTrades(int positionCount) {
+        Random random = new Random(1);
+        List<PositionKey<Equity>> keys = Lists.newArrayList();
+        for (int i = 0; i < positionCount / POSITIONS_PER_INSTRUMENT; i++) {
+            Equity equity = new Equity("SYM" + i);
+            for (int j = 0; j < POSITIONS_PER_INSTRUMENT; j++) {
+                keys.add(PositionKeyFactory.createKey(equity, "A" + j, "T"));
+            }
+        }
+        List<Trade<?>> trades = Lists.newArrayList();
+        for (int i = 0; i < TRADES_PER_POSITION; i++) {
+            for (PositionKey<Equity> key : keys) {
+                int quantity = 1 + random.nextInt(100);
+                trades.add(new MockTrade<Equity>(key, BigDecimal.valueOf(random.nextBoolean()
+                        ? quantity : -quantity), BigDecimal.valueOf(4000 + random.nextInt(2000), 2)));
+            }
+        }
+        return trades;
+    }
+
+    /**
+     * Logs the results of a run.
+     *
+     * @param label
+     *            the label to use
+     * @param count
+     *            the number of operations
+     * @param elapsed
+     *            the elapsed time in nanoseconds
+     */
+    private static void log(String label, int count, long elapsed) {
+        SLF4JLoggerProxy.info(IncrementalPositionEnginePerformanceTest.class,
+                "{}: {} in {}ms, {}ns each", //$NON-NLS-1$
+                label, count, elapsed / 1000000, elapsed / count);
+    }
+
+    /**
+     * number of positions of each instrument
+     */
+    private static final int POSITIONS_PER_INSTRUMENT = 10;
+    /**
+     * number of trades of each position
+     */
+    private static final int TRADES_PER_POSITION = 5;
+    /**
+     * number of ticks of each instrument
+     */
+    private static final int TICK_ROUNDS = 10;
+}
@@ -0,0 +1,266 @@
+package org.marketcetera.core.position.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.core.position.MarketDataSupport;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataEvent;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListener;
+import org.marketcetera.core.position.ImmutablePositionSupport;
+import org.marketcetera.core.position.MockTrade;
+import org.marketcetera.core.position.PositionChangeListener;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.core.position.PositionMetrics;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.OptionType;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/* $License$ */
+
+/**
+ * Test {@link IncrementalPositionEngine}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class IncrementalPositionEngineTest {
+
+    private static final Equity EQUITY = new Equity("METC");
+    private static final Option OPTION = new Option("METC", "20091010", BigDecimal.TEN,
+            OptionType.Put);
+    private static final String ACCOUNT = "A1";
+    private static final String TRADER = "1";
+    private static final PositionKey<Equity> KEY = PositionKeyFactory.createKey(EQUITY, ACCOUNT,
+            TRADER);
+    private MockMarketData mMarketData;
+    private IncrementalPositionEngine mFixture;
+    private List<Object[]> mChanges;
+
+    @Before
+    public void before() {
+        mMarketData = new MockMarketData();
+        mFixture = new IncrementalPositionEngine(new ImmutablePositionSupport(ImmutableMap.of(
+                KEY, new BigDecimal(100))), mMarketData);
+        mChanges = Lists.newArrayList();
+        mFixture.addPositionChangeListener(new PositionChangeListener() {
+
+            @Override
+            public void positionChanged(PositionKey<?> key, PositionMetrics oldMetrics,
+                    PositionMetrics newMetrics) {
+                mChanges.add(new Object[] { key, oldMetrics, newMetrics });
+            }
+        });
+    }
+
+    @After
+    public void after() {
+        mFixture.dispose();
+        assertEquals(0, mMarketData.mListeners.size());
+    }
+
+    @Test
+    public void testNulls() throws Exception {
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run() throws Exception {
+                new IncrementalPositionEngine(null, mMarketData);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run() throws Exception {
+                new IncrementalPositionEngine(new ImmutablePositionSupport(ImmutableMap
+                        .<PositionKey<?>, BigDecimal> of()), null);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run() throws Exception {
+                mFixture.trade(null);
+            }
+        };
+    }
+
+    @Test
+    public void testIncomingPosition() {
+        assertEquals(1, mFixture.size());
+        assertPosition(mFixture.getPositionMetrics(KEY), "100", null, null, null, null, null);
+        assertEquals(1, mMarketData.mListeners.size());
+    }
+
+    @Test
+    public void testTradesAndTicks() {
+        setClosePrice(EQUITY, "1.50");
+        assertPosition(mFixture.getPositionMetrics(KEY), "100", null, null, "0", null, null);
+        mFixture.trade(createTrade(KEY, "10", "1"));
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", null, null, "0", null, null);
+        tick(EQUITY, "2");
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", "50", "10", "0", "60", "60");
+        assertEquals(3, mChanges.size());
+        // the same price again is not a change
+        tick(EQUITY, "2");
+        assertEquals(3, mChanges.size());
+        Object[] change = mChanges.get(2);
+        assertSame(KEY, change[0]);
+        assertPosition((PositionMetrics) change[1], "110", null, null, "0", null, null);
+        assertSame(mFixture.getPositionMetrics(KEY), change[2]);
+        // a new position receives the current market data
+        PositionKey<Equity> otherKey = PositionKeyFactory.createKey(EQUITY, "A2", TRADER);
+        mFixture.trade(createTrade(otherKey, "-10", "3"));
+        assertEquals(2, mFixture.size());
+        assertEquals(1, mMarketData.mListeners.size());
+        assertNull(mChanges.get(3)[1]);
+        PositionMetricsImplTest.assertPositionMetrics(mFixture.getPositionMetrics(otherKey),
+                "0", "-10", "0", "10", "0", "10", "10");
+        tick(EQUITY, "1");
+        assertEquals(7, mChanges.size());
+        PositionMetricsImplTest.assertPositionMetrics(mFixture.getPositionMetrics(otherKey),
+                "0", "-10", "0", "20", "0", "20", "20");
+        Map<PositionKey<?>, PositionMetrics> positions = mFixture.getPositions();
+        assertEquals(2, positions.size());
+        assertSame(mFixture.getPositionMetrics(KEY), positions.get(KEY));
+        // closing price unavailable
+        setClosePrice(EQUITY, null);
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", null, null, null, null, null);
+    }
+
+    @Test
+    public void testTradesOutOfOrder() {
+        setClosePrice(EQUITY, "3");
+        tick(EQUITY, "5");
+        MockTrade<Equity> first = createTrade(KEY, "-100", "3");
+        MockTrade<Equity> second = createTrade(KEY, "-100", "5");
+        mFixture.trade(second);
+        // closes incoming position for 5
+        assertPosition(mFixture.getPositionMetrics(KEY), "0", "200", "0", "200", "0", "200");
+        mFixture.trade(first);
+        // recalculate with incoming position closed for 3
+        assertPosition(mFixture.getPositionMetrics(KEY), "-100", "200", "-200", "0", "0", "0");
+    }
+
+    @Test
+    public void testFallBack() {
+        setClosePrice(EQUITY, "1.50");
+        tick(EQUITY, "2");
+        mFixture.trade(createTrade(KEY, "10", "1.0000001"));
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", "50", "9.999999", "0",
+                "59.999999", "59.999999");
+        tick(EQUITY, "2.0000000001");
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", "50.00000001",
+                "9.999999001", "0", "59.999999011", "59.999999011");
+        mFixture.trade(createTrade(KEY, "-110", "3"));
+        assertPosition(mFixture.getPositionMetrics(KEY), "0", "50.00000001", "119.99999899",
+                "169.999999", "0", "169.999999");
+    }
+
+    @Test
+    public void testOptionMultiplier() {
+        PositionKey<Option> key = PositionKeyFactory.createKey(OPTION, ACCOUNT, TRADER);
+        mFixture.trade(createTrade(key, "-100", "5"));
+        tick(OPTION, "4");
+        setClosePrice(OPTION, "4");
+        PositionMetricsImplTest.assertPositionMetrics(mFixture.getPositionMetrics(key), "0",
+                "-100", null, null, null, null, null);
+        mMarketData.mListeners.get(OPTION).optionMultiplierChanged(
+                new InstrumentMarketDataEvent(this, BigDecimal.TEN));
+        PositionMetricsImplTest.assertPositionMetrics(mFixture.getPositionMetrics(key), "0",
+                "-100", "0", "1000", "0", "1000", "1000");
+    }
+
+    @Test
+    public void testListenerFailure() {
+        mFixture.addPositionChangeListener(new PositionChangeListener() {
+
+            @Override
+            public void positionChanged(PositionKey<?> key, PositionMetrics oldMetrics,
+                    PositionMetrics newMetrics) {
+                throw new IllegalStateException();
+            }
+        });
+        mFixture.trade(createTrade(KEY, "10", "1"));
+        assertEquals(1, mChanges.size());
+        assertPosition(mFixture.getPositionMetrics(KEY), "110", null, null, null, null, null);
+    }
+
+    private void tick(Instrument instrument, String price) {
+        mMarketData.mListeners.get(instrument).symbolTraded(new InstrumentMarketDataEvent(this,
+                new BigDecimal(price)));
+    }
+
+    private void setClosePrice(Instrument instrument, String price) {
+        mMarketData.mListeners.get(instrument).closePriceChanged(new InstrumentMarketDataEvent(
+                this, price == null ? null : new BigDecimal(price)));
+    }
+
+    private static <T extends Instrument> MockTrade<T> createTrade(PositionKey<T> key,
+            String quantity, String price) {
+        return MockTrade.createTrade(key, quantity, price);
+    }
+
+    private static void assertPosition(PositionMetrics metrics, String position,
+            String positional, String trading, String realized, String unrealized, String total) {
+        PositionMetricsImplTest.assertPositionMetrics(metrics, "100", position, positional,
+                trading, realized, unrealized, total);
+    }
+
+    /**
+     * Market data that keeps the listener of each instrument.
+     */
+    static class MockMarketData implements MarketDataSupport {
+
+        final Map<Instrument, InstrumentMarketDataListener> mListeners = Maps.newConcurrentMap();
+
+        @Override
+        public void addInstrumentMarketDataListener(Instrument instrument,
+                InstrumentMarketDataListener listener) {
+            mListeners.put(instrument, listener);
+        }
+
+        @Override
+        public void removeInstrumentMarketDataListener(Instrument instrument,
+                InstrumentMarketDataListener listener) {
+            mListeners.remove(instrument);
+        }
+
+        @Override
+        public BigDecimal getClosingPrice(Instrument instrument) {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getLastTradePrice(Instrument instrument) {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getOptionMultiplier(Option option) {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getFutureMultiplier(Future future) {
+            return null;
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+}
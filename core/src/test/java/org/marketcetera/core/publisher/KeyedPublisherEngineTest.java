@@ -0,0 +1,179 @@
+package org.marketcetera.core.publisher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Tests {@link KeyedPublisherEngine}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class KeyedPublisherEngineTest
+{
+    /**
+     * Runs before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        publisher = new KeyedPublisherEngine<String>();
+    }
+    /**
+     * Tests that publications reach only the subscribers of their key.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testRouting()
+            throws Exception
+    {
+        MockSubscriber metc = new MockSubscriber();
+        MockSubscriber goog = new MockSubscriber();
+        MockSubscriber both = new MockSubscriber();
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            metc);
+        publisher.subscribe("GOOG", //$NON-NLS-1$
+                            goog);
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            both);
+        publisher.subscribe("GOOG", //$NON-NLS-1$
+                            both);
+        // subscribing twice to the same key has no effect
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            metc);
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            null);
+        assertEquals(3,
+                     publisher.getSubscriptionCount());
+        assertEquals(2,
+                     publisher.getSubscriptionCount("METC")); //$NON-NLS-1$
+        assertEquals(0,
+                     publisher.getSubscriptionCount(null));
+        publisher.publish("METC", //$NON-NLS-1$
+                          "1"); //$NON-NLS-1$
+        publisher.publish("GOOG", //$NON-NLS-1$
+                          "2"); //$NON-NLS-1$
+        publisher.publish("IBM", //$NON-NLS-1$
+                          "3"); //$NON-NLS-1$
+        publisher.publish(null,
+                          "4"); //$NON-NLS-1$
+        assertEquals(Collections.<Object>singletonList("1"), //$NON-NLS-1$
+                     metc.getPublications());
+        assertEquals(Collections.<Object>singletonList("2"), //$NON-NLS-1$
+                     goog.getPublications());
+        assertEquals(Arrays.<Object>asList("1", //$NON-NLS-1$
+                                           "2"), //$NON-NLS-1$
+                     both.getPublications());
+        // subscribers of a key are notified in subscription order
+        assertTrue(metc.getCounter() < both.getCounter());
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                publisher.subscribe(null,
+                                    new MockSubscriber());
+            }
+        };
+    }
+    /**
+     * Tests unsubscribing from one key and from all keys.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testUnsubscribe()
+            throws Exception
+    {
+        MockSubscriber first = new MockSubscriber();
+        MockSubscriber second = new MockSubscriber();
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            first);
+        publisher.subscribe("GOOG", //$NON-NLS-1$
+                            first);
+        publisher.subscribe("METC", //$NON-NLS-1$
+                            second);
+        publisher.unsubscribe("METC", //$NON-NLS-1$
+                              first);
+        publisher.unsubscribe("IBM", //$NON-NLS-1$
+                              first);
+        publisher.unsubscribe(null,
+                              first);
+        publisher.publish("METC", //$NON-NLS-1$
+                          "1"); //$NON-NLS-1$
+        publisher.publish("GOOG", //$NON-NLS-1$
+                          "2"); //$NON-NLS-1$
+        assertEquals(Collections.<Object>singletonList("2"), //$NON-NLS-1$
+                     first.getPublications());
+        assertEquals(Collections.<Object>singletonList("1"), //$NON-NLS-1$
+                     second.getPublications());
+        publisher.unsubscribe(first);
+        publisher.unsubscribe(second);
+        publisher.unsubscribe(second);
+        publisher.unsubscribe(null);
+        assertEquals(0,
+                     publisher.getSubscriptionCount());
+        assertEquals(0,
+                     publisher.getSubscriptionCount("METC")); //$NON-NLS-1$
+        publisher.publish("METC", //$NON-NLS-1$
+                          "3"); //$NON-NLS-1$
+        publisher.publish("GOOG", //$NON-NLS-1$
+                          "4"); //$NON-NLS-1$
+        assertEquals(1,
+                     first.getPublishCount());
+        assertEquals(1,
+                     second.getPublishCount());
+    }
+    /**
+     * Tests that subscribers which are not interested or which fail do not affect other subscribers.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSubscriberFailures()
+            throws Exception
+    {
+        MockSubscriber notInterested = new MockSubscriber(false,
+                                                          false,
+                                                          false);
+        MockSubscriber interestingThrows = new MockSubscriber(true,
+                                                              true,
+                                                              false);
+        MockSubscriber publishThrows = new MockSubscriber(true,
+                                                          false,
+                                                          true);
+        MockSubscriber good = new MockSubscriber();
+        for(MockSubscriber subscriber : new MockSubscriber[] { notInterested, interestingThrows, publishThrows, good }) {
+            publisher.subscribe("METC", //$NON-NLS-1$
+                                subscriber);
+        }
+        publisher.publish("METC", //$NON-NLS-1$
+                          "1"); //$NON-NLS-1$
+        assertEquals(0,
+                     notInterested.getPublishCount());
+        assertEquals(0,
+                     interestingThrows.getPublishCount());
+        assertEquals(0,
+                     publishThrows.getPublishCount());
+        assertEquals(1,
+                     good.getPublishCount());
+    }
+    /**
+     * test publisher
+     */
+    private KeyedPublisherEngine<String> publisher;
+}
@@ -1,10 +1,14 @@
 package org.marketcetera.event.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.marketcetera.event.EventType;
@@ -67,6 +71,103 @@ public class MarketDataBeanTest
         assertEquals(option.getSymbol(),
                      bean.getInstrumentAsString());
     }
+    /**
+     * Tests price, size, and timestamps set in compact form.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void fixedPoint()
+            throws Exception
+    {
+        MarketDataBean bean = constructBean();
+        bean.setPrice(12345,
+                      2);
+        bean.setSize(1000,
+                     0);
+        assertTrue(bean.isFixedPointPrice());
+        assertTrue(bean.isFixedPointSize());
+        assertEquals(12345,
+                     bean.getUnscaledPrice());
+        assertEquals(2,
+                     bean.getPriceScale());
+        assertEquals(new BigDecimal("123.45"),
+                     bean.getPrice());
+        assertSame(bean.getPrice(),
+                   bean.getPrice());
+        assertEquals(new BigDecimal("1000"),
+                     bean.getSize());
+        // a bean with the same values as BigDecimal is equal
+        MarketDataBean other = constructBean();
+        other.setPrice(new BigDecimal("123.45"));
+        other.setSize(new BigDecimal("1000"));
+        assertFalse(other.isFixedPointPrice());
+        assertEquals(bean,
+                     other);
+        assertEquals(bean.hashCode(),
+                     other.hashCode());
+        assertEquals(0,
+                     MarketDataBean.comparePrices(bean,
+                                                  other));
+        other.setPrice(12346,
+                       2);
+        assertTrue(MarketDataBean.comparePrices(bean,
+                                                other) < 0);
+        other.setPrice(123451,
+                       3);
+        assertTrue(MarketDataBean.comparePrices(bean,
+                                                other) < 0);
+        other.setSize(999,
+                      0);
+        assertTrue(MarketDataBean.compareSizes(bean,
+                                               other) > 0);
+        // copies keep the compact form
+        MarketDataBean copy = MarketDataBean.copy(other);
+        assertTrue(copy.isFixedPointPrice());
+        assertEquals(123451,
+                     copy.getUnscaledPrice());
+        assertEquals(3,
+                     copy.getPriceScale());
+        assertEquals(new BigDecimal("123.451"),
+                     copy.getPrice());
+        // setting a BigDecimal discards the compact form
+        copy.setPrice(BigDecimal.ONE);
+        assertFalse(copy.isFixedPointPrice());
+        assertEquals(BigDecimal.ONE,
+                     copy.getPrice());
+        // timestamps
+        long nanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) + 123456;
+        bean.setTimestampNanos(nanos);
+        bean.setExchangeTimestampNanos(nanos);
+        assertEquals(nanos,
+                     bean.getTimestampNanos());
+        assertEquals(TimeUnit.NANOSECONDS.toMillis(nanos),
+                     bean.getTimeMillis());
+        assertEquals(nanos,
+                     bean.getExchangeTimestampNanos());
+        assertEquals(new Date(TimeUnit.NANOSECONDS.toMillis(nanos)),
+                     bean.getTimestamp());
+        assertEquals(new Date(TimeUnit.NANOSECONDS.toMillis(nanos)),
+                     bean.getExchangeTimestamp());
+        bean.setTimestampNanos(-1);
+        assertEquals(-1,
+                     bean.getTimeMillis());
+        Date date = new Date();
+        bean.setExchangeTimestamp(date);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(date.getTime()),
+                     bean.getExchangeTimestampNanos());
+        // compact values satisfy validation
+        bean.setInstrument(new Equity("METC"));
+        bean.setExchange("Q");
+        bean.setExchangeTimestampNanos(nanos);
+        bean.setPrice(1,
+                      0);
+        bean.setSize(1,
+                     0);
+        bean.setMessageId(1);
+        bean.setEventType(EventType.UPDATE_FINAL);
+        bean.validate();
+    }
     /**
      * Tests {@link MarketDataBean#hashCode()} and {@link MarketDataBean#equals(Object)}.
      *
@@ -0,0 +1,222 @@
+package org.marketcetera.event.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.options.ExpirationType;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.OptionType;
+
+/* $License$ */
+
+/**
+ * Tests {@link EventBuilderPool}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class EventBuilderPoolTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        EventBuilderPool.setEnabled(true);
+        EventBuilderPool.releaseAll();
+    }
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        EventBuilderPool.releaseAll();
+        EventBuilderPool.setEnabled(Boolean.getBoolean(EventBuilderPool.ENABLED_KEY));
+    }
+    /**
+     * Tests that released builders are reused and reset.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReuse()
+            throws Exception
+    {
+        QuoteEventBuilder<BidEvent> builder = EventBuilderPool.bidEvent(equity);
+        BidEvent bid = builder.withExchange("Q") //$NON-NLS-1$
+                              .withPrice(BigDecimal.ONE)
+                              .withSize(BigDecimal.TEN)
+                              .withQuoteDate(new Date()).create();
+        assertEquals(1,
+                     EventBuilderPool.getInUseCount());
+        EventBuilderPool.release(builder);
+        assertEquals(0,
+                     EventBuilderPool.getInUseCount());
+        // releasing twice is harmless
+        EventBuilderPool.release(builder);
+        QuoteEventBuilder<BidEvent> reusedBuilder = EventBuilderPool.bidEvent(equity);
+        assertSame(builder,
+                   reusedBuilder);
+        assertNull(reusedBuilder.getQuote().getPrice());
+        assertNull(reusedBuilder.getQuote().getExchange());
+        assertEquals(equity,
+                     reusedBuilder.getQuote().getInstrument());
+        // the event created before the builder was reset is unchanged
+        assertEquals(BigDecimal.ONE,
+                     bid.getPrice());
+        assertEquals("Q", //$NON-NLS-1$
+                     bid.getExchange());
+        // builders are pooled per kind and instrument type
+        assertNotSame(builder,
+                      EventBuilderPool.askEvent(equity));
+        EventBuilderPool.releaseAll();
+        QuoteEventBuilder<BidEvent> optionBuilder = EventBuilderPool.bidEvent(option);
+        assertNotSame(builder,
+                      optionBuilder);
+        assertEquals(option,
+                     optionBuilder.getOption().getInstrument());
+    }
+    /**
+     * Tests trade and marketstat builders.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testTradeAndMarketstat()
+            throws Exception
+    {
+        TradeEventBuilder<TradeEvent> tradeBuilder = EventBuilderPool.tradeEvent(option);
+        TradeEvent trade = tradeBuilder.withExchange("Q") //$NON-NLS-1$
+                                       .withPrice(BigDecimal.ONE)
+                                       .withSize(BigDecimal.TEN)
+                                       .withTradeDate(new Date())
+                                       .withExpirationType(ExpirationType.AMERICAN)
+                                       .withUnderlyingInstrument(equity).create();
+        MarketstatEventBuilder marketstatBuilder = EventBuilderPool.marketstat(option);
+        MarketstatEvent marketstat = marketstatBuilder.withVolumeChange(BigDecimal.ONE)
+                                                      .withExpirationType(ExpirationType.AMERICAN)
+                                                      .withUnderlyingInstrument(equity).create();
+        assertEquals(2,
+                     EventBuilderPool.getInUseCount());
+        EventBuilderPool.releaseAll();
+        assertEquals(0,
+                     EventBuilderPool.getInUseCount());
+        assertSame(tradeBuilder,
+                   EventBuilderPool.tradeEvent(option));
+        assertNull(tradeBuilder.getTradeData().getPrice());
+        assertNull(tradeBuilder.getOption().getUnderlyingInstrument());
+        assertSame(marketstatBuilder,
+                   EventBuilderPool.marketstat(option));
+        assertNull(marketstatBuilder.getVolumeChange());
+        assertEquals(BigDecimal.ONE,
+                     trade.getPrice());
+        assertEquals(equity,
+                     ((OptionTradeEventImpl)trade).getUnderlyingInstrument());
+        assertEquals(equity,
+                     ((OptionMarketstatEventImpl)marketstat).getUnderlyingInstrument());
+    }
+    /**
+     * Tests that builders are not shared between threads.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testThreads()
+            throws Exception
+    {
+        QuoteEventBuilder<BidEvent> builder = EventBuilderPool.bidEvent(equity);
+        EventBuilderPool.release(builder);
+        final AtomicReference<Object> otherBuilder = new AtomicReference<Object>();
+        Thread thread = new Thread() {
+            @Override
+            public void run()
+            {
+                otherBuilder.set(EventBuilderPool.bidEvent(equity));
+                EventBuilderPool.releaseAll();
+            }
+        };
+        thread.start();
+        thread.join();
+        assertNotSame(builder,
+                      otherBuilder.get());
+        assertSame(builder,
+                   EventBuilderPool.bidEvent(equity));
+    }
+    /**
+     * Tests acquiring builders while pooling is disabled.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testDisabled()
+            throws Exception
+    {
+        EventBuilderPool.setEnabled(false);
+        QuoteEventBuilder<BidEvent> builder = EventBuilderPool.bidEvent(equity);
+        assertEquals(0,
+                     EventBuilderPool.getInUseCount());
+        EventBuilderPool.release(builder);
+        assertNotSame(builder,
+                      EventBuilderPool.bidEvent(equity));
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                EventBuilderPool.bidEvent(null);
+            }
+        };
+    }
+    /**
+     * Tests that unreleased builders are abandoned.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testLeak()
+            throws Exception
+    {
+        for(int i=0;i<EventBuilderPool.LEAK_THRESHOLD;i++) {
+            EventBuilderPool.bidEvent(equity);
+        }
+        assertEquals(EventBuilderPool.LEAK_THRESHOLD,
+                     EventBuilderPool.getInUseCount());
+        EventBuilderPool.bidEvent(equity);
+        assertEquals(1,
+                     EventBuilderPool.getInUseCount());
+    }
+    /**
+     * test equity
+     */
+    private final Equity equity = new Equity("METC"); //$NON-NLS-1$
+    /**
+     * test option
+     */
+    private final Option option = new Option("METC", //$NON-NLS-1$
+                                             "20191220", //$NON-NLS-1$
+                                             BigDecimal.TEN,
+                                             OptionType.Call);
+}
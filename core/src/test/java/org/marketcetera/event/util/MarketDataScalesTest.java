@@ -0,0 +1,135 @@
+package org.marketcetera.event.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.event.beans.MarketDataBean;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+
+/* $License$ */
+
+/**
+ * Tests {@link MarketDataScales}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class MarketDataScalesTest
+{
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void after()
+            throws Exception
+    {
+        scales.clearScales(equity);
+    }
+    /**
+     * Tests setting and getting scales.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testScales()
+            throws Exception
+    {
+        assertEquals(MarketDataScales.DEFAULT_PRICE_SCALE,
+                     scales.getPriceScale(equity));
+        assertEquals(MarketDataScales.DEFAULT_SIZE_SCALE,
+                     scales.getSizeScale(equity));
+        scales.setScales(equity,
+                         2,
+                         0);
+        assertEquals(2,
+                     scales.getPriceScale(equity));
+        assertEquals(0,
+                     scales.getSizeScale(equity));
+        assertEquals(MarketDataScales.DEFAULT_PRICE_SCALE,
+                     scales.getPriceScale(new Equity("GOOG")));
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                scales.setScales(null,
+                                 2,
+                                 0);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                scales.setScales(equity,
+                                 -1,
+                                 0);
+            }
+        };
+    }
+    /**
+     * Tests {@link MarketDataScales#setPrice(MarketDataBean, BigDecimal)} and
+     * {@link MarketDataScales#setSize(MarketDataBean, BigDecimal)}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testEncode()
+            throws Exception
+    {
+        scales.setScales(equity,
+                         2,
+                         0);
+        MarketDataBean bean = new MarketDataBean();
+        bean.setInstrument(equity);
+        scales.setPrice(bean,
+                        new BigDecimal("12.3"));
+        assertTrue(bean.isFixedPointPrice());
+        assertEquals(1230,
+                     bean.getUnscaledPrice());
+        assertEquals(2,
+                     bean.getPriceScale());
+        assertEquals(new BigDecimal("12.30"),
+                     bean.getPrice());
+        // too many digits after the point for the scale
+        scales.setPrice(bean,
+                        new BigDecimal("12.345"));
+        assertFalse(bean.isFixedPointPrice());
+        assertEquals(new BigDecimal("12.345"),
+                     bean.getPrice());
+        // too large for a long
+        scales.setSize(bean,
+                       new BigDecimal("1E+19"));
+        assertFalse(bean.isFixedPointSize());
+        assertEquals(new BigDecimal("1E+19"),
+                     bean.getSize());
+        scales.setSize(bean,
+                       new BigDecimal("100"));
+        assertTrue(bean.isFixedPointSize());
+        assertEquals(100,
+                     bean.getUnscaledSize());
+        scales.setSize(bean,
+                       null);
+        assertFalse(bean.isFixedPointSize());
+        assertEquals(null,
+                     bean.getSize());
+    }
+    /**
+     * test instrument
+     */
+    private final Equity equity = new Equity("METC");
+    /**
+     * test value
+     */
+    private final MarketDataScales scales = MarketDataScales.getInstance();
+}
@@ -75,6 +75,69 @@ public class PriceComparatorsTest
         doPriceAndSizeComparatorTest(QuoteEventBuilder.optionBidEvent(),
                                      option);
     }
+    /**
+     * Tests {@link BookPriceComparator} and {@link PriceAndSizeComparator} with events
+     * that carry their values in fixed-point form.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFixedPointComparators()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        long nanos = System.currentTimeMillis() * 1000000;
+        QuoteEvent quote1 = QuoteEventBuilder.equityBidEvent().withMessageId(System.nanoTime())
+                                                              .withTimestampNanos(nanos)
+                                                              .withQuoteDateNanos(nanos)
+                                                              .withInstrument(equity)
+                                                              .withExchange("Q")
+                                                              .withPrice(100,
+                                                                         2)
+                                                              .withSize(10,
+                                                                        0).create();
+        QuoteEvent quote2 = QuoteEventBuilder.equityBidEvent().withMessageId(System.nanoTime())
+                                                              .withTimestampNanos(nanos + 1000000)
+                                                              .withQuoteDateNanos(nanos)
+                                                              .withInstrument(equity)
+                                                              .withExchange("Q")
+                                                              .withPrice(200,
+                                                                         2)
+                                                              .withSize(10,
+                                                                        0).create();
+        // mixed with an event that carries BigDecimal values
+        QuoteEvent quote3 = QuoteEventBuilder.equityBidEvent().withMessageId(System.nanoTime())
+                                                              .withTimestamp(new Date(nanos / 1000000 + 2))
+                                                              .withQuoteDate(new Date())
+                                                              .withInstrument(equity)
+                                                              .withExchange("Q")
+                                                              .withPrice(new BigDecimal("1.00"))
+                                                              .withSize(new BigDecimal("11"))
+                                                              .create();
+        assertEquals(-1,
+                     PriceAndSizeComparator.instance.compare(quote1,
+                                                             quote2));
+        assertEquals(1,
+                     PriceAndSizeComparator.instance.compare(quote2,
+                                                             quote1));
+        assertEquals(-1,
+                     PriceAndSizeComparator.instance.compare(quote1,
+                                                             quote3));
+        assertEquals(1,
+                     bidComparator.compare(quote1,
+                                           quote2));
+        assertEquals(-1,
+                     askComparator.compare(quote1,
+                                           quote2));
+        // equal prices fall back to the timestamp
+        assertEquals(-1,
+                     askComparator.compare(quote1,
+                                           quote3));
+        assertEquals(new BigDecimal("1.00"),
+                     quote1.getPrice());
+        assertEquals(new Date(nanos / 1000000),
+                     quote1.getTimestamp());
+    }
     /**
      * Tests {@link PriceAndSizeComparator}.
      *
@@ -0,0 +1,338 @@
+package org.marketcetera.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+
+/* $License$ */
+
+/**
+ * Tests {@link IndexedOrderBook}.
+ *
+ * <p>The indexed book is expected to behave exactly as {@link OrderBook} does, so most tests apply the same
+ * events to both books and compare the results.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class IndexedOrderBookTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        random = new Random(1);
+        counter = 0;
+    }
+    /**
+     * Tests the order book constructors.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void bookConstruction()
+            throws Exception
+    {
+        new ExpectedFailure<NullPointerException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new IndexedOrderBook(null);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new IndexedOrderBook(symbol,
+                                     0);
+            }
+        };
+        assertEquals(OrderBook.UNLIMITED_DEPTH,
+                     new IndexedOrderBook(symbol).getMaxDepth());
+        assertEquals(5,
+                     new IndexedOrderBook(symbol,
+                                          5).getMaxDepth());
+        final IndexedOrderBook book = new IndexedOrderBook(symbol);
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                book.process(QuoteEventBuilder.askEvent(new Equity("METC")).withMessageId(1)
+                                                                           .withPrice(BigDecimal.ONE)
+                                                                           .withSize(BigDecimal.ONE)
+                                                                           .withExchange(exchange)
+                                                                           .withQuoteDate(new Date()).create());
+            }
+        };
+    }
+    /**
+     * Tests that the best bid and ask are maintained as the book changes.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void topOfBook()
+            throws Exception
+    {
+        IndexedOrderBook book = new IndexedOrderBook(symbol);
+        TopOfBookEvent top = book.getTopOfBook();
+        assertNull(top.getBid());
+        assertNull(top.getAsk());
+        AskEvent ask1 = createAsk(new BigDecimal("10.00"));
+        AskEvent ask2 = createAsk(new BigDecimal("9.50"));
+        AskEvent ask3 = createAsk(new BigDecimal("9.5"));
+        book.process(ask1);
+        assertSame(ask1,
+                   book.getBestAsk());
+        book.process(ask2);
+        assertSame(ask2,
+                   book.getBestAsk());
+        // same price, later time: the older ask keeps priority
+        book.process(ask3);
+        assertSame(ask2,
+                   book.getBestAsk());
+        book.process(QuoteEventBuilder.delete(ask2));
+        assertSame(ask3,
+                   book.getBestAsk());
+        book.process(QuoteEventBuilder.delete(ask3));
+        assertSame(ask1,
+                   book.getBestAsk());
+        BidEvent bid1 = createBid(new BigDecimal("9.00"));
+        BidEvent bid2 = createBid(new BigDecimal("9.00"));
+        book.process(bid1);
+        book.process(bid2);
+        // same price, later time: the newer bid sorts first, as it does in OrderBook
+        assertSame(bid2,
+                   book.getBestBid());
+        // move the best bid away from the top
+        BidEvent bid2Change = QuoteEventBuilder.change(bid2,
+                                                       new BigDecimal("8.00"),
+                                                       bid2.getSize(),
+                                                       new Date());
+        book.process(bid2Change);
+        assertSame(bid1,
+                   book.getBestBid());
+        top = book.getTopOfBook();
+        assertSame(bid1,
+                   top.getBid());
+        assertSame(ask1,
+                   top.getAsk());
+        // empty events clear a side
+        book.process(QuoteEventBuilder.askEvent(symbol).isEmpty(true)
+                                                       .withMessageId(++counter)
+                                                       .withPrice(BigDecimal.ZERO)
+                                                       .withSize(BigDecimal.ZERO)
+                                                       .withExchange(exchange)
+                                                       .withQuoteDate(new Date()).create());
+        assertNull(book.getBestAsk());
+        assertSame(bid1,
+                   book.getBestBid());
+        book.clear();
+        assertNull(book.getBestBid());
+        assertFalse(book.getBidBook().iterator().hasNext());
+    }
+    /**
+     * Tests that fixed-point prices and <code>BigDecimal</code> prices share price levels.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void fixedPointPrices()
+            throws Exception
+    {
+        IndexedOrderBook book = new IndexedOrderBook(symbol);
+        AskEvent ask1 = createAsk(1000,
+                                  2);
+        AskEvent ask2 = createAsk(950,
+                                  2);
+        AskEvent ask3 = createAsk(new BigDecimal("9.5"));
+        AskEvent ask4 = createAsk(9500,
+                                  3);
+        book.process(ask1);
+        book.process(ask2);
+        book.process(ask3);
+        book.process(ask4);
+        assertEquals(Arrays.asList(ask2,
+                                   ask3,
+                                   ask4,
+                                   ask1),
+                     book.getAskBook());
+        book.process(QuoteEventBuilder.delete(ask2));
+        assertSame(ask3,
+                   book.getBestAsk());
+        book.process(QuoteEventBuilder.delete(ask3));
+        assertSame(ask4,
+                   book.getBestAsk());
+        book.process(QuoteEventBuilder.delete(ask4));
+        assertSame(ask1,
+                   book.getBestAsk());
+    }
+    /**
+     * Tests that random adds, changes, and deletes produce the same books as {@link OrderBook}.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void unlimitedDepthMatchesOrderBook()
+            throws Exception
+    {
+        verifyAgainstOrderBook(OrderBook.UNLIMITED_DEPTH);
+    }
+    /**
+     * Tests that random adds, changes, and deletes on a depth-limited book produce the same books as {@link OrderBook}.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void limitedDepthMatchesOrderBook()
+            throws Exception
+    {
+        verifyAgainstOrderBook(1);
+        verifyAgainstOrderBook(10);
+        verifyAgainstOrderBook(100);
+    }
+    /**
+     * Applies a random sequence of events to both order book implementations and verifies that they agree after each event.
+     *
+     * @param inMaxDepth an <code>int</code> value
+     * @throws Exception if an error occurs
+     */
+    private void verifyAgainstOrderBook(int inMaxDepth)
+            throws Exception
+    {
+        OrderBook expectedBook = new OrderBook(symbol,
+                                               inMaxDepth);
+        IndexedOrderBook actualBook = new IndexedOrderBook(symbol,
+                                                           inMaxDepth);
+        List<QuoteEvent> liveEvents = new ArrayList<QuoteEvent>();
+        for(int i=0;i<5000;i++) {
+            int action = random.nextInt(10);
+            QuoteEvent event;
+            if(liveEvents.isEmpty() || action < 5) {
+                BigDecimal price = new BigDecimal(random.nextInt(50)).add(new BigDecimal("100.00"));
+                event = random.nextBoolean() ? createAsk(price) : createBid(price);
+                liveEvents.add(event);
+            } else {
+                QuoteEvent existingEvent = liveEvents.get(random.nextInt(liveEvents.size()));
+                if(action < 8) {
+                    event = QuoteEventBuilder.change(existingEvent,
+                                                     new BigDecimal(random.nextInt(50)).add(new BigDecimal("100.00")),
+                                                     existingEvent.getSize().add(BigDecimal.ONE),
+                                                     new Date());
+                    liveEvents.set(liveEvents.indexOf(existingEvent),
+                                   event);
+                } else {
+                    event = QuoteEventBuilder.delete(existingEvent);
+                    liveEvents.remove(existingEvent);
+                }
+            }
+            assertEquals(expectedBook.process(event),
+                         actualBook.process(event));
+            assertEquals(expectedBook.getBidBook(),
+                         actualBook.getBidBook());
+            assertEquals(expectedBook.getAskBook(),
+                         actualBook.getAskBook());
+            TopOfBookEvent expectedTop = expectedBook.getTopOfBook();
+            TopOfBookEvent actualTop = actualBook.getTopOfBook();
+            assertEquals(expectedTop.getBid(),
+                         actualTop.getBid());
+            assertEquals(expectedTop.getAsk(),
+                         actualTop.getAsk());
+        }
+    }
+    /**
+     * Creates an ask with the given price and a unique message id and timestamp.
+     *
+     * @param inPrice a <code>BigDecimal</code> value
+     * @return an <code>AskEvent</code> value
+     */
+    private AskEvent createAsk(BigDecimal inPrice)
+    {
+        counter += 1;
+        return QuoteEventBuilder.askEvent(symbol).withMessageId(counter)
+                                                 .withTimestamp(new Date(counter))
+                                                 .withPrice(inPrice)
+                                                 .withSize(BigDecimal.TEN)
+                                                 .withExchange(exchange)
+                                                 .withQuoteDate(new Date()).create();
+    }
+    /**
+     * Creates an ask with the given fixed-point price and a unique message id and timestamp.
+     *
+     * @param inUnscaledPrice a <code>long</code> value
+     * @param inScale an <code>int</code> value
+     * @return an <code>AskEvent</code> value
+     */
+    private AskEvent createAsk(long inUnscaledPrice,
+                               int inScale)
+    {
+        counter += 1;
+        return QuoteEventBuilder.askEvent(symbol).withMessageId(counter)
+                                                 .withTimestamp(new Date(counter))
+                                                 .withPrice(inUnscaledPrice,
+                                                            inScale)
+                                                 .withSize(BigDecimal.TEN)
+                                                 .withExchange(exchange)
+                                                 .withQuoteDate(new Date()).create();
+    }
+    /**
+     * Creates a bid with the given price and a unique message id and timestamp.
+     *
+     * @param inPrice a <code>BigDecimal</code> value
+     * @return a <code>BidEvent</code> value
+     */
+    private BidEvent createBid(BigDecimal inPrice)
+    {
+        counter += 1;
+        return QuoteEventBuilder.bidEvent(symbol).withMessageId(counter)
+                                                 .withTimestamp(new Date(counter))
+                                                 .withPrice(inPrice)
+                                                 .withSize(BigDecimal.TEN)
+                                                 .withExchange(exchange)
+                                                 .withQuoteDate(new Date()).create();
+    }
+    /**
+     * test symbol
+     */
+    private final Equity symbol = new Equity("GOOG");
+    /**
+     * test exchange
+     */
+    private final String exchange = "TEST";
+    /**
+     * source of random values (reset each test)
+     */
+    private Random random;
+    /**
+     * used to generate unique message ids and timestamps
+     */
+    private long counter;
+}
@@ -0,0 +1,249 @@
+package org.marketcetera.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+/* $License$ */
+
+/**
+ * Compares the performance of {@link OrderBook} and {@link IndexedOrderBook}.
+ * <p>
+ * Each run replays the same randomly generated stream of adds, changes, and deletes into a book
+ * and requests the top of the book after every event, which is the access pattern of the market
+ * data cache and the simulated exchange. Every tenth event also requests the full depth of the
+ * book. Runs are made at a maximum depth of 10, 100, and unlimited. After each run, both books
+ * must hold the same bids and asks.
+ * <p>
+ * {@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ * <p>
+ * You can change the {@link #NUM_EVENTS} value to change the number
+ * of events that are processed in each run.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class OrderBookPerformanceTest
+{
+    /**
+     * This test is executed first to let the jit compilation kick in.
+     * Its timings are not meaningful.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        compare("jitCompile",
+                OrderBook.UNLIMITED_DEPTH);
+    }
+    /**
+     * Measures both books at a maximum depth of 10.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void depth10()
+            throws Exception
+    {
+        compare("10",
+                10);
+    }
+    /**
+     * Measures both books at a maximum depth of 100.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void depth100()
+            throws Exception
+    {
+        compare("100",
+                100);
+    }
+    /**
+     * Measures both books with no maximum depth.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void unlimitedDepth()
+            throws Exception
+    {
+        compare("unlimited",
+                OrderBook.UNLIMITED_DEPTH);
+    }
+    /**
+     * Runs the same events through both books at the given depth and verifies that the books agree.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inMaxDepth an <code>int</code> value
+     */
+    private static void compare(String inLabel,
+                                int inMaxDepth)
+    {
+        List<QuoteEvent> events = generateEvents(NUM_EVENTS);
+        OrderBook expectedBook = runOrderBook(inLabel,
+                                              inMaxDepth,
+                                              events);
+        IndexedOrderBook actualBook = runIndexedOrderBook(inLabel,
+                                                          inMaxDepth,
+                                                          events);
+        assertFalse(expectedBook.getBidBook().isEmpty());
+        assertFalse(expectedBook.getAskBook().isEmpty());
+        assertEquals(expectedBook.getBidBook(),
+                     actualBook.getBidBook());
+        assertEquals(expectedBook.getAskBook(),
+                     actualBook.getAskBook());
+        TopOfBookEvent expectedTop = expectedBook.getTopOfBook();
+        TopOfBookEvent actualTop = actualBook.getTopOfBook();
+        assertEquals(expectedTop.getBid(),
+                     actualTop.getBid());
+        assertEquals(expectedTop.getAsk(),
+                     actualTop.getAsk());
+        assertEquals(expectedBook.getDepthOfBook().getBids(),
+                     actualBook.getDepthOfBook().getBids());
+        assertEquals(expectedBook.getDepthOfBook().getAsks(),
+                     actualBook.getDepthOfBook().getAsks());
+    }
+    /**
+     * Processes the given events with an {@link OrderBook}.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inMaxDepth an <code>int</code> value
+     * @param inEvents a <code>List&lt;QuoteEvent&gt;</code> value
+     * @return an <code>OrderBook</code> value
+     */
+    private static OrderBook runOrderBook(String inLabel,
+                                     int inMaxDepth,
+                                     List<QuoteEvent> inEvents)
+    {
+        OrderBook book = new OrderBook(symbol,
+                                       inMaxDepth);
+        int count = 0;
+        long time = System.nanoTime();
+        for(QuoteEvent event : inEvents) {
+            book.process(event);
+            book.getTopOfBook();
+            if(++count % 10 == 0) {
+                book.getDepthOfBook();
+            }
+        }
+        time = System.nanoTime() - time;
+        SLF4JLoggerProxy.info(OrderBookPerformanceTest.class,
+                              "OrderBook {}: Events {}, time {}ns, {}ns/event",
+                              inLabel,
+                              inEvents.size(),
+                              time,
+                              time / inEvents.size());
+        return book;
+    }
+    /**
+     * Processes the given events with an {@link IndexedOrderBook}.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inMaxDepth an <code>int</code> value
+     * @param inEvents a <code>List&lt;QuoteEvent&gt;</code> value
+     * @return an <code>IndexedOrderBook</code> value
+     */
+    private static IndexedOrderBook runIndexedOrderBook(String inLabel,
+                                            int inMaxDepth,
+                                            List<QuoteEvent> inEvents)
+    {
+        IndexedOrderBook book = new IndexedOrderBook(symbol,
+                                                     inMaxDepth);
+        int count = 0;
+        long time = System.nanoTime();
+        for(QuoteEvent event : inEvents) {
+            book.process(event);
+            book.getTopOfBook();
+            if(++count % 10 == 0) {
+                book.getDepthOfBook();
+            }
+        }
+        time = System.nanoTime() - time;
+        SLF4JLoggerProxy.info(OrderBookPerformanceTest.class,
+                              "IndexedOrderBook {}: Events {}, time {}ns, {}ns/event",
+                              inLabel,
+                              inEvents.size(),
+                              time,
+                              time / inEvents.size());
+        return book;
+    }
+    /**
+     * Generates a reproducible stream of adds, changes, and deletes.
+     *
+     * @param inCount an <code>int</code> value
+     * @return a <code>List&lt;QuoteEvent&gt;</code> value
+     */
+    private static List<QuoteEvent> generateEvents(int inCount)
+    {
+        Random random = new Random(SEED);
+        List<QuoteEvent> events = new ArrayList<QuoteEvent>(inCount);
+        List<QuoteEvent> liveEvents = new ArrayList<QuoteEvent>();
+        Date quoteDate = new Date();
+        for(int i=0;i<inCount;i++) {
+            int action = random.nextInt(10);
+            if(liveEvents.isEmpty() || action < 6) {
+                QuoteEventBuilder<? extends QuoteEvent> builder;
+                if(random.nextBoolean()) {
+                    builder = QuoteEventBuilder.askEvent(symbol);
+                } else {
+                    builder = QuoteEventBuilder.bidEvent(symbol);
+                }
+                QuoteEvent event = builder.withMessageId(i+1)
+                                          .withTimestamp(new Date(i))
+                                          .withPrice(new BigDecimal(random.nextInt(1000)).movePointLeft(2).add(BASE_PRICE))
+                                          .withSize(BigDecimal.TEN)
+                                          .withExchange("TEST")
+                                          .withQuoteDate(quoteDate).create();
+                liveEvents.add(event);
+                events.add(event);
+            } else {
+                int index = random.nextInt(liveEvents.size());
+                QuoteEvent existingEvent = liveEvents.get(index);
+                if(action < 8) {
+                    QuoteEvent event = QuoteEventBuilder.change(existingEvent,
+                                                                existingEvent.getPrice(),
+                                                                existingEvent.getSize().add(BigDecimal.ONE),
+                                                                quoteDate);
+                    liveEvents.set(index,
+                                   event);
+                    events.add(event);
+                } else {
+                    liveEvents.remove(index);
+                    events.add(QuoteEventBuilder.delete(existingEvent));
+                }
+            }
+        }
+        return events;
+    }
+    /**
+     * test symbol
+     */
+    private static final Equity symbol = new Equity("METC");
+    /**
+     * base price of generated events
+     */
+    private static final BigDecimal BASE_PRICE = new BigDecimal("100.00");
+    /**
+     * seed used to generate events so that every run sees the same stream
+     */
+    private static final long SEED = 20170521L;
+    private static final int NUM_EVENTS = 5000;
+}
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -1727,6 +1728,116 @@ public class SimulatedExchangeTest
                          ((FutureEvent)event).getContractSize());
         }
     }
+    /**
+     * Tests ticking books at an interval shorter than a millisecond and the measurements of the tick engine.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void highRateTicks()
+            throws Exception
+    {
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                exchange.setTickInterval(0,
+                                         TimeUnit.MICROSECONDS);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                exchange.setTickIntervalMicros(-1);
+            }
+        };
+        exchange.setTickIntervalMicros(500);
+        assertEquals(500,
+                     exchange.getTickIntervalMicros());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(500),
+                     exchange.getTickInterval(TimeUnit.NANOSECONDS));
+        exchange.start();
+        final AllEventsSubscriber all = new AllEventsSubscriber();
+        for(int i=0;i<50;i++) {
+            exchange.getTopOfBook(ExchangeRequestBuilder.newRequest().withInstrument(new Equity("tick-" + counter.incrementAndGet())).create(), //$NON-NLS-1$
+                                  all);
+        }
+        MarketDataFeedTestBase.wait(new Callable<Boolean>(){
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return exchange.getTickCount() >= 100 &&
+                       exchange.getEventsPerSecond() > 0;
+            }
+        });
+        assertTrue(exchange.getBookCount() >= 50);
+        assertTrue(exchange.getPublishedEventCount() > 0);
+        assertTrue(all.events.size() > 0);
+        // a running exchange picks up a new interval immediately
+        exchange.setTickInterval(1,
+                                 TimeUnit.HOURS);
+        assertEquals(1,
+                     exchange.getTickInterval(TimeUnit.HOURS));
+        exchange.stop();
+    }
+    /**
+     * Tests that exchanges given the same random seed produce the same random values for a book.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void randomSeed()
+            throws Exception
+    {
+        SimulatedExchange exchange2 = new SimulatedExchange("Test exchange 2", //$NON-NLS-1$
+                                                            "TEST2"); //$NON-NLS-1$
+        SimulatedExchange exchange3 = new SimulatedExchange("Test exchange 3", //$NON-NLS-1$
+                                                            "TEST3"); //$NON-NLS-1$
+        exchange.setRandomSeed(42);
+        exchange2.setRandomSeed(42);
+        exchange3.setRandomSeed(43);
+        assertEquals(42,
+                     exchange.getRandomSeed());
+        // tick once at start (before any books exist) and not again during the test
+        for(SimulatedExchange simulatedExchange : new SimulatedExchange[] { exchange, exchange2, exchange3 }) {
+            simulatedExchange.setTickInterval(1,
+                                              TimeUnit.HOURS);
+            simulatedExchange.start();
+        }
+        try {
+            MarketDataFeedTestBase.wait(new Callable<Boolean>(){
+                @Override
+                public Boolean call()
+                        throws Exception
+                {
+                    return exchange.getTickCount() >= 1;
+                }
+            });
+            Thread.sleep(250);
+            Equity equity = new Equity("seed-" + counter.incrementAndGet()); //$NON-NLS-1$
+            ExchangeRequest request = ExchangeRequestBuilder.newRequest().withInstrument(equity).create();
+            boolean differs = false;
+            for(int i=0;i<3;i++) {
+                MarketstatEvent stat1 = exchange.getStatistics(request).get(0);
+                MarketstatEvent stat2 = exchange2.getStatistics(request).get(0);
+                MarketstatEvent stat3 = exchange3.getStatistics(request).get(0);
+                // the book values may differ because the books start from the most recent value of the instrument, but the random draws do not
+                assertEquals(stat1.getVolume(),
+                             stat2.getVolume());
+                assertEquals(stat1.getValue(),
+                             stat2.getValue());
+                differs |= !stat1.getVolume().equals(stat3.getVolume());
+            }
+            assertTrue(differs);
+        } finally {
+            exchange2.stop();
+            exchange3.stop();
+        }
+    }
     /**
      * Executes a test to make sure that the given <code>Instrument</code> and underlying <code>Instrument</code>
      * get order books created for them.
@@ -0,0 +1,132 @@
+package org.marketcetera.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+/* $License$ */
+
+/**
+ * Measures the cost of a {@link CheckpointLatency} checkpoint.
+ *
+ * <p>{@link #jitCompilation()} is a test that is ran to allow JIT compilation of the code exercised in
+ * this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class CheckpointLatencyPerformanceTest
+{
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        CheckpointLatency.setEnabled(false);
+    }
+    /**
+     * This test is executed first to let the jit compilation kick in.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        CheckpointLatency.setEnabled(true);
+        run("jitCompile", //$NON-NLS-1$
+            ITERATIONS / 10,
+            ITERATIONS / 10);
+    }
+    /**
+     * Measures checkpoints when recording is enabled.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void enabled()
+            throws Exception
+    {
+        CheckpointLatency.setEnabled(true);
+        run("enabled", //$NON-NLS-1$
+            ITERATIONS,
+            ITERATIONS);
+    }
+    /**
+     * Measures checkpoints when recording is disabled.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void disabled()
+            throws Exception
+    {
+        CheckpointLatency.setEnabled(false);
+        run("disabled", //$NON-NLS-1$
+            ITERATIONS,
+            0);
+    }
+    /**
+     * Runs the given number of iterations of {@link #CHECKPOINTS} checkpoints each and verifies that each
+     * stage recorded the expected number of latencies.
+     *
+     * @param inLabel a <code>String</code> value
+     * @param inIterations an <code>int</code> value
+     * @param inExpectedCount an <code>int</code> value containing the number of latencies each stage should record
+     */
+    private static void run(String inLabel,
+                            int inIterations,
+                            int inExpectedCount)
+    {
+        long[] counts = new long[CHECKPOINTS];
+        for(int i=0;i<CHECKPOINTS;i++) {
+            counts[i] = stages[i].getTotalHistogram().getCount();
+        }
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            CheckpointLatency.begin();
+            for(CheckpointLatency.Stage stage : stages) {
+                CheckpointLatency.checkpoint(stage);
+            }
+            CheckpointLatency.end();
+        }
+        long elapsed = System.nanoTime() - start;
+        SLF4JLoggerProxy.info(CheckpointLatencyPerformanceTest.class,
+                              "{}: {} checkpoints, {}ns each", //$NON-NLS-1$
+                              inLabel,
+                              inIterations * CHECKPOINTS,
+                              elapsed / (inIterations * CHECKPOINTS));
+        for(int i=0;i<CHECKPOINTS;i++) {
+            LatencyHistogram histogram = stages[i].getTotalHistogram();
+            assertEquals(stages[i].getName(),
+                         counts[i] + inExpectedCount,
+                         histogram.getCount());
+            assertTrue(histogram.getValueAtPercentile(50) <= histogram.getMax());
+        }
+    }
+    /**
+     * number of iterations to run
+     */
+    private static final int ITERATIONS = 100000;
+    /**
+     * number of checkpoints in each iteration
+     */
+    private static final int CHECKPOINTS = 5;
+    /**
+     * stages checkpointed in each iteration
+     */
+    private static final CheckpointLatency.Stage[] stages = new CheckpointLatency.Stage[CHECKPOINTS];
+    static {
+        for(int i=0;i<CHECKPOINTS;i++) {
+            stages[i] = CheckpointLatency.stage("performance-" + i); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.marketcetera.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/* $License$ */
+
+/**
+ * Tests {@link CheckpointLatency} and {@link LatencyHistogram}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class CheckpointLatencyTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        CheckpointLatency.setEnabled(true);
+        CheckpointLatency.setIntervalMillis(1);
+    }
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        CheckpointLatency.end();
+        CheckpointLatency.setEnabled(false);
+        CheckpointLatency.setIntervalMillis(10000);
+    }
+    /**
+     * Tests that bucket boundaries cover all values without gaps and within the stated precision.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBuckets()
+            throws Exception
+    {
+        long expectedLowest = 0;
+        for(int i=0;i<LatencyHistogram.bucketIndex(Long.MAX_VALUE);i++) {
+            long lowest = LatencyHistogram.lowestEquivalentValue(i);
+            long highest = LatencyHistogram.highestEquivalentValue(i);
+            assertEquals(expectedLowest,
+                         lowest);
+            assertEquals(i,
+                         LatencyHistogram.bucketIndex(lowest));
+            assertEquals(i,
+                         LatencyHistogram.bucketIndex(highest));
+            assertTrue(highest - lowest <= lowest / 32);
+            expectedLowest = highest + 1;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1,
+                     LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE,
+                     LatencyHistogram.highestEquivalentValue(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+    /**
+     * Tests percentiles of a known distribution.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPercentiles()
+            throws Exception
+    {
+        CheckpointLatency.Stage stage = CheckpointLatency.stage("percentiles"); //$NON-NLS-1$
+        for(long value=1;value<=10000;value++) {
+            stage.record(value * 1000);
+        }
+        LatencyHistogram histogram = stage.getTotalHistogram();
+        assertEquals(10000,
+                     histogram.getCount());
+        assertWithin(5000000,
+                     histogram.getValueAtPercentile(50));
+        assertWithin(9900000,
+                     histogram.getValueAtPercentile(99));
+        assertWithin(9990000,
+                     histogram.getValueAtPercentile(99.9));
+        assertWithin(10000000,
+                     histogram.getMax());
+        assertWithin(5000500,
+                     (long)histogram.getMean());
+        assertEquals(0,
+                     new LatencyHistogram(new long[LatencyHistogram.BUCKET_COUNT]).getValueAtPercentile(50));
+    }
+    /**
+     * Tests that checkpoints record the time since the previous checkpoint only after processing has begun.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testCheckpoints()
+            throws Exception
+    {
+        CheckpointLatency.Stage first = CheckpointLatency.stage("first"); //$NON-NLS-1$
+        CheckpointLatency.Stage second = CheckpointLatency.stage("second"); //$NON-NLS-1$
+        assertTrue(first == CheckpointLatency.stage("first")); //$NON-NLS-1$
+        assertTrue(CheckpointLatency.getStages().contains(first));
+        // not begun
+        CheckpointLatency.checkpoint(first);
+        assertEquals(0,
+                     first.getTotalHistogram().getCount());
+        CheckpointLatency.begin();
+        Thread.sleep(20);
+        CheckpointLatency.checkpoint(first);
+        CheckpointLatency.checkpoint(second);
+        CheckpointLatency.end();
+        CheckpointLatency.checkpoint(second);
+        assertEquals(1,
+                     first.getTotalHistogram().getCount());
+        assertTrue(first.getTotalHistogram().getMax() >= 20000000);
+        assertEquals(1,
+                     second.getTotalHistogram().getCount());
+        assertTrue(second.getTotalHistogram().getMax() < 20000000);
+        // disabled
+        CheckpointLatency.setEnabled(false);
+        CheckpointLatency.begin();
+        CheckpointLatency.checkpoint(first);
+        first.record(1);
+        assertEquals(1,
+                     first.getTotalHistogram().getCount());
+    }
+    /**
+     * Tests that interval histograms hold the latencies recorded by all threads since the previous interval.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testIntervals()
+            throws Exception
+    {
+        final CheckpointLatency.Stage stage = CheckpointLatency.stage("intervals"); //$NON-NLS-1$
+        Thread.sleep(5);
+        stage.getIntervalHistogram();
+        stage.record(100);
+        final CountDownLatch recorded = new CountDownLatch(1);
+        new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                stage.record(200);
+                recorded.countDown();
+            }
+        }).start();
+        recorded.await();
+        Thread.sleep(5);
+        LatencyHistogram interval = stage.getIntervalHistogram();
+        assertEquals(2,
+                     interval.getCount());
+        assertWithin(200,
+                     interval.getMax());
+        stage.record(300);
+        Thread.sleep(5);
+        interval = stage.getIntervalHistogram();
+        assertEquals(1,
+                     interval.getCount());
+        assertWithin(300,
+                     interval.getMax());
+        assertEquals(3,
+                     stage.getTotalHistogram().getCount());
+        assertTrue(MetricService.getInstance().getMetrics().getGauges().containsKey("org.marketcetera.metrics.CheckpointLatency.intervals.p99")); //$NON-NLS-1$
+    }
+    /**
+     * Tests that processing handed to another thread continues from the checkpoint state of the handing thread.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testHandOff()
+            throws Exception
+    {
+        final CheckpointLatency.Stage stage = CheckpointLatency.stage("handOff"); //$NON-NLS-1$
+        assertEquals(0,
+                     CheckpointLatency.capture());
+        CheckpointLatency.begin();
+        final long checkpoint = CheckpointLatency.capture();
+        assertTrue(checkpoint != 0);
+        CheckpointLatency.end();
+        Thread.sleep(20);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                // not begun on this thread
+                CheckpointLatency.checkpoint(stage);
+                CheckpointLatency.resume(checkpoint);
+                CheckpointLatency.checkpoint(stage);
+                CheckpointLatency.resume(0);
+                CheckpointLatency.checkpoint(stage);
+            }
+        });
+        thread.start();
+        thread.join();
+        LatencyHistogram histogram = stage.getTotalHistogram();
+        assertEquals(1,
+                     histogram.getCount());
+        assertTrue(histogram.getMax() >= 20000000);
+        // a state that begins processing now
+        assertTrue(CheckpointLatency.now() != 0);
+        CheckpointLatency.setEnabled(false);
+        assertEquals(0,
+                     CheckpointLatency.now());
+        CheckpointLatency.setEnabled(true);
+        CheckpointLatency.begin();
+        CheckpointLatency.setEnabled(false);
+        assertEquals(0,
+                     CheckpointLatency.capture());
+        CheckpointLatency.setEnabled(true);
+        CheckpointLatency.end();
+    }
+    /**
+     * Tests that the recorders of threads that have died are released without losing their latencies.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReleaseRecorders()
+            throws Exception
+    {
+        final CheckpointLatency.Stage stage = CheckpointLatency.stage("releaseRecorders"); //$NON-NLS-1$
+        for(int i=0;i<10;i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run()
+                {
+                    stage.record(100);
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+        assertEquals(10,
+                     stage.getTotalHistogram().getCount());
+        assertEquals(0,
+                     stage.getRecorderCount());
+        stage.record(100);
+        assertEquals(11,
+                     stage.getTotalHistogram().getCount());
+        assertEquals(1,
+                     stage.getRecorderCount());
+        Thread.sleep(5);
+        assertEquals(11,
+                     stage.getIntervalHistogram().getCount());
+    }
+    /**
+     * Verifies that the given actual value is within the precision of the histogram of the expected value.
+     *
+     * @param inExpected a <code>long</code> value
+     * @param inActual a <code>long</code> value
+     */
+    private static void assertWithin(long inExpected,
+                                     long inActual)
+    {
+        assertTrue(inExpected + " != " + inActual, //$NON-NLS-1$
+                   Math.abs(inExpected - inActual) <= inExpected / 32);
+    }
+}
@@ -0,0 +1,117 @@
+package org.marketcetera.metrics;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.junit.Assert.assertEquals;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.Test;
+import org.marketcetera.util.ws.MarshallerPool;
+
+import com.codahale.metrics.Gauge;
+
+/* $License$ */
+
+/**
+ * Tests {@link MarshallerPoolMetrics}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class MarshallerPoolMetricsTest
+{
+    /**
+     * Tests that pools registered under the same name are reported together.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSharedName()
+            throws Exception
+    {
+        String poolName = "testSharedName"; //$NON-NLS-1$
+        MarshallerPool pool1 = new MarshallerPool(Sample.class);
+        MarshallerPool pool2 = new MarshallerPool(Sample.class);
+        MarshallerPoolMetrics.register(poolName,
+                                       pool1);
+        MarshallerPoolMetrics.register(poolName,
+                                       pool2);
+        // registering the same pool again is harmless
+        MarshallerPoolMetrics.register(poolName,
+                                       pool2);
+        pool1.marshal(new Sample("METC")); //$NON-NLS-1$
+        pool2.marshal(new Sample("GOOG")); //$NON-NLS-1$
+        pool2.marshal(new Sample("YHOO")); //$NON-NLS-1$
+        assertEquals(3,
+                     getGaugeValue(poolName,
+                                   "acquired")); //$NON-NLS-1$
+        assertEquals(pool1.getCreatedCount() + pool2.getCreatedCount(),
+                     getGaugeValue(poolName,
+                                   "created")); //$NON-NLS-1$
+        assertEquals(Math.max(pool1.getMaxWaitNanos(),
+                              pool2.getMaxWaitNanos()),
+                     getGaugeValue(poolName,
+                                   "maxWaitNanos")); //$NON-NLS-1$
+        MarshallerPoolMetrics.unregister(poolName,
+                                         pool2);
+        assertEquals(1,
+                     getGaugeValue(poolName,
+                                   "acquired")); //$NON-NLS-1$
+        assertEquals(pool1.getMeanWaitNanos(),
+                     getGaugeValue(poolName,
+                                   "meanWaitNanos")); //$NON-NLS-1$
+        MarshallerPoolMetrics.unregister(poolName,
+                                         pool1);
+        assertEquals(0,
+                     getGaugeValue(poolName,
+                                   "acquired")); //$NON-NLS-1$
+        assertEquals(0,
+                     getGaugeValue(poolName,
+                                   "meanWaitNanos")); //$NON-NLS-1$
+    }
+    /**
+     * Gets the value of the given gauge.
+     *
+     * @param inName a <code>String</code> value
+     * @param inStatistic a <code>String</code> value
+     * @return a <code>long</code> value
+     */
+    private long getGaugeValue(String inName,
+                               String inStatistic)
+    {
+        Gauge<?> gauge = MetricService.getInstance().getMetrics().getGauges().get(name(MarshallerPool.class,
+                                                                                       inName,
+                                                                                       inStatistic));
+        return (Long)gauge.getValue();
+    }
+    /**
+     * Test value to marshal.
+     */
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class Sample
+    {
+        /**
+         * Create a new Sample instance.
+         */
+        public Sample() {}
+        /**
+         * Create a new Sample instance.
+         *
+         * @param inName a <code>String</code> value
+         */
+        public Sample(String inName)
+        {
+            name = inName;
+        }
+        /**
+         * sample name
+         */
+        @XmlAttribute
+        protected String name;
+    }
+}
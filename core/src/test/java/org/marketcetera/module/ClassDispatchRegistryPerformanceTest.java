@@ -0,0 +1,238 @@
+package org.marketcetera.module;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.DividendEvent;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.MarketstatEventBuilder;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.event.impl.TradeEventBuilder;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.w3c.dom.Node;
+
+/* $License$ */
+/**
+ * Compares selecting a handler with a {@link ClassDispatchRegistry} to a chain of <code>instanceof</code> tests.
+ *
+ * <p>The strategy mix uses the types the strategy module dispatches on, the CEP mix uses the types the
+ * Esper module dispatches on. {@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class ClassDispatchRegistryPerformanceTest
+{
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        strategyMix(ITERATIONS / 10);
+        cepMix(ITERATIONS / 10);
+    }
+    /**
+     * Measures the types dispatched by the strategy module.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void strategy()
+            throws Exception
+    {
+        strategyMix(ITERATIONS);
+    }
+    /**
+     * Measures the types dispatched by the Esper module.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void cep()
+            throws Exception
+    {
+        cepMix(ITERATIONS);
+    }
+    /**
+     * Dispatches a mix of strategy data.
+     *
+     * @param inIterations an <code>int</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void strategyMix(int inIterations)
+            throws Exception
+    {
+        Equity equity = new Equity("METC"); //$NON-NLS-1$
+        Object[] data = new Object[] { QuoteEventBuilder.equityAskEvent().withInstrument(equity).withExchange("Q").withPrice(BigDecimal.ONE).withSize(BigDecimal.TEN).withQuoteDate(new Date()).create(), //$NON-NLS-1$
+                                       QuoteEventBuilder.equityBidEvent().withInstrument(equity).withExchange("Q").withPrice(BigDecimal.ONE).withSize(BigDecimal.TEN).withQuoteDate(new Date()).create(), //$NON-NLS-1$
+                                       TradeEventBuilder.equityTradeEvent().withInstrument(equity).withExchange("Q").withPrice(BigDecimal.ONE).withSize(BigDecimal.TEN).withTradeDate(new Date()).create(), //$NON-NLS-1$
+                                       MarketstatEventBuilder.equityMarketstat().withInstrument(equity).create(),
+                                       "other" }; //$NON-NLS-1$
+        ClassDispatchRegistry<Integer> registry = new ClassDispatchRegistry<Integer>();
+        registry.register(AskEvent.class,
+                          0)
+                .register(BidEvent.class,
+                          1)
+                .register(MarketstatEvent.class,
+                          2)
+                .register(DividendEvent.class,
+                          3)
+                .register(OrderCancelReject.class,
+                          4)
+                .register(ExecutionReport.class,
+                          5)
+                .register(TradeEvent.class,
+                          6)
+                .setDefaultHandler(7);
+        long chainSum = 0;
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            chainSum += strategyChain(data[i % data.length]);
+        }
+        long chainElapsed = System.nanoTime() - start;
+        long registrySum = 0;
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            registrySum += registry.getHandler(data[i % data.length]);
+        }
+        long registryElapsed = System.nanoTime() - start;
+        assertEquals(chainSum,
+                     registrySum);
+        log("strategy", //$NON-NLS-1$
+            inIterations,
+            chainElapsed,
+            registryElapsed);
+    }
+    /**
+     * Dispatches a mix of CEP data.
+     *
+     * @param inIterations an <code>int</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void cepMix(int inIterations)
+            throws Exception
+    {
+        Map<String,String> map = new HashMap<String,String>();
+        map.put("key", //$NON-NLS-1$
+                "value"); //$NON-NLS-1$
+        Node node = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument().createElement("element"); //$NON-NLS-1$
+        Object[] data = new Object[] { map,
+                                       node,
+                                       QuoteEventBuilder.equityBidEvent().withInstrument(new Equity("METC")).withExchange("Q").withPrice(BigDecimal.ONE).withSize(BigDecimal.TEN).withQuoteDate(new Date()).create(), //$NON-NLS-1$ //$NON-NLS-2$
+                                       "other" }; //$NON-NLS-1$
+        ClassDispatchRegistry<Integer> registry = new ClassDispatchRegistry<Integer>();
+        registry.register(Map.class,
+                          0)
+                .register(Node.class,
+                          1)
+                .setDefaultHandler(2);
+        long chainSum = 0;
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            chainSum += cepChain(data[i % data.length]);
+        }
+        long chainElapsed = System.nanoTime() - start;
+        long registrySum = 0;
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            registrySum += registry.getHandler(data[i % data.length]);
+        }
+        long registryElapsed = System.nanoTime() - start;
+        assertEquals(chainSum,
+                     registrySum);
+        log("cep", //$NON-NLS-1$
+            inIterations,
+            chainElapsed,
+            registryElapsed);
+    }
+    /**
+     * Selects a handler the way the strategy module did before using a registry.
+     *
+     * @param inData an <code>Object</code> value
+     * @return an <code>int</code> value
+     */
+    private static int strategyChain(Object inData)
+    {
+        if(inData instanceof AskEvent) {
+            return 0;
+        }
+        if(inData instanceof BidEvent) {
+            return 1;
+        }
+        if(inData instanceof MarketstatEvent) {
+            return 2;
+        }
+        if(inData instanceof DividendEvent) {
+            return 3;
+        }
+        if(inData instanceof OrderCancelReject) {
+            return 4;
+        }
+        if(inData instanceof ExecutionReport) {
+            return 5;
+        }
+        if(inData instanceof TradeEvent) {
+            return 6;
+        }
+        return 7;
+    }
+    /**
+     * Selects a handler the way the Esper module did before using a registry.
+     *
+     * @param inData an <code>Object</code> value
+     * @return an <code>int</code> value
+     */
+    private static int cepChain(Object inData)
+    {
+        if(inData instanceof Map) {
+            return 0;
+        } else if(inData instanceof Node) {
+            return 1;
+        }
+        return 2;
+    }
+    /**
+     * Logs the results of a run.
+     *
+     * @param inLabel a <code>String</code> value
+     * @param inCount an <code>int</code> value
+     * @param inChainElapsed a <code>long</code> value in nanoseconds
+     * @param inRegistryElapsed a <code>long</code> value in nanoseconds
+     */
+    private static void log(String inLabel,
+                            int inCount,
+                            long inChainElapsed,
+                            long inRegistryElapsed)
+    {
+        SLF4JLoggerProxy.info(ClassDispatchRegistryPerformanceTest.class,
+                              "{}: {} dispatches, instanceof chain {}ns each, registry {}ns each", //$NON-NLS-1$
+                              inLabel,
+                              inCount,
+                              inChainElapsed / inCount,
+                              inRegistryElapsed / inCount);
+    }
+    /**
+     * number of data items to dispatch
+     */
+    private static final int ITERATIONS = 100000;
+}
@@ -0,0 +1,120 @@
+package org.marketcetera.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/* $License$ */
+/**
+ * Tests {@link ClassDispatchRegistry}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class ClassDispatchRegistryTest
+{
+    /**
+     * Tests selecting handlers by exact type, subtype, and default.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void selection()
+            throws Exception
+    {
+        ClassDispatchRegistry<String> registry = new ClassDispatchRegistry<String>();
+        assertNull(registry.getHandler(new Object()));
+        assertNull(registry.getHandler((Object)null));
+        registry.register(Map.class,
+                          "map") //$NON-NLS-1$
+                .register(Number.class,
+                          "number") //$NON-NLS-1$
+                .register(Integer.class,
+                          "integer"); //$NON-NLS-1$
+        assertEquals("map", //$NON-NLS-1$
+                     registry.getHandler(new HashMap<String,String>()));
+        assertEquals("number", //$NON-NLS-1$
+                     registry.getHandler(1L));
+        // exact registrations win over earlier registrations of supertypes
+        assertEquals("integer", //$NON-NLS-1$
+                     registry.getHandler(1));
+        assertNull(registry.getHandler("string")); //$NON-NLS-1$
+        registry.setDefaultHandler("other"); //$NON-NLS-1$
+        assertEquals("other", //$NON-NLS-1$
+                     registry.getHandler("string")); //$NON-NLS-1$
+        assertNull(registry.getHandler((Object)null));
+    }
+    /**
+     * Tests that the first registered type matching a class is selected.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void precedence()
+            throws Exception
+    {
+        ClassDispatchRegistry<String> registry = new ClassDispatchRegistry<String>();
+        registry.register(Serializable.class,
+                          "serializable") //$NON-NLS-1$
+                .register(List.class,
+                          "list"); //$NON-NLS-1$
+        assertEquals("serializable", //$NON-NLS-1$
+                     registry.getHandler(new ArrayList<String>()));
+        registry = new ClassDispatchRegistry<String>();
+        registry.register(List.class,
+                          "list") //$NON-NLS-1$
+                .register(Serializable.class,
+                          "serializable"); //$NON-NLS-1$
+        assertEquals("list", //$NON-NLS-1$
+                     registry.getHandler(new ArrayList<String>()));
+    }
+    /**
+     * Tests that registering a handler replaces cached selections.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void reregistration()
+            throws Exception
+    {
+        ClassDispatchRegistry<String> registry = new ClassDispatchRegistry<String>();
+        registry.register(Number.class,
+                          "number"); //$NON-NLS-1$
+        assertEquals("number", //$NON-NLS-1$
+                     registry.getHandler(Integer.class));
+        registry.register(Integer.class,
+                          "integer"); //$NON-NLS-1$
+        assertEquals("integer", //$NON-NLS-1$
+                     registry.getHandler(Integer.class));
+        registry.register(Number.class,
+                          "new number"); //$NON-NLS-1$
+        assertEquals("new number", //$NON-NLS-1$
+                     registry.getHandler(Long.class));
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new ClassDispatchRegistry<String>().register(null,
+                                                             "null"); //$NON-NLS-1$
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new ClassDispatchRegistry<String>().register(String.class,
+                                                             null);
+            }
+        };
+    }
+}
@@ -210,6 +210,15 @@ public class DataFlowTest extends ModuleTestBase {
                             new DataRequest(procURN,
                                             DataCoupling.ASYNC,
                                             String.class.getName()));
+        // ring data flow
+        checkDataFlowModule(module,
+                            null,
+                            true,
+                            false,
+                            DataCoupling.RING,
+                            new DataRequest(procURN,
+                                            DataCoupling.RING,
+                                            String.class.getName()));
         //data flow with sink explicitly requested to be auto-appended
         checkDataFlowModule(module, null, false, true, new DataRequest(procURN,
                 String.class.getName()));
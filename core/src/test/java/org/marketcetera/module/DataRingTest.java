@@ -0,0 +1,358 @@
+package org.marketcetera.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/* $License$ */
+/**
+ * Tests {@link DataRing}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class DataRingTest
+{
+    /**
+     * Tests ring construction.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void construction()
+            throws Exception
+    {
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new DataRing(0,
+                             RingWaitStrategy.BLOCKING,
+                             RingBackPressure.BLOCK);
+            }
+        };
+        new ExpectedFailure<NullPointerException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new DataRing(1,
+                             null,
+                             RingBackPressure.BLOCK);
+            }
+        };
+        new ExpectedFailure<NullPointerException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new DataRing(1,
+                             RingWaitStrategy.BLOCKING,
+                             null);
+            }
+        };
+        assertEquals(1,
+                     new DataRing(1,
+                                  RingWaitStrategy.BLOCKING,
+                                  RingBackPressure.BLOCK).getCapacity());
+        assertEquals(8,
+                     new DataRing(5,
+                                  RingWaitStrategy.BLOCKING,
+                                  RingBackPressure.BLOCK).getCapacity());
+        assertEquals(8,
+                     new DataRing(8,
+                                  RingWaitStrategy.BLOCKING,
+                                  RingBackPressure.BLOCK).getCapacity());
+    }
+    /**
+     * Tests that a full ring with {@link RingBackPressure#FAIL} rejects data.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void fail()
+            throws Exception
+    {
+        DataRing ring = new DataRing(4,
+                                     RingWaitStrategy.BLOCKING,
+                                     RingBackPressure.FAIL);
+        for(int i=0;i<4;i++) {
+            assertTrue(ring.publish(i));
+        }
+        assertEquals(4,
+                     ring.size());
+        assertFalse(ring.publish(4));
+        assertEquals(0,
+                     ring.take());
+        assertTrue(ring.publish(5));
+        assertEquals(1,
+                     ring.take());
+        assertEquals(2,
+                     ring.take());
+        assertEquals(3,
+                     ring.take());
+        assertEquals(5,
+                     ring.take());
+        assertEquals(0,
+                     ring.size());
+        assertEquals(0,
+                     ring.getDropped());
+    }
+    /**
+     * Tests that a full ring with {@link RingBackPressure#DROP_OLDEST} discards the oldest data.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void dropOldest()
+            throws Exception
+    {
+        DataRing ring = new DataRing(4,
+                                     RingWaitStrategy.BLOCKING,
+                                     RingBackPressure.DROP_OLDEST);
+        for(int i=0;i<10;i++) {
+            assertTrue(ring.publish(i));
+        }
+        assertEquals(4,
+                     ring.size());
+        assertEquals(6,
+                     ring.getDropped());
+        for(int i=6;i<10;i++) {
+            assertEquals(i,
+                         ring.take());
+        }
+        assertEquals(0,
+                     ring.size());
+    }
+    /**
+     * Tests draining available data from the ring.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void drainTo()
+            throws Exception
+    {
+        for(RingBackPressure backPressure : RingBackPressure.values()) {
+            DataRing ring = new DataRing(8,
+                                         RingWaitStrategy.BLOCKING,
+                                         backPressure);
+            List<Object> batch = new ArrayList<Object>();
+            assertEquals(0,
+                         ring.drainTo(batch,
+                                      10));
+            assertTrue(batch.isEmpty());
+            for(int i=0;i<5;i++) {
+                assertTrue(ring.publish(i));
+            }
+            assertEquals(3,
+                         ring.drainTo(batch,
+                                      3));
+            assertEquals(Arrays.<Object>asList(0,1,2),
+                         batch);
+            batch.clear();
+            assertEquals(2,
+                         ring.drainTo(batch,
+                                      10));
+            assertEquals(Arrays.<Object>asList(3,4),
+                         batch);
+            assertEquals(0,
+                         ring.size());
+            assertTrue(ring.publish(5));
+            assertEquals(5,
+                         ring.take());
+        }
+    }
+    /**
+     * Tests that the ring does not keep data reachable after it has been received.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=60000)
+    public void releasedData()
+            throws Exception
+    {
+        for(RingBackPressure backPressure : RingBackPressure.values()) {
+            DataRing ring = new DataRing(8,
+                                         RingWaitStrategy.BLOCKING,
+                                         backPressure);
+            List<WeakReference<Object>> references = new ArrayList<WeakReference<Object>>();
+            List<Object> batch = new ArrayList<Object>();
+            for(int i=0;i<3;i++) {
+                Object data = new Object();
+                references.add(new WeakReference<Object>(data));
+                assertTrue(ring.publish(data));
+            }
+            ring.take();
+            ring.drainTo(batch,
+                         10);
+            batch.clear();
+            // with DROP_OLDEST released slots are cleared by the emitter when it next publishes
+            assertTrue(ring.publish(backPressure));
+            for(WeakReference<Object> reference : references) {
+                while(reference.get() != null) {
+                    System.gc();
+                    Thread.sleep(10);
+                }
+                assertNull(reference.get());
+            }
+            assertEquals(backPressure,
+                         ring.take());
+        }
+    }
+    /**
+     * Tests that a full ring with {@link RingBackPressure#BLOCK} holds the emitter until space is available.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=10000)
+    public void block()
+            throws Exception
+    {
+        final DataRing ring = new DataRing(2,
+                                           RingWaitStrategy.BLOCKING,
+                                           RingBackPressure.BLOCK);
+        assertTrue(ring.publish(0));
+        assertTrue(ring.publish(1));
+        final CountDownLatch published = new CountDownLatch(1);
+        Thread emitter = new Thread() {
+            @Override
+            public void run()
+            {
+                try {
+                    ring.publish(2);
+                    published.countDown();
+                } catch (InterruptedException ignored) {}
+            }
+        };
+        emitter.start();
+        assertFalse(published.await(100,
+                                    TimeUnit.MILLISECONDS));
+        assertEquals(0,
+                     ring.take());
+        assertTrue(published.await(5,
+                                   TimeUnit.SECONDS));
+        assertEquals(1,
+                     ring.take());
+        assertEquals(2,
+                     ring.take());
+        emitter.join();
+    }
+    /**
+     * Tests that halting the ring releases a waiting receiver and rejects further data.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=10000)
+    public void halt()
+            throws Exception
+    {
+        for(RingWaitStrategy waitStrategy : RingWaitStrategy.values()) {
+            final DataRing ring = new DataRing(2,
+                                               waitStrategy,
+                                               RingBackPressure.BLOCK);
+            final AtomicBoolean interrupted = new AtomicBoolean(false);
+            Thread receiver = new Thread() {
+                @Override
+                public void run()
+                {
+                    try {
+                        ring.take();
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                }
+            };
+            receiver.start();
+            Thread.sleep(50);
+            ring.halt();
+            receiver.join();
+            assertTrue(interrupted.get());
+            assertFalse(ring.publish(0));
+        }
+    }
+    /**
+     * Tests that data crosses threads in order with each wait strategy and back pressure policy.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=60000)
+    public void ordering()
+            throws Exception
+    {
+        for(RingWaitStrategy waitStrategy : RingWaitStrategy.values()) {
+            for(RingBackPressure backPressure : new RingBackPressure[] { RingBackPressure.BLOCK, RingBackPressure.DROP_OLDEST }) {
+                verifyOrdering(waitStrategy,
+                               backPressure);
+            }
+        }
+    }
+    /**
+     * Publishes a sequence of values from one thread and verifies that they are received in order.
+     *
+     * @param inWaitStrategy a <code>RingWaitStrategy</code> value
+     * @param inBackPressure a <code>RingBackPressure</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void verifyOrdering(RingWaitStrategy inWaitStrategy,
+                                RingBackPressure inBackPressure)
+            throws Exception
+    {
+        final DataRing ring = new DataRing(16,
+                                           inWaitStrategy,
+                                           inBackPressure);
+        final List<Integer> received = new ArrayList<Integer>();
+        Thread receiver = new Thread() {
+            @Override
+            public void run()
+            {
+                try {
+                    while(true) {
+                        Integer value = (Integer)ring.take();
+                        received.add(value);
+                        if(value == COUNT - 1) {
+                            return;
+                        }
+                    }
+                } catch (InterruptedException ignored) {}
+            }
+        };
+        receiver.start();
+        for(int i=0;i<COUNT;i++) {
+            assertTrue(ring.publish(i));
+        }
+        receiver.join();
+        int last = -1;
+        for(Integer value : received) {
+            assertTrue(inWaitStrategy + "/" + inBackPressure + " received " + value + " after " + last,
+                       value > last);
+            last = value;
+        }
+        assertEquals(COUNT - 1,
+                     last);
+        if(inBackPressure == RingBackPressure.BLOCK) {
+            assertEquals(COUNT,
+                         received.size());
+        } else {
+            assertEquals(COUNT,
+                         received.size() + ring.getDropped());
+        }
+    }
+    /**
+     * number of values to publish in ordering tests
+     */
+    private static final int COUNT = 20000;
+}
@@ -0,0 +1,327 @@
+package org.marketcetera.pool.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.pool.PriorityRunnable;
+
+/* $License$ */
+
+/**
+ * Tests {@link WorkStealingExecutorServiceProvider}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class WorkStealingExecutorServiceProviderTest
+{
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        release.countDown();
+        provider.stop();
+    }
+    /**
+     * Tests that waiting jobs are executed in priority order.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPriority()
+            throws Exception
+    {
+        provider.setMaxPoolSize(1);
+        provider.setStripeCount(1);
+        provider.start();
+        CountDownLatch blocked = block();
+        provider.execute(new RecordingJob(5));
+        provider.execute(new RecordingJob(1));
+        provider.execute(new RecordingJob(3));
+        assertEquals(3,
+                     provider.getQueuedJobCount());
+        release.countDown();
+        waitForExecution(3);
+        assertTrue(blocked.await(10,
+                                 TimeUnit.SECONDS));
+        synchronized(executed) {
+            assertEquals(Arrays.asList(1,3,5),
+                         executed);
+        }
+    }
+    /**
+     * Tests that a job that has waited too long is executed ahead of more urgent jobs.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStarvation()
+            throws Exception
+    {
+        provider.setMaxPoolSize(1);
+        provider.setStripeCount(1);
+        provider.setStarvationThreshold(50);
+        provider.start();
+        block();
+        provider.execute(new RecordingJob(10));
+        Thread.sleep(100);
+        provider.execute(new RecordingJob(0));
+        release.countDown();
+        waitForExecution(2);
+        synchronized(executed) {
+            assertEquals(Arrays.asList(10,0),
+                         executed);
+        }
+    }
+    /**
+     * Tests that the pool grows to its maximum size while all threads are busy and shrinks when they are idle.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPoolSize()
+            throws Exception
+    {
+        provider.setCorePoolSize(1);
+        provider.setMaxPoolSize(4);
+        provider.setKeepAliveTime(100);
+        provider.start();
+        CountDownLatch running = new CountDownLatch(4);
+        for(int i=0;i<6;i++) {
+            provider.execute(new BlockingJob(running));
+        }
+        assertTrue(running.await(10,
+                                 TimeUnit.SECONDS));
+        assertEquals(4,
+                     provider.getPoolSize());
+        assertEquals(2,
+                     provider.getQueuedJobCount());
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 10000;
+        while(provider.getPoolSize() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1,
+                     provider.getPoolSize());
+        assertEquals(0,
+                     provider.getQueuedJobCount());
+    }
+    /**
+     * Tests that a thread killed by an error thrown by a job leaves the pool count accurate and is replaced.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testErrorInJob()
+            throws Exception
+    {
+        provider.setCorePoolSize(1);
+        provider.setMaxPoolSize(1);
+        provider.setKeepAliveTime(100);
+        provider.start();
+        provider.execute(new PriorityRunnable() {
+            @Override
+            public void run()
+            {
+                throw new Error("expected"); //$NON-NLS-1$
+            }
+        });
+        provider.execute(new RecordingJob(0));
+        waitForExecution(1);
+        assertEquals(1,
+                     provider.getPoolSize());
+        provider.execute(new RecordingJob(1));
+        waitForExecution(2);
+        assertEquals(1,
+                     provider.getPoolSize());
+    }
+    /**
+     * Tests that jobs are rejected when the pool is stopped.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStopped()
+            throws Exception
+    {
+        new ExpectedFailure<RejectedExecutionException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                provider.execute(new RecordingJob(0));
+            }
+        };
+        provider.start();
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                provider.execute(null);
+            }
+        };
+        provider.stop();
+        new ExpectedFailure<RejectedExecutionException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                provider.execute(new RecordingJob(0));
+            }
+        };
+    }
+    /**
+     * Occupies a pool thread until {@link #release} is counted down.
+     *
+     * @return a <code>CountDownLatch</code> value counted down when the blocking job is done
+     * @throws Exception if an unexpected error occurs
+     */
+    private CountDownLatch block()
+            throws Exception
+    {
+        CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        provider.execute(new BlockingJob(running) {
+            @Override
+            public void run()
+            {
+                super.run();
+                done.countDown();
+            }
+        });
+        assertTrue(running.await(10,
+                                 TimeUnit.SECONDS));
+        return done;
+    }
+    /**
+     * Waits until the given number of jobs have been executed.
+     *
+     * @param inCount an <code>int</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void waitForExecution(int inCount)
+            throws Exception
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+        while(System.currentTimeMillis() < deadline) {
+            synchronized(executed) {
+                if(executed.size() >= inCount) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        synchronized(executed) {
+            assertEquals(inCount,
+                         executed.size());
+        }
+    }
+    /**
+     * Records its priority when executed.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private class RecordingJob
+            extends PriorityRunnable
+    {
+        /**
+         * Create a new RecordingJob instance.
+         *
+         * @param inPriority an <code>int</code> value
+         */
+        private RecordingJob(int inPriority)
+        {
+            priority = inPriority;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            synchronized(executed) {
+                executed.add(priority);
+            }
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.pool.PriorityRunnable#getPriority()
+         */
+        @Override
+        public int getPriority()
+        {
+            return priority;
+        }
+        /**
+         * the priority of the job
+         */
+        private final int priority;
+    }
+    /**
+     * Blocks until {@link #release} is counted down.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private class BlockingJob
+            extends PriorityRunnable
+    {
+        /**
+         * Create a new BlockingJob instance.
+         *
+         * @param inRunning a <code>CountDownLatch</code> value counted down when the job starts
+         */
+        private BlockingJob(CountDownLatch inRunning)
+        {
+            running = inRunning;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        /**
+         * counted down when the job starts
+         */
+        private final CountDownLatch running;
+    }
+    /**
+     * released to let blocking jobs finish
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+    /**
+     * priorities of the executed jobs in order of execution
+     */
+    private final List<Integer> executed = new ArrayList<Integer>();
+    /**
+     * pool under test
+     */
+    private final WorkStealingExecutorServiceProvider provider = new WorkStealingExecutorServiceProvider();
+}
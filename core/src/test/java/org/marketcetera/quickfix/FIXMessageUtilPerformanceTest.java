@@ -0,0 +1,172 @@
+package org.marketcetera.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.FIXMessageWrapper;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+import quickfix.DataDictionary;
+import quickfix.Message;
+import quickfix.field.ExecTransType;
+import quickfix.field.LeavesQty;
+import quickfix.field.MsgType;
+import quickfix.field.OrdStatus;
+import quickfix.field.Side;
+import quickfix.field.Symbol;
+import quickfix.field.TimeInForce;
+
+/* $License$ */
+
+/**
+ * Measures copying fields between messages and classifying messages with {@link FIXMessageUtil}.
+ *
+ * <p>{@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class FIXMessageUtilPerformanceTest
+{
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        run(FIXVersion.FIX42,
+            ITERATIONS / 10);
+        run(FIXVersion.FIX44,
+            ITERATIONS / 10);
+    }
+    /**
+     * Measures FIX 4.2 messages.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void fix42()
+            throws Exception
+    {
+        run(FIXVersion.FIX42,
+            ITERATIONS);
+    }
+    /**
+     * Measures FIX 4.4 messages.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void fix44()
+            throws Exception
+    {
+        run(FIXVersion.FIX44,
+            ITERATIONS);
+    }
+    /**
+     * Copies the fields of an order to execution reports and classifies the reports for the given version.
+     *
+     * @param inVersion a <code>FIXVersion</code> value
+     * @param inIterations an <code>int</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void run(FIXVersion inVersion,
+                            int inIterations)
+            throws Exception
+    {
+        FIXDataDictionary fixDD = FIXDataDictionaryManager.getFIXDataDictionary(inVersion);
+        if(fixDD == null) {
+            fixDD = FIXDataDictionaryManager.initialize(inVersion,
+                                                        inVersion.getDataDictionaryName());
+        }
+        DataDictionary dictionary = fixDD.getDictionary();
+        FIXMessageFactory factory = inVersion.getMessageFactory();
+        Message order = factory.newLimitOrder("clOrdID", //$NON-NLS-1$
+                                              Side.BUY,
+                                              new BigDecimal("2385"), //$NON-NLS-1$
+                                              new Equity("GAP"), //$NON-NLS-1$
+                                              new BigDecimal("23.45"), //$NON-NLS-1$
+                                              TimeInForce.DAY,
+                                              "account"); //$NON-NLS-1$
+        order.setString(LeavesQty.FIELD,
+                         "33"); //$NON-NLS-1$
+        order.setChar(ExecTransType.FIELD,
+                      ExecTransType.NEW);
+        order.setChar(OrdStatus.FIELD,
+                      OrdStatus.NEW);
+        Message[] reports = new Message[inIterations];
+        for(int i=0;i<inIterations;i++) {
+            reports[i] = factory.createMessage(MsgType.EXECUTION_REPORT);
+        }
+        long start = System.nanoTime();
+        for(Message report : reports) {
+            FIXMessageUtil.fillFieldsFromExistingMessage(report,
+                                                         order,
+                                                         dictionary,
+                                                         false);
+        }
+        log(inVersion + " copy", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        assertEquals("GAP", //$NON-NLS-1$
+                     reports[inIterations-1].getString(Symbol.FIELD));
+        int count = 0;
+        start = System.nanoTime();
+        for(Message report : reports) {
+            FIXMessageWrapper wrapper = new FIXMessageWrapper(report);
+            for(int i=0;i<CLASSIFICATIONS;i++) {
+                if(MsgType.EXECUTION_REPORT.equals(wrapper.getMsgType())) {
+                    count += 1;
+                }
+            }
+        }
+        log(inVersion + " classify", //$NON-NLS-1$
+            inIterations * CLASSIFICATIONS,
+            System.nanoTime() - start);
+        assertEquals(inIterations * CLASSIFICATIONS,
+                     count);
+        start = System.nanoTime();
+        for(Message report : reports) {
+            assertTrue(FIXMessageUtil.isExecutionReport(report));
+        }
+        log(inVersion + " isExecutionReport", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+    }
+    /**
+     * Logs the results of a run.
+     *
+     * @param inLabel a <code>String</code> value
+     * @param inCount an <code>int</code> value
+     * @param inElapsed a <code>long</code> value in nanoseconds
+     */
+    private static void log(String inLabel,
+                            int inCount,
+                            long inElapsed)
+    {
+        SLF4JLoggerProxy.info(FIXMessageUtilPerformanceTest.class,
+                              "{}: {} in {}ms, {}ns each", //$NON-NLS-1$
+                              inLabel,
+                              inCount,
+                              inElapsed / 1000000,
+                              inElapsed / inCount);
+    }
+    /**
+     * number of messages to copy
+     */
+    private static final int ITERATIONS = 10000;
+    /**
+     * number of times each message is classified
+     */
+    private static final int CLASSIFICATIONS = 4;
+}
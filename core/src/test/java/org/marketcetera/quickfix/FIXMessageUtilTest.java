@@ -459,6 +459,45 @@ public class FIXMessageUtilTest extends FIXVersionedTestCase {
         assertEquals(SymbolSfx.WHEN_ISSUED, execReport.getString(SymbolSfx.FIELD));
     }
 
+    /**
+     * Tests {@link FIXMessageUtil#getMsgType(Message)}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    public void testGetMsgType() throws Exception {
+        assertNull(FIXMessageUtil.getMsgType(null));
+        Message message = new Message();
+        assertNull(FIXMessageUtil.getMsgType(message));
+        message = createNOS("GAP", new BigDecimal("23.45"), new BigDecimal("2385"), Side.BUY, msgFactory); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        assertEquals(MsgType.ORDER_SINGLE, FIXMessageUtil.getMsgType(message));
+        assertTrue(FIXMessageUtil.isOrderSingle(message));
+        assertFalse(FIXMessageUtil.isExecutionReport(message));
+    }
+
+    /**
+     * Tests {@link FIXFieldPlan} against the dictionary it was built from.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    public void testFieldPlan() throws Exception {
+        DataDictionary dictionary = fixDD.getDictionary();
+        FIXFieldPlan plan = FIXFieldPlan.getPlan(dictionary, MsgType.EXECUTION_REPORT);
+        assertSame(plan, FIXFieldPlan.getPlan(dictionary, MsgType.EXECUTION_REPORT));
+        assertNotSame(plan, FIXFieldPlan.getPlan(dictionary, MsgType.ORDER_SINGLE));
+        assertEquals(MsgType.EXECUTION_REPORT, plan.getMsgType());
+        for(int tag : dictionary.getOrderedFields()) {
+            assertEquals(Integer.toString(tag), dictionary.isMsgField(MsgType.EXECUTION_REPORT, tag), plan.isMessageField(tag));
+            assertEquals(Integer.toString(tag), dictionary.isMsgField(MsgType.EXECUTION_REPORT, tag) && dictionary.isRequiredField(MsgType.EXECUTION_REPORT, tag),
+                         plan.isRequiredField(tag));
+        }
+        assertFalse(plan.isMessageField(MsgType.FIELD));
+        assertTrue(plan.isRequiredField(ExecID.FIELD));
+        assertTrue(plan.isMessageField(Text.FIELD));
+        assertFalse(plan.isRequiredField(Text.FIELD));
+        assertFalse(plan.isMessageField(1900));
+        assertFalse(plan.isMessageField(-1));
+    }
+
     public void testGetTextOrEncodedText() throws InvalidMessage {
     	{
             Message buy = createNOS("GAP", new BigDecimal("23.45"), new BigDecimal("2385"), Side.BUY, msgFactory); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
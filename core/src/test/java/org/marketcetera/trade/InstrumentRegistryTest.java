@@ -0,0 +1,285 @@
+package org.marketcetera.trade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Tests {@link InstrumentRegistry}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class InstrumentRegistryTest
+{
+    /**
+     * Tests that equal instruments are interned to one instance with one id.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testIntern()
+            throws Exception
+    {
+        final InstrumentRegistry registry = new InstrumentRegistry(10);
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                registry.intern(null);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new InstrumentRegistry(0);
+            }
+        };
+        Equity metc = new Equity("METC"); //$NON-NLS-1$
+        Equity copy = new Equity("METC"); //$NON-NLS-1$
+        assertNotSame(metc,
+                      copy);
+        assertSame(metc,
+                   registry.intern(metc));
+        assertSame(metc,
+                   registry.intern(copy));
+        Option option = new Option("METC", //$NON-NLS-1$
+                                   "20100319", //$NON-NLS-1$
+                                   BigDecimal.ONE,
+                                   OptionType.Call);
+        Future future = new Future("METC", //$NON-NLS-1$
+                                   FutureExpirationMonth.JULY,
+                                   2010);
+        assertEquals(-1,
+                     registry.getId(option));
+        assertEquals(1,
+                     registry.size());
+        assertEquals(0,
+                     registry.getId(copy));
+        assertSame(option,
+                   registry.intern(option));
+        assertEquals(1,
+                     registry.getId(option));
+        assertEquals(2,
+                     registry.pin(future));
+        assertEquals(3,
+                     registry.size());
+        assertSame(metc,
+                   registry.getInstrument(0));
+        assertSame(option,
+                   registry.getInstrument(1));
+        assertSame(future,
+                   registry.getInstrument(2));
+        assertNull(registry.getInstrument(3));
+        assertNull(registry.getInstrument(-1));
+    }
+    /**
+     * Tests that ids keep their instruments as the registry grows.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testGrowth()
+            throws Exception
+    {
+        InstrumentRegistry registry = new InstrumentRegistry(InstrumentRegistry.DEFAULT_MAX_SIZE);
+        for(int i=0;i<5000;i++) {
+            assertEquals(i,
+                         registry.pin(new Equity("S" + i))); //$NON-NLS-1$
+        }
+        for(int i=0;i<5000;i++) {
+            assertEquals(new Equity("S" + i), //$NON-NLS-1$
+                         registry.getInstrument(i));
+        }
+    }
+    /**
+     * Tests eviction of expired instruments.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testEvictExpired()
+            throws Exception
+    {
+        InstrumentRegistry registry = new InstrumentRegistry(10);
+        Equity equity = new Equity("METC"); //$NON-NLS-1$
+        Option option = new Option("METC", //$NON-NLS-1$
+                                   "20100319", //$NON-NLS-1$
+                                   BigDecimal.ONE,
+                                   OptionType.Put);
+        Future future = new Future("METC", //$NON-NLS-1$
+                                   FutureExpirationMonth.JULY,
+                                   2010);
+        Option pinned = new Option("METC", //$NON-NLS-1$
+                                   "20100319", //$NON-NLS-1$
+                                   BigDecimal.TEN,
+                                   OptionType.Put);
+        registry.intern(option);
+        int optionId = registry.getId(option);
+        registry.intern(equity);
+        registry.intern(future);
+        int pinnedId = registry.pin(pinned);
+        assertTrue(registry.evictExpired(date(2010,
+                                              3,
+                                              19)).isEmpty());
+        List<Instrument> evicted = registry.evictExpired(date(2010,
+                                                              3,
+                                                              20));
+        assertEquals(1,
+                     evicted.size());
+        assertSame(option,
+                   evicted.get(0));
+        assertNull(registry.getInstrument(optionId));
+        assertEquals(-1,
+                     registry.getId(option));
+        assertSame(pinned,
+                   registry.getInstrument(pinnedId));
+        // an evicted instrument is interned again with a free id
+        registry.intern(option);
+        assertSame(option,
+                   registry.getInstrument(registry.getId(option)));
+        evicted = registry.evictExpired(date(2010,
+                                             8,
+                                             1));
+        assertEquals(2,
+                     evicted.size());
+        assertEquals(2,
+                     registry.size());
+        assertEquals(pinnedId,
+                     registry.getId(pinned));
+        registry.unpin(pinnedId);
+        assertEquals(1,
+                     registry.evictExpired(date(2010,
+                                                8,
+                                                1)).size());
+        assertEquals(1,
+                     registry.size());
+        assertSame(equity,
+                   registry.intern(new Equity("METC"))); //$NON-NLS-1$
+    }
+    /**
+     * Tests that expired instruments are evicted automatically when the registry exceeds its maximum size.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testEvictionOnSize()
+            throws Exception
+    {
+        InstrumentRegistry registry = new InstrumentRegistry(5);
+        for(int i=0;i<5;i++) {
+            registry.intern(new Option("METC", //$NON-NLS-1$
+                                       "20100319", //$NON-NLS-1$
+                                       new BigDecimal(i),
+                                       OptionType.Call));
+        }
+        assertEquals(5,
+                     registry.size());
+        registry.intern(new Equity("METC")); //$NON-NLS-1$
+        assertEquals(1,
+                     registry.size());
+    }
+    /**
+     * Tests that the registry stays bounded by evicting the least recently interned unpinned instruments
+     * and reusing their ids.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBounded()
+            throws Exception
+    {
+        final InstrumentRegistry registry = new InstrumentRegistry(10);
+        Equity pinned = new Equity("PINNED"); //$NON-NLS-1$
+        int pinnedId = registry.pin(pinned);
+        registry.pin(pinned);
+        for(int i=0;i<1000;i++) {
+            Equity equity = new Equity("S" + i); //$NON-NLS-1$
+            assertSame(equity,
+                       registry.intern(equity));
+            assertTrue(registry.size() <= 10);
+            assertTrue(registry.getId(equity) <= 10);
+        }
+        // the most recently interned instruments are kept
+        assertTrue(registry.getId(new Equity("S999")) >= 0); //$NON-NLS-1$
+        assertEquals(-1,
+                     registry.getId(new Equity("S0"))); //$NON-NLS-1$
+        assertNull(registry.getInstrument(11));
+        assertSame(pinned,
+                   registry.getInstrument(pinnedId));
+        // the instrument stays pinned until it is unpinned as often as it was pinned
+        registry.unpin(pinnedId);
+        for(int i=0;i<20;i++) {
+            registry.intern(new Equity("T" + i)); //$NON-NLS-1$
+        }
+        assertEquals(pinnedId,
+                     registry.getId(pinned));
+        registry.unpin(pinnedId);
+        for(int i=0;i<20;i++) {
+            registry.intern(new Equity("U" + i)); //$NON-NLS-1$
+        }
+        assertEquals(-1,
+                     registry.getId(pinned));
+        final int freeId = pinnedId;
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                registry.unpin(freeId);
+            }
+        };
+    }
+    /**
+     * Tests that the cached equity hash code matches the value computed before it was cached.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testEquityHashCode()
+            throws Exception
+    {
+        Equity equity = new Equity("METC", //$NON-NLS-1$
+                                   "A"); //$NON-NLS-1$
+        assertEquals(new HashCodeBuilder().append("METC").append("A").toHashCode(), //$NON-NLS-1$ //$NON-NLS-2$
+                     equity.hashCode());
+        assertEquals(new HashCodeBuilder().append("METC").append((Object)null).toHashCode(), //$NON-NLS-1$
+                     new Equity("METC").hashCode()); //$NON-NLS-1$
+    }
+    /**
+     * Creates a date at the start of the given day.
+     *
+     * @param inYear an <code>int</code> value
+     * @param inMonth an <code>int</code> value from 1 to 12
+     * @param inDay an <code>int</code> value
+     * @return a <code>Date</code> value
+     */
+    private static Date date(int inYear,
+                             int inMonth,
+                             int inDay)
+    {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(inYear,
+                     inMonth - 1,
+                     inDay);
+        return calendar.getTime();
+    }
+}
@@ -1,5 +1,6 @@
 package org.marketcetera.trade.utils;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -12,15 +13,22 @@ import java.util.Date;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.marketcetera.event.EventTestBase;
 import org.marketcetera.marketdata.MarketDataFeedTestBase;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.ExpectedFailure;
 import org.marketcetera.quickfix.FIXDataDictionary;
 import org.marketcetera.quickfix.FIXDataDictionaryManager;
@@ -62,7 +70,9 @@ import quickfix.field.Symbol;
 import quickfix.field.TargetCompID;
 import quickfix.field.TransactTime;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 
 /* $License$ */
@@ -113,6 +123,49 @@ public class OrderHistoryManagerTest
                      manager.getLatestReportFor(report1.getOrderID()));
         assertNull(manager.getLatestReportFor(new OrderID("some-orderid-that-doesn't-exist")));
     }
+    /**
+     * Tests that each instance reports its own metrics under its name.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMetrics()
+            throws Exception
+    {
+        OrderHistoryManager manager1 = new OrderHistoryManager(OrderHistoryManagerTest.class.getSimpleName() + "-1");
+        OrderHistoryManager manager2 = new OrderHistoryManager(OrderHistoryManagerTest.class.getSimpleName() + "-2");
+        assertFalse(new OrderHistoryManager().getName().equals(new OrderHistoryManager().getName()));
+        try {
+            String orderId = "order-" + counter.incrementAndGet();
+            manager1.add(generateExecutionReport(orderId,
+                                                 null,
+                                                 OrderStatus.New));
+            manager1.add(generateExecutionReport(orderId,
+                                                 null,
+                                                 OrderStatus.PartiallyFilled));
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            assertEquals(1,
+                         metrics.counter(name(OrderHistoryManager.class,
+                                              manager1.getName(),
+                                              "orders")).getCount());
+            assertEquals(2,
+                         metrics.counter(name(OrderHistoryManager.class,
+                                              manager1.getName(),
+                                              "reports")).getCount());
+            assertEquals(0,
+                         metrics.counter(name(OrderHistoryManager.class,
+                                              manager2.getName(),
+                                              "orders")).getCount());
+            manager1.clear();
+            assertEquals(0,
+                         metrics.counter(name(OrderHistoryManager.class,
+                                              manager1.getName(),
+                                              "reports")).getCount());
+        } finally {
+            manager1.removeMetrics();
+            manager2.removeMetrics();
+        }
+    }
     /**
      * Tests {@link OrderHistoryManager#add(ReportBase)}.
      *
@@ -686,6 +739,212 @@ public class OrderHistoryManagerTest
         assertEquals(originalReportHistory.size(),
                      replacementReportHistory.size());
     }
+    /**
+     * Tests that terminal orders are evicted when there are more than the maximum number of them.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMaxTerminalOrders()
+            throws Exception
+    {
+        OrderHistoryManager orderManager = new OrderHistoryManager();
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new OrderHistoryManager().setMaxTerminalOrders(-1);
+            }
+        };
+        // an order which reached a terminal state before a limit was set is not tracked for eviction
+        ExecutionReport untrackedReport = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                                  null,
+                                                                  OrderStatus.Filled);
+        orderManager.add(untrackedReport);
+        orderManager.setMaxTerminalOrders(2);
+        assertEquals(2,
+                     orderManager.getMaxTerminalOrders());
+        ExecutionReport openReport = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                             null,
+                                                             OrderStatus.New);
+        orderManager.add(openReport);
+        List<ExecutionReport> terminalReports = Lists.newArrayList();
+        for(OrderStatus status : new OrderStatus[] { OrderStatus.Filled, OrderStatus.Canceled, OrderStatus.Rejected }) {
+            ExecutionReport report = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                             null,
+                                                             status);
+            terminalReports.add(report);
+            orderManager.add(report);
+        }
+        // the oldest terminal order is gone, the open order is untouched
+        assertNull(orderManager.getLatestReportFor(terminalReports.get(0).getOrderID()));
+        assertTrue(orderManager.getReportHistoryFor(terminalReports.get(0).getOrderID()).isEmpty());
+        assertEquals(terminalReports.get(1),
+                     orderManager.getLatestReportFor(terminalReports.get(1).getOrderID()));
+        assertEquals(terminalReports.get(2),
+                     orderManager.getLatestReportFor(terminalReports.get(2).getOrderID()));
+        assertEquals(openReport,
+                     orderManager.getLatestReportFor(openReport.getOrderID()));
+        CollectionAssert.assertArrayPermutation(new OrderID[] { untrackedReport.getOrderID(), openReport.getOrderID(), terminalReports.get(1).getOrderID(), terminalReports.get(2).getOrderID() },
+                                                orderManager.getOrderIds().toArray(new OrderID[0]));
+        // an order which reopens is no longer terminal
+        ExecutionReport reopenedReport = generateExecutionReport(terminalReports.get(1).getOrderID().getValue(),
+                                                                 null,
+                                                                 OrderStatus.PartiallyFilled);
+        orderManager.add(reopenedReport);
+        for(int i=0;i<2;i++) {
+            orderManager.add(generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                     null,
+                                                     OrderStatus.Filled));
+        }
+        assertNull(orderManager.getLatestReportFor(terminalReports.get(2).getOrderID()));
+        assertEquals(reopenedReport,
+                     orderManager.getLatestReportFor(reopenedReport.getOrderID()));
+        assertEquals(openReport,
+                     orderManager.getLatestReportFor(openReport.getOrderID()));
+        assertEquals(untrackedReport,
+                     orderManager.getLatestReportFor(untrackedReport.getOrderID()));
+        assertEquals(2,
+                     orderManager.getOpenOrders().size());
+    }
+    /**
+     * Tests that terminal orders are evicted after their time to live.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testTerminalOrderTimeToLive()
+            throws Exception
+    {
+        OrderHistoryManager orderManager = new OrderHistoryManager();
+        orderManager.setTerminalOrderTimeToLive(250,
+                                                TimeUnit.MILLISECONDS);
+        assertEquals(250,
+                     orderManager.getTerminalOrderTimeToLive(TimeUnit.MILLISECONDS));
+        ExecutionReport report1 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.New);
+        orderManager.add(report1);
+        ExecutionReport report2 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          report1.getOrderID().getValue(),
+                                                          OrderStatus.Canceled);
+        orderManager.add(report2);
+        assertEquals(report1.getOrderID(),
+                     orderManager.getRootOrderIdFor(report2.getOrderID()));
+        Thread.sleep(500);
+        ExecutionReport report3 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report3);
+        // the whole chain of the expired order is gone
+        assertNull(orderManager.getLatestReportFor(report1.getOrderID()));
+        assertNull(orderManager.getLatestReportFor(report2.getOrderID()));
+        assertTrue(orderManager.getOrderChain(report1.getOrderID()).isEmpty());
+        assertEquals(report3,
+                     orderManager.getLatestReportFor(report3.getOrderID()));
+        CollectionAssert.assertArrayPermutation(new OrderID[] { report3.getOrderID() },
+                                                orderManager.getOrderIds().toArray(new OrderID[0]));
+    }
+    /**
+     * Tests that only the latest report is kept for filled orders if requested.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testKeepFilledOrderHistory()
+            throws Exception
+    {
+        OrderHistoryManager orderManager = new OrderHistoryManager();
+        assertTrue(orderManager.getKeepFilledOrderHistory());
+        orderManager.setKeepFilledOrderHistory(false);
+        ExecutionReport report1 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.New);
+        orderManager.add(report1);
+        ExecutionReport report2 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          report1.getOrderID().getValue(),
+                                                          OrderStatus.PartiallyFilled);
+        orderManager.add(report2);
+        assertEquals(2,
+                     orderManager.getReportHistoryFor(report2.getOrderID()).size());
+        ExecutionReport report3 = generateExecutionReport(report2.getOrderID().getValue(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report3);
+        Deque<ReportBase> history = orderManager.getReportHistoryFor(report1.getOrderID());
+        assertEquals(1,
+                     history.size());
+        assertEquals(report3,
+                     history.getFirst());
+        assertEquals(report1.getOrderID(),
+                     orderManager.getRootOrderIdFor(report3.getOrderID()));
+        assertEquals(2,
+                     orderManager.getOrderChain(report3.getOrderID()).size());
+    }
+    /**
+     * Tests adding reports for many orders from several threads at once.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConcurrentAdd()
+            throws Exception
+    {
+        final OrderHistoryManager orderManager = new OrderHistoryManager();
+        orderManager.setMaxTerminalOrders(50);
+        int threadCount = 4;
+        final int ordersPerThread = 100;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<ExecutionReport>>> results = Lists.newArrayList();
+            for(int i=0;i<threadCount;i++) {
+                results.add(executor.submit(new Callable<List<ExecutionReport>>() {
+                    @Override
+                    public List<ExecutionReport> call()
+                            throws Exception
+                    {
+                        List<ExecutionReport> openReports = Lists.newArrayList();
+                        startLatch.await();
+                        for(int j=0;j<ordersPerThread;j++) {
+                            String orderID = "order-" + counter.incrementAndGet();
+                            ExecutionReport report = generateExecutionReport(orderID,
+                                                                             null,
+                                                                             OrderStatus.New);
+                            orderManager.add(report);
+                            if(j % 2 == 0) {
+                                orderManager.add(generateExecutionReport(orderID,
+                                                                         null,
+                                                                         OrderStatus.Filled));
+                            } else {
+                                openReports.add(report);
+                            }
+                        }
+                        return openReports;
+                    }
+                }));
+            }
+            startLatch.countDown();
+            int openOrderCount = 0;
+            for(Future<List<ExecutionReport>> result : results) {
+                for(ExecutionReport report : result.get(1,
+                                                        TimeUnit.MINUTES)) {
+                    assertEquals(report,
+                                 orderManager.getLatestReportFor(report.getOrderID()));
+                    assertEquals(report,
+                                 orderManager.getOpenOrders().get(report.getOrderID()));
+                    openOrderCount += 1;
+                }
+            }
+            assertEquals(openOrderCount,
+                         orderManager.getOpenOrders().size());
+            assertEquals(openOrderCount + 50,
+                         orderManager.getOrderIds().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
     /**
      * Verifies that the given <code>OrderHistoryManager</code> contains the given <code>ReportBase</code> objects.
      * 
@@ -65,7 +65,7 @@ import java.util.*;
  */
 @ClassVersion("$Id$") //$NON-NLS-1$
 public class CEPEsperProcessor extends Module
-        implements DataReceiver, DataEmitter, CEPEsperProcessorMXBean {
+        implements BatchDataReceiver, DataEmitter, CEPEsperProcessorMXBean {
 
     /** Reference counter that keep track if we get events posted back into us from events that we emit
      * ie we emit to a strategy that sends events in back to this Esper instance
@@ -130,25 +130,7 @@ public class CEPEsperProcessor extends Module
             boolean fSelfPostedEvent = selfPostedCounter > 0;
             mSelfPostingEvents.set(selfPostedCounter+1);
             try {
-                if (inData instanceof Map) {
-                    if(fSelfPostedEvent) {
-                        mService.getEPRuntime().route((Map<?,?>)inData, CEPDataTypes.MAP);
-                    } else {
-                        mService.getEPRuntime().sendEvent((Map<?,?>)inData, CEPDataTypes.MAP);
-                    }
-                } else if(inData instanceof Node) {
-                    if (fSelfPostedEvent) {
-                        mService.getEPRuntime().route((Node) inData);
-                    } else {
-                        mService.getEPRuntime().sendEvent((Node) inData);
-                    }
-                } else {
-                    if (fSelfPostedEvent) {
-                        mService.getEPRuntime().route(inData);
-                    } else {
-                        mService.getEPRuntime().sendEvent(inData);
-                    }
-                }
+                sendEvent(mService.getEPRuntime(), inData, fSelfPostedEvent);
             } finally {
                 mSelfPostingEvents.set(selfPostedCounter);
             }
@@ -156,6 +138,44 @@ public class CEPEsperProcessor extends Module
         //ignore null data
     }
 
+    /**
+     * Sends a batch of events into the runtime, looking up the runtime and
+     * the self-posting state once for the whole batch.
+     */
+    @Override
+    public void receiveBatch(DataFlowID inFlowID, List<Object> inBatch)
+            throws UnsupportedDataTypeException, StopDataFlowException {
+        ThreadedMetric.event("cep-IN");  //$NON-NLS-1$
+        int selfPostedCounter = mSelfPostingEvents.get();
+        boolean fSelfPostedEvent = selfPostedCounter > 0;
+        mSelfPostingEvents.set(selfPostedCounter+1);
+        try {
+            EPRuntime runtime = mService.getEPRuntime();
+            ProcessingDelegate delegate = getDelegate();
+            for(Object data : inBatch) {
+                //ignore null data
+                if(data != null) {
+                    delegate.preProcessData(inFlowID, data);
+                    sendEvent(runtime, data, fSelfPostedEvent);
+                }
+            }
+        } finally {
+            mSelfPostingEvents.set(selfPostedCounter);
+        }
+    }
+
+    /**
+     * Sends the given event into the runtime, routing it if it was posted
+     * back into this module by a downstream module.
+     *
+     * @param inRuntime the runtime to send the event to
+     * @param inData the event, not null
+     * @param inRoute true if the event should be routed rather than sent
+     */
+    private static void sendEvent(EPRuntime inRuntime, Object inData, boolean inRoute) {
+        EVENT_SENDERS.getHandler(inData.getClass()).send(inRuntime, inData, inRoute);
+    }
+
     @Override
     public String getConfiguration() {
         return mConfiguration;
@@ -316,6 +336,60 @@ public class CEPEsperProcessor extends Module
      */
     private static final String PATTERN_QUERY_PREFIX = "p:";  //$NON-NLS-1$
 
+    /**
+     * Sends data of a particular type into the Esper runtime.
+     */
+    private static interface EventSender {
+        /**
+         * Sends the given event into the runtime.
+         *
+         * @param inRuntime the runtime to send the event to
+         * @param inData the event, not null
+         * @param inRoute true if the event should be routed rather than sent
+         */
+        void send(EPRuntime inRuntime, Object inData, boolean inRoute);
+    }
+
+    /**
+     * The event senders by the type of data they send. {@link Map} and
+     * {@link Node} data are sent so that esper can interpret them, all
+     * other data is sent as a plain object.
+     */
+    private static final ClassDispatchRegistry<EventSender> EVENT_SENDERS =
+            new ClassDispatchRegistry<EventSender>();
+    static {
+        EVENT_SENDERS.register(Map.class, new EventSender() {
+            @Override
+            public void send(EPRuntime inRuntime, Object inData, boolean inRoute) {
+                if(inRoute) {
+                    inRuntime.route((Map<?,?>)inData, CEPDataTypes.MAP);
+                } else {
+                    inRuntime.sendEvent((Map<?,?>)inData, CEPDataTypes.MAP);
+                }
+            }
+        });
+        EVENT_SENDERS.register(Node.class, new EventSender() {
+            @Override
+            public void send(EPRuntime inRuntime, Object inData, boolean inRoute) {
+                if (inRoute) {
+                    inRuntime.route((Node) inData);
+                } else {
+                    inRuntime.sendEvent((Node) inData);
+                }
+            }
+        });
+        EVENT_SENDERS.setDefaultHandler(new EventSender() {
+            @Override
+            public void send(EPRuntime inRuntime, Object inData, boolean inRoute) {
+                if (inRoute) {
+                    inRuntime.route(inData);
+                } else {
+                    inRuntime.sendEvent(inData);
+                }
+            }
+        });
+    }
+
     /**
      * The processing delegate to use.
      */
@@ -43,6 +43,7 @@ import org.marketcetera.event.QuoteAction;
 import org.marketcetera.event.QuoteEvent;
 import org.marketcetera.event.TradeEvent;
 import org.marketcetera.event.impl.DividendEventBuilder;
+import org.marketcetera.event.impl.EventBuilderPool;
 import org.marketcetera.event.impl.MarketstatEventBuilder;
 import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.impl.TradeEventBuilder;
@@ -243,9 +244,10 @@ public class BasicCSVFeedEventTranslator
         if(inData == null) {
             throw new NullPointerException();
         }
+        MarketstatEventBuilder builder = null;
         try {
             Instrument instrument = guessInstrument(inData);                // 2
-            MarketstatEventBuilder builder = MarketstatEventBuilder.marketstat(instrument);
+            builder = EventBuilderPool.marketstat(instrument);
             builder.withTimestamp(guessEventTimestamp(inData))              // 1
                    .withOpenPrice(guessOpenPrice(inData))                   // 3
                    .withHighPrice(guessHighPrice(inData))                   // 4
@@ -277,6 +279,8 @@ public class BasicCSVFeedEventTranslator
             throw new CoreException(e,
                                     new I18NBoundMessage1P(UNABLE_TO_CONSTRUCT_MARKETSTAT,
                                                            String.valueOf(inData)));
+        } finally {
+            EventBuilderPool.release(builder);
         }
     }
     /**
@@ -325,15 +329,19 @@ public class BasicCSVFeedEventTranslator
         if(inData == null) {
             throw new NullPointerException();
         }
+        QuoteEventBuilder<BidEvent> builder = null;
         try {
             Instrument instrument = guessInstrument(inData);
+            builder = EventBuilderPool.bidEvent(instrument);
             return (BidEvent)processQuote(inData,
-                                          QuoteEventBuilder.bidEvent(instrument),
+                                          builder,
                                           instrument);
         } catch (Exception e) {
             throw new CoreException(e,
                                     new I18NBoundMessage1P(UNABLE_TO_CONSTRUCT_QUOTE,
                                                            String.valueOf(inData)));
+        } finally {
+            EventBuilderPool.release(builder);
         }
     }
     /**
@@ -349,15 +357,19 @@ public class BasicCSVFeedEventTranslator
         if(inData == null) {
             throw new NullPointerException();
         }
+        QuoteEventBuilder<AskEvent> builder = null;
         try {
             Instrument instrument = guessInstrument(inData);
+            builder = EventBuilderPool.askEvent(instrument);
             return (AskEvent)processQuote(inData,
-                                          QuoteEventBuilder.askEvent(instrument),
+                                          builder,
                                           instrument);
         } catch (Exception e) {
             throw new CoreException(e,
                                     new I18NBoundMessage1P(UNABLE_TO_CONSTRUCT_QUOTE,
                                                            String.valueOf(inData)));
+        } finally {
+            EventBuilderPool.release(builder);
         }
     }
     /**
@@ -373,9 +385,10 @@ public class BasicCSVFeedEventTranslator
         if(inData == null) {
             throw new NullPointerException();
         }
+        TradeEventBuilder<? extends TradeEvent> builder = null;
         try {
             Instrument instrument = guessInstrument(inData);
-            TradeEventBuilder<? extends TradeEvent> builder = TradeEventBuilder.tradeEvent(instrument);
+            builder = EventBuilderPool.tradeEvent(instrument);
             builder.withTradeDate(guessTradeDate(inData))
                    .withExchange(guessExchange(inData))
                    .withPrice(guessPrice(inData))
@@ -398,6 +411,8 @@ public class BasicCSVFeedEventTranslator
             throw new CoreException(e,
                                     new I18NBoundMessage1P(UNABLE_TO_CONSTRUCT_TRADE,
                                                            String.valueOf(inData)));
+        } finally {
+            EventBuilderPool.release(builder);
         }
     }
     /**
@@ -0,0 +1,111 @@
+package org.marketcetera.marketdata.core;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.marketcetera.event.Event;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Delivers a market data event to a single subscription.
+ *
+ * <p>The same {@link Event} is shared by every subscription interested in it. The attributes that
+ * differ from subscription to subscription are carried by the envelope instead of being set on the
+ * event, so the event is not changed after it has been handed to a subscriber and may be delivered
+ * to many subscribers at once.
+ *
+ * <p>A subscriber that passes the event on to a client must pass the request id with it. The market
+ * data clients set the request id as the source of the events they receive.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ * @see MarketDataEnvelopeSubscriber
+ */
+@Immutable
+@ClassVersion("$Id$")
+public final class MarketDataEnvelope
+{
+    /**
+     * Create a new MarketDataEnvelope instance.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @param inRequestId a <code>long</code> value
+     * @param inProvider a <code>String</code> value
+     * @param inProcessedTimestamp a <code>long</code> value
+     */
+    public MarketDataEnvelope(Event inEvent,
+                              long inRequestId,
+                              String inProvider,
+                              long inProcessedTimestamp)
+    {
+        event = inEvent;
+        requestId = inRequestId;
+        provider = inProvider;
+        processedTimestamp = inProcessedTimestamp;
+    }
+    /**
+     * Get the event value.
+     *
+     * @return an <code>Event</code> value
+     */
+    public Event getEvent()
+    {
+        return event;
+    }
+    /**
+     * Get the id of the market data request to which the event is delivered.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getRequestId()
+    {
+        return requestId;
+    }
+    /**
+     * Get the name of the provider which produced the event.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getProvider()
+    {
+        return provider;
+    }
+    /**
+     * Get the time the event was processed by the provider.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getProcessedTimestamp()
+    {
+        return processedTimestamp;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("MarketDataEnvelope [requestId=").append(requestId).append(", provider=").append(provider) //$NON-NLS-1$ //$NON-NLS-2$
+               .append(", processedTimestamp=").append(processedTimestamp).append(", event=").append(event).append("]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return builder.toString();
+    }
+    /**
+     * shared event value
+     */
+    private final Event event;
+    /**
+     * id of the request to which the event is delivered
+     */
+    private final long requestId;
+    /**
+     * name of the provider which produced the event
+     */
+    private final String provider;
+    /**
+     * time the event was processed by the provider
+     */
+    private final long processedTimestamp;
+}
@@ -0,0 +1,24 @@
+package org.marketcetera.marketdata.core;
+
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Marks a subscriber that receives market data wrapped in a {@link MarketDataEnvelope}.
+ *
+ * <p>A market data provider passes each event to {@link #isInteresting(Object)} as usual, but passes
+ * a {@link MarketDataEnvelope} to {@link #publishTo(Object)}. The request id, provider, and processed
+ * timestamp should be read from the envelope: the enclosed event is shared by every subscription
+ * and its source is not set by the provider.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public interface MarketDataEnvelopeSubscriber
+        extends ISubscriber
+{
+}
@@ -37,6 +37,18 @@ public interface MarketDataProviderMBean
      * @return an <code>int</code> value
      */
     public int getTotalEvents();
+    /**
+     * Gets the number of threads used to process and publish events.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getNotifierThreadCount();
+    /**
+     * Gets the number of event notifications waiting to be processed across all notifier threads.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getNotificationQueueDepth();
     /**
      * Gets the status of the provider.
      *
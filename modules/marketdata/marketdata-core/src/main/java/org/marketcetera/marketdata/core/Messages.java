@@ -54,4 +54,7 @@ public interface Messages
     static final I18NMessage1P NO_SUBSCRIBER = new I18NMessage1P(LOGGER,"no_subscriber"); //$NON-NLS-1$
     static final I18NMessage2P PUBLISHING_ERROR = new I18NMessage2P(LOGGER,"publishing_error"); //$NON-NLS-1$
     static final I18NMessage2P NO_INSTRUMENT = new I18NMessage2P(LOGGER,"no_instrument"); //$NON-NLS-1$
+    static final I18NMessage1P UNKNOWN_EVENT_PAYLOAD_KIND = new I18NMessage1P(LOGGER,"unknown_event_payload_kind"); //$NON-NLS-1$
+    static final I18NMessage1P MISSING_EVENT_PAYLOAD_FIELD = new I18NMessage1P(LOGGER,"missing_event_payload_field"); //$NON-NLS-1$
+    static final I18NMessage1P UNSUPPORTED_PAYLOAD_SECURITY_TYPE = new I18NMessage1P(LOGGER,"unsupported_payload_security_type"); //$NON-NLS-1$
 }
@@ -9,6 +9,8 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
@@ -20,6 +22,7 @@ import javax.annotation.PreDestroy;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.apache.commons.lang.Validate;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.marketcetera.core.publisher.ISubscriber;
@@ -30,6 +33,8 @@ import org.marketcetera.event.HasTimestamps;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
 import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.core.MarketDataEnvelope;
+import org.marketcetera.marketdata.core.MarketDataEnvelopeSubscriber;
 import org.marketcetera.marketdata.core.MarketDataProvider;
 import org.marketcetera.marketdata.core.ProviderStatus;
 import org.marketcetera.marketdata.core.cache.MarketDataCache;
@@ -39,13 +44,19 @@ import org.marketcetera.marketdata.core.manager.MarketDataProviderRegistry;
 import org.marketcetera.marketdata.core.manager.MarketDataRequestFailed;
 import org.marketcetera.marketdata.core.request.MarketDataRequestAtom;
 import org.marketcetera.marketdata.core.request.MarketDataRequestToken;
+import org.marketcetera.metrics.CheckpointLatency;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.InstrumentRegistry;
 import org.marketcetera.util.log.I18NBoundMessage2P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.Lifecycle;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 
@@ -56,6 +67,16 @@ import com.google.common.collect.Multimap;
  * 
  * <p>To create a market data provider, extend this class.
  *
+ * <p>Events published by the provider are processed by one or more notifier threads, set by
+ * {@link #setNotifierThreadCount(int)}. Each instrument is assigned to a single notifier thread,
+ * so events for an instrument are always processed in the order they were published, while
+ * a slow subscriber or busy instrument on one thread does not hold up the others.
+ *
+ * <p>Every subscriber interested in an event receives the same event, which is not changed once it
+ * has been handed out. Subscribers that implement {@link MarketDataEnvelopeSubscriber} receive each
+ * event in a {@link MarketDataEnvelope} which carries the request id. Other subscribers receive the
+ * event itself, which does not identify the request it is delivered for.
+ *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
  * @since 2.4.0
@@ -77,7 +98,10 @@ public abstract class AbstractMarketDataProvider
             snapshotLock.lockInterruptibly();
             MarketdataCacheElement cachedData = cachedMarketdata.get(inInstrument);
             if(cachedData != null) {
-                return cachedData.getSnapshot(inContent);
+                // the cache element is updated by the notifier thread that owns the instrument
+                synchronized(cachedData) {
+                    return cachedData.getSnapshot(inContent);
+                }
             }
             return null;
         } catch (InterruptedException e) {
@@ -104,12 +128,15 @@ public abstract class AbstractMarketDataProvider
             totalEvents = 0;
             instrumentsBySymbol.clear();
             cachedMarketdata.clear();
-            notifications.clear();
             requestsByInstrument.clear();
             requestsByAtom.clear();
             requestsBySymbol.clear();
-            notifier = new EventNotifier();
-            notifier.start();
+            EventNotifier[] newNotifiers = new EventNotifier[notifierThreadCount];
+            for(int i=0;i<newNotifiers.length;i++) {
+                newNotifiers[i] = new EventNotifier(i);
+                newNotifiers[i].start();
+            }
+            notifiers = newNotifiers;
             running.set(true);
             setFeedStatus(ProviderStatus.AVAILABLE);
         } catch (Exception e) {
@@ -134,10 +161,15 @@ public abstract class AbstractMarketDataProvider
         } catch (Exception e) {
             setFeedStatus(ProviderStatus.ERROR);
         } finally {
-            notifier.stop();
+            EventNotifier[] oldNotifiers = notifiers;
+            notifiers = null;
+            if(oldNotifiers != null) {
+                for(EventNotifier notifier : oldNotifiers) {
+                    notifier.stop();
+                }
+            }
             instrumentsBySymbol.clear();
             cachedMarketdata.clear();
-            notifications.clear();
             requestsByInstrument.clear();
             requestsByAtom.clear();
             requestsBySymbol.clear();
@@ -200,8 +232,14 @@ public abstract class AbstractMarketDataProvider
                             SLF4JLoggerProxy.debug(this,
                                                    "Sending snapshot: {}",
                                                    snapshotEvent);
-                            if(inRequestToken.getSubscriber() != null) {
-                                inRequestToken.getSubscriber().publishTo(snapshotEvent);
+                            ISubscriber subscriber = inRequestToken.getSubscriber();
+                            if(subscriber instanceof MarketDataEnvelopeSubscriber) {
+                                subscriber.publishTo(new MarketDataEnvelope(snapshotEvent,
+                                                                            inRequestToken.getId(),
+                                                                            getProviderName(),
+                                                                            System.currentTimeMillis()));
+                            } else if(subscriber != null) {
+                                subscriber.publishTo(snapshotEvent);
                             }
                         } else {
                             SLF4JLoggerProxy.debug(this,
@@ -359,6 +397,42 @@ public abstract class AbstractMarketDataProvider
     {
         return totalEvents;
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.MarketDataProviderMBean#getNotifierThreadCount()
+     */
+    @Override
+    public int getNotifierThreadCount()
+    {
+        return notifierThreadCount;
+    }
+    /**
+     * Sets the number of threads used to process and publish events.
+     *
+     * <p>The new value takes effect the next time the provider is started.
+     *
+     * @param inNotifierThreadCount an <code>int</code> value
+     * @throws IllegalArgumentException if the given value is less than one
+     */
+    public void setNotifierThreadCount(int inNotifierThreadCount)
+    {
+        Validate.isTrue(inNotifierThreadCount > 0);
+        notifierThreadCount = inNotifierThreadCount;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.MarketDataProviderMBean#getNotificationQueueDepth()
+     */
+    @Override
+    public int getNotificationQueueDepth()
+    {
+        EventNotifier[] currentNotifiers = notifiers;
+        int depth = 0;
+        if(currentNotifiers != null) {
+            for(EventNotifier notifier : currentNotifiers) {
+                depth += notifier.notifications.size();
+            }
+        }
+        return depth;
+    }
     /**
      * Indicates that the given events have been received by the provider and should be sent to interested subscribers.
      *
@@ -373,9 +447,25 @@ public abstract class AbstractMarketDataProvider
         // TODO validation: make sure each event has the proper content and instrument (don't do this every time, just if the provider requests validation)
         // TODO validation: make sure each instrument has a mapping
         totalEvents += inEvents.length;
-        notifications.add(new EventNotification(inContent,
-                                                inInstrument,
-                                                inEvents));
+        EventNotifier[] currentNotifiers = notifiers;
+        if(currentNotifiers == null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Discarding {} for {} because the provider is not running", //$NON-NLS-1$
+                                   inContent,
+                                   inInstrument);
+            return;
+        }
+        // processing of these events begins here unless the publishing thread has already begun it
+        long checkpoint = CheckpointLatency.capture();
+        if(checkpoint == 0) {
+            checkpoint = CheckpointLatency.now();
+        }
+        // all events for the same instrument go to the same notifier to preserve their order
+        int lane = inInstrument == null || currentNotifiers.length == 1 ? 0 : (inInstrument.hashCode() & Integer.MAX_VALUE) % currentNotifiers.length;
+        currentNotifiers[lane].notifications.add(new EventNotification(inContent,
+                                                                       inInstrument,
+                                                                       checkpoint,
+                                                                       inEvents));
     }
     /**
      * Creates a link between the given symbol and the given instrument.
@@ -390,14 +480,15 @@ public abstract class AbstractMarketDataProvider
                                "Adding symbol mapping: {} -> {}",
                                inSymbol,
                                inInstrument);
+        Instrument instrument = InstrumentRegistry.getInstance().intern(inInstrument);
         Lock symbolMappingLock = marketdataLock.writeLock();
         try {
             symbolMappingLock.lockInterruptibly();
             instrumentsBySymbol.put(inSymbol,
-                                    inInstrument);
+                                    instrument);
             Collection<MarketDataRequestToken> tokens = requestsBySymbol.get(inSymbol);
             for(MarketDataRequestToken token : tokens) {
-                requestsByInstrument.put(inInstrument,
+                requestsByInstrument.put(instrument,
                                          token);
             }
         } catch (InterruptedException e) {
@@ -520,7 +611,7 @@ public abstract class AbstractMarketDataProvider
         return atoms;
     }
     /**
-     * Processes events returned by the provider and publishes them to interested subscribers.
+     * Processes events returned by the provider for a subset of instruments and publishes them to interested subscribers.
      *
      * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
      * @version $Id$
@@ -530,6 +621,15 @@ public abstract class AbstractMarketDataProvider
     private class EventNotifier
             implements Runnable, Lifecycle
     {
+        /**
+         * Create a new EventNotifier instance.
+         *
+         * @param inLane an <code>int</code> value identifying the subset of instruments this notifier processes
+         */
+        private EventNotifier(int inLane)
+        {
+            lane = inLane;
+        }
         /* (non-Javadoc)
          * @see java.lang.Runnable#run()
          */
@@ -543,48 +643,77 @@ public abstract class AbstractMarketDataProvider
                     EventNotification notification = notifications.take();
                     Event[] events = notification.events;
                     if(events != null) {
-                        // sort out where to apply these events. the key to the cached market data is the instrument
-                        Instrument eventInstrument = notification.instrument;
-                        // there is at least one event to process. let the market data cache process each event
-                        MarketdataCacheElement marketdataCache = cachedMarketdata.get(eventInstrument);
-                        if(marketdataCache == null) {
-                            marketdataCache = new MarketdataCacheElement(eventInstrument);
-                            cachedMarketdata.put(eventInstrument,
-                                                 marketdataCache);
-                        }
-                        // we now have the market data cache object to use - give it the incoming events
-                        Collection<Event> outgoingEvents = marketdataCache.update(notification.content,
-                                                                                  events);
-                        // find subscribers to this instrument
-                        requests.clear();
-                        Lock requestLock = marketdataLock.readLock();
+                        Timer.Context processTime = processTimer.time();
                         try {
-                            requestLock.lockInterruptibly();
-                            // defensive copy to avoid chance of CME if a cancel is called while the processing is ongoing
-                            requests.addAll(requestsByInstrument.get(eventInstrument));
-                        } finally {
-                            requestLock.unlock();
-                        }
-                        SLF4JLoggerProxy.trace("events.publishing",
-                                               "Publishing {} to {}",
-                                               outgoingEvents,
-                                               requests);
-                        long processedTimestamp = System.currentTimeMillis();
-                        for(MarketDataRequestToken requestToken : requests) {
-                            // for each subscriber, determine if the request contents justifies the update
-                            if(requestToken.getRequest().getContent().contains(notification.content)) {
+                            CheckpointLatency.resume(notification.checkpoint);
+                            CheckpointLatency.checkpoint(QUEUED_STAGE);
+                            // sort out where to apply these events. the key to the cached market data is the instrument
+                            Instrument eventInstrument = notification.instrument;
+                            // there is at least one event to process. let the market data cache process each event
+                            MarketdataCacheElement marketdataCache = cachedMarketdata.get(eventInstrument);
+                            if(marketdataCache == null) {
+                                // key the cache by the canonical instance so later lookups usually match by identity
+                                eventInstrument = InstrumentRegistry.getInstance().intern(eventInstrument);
+                                marketdataCache = new MarketdataCacheElement(eventInstrument);
+                                MarketdataCacheElement existingCache = cachedMarketdata.putIfAbsent(eventInstrument,
+                                                                                                    marketdataCache);
+                                if(existingCache != null) {
+                                    marketdataCache = existingCache;
+                                }
+                            }
+                            // we now have the market data cache object to use - give it the incoming events
+                            Collection<Event> outgoingEvents;
+                            synchronized(marketdataCache) {
+                                outgoingEvents = marketdataCache.update(notification.content,
+                                                                        events);
+                            }
+                            // find subscribers to this instrument
+                            requests.clear();
+                            Lock requestLock = marketdataLock.readLock();
+                            try {
+                                requestLock.lockInterruptibly();
+                                // defensive copy to avoid chance of CME if a cancel is called while the processing is ongoing
+                                requests.addAll(requestsByInstrument.get(eventInstrument));
+                            } finally {
+                                requestLock.unlock();
+                            }
+                            SLF4JLoggerProxy.trace("events.publishing",
+                                                   "Publishing {} to {}",
+                                                   outgoingEvents,
+                                                   requests);
+                            // the provider and processed timestamp are the same for every subscriber, so set them once before the
+                            //  events are handed to anyone
+                            long processedTimestamp = System.currentTimeMillis();
+                            String providerName = getProviderName();
+                            for(Event outgoingEvent : outgoingEvents) {
+                                if(outgoingEvent instanceof HasTimestamps) {
+                                    ((HasTimestamps)outgoingEvent).setProcessedTimestamp(processedTimestamp);
+                                }
+                                outgoingEvent.setProvider(providerName);
+                            }
+                            // every subscriber shares the same events, which are not changed from here on. subscribers that take
+                            //  envelopes read the request id from the envelope
+                            for(MarketDataRequestToken requestToken : requests) {
+                                ISubscriber subscriber = requestToken.getSubscriber();
+                                // for each subscriber, determine if the request contents justifies the update
+                                if(subscriber == null ||
+                                   !requestToken.getRequest().getContent().contains(notification.content)) {
+                                    continue;
+                                }
                                 // enclose the "publishTo" in a try/catch because we're ceding control to unknown code and
                                 //  we don't want a misbehaving subscriber to break the market data mechanism
                                 try {
+                                    boolean useEnvelope = subscriber instanceof MarketDataEnvelopeSubscriber;
                                     for(Event outgoingEvent : outgoingEvents) {
-                                        if(outgoingEvent instanceof HasTimestamps) {
-                                            ((HasTimestamps)outgoingEvent).setProcessedTimestamp(processedTimestamp);
-                                        }
-                                        outgoingEvent.setSource(requestToken.getId());
-                                        outgoingEvent.setProvider(getProviderName());
-                                        ISubscriber subscriber = requestToken.getSubscriber();
-                                        if(subscriber != null && subscriber.isInteresting(outgoingEvent)) {
-                                            subscriber.publishTo(outgoingEvent);
+                                        if(subscriber.isInteresting(outgoingEvent)) {
+                                            if(useEnvelope) {
+                                                subscriber.publishTo(new MarketDataEnvelope(outgoingEvent,
+                                                                                            requestToken.getId(),
+                                                                                            providerName,
+                                                                                            processedTimestamp));
+                                            } else {
+                                                subscriber.publishTo(outgoingEvent);
+                                            }
                                         }
                                     }
                                 } catch (Exception e) {
@@ -594,6 +723,10 @@ public abstract class AbstractMarketDataProvider
                                                                                                              requestToken.getSubscriber());
                                 }
                             }
+                            CheckpointLatency.checkpoint(NOTIFIED_STAGE);
+                        } finally {
+                            CheckpointLatency.end();
+                            processTime.stop();
                         }
                     }
                 }
@@ -614,9 +747,30 @@ public abstract class AbstractMarketDataProvider
             if(running.get()) {
                 return;
             }
+            queueDepthMetricName = MetricRegistry.name(AbstractMarketDataProvider.class,
+                                                       getProviderName(),
+                                                       "notifier", //$NON-NLS-1$
+                                                       String.valueOf(lane),
+                                                       "queueDepth"); //$NON-NLS-1$
+            processTimerMetricName = MetricRegistry.name(AbstractMarketDataProvider.class,
+                                                         getProviderName(),
+                                                         "notifier", //$NON-NLS-1$
+                                                         String.valueOf(lane),
+                                                         "processTimer"); //$NON-NLS-1$
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            metrics.remove(queueDepthMetricName);
+            metrics.register(queueDepthMetricName,
+                             new Gauge<Integer>() {
+                                 @Override
+                                 public Integer getValue()
+                                 {
+                                     return notifications.size();
+                                 }
+                             });
+            processTimer = metrics.timer(processTimerMetricName);
             keepAlive.set(true);
             thread = new Thread(this,
-                                "Market data notifier thread for " + getProviderName()); //$NON-NLS-1$
+                                "Market data notifier thread " + lane + " for " + getProviderName()); //$NON-NLS-1$ //$NON-NLS-2$
             thread.start();
         }
         /* (non-Javadoc)
@@ -636,6 +790,10 @@ public abstract class AbstractMarketDataProvider
                 } catch (InterruptedException ignored) {}
                 thread = null;
             }
+            notifications.clear();
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            metrics.remove(queueDepthMetricName);
+            metrics.remove(processTimerMetricName);
         }
         /* (non-Javadoc)
          * @see org.springframework.context.Lifecycle#isRunning()
@@ -657,6 +815,26 @@ public abstract class AbstractMarketDataProvider
          * notifier thread
          */
         private volatile Thread thread;
+        /**
+         * identifies the subset of instruments processed by this notifier
+         */
+        private final int lane;
+        /**
+         * notification collection that contains events to publish
+         */
+        private final BlockingDeque<EventNotification> notifications = new LinkedBlockingDeque<EventNotification>();
+        /**
+         * measures the time taken to process and publish each notification
+         */
+        private volatile Timer processTimer;
+        /**
+         * name of the queue depth metric
+         */
+        private String queueDepthMetricName;
+        /**
+         * name of the processing time metric
+         */
+        private String processTimerMetricName;
     }
     /**
      * Represents an event notification to be published.
@@ -682,15 +860,18 @@ public abstract class AbstractMarketDataProvider
          *
          * @param inContent a <code>Content</code> value
          * @param inInstrument an <code>Instrument</code> value
+         * @param inCheckpoint a <code>long</code> value containing the checkpoint state of the publishing thread
          * @param inEvents an <code>Event[]</code> value
          */
         private EventNotification(Content inContent,
                                   Instrument inInstrument,
+                                  long inCheckpoint,
                                   Event... inEvents)
         {
             events = inEvents;
             content = inContent;
             instrument = inInstrument;
+            checkpoint = inCheckpoint;
         }
         /**
          * content value
@@ -704,6 +885,10 @@ public abstract class AbstractMarketDataProvider
          * events to notify
          */
         private final Event[] events;
+        /**
+         * checkpoint state of the publishing thread
+         */
+        private final long checkpoint;
     }
     /**
      * feed status value
@@ -727,13 +912,13 @@ public abstract class AbstractMarketDataProvider
      */
     private volatile int totalEvents;
     /**
-     * notification collection that contains events to publish
+     * number of threads used to process and publish events
      */
-    private final BlockingDeque<EventNotification> notifications = new LinkedBlockingDeque<EventNotification>();
+    private volatile int notifierThreadCount = 1;
     /**
-     * processes events to be published and publishes them
+     * process events to be published and publish them, each for a subset of instruments
      */
-    private volatile EventNotifier notifier;
+    private volatile EventNotifier[] notifiers;
     /**
      * used to protect the market data collections
      */
@@ -759,14 +944,21 @@ public abstract class AbstractMarketDataProvider
     @GuardedBy("marketdataLock")
     private final Multimap<String,MarketDataRequestToken> requestsBySymbol = HashMultimap.create();
     /**
-     * tracks cached market data by the instrument
+     * tracks cached market data by the instrument, each element is updated only by the notifier that owns the instrument
      */
-    @GuardedBy("marketdataLock")
-    private final Map<Instrument,MarketdataCacheElement> cachedMarketdata = new HashMap<Instrument,MarketdataCacheElement>();
+    private final ConcurrentMap<Instrument,MarketdataCacheElement> cachedMarketdata = new ConcurrentHashMap<Instrument,MarketdataCacheElement>();
     /**
      * maps the capabilities needed to honor a request of a particular content type
      */
     private static final Map<Content,Capability> necessaryCapabilities;
+    /**
+     * latency from the publication of events to the start of their notification
+     */
+    private static final CheckpointLatency.Stage QUEUED_STAGE = CheckpointLatency.stage("mdata-provider-queued"); //$NON-NLS-1$
+    /**
+     * latency of notifying subscribers of events
+     */
+    private static final CheckpointLatency.Stage NOTIFIED_STAGE = CheckpointLatency.stage("mdata-provider-notified"); //$NON-NLS-1$
     /**
      * provides one-time initialization of static components
      */
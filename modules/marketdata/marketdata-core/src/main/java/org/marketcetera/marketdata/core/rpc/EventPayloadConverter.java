@@ -0,0 +1,784 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.xml.bind.JAXBException;
+
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.CurrencyEvent;
+import org.marketcetera.event.DepthOfBookEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.FutureEvent;
+import org.marketcetera.event.HasProviderSymbol;
+import org.marketcetera.event.HasUnderlyingInstrument;
+import org.marketcetera.event.MarketDataEvent;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.OptionEvent;
+import org.marketcetera.event.OptionMarketstatEvent;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.DepthOfBookEventBuilder;
+import org.marketcetera.event.impl.MarketstatEventBuilder;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.event.impl.TopOfBookEventBuilder;
+import org.marketcetera.event.impl.TradeEventBuilder;
+import org.marketcetera.marketdata.core.Messages;
+import org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind;
+import org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload;
+import org.marketcetera.options.ExpirationType;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.DeliveryType;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.FutureType;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.SecurityType;
+import org.marketcetera.trade.StandardType;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.collect.Lists;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/* $License$ */
+
+/**
+ * Converts market data events to and from the <code>EventPayload</code> message defined in <code>rpc_events.proto</code>.
+ *
+ * <p>Quotes, trades, marketstats, top-of-book, and depth-of-book events of equities, options, futures, and currencies
+ * are encoded field by field. Any other event, for example a dividend, an imbalance, or an event of a convertible bond,
+ * is carried as XML, produced and interpreted by the subclass.
+ *
+ * <p>This covers the market data service only. Reports still travel as XML over the trade client and strategy agent
+ * services.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public abstract class EventPayloadConverter
+{
+    /**
+     * Converts the given event to an <code>EventPayload</code> message.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return an <code>EventPayload</code> value
+     * @throws JAXBException if the event has no native encoding and could not be marshalled
+     */
+    public EventPayload toPayload(Event inEvent)
+            throws JAXBException
+    {
+        if(!hasNativeEncoding(inEvent)) {
+            return EventPayload.newBuilder().setKind(EventKind.XML_EVENT).setXml(marshal(inEvent)).build();
+        }
+        return toNativePayload(inEvent);
+    }
+    /**
+     * Creates an event from the given <code>EventPayload</code> message.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>Event</code> value
+     * @throws IOException if the message is missing a field the event requires
+     * @throws JAXBException if the message holds XML which could not be unmarshalled
+     */
+    public Event fromPayload(EventPayload inPayload)
+            throws IOException, JAXBException
+    {
+        switch(inPayload.getKind()) {
+            case BID:
+            case ASK:
+                return createQuote(inPayload);
+            case TRADE:
+                return createTrade(inPayload);
+            case MARKETSTAT:
+                return createMarketstat(inPayload);
+            case TOP_OF_BOOK_EVENT:
+                return createTopOfBook(inPayload);
+            case DEPTH_OF_BOOK_EVENT:
+                return createDepthOfBook(inPayload);
+            case XML_EVENT:
+                if(!inPayload.hasXml()) {
+                    throw new InvalidProtocolBufferException(Messages.MISSING_EVENT_PAYLOAD_FIELD.getText(EventPayload.XML_FIELD_NUMBER));
+                }
+                return unmarshal(inPayload.getXml());
+            default:
+                throw new InvalidProtocolBufferException(Messages.UNKNOWN_EVENT_PAYLOAD_KIND.getText(inPayload.getKind()));
+        }
+    }
+    /**
+     * Marshals the given event to XML.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>String</code> value
+     * @throws JAXBException if the event could not be marshalled
+     */
+    protected abstract String marshal(Event inEvent)
+            throws JAXBException;
+    /**
+     * Unmarshals an event from the given XML.
+     *
+     * @param inXml a <code>String</code> value
+     * @return an <code>Event</code> value
+     * @throws JAXBException if the event could not be unmarshalled
+     */
+    protected abstract Event unmarshal(String inXml)
+            throws JAXBException;
+    /**
+     * Indicates if the given event can be encoded field by field.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>boolean</code> value
+     */
+    private static boolean hasNativeEncoding(Event inEvent)
+    {
+        Instrument instrument;
+        if(inEvent instanceof BidEvent || inEvent instanceof AskEvent || inEvent instanceof TradeEvent) {
+            instrument = ((MarketDataEvent)inEvent).getInstrument();
+        } else if(inEvent instanceof MarketstatEvent) {
+            instrument = ((MarketstatEvent)inEvent).getInstrument();
+        } else if(inEvent instanceof TopOfBookEvent) {
+            TopOfBookEvent topOfBook = (TopOfBookEvent)inEvent;
+            return hasNativeEncoding(topOfBook.getInstrument()) &&
+                   (topOfBook.getBid() == null || hasNativeEncoding(topOfBook.getBid())) &&
+                   (topOfBook.getAsk() == null || hasNativeEncoding(topOfBook.getAsk()));
+        } else if(inEvent instanceof DepthOfBookEvent) {
+            DepthOfBookEvent depthOfBook = (DepthOfBookEvent)inEvent;
+            return hasNativeEncoding(depthOfBook.getInstrument()) &&
+                   allHaveNativeEncoding(depthOfBook.getBids()) &&
+                   allHaveNativeEncoding(depthOfBook.getAsks());
+        } else {
+            return false;
+        }
+        if(!hasNativeEncoding(instrument)) {
+            return false;
+        }
+        if(inEvent instanceof HasUnderlyingInstrument) {
+            Instrument underlyingInstrument = ((HasUnderlyingInstrument)inEvent).getUnderlyingInstrument();
+            return underlyingInstrument == null || hasNativeEncoding(underlyingInstrument);
+        }
+        return true;
+    }
+    /**
+     * Indicates if all the given events can be encoded field by field.
+     *
+     * @param inEvents a <code>List&lt;? extends Event&gt;</code> value
+     * @return a <code>boolean</code> value
+     */
+    private static boolean allHaveNativeEncoding(List<? extends Event> inEvents)
+    {
+        for(Event event : inEvents) {
+            if(!hasNativeEncoding(event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    /**
+     * Indicates if the given instrument can be encoded field by field.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>boolean</code> value
+     */
+    private static boolean hasNativeEncoding(Instrument inInstrument)
+    {
+        return inInstrument instanceof Equity || inInstrument instanceof Option || inInstrument instanceof Future || inInstrument instanceof Currency;
+    }
+    /**
+     * Encodes the given event field by field.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return an <code>EventPayload</code> value
+     */
+    private static EventPayload toNativePayload(Event inEvent)
+    {
+        EventPayload.Builder builder = EventPayload.newBuilder();
+        builder.setMessageId(inEvent.getMessageId());
+        if(inEvent.getTimestamp() != null) {
+            builder.setTimestamp(inEvent.getTimestamp().getTime());
+        }
+        if(inEvent.getProvider() != null) {
+            builder.setProvider(inEvent.getProvider());
+        }
+        builder.setRequestId(inEvent.getRequestId());
+        if(inEvent instanceof TopOfBookEvent) {
+            TopOfBookEvent topOfBook = (TopOfBookEvent)inEvent;
+            builder.setKind(EventKind.TOP_OF_BOOK_EVENT)
+                   .setInstrument(toInstrument(topOfBook.getInstrument()));
+            if(topOfBook.getBid() != null) {
+                builder.addBids(toNativePayload(topOfBook.getBid()));
+            }
+            if(topOfBook.getAsk() != null) {
+                builder.addAsks(toNativePayload(topOfBook.getAsk()));
+            }
+            return builder.build();
+        }
+        if(inEvent instanceof DepthOfBookEvent) {
+            DepthOfBookEvent depthOfBook = (DepthOfBookEvent)inEvent;
+            builder.setKind(EventKind.DEPTH_OF_BOOK_EVENT)
+                   .setInstrument(toInstrument(depthOfBook.getInstrument()));
+            for(BidEvent bid : depthOfBook.getBids()) {
+                builder.addBids(toNativePayload(bid));
+            }
+            for(AskEvent ask : depthOfBook.getAsks()) {
+                builder.addAsks(toNativePayload(ask));
+            }
+            return builder.build();
+        }
+        if(inEvent instanceof MarketDataEvent) {
+            MarketDataEvent marketDataEvent = (MarketDataEvent)inEvent;
+            if(inEvent instanceof BidEvent) {
+                builder.setKind(EventKind.BID);
+            } else if(inEvent instanceof AskEvent) {
+                builder.setKind(EventKind.ASK);
+            } else {
+                builder.setKind(EventKind.TRADE);
+            }
+            builder.setInstrument(toInstrument(marketDataEvent.getInstrument()));
+            if(marketDataEvent.getEventType() != null) {
+                builder.setEventType(toEventType(marketDataEvent.getEventType()));
+            }
+            if(marketDataEvent.getExchange() != null) {
+                builder.setExchange(marketDataEvent.getExchange());
+            }
+            if(marketDataEvent.getPrice() != null) {
+                builder.setPrice(toDecimal(marketDataEvent.getPrice()));
+            }
+            if(marketDataEvent.getSize() != null) {
+                builder.setSize(toDecimal(marketDataEvent.getSize()));
+            }
+            if(marketDataEvent.getExchangeTimestamp() != null) {
+                builder.setExchangeTimestamp(marketDataEvent.getExchangeTimestamp().getTime());
+            }
+            builder.setReceivedTimestamp(marketDataEvent.getReceivedTimestamp())
+                   .setProcessedTimestamp(marketDataEvent.getProcessedTimestamp());
+            if(inEvent instanceof QuoteEvent) {
+                QuoteEvent quote = (QuoteEvent)inEvent;
+                if(quote.getAction() != null) {
+                    builder.setAction(RpcEvents.QuoteAction.valueOf(quote.getAction().ordinal() + 1));
+                }
+                builder.setLevel(quote.getLevel())
+                       .setCount(quote.getCount())
+                       .setEmpty(quote.isEmpty());
+            } else if(((TradeEvent)inEvent).getTradeCondition() != null) {
+                builder.setTradeCondition(((TradeEvent)inEvent).getTradeCondition());
+            }
+        } else {
+            MarketstatEvent marketstat = (MarketstatEvent)inEvent;
+            builder.setKind(EventKind.MARKETSTAT)
+                   .setInstrument(toInstrument(marketstat.getInstrument()));
+            if(marketstat.getEventType() != null) {
+                builder.setEventType(toEventType(marketstat.getEventType()));
+            }
+            if(marketstat.getOpen() != null) {
+                builder.setOpenPrice(toDecimal(marketstat.getOpen()));
+            }
+            if(marketstat.getHigh() != null) {
+                builder.setHighPrice(toDecimal(marketstat.getHigh()));
+            }
+            if(marketstat.getLow() != null) {
+                builder.setLowPrice(toDecimal(marketstat.getLow()));
+            }
+            if(marketstat.getClose() != null) {
+                builder.setClosePrice(toDecimal(marketstat.getClose()));
+            }
+            if(marketstat.getPreviousClose() != null) {
+                builder.setPreviousClosePrice(toDecimal(marketstat.getPreviousClose()));
+            }
+            if(marketstat.getVolume() != null) {
+                builder.setVolume(toDecimal(marketstat.getVolume()));
+            }
+            if(marketstat.getValue() != null) {
+                builder.setValue(toDecimal(marketstat.getValue()));
+            }
+            if(marketstat.getCloseDate() != null) {
+                builder.setCloseDate(marketstat.getCloseDate());
+            }
+            if(marketstat.getPreviousCloseDate() != null) {
+                builder.setPreviousCloseDate(marketstat.getPreviousCloseDate());
+            }
+            if(marketstat.getTradeHighTime() != null) {
+                builder.setTradeHighTime(marketstat.getTradeHighTime());
+            }
+            if(marketstat.getTradeLowTime() != null) {
+                builder.setTradeLowTime(marketstat.getTradeLowTime());
+            }
+            if(marketstat.getOpenExchange() != null) {
+                builder.setOpenExchange(marketstat.getOpenExchange());
+            }
+            if(marketstat.getHighExchange() != null) {
+                builder.setHighExchange(marketstat.getHighExchange());
+            }
+            if(marketstat.getLowExchange() != null) {
+                builder.setLowExchange(marketstat.getLowExchange());
+            }
+            if(marketstat.getCloseExchange() != null) {
+                builder.setCloseExchange(marketstat.getCloseExchange());
+            }
+            if(inEvent instanceof OptionMarketstatEvent) {
+                OptionMarketstatEvent optionMarketstat = (OptionMarketstatEvent)inEvent;
+                if(optionMarketstat.getVolumeChange() != null) {
+                    builder.setVolumeChange(toDecimal(optionMarketstat.getVolumeChange()));
+                }
+                if(optionMarketstat.getInterestChange() != null) {
+                    builder.setInterestChange(toDecimal(optionMarketstat.getInterestChange()));
+                }
+            }
+        }
+        if(inEvent instanceof OptionEvent) {
+            OptionEvent optionEvent = (OptionEvent)inEvent;
+            if(optionEvent.getUnderlyingInstrument() != null) {
+                builder.setUnderlyingInstrument(toInstrument(optionEvent.getUnderlyingInstrument()));
+            }
+            if(optionEvent.getExpirationType() != null) {
+                builder.setExpirationType(optionEvent.getExpirationType().name());
+            }
+            if(optionEvent.getMultiplier() != null) {
+                builder.setMultiplier(toDecimal(optionEvent.getMultiplier()));
+            }
+            builder.setHasDeliverable(optionEvent.hasDeliverable());
+        }
+        if(inEvent instanceof HasProviderSymbol && ((HasProviderSymbol)inEvent).getProviderSymbol() != null) {
+            builder.setProviderSymbol(((HasProviderSymbol)inEvent).getProviderSymbol());
+        }
+        if(inEvent instanceof FutureEvent) {
+            FutureEvent futureEvent = (FutureEvent)inEvent;
+            if(futureEvent.getType() != null) {
+                builder.setFutureType(futureEvent.getType().name());
+            }
+            if(futureEvent.getDeliveryType() != null) {
+                builder.setDeliveryType(futureEvent.getDeliveryType().name());
+            }
+            if(futureEvent.getStandardType() != null) {
+                builder.setStandardType(futureEvent.getStandardType().name());
+            }
+            builder.setContractSize(futureEvent.getContractSize());
+        } else if(inEvent instanceof CurrencyEvent) {
+            CurrencyEvent currencyEvent = (CurrencyEvent)inEvent;
+            if(currencyEvent.getDeliveryType() != null) {
+                builder.setDeliveryType(currencyEvent.getDeliveryType().name());
+            }
+            builder.setContractSize(currencyEvent.getContractSize());
+        }
+        return builder.build();
+    }
+    /**
+     * Creates a quote from the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>QuoteEvent</code> value
+     * @throws IOException if the payload is missing a field the event requires
+     */
+    private static QuoteEvent createQuote(EventPayload inPayload)
+            throws IOException
+    {
+        Instrument instrument = getInstrument(inPayload);
+        QuoteEventBuilder<? extends QuoteEvent> builder;
+        if(inPayload.getKind() == EventKind.BID) {
+            builder = QuoteEventBuilder.bidEvent(instrument);
+        } else {
+            builder = QuoteEventBuilder.askEvent(instrument);
+        }
+        builder.withMessageId(inPayload.getMessageId())
+               .withTimestamp(getTimestamp(inPayload))
+               .withProvider(getString(inPayload.hasProvider(),inPayload.getProvider()))
+               .withExchange(getString(inPayload.hasExchange(),inPayload.getExchange()))
+               .withPrice(fromDecimal(inPayload.hasPrice(),inPayload.getPrice()))
+               .withSize(fromDecimal(inPayload.hasSize(),inPayload.getSize()))
+               .withQuoteDate(getExchangeTimestamp(inPayload))
+               .withReceivedTimestamp(inPayload.getReceivedTimestamp())
+               .withProcessedTimestamp(inPayload.getProcessedTimestamp())
+               .withAction(inPayload.hasAction() ? QUOTE_ACTIONS[inPayload.getAction().getNumber() - 1] : null)
+               .withLevel(inPayload.getLevel())
+               .withCount(inPayload.getCount())
+               .isEmpty(inPayload.getEmpty())
+               .withEventType(getEventType(inPayload))
+               .withUnderlyingInstrument(getUnderlyingInstrument(inPayload))
+               .withExpirationType(inPayload.hasExpirationType() ? ExpirationType.valueOf(inPayload.getExpirationType()) : null)
+               .withMultiplier(fromDecimal(inPayload.hasMultiplier(),inPayload.getMultiplier()))
+               .hasDeliverable(inPayload.getHasDeliverable())
+               .withProviderSymbol(getString(inPayload.hasProviderSymbol(),inPayload.getProviderSymbol()))
+               .withFutureType(inPayload.hasFutureType() ? FutureType.valueOf(inPayload.getFutureType()) : null)
+               .withDeliveryType(inPayload.hasDeliveryType() ? DeliveryType.valueOf(inPayload.getDeliveryType()) : null)
+               .withStandardType(inPayload.hasStandardType() ? StandardType.valueOf(inPayload.getStandardType()) : null)
+               .withContractSize(getContractSize(inPayload));
+        QuoteEvent quote = builder.create();
+        quote.setRequestId(inPayload.getRequestId());
+        return quote;
+    }
+    /**
+     * Creates a trade from the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>TradeEvent</code> value
+     * @throws IOException if the payload is missing a field the event requires
+     */
+    private static TradeEvent createTrade(EventPayload inPayload)
+            throws IOException
+    {
+        TradeEvent trade = TradeEventBuilder.tradeEvent(getInstrument(inPayload))
+                .withMessageId(inPayload.getMessageId())
+                .withTimestamp(getTimestamp(inPayload))
+                .withProvider(getString(inPayload.hasProvider(),inPayload.getProvider()))
+                .withExchange(getString(inPayload.hasExchange(),inPayload.getExchange()))
+                .withPrice(fromDecimal(inPayload.hasPrice(),inPayload.getPrice()))
+                .withSize(fromDecimal(inPayload.hasSize(),inPayload.getSize()))
+                .withTradeDate(getExchangeTimestamp(inPayload))
+                .withReceivedTimestamp(inPayload.getReceivedTimestamp())
+                .withProcessedTimestamp(inPayload.getProcessedTimestamp())
+                .withTradeCondition(getString(inPayload.hasTradeCondition(),inPayload.getTradeCondition()))
+                .withEventType(getEventType(inPayload))
+                .withUnderlyingInstrument(getUnderlyingInstrument(inPayload))
+                .withExpirationType(inPayload.hasExpirationType() ? ExpirationType.valueOf(inPayload.getExpirationType()) : null)
+                .withMultiplier(fromDecimal(inPayload.hasMultiplier(),inPayload.getMultiplier()))
+                .hasDeliverable(inPayload.getHasDeliverable())
+                .withProviderSymbol(getString(inPayload.hasProviderSymbol(),inPayload.getProviderSymbol()))
+                .withFutureType(inPayload.hasFutureType() ? FutureType.valueOf(inPayload.getFutureType()) : null)
+                .withDeliveryType(inPayload.hasDeliveryType() ? DeliveryType.valueOf(inPayload.getDeliveryType()) : null)
+                .withStandardType(inPayload.hasStandardType() ? StandardType.valueOf(inPayload.getStandardType()) : null)
+                .withContractSize(getContractSize(inPayload)).create();
+        trade.setRequestId(inPayload.getRequestId());
+        return trade;
+    }
+    /**
+     * Creates a marketstat from the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>MarketstatEvent</code> value
+     * @throws IOException if the payload is missing a field the event requires
+     */
+    private static MarketstatEvent createMarketstat(EventPayload inPayload)
+            throws IOException
+    {
+        MarketstatEvent marketstat = MarketstatEventBuilder.marketstat(getInstrument(inPayload))
+                .withMessageId(inPayload.getMessageId())
+                .withTimestamp(getTimestamp(inPayload))
+                .withProvider(getString(inPayload.hasProvider(),inPayload.getProvider()))
+                .withOpenPrice(fromDecimal(inPayload.hasOpenPrice(),inPayload.getOpenPrice()))
+                .withHighPrice(fromDecimal(inPayload.hasHighPrice(),inPayload.getHighPrice()))
+                .withLowPrice(fromDecimal(inPayload.hasLowPrice(),inPayload.getLowPrice()))
+                .withClosePrice(fromDecimal(inPayload.hasClosePrice(),inPayload.getClosePrice()))
+                .withPreviousClosePrice(fromDecimal(inPayload.hasPreviousClosePrice(),inPayload.getPreviousClosePrice()))
+                .withVolume(fromDecimal(inPayload.hasVolume(),inPayload.getVolume()))
+                .withValue(fromDecimal(inPayload.hasValue(),inPayload.getValue()))
+                .withCloseDate(getString(inPayload.hasCloseDate(),inPayload.getCloseDate()))
+                .withPreviousCloseDate(getString(inPayload.hasPreviousCloseDate(),inPayload.getPreviousCloseDate()))
+                .withTradeHighTime(getString(inPayload.hasTradeHighTime(),inPayload.getTradeHighTime()))
+                .withTradeLowTime(getString(inPayload.hasTradeLowTime(),inPayload.getTradeLowTime()))
+                .withOpenExchange(getString(inPayload.hasOpenExchange(),inPayload.getOpenExchange()))
+                .withHighExchange(getString(inPayload.hasHighExchange(),inPayload.getHighExchange()))
+                .withLowExchange(getString(inPayload.hasLowExchange(),inPayload.getLowExchange()))
+                .withCloseExchange(getString(inPayload.hasCloseExchange(),inPayload.getCloseExchange()))
+                .withVolumeChange(fromDecimal(inPayload.hasVolumeChange(),inPayload.getVolumeChange()))
+                .withInterestChange(fromDecimal(inPayload.hasInterestChange(),inPayload.getInterestChange()))
+                .withEventType(getEventType(inPayload))
+                .withUnderlyingInstrument(getUnderlyingInstrument(inPayload))
+                .withExpirationType(inPayload.hasExpirationType() ? ExpirationType.valueOf(inPayload.getExpirationType()) : null)
+                .withMultiplier(fromDecimal(inPayload.hasMultiplier(),inPayload.getMultiplier()))
+                .hasDeliverable(inPayload.getHasDeliverable())
+                .withProviderSymbol(getString(inPayload.hasProviderSymbol(),inPayload.getProviderSymbol()))
+                .withFutureType(inPayload.hasFutureType() ? FutureType.valueOf(inPayload.getFutureType()) : null)
+                .withDeliveryType(inPayload.hasDeliveryType() ? DeliveryType.valueOf(inPayload.getDeliveryType()) : null)
+                .withStandardType(inPayload.hasStandardType() ? StandardType.valueOf(inPayload.getStandardType()) : null)
+                .withContractSize(getContractSize(inPayload)).create();
+        marketstat.setRequestId(inPayload.getRequestId());
+        return marketstat;
+    }
+    /**
+     * Creates a top-of-book event from the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>TopOfBookEvent</code> value
+     * @throws IOException if the payload is missing a field the event requires
+     */
+    private static TopOfBookEvent createTopOfBook(EventPayload inPayload)
+            throws IOException
+    {
+        TopOfBookEventBuilder builder = TopOfBookEventBuilder.topOfBookEvent()
+                .withMessageId(inPayload.getMessageId())
+                .withTimestamp(getTimestamp(inPayload))
+                .withInstrument(getInstrument(inPayload));
+        if(inPayload.getBidsCount() > 0) {
+            builder.withBid((BidEvent)createQuote(inPayload.getBids(0)));
+        }
+        if(inPayload.getAsksCount() > 0) {
+            builder.withAsk((AskEvent)createQuote(inPayload.getAsks(0)));
+        }
+        TopOfBookEvent topOfBook = builder.create();
+        topOfBook.setRequestId(inPayload.getRequestId());
+        return topOfBook;
+    }
+    /**
+     * Creates a depth-of-book event from the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>DepthOfBookEvent</code> value
+     * @throws IOException if the payload is missing a field the event requires
+     */
+    private static DepthOfBookEvent createDepthOfBook(EventPayload inPayload)
+            throws IOException
+    {
+        List<BidEvent> bids = Lists.newArrayListWithCapacity(inPayload.getBidsCount());
+        for(EventPayload bid : inPayload.getBidsList()) {
+            bids.add((BidEvent)createQuote(bid));
+        }
+        List<AskEvent> asks = Lists.newArrayListWithCapacity(inPayload.getAsksCount());
+        for(EventPayload ask : inPayload.getAsksList()) {
+            asks.add((AskEvent)createQuote(ask));
+        }
+        DepthOfBookEvent depthOfBook = DepthOfBookEventBuilder.depthOfBook()
+                .withMessageId(inPayload.getMessageId())
+                .withTimestamp(getTimestamp(inPayload))
+                .withInstrument(getInstrument(inPayload))
+                .withBids(bids)
+                .withAsks(asks).create();
+        depthOfBook.setRequestId(inPayload.getRequestId());
+        return depthOfBook;
+    }
+    /**
+     * Converts the given instrument to an <code>Instrument</code> message.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>RpcEvents.Instrument</code> value
+     */
+    private static RpcEvents.Instrument toInstrument(Instrument inInstrument)
+    {
+        RpcEvents.Instrument.Builder builder = RpcEvents.Instrument.newBuilder().setSecurityType(inInstrument.getSecurityType().name());
+        if(inInstrument instanceof Equity) {
+            Equity equity = (Equity)inInstrument;
+            builder.setSymbol(equity.getSymbol());
+            if(equity.getSymbolSfx() != null) {
+                builder.setSymbolSuffix(equity.getSymbolSfx());
+            }
+        } else if(inInstrument instanceof Option) {
+            Option option = (Option)inInstrument;
+            builder.setSymbol(option.getSymbol())
+                   .setExpiry(option.getExpiry())
+                   .setStrikePrice(toDecimal(option.getStrikePrice()))
+                   .setOptionType(option.getType().name());
+        } else if(inInstrument instanceof Future) {
+            Future future = (Future)inInstrument;
+            StringBuilder expiry = new StringBuilder(8).append(future.getExpirationYear()).append(future.getExpirationMonth().getMonthOfYear());
+            if(future.getExpirationDay() != -1) {
+                if(future.getExpirationDay() < 10) {
+                    expiry.append('0');
+                }
+                expiry.append(future.getExpirationDay());
+            }
+            builder.setSymbol(future.getSymbol())
+                   .setExpiry(expiry.toString());
+        } else {
+            Currency currency = (Currency)inInstrument;
+            if(currency.getLeftCCY() != null) {
+                builder.setLeftCurrency(currency.getLeftCCY());
+            }
+            if(currency.getRightCCY() != null) {
+                builder.setRightCurrency(currency.getRightCCY());
+            }
+            if(currency.getNearTenor() != null) {
+                builder.setNearTenor(currency.getNearTenor());
+            }
+            if(currency.getFarTenor() != null) {
+                builder.setFarTenor(currency.getFarTenor());
+            }
+            if(currency.getTradedCCY() != null) {
+                builder.setTradedCurrency(currency.getTradedCCY());
+            }
+        }
+        return builder.build();
+    }
+    /**
+     * Gets the instrument of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>Instrument</code> value
+     * @throws IOException if the payload has no instrument or the instrument is not supported
+     */
+    private static Instrument getInstrument(EventPayload inPayload)
+            throws IOException
+    {
+        if(!inPayload.hasInstrument()) {
+            throw new InvalidProtocolBufferException(Messages.MISSING_EVENT_PAYLOAD_FIELD.getText(EventPayload.INSTRUMENT_FIELD_NUMBER));
+        }
+        return fromInstrument(inPayload.getInstrument());
+    }
+    /**
+     * Creates an instrument from the given <code>Instrument</code> message.
+     *
+     * @param inInstrument an <code>RpcEvents.Instrument</code> value
+     * @return an <code>Instrument</code> value
+     * @throws IOException if the instrument is not supported
+     */
+    private static Instrument fromInstrument(RpcEvents.Instrument inInstrument)
+            throws IOException
+    {
+        String securityType = inInstrument.getSecurityType();
+        switch(SecurityType.valueOf(securityType)) {
+            case CommonStock:
+                return new Equity(inInstrument.getSymbol(),
+                                  inInstrument.hasSymbolSuffix() ? inInstrument.getSymbolSuffix() : null);
+            case Option:
+                return new Option(inInstrument.getSymbol(),
+                                  inInstrument.getExpiry(),
+                                  fromDecimal(inInstrument.getStrikePrice()),
+                                  OptionType.valueOf(inInstrument.getOptionType()));
+            case Future:
+                return new Future(inInstrument.getSymbol(),
+                                  inInstrument.getExpiry());
+            case Currency:
+                String tradedCurrency = inInstrument.hasTradedCurrency() ? inInstrument.getTradedCurrency() : null;
+                if(!inInstrument.hasNearTenor() && !inInstrument.hasFarTenor()) {
+                    Currency currency = new Currency(inInstrument.getLeftCurrency() + "/" + inInstrument.getRightCurrency()); //$NON-NLS-1$
+                    if(tradedCurrency != null) {
+                        currency.setTradedCCY(tradedCurrency);
+                    }
+                    return currency;
+                }
+                return new Currency(inInstrument.getLeftCurrency(),
+                                    inInstrument.getRightCurrency(),
+                                    inInstrument.hasNearTenor() ? inInstrument.getNearTenor() : null,
+                                    inInstrument.hasFarTenor() ? inInstrument.getFarTenor() : null,
+                                    tradedCurrency == null ? inInstrument.getLeftCurrency() : tradedCurrency);
+            default:
+                throw new InvalidProtocolBufferException(Messages.UNSUPPORTED_PAYLOAD_SECURITY_TYPE.getText(securityType));
+        }
+    }
+    /**
+     * Converts the given value to a <code>Decimal</code> message.
+     *
+     * @param inValue a <code>BigDecimal</code> value
+     * @return an <code>RpcEvents.Decimal</code> value
+     */
+    private static RpcEvents.Decimal toDecimal(BigDecimal inValue)
+    {
+        RpcEvents.Decimal.Builder builder = RpcEvents.Decimal.newBuilder().setScale(inValue.scale());
+        BigInteger unscaledValue = inValue.unscaledValue();
+        if(unscaledValue.bitLength() < 64) {
+            builder.setUnscaledValue(unscaledValue.longValue());
+        } else {
+            builder.setUnscaledBytes(ByteString.copyFrom(unscaledValue.toByteArray()));
+        }
+        return builder.build();
+    }
+    /**
+     * Creates a value from the given <code>Decimal</code> message.
+     *
+     * @param inValue an <code>RpcEvents.Decimal</code> value
+     * @return a <code>BigDecimal</code> value
+     */
+    private static BigDecimal fromDecimal(RpcEvents.Decimal inValue)
+    {
+        if(inValue.hasUnscaledBytes()) {
+            return new BigDecimal(new BigInteger(inValue.getUnscaledBytes().toByteArray()),
+                                  inValue.getScale());
+        }
+        return BigDecimal.valueOf(inValue.getUnscaledValue(),
+                                  inValue.getScale());
+    }
+    /**
+     * Creates a value from the given optional <code>Decimal</code> field.
+     *
+     * @param inHasValue a <code>boolean</code> value indicating if the field is set
+     * @param inValue an <code>RpcEvents.Decimal</code> value
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the field is not set
+     */
+    private static BigDecimal fromDecimal(boolean inHasValue,
+                                          RpcEvents.Decimal inValue)
+    {
+        return inHasValue ? fromDecimal(inValue) : null;
+    }
+    /**
+     * Gets the timestamp of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>Date</code> value or <code>null</code> if the payload has no timestamp
+     */
+    private static Date getTimestamp(EventPayload inPayload)
+    {
+        return inPayload.hasTimestamp() ? new Date(inPayload.getTimestamp()) : null;
+    }
+    /**
+     * Gets the exchange timestamp of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return a <code>Date</code> value or <code>null</code> if the payload has no exchange timestamp
+     */
+    private static Date getExchangeTimestamp(EventPayload inPayload)
+    {
+        return inPayload.hasExchangeTimestamp() ? new Date(inPayload.getExchangeTimestamp()) : null;
+    }
+    /**
+     * Gets the value of the given optional string field.
+     *
+     * @param inHasValue a <code>boolean</code> value indicating if the field is set
+     * @param inValue a <code>String</code> value
+     * @return a <code>String</code> value or <code>null</code> if the field is not set
+     */
+    private static String getString(boolean inHasValue,
+                                    String inValue)
+    {
+        return inHasValue ? inValue : null;
+    }
+    /**
+     * Gets the underlying instrument of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>Instrument</code> value or <code>null</code> if the payload has no underlying instrument
+     * @throws IOException if the underlying instrument is not supported
+     */
+    private static Instrument getUnderlyingInstrument(EventPayload inPayload)
+            throws IOException
+    {
+        return inPayload.hasUnderlyingInstrument() ? fromInstrument(inPayload.getUnderlyingInstrument()) : null;
+    }
+    /**
+     * Gets the event type of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>EventType</code> value or <code>null</code> if the payload has no event type
+     */
+    private static EventType getEventType(EventPayload inPayload)
+    {
+        return inPayload.hasEventType() ? EVENT_TYPES[inPayload.getEventType().getNumber() - 1] : null;
+    }
+    /**
+     * Gets the contract size of the given payload.
+     *
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>int</code> value
+     */
+    private static int getContractSize(EventPayload inPayload)
+    {
+        return inPayload.hasContractSize() ? inPayload.getContractSize() : 1;
+    }
+    /**
+     * Converts the given event type to its <code>EventType</code> value.
+     *
+     * @param inEventType an <code>EventType</code> value
+     * @return an <code>RpcEvents.EventType</code> value
+     */
+    private static RpcEvents.EventType toEventType(EventType inEventType)
+    {
+        return RpcEvents.EventType.valueOf(inEventType.ordinal() + 1);
+    }
+    /**
+     * event types in wire number order
+     */
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    /**
+     * quote actions in wire number order
+     */
+    private static final QuoteAction[] QUOTE_ACTIONS = QuoteAction.values();
+}
@@ -0,0 +1,44 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import java.util.List;
+
+import org.marketcetera.event.Event;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Carries batches of events for a streaming market data subscription to the client that requested it.
+ *
+ * <p>The service provider does not send the next batch for a subscription until the stream has accepted
+ * enough of the previous batches. Events that arrive in the meantime are held and may be coalesced.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public interface MarketDataEventStream
+{
+    /**
+     * Sends the given events to the client.
+     *
+     * <p>The given callback must be run exactly once when the batch has been delivered or could not
+     * be delivered. It may be run by the calling thread or by another thread.
+     *
+     * @param inRequestId a <code>long</code> value
+     * @param inEvents a <code>List&lt;Event&gt;</code> value
+     * @param inOnComplete a <code>Runnable</code> value
+     */
+    void send(long inRequestId,
+              List<Event> inEvents,
+              Runnable inOnComplete);
+    /**
+     * Indicates if the client can still be reached.
+     *
+     * <p>Subscriptions whose stream is no longer open are canceled.
+     *
+     * @return a <code>boolean</code> value
+     */
+    boolean isOpen();
+}
@@ -6,8 +6,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
@@ -25,8 +24,6 @@ import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.marketcetera.core.ApplicationVersion;
 import org.marketcetera.core.CloseableLock;
@@ -51,11 +48,13 @@ import org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataService.B
 import org.marketcetera.marketdata.core.webservice.ConnectionException;
 import org.marketcetera.marketdata.core.webservice.MarketDataServiceClient;
 import org.marketcetera.marketdata.core.webservice.PageRequest;
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.I18NBoundMessage1P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.ContextClassProvider;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.tags.AppId;
 import org.marketcetera.util.ws.tags.NodeId;
 import org.marketcetera.util.ws.tags.SessionId;
@@ -63,6 +62,7 @@ import org.marketcetera.util.ws.tags.SessionId;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.protobuf.RpcCallback;
 import com.google.protobuf.RpcController;
 import com.google.protobuf.ServiceException;
 import com.googlecode.protobuf.pro.duplex.PeerInfo;
@@ -115,11 +115,9 @@ public class MarketDataRpcClient
     {
         shutdownRequested.set(false);
         try {
-            synchronized(contextLock) {
-                context = JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses());
-                marshaller = context.createMarshaller();
-                unmarshaller = context.createUnmarshaller();
-            }
+            marshallerPool = new MarshallerPool(JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses()));
+            MarshallerPoolMetrics.register(MarketDataRpcClient.class.getSimpleName(),
+                                           marshallerPool);
             startService();
             heartbeatFuture = heartbeatService.scheduleAtFixedRate(new HeartbeatMonitor(),
                                                                    heartbeatInterval,
@@ -183,6 +181,70 @@ public class MarketDataRpcClient
             throw new ConnectionException(e);
         }
     }
+    /**
+     * Requests market data to be pushed to the given listener as it arrives.
+     *
+     * <p>The server sends events in batches as soon as they are available instead of holding
+     * them for {@link #getEvents(long)}. The subscription lasts until it is canceled with
+     * {@link #cancel(long)} or the connection is lost.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inListener a <code>MarketDataStreamListener</code> value
+     * @return a <code>long</code> value
+     */
+    public long request(MarketDataRequest inRequest,
+                        MarketDataStreamListener inListener)
+    {
+        SLF4JLoggerProxy.debug(this,
+                               "MarketDataRequest (push): {}", //$NON-NLS-1$
+                               inRequest);
+        try(CloseableLock requestLock = CloseableLock.create(serviceLock.readLock())) {
+            requestLock.lock();
+            synchronized(streamListeners) {
+                streamRequestsInFlight += 1;
+            }
+            long requestId = -1;
+            try {
+                RpcMarketdata.MarketDataResponse response = clientService.request(controller,
+                                                                                  RpcMarketdata.MarketDataRequest.newBuilder().setSessionId(sessionId.getValue())
+                                                                                      .setRequest(inRequest.toString())
+                                                                                      .setStreamEvents(false)
+                                                                                      .setPushEvents(true).build());
+                SLF4JLoggerProxy.debug(this,
+                                       "MarketDataResponse: {}", //$NON-NLS-1$
+                                       response.getId());
+                validateResponse(response.getFailed(),
+                                 response.getMessage());
+                requestId = response.getId();
+                return requestId;
+            } finally {
+                PushedStream stream = null;
+                synchronized(streamListeners) {
+                    streamRequestsInFlight -= 1;
+                    if(requestId != -1) {
+                        stream = new PushedStream(inListener);
+                        streamListeners.put(requestId,
+                                            stream);
+                        // batches may be pushed before the response to the request arrives
+                        List<List<Event>> earlyBatches = unclaimedBatches.remove(requestId);
+                        if(earlyBatches != null) {
+                            stream.pending.addAll(earlyBatches);
+                        }
+                        stream.delivering = true;
+                    }
+                    if(streamRequestsInFlight == 0) {
+                        unclaimedBatches.clear();
+                    }
+                }
+                if(stream != null) {
+                    deliver(requestId,
+                            stream);
+                }
+            }
+        } catch (ServiceException e) {
+            throw new ConnectionException(e);
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.webservice.MarketDataServiceClient#getLastUpdate(long)
      */
@@ -214,6 +276,9 @@ public class MarketDataRpcClient
         SLF4JLoggerProxy.debug(this,
                                "Cancel: {}", //$NON-NLS-1$
                                inRequestId);
+        synchronized(streamListeners) {
+            streamListeners.remove(inRequestId);
+        }
         try(CloseableLock requestLock = CloseableLock.create(serviceLock.readLock())) {
             requestLock.lock();
             RpcMarketdata.CancelResponse response = clientService.cancel(controller,
@@ -242,14 +307,15 @@ public class MarketDataRpcClient
                                                                             RpcMarketdata.EventsRequest.newBuilder().setSessionId(sessionId.getValue())
                                                                                 .setId(inRequestId).build());
             Deque<Event> events = Lists.newLinkedList();
-            for(String payload : response.getPayloadList()) {
-                events.add((Event)unmarshall(payload));
-            }
+            addEvents(response.getPayloadList(),
+                      response.getNativePayloadList(),
+                      inRequestId,
+                      events);
             SLF4JLoggerProxy.debug(this,
                                    "GetEventsResponse: {}", //$NON-NLS-1$
                                    events);
             return events;
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | IOException e) {
             throw new ConnectionException(e);
         }
     }
@@ -270,9 +336,10 @@ public class MarketDataRpcClient
             Map<Long,LinkedList<Event>> events = Maps.newHashMap();
             for(RpcMarketdata.EventsResponse eventResponse : response.getEventsList()) {
                 LinkedList<Event> eventList = new LinkedList<>();
-                for(String payload : eventResponse.getPayloadList()) {
-                    eventList.add((Event)unmarshall(payload));
-                }
+                addEvents(eventResponse.getPayloadList(),
+                          eventResponse.getNativePayloadList(),
+                          eventResponse.getId(),
+                          eventList);
                 events.put(eventResponse.getId(),
                            eventList);
             }
@@ -280,7 +347,7 @@ public class MarketDataRpcClient
                                    "GetAllEventsResponse: {}", //$NON-NLS-1$
                                    events);
             return events;
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | IOException e) {
             throw new ConnectionException(e);
         }
     }
@@ -308,14 +375,14 @@ public class MarketDataRpcClient
             RpcMarketdata.SnapshotResponse response = clientService.getSnapshot(controller,
                                                                                 requestBuilder.build());
             Deque<Event> events = Lists.newLinkedList();
-            for(String payload : response.getPayloadList()) {
-                events.add((Event)unmarshall(payload));
-            }
+            addEvents(response.getPayloadList(),
+                      response.getNativePayloadList(),
+                      events);
             SLF4JLoggerProxy.debug(this,
                                    "GetSnapshotResponse: {}", //$NON-NLS-1$
                                    events);
             return events;
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | IOException e) {
             throw new ConnectionException(e);
         }
     }
@@ -346,14 +413,14 @@ public class MarketDataRpcClient
             RpcMarketdata.SnapshotPageResponse response = clientService.getSnapshotPage(controller,
                                                                                         requestBuilder.build());
             Deque<Event> events = Lists.newLinkedList();
-            for(String payload : response.getPayloadList()) {
-                events.add((Event)unmarshall(payload));
-            }
+            addEvents(response.getPayloadList(),
+                      response.getNativePayloadList(),
+                      events);
             SLF4JLoggerProxy.debug(this,
                                    "GetSnapshotPageResponse: {}", //$NON-NLS-1$
                                    events);
             return events;
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | IOException e) {
             throw new ConnectionException(e);
         }
     }
@@ -446,12 +513,7 @@ public class MarketDataRpcClient
     private String marshall(Object inObject)
             throws JAXBException
     {
-        StringWriter output = new StringWriter();
-        synchronized(contextLock) {
-            marshaller.marshal(inObject,
-                               output);
-        }
-        return output.toString();
+        return marshallerPool.marshal(inObject);
     }
     /**
      * Unmarshals an object from the given XML stream.
@@ -460,12 +522,146 @@ public class MarketDataRpcClient
      * @return a <code>Clazz</code> value
      * @throws JAXBException if an error occurs unmarshalling the data
      */
-    @SuppressWarnings("unchecked")
     private <Clazz> Clazz unmarshall(String inData)
             throws JAXBException
     {
-        synchronized(contextLock) {
-            return (Clazz)unmarshaller.unmarshal(new StringReader(inData));
+        return marshallerPool.unmarshal(inData);
+    }
+    /**
+     * Decodes the given payloads and adds the events to the given collection.
+     *
+     * <p>A server sends events natively encoded if the client asked for it at login, and as XML otherwise.
+     *
+     * @param inXmlPayloads a <code>List&lt;String&gt;</code> value
+     * @param inNativePayloads a <code>List&lt;RpcEvents.EventPayload&gt;</code> value
+     * @param outEvents a <code>Collection&lt;Event&gt;</code> value
+     * @throws JAXBException if an error occurs unmarshalling the data
+     * @throws IOException if a natively encoded event is malformed
+     */
+    private void addEvents(List<String> inXmlPayloads,
+                           List<RpcEvents.EventPayload> inNativePayloads,
+                           Collection<Event> outEvents)
+            throws JAXBException, IOException
+    {
+        for(String payload : inXmlPayloads) {
+            outEvents.add((Event)unmarshall(payload));
+        }
+        for(RpcEvents.EventPayload payload : inNativePayloads) {
+            outEvents.add(payloadConverter.fromPayload(payload));
+        }
+    }
+    /**
+     * Decodes the given payloads of a market data request and adds the events to the given collection.
+     *
+     * <p>The source of each event is the id of the request, as it is for events delivered in the server.
+     * The server shares one event between the requests it is delivered for and so does not send the source.
+     *
+     * @param inXmlPayloads a <code>List&lt;String&gt;</code> value
+     * @param inNativePayloads a <code>List&lt;RpcEvents.EventPayload&gt;</code> value
+     * @param inRequestId a <code>long</code> value
+     * @param outEvents a <code>Collection&lt;Event&gt;</code> value
+     * @throws JAXBException if an error occurs unmarshalling the data
+     * @throws IOException if a natively encoded event is malformed
+     */
+    private void addEvents(List<String> inXmlPayloads,
+                           List<RpcEvents.EventPayload> inNativePayloads,
+                           long inRequestId,
+                           Collection<Event> outEvents)
+            throws JAXBException, IOException
+    {
+        Long source = inRequestId;
+        for(String payload : inXmlPayloads) {
+            Event event = unmarshall(payload);
+            event.setSource(source);
+            outEvents.add(event);
+        }
+        for(RpcEvents.EventPayload payload : inNativePayloads) {
+            Event event = payloadConverter.fromPayload(payload);
+            event.setSource(source);
+            outEvents.add(event);
+        }
+    }
+    /**
+     * Passes a batch of events pushed by the server to the listener for its request.
+     *
+     * @param inBatch an <code>RpcMarketdata.EventsResponse</code> value
+     */
+    private void receiveEvents(RpcMarketdata.EventsResponse inBatch)
+    {
+        long requestId = inBatch.getId();
+        List<Event> events = Lists.newArrayListWithCapacity(inBatch.getPayloadCount() + inBatch.getNativePayloadCount());
+        try {
+            addEvents(inBatch.getPayloadList(),
+                      inBatch.getNativePayloadList(),
+                      requestId,
+                      events);
+        } catch (JAXBException | IOException e) {
+            SLF4JLoggerProxy.warn(this,
+                                  e,
+                                  "Discarding events pushed for {}", //$NON-NLS-1$
+                                  requestId);
+            return;
+        }
+        PushedStream stream;
+        synchronized(streamListeners) {
+            stream = streamListeners.get(requestId);
+            if(stream != null) {
+                stream.pending.add(events);
+                if(stream.delivering) {
+                    // the thread already delivering to this listener will pick up the batch
+                    return;
+                }
+                stream.delivering = true;
+            } else if(streamRequestsInFlight > 0) {
+                List<List<Event>> batches = unclaimedBatches.get(requestId);
+                if(batches == null) {
+                    batches = Lists.newArrayList();
+                    unclaimedBatches.put(requestId,
+                                         batches);
+                }
+                batches.add(events);
+            } else {
+                SLF4JLoggerProxy.debug(this,
+                                       "Discarding events pushed for canceled request {}", //$NON-NLS-1$
+                                       requestId);
+            }
+        }
+        if(stream != null) {
+            deliver(requestId,
+                    stream);
+        }
+    }
+    /**
+     * Passes the pending batches of the given stream to its listener in the order they were pushed.
+     *
+     * <p>The caller must have marked the stream as delivering. The listener is called without holding
+     * the lock on the stream listeners so a slow listener does not hold up other subscriptions.
+     *
+     * @param inRequestId a <code>long</code> value
+     * @param inStream a <code>PushedStream</code> value
+     */
+    private void deliver(long inRequestId,
+                         PushedStream inStream)
+    {
+        while(true) {
+            List<Event> batch;
+            synchronized(streamListeners) {
+                batch = inStream.pending.poll();
+                if(batch == null || streamListeners.get(inRequestId) != inStream) {
+                    inStream.pending.clear();
+                    inStream.delivering = false;
+                    return;
+                }
+            }
+            try {
+                inStream.listener.receiveEvents(inRequestId,
+                                                batch);
+            } catch (RuntimeException e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e,
+                                      "Listener for {} could not process pushed events", //$NON-NLS-1$
+                                      inRequestId);
+            }
         }
     }
     /**
@@ -558,10 +754,18 @@ public class MarketDataRpcClient
             clientFactory.setRpcLogger(logger);
             channel = clientFactory.peerWith(server,
                                              bootstrap);
+            channel.setOobMessageCallback(RpcMarketdata.EventsResponse.getDefaultInstance(),
+                                          new RpcCallback<RpcMarketdata.EventsResponse>() {
+                @Override
+                public void run(RpcMarketdata.EventsResponse inBatch)
+                {
+                    receiveEvents(inBatch);
+                }
+            });
             clientService = RpcMarketDataService.newBlockingStub(channel);
             controller = channel.newRpcController();
             java.util.Locale currentLocale = java.util.Locale.getDefault();
-            LoginRequest loginRequest = LoginRequest.newBuilder()
+            LoginRequest.Builder loginRequestBuilder = LoginRequest.newBuilder()
                     .setAppId(APP_ID.getValue())
                     .setVersionId(APP_ID_VERSION.getVersionInfo())
                     .setClientId(NodeId.generate().getValue())
@@ -570,10 +774,13 @@ public class MarketDataRpcClient
                                .setLanguage(currentLocale.getLanguage()==null?"":currentLocale.getLanguage()) //$NON-NLS-1$
                                .setVariant(currentLocale.getVariant()==null?"":currentLocale.getVariant()).build()) //$NON-NLS-1$
                                .setUsername(username)
-                               .setPassword(new String(password)).build();
+                               .setPassword(new String(password));
             LoginResponse loginResponse = clientService.login(controller,
-                                                              loginRequest);
+                                                              loginRequestBuilder.setPayloadFormat(RpcEvents.PayloadFormat.PROTOBUF).build());
             sessionId = new SessionId(loginResponse.getSessionId());
+            SLF4JLoggerProxy.debug(this,
+                                   "Server {} native event payloads", //$NON-NLS-1$
+                                   loginResponse.getPayloadFormat() == RpcEvents.PayloadFormat.PROTOBUF ? "accepted" : "declined"); //$NON-NLS-1$ //$NON-NLS-2$
             setServerStatus(true);
         }
     }
@@ -632,6 +839,40 @@ public class MarketDataRpcClient
             }
         }
     }
+    /**
+     * Holds the listener for a push request and the batches waiting to be passed to it.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ClassVersion("$Id$")
+    private static class PushedStream
+    {
+        /**
+         * Create a new PushedStream instance.
+         *
+         * @param inListener a <code>MarketDataStreamListener</code> value
+         */
+        private PushedStream(MarketDataStreamListener inListener)
+        {
+            listener = inListener;
+        }
+        /**
+         * receives the pushed events
+         */
+        private final MarketDataStreamListener listener;
+        /**
+         * batches not yet passed to the listener
+         */
+        @GuardedBy("streamListeners")
+        private final Deque<List<Event>> pending = Lists.newLinkedList();
+        /**
+         * indicates if a thread is passing batches to the listener
+         */
+        @GuardedBy("streamListeners")
+        private boolean delivering;
+    }
     /**
      * indicates that a shutdown has been requested
      */
@@ -653,6 +894,21 @@ public class MarketDataRpcClient
      * publishes notifications of connection status changes
      */
     private final PublisherEngine publisher = new PublisherEngine(true);
+    /**
+     * listeners for pushed events by request id
+     */
+    @GuardedBy("streamListeners")
+    private final Map<Long,PushedStream> streamListeners = Maps.newHashMap();
+    /**
+     * batches pushed for requests whose response has not yet been received
+     */
+    @GuardedBy("streamListeners")
+    private final Map<Long,List<List<Event>>> unclaimedBatches = Maps.newHashMap();
+    /**
+     * number of push requests waiting for a response
+     */
+    @GuardedBy("streamListeners")
+    private int streamRequestsInFlight;
     /**
      * indicates if the connection is up and running or not
      */
@@ -702,24 +958,26 @@ public class MarketDataRpcClient
      */
     private SessionId sessionId;
     /**
-     * guards access to JAXB context objects
-     */
-    private final Object contextLock = new Object();
-    /**
-     * context used to serialize and unserialize messages as necessary
-     */
-    @GuardedBy("contextLock")
-    private JAXBContext context;
-    /**
-     * marshals messages
+     * marshals and unmarshals messages as necessary
      */
-    @GuardedBy("contextLock")
-    private Marshaller marshaller;
+    private volatile MarshallerPool marshallerPool;
     /**
-     * unmarshals messages
+     * decodes natively encoded events, falling back to the client unmarshaller
      */
-    @GuardedBy("contextLock")
-    private Unmarshaller unmarshaller;
+    private final EventPayloadConverter payloadConverter = new EventPayloadConverter() {
+        @Override
+        protected String marshal(Event inEvent)
+                throws JAXBException
+        {
+            return marshall(inEvent);
+        }
+        @Override
+        protected Event unmarshal(String inXml)
+                throws JAXBException
+        {
+            return unmarshall(inXml);
+        }
+    };
     /**
      * interval at which to execute heartbeats
      */
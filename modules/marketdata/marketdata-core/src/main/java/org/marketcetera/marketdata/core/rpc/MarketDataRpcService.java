@@ -1,10 +1,16 @@
 package org.marketcetera.marketdata.core.rpc;
 
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.PostConstruct;
 import javax.xml.bind.JAXBException;
@@ -38,17 +44,22 @@ import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageResponse;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotRequest;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotResponse;
 import org.marketcetera.marketdata.core.webservice.PageRequest;
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.rpc.RpcCredentials;
+import org.marketcetera.util.rpc.RpcServer;
 import org.marketcetera.util.rpc.RpcServerServices;
 import org.marketcetera.util.rpc.RpcServiceSpec;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.tags.SessionId;
 
 import com.google.protobuf.BlockingService;
 import com.google.protobuf.RpcController;
 import com.google.protobuf.ServiceException;
+import com.googlecode.protobuf.pro.duplex.RpcClientChannel;
+import com.googlecode.protobuf.pro.duplex.execute.ServerRpcController;
 
 /* $License$ */
 
@@ -85,6 +96,10 @@ public class MarketDataRpcService<SessionClazz>
                                                                           new Locale(inRequest.getLocale().getLanguage(),
                                                                                      inRequest.getLocale().getCountry(),
                                                                                      inRequest.getLocale().getVariant())));
+            if(inRequest.hasPayloadFormat() && inRequest.getPayloadFormat() == RpcEvents.PayloadFormat.PROTOBUF) {
+                nativePayloadSessions.add(sessionId.getValue());
+                responseBuilder.setPayloadFormat(RpcEvents.PayloadFormat.PROTOBUF);
+            }
             return responseBuilder.setSessionId(sessionId.getValue()).build();
         } catch (Exception e) {
             SLF4JLoggerProxy.warn(this,
@@ -106,6 +121,7 @@ public class MarketDataRpcService<SessionClazz>
                                inRequest.getSessionId());
         RpcMarketdata.LogoutResponse.Builder responseBuilder = RpcMarketdata.LogoutResponse.newBuilder();
         try {
+            nativePayloadSessions.remove(inRequest.getSessionId());
             serverServices.logout(inRequest.getSessionId());
             return responseBuilder.build();
         } catch (Exception e) {
@@ -138,7 +154,13 @@ public class MarketDataRpcService<SessionClazz>
         RpcMarketdata.MarketDataResponse.Builder responseBuilder = RpcMarketdata.MarketDataResponse.newBuilder();
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
-            return responseBuilder.setId(serviceAdapter.request(org.marketcetera.marketdata.MarketDataRequestBuilder.newRequestFromString(inRequest.getRequest()),
+            org.marketcetera.marketdata.MarketDataRequest request = org.marketcetera.marketdata.MarketDataRequestBuilder.newRequestFromString(inRequest.getRequest());
+            if(inRequest.getPushEvents()) {
+                return responseBuilder.setId(serviceAdapter.request(request,
+                                                                    new ChannelEventStream(ServerRpcController.getRpcChannel(inController),
+                                                                                           nativePayloadSessions.contains(inRequest.getSessionId())))).build();
+            }
+            return responseBuilder.setId(serviceAdapter.request(request,
                                                                 inRequest.getStreamEvents())).build();
         } catch (Exception e) {
             return responseBuilder.setFailed(true).setId(-1).setMessage(ExceptionUtils.getRootCauseMessage(e)).build();
@@ -190,6 +212,12 @@ public class MarketDataRpcService<SessionClazz>
             serverServices.validateAndReturnSession(inRequest.getSessionId());
             Deque<Event> events = serviceAdapter.getEvents(inRequest.getId());
             responseBuilder.setId(inRequest.getId());
+            if(nativePayloadSessions.contains(inRequest.getSessionId())) {
+                for(Event event : events) {
+                    responseBuilder.addNativePayload(payloadConverter.toPayload(event));
+                }
+                return responseBuilder.build();
+            }
             for(Event event : events) {
                 responseBuilder.addPayload(serverServices.marshal(event));
             }
@@ -210,10 +238,17 @@ public class MarketDataRpcService<SessionClazz>
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
             Map<Long,LinkedList<Event>> events = serviceAdapter.getAllEvents(inRequest.getIdList());
+            boolean nativePayloads = nativePayloadSessions.contains(inRequest.getSessionId());
             for(Map.Entry<Long,LinkedList<Event>> entry : events.entrySet()) {
                 RpcMarketdata.EventsResponse.Builder entryBuilder = RpcMarketdata.EventsResponse.newBuilder().setId(entry.getKey());
-                for(Event event : entry.getValue()) {
-                    entryBuilder.addPayload(serverServices.marshal(event));
+                if(nativePayloads) {
+                    for(Event event : entry.getValue()) {
+                        entryBuilder.addNativePayload(payloadConverter.toPayload(event));
+                    }
+                } else {
+                    for(Event event : entry.getValue()) {
+                        entryBuilder.addPayload(serverServices.marshal(event));
+                    }
                 }
                 responseBuilder.addEvents(entryBuilder.build());
             }
@@ -242,6 +277,12 @@ public class MarketDataRpcService<SessionClazz>
             Deque<Event> events = serviceAdapter.getSnapshot(instrument,
                                                              content,
                                                              provider);
+            if(nativePayloadSessions.contains(inRequest.getSessionId())) {
+                for(Event event : events) {
+                    responseBuilder.addNativePayload(payloadConverter.toPayload(event));
+                }
+                return responseBuilder.build();
+            }
             for(Event event : events) {
                 responseBuilder.addPayload(serverServices.marshal(event));
             }
@@ -272,6 +313,12 @@ public class MarketDataRpcService<SessionClazz>
                                                                  provider,
                                                                  new PageRequest(inRequest.getPage().getPage(),
                                                                                  inRequest.getPage().getSize()));
+            if(nativePayloadSessions.contains(inRequest.getSessionId())) {
+                for(Event event : events) {
+                    responseBuilder.addNativePayload(payloadConverter.toPayload(event));
+                }
+                return responseBuilder.build();
+            }
             for(Event event : events) {
                 responseBuilder.addPayload(serverServices.marshal(event));
             }
@@ -323,6 +370,13 @@ public class MarketDataRpcService<SessionClazz>
     public void setRpcServerServices(RpcServerServices<SessionClazz> inServerServices)
     {
         serverServices = inServerServices;
+        if(inServerServices instanceof RpcServer) {
+            MarshallerPool marshallerPool = ((RpcServer<?>)inServerServices).getMarshallerPool();
+            if(marshallerPool != null) {
+                MarshallerPoolMetrics.register(RpcServer.class.getSimpleName(),
+                                               marshallerPool);
+            }
+        }
     }
     /**
      * Validates this object.
@@ -352,6 +406,95 @@ public class MarketDataRpcService<SessionClazz>
     {
         serviceAdapter = inServiceAdapter;
     }
+    /**
+     * Pushes event batches to a client as out-of-band messages on its RPC channel.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ClassVersion("$Id$")
+    private class ChannelEventStream
+            implements MarketDataEventStream
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.rpc.MarketDataEventStream#send(long, java.util.List, java.lang.Runnable)
+         */
+        @Override
+        public void send(final long inRequestId,
+                         List<Event> inEvents,
+                         final Runnable inOnComplete)
+        {
+            RpcMarketdata.EventsResponse.Builder batchBuilder = RpcMarketdata.EventsResponse.newBuilder().setId(inRequestId);
+            try {
+                if(nativePayloads) {
+                    for(Event event : inEvents) {
+                        batchBuilder.addNativePayload(payloadConverter.toPayload(event));
+                    }
+                } else {
+                    for(Event event : inEvents) {
+                        batchBuilder.addPayload(serverServices.marshal(event));
+                    }
+                }
+            } catch (JAXBException e) {
+                SLF4JLoggerProxy.warn(MarketDataRpcService.this,
+                                      e,
+                                      "{} could not marshal events for {}", //$NON-NLS-1$
+                                      DESCRIPTION,
+                                      inRequestId);
+                inOnComplete.run();
+                return;
+            }
+            channel.sendOobMessage(batchBuilder.build()).addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture inFuture)
+                        throws Exception
+                {
+                    try {
+                        if(!inFuture.isSuccess()) {
+                            SLF4JLoggerProxy.warn(MarketDataRpcService.this,
+                                                  inFuture.cause(),
+                                                  "{} could not push events to {}, canceling {}", //$NON-NLS-1$
+                                                  DESCRIPTION,
+                                                  channel.getPeerInfo(),
+                                                  inRequestId);
+                            serviceAdapter.cancel(inRequestId);
+                        }
+                    } finally {
+                        inOnComplete.run();
+                    }
+                }
+            });
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.rpc.MarketDataEventStream#isOpen()
+         */
+        @Override
+        public boolean isOpen()
+        {
+            return channel.getPipeline().channel().isOpen();
+        }
+        /**
+         * Create a new ChannelEventStream instance.
+         *
+         * @param inChannel an <code>RpcClientChannel</code> value
+         * @param inNativePayloads a <code>boolean</code> value
+         */
+        private ChannelEventStream(RpcClientChannel inChannel,
+                                   boolean inNativePayloads)
+        {
+            channel = inChannel;
+            nativePayloads = inNativePayloads;
+        }
+        /**
+         * channel to the client which requested the events
+         */
+        private final RpcClientChannel channel;
+        /**
+         * indicates if the client accepts events in their native encoding
+         */
+        private final boolean nativePayloads;
+    }
     /**
      * provides a link to the service provider for market data services
      */
@@ -360,6 +503,27 @@ public class MarketDataRpcService<SessionClazz>
      * provides RPC Server services
      */
     private RpcServerServices<SessionClazz> serverServices;
+    /**
+     * sessions which receive events in their native encoding
+     */
+    private final Set<String> nativePayloadSessions = Collections.newSetFromMap(new ConcurrentHashMap<String,Boolean>());
+    /**
+     * encodes events natively, falling back to the server marshaller
+     */
+    private final EventPayloadConverter payloadConverter = new EventPayloadConverter() {
+        @Override
+        protected String marshal(Event inEvent)
+                throws JAXBException
+        {
+            return serverServices.marshal(inEvent);
+        }
+        @Override
+        protected Event unmarshal(String inXml)
+                throws JAXBException
+        {
+            return serverServices.unmarshall(inXml);
+        }
+    };
     /**
      * description of the service
      */
@@ -35,6 +35,17 @@ public interface MarketDataServiceAdapter
      */
     long request(MarketDataRequest inRequest,
                  boolean inStreamEvents);
+    /**
+     * Requests the given market data, pushing events to the given stream as they arrive.
+     *
+     * <p>Events for the request are not queued for {@link #getEvents(long)}.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inStream a <code>MarketDataEventStream</code> value
+     * @return a <code>long</code> value
+     */
+    long request(MarketDataRequest inRequest,
+                 MarketDataEventStream inStream);
     /**
      * Gets the timestamp of the most recent update for the given request.
      *
@@ -0,0 +1,31 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import java.util.List;
+
+import org.marketcetera.event.Event;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Receives the events pushed by the server for a streaming market data subscription.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ClassVersion("$Id$")
+public interface MarketDataStreamListener
+{
+    /**
+     * Receives a batch of events for the given request.
+     *
+     * <p>Batches are delivered on the connection's I/O thread in the order in which they were sent.
+     * Implementations should hand off any lengthy processing.
+     *
+     * @param inRequestId a <code>long</code> value
+     * @param inEvents a <code>List&lt;Event&gt;</code> value
+     */
+    void receiveEvents(long inRequestId,
+                       List<Event> inEvents);
+}
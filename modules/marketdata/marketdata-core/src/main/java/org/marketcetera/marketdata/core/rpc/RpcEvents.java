@@ -0,0 +1,11385 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: rpc_events.proto
+
+package org.marketcetera.marketdata.core.rpc;
+
+@SuppressWarnings("unused")
+public final class RpcEvents {
+  private RpcEvents() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  /**
+   * Protobuf enum {@code RpcEvents.PayloadFormat}
+   */
+  public enum PayloadFormat
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>XML = 1;</code>
+     */
+    XML(0, 1),
+    /**
+     * <code>PROTOBUF = 2;</code>
+     */
+    PROTOBUF(1, 2),
+    ;
+
+    /**
+     * <code>XML = 1;</code>
+     */
+    public static final int XML_VALUE = 1;
+    /**
+     * <code>PROTOBUF = 2;</code>
+     */
+    public static final int PROTOBUF_VALUE = 2;
+
+
+    public final int getNumber() { return value; }
+
+    public static PayloadFormat valueOf(int value) {
+      switch (value) {
+        case 1: return XML;
+        case 2: return PROTOBUF;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>() {
+            public PayloadFormat findValueByNumber(int number) {
+              return PayloadFormat.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final PayloadFormat[] VALUES = values();
+
+    public static PayloadFormat valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private PayloadFormat(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RpcEvents.PayloadFormat)
+  }
+
+  /**
+   * Protobuf enum {@code RpcEvents.EventKind}
+   */
+  public enum EventKind
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>BID = 1;</code>
+     */
+    BID(0, 1),
+    /**
+     * <code>ASK = 2;</code>
+     */
+    ASK(1, 2),
+    /**
+     * <code>TRADE = 3;</code>
+     */
+    TRADE(2, 3),
+    /**
+     * <code>MARKETSTAT = 4;</code>
+     */
+    MARKETSTAT(3, 4),
+    /**
+     * <code>XML_EVENT = 5;</code>
+     *
+     * <pre>
+     * an event with no native encoding, carried as JAXB XML
+     * </pre>
+     */
+    XML_EVENT(4, 5),
+    /**
+     * <code>TOP_OF_BOOK_EVENT = 6;</code>
+     */
+    TOP_OF_BOOK_EVENT(5, 6),
+    /**
+     * <code>DEPTH_OF_BOOK_EVENT = 7;</code>
+     */
+    DEPTH_OF_BOOK_EVENT(6, 7),
+    ;
+
+    /**
+     * <code>BID = 1;</code>
+     */
+    public static final int BID_VALUE = 1;
+    /**
+     * <code>ASK = 2;</code>
+     */
+    public static final int ASK_VALUE = 2;
+    /**
+     * <code>TRADE = 3;</code>
+     */
+    public static final int TRADE_VALUE = 3;
+    /**
+     * <code>MARKETSTAT = 4;</code>
+     */
+    public static final int MARKETSTAT_VALUE = 4;
+    /**
+     * <code>XML_EVENT = 5;</code>
+     *
+     * <pre>
+     * an event with no native encoding, carried as JAXB XML
+     * </pre>
+     */
+    public static final int XML_EVENT_VALUE = 5;
+    /**
+     * <code>TOP_OF_BOOK_EVENT = 6;</code>
+     */
+    public static final int TOP_OF_BOOK_EVENT_VALUE = 6;
+    /**
+     * <code>DEPTH_OF_BOOK_EVENT = 7;</code>
+     */
+    public static final int DEPTH_OF_BOOK_EVENT_VALUE = 7;
+
+
+    public final int getNumber() { return value; }
+
+    public static EventKind valueOf(int value) {
+      switch (value) {
+        case 1: return BID;
+        case 2: return ASK;
+        case 3: return TRADE;
+        case 4: return MARKETSTAT;
+        case 5: return XML_EVENT;
+        case 6: return TOP_OF_BOOK_EVENT;
+        case 7: return DEPTH_OF_BOOK_EVENT;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EventKind>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<EventKind>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EventKind>() {
+            public EventKind findValueByNumber(int number) {
+              return EventKind.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final EventKind[] VALUES = values();
+
+    public static EventKind valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private EventKind(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RpcEvents.EventKind)
+  }
+
+  /**
+   * Protobuf enum {@code RpcEvents.EventType}
+   */
+  public enum EventType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>SNAPSHOT_PART = 1;</code>
+     */
+    SNAPSHOT_PART(0, 1),
+    /**
+     * <code>SNAPSHOT_FINAL = 2;</code>
+     */
+    SNAPSHOT_FINAL(1, 2),
+    /**
+     * <code>UPDATE_PART = 3;</code>
+     */
+    UPDATE_PART(2, 3),
+    /**
+     * <code>UPDATE_FINAL = 4;</code>
+     */
+    UPDATE_FINAL(3, 4),
+    /**
+     * <code>UNKNOWN = 5;</code>
+     */
+    UNKNOWN(4, 5),
+    ;
+
+    /**
+     * <code>SNAPSHOT_PART = 1;</code>
+     */
+    public static final int SNAPSHOT_PART_VALUE = 1;
+    /**
+     * <code>SNAPSHOT_FINAL = 2;</code>
+     */
+    public static final int SNAPSHOT_FINAL_VALUE = 2;
+    /**
+     * <code>UPDATE_PART = 3;</code>
+     */
+    public static final int UPDATE_PART_VALUE = 3;
+    /**
+     * <code>UPDATE_FINAL = 4;</code>
+     */
+    public static final int UPDATE_FINAL_VALUE = 4;
+    /**
+     * <code>UNKNOWN = 5;</code>
+     */
+    public static final int UNKNOWN_VALUE = 5;
+
+
+    public final int getNumber() { return value; }
+
+    public static EventType valueOf(int value) {
+      switch (value) {
+        case 1: return SNAPSHOT_PART;
+        case 2: return SNAPSHOT_FINAL;
+        case 3: return UPDATE_PART;
+        case 4: return UPDATE_FINAL;
+        case 5: return UNKNOWN;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EventType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<EventType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EventType>() {
+            public EventType findValueByNumber(int number) {
+              return EventType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor().getEnumTypes().get(2);
+    }
+
+    private static final EventType[] VALUES = values();
+
+    public static EventType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private EventType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RpcEvents.EventType)
+  }
+
+  /**
+   * Protobuf enum {@code RpcEvents.QuoteAction}
+   */
+  public enum QuoteAction
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ADD = 1;</code>
+     */
+    ADD(0, 1),
+    /**
+     * <code>CHANGE = 2;</code>
+     */
+    CHANGE(1, 2),
+    /**
+     * <code>DELETE = 3;</code>
+     */
+    DELETE(2, 3),
+    ;
+
+    /**
+     * <code>ADD = 1;</code>
+     */
+    public static final int ADD_VALUE = 1;
+    /**
+     * <code>CHANGE = 2;</code>
+     */
+    public static final int CHANGE_VALUE = 2;
+    /**
+     * <code>DELETE = 3;</code>
+     */
+    public static final int DELETE_VALUE = 3;
+
+
+    public final int getNumber() { return value; }
+
+    public static QuoteAction valueOf(int value) {
+      switch (value) {
+        case 1: return ADD;
+        case 2: return CHANGE;
+        case 3: return DELETE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<QuoteAction>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<QuoteAction>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<QuoteAction>() {
+            public QuoteAction findValueByNumber(int number) {
+              return QuoteAction.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor().getEnumTypes().get(3);
+    }
+
+    private static final QuoteAction[] VALUES = values();
+
+    public static QuoteAction valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private QuoteAction(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:RpcEvents.QuoteAction)
+  }
+
+  public interface DecimalOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RpcEvents.Decimal)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional sint64 unscaledValue = 1;</code>
+     */
+    boolean hasUnscaledValue();
+    /**
+     * <code>optional sint64 unscaledValue = 1;</code>
+     */
+    long getUnscaledValue();
+
+    /**
+     * <code>optional sint32 scale = 2;</code>
+     */
+    boolean hasScale();
+    /**
+     * <code>optional sint32 scale = 2;</code>
+     */
+    int getScale();
+
+    /**
+     * <code>optional bytes unscaledBytes = 3;</code>
+     */
+    boolean hasUnscaledBytes();
+    /**
+     * <code>optional bytes unscaledBytes = 3;</code>
+     */
+    com.google.protobuf.ByteString getUnscaledBytes();
+  }
+  /**
+   * Protobuf type {@code RpcEvents.Decimal}
+   *
+   * <pre>
+   * BigDecimal: unscaledValue when it fits in 64 bits, otherwise unscaledBytes in two's complement
+   * </pre>
+   */
+  public static final class Decimal extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:RpcEvents.Decimal)
+      DecimalOrBuilder {
+    // Use Decimal.newBuilder() to construct.
+    private Decimal(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Decimal(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Decimal defaultInstance;
+    public static Decimal getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Decimal getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Decimal(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              unscaledValue_ = input.readSInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              scale_ = input.readSInt32();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              unscaledBytes_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Decimal_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Decimal_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.class, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Decimal> PARSER =
+        new com.google.protobuf.AbstractParser<Decimal>() {
+      public Decimal parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Decimal(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Decimal> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int UNSCALEDVALUE_FIELD_NUMBER = 1;
+    private long unscaledValue_;
+    /**
+     * <code>optional sint64 unscaledValue = 1;</code>
+     */
+    public boolean hasUnscaledValue() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional sint64 unscaledValue = 1;</code>
+     */
+    public long getUnscaledValue() {
+      return unscaledValue_;
+    }
+
+    public static final int SCALE_FIELD_NUMBER = 2;
+    private int scale_;
+    /**
+     * <code>optional sint32 scale = 2;</code>
+     */
+    public boolean hasScale() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional sint32 scale = 2;</code>
+     */
+    public int getScale() {
+      return scale_;
+    }
+
+    public static final int UNSCALEDBYTES_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString unscaledBytes_;
+    /**
+     * <code>optional bytes unscaledBytes = 3;</code>
+     */
+    public boolean hasUnscaledBytes() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bytes unscaledBytes = 3;</code>
+     */
+    public com.google.protobuf.ByteString getUnscaledBytes() {
+      return unscaledBytes_;
+    }
+
+    private void initFields() {
+      unscaledValue_ = 0L;
+      scale_ = 0;
+      unscaledBytes_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeSInt64(1, unscaledValue_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeSInt32(2, scale_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, unscaledBytes_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(1, unscaledValue_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(2, scale_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, unscaledBytes_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RpcEvents.Decimal}
+     *
+     * <pre>
+     * BigDecimal: unscaledValue when it fits in 64 bits, otherwise unscaledBytes in two's complement
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RpcEvents.Decimal)
+        org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Decimal_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Decimal_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.class, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        unscaledValue_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        scale_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        unscaledBytes_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Decimal_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal build() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal result = new org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.unscaledValue_ = unscaledValue_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.scale_ = scale_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.unscaledBytes_ = unscaledBytes_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) return this;
+        if (other.hasUnscaledValue()) {
+          setUnscaledValue(other.getUnscaledValue());
+        }
+        if (other.hasScale()) {
+          setScale(other.getScale());
+        }
+        if (other.hasUnscaledBytes()) {
+          setUnscaledBytes(other.getUnscaledBytes());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long unscaledValue_ ;
+      /**
+       * <code>optional sint64 unscaledValue = 1;</code>
+       */
+      public boolean hasUnscaledValue() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional sint64 unscaledValue = 1;</code>
+       */
+      public long getUnscaledValue() {
+        return unscaledValue_;
+      }
+      /**
+       * <code>optional sint64 unscaledValue = 1;</code>
+       */
+      public Builder setUnscaledValue(long value) {
+        bitField0_ |= 0x00000001;
+        unscaledValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 unscaledValue = 1;</code>
+       */
+      public Builder clearUnscaledValue() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        unscaledValue_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int scale_ ;
+      /**
+       * <code>optional sint32 scale = 2;</code>
+       */
+      public boolean hasScale() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional sint32 scale = 2;</code>
+       */
+      public int getScale() {
+        return scale_;
+      }
+      /**
+       * <code>optional sint32 scale = 2;</code>
+       */
+      public Builder setScale(int value) {
+        bitField0_ |= 0x00000002;
+        scale_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint32 scale = 2;</code>
+       */
+      public Builder clearScale() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        scale_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString unscaledBytes_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes unscaledBytes = 3;</code>
+       */
+      public boolean hasUnscaledBytes() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bytes unscaledBytes = 3;</code>
+       */
+      public com.google.protobuf.ByteString getUnscaledBytes() {
+        return unscaledBytes_;
+      }
+      /**
+       * <code>optional bytes unscaledBytes = 3;</code>
+       */
+      public Builder setUnscaledBytes(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        unscaledBytes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes unscaledBytes = 3;</code>
+       */
+      public Builder clearUnscaledBytes() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        unscaledBytes_ = getDefaultInstance().getUnscaledBytes();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:RpcEvents.Decimal)
+    }
+
+    static {
+      defaultInstance = new Decimal(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:RpcEvents.Decimal)
+  }
+
+  public interface InstrumentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RpcEvents.Instrument)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    boolean hasSecurityType();
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    java.lang.String getSecurityType();
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSecurityTypeBytes();
+
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    boolean hasSymbol();
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    java.lang.String getSymbol();
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getSymbolBytes();
+
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    boolean hasSymbolSuffix();
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    java.lang.String getSymbolSuffix();
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getSymbolSuffixBytes();
+
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    boolean hasExpiry();
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    java.lang.String getExpiry();
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getExpiryBytes();
+
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    boolean hasStrikePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getStrikePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getStrikePriceOrBuilder();
+
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    boolean hasOptionType();
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    java.lang.String getOptionType();
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    com.google.protobuf.ByteString
+        getOptionTypeBytes();
+
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    boolean hasLeftCurrency();
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    java.lang.String getLeftCurrency();
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getLeftCurrencyBytes();
+
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    boolean hasRightCurrency();
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    java.lang.String getRightCurrency();
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getRightCurrencyBytes();
+
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    boolean hasNearTenor();
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    java.lang.String getNearTenor();
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getNearTenorBytes();
+
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    boolean hasFarTenor();
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    java.lang.String getFarTenor();
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getFarTenorBytes();
+
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    boolean hasTradedCurrency();
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    java.lang.String getTradedCurrency();
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradedCurrencyBytes();
+  }
+  /**
+   * Protobuf type {@code RpcEvents.Instrument}
+   */
+  public static final class Instrument extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:RpcEvents.Instrument)
+      InstrumentOrBuilder {
+    // Use Instrument.newBuilder() to construct.
+    private Instrument(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Instrument(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Instrument defaultInstance;
+    public static Instrument getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Instrument getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Instrument(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              securityType_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              symbol_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              symbolSuffix_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              expiry_ = bs;
+              break;
+            }
+            case 42: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = strikePrice_.toBuilder();
+              }
+              strikePrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(strikePrice_);
+                strikePrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 50: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000020;
+              optionType_ = bs;
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              leftCurrency_ = bs;
+              break;
+            }
+            case 66: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000080;
+              rightCurrency_ = bs;
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              nearTenor_ = bs;
+              break;
+            }
+            case 82: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000200;
+              farTenor_ = bs;
+              break;
+            }
+            case 90: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000400;
+              tradedCurrency_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Instrument_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Instrument_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.class, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Instrument> PARSER =
+        new com.google.protobuf.AbstractParser<Instrument>() {
+      public Instrument parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Instrument(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Instrument> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int SECURITYTYPE_FIELD_NUMBER = 1;
+    private java.lang.Object securityType_;
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    public boolean hasSecurityType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    public java.lang.String getSecurityType() {
+      java.lang.Object ref = securityType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          securityType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string securityType = 1;</code>
+     *
+     * <pre>
+     * SecurityType name: CommonStock, Option, Future or Currency
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSecurityTypeBytes() {
+      java.lang.Object ref = securityType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        securityType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 2;
+    private java.lang.Object symbol_;
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public boolean hasSymbol() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public java.lang.String getSymbol() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          symbol_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSymbolBytes() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SYMBOLSUFFIX_FIELD_NUMBER = 3;
+    private java.lang.Object symbolSuffix_;
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    public boolean hasSymbolSuffix() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    public java.lang.String getSymbolSuffix() {
+      java.lang.Object ref = symbolSuffix_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          symbolSuffix_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string symbolSuffix = 3;</code>
+     *
+     * <pre>
+     * equities
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getSymbolSuffixBytes() {
+      java.lang.Object ref = symbolSuffix_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbolSuffix_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXPIRY_FIELD_NUMBER = 4;
+    private java.lang.Object expiry_;
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    public boolean hasExpiry() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    public java.lang.String getExpiry() {
+      java.lang.Object ref = expiry_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          expiry_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string expiry = 4;</code>
+     *
+     * <pre>
+     * options (as given) and futures (YYYYMM or YYYYMMDD)
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getExpiryBytes() {
+      java.lang.Object ref = expiry_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        expiry_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STRIKEPRICE_FIELD_NUMBER = 5;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal strikePrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public boolean hasStrikePrice() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getStrikePrice() {
+      return strikePrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getStrikePriceOrBuilder() {
+      return strikePrice_;
+    }
+
+    public static final int OPTIONTYPE_FIELD_NUMBER = 6;
+    private java.lang.Object optionType_;
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    public boolean hasOptionType() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    public java.lang.String getOptionType() {
+      java.lang.Object ref = optionType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          optionType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string optionType = 6;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOptionTypeBytes() {
+      java.lang.Object ref = optionType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        optionType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LEFTCURRENCY_FIELD_NUMBER = 7;
+    private java.lang.Object leftCurrency_;
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    public boolean hasLeftCurrency() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    public java.lang.String getLeftCurrency() {
+      java.lang.Object ref = leftCurrency_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          leftCurrency_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string leftCurrency = 7;</code>
+     *
+     * <pre>
+     * currencies
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getLeftCurrencyBytes() {
+      java.lang.Object ref = leftCurrency_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leftCurrency_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RIGHTCURRENCY_FIELD_NUMBER = 8;
+    private java.lang.Object rightCurrency_;
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    public boolean hasRightCurrency() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    public java.lang.String getRightCurrency() {
+      java.lang.Object ref = rightCurrency_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          rightCurrency_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string rightCurrency = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRightCurrencyBytes() {
+      java.lang.Object ref = rightCurrency_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rightCurrency_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NEARTENOR_FIELD_NUMBER = 9;
+    private java.lang.Object nearTenor_;
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public boolean hasNearTenor() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public java.lang.String getNearTenor() {
+      java.lang.Object ref = nearTenor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nearTenor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNearTenorBytes() {
+      java.lang.Object ref = nearTenor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nearTenor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FARTENOR_FIELD_NUMBER = 10;
+    private java.lang.Object farTenor_;
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public boolean hasFarTenor() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public java.lang.String getFarTenor() {
+      java.lang.Object ref = farTenor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          farTenor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFarTenorBytes() {
+      java.lang.Object ref = farTenor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        farTenor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADEDCURRENCY_FIELD_NUMBER = 11;
+    private java.lang.Object tradedCurrency_;
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    public boolean hasTradedCurrency() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    public java.lang.String getTradedCurrency() {
+      java.lang.Object ref = tradedCurrency_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradedCurrency_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradedCurrency = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradedCurrencyBytes() {
+      java.lang.Object ref = tradedCurrency_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradedCurrency_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      securityType_ = "";
+      symbol_ = "";
+      symbolSuffix_ = "";
+      expiry_ = "";
+      strikePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      optionType_ = "";
+      leftCurrency_ = "";
+      rightCurrency_ = "";
+      nearTenor_ = "";
+      farTenor_ = "";
+      tradedCurrency_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSecurityType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSecurityTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getSymbolBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getSymbolSuffixBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getExpiryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, strikePrice_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getOptionTypeBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getLeftCurrencyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getRightCurrencyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getNearTenorBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(10, getFarTenorBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(11, getTradedCurrencyBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSecurityTypeBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getSymbolBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getSymbolSuffixBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getExpiryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, strikePrice_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getOptionTypeBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getLeftCurrencyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getRightCurrencyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getNearTenorBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getFarTenorBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getTradedCurrencyBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RpcEvents.Instrument}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RpcEvents.Instrument)
+        org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Instrument_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Instrument_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.class, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getStrikePriceFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        securityType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        symbol_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        symbolSuffix_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        expiry_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (strikePriceBuilder_ == null) {
+          strikePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          strikePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        optionType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        leftCurrency_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rightCurrency_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nearTenor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        farTenor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        tradedCurrency_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_Instrument_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument build() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument result = new org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.securityType_ = securityType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.symbol_ = symbol_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.symbolSuffix_ = symbolSuffix_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.expiry_ = expiry_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (strikePriceBuilder_ == null) {
+          result.strikePrice_ = strikePrice_;
+        } else {
+          result.strikePrice_ = strikePriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.optionType_ = optionType_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.leftCurrency_ = leftCurrency_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.rightCurrency_ = rightCurrency_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.nearTenor_ = nearTenor_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.farTenor_ = farTenor_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.tradedCurrency_ = tradedCurrency_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance()) return this;
+        if (other.hasSecurityType()) {
+          bitField0_ |= 0x00000001;
+          securityType_ = other.securityType_;
+          onChanged();
+        }
+        if (other.hasSymbol()) {
+          bitField0_ |= 0x00000002;
+          symbol_ = other.symbol_;
+          onChanged();
+        }
+        if (other.hasSymbolSuffix()) {
+          bitField0_ |= 0x00000004;
+          symbolSuffix_ = other.symbolSuffix_;
+          onChanged();
+        }
+        if (other.hasExpiry()) {
+          bitField0_ |= 0x00000008;
+          expiry_ = other.expiry_;
+          onChanged();
+        }
+        if (other.hasStrikePrice()) {
+          mergeStrikePrice(other.getStrikePrice());
+        }
+        if (other.hasOptionType()) {
+          bitField0_ |= 0x00000020;
+          optionType_ = other.optionType_;
+          onChanged();
+        }
+        if (other.hasLeftCurrency()) {
+          bitField0_ |= 0x00000040;
+          leftCurrency_ = other.leftCurrency_;
+          onChanged();
+        }
+        if (other.hasRightCurrency()) {
+          bitField0_ |= 0x00000080;
+          rightCurrency_ = other.rightCurrency_;
+          onChanged();
+        }
+        if (other.hasNearTenor()) {
+          bitField0_ |= 0x00000100;
+          nearTenor_ = other.nearTenor_;
+          onChanged();
+        }
+        if (other.hasFarTenor()) {
+          bitField0_ |= 0x00000200;
+          farTenor_ = other.farTenor_;
+          onChanged();
+        }
+        if (other.hasTradedCurrency()) {
+          bitField0_ |= 0x00000400;
+          tradedCurrency_ = other.tradedCurrency_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSecurityType()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object securityType_ = "";
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public boolean hasSecurityType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public java.lang.String getSecurityType() {
+        java.lang.Object ref = securityType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            securityType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSecurityTypeBytes() {
+        java.lang.Object ref = securityType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          securityType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public Builder setSecurityType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        securityType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public Builder clearSecurityType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        securityType_ = getDefaultInstance().getSecurityType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string securityType = 1;</code>
+       *
+       * <pre>
+       * SecurityType name: CommonStock, Option, Future or Currency
+       * </pre>
+       */
+      public Builder setSecurityTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        securityType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object symbol_ = "";
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public boolean hasSymbol() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public java.lang.String getSymbol() {
+        java.lang.Object ref = symbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            symbol_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSymbolBytes() {
+        java.lang.Object ref = symbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder setSymbol(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        symbol_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder clearSymbol() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        symbol_ = getDefaultInstance().getSymbol();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder setSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        symbol_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object symbolSuffix_ = "";
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public boolean hasSymbolSuffix() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public java.lang.String getSymbolSuffix() {
+        java.lang.Object ref = symbolSuffix_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            symbolSuffix_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getSymbolSuffixBytes() {
+        java.lang.Object ref = symbolSuffix_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbolSuffix_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public Builder setSymbolSuffix(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        symbolSuffix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public Builder clearSymbolSuffix() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        symbolSuffix_ = getDefaultInstance().getSymbolSuffix();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbolSuffix = 3;</code>
+       *
+       * <pre>
+       * equities
+       * </pre>
+       */
+      public Builder setSymbolSuffixBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        symbolSuffix_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object expiry_ = "";
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public boolean hasExpiry() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public java.lang.String getExpiry() {
+        java.lang.Object ref = expiry_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            expiry_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getExpiryBytes() {
+        java.lang.Object ref = expiry_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          expiry_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public Builder setExpiry(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        expiry_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public Builder clearExpiry() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        expiry_ = getDefaultInstance().getExpiry();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       *
+       * <pre>
+       * options (as given) and futures (YYYYMM or YYYYMMDD)
+       * </pre>
+       */
+      public Builder setExpiryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        expiry_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal strikePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> strikePriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public boolean hasStrikePrice() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getStrikePrice() {
+        if (strikePriceBuilder_ == null) {
+          return strikePrice_;
+        } else {
+          return strikePriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder setStrikePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (strikePriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          strikePrice_ = value;
+          onChanged();
+        } else {
+          strikePriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder setStrikePrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (strikePriceBuilder_ == null) {
+          strikePrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          strikePriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder mergeStrikePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (strikePriceBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              strikePrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            strikePrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(strikePrice_).mergeFrom(value).buildPartial();
+          } else {
+            strikePrice_ = value;
+          }
+          onChanged();
+        } else {
+          strikePriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder clearStrikePrice() {
+        if (strikePriceBuilder_ == null) {
+          strikePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          strikePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getStrikePriceBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getStrikePriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getStrikePriceOrBuilder() {
+        if (strikePriceBuilder_ != null) {
+          return strikePriceBuilder_.getMessageOrBuilder();
+        } else {
+          return strikePrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal strikePrice = 5;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getStrikePriceFieldBuilder() {
+        if (strikePriceBuilder_ == null) {
+          strikePriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getStrikePrice(),
+                  getParentForChildren(),
+                  isClean());
+          strikePrice_ = null;
+        }
+        return strikePriceBuilder_;
+      }
+
+      private java.lang.Object optionType_ = "";
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public boolean hasOptionType() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public java.lang.String getOptionType() {
+        java.lang.Object ref = optionType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            optionType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOptionTypeBytes() {
+        java.lang.Object ref = optionType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          optionType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public Builder setOptionType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        optionType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public Builder clearOptionType() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        optionType_ = getDefaultInstance().getOptionType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string optionType = 6;</code>
+       */
+      public Builder setOptionTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        optionType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leftCurrency_ = "";
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public boolean hasLeftCurrency() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public java.lang.String getLeftCurrency() {
+        java.lang.Object ref = leftCurrency_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            leftCurrency_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getLeftCurrencyBytes() {
+        java.lang.Object ref = leftCurrency_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leftCurrency_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public Builder setLeftCurrency(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        leftCurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public Builder clearLeftCurrency() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        leftCurrency_ = getDefaultInstance().getLeftCurrency();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leftCurrency = 7;</code>
+       *
+       * <pre>
+       * currencies
+       * </pre>
+       */
+      public Builder setLeftCurrencyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        leftCurrency_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object rightCurrency_ = "";
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public boolean hasRightCurrency() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public java.lang.String getRightCurrency() {
+        java.lang.Object ref = rightCurrency_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            rightCurrency_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRightCurrencyBytes() {
+        java.lang.Object ref = rightCurrency_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rightCurrency_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public Builder setRightCurrency(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        rightCurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public Builder clearRightCurrency() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        rightCurrency_ = getDefaultInstance().getRightCurrency();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rightCurrency = 8;</code>
+       */
+      public Builder setRightCurrencyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        rightCurrency_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nearTenor_ = "";
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public boolean hasNearTenor() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public java.lang.String getNearTenor() {
+        java.lang.Object ref = nearTenor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            nearTenor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNearTenorBytes() {
+        java.lang.Object ref = nearTenor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nearTenor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder setNearTenor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        nearTenor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder clearNearTenor() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        nearTenor_ = getDefaultInstance().getNearTenor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder setNearTenorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        nearTenor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object farTenor_ = "";
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public boolean hasFarTenor() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public java.lang.String getFarTenor() {
+        java.lang.Object ref = farTenor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            farTenor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFarTenorBytes() {
+        java.lang.Object ref = farTenor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          farTenor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder setFarTenor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        farTenor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder clearFarTenor() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        farTenor_ = getDefaultInstance().getFarTenor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder setFarTenorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        farTenor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradedCurrency_ = "";
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public boolean hasTradedCurrency() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public java.lang.String getTradedCurrency() {
+        java.lang.Object ref = tradedCurrency_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradedCurrency_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradedCurrencyBytes() {
+        java.lang.Object ref = tradedCurrency_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradedCurrency_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public Builder setTradedCurrency(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        tradedCurrency_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public Builder clearTradedCurrency() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        tradedCurrency_ = getDefaultInstance().getTradedCurrency();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradedCurrency = 11;</code>
+       */
+      public Builder setTradedCurrencyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        tradedCurrency_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:RpcEvents.Instrument)
+    }
+
+    static {
+      defaultInstance = new Instrument(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:RpcEvents.Instrument)
+  }
+
+  public interface EventPayloadOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RpcEvents.EventPayload)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required .RpcEvents.EventKind kind = 1;</code>
+     */
+    boolean hasKind();
+    /**
+     * <code>required .RpcEvents.EventKind kind = 1;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind getKind();
+
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    boolean hasXml();
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    java.lang.String getXml();
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getXmlBytes();
+
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    boolean hasMessageId();
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    long getMessageId();
+
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    long getTimestamp();
+
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    boolean hasProvider();
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    java.lang.String getProvider();
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getProviderBytes();
+
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    long getRequestId();
+
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    boolean hasInstrument();
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getInstrument();
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getInstrumentOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.EventType eventType = 8;</code>
+     */
+    boolean hasEventType();
+    /**
+     * <code>optional .RpcEvents.EventType eventType = 8;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventType getEventType();
+
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    boolean hasExchange();
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    java.lang.String getExchange();
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getExchangeBytes();
+
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    boolean hasPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getSize();
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getSizeOrBuilder();
+
+    /**
+     * <code>optional int64 exchangeTimestamp = 12;</code>
+     */
+    boolean hasExchangeTimestamp();
+    /**
+     * <code>optional int64 exchangeTimestamp = 12;</code>
+     */
+    long getExchangeTimestamp();
+
+    /**
+     * <code>optional int64 receivedTimestamp = 13;</code>
+     */
+    boolean hasReceivedTimestamp();
+    /**
+     * <code>optional int64 receivedTimestamp = 13;</code>
+     */
+    long getReceivedTimestamp();
+
+    /**
+     * <code>optional int64 processedTimestamp = 14;</code>
+     */
+    boolean hasProcessedTimestamp();
+    /**
+     * <code>optional int64 processedTimestamp = 14;</code>
+     */
+    long getProcessedTimestamp();
+
+    /**
+     * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+     *
+     * <pre>
+     * quotes
+     * </pre>
+     */
+    boolean hasAction();
+    /**
+     * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+     *
+     * <pre>
+     * quotes
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction getAction();
+
+    /**
+     * <code>optional int32 level = 16;</code>
+     */
+    boolean hasLevel();
+    /**
+     * <code>optional int32 level = 16;</code>
+     */
+    int getLevel();
+
+    /**
+     * <code>optional int32 count = 17;</code>
+     */
+    boolean hasCount();
+    /**
+     * <code>optional int32 count = 17;</code>
+     */
+    int getCount();
+
+    /**
+     * <code>optional bool empty = 18;</code>
+     */
+    boolean hasEmpty();
+    /**
+     * <code>optional bool empty = 18;</code>
+     */
+    boolean getEmpty();
+
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    boolean hasTradeCondition();
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    java.lang.String getTradeCondition();
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getTradeConditionBytes();
+
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    boolean hasOpenPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getOpenPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getOpenPriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    boolean hasHighPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getHighPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getHighPriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    boolean hasLowPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getLowPrice();
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getLowPriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    boolean hasClosePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getClosePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getClosePriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    boolean hasPreviousClosePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPreviousClosePrice();
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPreviousClosePriceOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    boolean hasVolume();
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolume();
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getValue();
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getValueOrBuilder();
+
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    boolean hasCloseDate();
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    java.lang.String getCloseDate();
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    com.google.protobuf.ByteString
+        getCloseDateBytes();
+
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    boolean hasPreviousCloseDate();
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    java.lang.String getPreviousCloseDate();
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    com.google.protobuf.ByteString
+        getPreviousCloseDateBytes();
+
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    boolean hasTradeHighTime();
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    java.lang.String getTradeHighTime();
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradeHighTimeBytes();
+
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    boolean hasTradeLowTime();
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    java.lang.String getTradeLowTime();
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradeLowTimeBytes();
+
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    boolean hasOpenExchange();
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    java.lang.String getOpenExchange();
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    com.google.protobuf.ByteString
+        getOpenExchangeBytes();
+
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    boolean hasHighExchange();
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    java.lang.String getHighExchange();
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    com.google.protobuf.ByteString
+        getHighExchangeBytes();
+
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    boolean hasLowExchange();
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    java.lang.String getLowExchange();
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    com.google.protobuf.ByteString
+        getLowExchangeBytes();
+
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    boolean hasCloseExchange();
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    java.lang.String getCloseExchange();
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    com.google.protobuf.ByteString
+        getCloseExchangeBytes();
+
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    boolean hasVolumeChange();
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolumeChange();
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeChangeOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    boolean hasInterestChange();
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getInterestChange();
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getInterestChangeOrBuilder();
+
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    boolean hasUnderlyingInstrument();
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getUnderlyingInstrument();
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder();
+
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    boolean hasExpirationType();
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    java.lang.String getExpirationType();
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    com.google.protobuf.ByteString
+        getExpirationTypeBytes();
+
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    boolean hasMultiplier();
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getMultiplier();
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getMultiplierOrBuilder();
+
+    /**
+     * <code>optional bool hasDeliverable = 43;</code>
+     */
+    boolean hasHasDeliverable();
+    /**
+     * <code>optional bool hasDeliverable = 43;</code>
+     */
+    boolean getHasDeliverable();
+
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    boolean hasProviderSymbol();
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    java.lang.String getProviderSymbol();
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    com.google.protobuf.ByteString
+        getProviderSymbolBytes();
+
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    boolean hasFutureType();
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    java.lang.String getFutureType();
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getFutureTypeBytes();
+
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    boolean hasDeliveryType();
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    java.lang.String getDeliveryType();
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    com.google.protobuf.ByteString
+        getDeliveryTypeBytes();
+
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    boolean hasStandardType();
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    java.lang.String getStandardType();
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    com.google.protobuf.ByteString
+        getStandardTypeBytes();
+
+    /**
+     * <code>optional int32 contractSize = 48;</code>
+     */
+    boolean hasContractSize();
+    /**
+     * <code>optional int32 contractSize = 48;</code>
+     */
+    int getContractSize();
+
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> 
+        getBidsList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getBids(int index);
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    int getBidsCount();
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getBidsOrBuilderList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getBidsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> 
+        getAsksList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getAsks(int index);
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    int getAsksCount();
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getAsksOrBuilderList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getAsksOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code RpcEvents.EventPayload}
+   */
+  public static final class EventPayload extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:RpcEvents.EventPayload)
+      EventPayloadOrBuilder {
+    // Use EventPayload.newBuilder() to construct.
+    private EventPayload(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private EventPayload(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final EventPayload defaultInstance;
+    public static EventPayload getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EventPayload getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EventPayload(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      int mutable_bitField1_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind value = org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                kind_ = value;
+              }
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              xml_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              messageId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              provider_ = bs;
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              requestId_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000040) == 0x00000040)) {
+                subBuilder = instrument_.toBuilder();
+              }
+              instrument_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(instrument_);
+                instrument_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000040;
+              break;
+            }
+            case 64: {
+              int rawValue = input.readEnum();
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventType value = org.marketcetera.marketdata.core.rpc.RpcEvents.EventType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(8, rawValue);
+              } else {
+                bitField0_ |= 0x00000080;
+                eventType_ = value;
+              }
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              exchange_ = bs;
+              break;
+            }
+            case 82: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000200) == 0x00000200)) {
+                subBuilder = price_.toBuilder();
+              }
+              price_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(price_);
+                price_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000200;
+              break;
+            }
+            case 90: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000400) == 0x00000400)) {
+                subBuilder = size_.toBuilder();
+              }
+              size_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(size_);
+                size_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000400;
+              break;
+            }
+            case 96: {
+              bitField0_ |= 0x00000800;
+              exchangeTimestamp_ = input.readInt64();
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00001000;
+              receivedTimestamp_ = input.readInt64();
+              break;
+            }
+            case 112: {
+              bitField0_ |= 0x00002000;
+              processedTimestamp_ = input.readInt64();
+              break;
+            }
+            case 120: {
+              int rawValue = input.readEnum();
+              org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction value = org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(15, rawValue);
+              } else {
+                bitField0_ |= 0x00004000;
+                action_ = value;
+              }
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00008000;
+              level_ = input.readInt32();
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00010000;
+              count_ = input.readInt32();
+              break;
+            }
+            case 144: {
+              bitField0_ |= 0x00020000;
+              empty_ = input.readBool();
+              break;
+            }
+            case 154: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00040000;
+              tradeCondition_ = bs;
+              break;
+            }
+            case 162: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00080000) == 0x00080000)) {
+                subBuilder = openPrice_.toBuilder();
+              }
+              openPrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(openPrice_);
+                openPrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00080000;
+              break;
+            }
+            case 170: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00100000) == 0x00100000)) {
+                subBuilder = highPrice_.toBuilder();
+              }
+              highPrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(highPrice_);
+                highPrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00100000;
+              break;
+            }
+            case 178: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00200000) == 0x00200000)) {
+                subBuilder = lowPrice_.toBuilder();
+              }
+              lowPrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(lowPrice_);
+                lowPrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00200000;
+              break;
+            }
+            case 186: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00400000) == 0x00400000)) {
+                subBuilder = closePrice_.toBuilder();
+              }
+              closePrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(closePrice_);
+                closePrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00400000;
+              break;
+            }
+            case 194: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x00800000) == 0x00800000)) {
+                subBuilder = previousClosePrice_.toBuilder();
+              }
+              previousClosePrice_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(previousClosePrice_);
+                previousClosePrice_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00800000;
+              break;
+            }
+            case 202: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x01000000) == 0x01000000)) {
+                subBuilder = volume_.toBuilder();
+              }
+              volume_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(volume_);
+                volume_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x01000000;
+              break;
+            }
+            case 210: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField0_ & 0x02000000) == 0x02000000)) {
+                subBuilder = value_.toBuilder();
+              }
+              value_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(value_);
+                value_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x02000000;
+              break;
+            }
+            case 218: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x04000000;
+              closeDate_ = bs;
+              break;
+            }
+            case 226: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x08000000;
+              previousCloseDate_ = bs;
+              break;
+            }
+            case 234: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x10000000;
+              tradeHighTime_ = bs;
+              break;
+            }
+            case 242: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x20000000;
+              tradeLowTime_ = bs;
+              break;
+            }
+            case 250: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x40000000;
+              openExchange_ = bs;
+              break;
+            }
+            case 258: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x80000000;
+              highExchange_ = bs;
+              break;
+            }
+            case 266: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000001;
+              lowExchange_ = bs;
+              break;
+            }
+            case 274: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000002;
+              closeExchange_ = bs;
+              break;
+            }
+            case 282: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000004) == 0x00000004)) {
+                subBuilder = volumeChange_.toBuilder();
+              }
+              volumeChange_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(volumeChange_);
+                volumeChange_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000004;
+              break;
+            }
+            case 290: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000008) == 0x00000008)) {
+                subBuilder = interestChange_.toBuilder();
+              }
+              interestChange_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(interestChange_);
+                interestChange_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000008;
+              break;
+            }
+            case 322: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000010) == 0x00000010)) {
+                subBuilder = underlyingInstrument_.toBuilder();
+              }
+              underlyingInstrument_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(underlyingInstrument_);
+                underlyingInstrument_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000010;
+              break;
+            }
+            case 330: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000020;
+              expirationType_ = bs;
+              break;
+            }
+            case 338: {
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000040) == 0x00000040)) {
+                subBuilder = multiplier_.toBuilder();
+              }
+              multiplier_ = input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(multiplier_);
+                multiplier_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000040;
+              break;
+            }
+            case 344: {
+              bitField1_ |= 0x00000080;
+              hasDeliverable_ = input.readBool();
+              break;
+            }
+            case 354: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000100;
+              providerSymbol_ = bs;
+              break;
+            }
+            case 362: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000200;
+              futureType_ = bs;
+              break;
+            }
+            case 370: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000400;
+              deliveryType_ = bs;
+              break;
+            }
+            case 378: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000800;
+              standardType_ = bs;
+              break;
+            }
+            case 384: {
+              bitField1_ |= 0x00001000;
+              contractSize_ = input.readInt32();
+              break;
+            }
+            case 402: {
+              if (!((mutable_bitField1_ & 0x00002000) == 0x00002000)) {
+                bids_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>();
+                mutable_bitField1_ |= 0x00002000;
+              }
+              bids_.add(input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.PARSER, extensionRegistry));
+              break;
+            }
+            case 410: {
+              if (!((mutable_bitField1_ & 0x00004000) == 0x00004000)) {
+                asks_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>();
+                mutable_bitField1_ |= 0x00004000;
+              }
+              asks_.add(input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField1_ & 0x00002000) == 0x00002000)) {
+          bids_ = java.util.Collections.unmodifiableList(bids_);
+        }
+        if (((mutable_bitField1_ & 0x00004000) == 0x00004000)) {
+          asks_ = java.util.Collections.unmodifiableList(asks_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_EventPayload_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_EventPayload_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.class, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<EventPayload> PARSER =
+        new com.google.protobuf.AbstractParser<EventPayload>() {
+      public EventPayload parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EventPayload(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EventPayload> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    private int bitField1_;
+    public static final int KIND_FIELD_NUMBER = 1;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind kind_;
+    /**
+     * <code>required .RpcEvents.EventKind kind = 1;</code>
+     */
+    public boolean hasKind() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .RpcEvents.EventKind kind = 1;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind getKind() {
+      return kind_;
+    }
+
+    public static final int XML_FIELD_NUMBER = 2;
+    private java.lang.Object xml_;
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    public boolean hasXml() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    public java.lang.String getXml() {
+      java.lang.Object ref = xml_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          xml_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string xml = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getXmlBytes() {
+      java.lang.Object ref = xml_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        xml_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MESSAGEID_FIELD_NUMBER = 3;
+    private long messageId_;
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    public boolean hasMessageId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    public long getMessageId() {
+      return messageId_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    private long timestamp_;
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int PROVIDER_FIELD_NUMBER = 5;
+    private java.lang.Object provider_;
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public boolean hasProvider() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public java.lang.String getProvider() {
+      java.lang.Object ref = provider_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          provider_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProviderBytes() {
+      java.lang.Object ref = provider_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        provider_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestId_;
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    public static final int INSTRUMENT_FIELD_NUMBER = 7;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument instrument_;
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    public boolean hasInstrument() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getInstrument() {
+      return instrument_;
+    }
+    /**
+     * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getInstrumentOrBuilder() {
+      return instrument_;
+    }
+
+    public static final int EVENTTYPE_FIELD_NUMBER = 8;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.EventType eventType_;
+    /**
+     * <code>optional .RpcEvents.EventType eventType = 8;</code>
+     */
+    public boolean hasEventType() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .RpcEvents.EventType eventType = 8;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventType getEventType() {
+      return eventType_;
+    }
+
+    public static final int EXCHANGE_FIELD_NUMBER = 9;
+    private java.lang.Object exchange_;
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    public boolean hasExchange() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    public java.lang.String getExchange() {
+      java.lang.Object ref = exchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          exchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string exchange = 9;</code>
+     *
+     * <pre>
+     * quotes and trades
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getExchangeBytes() {
+      java.lang.Object ref = exchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        exchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRICE_FIELD_NUMBER = 10;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal price_;
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    public boolean hasPrice() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPrice() {
+      return price_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal price = 10;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPriceOrBuilder() {
+      return price_;
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 11;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal size_;
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getSize() {
+      return size_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal size = 11;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getSizeOrBuilder() {
+      return size_;
+    }
+
+    public static final int EXCHANGETIMESTAMP_FIELD_NUMBER = 12;
+    private long exchangeTimestamp_;
+    /**
+     * <code>optional int64 exchangeTimestamp = 12;</code>
+     */
+    public boolean hasExchangeTimestamp() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional int64 exchangeTimestamp = 12;</code>
+     */
+    public long getExchangeTimestamp() {
+      return exchangeTimestamp_;
+    }
+
+    public static final int RECEIVEDTIMESTAMP_FIELD_NUMBER = 13;
+    private long receivedTimestamp_;
+    /**
+     * <code>optional int64 receivedTimestamp = 13;</code>
+     */
+    public boolean hasReceivedTimestamp() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional int64 receivedTimestamp = 13;</code>
+     */
+    public long getReceivedTimestamp() {
+      return receivedTimestamp_;
+    }
+
+    public static final int PROCESSEDTIMESTAMP_FIELD_NUMBER = 14;
+    private long processedTimestamp_;
+    /**
+     * <code>optional int64 processedTimestamp = 14;</code>
+     */
+    public boolean hasProcessedTimestamp() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional int64 processedTimestamp = 14;</code>
+     */
+    public long getProcessedTimestamp() {
+      return processedTimestamp_;
+    }
+
+    public static final int ACTION_FIELD_NUMBER = 15;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction action_;
+    /**
+     * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+     *
+     * <pre>
+     * quotes
+     * </pre>
+     */
+    public boolean hasAction() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+     *
+     * <pre>
+     * quotes
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction getAction() {
+      return action_;
+    }
+
+    public static final int LEVEL_FIELD_NUMBER = 16;
+    private int level_;
+    /**
+     * <code>optional int32 level = 16;</code>
+     */
+    public boolean hasLevel() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
+    }
+    /**
+     * <code>optional int32 level = 16;</code>
+     */
+    public int getLevel() {
+      return level_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 17;
+    private int count_;
+    /**
+     * <code>optional int32 count = 17;</code>
+     */
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
+    }
+    /**
+     * <code>optional int32 count = 17;</code>
+     */
+    public int getCount() {
+      return count_;
+    }
+
+    public static final int EMPTY_FIELD_NUMBER = 18;
+    private boolean empty_;
+    /**
+     * <code>optional bool empty = 18;</code>
+     */
+    public boolean hasEmpty() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
+    }
+    /**
+     * <code>optional bool empty = 18;</code>
+     */
+    public boolean getEmpty() {
+      return empty_;
+    }
+
+    public static final int TRADECONDITION_FIELD_NUMBER = 19;
+    private java.lang.Object tradeCondition_;
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    public boolean hasTradeCondition() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
+    }
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    public java.lang.String getTradeCondition() {
+      java.lang.Object ref = tradeCondition_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeCondition_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeCondition = 19;</code>
+     *
+     * <pre>
+     * trades
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getTradeConditionBytes() {
+      java.lang.Object ref = tradeCondition_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeCondition_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPENPRICE_FIELD_NUMBER = 20;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal openPrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    public boolean hasOpenPrice() {
+      return ((bitField0_ & 0x00080000) == 0x00080000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getOpenPrice() {
+      return openPrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+     *
+     * <pre>
+     * marketstats
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getOpenPriceOrBuilder() {
+      return openPrice_;
+    }
+
+    public static final int HIGHPRICE_FIELD_NUMBER = 21;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal highPrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    public boolean hasHighPrice() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getHighPrice() {
+      return highPrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getHighPriceOrBuilder() {
+      return highPrice_;
+    }
+
+    public static final int LOWPRICE_FIELD_NUMBER = 22;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal lowPrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    public boolean hasLowPrice() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getLowPrice() {
+      return lowPrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getLowPriceOrBuilder() {
+      return lowPrice_;
+    }
+
+    public static final int CLOSEPRICE_FIELD_NUMBER = 23;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal closePrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    public boolean hasClosePrice() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getClosePrice() {
+      return closePrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getClosePriceOrBuilder() {
+      return closePrice_;
+    }
+
+    public static final int PREVIOUSCLOSEPRICE_FIELD_NUMBER = 24;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal previousClosePrice_;
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    public boolean hasPreviousClosePrice() {
+      return ((bitField0_ & 0x00800000) == 0x00800000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPreviousClosePrice() {
+      return previousClosePrice_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPreviousClosePriceOrBuilder() {
+      return previousClosePrice_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 25;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal volume_;
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    public boolean hasVolume() {
+      return ((bitField0_ & 0x01000000) == 0x01000000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolume() {
+      return volume_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal volume = 25;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeOrBuilder() {
+      return volume_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 26;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value_;
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x02000000) == 0x02000000);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getValue() {
+      return value_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal value = 26;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getValueOrBuilder() {
+      return value_;
+    }
+
+    public static final int CLOSEDATE_FIELD_NUMBER = 27;
+    private java.lang.Object closeDate_;
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    public boolean hasCloseDate() {
+      return ((bitField0_ & 0x04000000) == 0x04000000);
+    }
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    public java.lang.String getCloseDate() {
+      java.lang.Object ref = closeDate_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          closeDate_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string closeDate = 27;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCloseDateBytes() {
+      java.lang.Object ref = closeDate_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        closeDate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREVIOUSCLOSEDATE_FIELD_NUMBER = 28;
+    private java.lang.Object previousCloseDate_;
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    public boolean hasPreviousCloseDate() {
+      return ((bitField0_ & 0x08000000) == 0x08000000);
+    }
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    public java.lang.String getPreviousCloseDate() {
+      java.lang.Object ref = previousCloseDate_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          previousCloseDate_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string previousCloseDate = 28;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPreviousCloseDateBytes() {
+      java.lang.Object ref = previousCloseDate_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        previousCloseDate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADEHIGHTIME_FIELD_NUMBER = 29;
+    private java.lang.Object tradeHighTime_;
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    public boolean hasTradeHighTime() {
+      return ((bitField0_ & 0x10000000) == 0x10000000);
+    }
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    public java.lang.String getTradeHighTime() {
+      java.lang.Object ref = tradeHighTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeHighTime_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeHighTime = 29;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradeHighTimeBytes() {
+      java.lang.Object ref = tradeHighTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeHighTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADELOWTIME_FIELD_NUMBER = 30;
+    private java.lang.Object tradeLowTime_;
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    public boolean hasTradeLowTime() {
+      return ((bitField0_ & 0x20000000) == 0x20000000);
+    }
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    public java.lang.String getTradeLowTime() {
+      java.lang.Object ref = tradeLowTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeLowTime_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeLowTime = 30;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradeLowTimeBytes() {
+      java.lang.Object ref = tradeLowTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeLowTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPENEXCHANGE_FIELD_NUMBER = 31;
+    private java.lang.Object openExchange_;
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    public boolean hasOpenExchange() {
+      return ((bitField0_ & 0x40000000) == 0x40000000);
+    }
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    public java.lang.String getOpenExchange() {
+      java.lang.Object ref = openExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          openExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string openExchange = 31;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOpenExchangeBytes() {
+      java.lang.Object ref = openExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        openExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HIGHEXCHANGE_FIELD_NUMBER = 32;
+    private java.lang.Object highExchange_;
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    public boolean hasHighExchange() {
+      return ((bitField0_ & 0x80000000) == 0x80000000);
+    }
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    public java.lang.String getHighExchange() {
+      java.lang.Object ref = highExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          highExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string highExchange = 32;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHighExchangeBytes() {
+      java.lang.Object ref = highExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        highExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOWEXCHANGE_FIELD_NUMBER = 33;
+    private java.lang.Object lowExchange_;
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    public boolean hasLowExchange() {
+      return ((bitField1_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    public java.lang.String getLowExchange() {
+      java.lang.Object ref = lowExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          lowExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string lowExchange = 33;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLowExchangeBytes() {
+      java.lang.Object ref = lowExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lowExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CLOSEEXCHANGE_FIELD_NUMBER = 34;
+    private java.lang.Object closeExchange_;
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    public boolean hasCloseExchange() {
+      return ((bitField1_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    public java.lang.String getCloseExchange() {
+      java.lang.Object ref = closeExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          closeExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string closeExchange = 34;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCloseExchangeBytes() {
+      java.lang.Object ref = closeExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        closeExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VOLUMECHANGE_FIELD_NUMBER = 35;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal volumeChange_;
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    public boolean hasVolumeChange() {
+      return ((bitField1_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolumeChange() {
+      return volumeChange_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeChangeOrBuilder() {
+      return volumeChange_;
+    }
+
+    public static final int INTERESTCHANGE_FIELD_NUMBER = 36;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal interestChange_;
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    public boolean hasInterestChange() {
+      return ((bitField1_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getInterestChange() {
+      return interestChange_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getInterestChangeOrBuilder() {
+      return interestChange_;
+    }
+
+    public static final int UNDERLYINGINSTRUMENT_FIELD_NUMBER = 40;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument underlyingInstrument_;
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public boolean hasUnderlyingInstrument() {
+      return ((bitField1_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getUnderlyingInstrument() {
+      return underlyingInstrument_;
+    }
+    /**
+     * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+     *
+     * <pre>
+     * options
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder() {
+      return underlyingInstrument_;
+    }
+
+    public static final int EXPIRATIONTYPE_FIELD_NUMBER = 41;
+    private java.lang.Object expirationType_;
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    public boolean hasExpirationType() {
+      return ((bitField1_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    public java.lang.String getExpirationType() {
+      java.lang.Object ref = expirationType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          expirationType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string expirationType = 41;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExpirationTypeBytes() {
+      java.lang.Object ref = expirationType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        expirationType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MULTIPLIER_FIELD_NUMBER = 42;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal multiplier_;
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    public boolean hasMultiplier() {
+      return ((bitField1_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getMultiplier() {
+      return multiplier_;
+    }
+    /**
+     * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getMultiplierOrBuilder() {
+      return multiplier_;
+    }
+
+    public static final int HASDELIVERABLE_FIELD_NUMBER = 43;
+    private boolean hasDeliverable_;
+    /**
+     * <code>optional bool hasDeliverable = 43;</code>
+     */
+    public boolean hasHasDeliverable() {
+      return ((bitField1_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional bool hasDeliverable = 43;</code>
+     */
+    public boolean getHasDeliverable() {
+      return hasDeliverable_;
+    }
+
+    public static final int PROVIDERSYMBOL_FIELD_NUMBER = 44;
+    private java.lang.Object providerSymbol_;
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    public boolean hasProviderSymbol() {
+      return ((bitField1_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    public java.lang.String getProviderSymbol() {
+      java.lang.Object ref = providerSymbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          providerSymbol_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string providerSymbol = 44;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProviderSymbolBytes() {
+      java.lang.Object ref = providerSymbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        providerSymbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FUTURETYPE_FIELD_NUMBER = 45;
+    private java.lang.Object futureType_;
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    public boolean hasFutureType() {
+      return ((bitField1_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    public java.lang.String getFutureType() {
+      java.lang.Object ref = futureType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          futureType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string futureType = 45;</code>
+     *
+     * <pre>
+     * futures and currencies
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFutureTypeBytes() {
+      java.lang.Object ref = futureType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        futureType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DELIVERYTYPE_FIELD_NUMBER = 46;
+    private java.lang.Object deliveryType_;
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    public boolean hasDeliveryType() {
+      return ((bitField1_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    public java.lang.String getDeliveryType() {
+      java.lang.Object ref = deliveryType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          deliveryType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string deliveryType = 46;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDeliveryTypeBytes() {
+      java.lang.Object ref = deliveryType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deliveryType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STANDARDTYPE_FIELD_NUMBER = 47;
+    private java.lang.Object standardType_;
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    public boolean hasStandardType() {
+      return ((bitField1_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    public java.lang.String getStandardType() {
+      java.lang.Object ref = standardType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          standardType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string standardType = 47;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStandardTypeBytes() {
+      java.lang.Object ref = standardType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        standardType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONTRACTSIZE_FIELD_NUMBER = 48;
+    private int contractSize_;
+    /**
+     * <code>optional int32 contractSize = 48;</code>
+     */
+    public boolean hasContractSize() {
+      return ((bitField1_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional int32 contractSize = 48;</code>
+     */
+    public int getContractSize() {
+      return contractSize_;
+    }
+
+    public static final int BIDS_FIELD_NUMBER = 50;
+    private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> bids_;
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getBidsList() {
+      return bids_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getBidsOrBuilderList() {
+      return bids_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    public int getBidsCount() {
+      return bids_.size();
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getBids(int index) {
+      return bids_.get(index);
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+     *
+     * <pre>
+     * top-of-book and depth-of-book, as BID and ASK payloads
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getBidsOrBuilder(
+        int index) {
+      return bids_.get(index);
+    }
+
+    public static final int ASKS_FIELD_NUMBER = 51;
+    private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> asks_;
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getAsksList() {
+      return asks_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getAsksOrBuilderList() {
+      return asks_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    public int getAsksCount() {
+      return asks_.size();
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getAsks(int index) {
+      return asks_.get(index);
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getAsksOrBuilder(
+        int index) {
+      return asks_.get(index);
+    }
+
+    private void initFields() {
+      kind_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind.BID;
+      xml_ = "";
+      messageId_ = 0L;
+      timestamp_ = 0L;
+      provider_ = "";
+      requestId_ = 0L;
+      instrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+      eventType_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventType.SNAPSHOT_PART;
+      exchange_ = "";
+      price_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      size_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      exchangeTimestamp_ = 0L;
+      receivedTimestamp_ = 0L;
+      processedTimestamp_ = 0L;
+      action_ = org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction.ADD;
+      level_ = 0;
+      count_ = 0;
+      empty_ = false;
+      tradeCondition_ = "";
+      openPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      highPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      lowPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      closePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      previousClosePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      volume_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      value_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      closeDate_ = "";
+      previousCloseDate_ = "";
+      tradeHighTime_ = "";
+      tradeLowTime_ = "";
+      openExchange_ = "";
+      highExchange_ = "";
+      lowExchange_ = "";
+      closeExchange_ = "";
+      volumeChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      interestChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      underlyingInstrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+      expirationType_ = "";
+      multiplier_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      hasDeliverable_ = false;
+      providerSymbol_ = "";
+      futureType_ = "";
+      deliveryType_ = "";
+      standardType_ = "";
+      contractSize_ = 0;
+      bids_ = java.util.Collections.emptyList();
+      asks_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasKind()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasInstrument()) {
+        if (!getInstrument().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasUnderlyingInstrument()) {
+        if (!getUnderlyingInstrument().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getBidsCount(); i++) {
+        if (!getBids(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getAsksCount(); i++) {
+        if (!getAsks(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, kind_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getXmlBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, messageId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getProviderBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, requestId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(7, instrument_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeEnum(8, eventType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getExchangeBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeMessage(10, price_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeMessage(11, size_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeInt64(12, exchangeTimestamp_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeInt64(13, receivedTimestamp_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeInt64(14, processedTimestamp_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeEnum(15, action_.getNumber());
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeInt32(16, level_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeInt32(17, count_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeBool(18, empty_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeBytes(19, getTradeConditionBytes());
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        output.writeMessage(20, openPrice_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeMessage(21, highPrice_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeMessage(22, lowPrice_);
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeMessage(23, closePrice_);
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        output.writeMessage(24, previousClosePrice_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        output.writeMessage(25, volume_);
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        output.writeMessage(26, value_);
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        output.writeBytes(27, getCloseDateBytes());
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        output.writeBytes(28, getPreviousCloseDateBytes());
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        output.writeBytes(29, getTradeHighTimeBytes());
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        output.writeBytes(30, getTradeLowTimeBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        output.writeBytes(31, getOpenExchangeBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        output.writeBytes(32, getHighExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(33, getLowExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(34, getCloseExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(35, volumeChange_);
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(36, interestChange_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(40, underlyingInstrument_);
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(41, getExpirationTypeBytes());
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        output.writeMessage(42, multiplier_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        output.writeBool(43, hasDeliverable_);
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(44, getProviderSymbolBytes());
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(45, getFutureTypeBytes());
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(46, getDeliveryTypeBytes());
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(47, getStandardTypeBytes());
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        output.writeInt32(48, contractSize_);
+      }
+      for (int i = 0; i < bids_.size(); i++) {
+        output.writeMessage(50, bids_.get(i));
+      }
+      for (int i = 0; i < asks_.size(); i++) {
+        output.writeMessage(51, asks_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, kind_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getXmlBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, messageId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getProviderBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, requestId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, instrument_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(8, eventType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getExchangeBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, price_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, size_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(12, exchangeTimestamp_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(13, receivedTimestamp_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(14, processedTimestamp_);
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(15, action_.getNumber());
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, level_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(17, count_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(18, empty_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(19, getTradeConditionBytes());
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, openPrice_);
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, highPrice_);
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(22, lowPrice_);
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(23, closePrice_);
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(24, previousClosePrice_);
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(25, volume_);
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(26, value_);
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(27, getCloseDateBytes());
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(28, getPreviousCloseDateBytes());
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(29, getTradeHighTimeBytes());
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(30, getTradeLowTimeBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(31, getOpenExchangeBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(32, getHighExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(33, getLowExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(34, getCloseExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(35, volumeChange_);
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(36, interestChange_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(40, underlyingInstrument_);
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(41, getExpirationTypeBytes());
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(42, multiplier_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(43, hasDeliverable_);
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(44, getProviderSymbolBytes());
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(45, getFutureTypeBytes());
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(46, getDeliveryTypeBytes());
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(47, getStandardTypeBytes());
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(48, contractSize_);
+      }
+      for (int i = 0; i < bids_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(50, bids_.get(i));
+      }
+      for (int i = 0; i < asks_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(51, asks_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RpcEvents.EventPayload}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RpcEvents.EventPayload)
+        org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_EventPayload_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_EventPayload_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.class, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getInstrumentFieldBuilder();
+          getPriceFieldBuilder();
+          getSizeFieldBuilder();
+          getOpenPriceFieldBuilder();
+          getHighPriceFieldBuilder();
+          getLowPriceFieldBuilder();
+          getClosePriceFieldBuilder();
+          getPreviousClosePriceFieldBuilder();
+          getVolumeFieldBuilder();
+          getValueFieldBuilder();
+          getVolumeChangeFieldBuilder();
+          getInterestChangeFieldBuilder();
+          getUnderlyingInstrumentFieldBuilder();
+          getMultiplierFieldBuilder();
+          getBidsFieldBuilder();
+          getAsksFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        kind_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind.BID;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        xml_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        messageId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        provider_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        eventType_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventType.SNAPSHOT_PART;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        exchange_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        if (priceBuilder_ == null) {
+          price_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          priceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        if (sizeBuilder_ == null) {
+          size_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          sizeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        exchangeTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        receivedTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        processedTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        action_ = org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction.ADD;
+        bitField0_ = (bitField0_ & ~0x00004000);
+        level_ = 0;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        count_ = 0;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        empty_ = false;
+        bitField0_ = (bitField0_ & ~0x00020000);
+        tradeCondition_ = "";
+        bitField0_ = (bitField0_ & ~0x00040000);
+        if (openPriceBuilder_ == null) {
+          openPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          openPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00080000);
+        if (highPriceBuilder_ == null) {
+          highPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          highPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00100000);
+        if (lowPriceBuilder_ == null) {
+          lowPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          lowPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        if (closePriceBuilder_ == null) {
+          closePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          closePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00400000);
+        if (previousClosePriceBuilder_ == null) {
+          previousClosePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          previousClosePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00800000);
+        if (volumeBuilder_ == null) {
+          volume_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          volumeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x01000000);
+        if (valueBuilder_ == null) {
+          value_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          valueBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x02000000);
+        closeDate_ = "";
+        bitField0_ = (bitField0_ & ~0x04000000);
+        previousCloseDate_ = "";
+        bitField0_ = (bitField0_ & ~0x08000000);
+        tradeHighTime_ = "";
+        bitField0_ = (bitField0_ & ~0x10000000);
+        tradeLowTime_ = "";
+        bitField0_ = (bitField0_ & ~0x20000000);
+        openExchange_ = "";
+        bitField0_ = (bitField0_ & ~0x40000000);
+        highExchange_ = "";
+        bitField0_ = (bitField0_ & ~0x80000000);
+        lowExchange_ = "";
+        bitField1_ = (bitField1_ & ~0x00000001);
+        closeExchange_ = "";
+        bitField1_ = (bitField1_ & ~0x00000002);
+        if (volumeChangeBuilder_ == null) {
+          volumeChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          volumeChangeBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000004);
+        if (interestChangeBuilder_ == null) {
+          interestChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          interestChangeBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+        } else {
+          underlyingInstrumentBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000010);
+        expirationType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000020);
+        if (multiplierBuilder_ == null) {
+          multiplier_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+        } else {
+          multiplierBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000040);
+        hasDeliverable_ = false;
+        bitField1_ = (bitField1_ & ~0x00000080);
+        providerSymbol_ = "";
+        bitField1_ = (bitField1_ & ~0x00000100);
+        futureType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000200);
+        deliveryType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000400);
+        standardType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000800);
+        contractSize_ = 0;
+        bitField1_ = (bitField1_ & ~0x00001000);
+        if (bidsBuilder_ == null) {
+          bids_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00002000);
+        } else {
+          bidsBuilder_.clear();
+        }
+        if (asksBuilder_ == null) {
+          asks_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00004000);
+        } else {
+          asksBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.internal_static_RpcEvents_EventPayload_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload build() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload result = new org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload(this);
+        int from_bitField0_ = bitField0_;
+        int from_bitField1_ = bitField1_;
+        int to_bitField0_ = 0;
+        int to_bitField1_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.kind_ = kind_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.xml_ = xml_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.messageId_ = messageId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.provider_ = provider_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        if (instrumentBuilder_ == null) {
+          result.instrument_ = instrument_;
+        } else {
+          result.instrument_ = instrumentBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.eventType_ = eventType_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.exchange_ = exchange_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        if (priceBuilder_ == null) {
+          result.price_ = price_;
+        } else {
+          result.price_ = priceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        if (sizeBuilder_ == null) {
+          result.size_ = size_;
+        } else {
+          result.size_ = sizeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.exchangeTimestamp_ = exchangeTimestamp_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.receivedTimestamp_ = receivedTimestamp_;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.processedTimestamp_ = processedTimestamp_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.action_ = action_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.level_ = level_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.count_ = count_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.empty_ = empty_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.tradeCondition_ = tradeCondition_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        if (openPriceBuilder_ == null) {
+          result.openPrice_ = openPrice_;
+        } else {
+          result.openPrice_ = openPriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        if (highPriceBuilder_ == null) {
+          result.highPrice_ = highPrice_;
+        } else {
+          result.highPrice_ = highPriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        if (lowPriceBuilder_ == null) {
+          result.lowPrice_ = lowPrice_;
+        } else {
+          result.lowPrice_ = lowPriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        if (closePriceBuilder_ == null) {
+          result.closePrice_ = closePrice_;
+        } else {
+          result.closePrice_ = closePriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        if (previousClosePriceBuilder_ == null) {
+          result.previousClosePrice_ = previousClosePrice_;
+        } else {
+          result.previousClosePrice_ = previousClosePriceBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x01000000;
+        }
+        if (volumeBuilder_ == null) {
+          result.volume_ = volume_;
+        } else {
+          result.volume_ = volumeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
+          to_bitField0_ |= 0x02000000;
+        }
+        if (valueBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = valueBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x04000000;
+        }
+        result.closeDate_ = closeDate_;
+        if (((from_bitField0_ & 0x08000000) == 0x08000000)) {
+          to_bitField0_ |= 0x08000000;
+        }
+        result.previousCloseDate_ = previousCloseDate_;
+        if (((from_bitField0_ & 0x10000000) == 0x10000000)) {
+          to_bitField0_ |= 0x10000000;
+        }
+        result.tradeHighTime_ = tradeHighTime_;
+        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
+          to_bitField0_ |= 0x20000000;
+        }
+        result.tradeLowTime_ = tradeLowTime_;
+        if (((from_bitField0_ & 0x40000000) == 0x40000000)) {
+          to_bitField0_ |= 0x40000000;
+        }
+        result.openExchange_ = openExchange_;
+        if (((from_bitField0_ & 0x80000000) == 0x80000000)) {
+          to_bitField0_ |= 0x80000000;
+        }
+        result.highExchange_ = highExchange_;
+        if (((from_bitField1_ & 0x00000001) == 0x00000001)) {
+          to_bitField1_ |= 0x00000001;
+        }
+        result.lowExchange_ = lowExchange_;
+        if (((from_bitField1_ & 0x00000002) == 0x00000002)) {
+          to_bitField1_ |= 0x00000002;
+        }
+        result.closeExchange_ = closeExchange_;
+        if (((from_bitField1_ & 0x00000004) == 0x00000004)) {
+          to_bitField1_ |= 0x00000004;
+        }
+        if (volumeChangeBuilder_ == null) {
+          result.volumeChange_ = volumeChange_;
+        } else {
+          result.volumeChange_ = volumeChangeBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000008) == 0x00000008)) {
+          to_bitField1_ |= 0x00000008;
+        }
+        if (interestChangeBuilder_ == null) {
+          result.interestChange_ = interestChange_;
+        } else {
+          result.interestChange_ = interestChangeBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000010) == 0x00000010)) {
+          to_bitField1_ |= 0x00000010;
+        }
+        if (underlyingInstrumentBuilder_ == null) {
+          result.underlyingInstrument_ = underlyingInstrument_;
+        } else {
+          result.underlyingInstrument_ = underlyingInstrumentBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000020) == 0x00000020)) {
+          to_bitField1_ |= 0x00000020;
+        }
+        result.expirationType_ = expirationType_;
+        if (((from_bitField1_ & 0x00000040) == 0x00000040)) {
+          to_bitField1_ |= 0x00000040;
+        }
+        if (multiplierBuilder_ == null) {
+          result.multiplier_ = multiplier_;
+        } else {
+          result.multiplier_ = multiplierBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000080) == 0x00000080)) {
+          to_bitField1_ |= 0x00000080;
+        }
+        result.hasDeliverable_ = hasDeliverable_;
+        if (((from_bitField1_ & 0x00000100) == 0x00000100)) {
+          to_bitField1_ |= 0x00000100;
+        }
+        result.providerSymbol_ = providerSymbol_;
+        if (((from_bitField1_ & 0x00000200) == 0x00000200)) {
+          to_bitField1_ |= 0x00000200;
+        }
+        result.futureType_ = futureType_;
+        if (((from_bitField1_ & 0x00000400) == 0x00000400)) {
+          to_bitField1_ |= 0x00000400;
+        }
+        result.deliveryType_ = deliveryType_;
+        if (((from_bitField1_ & 0x00000800) == 0x00000800)) {
+          to_bitField1_ |= 0x00000800;
+        }
+        result.standardType_ = standardType_;
+        if (((from_bitField1_ & 0x00001000) == 0x00001000)) {
+          to_bitField1_ |= 0x00001000;
+        }
+        result.contractSize_ = contractSize_;
+        if (bidsBuilder_ == null) {
+          if (((bitField1_ & 0x00002000) == 0x00002000)) {
+            bids_ = java.util.Collections.unmodifiableList(bids_);
+            bitField1_ = (bitField1_ & ~0x00002000);
+          }
+          result.bids_ = bids_;
+        } else {
+          result.bids_ = bidsBuilder_.build();
+        }
+        if (asksBuilder_ == null) {
+          if (((bitField1_ & 0x00004000) == 0x00004000)) {
+            asks_ = java.util.Collections.unmodifiableList(asks_);
+            bitField1_ = (bitField1_ & ~0x00004000);
+          }
+          result.asks_ = asks_;
+        } else {
+          result.asks_ = asksBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        result.bitField1_ = to_bitField1_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance()) return this;
+        if (other.hasKind()) {
+          setKind(other.getKind());
+        }
+        if (other.hasXml()) {
+          bitField0_ |= 0x00000002;
+          xml_ = other.xml_;
+          onChanged();
+        }
+        if (other.hasMessageId()) {
+          setMessageId(other.getMessageId());
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasProvider()) {
+          bitField0_ |= 0x00000010;
+          provider_ = other.provider_;
+          onChanged();
+        }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasInstrument()) {
+          mergeInstrument(other.getInstrument());
+        }
+        if (other.hasEventType()) {
+          setEventType(other.getEventType());
+        }
+        if (other.hasExchange()) {
+          bitField0_ |= 0x00000100;
+          exchange_ = other.exchange_;
+          onChanged();
+        }
+        if (other.hasPrice()) {
+          mergePrice(other.getPrice());
+        }
+        if (other.hasSize()) {
+          mergeSize(other.getSize());
+        }
+        if (other.hasExchangeTimestamp()) {
+          setExchangeTimestamp(other.getExchangeTimestamp());
+        }
+        if (other.hasReceivedTimestamp()) {
+          setReceivedTimestamp(other.getReceivedTimestamp());
+        }
+        if (other.hasProcessedTimestamp()) {
+          setProcessedTimestamp(other.getProcessedTimestamp());
+        }
+        if (other.hasAction()) {
+          setAction(other.getAction());
+        }
+        if (other.hasLevel()) {
+          setLevel(other.getLevel());
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasEmpty()) {
+          setEmpty(other.getEmpty());
+        }
+        if (other.hasTradeCondition()) {
+          bitField0_ |= 0x00040000;
+          tradeCondition_ = other.tradeCondition_;
+          onChanged();
+        }
+        if (other.hasOpenPrice()) {
+          mergeOpenPrice(other.getOpenPrice());
+        }
+        if (other.hasHighPrice()) {
+          mergeHighPrice(other.getHighPrice());
+        }
+        if (other.hasLowPrice()) {
+          mergeLowPrice(other.getLowPrice());
+        }
+        if (other.hasClosePrice()) {
+          mergeClosePrice(other.getClosePrice());
+        }
+        if (other.hasPreviousClosePrice()) {
+          mergePreviousClosePrice(other.getPreviousClosePrice());
+        }
+        if (other.hasVolume()) {
+          mergeVolume(other.getVolume());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        if (other.hasCloseDate()) {
+          bitField0_ |= 0x04000000;
+          closeDate_ = other.closeDate_;
+          onChanged();
+        }
+        if (other.hasPreviousCloseDate()) {
+          bitField0_ |= 0x08000000;
+          previousCloseDate_ = other.previousCloseDate_;
+          onChanged();
+        }
+        if (other.hasTradeHighTime()) {
+          bitField0_ |= 0x10000000;
+          tradeHighTime_ = other.tradeHighTime_;
+          onChanged();
+        }
+        if (other.hasTradeLowTime()) {
+          bitField0_ |= 0x20000000;
+          tradeLowTime_ = other.tradeLowTime_;
+          onChanged();
+        }
+        if (other.hasOpenExchange()) {
+          bitField0_ |= 0x40000000;
+          openExchange_ = other.openExchange_;
+          onChanged();
+        }
+        if (other.hasHighExchange()) {
+          bitField0_ |= 0x80000000;
+          highExchange_ = other.highExchange_;
+          onChanged();
+        }
+        if (other.hasLowExchange()) {
+          bitField1_ |= 0x00000001;
+          lowExchange_ = other.lowExchange_;
+          onChanged();
+        }
+        if (other.hasCloseExchange()) {
+          bitField1_ |= 0x00000002;
+          closeExchange_ = other.closeExchange_;
+          onChanged();
+        }
+        if (other.hasVolumeChange()) {
+          mergeVolumeChange(other.getVolumeChange());
+        }
+        if (other.hasInterestChange()) {
+          mergeInterestChange(other.getInterestChange());
+        }
+        if (other.hasUnderlyingInstrument()) {
+          mergeUnderlyingInstrument(other.getUnderlyingInstrument());
+        }
+        if (other.hasExpirationType()) {
+          bitField1_ |= 0x00000020;
+          expirationType_ = other.expirationType_;
+          onChanged();
+        }
+        if (other.hasMultiplier()) {
+          mergeMultiplier(other.getMultiplier());
+        }
+        if (other.hasHasDeliverable()) {
+          setHasDeliverable(other.getHasDeliverable());
+        }
+        if (other.hasProviderSymbol()) {
+          bitField1_ |= 0x00000100;
+          providerSymbol_ = other.providerSymbol_;
+          onChanged();
+        }
+        if (other.hasFutureType()) {
+          bitField1_ |= 0x00000200;
+          futureType_ = other.futureType_;
+          onChanged();
+        }
+        if (other.hasDeliveryType()) {
+          bitField1_ |= 0x00000400;
+          deliveryType_ = other.deliveryType_;
+          onChanged();
+        }
+        if (other.hasStandardType()) {
+          bitField1_ |= 0x00000800;
+          standardType_ = other.standardType_;
+          onChanged();
+        }
+        if (other.hasContractSize()) {
+          setContractSize(other.getContractSize());
+        }
+        if (bidsBuilder_ == null) {
+          if (!other.bids_.isEmpty()) {
+            if (bids_.isEmpty()) {
+              bids_ = other.bids_;
+              bitField1_ = (bitField1_ & ~0x00002000);
+            } else {
+              ensureBidsIsMutable();
+              bids_.addAll(other.bids_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.bids_.isEmpty()) {
+            if (bidsBuilder_.isEmpty()) {
+              bidsBuilder_.dispose();
+              bidsBuilder_ = null;
+              bids_ = other.bids_;
+              bitField1_ = (bitField1_ & ~0x00002000);
+              bidsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBidsFieldBuilder() : null;
+            } else {
+              bidsBuilder_.addAllMessages(other.bids_);
+            }
+          }
+        }
+        if (asksBuilder_ == null) {
+          if (!other.asks_.isEmpty()) {
+            if (asks_.isEmpty()) {
+              asks_ = other.asks_;
+              bitField1_ = (bitField1_ & ~0x00004000);
+            } else {
+              ensureAsksIsMutable();
+              asks_.addAll(other.asks_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.asks_.isEmpty()) {
+            if (asksBuilder_.isEmpty()) {
+              asksBuilder_.dispose();
+              asksBuilder_ = null;
+              asks_ = other.asks_;
+              bitField1_ = (bitField1_ & ~0x00004000);
+              asksBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAsksFieldBuilder() : null;
+            } else {
+              asksBuilder_.addAllMessages(other.asks_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasKind()) {
+          
+          return false;
+        }
+        if (hasInstrument()) {
+          if (!getInstrument().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasUnderlyingInstrument()) {
+          if (!getUnderlyingInstrument().isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getBidsCount(); i++) {
+          if (!getBids(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getAsksCount(); i++) {
+          if (!getAsks(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+      private int bitField1_;
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind kind_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind.BID;
+      /**
+       * <code>required .RpcEvents.EventKind kind = 1;</code>
+       */
+      public boolean hasKind() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .RpcEvents.EventKind kind = 1;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind getKind() {
+        return kind_;
+      }
+      /**
+       * <code>required .RpcEvents.EventKind kind = 1;</code>
+       */
+      public Builder setKind(org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        kind_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .RpcEvents.EventKind kind = 1;</code>
+       */
+      public Builder clearKind() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        kind_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind.BID;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object xml_ = "";
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public boolean hasXml() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public java.lang.String getXml() {
+        java.lang.Object ref = xml_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            xml_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getXmlBytes() {
+        java.lang.Object ref = xml_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          xml_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public Builder setXml(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        xml_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public Builder clearXml() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        xml_ = getDefaultInstance().getXml();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string xml = 2;</code>
+       */
+      public Builder setXmlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        xml_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long messageId_ ;
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public boolean hasMessageId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public long getMessageId() {
+        return messageId_;
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public Builder setMessageId(long value) {
+        bitField0_ |= 0x00000004;
+        messageId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public Builder clearMessageId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        messageId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000008;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object provider_ = "";
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public boolean hasProvider() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public java.lang.String getProvider() {
+        java.lang.Object ref = provider_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            provider_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProviderBytes() {
+        java.lang.Object ref = provider_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          provider_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder setProvider(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        provider_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder clearProvider() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        provider_ = getDefaultInstance().getProvider();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder setProviderBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        provider_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000020;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument instrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder> instrumentBuilder_;
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public boolean hasInstrument() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getInstrument() {
+        if (instrumentBuilder_ == null) {
+          return instrument_;
+        } else {
+          return instrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public Builder setInstrument(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instrument_ = value;
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public Builder setInstrument(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder builderForValue) {
+        if (instrumentBuilder_ == null) {
+          instrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public Builder mergeInstrument(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              instrument_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance()) {
+            instrument_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.newBuilder(instrument_).mergeFrom(value).buildPartial();
+          } else {
+            instrument_ = value;
+          }
+          onChanged();
+        } else {
+          instrumentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public Builder clearInstrument() {
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder getInstrumentBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getInstrumentOrBuilder() {
+        if (instrumentBuilder_ != null) {
+          return instrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return instrument_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument instrument = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder> 
+          getInstrumentFieldBuilder() {
+        if (instrumentBuilder_ == null) {
+          instrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder>(
+                  getInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          instrument_ = null;
+        }
+        return instrumentBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.EventType eventType_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventType.SNAPSHOT_PART;
+      /**
+       * <code>optional .RpcEvents.EventType eventType = 8;</code>
+       */
+      public boolean hasEventType() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional .RpcEvents.EventType eventType = 8;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventType getEventType() {
+        return eventType_;
+      }
+      /**
+       * <code>optional .RpcEvents.EventType eventType = 8;</code>
+       */
+      public Builder setEventType(org.marketcetera.marketdata.core.rpc.RpcEvents.EventType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000080;
+        eventType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.EventType eventType = 8;</code>
+       */
+      public Builder clearEventType() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        eventType_ = org.marketcetera.marketdata.core.rpc.RpcEvents.EventType.SNAPSHOT_PART;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object exchange_ = "";
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public boolean hasExchange() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public java.lang.String getExchange() {
+        java.lang.Object ref = exchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            exchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getExchangeBytes() {
+        java.lang.Object ref = exchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          exchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public Builder setExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        exchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public Builder clearExchange() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        exchange_ = getDefaultInstance().getExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string exchange = 9;</code>
+       *
+       * <pre>
+       * quotes and trades
+       * </pre>
+       */
+      public Builder setExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        exchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal price_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> priceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public boolean hasPrice() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPrice() {
+        if (priceBuilder_ == null) {
+          return price_;
+        } else {
+          return priceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public Builder setPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (priceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          price_ = value;
+          onChanged();
+        } else {
+          priceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public Builder setPrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (priceBuilder_ == null) {
+          price_ = builderForValue.build();
+          onChanged();
+        } else {
+          priceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public Builder mergePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (priceBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) == 0x00000200) &&
+              price_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            price_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(price_).mergeFrom(value).buildPartial();
+          } else {
+            price_ = value;
+          }
+          onChanged();
+        } else {
+          priceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public Builder clearPrice() {
+        if (priceBuilder_ == null) {
+          price_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          priceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getPriceBuilder() {
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return getPriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPriceOrBuilder() {
+        if (priceBuilder_ != null) {
+          return priceBuilder_.getMessageOrBuilder();
+        } else {
+          return price_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal price = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getPriceFieldBuilder() {
+        if (priceBuilder_ == null) {
+          priceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getPrice(),
+                  getParentForChildren(),
+                  isClean());
+          price_ = null;
+        }
+        return priceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal size_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> sizeBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getSize() {
+        if (sizeBuilder_ == null) {
+          return size_;
+        } else {
+          return sizeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public Builder setSize(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (sizeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          size_ = value;
+          onChanged();
+        } else {
+          sizeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public Builder setSize(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (sizeBuilder_ == null) {
+          size_ = builderForValue.build();
+          onChanged();
+        } else {
+          sizeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public Builder mergeSize(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (sizeBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) == 0x00000400) &&
+              size_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            size_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(size_).mergeFrom(value).buildPartial();
+          } else {
+            size_ = value;
+          }
+          onChanged();
+        } else {
+          sizeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public Builder clearSize() {
+        if (sizeBuilder_ == null) {
+          size_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          sizeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getSizeBuilder() {
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return getSizeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getSizeOrBuilder() {
+        if (sizeBuilder_ != null) {
+          return sizeBuilder_.getMessageOrBuilder();
+        } else {
+          return size_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal size = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getSizeFieldBuilder() {
+        if (sizeBuilder_ == null) {
+          sizeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getSize(),
+                  getParentForChildren(),
+                  isClean());
+          size_ = null;
+        }
+        return sizeBuilder_;
+      }
+
+      private long exchangeTimestamp_ ;
+      /**
+       * <code>optional int64 exchangeTimestamp = 12;</code>
+       */
+      public boolean hasExchangeTimestamp() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 12;</code>
+       */
+      public long getExchangeTimestamp() {
+        return exchangeTimestamp_;
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 12;</code>
+       */
+      public Builder setExchangeTimestamp(long value) {
+        bitField0_ |= 0x00000800;
+        exchangeTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 12;</code>
+       */
+      public Builder clearExchangeTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        exchangeTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long receivedTimestamp_ ;
+      /**
+       * <code>optional int64 receivedTimestamp = 13;</code>
+       */
+      public boolean hasReceivedTimestamp() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 13;</code>
+       */
+      public long getReceivedTimestamp() {
+        return receivedTimestamp_;
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 13;</code>
+       */
+      public Builder setReceivedTimestamp(long value) {
+        bitField0_ |= 0x00001000;
+        receivedTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 13;</code>
+       */
+      public Builder clearReceivedTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        receivedTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long processedTimestamp_ ;
+      /**
+       * <code>optional int64 processedTimestamp = 14;</code>
+       */
+      public boolean hasProcessedTimestamp() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 14;</code>
+       */
+      public long getProcessedTimestamp() {
+        return processedTimestamp_;
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 14;</code>
+       */
+      public Builder setProcessedTimestamp(long value) {
+        bitField0_ |= 0x00002000;
+        processedTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 14;</code>
+       */
+      public Builder clearProcessedTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        processedTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction action_ = org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction.ADD;
+      /**
+       * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+       *
+       * <pre>
+       * quotes
+       * </pre>
+       */
+      public boolean hasAction() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+       *
+       * <pre>
+       * quotes
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction getAction() {
+        return action_;
+      }
+      /**
+       * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+       *
+       * <pre>
+       * quotes
+       * </pre>
+       */
+      public Builder setAction(org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00004000;
+        action_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.QuoteAction action = 15;</code>
+       *
+       * <pre>
+       * quotes
+       * </pre>
+       */
+      public Builder clearAction() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        action_ = org.marketcetera.marketdata.core.rpc.RpcEvents.QuoteAction.ADD;
+        onChanged();
+        return this;
+      }
+
+      private int level_ ;
+      /**
+       * <code>optional int32 level = 16;</code>
+       */
+      public boolean hasLevel() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional int32 level = 16;</code>
+       */
+      public int getLevel() {
+        return level_;
+      }
+      /**
+       * <code>optional int32 level = 16;</code>
+       */
+      public Builder setLevel(int value) {
+        bitField0_ |= 0x00008000;
+        level_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 level = 16;</code>
+       */
+      public Builder clearLevel() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        level_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <code>optional int32 count = 17;</code>
+       */
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional int32 count = 17;</code>
+       */
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional int32 count = 17;</code>
+       */
+      public Builder setCount(int value) {
+        bitField0_ |= 0x00010000;
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 count = 17;</code>
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean empty_ ;
+      /**
+       * <code>optional bool empty = 18;</code>
+       */
+      public boolean hasEmpty() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional bool empty = 18;</code>
+       */
+      public boolean getEmpty() {
+        return empty_;
+      }
+      /**
+       * <code>optional bool empty = 18;</code>
+       */
+      public Builder setEmpty(boolean value) {
+        bitField0_ |= 0x00020000;
+        empty_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool empty = 18;</code>
+       */
+      public Builder clearEmpty() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        empty_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeCondition_ = "";
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public boolean hasTradeCondition() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public java.lang.String getTradeCondition() {
+        java.lang.Object ref = tradeCondition_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeCondition_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getTradeConditionBytes() {
+        java.lang.Object ref = tradeCondition_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeCondition_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public Builder setTradeCondition(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00040000;
+        tradeCondition_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public Builder clearTradeCondition() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        tradeCondition_ = getDefaultInstance().getTradeCondition();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeCondition = 19;</code>
+       *
+       * <pre>
+       * trades
+       * </pre>
+       */
+      public Builder setTradeConditionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00040000;
+        tradeCondition_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal openPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> openPriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public boolean hasOpenPrice() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getOpenPrice() {
+        if (openPriceBuilder_ == null) {
+          return openPrice_;
+        } else {
+          return openPriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public Builder setOpenPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (openPriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          openPrice_ = value;
+          onChanged();
+        } else {
+          openPriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public Builder setOpenPrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (openPriceBuilder_ == null) {
+          openPrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          openPriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public Builder mergeOpenPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (openPriceBuilder_ == null) {
+          if (((bitField0_ & 0x00080000) == 0x00080000) &&
+              openPrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            openPrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(openPrice_).mergeFrom(value).buildPartial();
+          } else {
+            openPrice_ = value;
+          }
+          onChanged();
+        } else {
+          openPriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00080000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public Builder clearOpenPrice() {
+        if (openPriceBuilder_ == null) {
+          openPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          openPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00080000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getOpenPriceBuilder() {
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return getOpenPriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getOpenPriceOrBuilder() {
+        if (openPriceBuilder_ != null) {
+          return openPriceBuilder_.getMessageOrBuilder();
+        } else {
+          return openPrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal openPrice = 20;</code>
+       *
+       * <pre>
+       * marketstats
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getOpenPriceFieldBuilder() {
+        if (openPriceBuilder_ == null) {
+          openPriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getOpenPrice(),
+                  getParentForChildren(),
+                  isClean());
+          openPrice_ = null;
+        }
+        return openPriceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal highPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> highPriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public boolean hasHighPrice() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getHighPrice() {
+        if (highPriceBuilder_ == null) {
+          return highPrice_;
+        } else {
+          return highPriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public Builder setHighPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (highPriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          highPrice_ = value;
+          onChanged();
+        } else {
+          highPriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public Builder setHighPrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (highPriceBuilder_ == null) {
+          highPrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          highPriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public Builder mergeHighPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (highPriceBuilder_ == null) {
+          if (((bitField0_ & 0x00100000) == 0x00100000) &&
+              highPrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            highPrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(highPrice_).mergeFrom(value).buildPartial();
+          } else {
+            highPrice_ = value;
+          }
+          onChanged();
+        } else {
+          highPriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00100000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public Builder clearHighPrice() {
+        if (highPriceBuilder_ == null) {
+          highPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          highPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00100000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getHighPriceBuilder() {
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return getHighPriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getHighPriceOrBuilder() {
+        if (highPriceBuilder_ != null) {
+          return highPriceBuilder_.getMessageOrBuilder();
+        } else {
+          return highPrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal highPrice = 21;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getHighPriceFieldBuilder() {
+        if (highPriceBuilder_ == null) {
+          highPriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getHighPrice(),
+                  getParentForChildren(),
+                  isClean());
+          highPrice_ = null;
+        }
+        return highPriceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal lowPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> lowPriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public boolean hasLowPrice() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getLowPrice() {
+        if (lowPriceBuilder_ == null) {
+          return lowPrice_;
+        } else {
+          return lowPriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public Builder setLowPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (lowPriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          lowPrice_ = value;
+          onChanged();
+        } else {
+          lowPriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public Builder setLowPrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (lowPriceBuilder_ == null) {
+          lowPrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          lowPriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public Builder mergeLowPrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (lowPriceBuilder_ == null) {
+          if (((bitField0_ & 0x00200000) == 0x00200000) &&
+              lowPrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            lowPrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(lowPrice_).mergeFrom(value).buildPartial();
+          } else {
+            lowPrice_ = value;
+          }
+          onChanged();
+        } else {
+          lowPriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00200000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public Builder clearLowPrice() {
+        if (lowPriceBuilder_ == null) {
+          lowPrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          lowPriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getLowPriceBuilder() {
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return getLowPriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getLowPriceOrBuilder() {
+        if (lowPriceBuilder_ != null) {
+          return lowPriceBuilder_.getMessageOrBuilder();
+        } else {
+          return lowPrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal lowPrice = 22;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getLowPriceFieldBuilder() {
+        if (lowPriceBuilder_ == null) {
+          lowPriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getLowPrice(),
+                  getParentForChildren(),
+                  isClean());
+          lowPrice_ = null;
+        }
+        return lowPriceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal closePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> closePriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public boolean hasClosePrice() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getClosePrice() {
+        if (closePriceBuilder_ == null) {
+          return closePrice_;
+        } else {
+          return closePriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public Builder setClosePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (closePriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          closePrice_ = value;
+          onChanged();
+        } else {
+          closePriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public Builder setClosePrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (closePriceBuilder_ == null) {
+          closePrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          closePriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public Builder mergeClosePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (closePriceBuilder_ == null) {
+          if (((bitField0_ & 0x00400000) == 0x00400000) &&
+              closePrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            closePrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(closePrice_).mergeFrom(value).buildPartial();
+          } else {
+            closePrice_ = value;
+          }
+          onChanged();
+        } else {
+          closePriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00400000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public Builder clearClosePrice() {
+        if (closePriceBuilder_ == null) {
+          closePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          closePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00400000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getClosePriceBuilder() {
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return getClosePriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getClosePriceOrBuilder() {
+        if (closePriceBuilder_ != null) {
+          return closePriceBuilder_.getMessageOrBuilder();
+        } else {
+          return closePrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal closePrice = 23;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getClosePriceFieldBuilder() {
+        if (closePriceBuilder_ == null) {
+          closePriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getClosePrice(),
+                  getParentForChildren(),
+                  isClean());
+          closePrice_ = null;
+        }
+        return closePriceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal previousClosePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> previousClosePriceBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public boolean hasPreviousClosePrice() {
+        return ((bitField0_ & 0x00800000) == 0x00800000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getPreviousClosePrice() {
+        if (previousClosePriceBuilder_ == null) {
+          return previousClosePrice_;
+        } else {
+          return previousClosePriceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public Builder setPreviousClosePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (previousClosePriceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          previousClosePrice_ = value;
+          onChanged();
+        } else {
+          previousClosePriceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00800000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public Builder setPreviousClosePrice(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (previousClosePriceBuilder_ == null) {
+          previousClosePrice_ = builderForValue.build();
+          onChanged();
+        } else {
+          previousClosePriceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00800000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public Builder mergePreviousClosePrice(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (previousClosePriceBuilder_ == null) {
+          if (((bitField0_ & 0x00800000) == 0x00800000) &&
+              previousClosePrice_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            previousClosePrice_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(previousClosePrice_).mergeFrom(value).buildPartial();
+          } else {
+            previousClosePrice_ = value;
+          }
+          onChanged();
+        } else {
+          previousClosePriceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00800000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public Builder clearPreviousClosePrice() {
+        if (previousClosePriceBuilder_ == null) {
+          previousClosePrice_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          previousClosePriceBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00800000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getPreviousClosePriceBuilder() {
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return getPreviousClosePriceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getPreviousClosePriceOrBuilder() {
+        if (previousClosePriceBuilder_ != null) {
+          return previousClosePriceBuilder_.getMessageOrBuilder();
+        } else {
+          return previousClosePrice_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal previousClosePrice = 24;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getPreviousClosePriceFieldBuilder() {
+        if (previousClosePriceBuilder_ == null) {
+          previousClosePriceBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getPreviousClosePrice(),
+                  getParentForChildren(),
+                  isClean());
+          previousClosePrice_ = null;
+        }
+        return previousClosePriceBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal volume_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> volumeBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public boolean hasVolume() {
+        return ((bitField0_ & 0x01000000) == 0x01000000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolume() {
+        if (volumeBuilder_ == null) {
+          return volume_;
+        } else {
+          return volumeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public Builder setVolume(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (volumeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          volume_ = value;
+          onChanged();
+        } else {
+          volumeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x01000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public Builder setVolume(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (volumeBuilder_ == null) {
+          volume_ = builderForValue.build();
+          onChanged();
+        } else {
+          volumeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x01000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public Builder mergeVolume(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (volumeBuilder_ == null) {
+          if (((bitField0_ & 0x01000000) == 0x01000000) &&
+              volume_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            volume_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(volume_).mergeFrom(value).buildPartial();
+          } else {
+            volume_ = value;
+          }
+          onChanged();
+        } else {
+          volumeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x01000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public Builder clearVolume() {
+        if (volumeBuilder_ == null) {
+          volume_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          volumeBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x01000000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getVolumeBuilder() {
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return getVolumeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeOrBuilder() {
+        if (volumeBuilder_ != null) {
+          return volumeBuilder_.getMessageOrBuilder();
+        } else {
+          return volume_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volume = 25;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getVolumeFieldBuilder() {
+        if (volumeBuilder_ == null) {
+          volumeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getVolume(),
+                  getParentForChildren(),
+                  isClean());
+          volume_ = null;
+        }
+        return volumeBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> valueBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getValue() {
+        if (valueBuilder_ == null) {
+          return value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public Builder setValue(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public Builder setValue(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public Builder mergeValue(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x02000000) == 0x02000000) &&
+              value_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            value_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(value_).mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x02000000;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public Builder clearValue() {
+        if (valueBuilder_ == null) {
+          value_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          valueBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x02000000);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getValueBuilder() {
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal value = 26;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+
+      private java.lang.Object closeDate_ = "";
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public boolean hasCloseDate() {
+        return ((bitField0_ & 0x04000000) == 0x04000000);
+      }
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public java.lang.String getCloseDate() {
+        java.lang.Object ref = closeDate_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            closeDate_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCloseDateBytes() {
+        java.lang.Object ref = closeDate_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          closeDate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public Builder setCloseDate(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        closeDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public Builder clearCloseDate() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        closeDate_ = getDefaultInstance().getCloseDate();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeDate = 27;</code>
+       */
+      public Builder setCloseDateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        closeDate_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object previousCloseDate_ = "";
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public boolean hasPreviousCloseDate() {
+        return ((bitField0_ & 0x08000000) == 0x08000000);
+      }
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public java.lang.String getPreviousCloseDate() {
+        java.lang.Object ref = previousCloseDate_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            previousCloseDate_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPreviousCloseDateBytes() {
+        java.lang.Object ref = previousCloseDate_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          previousCloseDate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public Builder setPreviousCloseDate(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        previousCloseDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public Builder clearPreviousCloseDate() {
+        bitField0_ = (bitField0_ & ~0x08000000);
+        previousCloseDate_ = getDefaultInstance().getPreviousCloseDate();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousCloseDate = 28;</code>
+       */
+      public Builder setPreviousCloseDateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        previousCloseDate_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeHighTime_ = "";
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public boolean hasTradeHighTime() {
+        return ((bitField0_ & 0x10000000) == 0x10000000);
+      }
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public java.lang.String getTradeHighTime() {
+        java.lang.Object ref = tradeHighTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeHighTime_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradeHighTimeBytes() {
+        java.lang.Object ref = tradeHighTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeHighTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public Builder setTradeHighTime(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        tradeHighTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public Builder clearTradeHighTime() {
+        bitField0_ = (bitField0_ & ~0x10000000);
+        tradeHighTime_ = getDefaultInstance().getTradeHighTime();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeHighTime = 29;</code>
+       */
+      public Builder setTradeHighTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        tradeHighTime_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeLowTime_ = "";
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public boolean hasTradeLowTime() {
+        return ((bitField0_ & 0x20000000) == 0x20000000);
+      }
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public java.lang.String getTradeLowTime() {
+        java.lang.Object ref = tradeLowTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeLowTime_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradeLowTimeBytes() {
+        java.lang.Object ref = tradeLowTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeLowTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public Builder setTradeLowTime(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x20000000;
+        tradeLowTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public Builder clearTradeLowTime() {
+        bitField0_ = (bitField0_ & ~0x20000000);
+        tradeLowTime_ = getDefaultInstance().getTradeLowTime();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeLowTime = 30;</code>
+       */
+      public Builder setTradeLowTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x20000000;
+        tradeLowTime_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object openExchange_ = "";
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public boolean hasOpenExchange() {
+        return ((bitField0_ & 0x40000000) == 0x40000000);
+      }
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public java.lang.String getOpenExchange() {
+        java.lang.Object ref = openExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            openExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOpenExchangeBytes() {
+        java.lang.Object ref = openExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          openExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public Builder setOpenExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        openExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public Builder clearOpenExchange() {
+        bitField0_ = (bitField0_ & ~0x40000000);
+        openExchange_ = getDefaultInstance().getOpenExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openExchange = 31;</code>
+       */
+      public Builder setOpenExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        openExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object highExchange_ = "";
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public boolean hasHighExchange() {
+        return ((bitField0_ & 0x80000000) == 0x80000000);
+      }
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public java.lang.String getHighExchange() {
+        java.lang.Object ref = highExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            highExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHighExchangeBytes() {
+        java.lang.Object ref = highExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          highExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public Builder setHighExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        highExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public Builder clearHighExchange() {
+        bitField0_ = (bitField0_ & ~0x80000000);
+        highExchange_ = getDefaultInstance().getHighExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highExchange = 32;</code>
+       */
+      public Builder setHighExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        highExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lowExchange_ = "";
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public boolean hasLowExchange() {
+        return ((bitField1_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public java.lang.String getLowExchange() {
+        java.lang.Object ref = lowExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            lowExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLowExchangeBytes() {
+        java.lang.Object ref = lowExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lowExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public Builder setLowExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000001;
+        lowExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public Builder clearLowExchange() {
+        bitField1_ = (bitField1_ & ~0x00000001);
+        lowExchange_ = getDefaultInstance().getLowExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowExchange = 33;</code>
+       */
+      public Builder setLowExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000001;
+        lowExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object closeExchange_ = "";
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public boolean hasCloseExchange() {
+        return ((bitField1_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public java.lang.String getCloseExchange() {
+        java.lang.Object ref = closeExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            closeExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCloseExchangeBytes() {
+        java.lang.Object ref = closeExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          closeExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public Builder setCloseExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000002;
+        closeExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public Builder clearCloseExchange() {
+        bitField1_ = (bitField1_ & ~0x00000002);
+        closeExchange_ = getDefaultInstance().getCloseExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeExchange = 34;</code>
+       */
+      public Builder setCloseExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000002;
+        closeExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal volumeChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> volumeChangeBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public boolean hasVolumeChange() {
+        return ((bitField1_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getVolumeChange() {
+        if (volumeChangeBuilder_ == null) {
+          return volumeChange_;
+        } else {
+          return volumeChangeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public Builder setVolumeChange(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (volumeChangeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          volumeChange_ = value;
+          onChanged();
+        } else {
+          volumeChangeBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public Builder setVolumeChange(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (volumeChangeBuilder_ == null) {
+          volumeChange_ = builderForValue.build();
+          onChanged();
+        } else {
+          volumeChangeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public Builder mergeVolumeChange(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (volumeChangeBuilder_ == null) {
+          if (((bitField1_ & 0x00000004) == 0x00000004) &&
+              volumeChange_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            volumeChange_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(volumeChange_).mergeFrom(value).buildPartial();
+          } else {
+            volumeChange_ = value;
+          }
+          onChanged();
+        } else {
+          volumeChangeBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public Builder clearVolumeChange() {
+        if (volumeChangeBuilder_ == null) {
+          volumeChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          volumeChangeBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getVolumeChangeBuilder() {
+        bitField1_ |= 0x00000004;
+        onChanged();
+        return getVolumeChangeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getVolumeChangeOrBuilder() {
+        if (volumeChangeBuilder_ != null) {
+          return volumeChangeBuilder_.getMessageOrBuilder();
+        } else {
+          return volumeChange_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal volumeChange = 35;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getVolumeChangeFieldBuilder() {
+        if (volumeChangeBuilder_ == null) {
+          volumeChangeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getVolumeChange(),
+                  getParentForChildren(),
+                  isClean());
+          volumeChange_ = null;
+        }
+        return volumeChangeBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal interestChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> interestChangeBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public boolean hasInterestChange() {
+        return ((bitField1_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getInterestChange() {
+        if (interestChangeBuilder_ == null) {
+          return interestChange_;
+        } else {
+          return interestChangeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public Builder setInterestChange(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (interestChangeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          interestChange_ = value;
+          onChanged();
+        } else {
+          interestChangeBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public Builder setInterestChange(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (interestChangeBuilder_ == null) {
+          interestChange_ = builderForValue.build();
+          onChanged();
+        } else {
+          interestChangeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public Builder mergeInterestChange(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (interestChangeBuilder_ == null) {
+          if (((bitField1_ & 0x00000008) == 0x00000008) &&
+              interestChange_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            interestChange_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(interestChange_).mergeFrom(value).buildPartial();
+          } else {
+            interestChange_ = value;
+          }
+          onChanged();
+        } else {
+          interestChangeBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public Builder clearInterestChange() {
+        if (interestChangeBuilder_ == null) {
+          interestChange_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          interestChangeBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getInterestChangeBuilder() {
+        bitField1_ |= 0x00000008;
+        onChanged();
+        return getInterestChangeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getInterestChangeOrBuilder() {
+        if (interestChangeBuilder_ != null) {
+          return interestChangeBuilder_.getMessageOrBuilder();
+        } else {
+          return interestChange_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal interestChange = 36;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getInterestChangeFieldBuilder() {
+        if (interestChangeBuilder_ == null) {
+          interestChangeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getInterestChange(),
+                  getParentForChildren(),
+                  isClean());
+          interestChange_ = null;
+        }
+        return interestChangeBuilder_;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument underlyingInstrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder> underlyingInstrumentBuilder_;
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public boolean hasUnderlyingInstrument() {
+        return ((bitField1_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument getUnderlyingInstrument() {
+        if (underlyingInstrumentBuilder_ == null) {
+          return underlyingInstrument_;
+        } else {
+          return underlyingInstrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder setUnderlyingInstrument(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument value) {
+        if (underlyingInstrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          underlyingInstrument_ = value;
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder setUnderlyingInstrument(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder builderForValue) {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder mergeUnderlyingInstrument(org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument value) {
+        if (underlyingInstrumentBuilder_ == null) {
+          if (((bitField1_ & 0x00000010) == 0x00000010) &&
+              underlyingInstrument_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance()) {
+            underlyingInstrument_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.newBuilder(underlyingInstrument_).mergeFrom(value).buildPartial();
+          } else {
+            underlyingInstrument_ = value;
+          }
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public Builder clearUnderlyingInstrument() {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder getUnderlyingInstrumentBuilder() {
+        bitField1_ |= 0x00000010;
+        onChanged();
+        return getUnderlyingInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder() {
+        if (underlyingInstrumentBuilder_ != null) {
+          return underlyingInstrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return underlyingInstrument_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Instrument underlyingInstrument = 40;</code>
+       *
+       * <pre>
+       * options
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder> 
+          getUnderlyingInstrumentFieldBuilder() {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument, org.marketcetera.marketdata.core.rpc.RpcEvents.Instrument.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.InstrumentOrBuilder>(
+                  getUnderlyingInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          underlyingInstrument_ = null;
+        }
+        return underlyingInstrumentBuilder_;
+      }
+
+      private java.lang.Object expirationType_ = "";
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public boolean hasExpirationType() {
+        return ((bitField1_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public java.lang.String getExpirationType() {
+        java.lang.Object ref = expirationType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            expirationType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExpirationTypeBytes() {
+        java.lang.Object ref = expirationType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          expirationType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public Builder setExpirationType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000020;
+        expirationType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public Builder clearExpirationType() {
+        bitField1_ = (bitField1_ & ~0x00000020);
+        expirationType_ = getDefaultInstance().getExpirationType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expirationType = 41;</code>
+       */
+      public Builder setExpirationTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000020;
+        expirationType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal multiplier_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> multiplierBuilder_;
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public boolean hasMultiplier() {
+        return ((bitField1_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal getMultiplier() {
+        if (multiplierBuilder_ == null) {
+          return multiplier_;
+        } else {
+          return multiplierBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public Builder setMultiplier(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (multiplierBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          multiplier_ = value;
+          onChanged();
+        } else {
+          multiplierBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public Builder setMultiplier(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder builderForValue) {
+        if (multiplierBuilder_ == null) {
+          multiplier_ = builderForValue.build();
+          onChanged();
+        } else {
+          multiplierBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public Builder mergeMultiplier(org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal value) {
+        if (multiplierBuilder_ == null) {
+          if (((bitField1_ & 0x00000040) == 0x00000040) &&
+              multiplier_ != org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance()) {
+            multiplier_ =
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.newBuilder(multiplier_).mergeFrom(value).buildPartial();
+          } else {
+            multiplier_ = value;
+          }
+          onChanged();
+        } else {
+          multiplierBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public Builder clearMultiplier() {
+        if (multiplierBuilder_ == null) {
+          multiplier_ = org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.getDefaultInstance();
+          onChanged();
+        } else {
+          multiplierBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder getMultiplierBuilder() {
+        bitField1_ |= 0x00000040;
+        onChanged();
+        return getMultiplierFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder getMultiplierOrBuilder() {
+        if (multiplierBuilder_ != null) {
+          return multiplierBuilder_.getMessageOrBuilder();
+        } else {
+          return multiplier_;
+        }
+      }
+      /**
+       * <code>optional .RpcEvents.Decimal multiplier = 42;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder> 
+          getMultiplierFieldBuilder() {
+        if (multiplierBuilder_ == null) {
+          multiplierBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal, org.marketcetera.marketdata.core.rpc.RpcEvents.Decimal.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.DecimalOrBuilder>(
+                  getMultiplier(),
+                  getParentForChildren(),
+                  isClean());
+          multiplier_ = null;
+        }
+        return multiplierBuilder_;
+      }
+
+      private boolean hasDeliverable_ ;
+      /**
+       * <code>optional bool hasDeliverable = 43;</code>
+       */
+      public boolean hasHasDeliverable() {
+        return ((bitField1_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional bool hasDeliverable = 43;</code>
+       */
+      public boolean getHasDeliverable() {
+        return hasDeliverable_;
+      }
+      /**
+       * <code>optional bool hasDeliverable = 43;</code>
+       */
+      public Builder setHasDeliverable(boolean value) {
+        bitField1_ |= 0x00000080;
+        hasDeliverable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool hasDeliverable = 43;</code>
+       */
+      public Builder clearHasDeliverable() {
+        bitField1_ = (bitField1_ & ~0x00000080);
+        hasDeliverable_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object providerSymbol_ = "";
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public boolean hasProviderSymbol() {
+        return ((bitField1_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public java.lang.String getProviderSymbol() {
+        java.lang.Object ref = providerSymbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            providerSymbol_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProviderSymbolBytes() {
+        java.lang.Object ref = providerSymbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          providerSymbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public Builder setProviderSymbol(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000100;
+        providerSymbol_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public Builder clearProviderSymbol() {
+        bitField1_ = (bitField1_ & ~0x00000100);
+        providerSymbol_ = getDefaultInstance().getProviderSymbol();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string providerSymbol = 44;</code>
+       */
+      public Builder setProviderSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000100;
+        providerSymbol_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object futureType_ = "";
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public boolean hasFutureType() {
+        return ((bitField1_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public java.lang.String getFutureType() {
+        java.lang.Object ref = futureType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            futureType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getFutureTypeBytes() {
+        java.lang.Object ref = futureType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          futureType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public Builder setFutureType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000200;
+        futureType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public Builder clearFutureType() {
+        bitField1_ = (bitField1_ & ~0x00000200);
+        futureType_ = getDefaultInstance().getFutureType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string futureType = 45;</code>
+       *
+       * <pre>
+       * futures and currencies
+       * </pre>
+       */
+      public Builder setFutureTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000200;
+        futureType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object deliveryType_ = "";
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public boolean hasDeliveryType() {
+        return ((bitField1_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public java.lang.String getDeliveryType() {
+        java.lang.Object ref = deliveryType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            deliveryType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDeliveryTypeBytes() {
+        java.lang.Object ref = deliveryType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deliveryType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public Builder setDeliveryType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000400;
+        deliveryType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public Builder clearDeliveryType() {
+        bitField1_ = (bitField1_ & ~0x00000400);
+        deliveryType_ = getDefaultInstance().getDeliveryType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deliveryType = 46;</code>
+       */
+      public Builder setDeliveryTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000400;
+        deliveryType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object standardType_ = "";
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public boolean hasStandardType() {
+        return ((bitField1_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public java.lang.String getStandardType() {
+        java.lang.Object ref = standardType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            standardType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStandardTypeBytes() {
+        java.lang.Object ref = standardType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          standardType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public Builder setStandardType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000800;
+        standardType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public Builder clearStandardType() {
+        bitField1_ = (bitField1_ & ~0x00000800);
+        standardType_ = getDefaultInstance().getStandardType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string standardType = 47;</code>
+       */
+      public Builder setStandardTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000800;
+        standardType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int contractSize_ ;
+      /**
+       * <code>optional int32 contractSize = 48;</code>
+       */
+      public boolean hasContractSize() {
+        return ((bitField1_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional int32 contractSize = 48;</code>
+       */
+      public int getContractSize() {
+        return contractSize_;
+      }
+      /**
+       * <code>optional int32 contractSize = 48;</code>
+       */
+      public Builder setContractSize(int value) {
+        bitField1_ |= 0x00001000;
+        contractSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 contractSize = 48;</code>
+       */
+      public Builder clearContractSize() {
+        bitField1_ = (bitField1_ & ~0x00001000);
+        contractSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> bids_ =
+        java.util.Collections.emptyList();
+      private void ensureBidsIsMutable() {
+        if (!((bitField1_ & 0x00002000) == 0x00002000)) {
+          bids_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>(bids_);
+          bitField1_ |= 0x00002000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> bidsBuilder_;
+
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getBidsList() {
+        if (bidsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(bids_);
+        } else {
+          return bidsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public int getBidsCount() {
+        if (bidsBuilder_ == null) {
+          return bids_.size();
+        } else {
+          return bidsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getBids(int index) {
+        if (bidsBuilder_ == null) {
+          return bids_.get(index);
+        } else {
+          return bidsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder setBids(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (bidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBidsIsMutable();
+          bids_.set(index, value);
+          onChanged();
+        } else {
+          bidsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder setBids(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (bidsBuilder_ == null) {
+          ensureBidsIsMutable();
+          bids_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          bidsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder addBids(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (bidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBidsIsMutable();
+          bids_.add(value);
+          onChanged();
+        } else {
+          bidsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder addBids(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (bidsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBidsIsMutable();
+          bids_.add(index, value);
+          onChanged();
+        } else {
+          bidsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder addBids(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (bidsBuilder_ == null) {
+          ensureBidsIsMutable();
+          bids_.add(builderForValue.build());
+          onChanged();
+        } else {
+          bidsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder addBids(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (bidsBuilder_ == null) {
+          ensureBidsIsMutable();
+          bids_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          bidsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder addAllBids(
+          java.lang.Iterable<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> values) {
+        if (bidsBuilder_ == null) {
+          ensureBidsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, bids_);
+          onChanged();
+        } else {
+          bidsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder clearBids() {
+        if (bidsBuilder_ == null) {
+          bids_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00002000);
+          onChanged();
+        } else {
+          bidsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public Builder removeBids(int index) {
+        if (bidsBuilder_ == null) {
+          ensureBidsIsMutable();
+          bids_.remove(index);
+          onChanged();
+        } else {
+          bidsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder getBidsBuilder(
+          int index) {
+        return getBidsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getBidsOrBuilder(
+          int index) {
+        if (bidsBuilder_ == null) {
+          return bids_.get(index);  } else {
+          return bidsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+           getBidsOrBuilderList() {
+        if (bidsBuilder_ != null) {
+          return bidsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(bids_);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addBidsBuilder() {
+        return getBidsFieldBuilder().addBuilder(
+            org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addBidsBuilder(
+          int index) {
+        return getBidsFieldBuilder().addBuilder(
+            index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload bids = 50;</code>
+       *
+       * <pre>
+       * top-of-book and depth-of-book, as BID and ASK payloads
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder> 
+           getBidsBuilderList() {
+        return getBidsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+          getBidsFieldBuilder() {
+        if (bidsBuilder_ == null) {
+          bidsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder>(
+                  bids_,
+                  ((bitField1_ & 0x00002000) == 0x00002000),
+                  getParentForChildren(),
+                  isClean());
+          bids_ = null;
+        }
+        return bidsBuilder_;
+      }
+
+      private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> asks_ =
+        java.util.Collections.emptyList();
+      private void ensureAsksIsMutable() {
+        if (!((bitField1_ & 0x00004000) == 0x00004000)) {
+          asks_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>(asks_);
+          bitField1_ |= 0x00004000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> asksBuilder_;
+
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getAsksList() {
+        if (asksBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(asks_);
+        } else {
+          return asksBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public int getAsksCount() {
+        if (asksBuilder_ == null) {
+          return asks_.size();
+        } else {
+          return asksBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getAsks(int index) {
+        if (asksBuilder_ == null) {
+          return asks_.get(index);
+        } else {
+          return asksBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder setAsks(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (asksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAsksIsMutable();
+          asks_.set(index, value);
+          onChanged();
+        } else {
+          asksBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder setAsks(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (asksBuilder_ == null) {
+          ensureAsksIsMutable();
+          asks_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          asksBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder addAsks(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (asksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAsksIsMutable();
+          asks_.add(value);
+          onChanged();
+        } else {
+          asksBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder addAsks(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (asksBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAsksIsMutable();
+          asks_.add(index, value);
+          onChanged();
+        } else {
+          asksBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder addAsks(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (asksBuilder_ == null) {
+          ensureAsksIsMutable();
+          asks_.add(builderForValue.build());
+          onChanged();
+        } else {
+          asksBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder addAsks(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (asksBuilder_ == null) {
+          ensureAsksIsMutable();
+          asks_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          asksBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder addAllAsks(
+          java.lang.Iterable<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> values) {
+        if (asksBuilder_ == null) {
+          ensureAsksIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, asks_);
+          onChanged();
+        } else {
+          asksBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder clearAsks() {
+        if (asksBuilder_ == null) {
+          asks_ = java.util.Collections.emptyList();
+          bitField1_ = (bitField1_ & ~0x00004000);
+          onChanged();
+        } else {
+          asksBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public Builder removeAsks(int index) {
+        if (asksBuilder_ == null) {
+          ensureAsksIsMutable();
+          asks_.remove(index);
+          onChanged();
+        } else {
+          asksBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder getAsksBuilder(
+          int index) {
+        return getAsksFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getAsksOrBuilder(
+          int index) {
+        if (asksBuilder_ == null) {
+          return asks_.get(index);  } else {
+          return asksBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+           getAsksOrBuilderList() {
+        if (asksBuilder_ != null) {
+          return asksBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(asks_);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addAsksBuilder() {
+        return getAsksFieldBuilder().addBuilder(
+            org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addAsksBuilder(
+          int index) {
+        return getAsksFieldBuilder().addBuilder(
+            index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload asks = 51;</code>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder> 
+           getAsksBuilderList() {
+        return getAsksFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+          getAsksFieldBuilder() {
+        if (asksBuilder_ == null) {
+          asksBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder>(
+                  asks_,
+                  ((bitField1_ & 0x00004000) == 0x00004000),
+                  getParentForChildren(),
+                  isClean());
+          asks_ = null;
+        }
+        return asksBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:RpcEvents.EventPayload)
+    }
+
+    static {
+      defaultInstance = new EventPayload(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:RpcEvents.EventPayload)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RpcEvents_Decimal_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_RpcEvents_Decimal_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RpcEvents_Instrument_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_RpcEvents_Instrument_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RpcEvents_EventPayload_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_RpcEvents_EventPayload_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020rpc_events.proto\022\tRpcEvents\"F\n\007Decimal" +
+      "\022\025\n\runscaledValue\030\001 \001(\022\022\r\n\005scale\030\002 \001(\021\022\025" +
+      "\n\runscaledBytes\030\003 \001(\014\"\377\001\n\nInstrument\022\024\n\014" +
+      "securityType\030\001 \002(\t\022\016\n\006symbol\030\002 \001(\t\022\024\n\014sy" +
+      "mbolSuffix\030\003 \001(\t\022\016\n\006expiry\030\004 \001(\t\022\'\n\013stri" +
+      "kePrice\030\005 \001(\0132\022.RpcEvents.Decimal\022\022\n\nopt" +
+      "ionType\030\006 \001(\t\022\024\n\014leftCurrency\030\007 \001(\t\022\025\n\rr" +
+      "ightCurrency\030\010 \001(\t\022\021\n\tnearTenor\030\t \001(\t\022\020\n" +
+      "\010farTenor\030\n \001(\t\022\026\n\016tradedCurrency\030\013 \001(\t\"" +
+      "\331\n\n\014EventPayload\022\"\n\004kind\030\001 \002(\0162\024.RpcEven",
+      "ts.EventKind\022\013\n\003xml\030\002 \001(\t\022\021\n\tmessageId\030\003" +
+      " \001(\003\022\021\n\ttimestamp\030\004 \001(\003\022\020\n\010provider\030\005 \001(" +
+      "\t\022\021\n\trequestId\030\006 \001(\003\022)\n\ninstrument\030\007 \001(\013" +
+      "2\025.RpcEvents.Instrument\022\'\n\teventType\030\010 \001" +
+      "(\0162\024.RpcEvents.EventType\022\020\n\010exchange\030\t \001" +
+      "(\t\022!\n\005price\030\n \001(\0132\022.RpcEvents.Decimal\022 \n" +
+      "\004size\030\013 \001(\0132\022.RpcEvents.Decimal\022\031\n\021excha" +
+      "ngeTimestamp\030\014 \001(\003\022\031\n\021receivedTimestamp\030" +
+      "\r \001(\003\022\032\n\022processedTimestamp\030\016 \001(\003\022&\n\006act" +
+      "ion\030\017 \001(\0162\026.RpcEvents.QuoteAction\022\r\n\005lev",
+      "el\030\020 \001(\005\022\r\n\005count\030\021 \001(\005\022\r\n\005empty\030\022 \001(\010\022\026" +
+      "\n\016tradeCondition\030\023 \001(\t\022%\n\topenPrice\030\024 \001(" +
+      "\0132\022.RpcEvents.Decimal\022%\n\thighPrice\030\025 \001(\013" +
+      "2\022.RpcEvents.Decimal\022$\n\010lowPrice\030\026 \001(\0132\022" +
+      ".RpcEvents.Decimal\022&\n\nclosePrice\030\027 \001(\0132\022" +
+      ".RpcEvents.Decimal\022.\n\022previousClosePrice" +
+      "\030\030 \001(\0132\022.RpcEvents.Decimal\022\"\n\006volume\030\031 \001" +
+      "(\0132\022.RpcEvents.Decimal\022!\n\005value\030\032 \001(\0132\022." +
+      "RpcEvents.Decimal\022\021\n\tcloseDate\030\033 \001(\t\022\031\n\021" +
+      "previousCloseDate\030\034 \001(\t\022\025\n\rtradeHighTime",
+      "\030\035 \001(\t\022\024\n\014tradeLowTime\030\036 \001(\t\022\024\n\014openExch" +
+      "ange\030\037 \001(\t\022\024\n\014highExchange\030  \001(\t\022\023\n\013lowE" +
+      "xchange\030! \001(\t\022\025\n\rcloseExchange\030\" \001(\t\022(\n\014" +
+      "volumeChange\030# \001(\0132\022.RpcEvents.Decimal\022*" +
+      "\n\016interestChange\030$ \001(\0132\022.RpcEvents.Decim" +
+      "al\0223\n\024underlyingInstrument\030( \001(\0132\025.RpcEv" +
+      "ents.Instrument\022\026\n\016expirationType\030) \001(\t\022" +
+      "&\n\nmultiplier\030* \001(\0132\022.RpcEvents.Decimal\022" +
+      "\026\n\016hasDeliverable\030+ \001(\010\022\026\n\016providerSymbo" +
+      "l\030, \001(\t\022\022\n\nfutureType\030- \001(\t\022\024\n\014deliveryT",
+      "ype\030. \001(\t\022\024\n\014standardType\030/ \001(\t\022\024\n\014contr" +
+      "actSize\0300 \001(\005\022%\n\004bids\0302 \003(\0132\027.RpcEvents." +
+      "EventPayload\022%\n\004asks\0303 \003(\0132\027.RpcEvents.E" +
+      "ventPayload*&\n\rPayloadFormat\022\007\n\003XML\020\001\022\014\n" +
+      "\010PROTOBUF\020\002*w\n\tEventKind\022\007\n\003BID\020\001\022\007\n\003ASK" +
+      "\020\002\022\t\n\005TRADE\020\003\022\016\n\nMARKETSTAT\020\004\022\r\n\tXML_EVE" +
+      "NT\020\005\022\025\n\021TOP_OF_BOOK_EVENT\020\006\022\027\n\023DEPTH_OF_" +
+      "BOOK_EVENT\020\007*b\n\tEventType\022\021\n\rSNAPSHOT_PA" +
+      "RT\020\001\022\022\n\016SNAPSHOT_FINAL\020\002\022\017\n\013UPDATE_PART\020" +
+      "\003\022\020\n\014UPDATE_FINAL\020\004\022\013\n\007UNKNOWN\020\005*.\n\013Quot",
+      "eAction\022\007\n\003ADD\020\001\022\n\n\006CHANGE\020\002\022\n\n\006DELETE\020\003" +
+      "B1\n$org.marketcetera.marketdata.core.rpc" +
+      "B\tRpcEvents"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_RpcEvents_Decimal_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_RpcEvents_Decimal_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_RpcEvents_Decimal_descriptor,
+        new java.lang.String[] { "UnscaledValue", "Scale", "UnscaledBytes", });
+    internal_static_RpcEvents_Instrument_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_RpcEvents_Instrument_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_RpcEvents_Instrument_descriptor,
+        new java.lang.String[] { "SecurityType", "Symbol", "SymbolSuffix", "Expiry", "StrikePrice", "OptionType", "LeftCurrency", "RightCurrency", "NearTenor", "FarTenor", "TradedCurrency", });
+    internal_static_RpcEvents_EventPayload_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_RpcEvents_EventPayload_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_RpcEvents_EventPayload_descriptor,
+        new java.lang.String[] { "Kind", "Xml", "MessageId", "Timestamp", "Provider", "RequestId", "Instrument", "EventType", "Exchange", "Price", "Size", "ExchangeTimestamp", "ReceivedTimestamp", "ProcessedTimestamp", "Action", "Level", "Count", "Empty", "TradeCondition", "OpenPrice", "HighPrice", "LowPrice", "ClosePrice", "PreviousClosePrice", "Volume", "Value", "CloseDate", "PreviousCloseDate", "TradeHighTime", "TradeLowTime", "OpenExchange", "HighExchange", "LowExchange", "CloseExchange", "VolumeChange", "InterestChange", "UnderlyingInstrument", "ExpirationType", "Multiplier", "HasDeliverable", "ProviderSymbol", "FutureType", "DeliveryType", "StandardType", "ContractSize", "Bids", "Asks", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
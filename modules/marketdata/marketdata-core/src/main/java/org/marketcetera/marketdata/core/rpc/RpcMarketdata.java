@@ -385,6 +385,23 @@ public final class RpcMarketdata {
      */
     com.google.protobuf.ByteString
         getPasswordBytes();
+
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+     *
+     * <pre>
+     * asks for natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+     *
+     * <pre>
+     * asks for natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginRequest}
@@ -481,6 +498,17 @@ public final class RpcMarketdata {
               password_ = bs;
               break;
             }
+            case 56: {
+              int rawValue = input.readEnum();
+              org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat value = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000040;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -752,6 +780,29 @@ public final class RpcMarketdata {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 7;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+     *
+     * <pre>
+     * asks for natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+     *
+     * <pre>
+     * asks for natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       appId_ = "";
       clientId_ = "";
@@ -759,6 +810,7 @@ public final class RpcMarketdata {
       versionId_ = "";
       username_ = "";
       password_ = "";
+      payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -819,6 +871,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeBytes(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeEnum(7, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -852,6 +907,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -986,6 +1045,8 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000010);
         password_ = "";
         bitField0_ = (bitField0_ & ~0x00000020);
+        payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -1042,6 +1103,10 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000020;
         }
         result.password_ = password_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1086,6 +1151,9 @@ public final class RpcMarketdata {
           password_ = other.password_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1637,6 +1705,57 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+       *
+       * <pre>
+       * asks for natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+       *
+       * <pre>
+       * asks for natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+       *
+       * <pre>
+       * asks for natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public Builder setPayloadFormat(org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 7;</code>
+       *
+       * <pre>
+       * asks for natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginRequest)
     }
 
@@ -2494,6 +2613,23 @@ public final class RpcMarketdata {
      */
     com.google.protobuf.ByteString
         getMessageBytes();
+
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+     *
+     * <pre>
+     * accepts natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+     *
+     * <pre>
+     * accepts natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginResponse}
@@ -2564,6 +2700,17 @@ public final class RpcMarketdata {
               message_ = bs;
               break;
             }
+            case 32: {
+              int rawValue = input.readEnum();
+              org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat value = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2703,10 +2850,34 @@ public final class RpcMarketdata {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 4;
+    private org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+     *
+     * <pre>
+     * accepts natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+     *
+     * <pre>
+     * accepts natively encoded events, see rpc_events.proto
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       sessionId_ = "";
       failed_ = false;
       message_ = "";
+      payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2734,6 +2905,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2755,6 +2929,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2878,6 +3056,8 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         message_ = "";
         bitField0_ = (bitField0_ & ~0x00000004);
+        payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -2918,6 +3098,10 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000004;
         }
         result.message_ = message_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2947,6 +3131,9 @@ public final class RpcMarketdata {
           message_ = other.message_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3162,6 +3349,57 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+       *
+       * <pre>
+       * accepts natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+       *
+       * <pre>
+       * accepts natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+       *
+       * <pre>
+       * accepts natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public Builder setPayloadFormat(org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .RpcEvents.PayloadFormat payloadFormat = 4;</code>
+       *
+       * <pre>
+       * accepts natively encoded events, see rpc_events.proto
+       * </pre>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        payloadFormat_ = org.marketcetera.marketdata.core.rpc.RpcEvents.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginResponse)
     }
 
@@ -5780,6 +6018,23 @@ public final class RpcMarketdata {
      * <code>optional bool streamEvents = 3;</code>
      */
     boolean getStreamEvents();
+
+    /**
+     * <code>optional bool pushEvents = 4;</code>
+     *
+     * <pre>
+     * asks the server to push EventsResponse batches to the client as out-of-band messages
+     * </pre>
+     */
+    boolean hasPushEvents();
+    /**
+     * <code>optional bool pushEvents = 4;</code>
+     *
+     * <pre>
+     * asks the server to push EventsResponse batches to the client as out-of-band messages
+     * </pre>
+     */
+    boolean getPushEvents();
   }
   /**
    * Protobuf type {@code MarketDataRequest}
@@ -5850,6 +6105,11 @@ public final class RpcMarketdata {
               streamEvents_ = input.readBool();
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              pushEvents_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -5989,10 +6249,34 @@ public final class RpcMarketdata {
       return streamEvents_;
     }
 
+    public static final int PUSHEVENTS_FIELD_NUMBER = 4;
+    private boolean pushEvents_;
+    /**
+     * <code>optional bool pushEvents = 4;</code>
+     *
+     * <pre>
+     * asks the server to push EventsResponse batches to the client as out-of-band messages
+     * </pre>
+     */
+    public boolean hasPushEvents() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bool pushEvents = 4;</code>
+     *
+     * <pre>
+     * asks the server to push EventsResponse batches to the client as out-of-band messages
+     * </pre>
+     */
+    public boolean getPushEvents() {
+      return pushEvents_;
+    }
+
     private void initFields() {
       sessionId_ = "";
       request_ = "";
       streamEvents_ = false;
+      pushEvents_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6024,6 +6308,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBool(3, streamEvents_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBool(4, pushEvents_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -6045,6 +6332,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, streamEvents_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, pushEvents_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -6168,6 +6459,8 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         streamEvents_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
+        pushEvents_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -6208,6 +6501,10 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000004;
         }
         result.streamEvents_ = streamEvents_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.pushEvents_ = pushEvents_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6237,6 +6534,9 @@ public final class RpcMarketdata {
         if (other.hasStreamEvents()) {
           setStreamEvents(other.getStreamEvents());
         }
+        if (other.hasPushEvents()) {
+          setPushEvents(other.getPushEvents());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -6456,6 +6756,54 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private boolean pushEvents_ ;
+      /**
+       * <code>optional bool pushEvents = 4;</code>
+       *
+       * <pre>
+       * asks the server to push EventsResponse batches to the client as out-of-band messages
+       * </pre>
+       */
+      public boolean hasPushEvents() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool pushEvents = 4;</code>
+       *
+       * <pre>
+       * asks the server to push EventsResponse batches to the client as out-of-band messages
+       * </pre>
+       */
+      public boolean getPushEvents() {
+        return pushEvents_;
+      }
+      /**
+       * <code>optional bool pushEvents = 4;</code>
+       *
+       * <pre>
+       * asks the server to push EventsResponse batches to the client as out-of-band messages
+       * </pre>
+       */
+      public Builder setPushEvents(boolean value) {
+        bitField0_ |= 0x00000008;
+        pushEvents_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool pushEvents = 4;</code>
+       *
+       * <pre>
+       * asks the server to push EventsResponse batches to the client as out-of-band messages
+       * </pre>
+       */
+      public Builder clearPushEvents() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        pushEvents_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:MarketDataRequest)
     }
 
@@ -10549,6 +10897,50 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 4;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> 
+        getNativePayloadList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index);
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    int getNativePayloadCount();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code EventsResponse}
@@ -10627,6 +11019,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              nativePayload_.add(input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -10638,6 +11038,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -10771,11 +11174,67 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int NATIVEPAYLOAD_FIELD_NUMBER = 5;
+    private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_;
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public int getNativePayloadCount() {
+      return nativePayload_.size();
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+      return nativePayload_.get(index);
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index) {
+      return nativePayload_.get(index);
+    }
+
     private void initFields() {
       id_ = 0L;
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      nativePayload_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10787,6 +11246,12 @@ public final class RpcMarketdata {
         memoizedIsInitialized = 0;
         return false;
       }
+      for (int i = 0; i < getNativePayloadCount(); i++) {
+        if (!getNativePayload(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -10806,6 +11271,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBool(4, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        output.writeMessage(5, nativePayload_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10836,6 +11304,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(4, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, nativePayload_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -10945,6 +11417,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getNativePayloadFieldBuilder();
         }
       }
       private static Builder create() {
@@ -10961,6 +11434,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000004);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000008);
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          nativePayloadBuilder_.clear();
+        }
         return this;
       }
 
@@ -11006,6 +11485,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000004;
         }
         result.failed_ = failed_;
+        if (nativePayloadBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.nativePayload_ = nativePayload_;
+        } else {
+          result.nativePayload_ = nativePayloadBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -11043,6 +11531,32 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (nativePayloadBuilder_ == null) {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayload_.isEmpty()) {
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureNativePayloadIsMutable();
+              nativePayload_.addAll(other.nativePayload_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayloadBuilder_.isEmpty()) {
+              nativePayloadBuilder_.dispose();
+              nativePayloadBuilder_ = null;
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              nativePayloadBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getNativePayloadFieldBuilder() : null;
+            } else {
+              nativePayloadBuilder_.addAllMessages(other.nativePayload_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -11052,6 +11566,12 @@ public final class RpcMarketdata {
           
           return false;
         }
+        for (int i = 0; i < getNativePayloadCount(); i++) {
+          if (!getNativePayload(i).isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -11307,56 +11827,368 @@ public final class RpcMarketdata {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:EventsResponse)
-    }
-
-    static {
-      defaultInstance = new EventsResponse(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:EventsResponse)
-  }
-
-  public interface AllEventsRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:AllEventsRequest)
-      com.google.protobuf.MessageOrBuilder {
+      private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_ =
+        java.util.Collections.emptyList();
+      private void ensureNativePayloadIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>(nativePayload_);
+          bitField0_ |= 0x00000010;
+         }
+      }
 
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    boolean hasSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    java.lang.String getSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getSessionIdBytes();
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> nativePayloadBuilder_;
 
-    /**
-     * <code>repeated int64 id = 2;</code>
-     */
-    java.util.List<java.lang.Long> getIdList();
-    /**
-     * <code>repeated int64 id = 2;</code>
-     */
-    int getIdCount();
-    /**
-     * <code>repeated int64 id = 2;</code>
-     */
-    long getId(int index);
-  }
-  /**
-   * Protobuf type {@code AllEventsRequest}
-   */
-  public static final class AllEventsRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:AllEventsRequest)
-      AllEventsRequestOrBuilder {
-    // Use AllEventsRequest.newBuilder() to construct.
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+        if (nativePayloadBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        } else {
+          return nativePayloadBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public int getNativePayloadCount() {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.size();
+        } else {
+          return nativePayloadBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);
+        } else {
+          return nativePayloadBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addAllNativePayload(
+          java.lang.Iterable<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> values) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nativePayload_);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder clearNativePayload() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder removeNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.remove(index);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder getNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+          int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);  } else {
+          return nativePayloadBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+           getNativePayloadOrBuilderList() {
+        if (nativePayloadBuilder_ != null) {
+          return nativePayloadBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder() {
+        return getNativePayloadFieldBuilder().addBuilder(
+            org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().addBuilder(
+            index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 5;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder> 
+           getNativePayloadBuilderList() {
+        return getNativePayloadFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+          getNativePayloadFieldBuilder() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayloadBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder>(
+                  nativePayload_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          nativePayload_ = null;
+        }
+        return nativePayloadBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:EventsResponse)
+    }
+
+    static {
+      defaultInstance = new EventsResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:EventsResponse)
+  }
+
+  public interface AllEventsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:AllEventsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    java.lang.String getSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSessionIdBytes();
+
+    /**
+     * <code>repeated int64 id = 2;</code>
+     */
+    java.util.List<java.lang.Long> getIdList();
+    /**
+     * <code>repeated int64 id = 2;</code>
+     */
+    int getIdCount();
+    /**
+     * <code>repeated int64 id = 2;</code>
+     */
+    long getId(int index);
+  }
+  /**
+   * Protobuf type {@code AllEventsRequest}
+   */
+  public static final class AllEventsRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:AllEventsRequest)
+      AllEventsRequestOrBuilder {
+    // Use AllEventsRequest.newBuilder() to construct.
     private AllEventsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
@@ -13869,6 +14701,50 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 3;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> 
+        getNativePayloadList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index);
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    int getNativePayloadCount();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code SnapshotResponse}
@@ -13942,6 +14818,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              nativePayload_.add(input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13953,6 +14837,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -14071,10 +14958,66 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int NATIVEPAYLOAD_FIELD_NUMBER = 4;
+    private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_;
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public int getNativePayloadCount() {
+      return nativePayload_.size();
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+      return nativePayload_.get(index);
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index) {
+      return nativePayload_.get(index);
+    }
+
     private void initFields() {
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      nativePayload_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -14082,6 +15025,12 @@ public final class RpcMarketdata {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      for (int i = 0; i < getNativePayloadCount(); i++) {
+        if (!getNativePayload(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -14098,6 +15047,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBool(3, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        output.writeMessage(4, nativePayload_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -14124,6 +15076,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, nativePayload_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -14233,6 +15189,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getNativePayloadFieldBuilder();
         }
       }
       private static Builder create() {
@@ -14247,6 +15204,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          nativePayloadBuilder_.clear();
+        }
         return this;
       }
 
@@ -14288,6 +15251,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000002;
         }
         result.failed_ = failed_;
+        if (nativePayloadBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.nativePayload_ = nativePayload_;
+        } else {
+          result.nativePayload_ = nativePayloadBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -14322,11 +15294,43 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (nativePayloadBuilder_ == null) {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayload_.isEmpty()) {
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNativePayloadIsMutable();
+              nativePayload_.addAll(other.nativePayload_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayloadBuilder_.isEmpty()) {
+              nativePayloadBuilder_.dispose();
+              nativePayloadBuilder_ = null;
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              nativePayloadBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getNativePayloadFieldBuilder() : null;
+            } else {
+              nativePayloadBuilder_.addAllMessages(other.nativePayload_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
+        for (int i = 0; i < getNativePayloadCount(); i++) {
+          if (!getNativePayload(i).isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -14550,31 +15554,343 @@ public final class RpcMarketdata {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:SnapshotResponse)
-    }
-
-    static {
-      defaultInstance = new SnapshotResponse(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:SnapshotResponse)
-  }
+      private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_ =
+        java.util.Collections.emptyList();
+      private void ensureNativePayloadIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>(nativePayload_);
+          bitField0_ |= 0x00000008;
+         }
+      }
 
-  public interface SnapshotPageRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:SnapshotPageRequest)
-      com.google.protobuf.MessageOrBuilder {
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> nativePayloadBuilder_;
 
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    boolean hasSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    java.lang.String getSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+        if (nativePayloadBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        } else {
+          return nativePayloadBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public int getNativePayloadCount() {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.size();
+        } else {
+          return nativePayloadBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);
+        } else {
+          return nativePayloadBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addAllNativePayload(
+          java.lang.Iterable<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> values) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nativePayload_);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder clearNativePayload() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder removeNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.remove(index);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder getNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+          int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);  } else {
+          return nativePayloadBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+           getNativePayloadOrBuilderList() {
+        if (nativePayloadBuilder_ != null) {
+          return nativePayloadBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder() {
+        return getNativePayloadFieldBuilder().addBuilder(
+            org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().addBuilder(
+            index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder> 
+           getNativePayloadBuilderList() {
+        return getNativePayloadFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+          getNativePayloadFieldBuilder() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayloadBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder>(
+                  nativePayload_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          nativePayload_ = null;
+        }
+        return nativePayloadBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:SnapshotResponse)
+    }
+
+    static {
+      defaultInstance = new SnapshotResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:SnapshotResponse)
+  }
+
+  public interface SnapshotPageRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnapshotPageRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    java.lang.String getSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
      */
     com.google.protobuf.ByteString
         getSessionIdBytes();
@@ -15752,6 +17068,50 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 3;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> 
+        getNativePayloadList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index);
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    int getNativePayloadCount();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList();
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code SnapshotPageResponse}
@@ -15825,6 +17185,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              nativePayload_.add(input.readMessage(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -15836,6 +17204,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -15954,10 +17325,66 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int NATIVEPAYLOAD_FIELD_NUMBER = 4;
+    private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_;
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+        getNativePayloadOrBuilderList() {
+      return nativePayload_;
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public int getNativePayloadCount() {
+      return nativePayload_.size();
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+      return nativePayload_.get(index);
+    }
+    /**
+     * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+     *
+     * <pre>
+     * natively encoded events in place of payload
+     * </pre>
+     */
+    public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+        int index) {
+      return nativePayload_.get(index);
+    }
+
     private void initFields() {
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      nativePayload_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -15965,6 +17392,12 @@ public final class RpcMarketdata {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      for (int i = 0; i < getNativePayloadCount(); i++) {
+        if (!getNativePayload(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -15981,6 +17414,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBool(3, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        output.writeMessage(4, nativePayload_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -16007,6 +17443,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, failed_);
       }
+      for (int i = 0; i < nativePayload_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, nativePayload_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -16116,6 +17556,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getNativePayloadFieldBuilder();
         }
       }
       private static Builder create() {
@@ -16130,6 +17571,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          nativePayloadBuilder_.clear();
+        }
         return this;
       }
 
@@ -16171,6 +17618,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000002;
         }
         result.failed_ = failed_;
+        if (nativePayloadBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            nativePayload_ = java.util.Collections.unmodifiableList(nativePayload_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.nativePayload_ = nativePayload_;
+        } else {
+          result.nativePayload_ = nativePayloadBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -16205,11 +17661,43 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (nativePayloadBuilder_ == null) {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayload_.isEmpty()) {
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNativePayloadIsMutable();
+              nativePayload_.addAll(other.nativePayload_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nativePayload_.isEmpty()) {
+            if (nativePayloadBuilder_.isEmpty()) {
+              nativePayloadBuilder_.dispose();
+              nativePayloadBuilder_ = null;
+              nativePayload_ = other.nativePayload_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              nativePayloadBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getNativePayloadFieldBuilder() : null;
+            } else {
+              nativePayloadBuilder_.addAllMessages(other.nativePayload_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
+        for (int i = 0; i < getNativePayloadCount(); i++) {
+          if (!getNativePayload(i).isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -16433,6 +17921,318 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> nativePayload_ =
+        java.util.Collections.emptyList();
+      private void ensureNativePayloadIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          nativePayload_ = new java.util.ArrayList<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload>(nativePayload_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> nativePayloadBuilder_;
+
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> getNativePayloadList() {
+        if (nativePayloadBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        } else {
+          return nativePayloadBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public int getNativePayloadCount() {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.size();
+        } else {
+          return nativePayloadBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload getNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);
+        } else {
+          return nativePayloadBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder setNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload value) {
+        if (nativePayloadBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, value);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addNativePayload(
+          int index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder builderForValue) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder addAllNativePayload(
+          java.lang.Iterable<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload> values) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nativePayload_);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder clearNativePayload() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayload_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public Builder removeNativePayload(int index) {
+        if (nativePayloadBuilder_ == null) {
+          ensureNativePayloadIsMutable();
+          nativePayload_.remove(index);
+          onChanged();
+        } else {
+          nativePayloadBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder getNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder getNativePayloadOrBuilder(
+          int index) {
+        if (nativePayloadBuilder_ == null) {
+          return nativePayload_.get(index);  } else {
+          return nativePayloadBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<? extends org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+           getNativePayloadOrBuilderList() {
+        if (nativePayloadBuilder_ != null) {
+          return nativePayloadBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nativePayload_);
+        }
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder() {
+        return getNativePayloadFieldBuilder().addBuilder(
+            org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder addNativePayloadBuilder(
+          int index) {
+        return getNativePayloadFieldBuilder().addBuilder(
+            index, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .RpcEvents.EventPayload nativePayload = 4;</code>
+       *
+       * <pre>
+       * natively encoded events in place of payload
+       * </pre>
+       */
+      public java.util.List<org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder> 
+           getNativePayloadBuilderList() {
+        return getNativePayloadFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder> 
+          getNativePayloadFieldBuilder() {
+        if (nativePayloadBuilder_ == null) {
+          nativePayloadBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload.Builder, org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayloadOrBuilder>(
+                  nativePayload_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          nativePayload_ = null;
+        }
+        return nativePayloadBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:SnapshotPageResponse)
     }
 
@@ -19226,76 +21026,83 @@ public final class RpcMarketdata {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\017rpc_mdata.proto\"\177\n\014LoginRequest\022\r\n\005app" +
-      "Id\030\001 \002(\t\022\020\n\010clientId\030\002 \002(\t\022\027\n\006locale\030\003 \002" +
-      "(\0132\007.Locale\022\021\n\tversionId\030\004 \002(\t\022\020\n\010userna" +
-      "me\030\005 \002(\t\022\020\n\010password\030\006 \002(\t\"<\n\006Locale\022\017\n\007" +
-      "country\030\001 \002(\t\022\020\n\010language\030\002 \002(\t\022\017\n\007varia" +
-      "nt\030\003 \001(\t\"C\n\rLoginResponse\022\021\n\tsessionId\030\001" +
-      " \002(\t\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"\"\n" +
-      "\rLogoutRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\016Log" +
-      "outResponse\022\016\n\006failed\030\001 \001(\010\022\017\n\007message\030\002" +
-      " \001(\t\"\036\n\020HeartbeatRequest\022\n\n\002id\030\001 \002(\003\"@\n\021",
-      "HeartbeatResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006failed\030" +
-      "\002 \001(\010\022\017\n\007message\030\003 \001(\t\"\035\n\nInstrument\022\017\n\007" +
-      "payload\030\001 \002(\t\"M\n\021MarketDataRequest\022\021\n\tse" +
-      "ssionId\030\001 \002(\t\022\017\n\007request\030\002 \002(\t\022\024\n\014stream" +
-      "Events\030\003 \001(\010\"A\n\022MarketDataResponse\022\n\n\002id" +
-      "\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"" +
-      "2\n\021LastUpdateRequest\022\021\n\tsessionId\030\001 \002(\t\022" +
-      "\n\n\002id\030\002 \002(\003\"H\n\022LastUpdateResponse\022\021\n\ttim" +
-      "estamp\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030" +
-      "\003 \001(\t\".\n\rCancelRequest\022\021\n\tsessionId\030\001 \002(",
-      "\t\022\n\n\002id\030\002 \002(\003\"1\n\016CancelResponse\022\017\n\007messa" +
-      "ge\030\001 \001(\t\022\016\n\006failed\030\002 \001(\010\"\030\n\005Event\022\017\n\007pay" +
-      "load\030\001 \002(\t\".\n\rEventsRequest\022\021\n\tsessionId" +
-      "\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"N\n\016EventsResponse\022\n\n\002" +
-      "id\030\001 \002(\003\022\017\n\007payload\030\002 \003(\t\022\017\n\007message\030\003 \001" +
-      "(\t\022\016\n\006failed\030\004 \001(\010\"1\n\020AllEventsRequest\022\021" +
-      "\n\tsessionId\030\001 \002(\t\022\n\n\002id\030\002 \003(\003\"U\n\021AllEven" +
-      "tsResponse\022\037\n\006events\030\001 \003(\0132\017.EventsRespo" +
-      "nse\022\017\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\177\n\017" +
-      "SnapshotRequest\022\021\n\tsessionId\030\001 \002(\t\022\037\n\nin",
-      "strument\030\002 \002(\0132\013.Instrument\022&\n\007content\030\003" +
-      " \002(\0162\025.ContentAndCapability\022\020\n\010provider\030" +
-      "\004 \001(\t\"D\n\020SnapshotResponse\022\017\n\007payload\030\001 \003" +
-      "(\t\022\017\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\237\001\n\023" +
-      "SnapshotPageRequest\022\021\n\tsessionId\030\001 \002(\t\022\037" +
-      "\n\ninstrument\030\002 \002(\0132\013.Instrument\022&\n\007conte" +
-      "nt\030\003 \002(\0162\025.ContentAndCapability\022\020\n\010provi" +
-      "der\030\004 \001(\t\022\032\n\004page\030\005 \002(\0132\014.PageRequest\"H\n" +
-      "\024SnapshotPageResponse\022\017\n\007payload\030\001 \003(\t\022\017" +
-      "\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\")\n\013PageR",
-      "equest\022\014\n\004page\030\001 \002(\005\022\014\n\004size\030\002 \002(\005\"/\n\032Av" +
-      "ailableCapabilityRequest\022\021\n\tsessionId\030\001 " +
-      "\002(\t\"i\n\033AvailableCapabilityResponse\022)\n\nca" +
-      "pability\030\001 \003(\0162\025.ContentAndCapability\022\017\n" +
-      "\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010*B\n\016Instru" +
-      "mentType\022\n\n\006EQUITY\020\000\022\n\n\006OPTION\020\001\022\n\n\006FUTU" +
-      "RE\020\002\022\014\n\010CURRENCY\020\003*\366\001\n\024ContentAndCapabil" +
-      "ity\022\017\n\013TOP_OF_BOOK\020\000\022\r\n\tOPEN_BOOK\020\001\022\017\n\013M" +
-      "ARKET_STAT\020\002\022\016\n\nTOTAL_VIEW\020\003\022\013\n\007LEVEL_2\020" +
-      "\004\022\017\n\013LATEST_TICK\020\005\022\t\n\005BBO10\020\006\022\010\n\004NBBO\020\007\022",
-      "\014\n\010DIVIDEND\020\010\022\024\n\020AGGREGATED_DEPTH\020\t\022\026\n\022U" +
-      "NAGGREGATED_DEPTH\020\n\022\r\n\tIMBALANCE\020\013\022\013\n\007UN" +
-      "KNOWN\020\014\022\022\n\016EVENT_BOUNDARY\020\r2\344\004\n\024RpcMarke" +
-      "tDataService\022&\n\005login\022\r.LoginRequest\032\016.L" +
-      "oginResponse\022)\n\006logout\022\016.LogoutRequest\032\017" +
-      ".LogoutResponse\0222\n\theartbeat\022\021.Heartbeat" +
-      "Request\032\022.HeartbeatResponse\0222\n\007request\022\022" +
-      ".MarketDataRequest\032\023.MarketDataResponse\022" +
-      "8\n\rgetLastUpdate\022\022.LastUpdateRequest\032\023.L" +
-      "astUpdateResponse\022)\n\006cancel\022\016.CancelRequ",
-      "est\032\017.CancelResponse\022,\n\tgetEvents\022\016.Even" +
-      "tsRequest\032\017.EventsResponse\0225\n\014getAllEven" +
-      "ts\022\021.AllEventsRequest\032\022.AllEventsRespons" +
-      "e\0222\n\013getSnapshot\022\020.SnapshotRequest\032\021.Sna" +
-      "pshotResponse\022>\n\017getSnapshotPage\022\024.Snaps" +
-      "hotPageRequest\032\025.SnapshotPageResponse\022S\n" +
-      "\026getAvailableCapability\022\033.AvailableCapab" +
-      "ilityRequest\032\034.AvailableCapabilityRespon" +
-      "seB8\n$org.marketcetera.marketdata.core.r" +
-      "pcB\rRpcMarketdata\210\001\001"
+      "\n\017rpc_mdata.proto\032\020rpc_events.proto\"\260\001\n\014" +
+      "LoginRequest\022\r\n\005appId\030\001 \002(\t\022\020\n\010clientId\030" +
+      "\002 \002(\t\022\027\n\006locale\030\003 \002(\0132\007.Locale\022\021\n\tversio" +
+      "nId\030\004 \002(\t\022\020\n\010username\030\005 \002(\t\022\020\n\010password\030" +
+      "\006 \002(\t\022/\n\rpayloadFormat\030\007 \001(\0162\030.RpcEvents" +
+      ".PayloadFormat\"<\n\006Locale\022\017\n\007country\030\001 \002(" +
+      "\t\022\020\n\010language\030\002 \002(\t\022\017\n\007variant\030\003 \001(\t\"t\n\r" +
+      "LoginResponse\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006fail" +
+      "ed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\022/\n\rpayloadForm" +
+      "at\030\004 \001(\0162\030.RpcEvents.PayloadFormat\"\"\n\rLo",
+      "goutRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\016Logout" +
+      "Response\022\016\n\006failed\030\001 \001(\010\022\017\n\007message\030\002 \001(" +
+      "\t\"\036\n\020HeartbeatRequest\022\n\n\002id\030\001 \002(\003\"@\n\021Hea" +
+      "rtbeatResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006failed\030\002 \001" +
+      "(\010\022\017\n\007message\030\003 \001(\t\"\035\n\nInstrument\022\017\n\007pay" +
+      "load\030\001 \002(\t\"a\n\021MarketDataRequest\022\021\n\tsessi" +
+      "onId\030\001 \002(\t\022\017\n\007request\030\002 \002(\t\022\024\n\014streamEve" +
+      "nts\030\003 \001(\010\022\022\n\npushEvents\030\004 \001(\010\"A\n\022MarketD" +
+      "ataResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022" +
+      "\017\n\007message\030\003 \001(\t\"2\n\021LastUpdateRequest\022\021\n",
+      "\tsessionId\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"H\n\022LastUpda" +
+      "teResponse\022\021\n\ttimestamp\030\001 \002(\003\022\016\n\006failed\030" +
+      "\002 \001(\010\022\017\n\007message\030\003 \001(\t\".\n\rCancelRequest\022" +
+      "\021\n\tsessionId\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"1\n\016Cancel" +
+      "Response\022\017\n\007message\030\001 \001(\t\022\016\n\006failed\030\002 \001(" +
+      "\010\"\030\n\005Event\022\017\n\007payload\030\001 \002(\t\".\n\rEventsReq" +
+      "uest\022\021\n\tsessionId\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"~\n\016E" +
+      "ventsResponse\022\n\n\002id\030\001 \002(\003\022\017\n\007payload\030\002 \003" +
+      "(\t\022\017\n\007message\030\003 \001(\t\022\016\n\006failed\030\004 \001(\010\022.\n\rn" +
+      "ativePayload\030\005 \003(\0132\027.RpcEvents.EventPayl",
+      "oad\"1\n\020AllEventsRequest\022\021\n\tsessionId\030\001 \002" +
+      "(\t\022\n\n\002id\030\002 \003(\003\"U\n\021AllEventsResponse\022\037\n\006e" +
+      "vents\030\001 \003(\0132\017.EventsResponse\022\017\n\007message\030" +
+      "\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\177\n\017SnapshotRequest" +
+      "\022\021\n\tsessionId\030\001 \002(\t\022\037\n\ninstrument\030\002 \002(\0132" +
+      "\013.Instrument\022&\n\007content\030\003 \002(\0162\025.ContentA" +
+      "ndCapability\022\020\n\010provider\030\004 \001(\t\"t\n\020Snapsh" +
+      "otResponse\022\017\n\007payload\030\001 \003(\t\022\017\n\007message\030\002" +
+      " \001(\t\022\016\n\006failed\030\003 \001(\010\022.\n\rnativePayload\030\004 " +
+      "\003(\0132\027.RpcEvents.EventPayload\"\237\001\n\023Snapsho",
+      "tPageRequest\022\021\n\tsessionId\030\001 \002(\t\022\037\n\ninstr" +
+      "ument\030\002 \002(\0132\013.Instrument\022&\n\007content\030\003 \002(" +
+      "\0162\025.ContentAndCapability\022\020\n\010provider\030\004 \001" +
+      "(\t\022\032\n\004page\030\005 \002(\0132\014.PageRequest\"x\n\024Snapsh" +
+      "otPageResponse\022\017\n\007payload\030\001 \003(\t\022\017\n\007messa" +
+      "ge\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\022.\n\rnativePayloa" +
+      "d\030\004 \003(\0132\027.RpcEvents.EventPayload\")\n\013Page" +
+      "Request\022\014\n\004page\030\001 \002(\005\022\014\n\004size\030\002 \002(\005\"/\n\032A" +
+      "vailableCapabilityRequest\022\021\n\tsessionId\030\001" +
+      " \002(\t\"i\n\033AvailableCapabilityResponse\022)\n\nc",
+      "apability\030\001 \003(\0162\025.ContentAndCapability\022\017" +
+      "\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010*B\n\016Instr" +
+      "umentType\022\n\n\006EQUITY\020\000\022\n\n\006OPTION\020\001\022\n\n\006FUT" +
+      "URE\020\002\022\014\n\010CURRENCY\020\003*\366\001\n\024ContentAndCapabi" +
+      "lity\022\017\n\013TOP_OF_BOOK\020\000\022\r\n\tOPEN_BOOK\020\001\022\017\n\013" +
+      "MARKET_STAT\020\002\022\016\n\nTOTAL_VIEW\020\003\022\013\n\007LEVEL_2" +
+      "\020\004\022\017\n\013LATEST_TICK\020\005\022\t\n\005BBO10\020\006\022\010\n\004NBBO\020\007" +
+      "\022\014\n\010DIVIDEND\020\010\022\024\n\020AGGREGATED_DEPTH\020\t\022\026\n\022" +
+      "UNAGGREGATED_DEPTH\020\n\022\r\n\tIMBALANCE\020\013\022\013\n\007U" +
+      "NKNOWN\020\014\022\022\n\016EVENT_BOUNDARY\020\r2\344\004\n\024RpcMark",
+      "etDataService\022&\n\005login\022\r.LoginRequest\032\016." +
+      "LoginResponse\022)\n\006logout\022\016.LogoutRequest\032" +
+      "\017.LogoutResponse\0222\n\theartbeat\022\021.Heartbea" +
+      "tRequest\032\022.HeartbeatResponse\0222\n\007request\022" +
+      "\022.MarketDataRequest\032\023.MarketDataResponse" +
+      "\0228\n\rgetLastUpdate\022\022.LastUpdateRequest\032\023." +
+      "LastUpdateResponse\022)\n\006cancel\022\016.CancelReq" +
+      "uest\032\017.CancelResponse\022,\n\tgetEvents\022\016.Eve" +
+      "ntsRequest\032\017.EventsResponse\0225\n\014getAllEve" +
+      "nts\022\021.AllEventsRequest\032\022.AllEventsRespon",
+      "se\0222\n\013getSnapshot\022\020.SnapshotRequest\032\021.Sn" +
+      "apshotResponse\022>\n\017getSnapshotPage\022\024.Snap" +
+      "shotPageRequest\032\025.SnapshotPageResponse\022S" +
+      "\n\026getAvailableCapability\022\033.AvailableCapa" +
+      "bilityRequest\032\034.AvailableCapabilityRespo" +
+      "nseB8\n$org.marketcetera.marketdata.core." +
+      "rpcB\rRpcMarketdata\210\001\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -19308,13 +21115,14 @@ public final class RpcMarketdata {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor(),
         }, assigner);
     internal_static_LoginRequest_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_LoginRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginRequest_descriptor,
-        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", });
+        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", "PayloadFormat", });
     internal_static_Locale_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Locale_fieldAccessorTable = new
@@ -19326,7 +21134,7 @@ public final class RpcMarketdata {
     internal_static_LoginResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginResponse_descriptor,
-        new java.lang.String[] { "SessionId", "Failed", "Message", });
+        new java.lang.String[] { "SessionId", "Failed", "Message", "PayloadFormat", });
     internal_static_LogoutRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_LogoutRequest_fieldAccessorTable = new
@@ -19362,7 +21170,7 @@ public final class RpcMarketdata {
     internal_static_MarketDataRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_MarketDataRequest_descriptor,
-        new java.lang.String[] { "SessionId", "Request", "StreamEvents", });
+        new java.lang.String[] { "SessionId", "Request", "StreamEvents", "PushEvents", });
     internal_static_MarketDataResponse_descriptor =
       getDescriptor().getMessageTypes().get(9);
     internal_static_MarketDataResponse_fieldAccessorTable = new
@@ -19410,7 +21218,7 @@ public final class RpcMarketdata {
     internal_static_EventsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EventsResponse_descriptor,
-        new java.lang.String[] { "Id", "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Id", "Payload", "Message", "Failed", "NativePayload", });
     internal_static_AllEventsRequest_descriptor =
       getDescriptor().getMessageTypes().get(17);
     internal_static_AllEventsRequest_fieldAccessorTable = new
@@ -19434,7 +21242,7 @@ public final class RpcMarketdata {
     internal_static_SnapshotResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotResponse_descriptor,
-        new java.lang.String[] { "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Payload", "Message", "Failed", "NativePayload", });
     internal_static_SnapshotPageRequest_descriptor =
       getDescriptor().getMessageTypes().get(21);
     internal_static_SnapshotPageRequest_fieldAccessorTable = new
@@ -19446,7 +21254,7 @@ public final class RpcMarketdata {
     internal_static_SnapshotPageResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotPageResponse_descriptor,
-        new java.lang.String[] { "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Payload", "Message", "Failed", "NativePayload", });
     internal_static_PageRequest_descriptor =
       getDescriptor().getMessageTypes().get(23);
     internal_static_PageRequest_fieldAccessorTable = new
@@ -19465,6 +21273,7 @@ public final class RpcMarketdata {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_AvailableCapabilityResponse_descriptor,
         new java.lang.String[] { "Capability", "Message", "Failed", });
+    org.marketcetera.marketdata.core.rpc.RpcEvents.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -103,8 +103,9 @@ public class MarketDataServiceClientImpl
     {
         try {
             checkConnection();
-            return marketDataService.getEvents(serviceClient.getContext(),
-                                               inRequestId);
+            return setSource(marketDataService.getEvents(serviceClient.getContext(),
+                                                         inRequestId),
+                             inRequestId);
         } catch (Exception e) {
             throw handleException(e);
         }
@@ -117,8 +118,15 @@ public class MarketDataServiceClientImpl
     {
         try {
             checkConnection();
-            return marketDataService.getAllEvents(serviceClient.getContext(),
-                                                  inRequestIds);
+            Map<Long,LinkedList<Event>> events = marketDataService.getAllEvents(serviceClient.getContext(),
+                                                                                inRequestIds);
+            if(events != null) {
+                for(Map.Entry<Long,LinkedList<Event>> entry : events.entrySet()) {
+                    setSource(entry.getValue(),
+                              entry.getKey());
+                }
+            }
+            return events;
         } catch (Exception e) {
             throw handleException(e);
         }
@@ -425,6 +433,26 @@ public class MarketDataServiceClientImpl
         }
         throw new RuntimeException(inException);
     }
+    /**
+     * Sets the id of the request for which the given events were delivered as their source.
+     *
+     * <p>The source is not sent by the server, which shares one event between the requests it is delivered for.
+     *
+     * @param inEvents a <code>D</code> value
+     * @param inRequestId a <code>long</code> value
+     * @return a <code>D</code> value containing the given events
+     */
+    private static <D extends Collection<Event>> D setSource(D inEvents,
+                                                             long inRequestId)
+    {
+        if(inEvents != null) {
+            Long source = inRequestId;
+            for(Event event : inEvents) {
+                event.setSource(source);
+            }
+        }
+        return inEvents;
+    }
     /**
      * Checks that the connection is up and running.
      *
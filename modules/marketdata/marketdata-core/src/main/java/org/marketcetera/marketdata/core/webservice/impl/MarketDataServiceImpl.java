@@ -1,12 +1,17 @@
 package org.marketcetera.marketdata.core.webservice.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -18,13 +23,18 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import org.apache.commons.lang.Validate;
 import org.marketcetera.core.CloseableLock;
-import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.core.Pair;
 import org.marketcetera.event.AggregateEvent;
 import org.marketcetera.event.Event;
+import org.marketcetera.event.ImbalanceEvent;
+import org.marketcetera.event.MarketstatEvent;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
 import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.core.MarketDataEnvelope;
+import org.marketcetera.marketdata.core.MarketDataEnvelopeSubscriber;
 import org.marketcetera.marketdata.core.manager.MarketDataManager;
+import org.marketcetera.marketdata.core.rpc.MarketDataEventStream;
 import org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter;
 import org.marketcetera.marketdata.core.webservice.ConnectionException;
 import org.marketcetera.marketdata.core.webservice.MarketDataService;
@@ -33,6 +43,7 @@ import org.marketcetera.marketdata.core.webservice.UnknownRequestException;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.misc.NamedThreadFactory;
 import org.marketcetera.util.ws.stateful.ClientContext;
 import org.marketcetera.util.ws.stateful.RemoteCaller;
 import org.marketcetera.util.ws.stateful.ServerProvider;
@@ -141,6 +152,18 @@ public class MarketDataServiceImpl
         return doRequest(inRequest,
                          inStreamEvents);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#request(org.marketcetera.marketdata.MarketDataRequest, org.marketcetera.marketdata.core.rpc.MarketDataEventStream)
+     */
+    @Override
+    public long request(MarketDataRequest inRequest,
+                        MarketDataEventStream inStream)
+    {
+        Validate.notNull(inStream);
+        checkConnection();
+        return doRequest(inRequest,
+                         new ServiceSubscriber(inStream));
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.webservice.MarketDataService#getAllEvents(org.marketcetera.util.ws.stateful.ClientContext, java.util.List)
      */
@@ -413,6 +436,8 @@ public class MarketDataServiceImpl
                                    reaperInterval,
                                    reaperInterval,
                                    TimeUnit.MILLISECONDS);
+        streamService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                                                      new NamedThreadFactory("MarketDataStream-")); //$NON-NLS-1$
         remoteService = serverProvider.getServer().publish(this,
                                                            MarketDataService.class);
         running.set(true);
@@ -427,6 +452,10 @@ public class MarketDataServiceImpl
             reaper.shutdownNow();
             reaper = null;
         }
+        if(streamService != null) {
+            streamService.shutdownNow();
+            streamService = null;
+        }
         try {
             remoteService.stop();
         } catch (RuntimeException ignored) {
@@ -508,6 +537,65 @@ public class MarketDataServiceImpl
     {
         maxSubscriptionInterval = inMaxSubscriptionInterval;
     }
+    /**
+     * Get the streamBatchSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getStreamBatchSize()
+    {
+        return streamBatchSize;
+    }
+    /**
+     * Sets the maximum number of events pushed in a single batch to a streaming subscription.
+     *
+     * @param inStreamBatchSize an <code>int</code> value
+     */
+    public void setStreamBatchSize(int inStreamBatchSize)
+    {
+        Validate.isTrue(inStreamBatchSize > 0);
+        streamBatchSize = inStreamBatchSize;
+    }
+    /**
+     * Get the maxOutstandingBatches value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxOutstandingBatches()
+    {
+        return maxOutstandingBatches;
+    }
+    /**
+     * Sets the maximum number of batches a streaming subscription may have in flight before
+     * further events are held and coalesced.
+     *
+     * @param inMaxOutstandingBatches an <code>int</code> value
+     */
+    public void setMaxOutstandingBatches(int inMaxOutstandingBatches)
+    {
+        Validate.isTrue(inMaxOutstandingBatches > 0);
+        maxOutstandingBatches = inMaxOutstandingBatches;
+    }
+    /**
+     * Get the maxPendingEvents value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxPendingEvents()
+    {
+        return maxPendingEvents;
+    }
+    /**
+     * Sets the maximum number of events held for a streaming subscription. When the limit is reached,
+     * the oldest held events are discarded.
+     *
+     * @param inMaxPendingEvents an <code>int</code> value
+     */
+    public void setMaxPendingEvents(int inMaxPendingEvents)
+    {
+        Validate.isTrue(inMaxPendingEvents > 0);
+        maxPendingEvents = inMaxPendingEvents;
+    }
     /**
      * Executes the given market data request.
      *
@@ -518,12 +606,24 @@ public class MarketDataServiceImpl
     private long doRequest(MarketDataRequest inRequest,
                            boolean inStreamEvents)
     {
-        ServiceSubscriber subscriber = new ServiceSubscriber(inStreamEvents);
+        return doRequest(inRequest,
+                         new ServiceSubscriber(inStreamEvents));
+    }
+    /**
+     * Executes the given market data request on behalf of the given subscriber.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inSubscriber a <code>ServiceSubscriber</code> value
+     * @return a <code>long</code> value
+     */
+    private long doRequest(MarketDataRequest inRequest,
+                           ServiceSubscriber inSubscriber)
+    {
         long requestId = marketDataManager.requestMarketData(inRequest,
-                                                             subscriber);
-        subscriber.setRequestId(requestId);
+                                                             inSubscriber);
         subscribersByRequestId.put(requestId,
-                                   subscriber);
+                                   inSubscriber);
+        inSubscriber.setRequestId(requestId);
         return requestId;
     }
     /**
@@ -638,6 +738,12 @@ public class MarketDataServiceImpl
     /**
      * Manages a request subscription.
      *
+     * <p>A subscription either queues events to be retrieved by {@link MarketDataServiceImpl#getEvents(long)}
+     * or pushes them to a {@link MarketDataEventStream}. A streaming subscription sends at most
+     * {@link MarketDataServiceImpl#getMaxOutstandingBatches()} batches at a time. Events that arrive while
+     * the stream is busy are held, and a marketstat or imbalance event replaces the held event of the same
+     * kind for the same instrument, so a slow client receives the latest state rather than every update.
+     *
      * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
      * @version $Id$
      * @since 2.4.0
@@ -645,7 +751,7 @@ public class MarketDataServiceImpl
     @ThreadSafe
     @ClassVersion("$Id$")
     private class ServiceSubscriber
-            implements ISubscriber
+            implements MarketDataEnvelopeSubscriber
     {
         /**
          * Create a new ServiceSubscriber instance.
@@ -655,6 +761,17 @@ public class MarketDataServiceImpl
         public ServiceSubscriber(boolean inStreamEvents)
         {
             storeEvents = inStreamEvents;
+            stream = null;
+        }
+        /**
+         * Create a new ServiceSubscriber instance which pushes events to the given stream.
+         *
+         * @param inStream a <code>MarketDataEventStream</code> value
+         */
+        public ServiceSubscriber(MarketDataEventStream inStream)
+        {
+            storeEvents = false;
+            stream = inStream;
         }
         /* (non-Javadoc)
          * @see org.marketcetera.core.publisher.ISubscriber#isInteresting(java.lang.Object)
@@ -673,14 +790,18 @@ public class MarketDataServiceImpl
             try(CloseableLock publishEventLock = CloseableLock.create(lock.writeLock())) {
                 publishEventLock.lock();
                 updateTimestamp = System.currentTimeMillis();
-                if(!storeEvents) {
+                if(!storeEvents && stream == null) {
                     return;
                 }
-                if(inData instanceof Event) {
-                    events.addFirst((Event)inData);
+                if(inData instanceof MarketDataEnvelope) {
+                    // the event is shared with other subscriptions, so it is stored without a source. events are returned by
+                    //  request id and clients set the request id as the source of the events they receive
+                    addEvent(((MarketDataEnvelope)inData).getEvent());
+                } else if(inData instanceof Event) {
+                    addEvent((Event)inData);
                 } else if(inData instanceof AggregateEvent) {
                     for(Event event : ((AggregateEvent)inData).decompose()) {
-                        events.addFirst(event);
+                        addEvent(event);
                     }
                 } else if(inData instanceof Collection<?>) {
                     Collection<?> collectionData = (Collection<?>)inData;
@@ -693,6 +814,9 @@ public class MarketDataServiceImpl
                     throw new UnsupportedOperationException();
                 }
             }
+            if(stream != null) {
+                scheduleDelivery();
+            }
         }
         /**
          * Performs the actions necessary to clean up this subscriber when it is no longer needed.
@@ -702,8 +826,117 @@ public class MarketDataServiceImpl
             try(CloseableLock publishEventLock = CloseableLock.create(lock.writeLock())) {
                 publishEventLock.lock();
                 events.clear();
+                pendingEvents.clear();
+                canceled = true;
+            }
+        }
+        /**
+         * Adds the given event to the events waiting for this subscriber.
+         *
+         * @param inEvent an <code>Event</code> value
+         */
+        @GuardedBy("lock")
+        private void addEvent(Event inEvent)
+        {
+            if(storeEvents) {
+                events.addFirst(inEvent);
+                return;
+            }
+            Object key;
+            if(inEvent instanceof MarketstatEvent) {
+                key = Pair.create(MarketstatEvent.class,
+                                  ((MarketstatEvent)inEvent).getInstrument());
+            } else if(inEvent instanceof ImbalanceEvent) {
+                key = Pair.create(ImbalanceEvent.class,
+                                  ((ImbalanceEvent)inEvent).getInstrument());
+            } else {
+                key = nextEventKey++;
+            }
+            // a replaced event keeps its place in line
+            if(pendingEvents.put(key,
+                                 inEvent) == null && pendingEvents.size() > maxPendingEvents) {
+                Iterator<Event> oldest = pendingEvents.values().iterator();
+                oldest.next();
+                oldest.remove();
+                droppedEvents += 1;
+                if(droppedEvents == 1) {
+                    SLF4JLoggerProxy.warn(MarketDataServiceImpl.this,
+                                          "Stream for {} has {} events waiting, discarding the oldest",
+                                          requestId,
+                                          maxPendingEvents);
+                }
+            }
+        }
+        /**
+         * Arranges for the next batch of held events to be pushed to the stream, if the stream can take it.
+         */
+        private void scheduleDelivery()
+        {
+            ExecutorService executor = streamService;
+            try(CloseableLock deliveryLock = CloseableLock.create(lock.writeLock())) {
+                deliveryLock.lock();
+                if(executor == null || !active || canceled || deliveryScheduled || pendingEvents.isEmpty() || outstandingBatches >= maxOutstandingBatches) {
+                    return;
+                }
+                deliveryScheduled = true;
+            }
+            try {
+                executor.execute(delivery);
+            } catch (RejectedExecutionException e) {
+                // the service is stopping
+                try(CloseableLock deliveryLock = CloseableLock.create(lock.writeLock())) {
+                    deliveryLock.lock();
+                    deliveryScheduled = false;
+                }
             }
         }
+        /**
+         * Pushes the next batch of held events to the stream.
+         */
+        private void deliver()
+        {
+            List<Event> batch = null;
+            try(CloseableLock deliveryLock = CloseableLock.create(lock.writeLock())) {
+                deliveryLock.lock();
+                if(!canceled && !pendingEvents.isEmpty() && outstandingBatches < maxOutstandingBatches) {
+                    batch = new ArrayList<>(Math.min(pendingEvents.size(),
+                                                     streamBatchSize));
+                    Iterator<Event> pendingIterator = pendingEvents.values().iterator();
+                    while(pendingIterator.hasNext() && batch.size() < streamBatchSize) {
+                        batch.add(pendingIterator.next());
+                        pendingIterator.remove();
+                    }
+                    outstandingBatches += 1;
+                    if(droppedEvents > 0) {
+                        SLF4JLoggerProxy.warn(MarketDataServiceImpl.this,
+                                              "Stream for {} discarded {} events",
+                                              requestId,
+                                              droppedEvents);
+                        droppedEvents = 0;
+                    }
+                }
+            }
+            try {
+                if(batch != null) {
+                    stream.send(requestId,
+                                batch,
+                                deliveryComplete);
+                }
+            } catch (RuntimeException e) {
+                SLF4JLoggerProxy.warn(MarketDataServiceImpl.this,
+                                      e,
+                                      "Stream for {} failed, canceling",
+                                      requestId);
+                doCancel(requestId);
+            } finally {
+                // batches for this subscriber are sent one at a time so that they stay in order
+                try(CloseableLock deliveryLock = CloseableLock.create(lock.writeLock())) {
+                    deliveryLock.lock();
+                    deliveryScheduled = false;
+                }
+            }
+            scheduleDelivery();
+        }
         /**
          * Get the events value.
          *
@@ -746,6 +979,10 @@ public class MarketDataServiceImpl
         private void setRequestId(long inRequestId)
         {
             requestId = inRequestId;
+            if(stream != null) {
+                active = true;
+                scheduleDelivery();
+            }
         }
         /**
          * market data request id
@@ -772,6 +1009,68 @@ public class MarketDataServiceImpl
          */
         @GuardedBy("lock")
         private final Deque<Event> events = Lists.newLinkedList();
+        /**
+         * receives pushed events, <code>null</code> if events are not pushed
+         */
+        private final MarketDataEventStream stream;
+        /**
+         * events waiting to be pushed keyed by the value they coalesce on
+         */
+        @GuardedBy("lock")
+        private final LinkedHashMap<Object,Event> pendingEvents = new LinkedHashMap<>();
+        /**
+         * key for the next event which does not coalesce
+         */
+        @GuardedBy("lock")
+        private long nextEventKey;
+        /**
+         * number of held events discarded since the last batch
+         */
+        @GuardedBy("lock")
+        private long droppedEvents;
+        /**
+         * number of batches pushed but not yet delivered
+         */
+        @GuardedBy("lock")
+        private int outstandingBatches;
+        /**
+         * indicates if a delivery is scheduled or running
+         */
+        @GuardedBy("lock")
+        private boolean deliveryScheduled;
+        /**
+         * indicates if the subscription has been canceled
+         */
+        @GuardedBy("lock")
+        private boolean canceled;
+        /**
+         * indicates if the request id has been assigned so events may be pushed
+         */
+        private volatile boolean active;
+        /**
+         * pushes the next batch
+         */
+        private final Runnable delivery = new Runnable() {
+            @Override
+            public void run()
+            {
+                deliver();
+            }
+        };
+        /**
+         * invoked by the stream when a batch has been delivered
+         */
+        private final Runnable deliveryComplete = new Runnable() {
+            @Override
+            public void run()
+            {
+                try(CloseableLock deliveryLock = CloseableLock.create(lock.writeLock())) {
+                    deliveryLock.lock();
+                    outstandingBatches -= 1;
+                }
+                scheduleDelivery();
+            }
+        };
     }
     /**
      * Retires market data subscriptions that have not been checked in a while.
@@ -802,6 +1101,12 @@ public class MarketDataServiceImpl
                                                "Reaper canceling {}",
                                                subscriber);
                         doCancel(subscriber.getRequestId());
+                    } else if(subscriber.stream != null && !subscriber.stream.isOpen()) {
+                        // pushed subscriptions are never polled, so they go when their client can no longer be reached
+                        SLF4JLoggerProxy.debug(MarketDataServiceImpl.this,
+                                               "Reaper canceling {} of a closed stream",
+                                               subscriber);
+                        doCancel(subscriber.getRequestId());
                     }
                 }
             } catch (Exception e) {
@@ -822,6 +1127,22 @@ public class MarketDataServiceImpl
      * executes repear jobs
      */
     private ScheduledExecutorService reaper;
+    /**
+     * pushes events to streaming subscriptions
+     */
+    private volatile ExecutorService streamService;
+    /**
+     * maximum number of events pushed in a single batch
+     */
+    private volatile int streamBatchSize = 500;
+    /**
+     * maximum number of batches in flight per streaming subscription
+     */
+    private volatile int maxOutstandingBatches = 2;
+    /**
+     * maximum number of events held per streaming subscription
+     */
+    private volatile int maxPendingEvents = 10000;
     /**
      * handle to the remote web service.
      */
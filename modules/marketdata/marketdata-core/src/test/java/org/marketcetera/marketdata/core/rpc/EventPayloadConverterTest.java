@@ -0,0 +1,322 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.DepthOfBookEvent;
+import org.marketcetera.event.DividendEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.DepthOfBookEventBuilder;
+import org.marketcetera.event.impl.TopOfBookEventBuilder;
+import org.marketcetera.event.impl.TradeEventBuilder;
+import org.marketcetera.marketdata.core.rpc.RpcEvents.EventKind;
+import org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload;
+import org.marketcetera.marketdata.core.webservice.impl.MarketDataContextClassProvider;
+import org.marketcetera.options.OptionUtils;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+
+import com.google.common.collect.Lists;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/* $License$ */
+
+/**
+ * Tests {@link EventPayloadConverter}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class EventPayloadConverterTest
+{
+    /**
+     * Runs once before all tests.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @BeforeClass
+    public static void once()
+            throws Exception
+    {
+        context = JAXBContext.newInstance(MarketDataContextClassProvider.INSTANCE.getContextClasses());
+    }
+    /**
+     * Tests that quotes, trades, and marketstats of each supported instrument survive a round trip.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testNativeRoundTrip()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        Option option = OptionUtils.getOsiOptionFromString("MSFT  001022P12345123");
+        Instrument[] testInstruments = new Instrument[] { equity,new Equity("BRK","B"),Future.fromString("AAPL-201306"),new Future("CL","20131115"),new Currency("USD/BTC"),new Currency("USD","JPY","20131115","20140115","JPY"),option };
+        List<Event> events = Lists.newArrayList();
+        for(Instrument instrument : testInstruments) {
+            if(instrument instanceof Option) {
+                events.add(EventTestBase.generateOptionAskEvent((Option)instrument,
+                                                                equity));
+                events.add(EventTestBase.generateOptionBidEvent((Option)instrument,
+                                                                equity));
+                events.add(EventTestBase.generateOptionTradeEvent((Option)instrument,
+                                                                  equity));
+                events.add(EventTestBase.generateOptionMarketstatEvent((Option)instrument,
+                                                                       equity));
+            } else {
+                events.add(EventTestBase.generateAskEvent(instrument));
+                events.add(EventTestBase.generateBidEvent(instrument));
+                events.add(EventTestBase.generateTradeEvent(instrument));
+                events.add(EventTestBase.generateMarketstatEvent(instrument));
+            }
+        }
+        for(Event event : events) {
+            event.setRequestId(42);
+            EventPayload payload = converter.toPayload(event);
+            assertTrue(event + " was not natively encoded",
+                       payload.getKind() != EventKind.XML_EVENT);
+            assertTrue(payload.getSerializedSize() < marshal(event).length());
+            verifyRoundTrip(event,
+                            payload);
+        }
+    }
+    /**
+     * Tests that prices which do not fit in 64 bits and negative scales survive a round trip.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testLargeDecimals()
+            throws Exception
+    {
+        TradeEvent trade = TradeEventBuilder.tradeEvent(new Equity("METC")).withMessageId(System.nanoTime())
+                                                                           .withTimestamp(new Date())
+                                                                           .withExchange("Q")
+                                                                           .withPrice(new BigDecimal("-123456789012345678901234567890.123456789"))
+                                                                           .withSize(new BigDecimal("1E+5"))
+                                                                           .withTradeDate(new Date()).create();
+        Event decoded = verifyRoundTrip(trade,
+                                        converter.toPayload(trade));
+        assertEquals(trade.getPrice(),
+                     ((TradeEvent)decoded).getPrice());
+        assertEquals(trade.getSize(),
+                     ((TradeEvent)decoded).getSize());
+    }
+    /**
+     * Tests that events with no native encoding are carried as XML.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testXmlFallback()
+            throws Exception
+    {
+        DividendEvent dividend = EventTestBase.generateDividendEvent();
+        EventPayload payload = converter.toPayload(dividend);
+        assertSame(EventKind.XML_EVENT,
+                   payload.getKind());
+        assertEquals(marshal(dividend),
+                     payload.getXml());
+        assertTrue(verifyRoundTrip(dividend,
+                                   payload) instanceof DividendEvent);
+    }
+    /**
+     * Tests that top-of-book and depth-of-book events survive a round trip with their quotes.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBookRoundTrip()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        List<BidEvent> bids = Lists.newArrayList();
+        List<AskEvent> asks = Lists.newArrayList();
+        for(int i=0;i<3;i++) {
+            bids.add(EventTestBase.generateBidEvent(equity));
+            asks.add(EventTestBase.generateAskEvent(equity));
+        }
+        TopOfBookEvent topOfBook = TopOfBookEventBuilder.topOfBookEvent().withInstrument(equity)
+                                                                         .withBid(bids.get(0))
+                                                                         .withAsk(asks.get(0))
+                                                                         .withMessageId(System.nanoTime())
+                                                                         .withTimestamp(new Date()).create();
+        topOfBook.setRequestId(42);
+        EventPayload payload = converter.toPayload(topOfBook);
+        assertSame(EventKind.TOP_OF_BOOK_EVENT,
+                   payload.getKind());
+        TopOfBookEvent decodedTopOfBook = (TopOfBookEvent)converter.fromPayload(EventPayload.parseFrom(payload.toByteString()));
+        verifyAggregate(topOfBook,
+                        decodedTopOfBook);
+        verifyQuotes(Lists.newArrayList(topOfBook.getBid(),topOfBook.getAsk()),
+                     Lists.newArrayList(decodedTopOfBook.getBid(),decodedTopOfBook.getAsk()));
+        TopOfBookEvent emptyTopOfBook = TopOfBookEventBuilder.topOfBookEvent().withInstrument(equity)
+                                                                              .withMessageId(System.nanoTime())
+                                                                              .withTimestamp(new Date()).create();
+        TopOfBookEvent decodedEmptyTopOfBook = (TopOfBookEvent)converter.fromPayload(converter.toPayload(emptyTopOfBook));
+        assertNull(decodedEmptyTopOfBook.getBid());
+        assertNull(decodedEmptyTopOfBook.getAsk());
+        DepthOfBookEvent depthOfBook = DepthOfBookEventBuilder.depthOfBook().withInstrument(equity)
+                                                                            .withBids(bids)
+                                                                            .withAsks(asks)
+                                                                            .withMessageId(System.nanoTime())
+                                                                            .withTimestamp(new Date()).create();
+        depthOfBook.setRequestId(43);
+        payload = converter.toPayload(depthOfBook);
+        assertSame(EventKind.DEPTH_OF_BOOK_EVENT,
+                   payload.getKind());
+        DepthOfBookEvent decodedDepthOfBook = (DepthOfBookEvent)converter.fromPayload(EventPayload.parseFrom(payload.toByteString()));
+        verifyAggregate(depthOfBook,
+                        decodedDepthOfBook);
+        verifyQuotes(depthOfBook.getBids(),
+                     decodedDepthOfBook.getBids());
+        verifyQuotes(depthOfBook.getAsks(),
+                     decodedDepthOfBook.getAsks());
+    }
+    /**
+     * Tests that unknown fields are skipped and unknown kinds are rejected.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testUnknownContent()
+            throws Exception
+    {
+        Event event = EventTestBase.generateBidEvent(new Equity("METC"));
+        // field 99, varint 1
+        ByteString extraField = ByteString.copyFrom(new byte[] { (byte)0x98,0x06,0x01 });
+        verifyRoundTrip(event,
+                        EventPayload.parseFrom(converter.toPayload(event).toByteString().concat(extraField)));
+        // field 1 (kind), varint 99
+        try {
+            converter.fromPayload(EventPayload.parseFrom(ByteString.copyFrom(new byte[] { 0x08,0x63 })));
+        } catch (InvalidProtocolBufferException expected) {
+            return;
+        }
+        throw new AssertionError("Expected unknown kind to be rejected");
+    }
+    /**
+     * Verifies that the given aggregate events match.
+     *
+     * @param inExpected an <code>Event</code> value
+     * @param inActual an <code>Event</code> value
+     */
+    private static void verifyAggregate(Event inExpected,
+                                        Event inActual)
+    {
+        assertEquals(inExpected.getMessageId(),
+                     inActual.getMessageId());
+        assertEquals(inExpected.getTimestamp(),
+                     inActual.getTimestamp());
+        assertEquals(inExpected.getRequestId(),
+                     inActual.getRequestId());
+        if(inExpected instanceof TopOfBookEvent) {
+            assertEquals(((TopOfBookEvent)inExpected).getInstrument(),
+                         ((TopOfBookEvent)inActual).getInstrument());
+        } else {
+            assertEquals(((DepthOfBookEvent)inExpected).getInstrument(),
+                         ((DepthOfBookEvent)inActual).getInstrument());
+        }
+    }
+    /**
+     * Verifies that the given quotes match.
+     *
+     * @param inExpected a <code>List&lt;? extends QuoteEvent&gt;</code> value
+     * @param inActual a <code>List&lt;? extends QuoteEvent&gt;</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void verifyQuotes(List<? extends QuoteEvent> inExpected,
+                                     List<? extends QuoteEvent> inActual)
+            throws Exception
+    {
+        assertEquals(inExpected.size(),
+                     inActual.size());
+        for(int i=0;i<inExpected.size();i++) {
+            assertSame(inExpected.get(i).getClass(),
+                       inActual.get(i).getClass());
+            assertEquals(marshal(inExpected.get(i)),
+                         marshal(inActual.get(i)));
+        }
+    }
+    /**
+     * Serializes and parses the given payload, decodes it, and verifies that it matches the given event.
+     *
+     * @param inExpected an <code>Event</code> value
+     * @param inPayload an <code>EventPayload</code> value
+     * @return an <code>Event</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private static Event verifyRoundTrip(Event inExpected,
+                                         EventPayload inPayload)
+            throws Exception
+    {
+        Event actual = converter.fromPayload(EventPayload.parseFrom(inPayload.toByteString()));
+        assertSame(inExpected.getClass(),
+                   actual.getClass());
+        assertEquals(inExpected.getRequestId(),
+                     actual.getRequestId());
+        assertEquals(marshal(inExpected),
+                     marshal(actual));
+        return actual;
+    }
+    /**
+     * Marshals the given object to XML.
+     *
+     * @param inObject an <code>Object</code> value
+     * @return a <code>String</code> value
+     * @throws JAXBException if the object could not be marshalled
+     */
+    private static String marshal(Object inObject)
+            throws JAXBException
+    {
+        StringWriter output = new StringWriter();
+        context.createMarshaller().marshal(inObject,
+                                           output);
+        return output.toString();
+    }
+    /**
+     * context used to marshal events
+     */
+    private static JAXBContext context;
+    /**
+     * test converter
+     */
+    private static final EventPayloadConverter converter = new EventPayloadConverter() {
+        @Override
+        protected String marshal(Event inEvent)
+                throws JAXBException
+        {
+            return EventPayloadConverterTest.marshal(inEvent);
+        }
+        @Override
+        protected Event unmarshal(String inXml)
+                throws JAXBException
+        {
+            return (Event)context.createUnmarshaller().unmarshal(new StringReader(inXml));
+        }
+    };
+}
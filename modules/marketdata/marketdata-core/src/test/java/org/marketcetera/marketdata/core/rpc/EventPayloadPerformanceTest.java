@@ -0,0 +1,247 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.marketdata.core.rpc.RpcEvents.EventPayload;
+import org.marketcetera.marketdata.core.webservice.impl.MarketDataContextClassProvider;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Compares the cost of encoding and decoding market data events as JAXB XML and natively. Each run verifies that
+ * the decoded events match the originals.
+ * <p>
+ * {@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class EventPayloadPerformanceTest
+{
+    /**
+     * Runs once before all tests.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @BeforeClass
+    public static void once()
+            throws Exception
+    {
+        JAXBContext context = JAXBContext.newInstance(MarketDataContextClassProvider.INSTANCE.getContextClasses());
+        marshaller = context.createMarshaller();
+        unmarshaller = context.createUnmarshaller();
+        Equity equity = new Equity("METC");
+        for(int i=0;i<BATCH_SIZE;i+=4) {
+            events.add(EventTestBase.generateAskEvent(equity));
+            events.add(EventTestBase.generateBidEvent(equity));
+            events.add(EventTestBase.generateTradeEvent(equity));
+            events.add(EventTestBase.generateMarketstatEvent(equity));
+        }
+    }
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        runXml("jitCompile",
+               10);
+        runNative("jitCompile",
+                  10);
+    }
+    /**
+     * Measures encoding and decoding events as XML.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void xml()
+            throws Exception
+    {
+        runXml("xml",
+               ITERATIONS);
+    }
+    /**
+     * Measures encoding and decoding events natively.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void nativePayload()
+            throws Exception
+    {
+        runNative("native",
+                  ITERATIONS);
+    }
+    /**
+     * Encodes and decodes the test events as XML the given number of times and logs the time taken.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inIterations an <code>int</code> value
+     * @throws Exception if there were errors.
+     */
+    private static void runXml(String inLabel,
+                               int inIterations)
+            throws Exception
+    {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            for(Event event : events) {
+                String payload = marshal(event);
+                bytes += payload.length();
+                Event decoded = (Event)unmarshaller.unmarshal(new StringReader(payload));
+                if(i == 0) {
+                    verifyRoundTrip(event,
+                                    decoded);
+                }
+            }
+        }
+        log(inLabel,
+            inIterations,
+            bytes,
+            System.nanoTime() - start);
+    }
+    /**
+     * Encodes and decodes the test events natively the given number of times and logs the time taken.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inIterations an <code>int</code> value
+     * @throws Exception if there were errors.
+     */
+    private static void runNative(String inLabel,
+                                  int inIterations)
+            throws Exception
+    {
+        long bytes = 0;
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            for(Event event : events) {
+                byte[] payload = converter.toPayload(event).toByteArray();
+                bytes += payload.length;
+                Event decoded = converter.fromPayload(EventPayload.parseFrom(payload));
+                if(i == 0) {
+                    verifyRoundTrip(event,
+                                    decoded);
+                }
+            }
+        }
+        log(inLabel,
+            inIterations,
+            bytes,
+            System.nanoTime() - start);
+    }
+    /**
+     * Verifies that the given decoded event matches the given event.
+     *
+     * @param inExpected an <code>Event</code> value
+     * @param inActual an <code>Event</code> value
+     * @throws JAXBException if an event could not be marshalled
+     */
+    private static void verifyRoundTrip(Event inExpected,
+                                        Event inActual)
+            throws JAXBException
+    {
+        assertEquals(inExpected.getClass(),
+                     inActual.getClass());
+        assertEquals(marshal(inExpected),
+                     marshal(inActual));
+    }
+    /**
+     * Logs the results of a run.
+     *
+     * @param inLabel a <code>String</code> value
+     * @param inIterations an <code>int</code> value
+     * @param inBytes a <code>long</code> value
+     * @param inElapsed a <code>long</code> value
+     */
+    private static void log(String inLabel,
+                            int inIterations,
+                            long inBytes,
+                            long inElapsed)
+    {
+        long count = (long)inIterations * events.size();
+        SLF4JLoggerProxy.info(EventPayloadPerformanceTest.class,
+                              "{}: {} events in {}ms, {}ns/event, {} bytes/event", //$NON-NLS-1$
+                              inLabel,
+                              count,
+                              inElapsed / 1000000,
+                              inElapsed / count,
+                              inBytes / count);
+    }
+    /**
+     * Marshals the given object to XML.
+     *
+     * @param inObject an <code>Object</code> value
+     * @return a <code>String</code> value
+     * @throws JAXBException if the object could not be marshalled
+     */
+    private static String marshal(Object inObject)
+            throws JAXBException
+    {
+        StringWriter output = new StringWriter();
+        marshaller.marshal(inObject,
+                           output);
+        return output.toString();
+    }
+    /**
+     * number of events in the test batch
+     */
+    private static final int BATCH_SIZE = 1000;
+    /**
+     * number of times the test batch is encoded and decoded
+     */
+    private static final int ITERATIONS = 20;
+    /**
+     * test events
+     */
+    private static final List<Event> events = Lists.newArrayList();
+    /**
+     * marshals test events
+     */
+    private static Marshaller marshaller;
+    /**
+     * unmarshals test events
+     */
+    private static Unmarshaller unmarshaller;
+    /**
+     * test converter
+     */
+    private static final EventPayloadConverter converter = new EventPayloadConverter() {
+        @Override
+        protected String marshal(Event inEvent)
+                throws JAXBException
+        {
+            return EventPayloadPerformanceTest.marshal(inEvent);
+        }
+        @Override
+        protected Event unmarshal(String inXml)
+                throws JAXBException
+        {
+            return (Event)unmarshaller.unmarshal(new StringReader(inXml));
+        }
+    };
+}
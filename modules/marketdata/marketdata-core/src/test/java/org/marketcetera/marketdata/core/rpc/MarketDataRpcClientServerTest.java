@@ -14,6 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.After;
@@ -154,6 +157,90 @@ public class MarketDataRpcClientServerTest
         assertEquals(1,
                      serviceAdapter.getRequests().size());
     }
+    /**
+     * Tests {@link MarketDataRpcClient#request(org.marketcetera.marketdata.MarketDataRequest, MarketDataStreamListener)}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPushRequest()
+            throws Exception
+    {
+        final List<Event> receivedEvents = new CopyOnWriteArrayList<>();
+        MarketDataStreamListener listener = new MarketDataStreamListener() {
+            @Override
+            public void receiveEvents(long inRequestId,
+                                      List<Event> inEvents)
+            {
+                receivedEvents.addAll(inEvents);
+            }
+        };
+        final long id = client.request(MarketDataRequestBuilder.newRequestFromString("SYMBOLS=METC"),
+                                       listener);
+        assertTrue(serviceAdapter.getRequests().isEmpty());
+        assertEquals(1,
+                     serviceAdapter.getStreamRequests().size());
+        MarketDataEventStream stream = serviceAdapter.getStreams().get(id);
+        Equity equity = new Equity("METC");
+        List<Event> batch = Lists.newArrayList();
+        batch.add(EventTestBase.generateAskEvent(equity));
+        batch.add(EventTestBase.generateBidEvent(equity));
+        batch.add(EventTestBase.generateTradeEvent(equity));
+        batch.add(EventTestBase.generateMarketstatEvent(equity));
+        final CountDownLatch delivered = new CountDownLatch(1);
+        stream.send(id,
+                    batch,
+                    new Runnable() {
+                        @Override
+                        public void run()
+                        {
+                            delivered.countDown();
+                        }
+                    });
+        assertTrue(delivered.await(10,
+                                   TimeUnit.SECONDS));
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return receivedEvents.size() == 4;
+            }
+        });
+        for(int i=0;i<batch.size();i++) {
+            assertEquals(batch.get(i).getMessageId(),
+                         receivedEvents.get(i).getMessageId());
+        }
+        // canceled requests no longer receive events
+        client.cancel(id);
+        final CountDownLatch canceledDelivery = new CountDownLatch(1);
+        stream.send(id,
+                    batch,
+                    new Runnable() {
+                        @Override
+                        public void run()
+                        {
+                            canceledDelivery.countDown();
+                        }
+                    });
+        assertTrue(canceledDelivery.await(10,
+                                          TimeUnit.SECONDS));
+        Thread.sleep(250);
+        assertEquals(4,
+                     receivedEvents.size());
+        // the stream reports the client as gone once the connection closes, so its subscriptions can be reaped
+        assertTrue(stream.isOpen());
+        client.stop();
+        final MarketDataEventStream closedStream = stream;
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return !closedStream.isOpen();
+            }
+        });
+    }
     /**
      * Tests {@link MarketDataRpcClient#getLastUpdate(long)}.
      *
@@ -42,6 +42,19 @@ public class MockMarketDataServiceAdapter
                                  inStreamEvents));
         return System.nanoTime();
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#request(org.marketcetera.marketdata.MarketDataRequest, org.marketcetera.marketdata.core.rpc.MarketDataEventStream)
+     */
+    @Override
+    public long request(MarketDataRequest inRequest,
+                        MarketDataEventStream inStream)
+    {
+        long id = System.nanoTime();
+        streamRequests.add(inRequest);
+        streams.put(id,
+                    inStream);
+        return id;
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#getLastUpdate(long)
      */
@@ -123,6 +136,24 @@ public class MockMarketDataServiceAdapter
     {
         return requests;
     }
+    /**
+     * Get the streamRequests value.
+     *
+     * @return a <code>List&lt;MarketDataRequest&gt;</code> value
+     */
+    public List<MarketDataRequest> getStreamRequests()
+    {
+        return streamRequests;
+    }
+    /**
+     * Get the streams value.
+     *
+     * @return a <code>Map&lt;Long,MarketDataEventStream&gt;</code> value
+     */
+    public Map<Long,MarketDataEventStream> getStreams()
+    {
+        return streams;
+    }
     /**
      * Get the lastUpdateRequests value.
      *
@@ -221,6 +252,8 @@ public class MockMarketDataServiceAdapter
     public void reset()
     {
         requests.clear();
+        streamRequests.clear();
+        streams.clear();
         lastUpdateRequests.clear();
         canceledIds.clear();
         eventsRequests.clear();
@@ -348,6 +381,14 @@ public class MockMarketDataServiceAdapter
      * stores calls to {@link #request(MarketDataRequest, boolean)}
      */
     private final List<Pair<MarketDataRequest,Boolean>> requests = Lists.newArrayList();
+    /**
+     * stores calls to {@link #request(MarketDataRequest, MarketDataEventStream)}
+     */
+    private final List<MarketDataRequest> streamRequests = Lists.newArrayList();
+    /**
+     * streams passed to {@link #request(MarketDataRequest, MarketDataEventStream)} by request id
+     */
+    private final Map<Long,MarketDataEventStream> streams = Maps.newConcurrentMap();
     /**
      * stores calls to {@link #getLastUpdate(long)}
      */
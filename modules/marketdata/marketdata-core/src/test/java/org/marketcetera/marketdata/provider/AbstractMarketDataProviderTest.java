@@ -90,6 +90,38 @@ public class AbstractMarketDataProviderTest
         assertEquals(ProviderStatus.ERROR,
                      provider.getProviderStatus());
     }
+    /**
+     * Tests {@link AbstractMarketDataProvider#setNotifierThreadCount(int)}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testNotifierThreadCount()
+            throws Exception
+    {
+        assertEquals(1,
+                     provider.getNotifierThreadCount());
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                provider.setNotifierThreadCount(0);
+            }
+        };
+        provider.setNotifierThreadCount(4);
+        provider.stop();
+        assertEquals(0,
+                     provider.getNotificationQueueDepth());
+        provider.start();
+        assertTrue(provider.isRunning());
+        assertEquals(4,
+                     provider.getNotifierThreadCount());
+        assertEquals(0,
+                     provider.getNotificationQueueDepth());
+        provider.stop();
+        assertFalse(provider.isRunning());
+    }
     /**
      * Tests {@link AbstractMarketDataProvider#requestMarketData(org.marketcetera.marketdata.core.request.MarketDataRequestToken)}.
      *
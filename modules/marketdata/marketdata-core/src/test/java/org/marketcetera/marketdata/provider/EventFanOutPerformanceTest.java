@@ -0,0 +1,266 @@
+package org.marketcetera.marketdata.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.impl.TradeEventBuilder;
+import org.marketcetera.marketdata.Content;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.MarketDataRequestBuilder;
+import org.marketcetera.marketdata.core.MarketDataEnvelope;
+import org.marketcetera.marketdata.core.MarketDataEnvelopeSubscriber;
+import org.marketcetera.marketdata.core.request.MarketDataRequestToken;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+/* $License$ */
+
+/**
+ * Measures the cost of publishing events from a market data provider to a growing number of subscribers.
+ * <p>
+ * Each run publishes trades for a single instrument to 1, 10, 100, and 1000 subscriptions and waits
+ * until every subscription has received every trade. The total number of deliveries is the same for
+ * every subscriber count, so the time per delivery shows how fan-out cost grows with the subscriber count.
+ * <p>
+ * {@link #envelopeSubscribers()} uses subscribers which receive a {@link org.marketcetera.marketdata.core.MarketDataEnvelope}
+ * per delivery, {@link #eventSubscribers()} uses subscribers which receive the event itself. Both share one event
+ * between all the subscriptions. Every delivery is checked for an unchanged event and, for envelopes, for the id
+ * of the receiving subscription.
+ * <p>
+ * {@link #jitCompilation()} is a test that is ran to allow JIT compilation
+ * of the code exercised in this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class EventFanOutPerformanceTest
+{
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        runFanOut("jitCompile",
+                  10,
+                  true);
+        runFanOut("jitCompile",
+                  10,
+                  false);
+    }
+    /**
+     * Measures fan-out to subscribers that receive envelopes.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void envelopeSubscribers()
+            throws Exception
+    {
+        for(int subscriberCount : SUBSCRIBER_COUNTS) {
+            runFanOut("envelope",
+                      subscriberCount,
+                      true);
+        }
+    }
+    /**
+     * Measures fan-out to subscribers that receive events.
+     *
+     * @throws Exception if there were errors.
+     */
+    @Test
+    public void eventSubscribers()
+            throws Exception
+    {
+        for(int subscriberCount : SUBSCRIBER_COUNTS) {
+            runFanOut("event",
+                      subscriberCount,
+                      false);
+        }
+    }
+    /**
+     * Publishes events to the given number of subscribers and logs the time taken.
+     *
+     * @param inLabel the label to use when logging time.
+     * @param inSubscriberCount an <code>int</code> value
+     * @param inUseEnvelopes a <code>boolean</code> value
+     * @throws Exception if there were errors.
+     */
+    private static void runFanOut(String inLabel,
+                                  int inSubscriberCount,
+                                  boolean inUseEnvelopes)
+            throws Exception
+    {
+        MockMarketDataProvider provider = new MockMarketDataProvider();
+        provider.start();
+        try {
+            final AtomicLong received = new AtomicLong(0);
+            final AtomicLong misdelivered = new AtomicLong(0);
+            MarketDataRequest request = MarketDataRequestBuilder.newRequest().withSymbols(instrument.getSymbol())
+                                                                             .withContent(EnumSet.of(Content.LATEST_TICK)).create();
+            for(int i=0;i<inSubscriberCount;i++) {
+                final long requestId = i;
+                ISubscriber subscriber;
+                if(inUseEnvelopes) {
+                    subscriber = new MarketDataEnvelopeSubscriber() {
+                        @Override
+                        public boolean isInteresting(Object inData)
+                        {
+                            return true;
+                        }
+                        @Override
+                        public void publishTo(Object inData)
+                        {
+                            MarketDataEnvelope envelope = (MarketDataEnvelope)inData;
+                            if(requestId != envelope.getRequestId() ||
+                               envelope.getEvent().getSource() != null) {
+                                misdelivered.incrementAndGet();
+                            }
+                            received.incrementAndGet();
+                        }
+                    };
+                } else {
+                    subscriber = new ISubscriber() {
+                        @Override
+                        public boolean isInteresting(Object inData)
+                        {
+                            return true;
+                        }
+                        @Override
+                        public void publishTo(Object inData)
+                        {
+                            if(((Event)inData).getSource() != null) {
+                                misdelivered.incrementAndGet();
+                            }
+                            received.incrementAndGet();
+                        }
+                    };
+                }
+                provider.requestMarketData(new Token(i,
+                                                     request,
+                                                     subscriber));
+            }
+            provider.mapSymbol(instrument.getSymbol(),
+                               instrument);
+            int eventCount = NUM_DELIVERIES / inSubscriberCount;
+            Event[] events = new Event[eventCount];
+            TradeEventBuilder<?> builder = TradeEventBuilder.tradeEvent(instrument).withExchange("TEST")
+                                                                                   .withPrice(BigDecimal.ONE)
+                                                                                   .withSize(BigDecimal.TEN)
+                                                                                   .withTradeDate(new Date());
+            for(int i=0;i<eventCount;i++) {
+                events[i] = builder.withMessageId(i+1).create();
+            }
+            long expected = (long)eventCount * inSubscriberCount;
+            long time = System.nanoTime();
+            for(Event event : events) {
+                provider.publish(Content.LATEST_TICK,
+                                 instrument,
+                                 event);
+            }
+            long deadline = System.currentTimeMillis() + 60000;
+            while(received.get() < expected) {
+                assertTrue("Timed out with " + received.get() + " of " + expected + " deliveries",
+                           System.currentTimeMillis() < deadline);
+                Thread.yield();
+            }
+            time = System.nanoTime() - time;
+            assertEquals(0,
+                         misdelivered.get());
+            SLF4JLoggerProxy.info(EventFanOutPerformanceTest.class,
+                                  "{}: Subscribers {}, events {}, time {}ns, {}ns/delivery",
+                                  inLabel,
+                                  inSubscriberCount,
+                                  eventCount,
+                                  time,
+                                  time / expected);
+        } finally {
+            provider.stop();
+        }
+    }
+    /**
+     * Provides a minimal request token so that token access does not affect the measurement.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Token
+            implements MarketDataRequestToken
+    {
+        /**
+         * Create a new Token instance.
+         *
+         * @param inId a <code>long</code> value
+         * @param inRequest a <code>MarketDataRequest</code> value
+         * @param inSubscriber an <code>ISubscriber</code> value
+         */
+        private Token(long inId,
+                      MarketDataRequest inRequest,
+                      ISubscriber inSubscriber)
+        {
+            id = inId;
+            request = inRequest;
+            subscriber = inSubscriber;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.request.MarketDataRequestToken#getId()
+         */
+        @Override
+        public long getId()
+        {
+            return id;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.request.MarketDataRequestToken#getSubscriber()
+         */
+        @Override
+        public ISubscriber getSubscriber()
+        {
+            return subscriber;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.request.MarketDataRequestToken#getRequest()
+         */
+        @Override
+        public MarketDataRequest getRequest()
+        {
+            return request;
+        }
+        /**
+         * token id
+         */
+        private final long id;
+        /**
+         * market data request
+         */
+        private final MarketDataRequest request;
+        /**
+         * subscriber to receive events
+         */
+        private final transient ISubscriber subscriber;
+        private static final long serialVersionUID = 1L;
+    }
+    /**
+     * instrument for which events are published
+     */
+    private static final Equity instrument = new Equity("METC");
+    /**
+     * subscriber counts to measure
+     */
+    private static final int[] SUBSCRIBER_COUNTS = { 1, 10, 100, 1000 };
+    private static final int NUM_DELIVERIES = 100000;
+}
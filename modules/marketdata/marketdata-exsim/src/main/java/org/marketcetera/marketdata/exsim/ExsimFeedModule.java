@@ -22,6 +22,7 @@ import org.marketcetera.event.EventType;
 import org.marketcetera.event.HasEventType;
 import org.marketcetera.event.QuoteAction;
 import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.EventBuilderPool;
 import org.marketcetera.event.impl.MarketstatEventBuilder;
 import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.impl.TradeEventBuilder;
@@ -542,7 +543,7 @@ public class ExsimFeedModule
             Date eventDate = new Date(date.getTime()+time.getTime());
             switch(entryType) {
                 case quickfix.field.MDEntryType.BID:
-                    QuoteEventBuilder<BidEvent> bidBuilder = QuoteEventBuilder.bidEvent(instrument);
+                    QuoteEventBuilder<BidEvent> bidBuilder = EventBuilderPool.bidEvent(instrument);
                     bidBuilder.withAction(quoteAction);
                     bidBuilder.withCount(mdEntry.getInt(quickfix.field.NumberOfOrders.FIELD));
                     bidBuilder.withEventType(inIsSnapshot?EventType.SNAPSHOT_PART:EventType.UPDATE_PART);
@@ -574,11 +575,12 @@ public class ExsimFeedModule
                         bidBuilder.isEmpty(true);
                     }
                     BidEvent bid = bidBuilder.create();
+                    EventBuilderPool.release(bidBuilder);
                     orderbook.process(bid);
                     events.add(bid);
                     break;
                 case quickfix.field.MDEntryType.OFFER:
-                    QuoteEventBuilder<AskEvent> askBuilder = QuoteEventBuilder.askEvent(instrument);
+                    QuoteEventBuilder<AskEvent> askBuilder = EventBuilderPool.askEvent(instrument);
                     askBuilder.withAction(quoteAction);
                     askBuilder.withCount(mdEntry.getInt(quickfix.field.NumberOfOrders.FIELD));
                     askBuilder.withEventType(inIsSnapshot?EventType.SNAPSHOT_PART:EventType.UPDATE_PART);
@@ -610,11 +612,12 @@ public class ExsimFeedModule
                         askBuilder.isEmpty(true);
                     }
                     AskEvent ask = askBuilder.create();
+                    EventBuilderPool.release(askBuilder);
                     orderbook.process(ask);
                     events.add(ask);
                     break;
                 case quickfix.field.MDEntryType.TRADE:
-                    TradeEventBuilder<? extends TradeEvent> tradeBuilder = TradeEventBuilder.tradeEvent(instrument);
+                    TradeEventBuilder<? extends TradeEvent> tradeBuilder = EventBuilderPool.tradeEvent(instrument);
                     tradeBuilder.withEventType(inIsSnapshot?EventType.SNAPSHOT_PART:EventType.UPDATE_PART);
                     tradeBuilder.withExchange(exchange);
                     tradeBuilder.withPrice(mdEntry.getDecimal(quickfix.field.MDEntryPx.FIELD));
@@ -629,6 +632,7 @@ public class ExsimFeedModule
                         tradeBuilder.withUnderlyingInstrument(new Equity(instrument.getSymbol()));
                     }
                     events.add(tradeBuilder.create());
+                    EventBuilderPool.release(tradeBuilder);
                     if(mdEntry.isSetField(quickfix.field.TotalVolumeTraded.FIELD)) {
                         marketstat = true;
                         volume = mdEntry.getDecimal(quickfix.field.TotalVolumeTraded.FIELD);
@@ -684,7 +688,7 @@ public class ExsimFeedModule
             }
             if(marketstat) {
                 if(marketstatBuilder == null) {
-                    marketstatBuilder = MarketstatEventBuilder.marketstat(instrument);
+                    marketstatBuilder = EventBuilderPool.marketstat(instrument);
                 }
                 marketstatBuilder.withExchangeCode(exchange);
                 if(openPrice != null) {
@@ -720,6 +724,7 @@ public class ExsimFeedModule
         }
         if(marketstat) {
             events.add(marketstatBuilder.create());
+            EventBuilderPool.release(marketstatBuilder);
         }
         return events;
     }
@@ -880,6 +885,9 @@ public class ExsimFeedModule
                                                                 message,
                                                                 ExceptionUtils.getRootCauseMessage(e));
                     }
+                } finally {
+                    // return builders left over by a message that could not be processed
+                    EventBuilderPool.releaseAll();
                 }
             }
         }
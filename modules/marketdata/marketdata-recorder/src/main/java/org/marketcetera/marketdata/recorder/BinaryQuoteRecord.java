@@ -0,0 +1,213 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Date;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.QuoteEvent;
+
+/* $License$ */
+
+/**
+ * Describes and writes the compact binary layout used by {@link RecordFormat#BINARY} files.
+ * <p>
+ * Each file holds the quotes of a single instrument on a single exchange. The file starts with
+ * a header:
+ * <ol>
+ * <li><code>int</code>: {@link #MAGIC}</li>
+ * <li><code>short</code>: {@link #VERSION}</li>
+ * <li><code>short</code>: {@link #RECORD_LENGTH}</li>
+ * <li>security type, full symbol, and exchange, each as an unsigned <code>short</code> length
+ *  followed by that many bytes of UTF-8</li>
+ * </ol>
+ * The header is followed by fixed-length records of {@link #RECORD_LENGTH} bytes, one per quote.
+ * Prices and sizes are stored as an unscaled <code>long</code> and a <code>byte</code> scale and
+ * timestamps as milliseconds since the epoch. A quote without an exchange timestamp is recorded with
+ * {@link #NO_TIMESTAMP} in its place. All values are big-endian. The offsets of the
+ * record fields are given by the <code>*_OFFSET</code> constants so that readers can decode
+ * records in place.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+public final class BinaryQuoteRecord
+{
+    /**
+     * Writes the file header for the given quote to the given buffer.
+     *
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @param inBuffer a <code>ByteBuffer</code> value
+     * @throws java.nio.BufferOverflowException if the buffer does not have room for the header
+     */
+    public static void writeHeader(QuoteEvent inQuote,
+                                   ByteBuffer inBuffer)
+    {
+        inBuffer.putInt(MAGIC);
+        inBuffer.putShort(VERSION);
+        inBuffer.putShort((short)RECORD_LENGTH);
+        putString(inQuote.getInstrument().getSecurityType().name(),
+                  inBuffer);
+        putString(inQuote.getInstrument().getFullSymbol(),
+                  inBuffer);
+        putString(inQuote.getExchange(),
+                  inBuffer);
+    }
+    /**
+     * Gets the number of bytes needed for the file header for the given quote.
+     *
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @return an <code>int</code> value
+     */
+    public static int getHeaderLength(QuoteEvent inQuote)
+    {
+        return 8 + 6 + inQuote.getInstrument().getSecurityType().name().getBytes(UTF8).length
+                     + inQuote.getInstrument().getFullSymbol().getBytes(UTF8).length
+                     + String.valueOf(inQuote.getExchange()).getBytes(UTF8).length;
+    }
+    /**
+     * Writes a record for the given quote to the given buffer.
+     *
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @param inBuffer a <code>ByteBuffer</code> value with at least {@link #RECORD_LENGTH} bytes remaining
+     * @throws IllegalArgumentException if the price or size cannot be represented in the record
+     */
+    public static void write(QuoteEvent inQuote,
+                             ByteBuffer inBuffer)
+    {
+        BigDecimal price = encodable(inQuote.getPrice());
+        BigDecimal size = encodable(inQuote.getSize());
+        inBuffer.put(inQuote instanceof AskEvent ? ASK : BID);
+        inBuffer.put((byte)inQuote.getAction().ordinal());
+        inBuffer.put((byte)inQuote.getEventType().ordinal());
+        inBuffer.put((byte)price.scale());
+        inBuffer.put((byte)size.scale());
+        inBuffer.put((byte)0).put((byte)0).put((byte)0);
+        inBuffer.putLong(inQuote.getMessageId());
+        inBuffer.putLong(price.unscaledValue().longValue());
+        inBuffer.putLong(size.unscaledValue().longValue());
+        Date exchangeTimestamp = inQuote.getExchangeTimestamp();
+        inBuffer.putLong(exchangeTimestamp == null ? NO_TIMESTAMP : exchangeTimestamp.getTime());
+        inBuffer.putLong(inQuote.getProcessedTimestamp());
+        inBuffer.putLong(inQuote.getReceivedTimestamp());
+    }
+    /**
+     * Gets a value equal to the given value that fits an unscaled <code>long</code> and a <code>byte</code> scale.
+     *
+     * @param inValue a <code>BigDecimal</code> value
+     * @return a <code>BigDecimal</code> value
+     * @throws IllegalArgumentException if no such value exists
+     */
+    private static BigDecimal encodable(BigDecimal inValue)
+    {
+        if(fits(inValue)) {
+            return inValue;
+        }
+        BigDecimal value = inValue.stripTrailingZeros();
+        Validate.isTrue(fits(value),
+                        Messages.CANNOT_ENCODE_DECIMAL.getText(inValue.toPlainString()));
+        return value;
+    }
+    /**
+     * Indicates if the given value fits an unscaled <code>long</code> and a <code>byte</code> scale.
+     *
+     * @param inValue a <code>BigDecimal</code> value
+     * @return a <code>boolean</code> value
+     */
+    private static boolean fits(BigDecimal inValue)
+    {
+        return inValue.scale() >= Byte.MIN_VALUE && inValue.scale() <= Byte.MAX_VALUE && inValue.unscaledValue().bitLength() < 64;
+    }
+    /**
+     * Writes the given string as an unsigned length followed by UTF-8 bytes.
+     *
+     * @param inValue a <code>String</code> value
+     * @param inBuffer a <code>ByteBuffer</code> value
+     */
+    private static void putString(String inValue,
+                                  ByteBuffer inBuffer)
+    {
+        byte[] bytes = String.valueOf(inValue).getBytes(UTF8);
+        inBuffer.putShort((short)bytes.length);
+        inBuffer.put(bytes);
+    }
+    /**
+     * Create a new BinaryQuoteRecord instance.
+     */
+    private BinaryQuoteRecord() {}
+    /**
+     * identifies a binary quote file, "MDRB"
+     */
+    public static final int MAGIC = 0x4D445242;
+    /**
+     * version of the layout
+     */
+    public static final short VERSION = 1;
+    /**
+     * number of bytes in each record
+     */
+    public static final int RECORD_LENGTH = 56;
+    /**
+     * offset of the side, {@link #BID} or {@link #ASK}
+     */
+    public static final int SIDE_OFFSET = 0;
+    /**
+     * offset of the ordinal of the quote action
+     */
+    public static final int ACTION_OFFSET = 1;
+    /**
+     * offset of the ordinal of the event type
+     */
+    public static final int EVENT_TYPE_OFFSET = 2;
+    /**
+     * offset of the scale of the price
+     */
+    public static final int PRICE_SCALE_OFFSET = 3;
+    /**
+     * offset of the scale of the size
+     */
+    public static final int SIZE_SCALE_OFFSET = 4;
+    /**
+     * offset of the message id
+     */
+    public static final int MESSAGE_ID_OFFSET = 8;
+    /**
+     * offset of the unscaled price
+     */
+    public static final int PRICE_OFFSET = 16;
+    /**
+     * offset of the unscaled size
+     */
+    public static final int SIZE_OFFSET = 24;
+    /**
+     * offset of the exchange timestamp
+     */
+    public static final int EXCHANGE_TIMESTAMP_OFFSET = 32;
+    /**
+     * exchange timestamp value recorded for a quote without an exchange timestamp
+     */
+    public static final long NO_TIMESTAMP = 0;
+    /**
+     * offset of the processed timestamp
+     */
+    public static final int PROCESSED_TIMESTAMP_OFFSET = 40;
+    /**
+     * offset of the received timestamp
+     */
+    public static final int RECEIVED_TIMESTAMP_OFFSET = 48;
+    /**
+     * side value of a bid
+     */
+    public static final byte BID = 0;
+    /**
+     * side value of an ask
+     */
+    public static final byte ASK = 1;
+    /**
+     * encodes header strings
+     */
+    private static final Charset UTF8 = Charset.forName("UTF-8"); //$NON-NLS-1$
+}
@@ -15,14 +15,19 @@ import static org.marketcetera.core.time.TimeFactoryImpl.YEAR;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.filefilter.RegexFileFilter;
@@ -36,6 +41,8 @@ import org.marketcetera.event.QuoteEvent;
 import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.AbstractDataReemitterModule;
 import org.marketcetera.module.AutowiredModule;
+import org.marketcetera.module.BatchDataReceiver;
+import org.marketcetera.module.ClassDispatchRegistry;
 import org.marketcetera.module.DataFlowID;
 import org.marketcetera.module.ModuleException;
 import org.marketcetera.module.ModuleURN;
@@ -53,12 +60,22 @@ import com.codahale.metrics.MetricRegistry;
 /**
  * Provides an implementation that writes market data to files in a given directory.
  * <p>
+ * By default, each quote is appended to its file as a line of comma-separated values as it is received.
+ * If the configuration asks for buffered output or the {@link RecordFormat#BINARY} format, each symbol key
+ * instead keeps its file open and writes through a {@link RecordingJournal}, which is flushed on a timer
+ * and when the module stops. In this mode, ordinals for new files are tracked in memory rather than found
+ * by listing the directory.
+ * <p>
+ * Data flows may deliver quotes concurrently. The choice of output file and the write for a quote are made
+ * under the lock of its symbol key, so quotes for different symbol keys are recorded in parallel while the
+ * files and ordinals of one symbol key stay consistent.
+ * <p>
  * Module Features
  * <table>
  * <tr><th>Capabilities</th><td>Data Receiver,Data Emitter</td></tr>
  * <tr><th>Stops data flows</th><td>No</td></tr>
  * <tr><th>Start Operation</th><td>Checks that the directory exists and is writable</td></tr>
- * <tr><th>Stop Operation</th><td>None</td></tr>
+ * <tr><th>Stop Operation</th><td>Writes and closes buffered files</td></tr>
  * <tr><th>Management Interface</th><td>None</td></tr>
  * <tr><th>MX Notification</th><td>None</td></tr>
  * <tr><th>Factory</th><td>{@link MarketDataRecorderModule}</td></tr>
@@ -68,10 +85,11 @@ import com.codahale.metrics.MetricRegistry;
  * @version $Id$
  * @since $Release$
  */
-@NotThreadSafe
+@ThreadSafe
 @AutowiredModule
 public class MarketDataRecorderModule
         extends AbstractDataReemitterModule
+        implements BatchDataReceiver
 {
     /* (non-Javadoc)
      * @see org.marketcetera.module.DataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object)
@@ -80,16 +98,54 @@ public class MarketDataRecorderModule
     public void receiveData(DataFlowID inFlowID,
                             Object inData)
             throws ReceiveDataException
+    {
+        record(inFlowID,
+               inData,
+               SLF4JLoggerProxy.isTraceEnabled(this));
+        super.receiveData(inFlowID,
+                          inData);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.BatchDataReceiver#receiveBatch(org.marketcetera.module.DataFlowID, java.util.List)
+     */
+    @Override
+    public void receiveBatch(DataFlowID inFlowID,
+                             List<Object> inBatch)
+            throws ReceiveDataException
+    {
+        boolean traceEnabled = SLF4JLoggerProxy.isTraceEnabled(this);
+        for(Object data : inBatch) {
+            record(inFlowID,
+                   data,
+                   traceEnabled);
+            super.receiveData(inFlowID,
+                              data);
+        }
+    }
+    /**
+     * Records the given data received from the given data flow.
+     *
+     * @param inFlowID a <code>DataFlowID</code> value
+     * @param inData an <code>Object</code> value
+     * @param inTraceEnabled a <code>boolean</code> value indicating if the data should be traced
+     * @throws StopDataFlowException if the data could not be recorded
+     */
+    private void record(DataFlowID inFlowID,
+                        Object inData,
+                        boolean inTraceEnabled)
+            throws StopDataFlowException
     {
         try {
-            if(SLF4JLoggerProxy.isTraceEnabled(this)) {
+            if(inTraceEnabled) {
                 SLF4JLoggerProxy.trace(this,
                                        "Received {} from {}", //$NON-NLS-1$
                                        inData,
                                        inFlowID);
             }
-            if(inData instanceof QuoteEvent) {
-                processQuoteEvent((QuoteEvent)inData);
+            Recorder recorder = recorders.getHandler(inData);
+            if(recorder != null) {
+                recorder.record(this,
+                                inData);
             } else {
                 Messages.FILERECORDER_IGNORING_UNEXPECTED_DATA.warn(this,
                                                                     inData.getClass().getSimpleName());
@@ -101,8 +157,6 @@ public class MarketDataRecorderModule
                                                                    String.valueOf(inData),
                                                                    ExceptionUtils.getRootCauseMessage(e)));
         }
-        super.receiveData(inFlowID,
-                          inData);
     }
     /**
      * Get the config value.
@@ -141,7 +195,31 @@ public class MarketDataRecorderModule
                                "Session reset is {}", //$NON-NLS-1$
                                sessionResetTimestamp);
         currentOrdinal.clear();
-        snapshotsInProgress.clear();
+        recordings.clear();
+        sessionTimestamp = null;
+        recordFormat = config.getRecordFormat();
+        suffix = recordFormat.getSuffix();
+        if(config.isJournaled()) {
+            journals = new ConcurrentHashMap<>();
+            final String threadName = getURN().getValue() + "-flush"; //$NON-NLS-1$
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable inRunnable)
+                {
+                    Thread thread = new Thread(inRunnable,
+                                               threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            flushExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run()
+                {
+                    flushJournals();
+                }
+            },config.getFlushInterval(),config.getFlushInterval(),TimeUnit.MILLISECONDS);
+        }
         MetricRegistry metrics = MetricService.getInstance().getMetrics();
         eventCounterMetricName = name(getURN().getValue(),
                                       "recordedEvents", //$NON-NLS-1$
@@ -155,8 +233,31 @@ public class MarketDataRecorderModule
     protected void preStop()
             throws ModuleException
     {
-        snapshotsInProgress.clear();
+        if(flushExecutor != null) {
+            // let a flush in progress finish rather than interrupting it, which would close its channel
+            flushExecutor.shutdown();
+            try {
+                flushExecutor.awaitTermination(10,
+                                               TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushExecutor = null;
+        }
+        if(journals != null) {
+            for(Map.Entry<String,RecordingJournal> entry : journals.entrySet()) {
+                try {
+                    entry.getValue().close();
+                } catch (IOException e) {
+                    Messages.JOURNAL_FLUSH_FAILED.warn(this,
+                                                       e,
+                                                       entry.getKey());
+                }
+            }
+            journals = null;
+        }
         currentOrdinal.clear();
+        recordings.clear();
         MetricRegistry metrics = MetricService.getInstance().getMetrics();
         metrics.remove(eventCounterMetricName);
         super.preStop();
@@ -182,16 +283,101 @@ public class MarketDataRecorderModule
     private void processQuoteEvent(QuoteEvent inQuote)
             throws IOException
     {
-        StringBuilder builder = new StringBuilder();
-        File outputFile = getOutputFile(inQuote);
-        writeQuoteEvent(inQuote,
-                        builder);
-        FileUtils.write(outputFile,
-                        builder.toString(),
-                        true);
-        builder.setLength(0);
+        String symbolKey = getSymbolKey(inQuote);
+        // data flows deliver concurrently, so each call formats into its own builder
+        StringBuilder lineBuilder = new StringBuilder();
+        if(recordFormat == RecordFormat.CSV) {
+            writeQuoteEvent(inQuote,
+                            lineBuilder);
+        }
+        ConcurrentMap<String,RecordingJournal> currentJournals = journals;
+        SymbolRecording recording = getRecording(symbolKey);
+        // the file decision and the write must not interleave with another quote for the same symbol key
+        synchronized(recording) {
+            File outputFile = getOutputFile(inQuote,
+                                            symbolKey,
+                                            recording);
+            if(currentJournals == null) {
+                FileUtils.write(outputFile,
+                                lineBuilder.toString(),
+                                true);
+            } else {
+                RecordingJournal journal = getJournal(currentJournals,
+                                                      symbolKey);
+                journal.write(outputFile,
+                              inQuote,
+                              lineBuilder);
+            }
+        }
         eventCounterMetric.update(1);
     }
+    /**
+     * Gets the recording state for the given symbol key, creating it if necessary.
+     *
+     * @param inSymbolKey a <code>String</code> value
+     * @return a <code>SymbolRecording</code> value
+     */
+    private SymbolRecording getRecording(String inSymbolKey)
+    {
+        SymbolRecording recording = recordings.get(inSymbolKey);
+        if(recording == null) {
+            recording = new SymbolRecording();
+            SymbolRecording existingRecording = recordings.putIfAbsent(inSymbolKey,
+                                                                       recording);
+            if(existingRecording != null) {
+                recording = existingRecording;
+            }
+        }
+        return recording;
+    }
+    /**
+     * Gets the journal for the given symbol key, opening it if necessary.
+     *
+     * <p>Journals are opened under the lock of the given map so that concurrent data flows recording the
+     * same symbol key share one journal.
+     *
+     * @param inJournals a <code>ConcurrentMap&lt;String,RecordingJournal&gt;</code> value
+     * @param inSymbolKey a <code>String</code> value
+     * @return a <code>RecordingJournal</code> value
+     */
+    private RecordingJournal getJournal(ConcurrentMap<String,RecordingJournal> inJournals,
+                                        String inSymbolKey)
+    {
+        RecordingJournal journal = inJournals.get(inSymbolKey);
+        if(journal != null) {
+            return journal;
+        }
+        synchronized(inJournals) {
+            journal = inJournals.get(inSymbolKey);
+            if(journal == null) {
+                journal = new RecordingJournal(recordFormat,
+                                               config.getBufferSize(),
+                                               config.getFlushInterval());
+                inJournals.put(inSymbolKey,
+                               journal);
+            }
+            return journal;
+        }
+    }
+    /**
+     * Writes the buffered quotes of all symbol keys to their files.
+     */
+    private void flushJournals()
+    {
+        Map<String,RecordingJournal> currentJournals = journals;
+        if(currentJournals == null) {
+            return;
+        }
+        for(Map.Entry<String,RecordingJournal> entry : currentJournals.entrySet()) {
+            try {
+                entry.getValue().flush();
+            } catch (IOException e) {
+                Messages.JOURNAL_FLUSH_FAILED.warn(this,
+                                                   e,
+                                                   entry.getKey());
+            }
+        }
+    }
     /**
      * Writes the given quote event to the given buffer.
      *
@@ -215,19 +401,24 @@ public class MarketDataRecorderModule
     }
     /**
      * Gets the filename to use for the given quote event.
+     * <p>
+     * The caller must hold the lock of the given recording.
      *
      * @param inQuote a <code>QuoteEvent</code> value
+     * @param inSymbolKey a <code>String</code> value
+     * @param inRecording a <code>SymbolRecording</code> value holding the recording state of the symbol key
      * @return a <code>File</code> value
      */
-    private File getOutputFile(QuoteEvent inQuote)
+    private File getOutputFile(QuoteEvent inQuote,
+                               String inSymbolKey,
+                               SymbolRecording inRecording)
     {
         Validate.notNull(inQuote.getEventType(),
                          Messages.EVENT_BOUNDARY_CAPABILITY_REQUIRED.getText());
         StringBuilder filename = new StringBuilder();
-        String symbolKey = getSymbolKey(inQuote);
-        String timestampValue = timestampFormatter.print(getFileTimestamp());
-        filename.append(symbolKey).append('-').append(timestampValue).append('-');
-        File currentFile = currentFiles.get(symbolKey);
+        String timestampValue = getSessionTimestampValue();
+        filename.append(inSymbolKey).append('-').append(timestampValue).append('-');
+        File currentFile = inRecording.currentFile;
         if(currentFile != null) {
             if(currentFile.getName().contains(timestampValue)) {
                 // still in same session
@@ -245,23 +436,21 @@ public class MarketDataRecorderModule
             filename.append(ordinal).append(suffix);
             currentFile = new File(outputDirectoryFile,
                                    filename.toString());
-            if(inQuote.getEventType().isSnapshot() && !inQuote.getEventType().isComplete()) {
-                snapshotsInProgress.add(symbolKey);
-            }
+            inRecording.snapshotInProgress = inQuote.getEventType().isSnapshot() && !inQuote.getEventType().isComplete();
         } else {
             // recording is in progress for this symbol, determine if we need to create a new file
-            if(snapshotsInProgress.contains(symbolKey)) {
+            if(inRecording.snapshotInProgress) {
                 if(inQuote.getEventType().isSnapshot()) {
                     // snapshot is in progress and this event is also a snapshot
                     if(inQuote.getEventType().isComplete()) {
                         // snapshot is in progress and this event is a snapshot final
-                        snapshotsInProgress.remove(symbolKey);
+                        inRecording.snapshotInProgress = false;
                     } else {
                         // snapshot is in progress and this event is a snapshot part, nothing special to do
                     }
                 } else {
                     // snapshot is in progress and this event is not a snapshot
-                    snapshotsInProgress.remove(symbolKey);
+                    inRecording.snapshotInProgress = false;
                 }
             } else {
                 // no snapshot in progress, check to see if this event starts a new snapshot
@@ -271,9 +460,7 @@ public class MarketDataRecorderModule
                     filename.append(ordinal).append(suffix);
                     currentFile = new File(outputDirectoryFile,
                                            filename.toString());
-                    if(!inQuote.getEventType().isComplete()) {
-                        snapshotsInProgress.add(symbolKey);
-                    }
+                    inRecording.snapshotInProgress = !inQuote.getEventType().isComplete();
                 } else {
                     // nothing to do
                 }
@@ -282,18 +469,37 @@ public class MarketDataRecorderModule
         SLF4JLoggerProxy.debug(this,
                                "Current file is {}", //$NON-NLS-1$
                                currentFile);
-        currentFiles.put(symbolKey,
-                         currentFile);
+        inRecording.currentFile = currentFile;
         return currentFile;
     }
     /**
-     * Gets the next ordinal to use based on the current contents of the directory.
+     * Gets the next ordinal to use for files that start with the given prefix.
+     * <p>
+     * When quotes are buffered, the directory is checked only the first time a prefix is used and
+     * the ordinal is tracked in memory after that, otherwise the directory is listed each time. The prefix
+     * includes the symbol key, so the caller's lock on the recording of that symbol key makes this atomic.
      *
      * @param inPattern a <code>String</code> value
      * @return an <code>int</code> value
      */
     private int getNextOrdinal(String inPattern)
     {
+        if(journals != null) {
+            Integer lastOrdinal = currentOrdinal.get(inPattern);
+            int ordinal;
+            if(lastOrdinal == null) {
+                ordinal = 1;
+                while(new File(outputDirectoryFile,
+                               inPattern+ordinal+suffix).exists()) {
+                    ordinal += 1;
+                }
+            } else {
+                ordinal = lastOrdinal + 1;
+            }
+            currentOrdinal.put(inPattern,
+                               ordinal);
+            return ordinal;
+        }
         Pattern fileNamePattern = Pattern.compile(inPattern+"[0-9]{1,}\\"+suffix); //$NON-NLS-1$
         SLF4JLoggerProxy.debug(this,
                                "Using filename pattern: {}", //$NON-NLS-1$
@@ -317,23 +523,45 @@ public class MarketDataRecorderModule
         }
         return ordinal;
     }
+    /**
+     * Gets the formatted timestamp of the current session, formatting it again only when the session may have changed.
+     *
+     * @return a <code>String</code> value
+     */
+    private String getSessionTimestampValue()
+    {
+        long now = System.currentTimeMillis();
+        SessionTimestamp currentSessionTimestamp = sessionTimestamp;
+        if(currentSessionTimestamp == null || now >= currentSessionTimestamp.expiry) {
+            DateTime timestamp = new DateTime(now);
+            // the value depends only on the date and which side of the session reset the time is on
+            DateTime expiry = timestamp.withTimeAtStartOfDay().plusDays(1);
+            if(sessionResetTimestamp != null && timestamp.isBefore(sessionResetTimestamp) && sessionResetTimestamp.isBefore(expiry)) {
+                expiry = sessionResetTimestamp;
+            }
+            currentSessionTimestamp = new SessionTimestamp(timestampFormatter.print(getFileTimestamp(timestamp)),
+                                                           expiry.getMillis());
+            sessionTimestamp = currentSessionTimestamp;
+        }
+        return currentSessionTimestamp.value;
+    }
     /**
      * Determine the timestamp to use as part of the current session.
      *
+     * @param inTimestamp a <code>DateTime</code> value holding the current time
      * @return a <code>DateTime</code> value
      */
-    private DateTime getFileTimestamp()
+    private DateTime getFileTimestamp(DateTime inTimestamp)
     {
         // there is a "session reset" time. if we're before the session reset, we use today's date.
         //  if we're after the session reset, we use tomorrow's date.
-        DateTime timestamp = new DateTime();
         if(sessionResetTimestamp == null) {
-            return timestamp;
+            return inTimestamp;
         } else {
-            if(timestamp.isBefore(sessionResetTimestamp)) {
-                return timestamp;
+            if(inTimestamp.isBefore(sessionResetTimestamp)) {
+                return inTimestamp;
             } else {
-                return timestamp.plusDays(1);
+                return inTimestamp.plusDays(1);
             }
         }
     }
@@ -349,23 +577,87 @@ public class MarketDataRecorderModule
         symbolKey.append(inQuote.getInstrument().getFullSymbol()).append('-').append(inQuote.getExchange());
         return symbolKey.toString();
     }
+    /**
+     * Holds the recording state of one symbol key.
+     *
+     * @version $Id$
+     * @since $Release$
+     */
+    private static class SymbolRecording
+    {
+        /**
+         * file to which quotes are currently written, <code>null</code> if none yet
+         */
+        @GuardedBy("this")
+        private File currentFile;
+        /**
+         * indicates if a snapshot is in progress
+         */
+        @GuardedBy("this")
+        private boolean snapshotInProgress;
+    }
+    /**
+     * Holds the formatted timestamp of a session and when it expires.
+     *
+     * @version $Id$
+     * @since $Release$
+     */
+    private static class SessionTimestamp
+    {
+        /**
+         * Create a new SessionTimestamp instance.
+         *
+         * @param inValue a <code>String</code> value
+         * @param inExpiry a <code>long</code> value
+         */
+        private SessionTimestamp(String inValue,
+                                 long inExpiry)
+        {
+            value = inValue;
+            expiry = inExpiry;
+        }
+        /**
+         * formatted timestamp of the session
+         */
+        private final String value;
+        /**
+         * time in millis after which {@link #value} must be determined again
+         */
+        private final long expiry;
+    }
     /**
      * provides configuration values common to all module instances
      */
     @Autowired
     private MarketDataRecorderModuleConfiguration config;
     /**
-     * caches current filenames in use for symbol keys
+     * recording state by symbol key
      */
-    private final Map<String,File> currentFiles = new HashMap<>();
+    private final ConcurrentMap<String,SymbolRecording> recordings = new ConcurrentHashMap<>();
     /**
-     * indicates which data streams by key have a snapshot in progress
+     * indicates the current ordinal in use to identify output files
      */
-    private final Set<String> snapshotsInProgress = new HashSet<>();
+    private final ConcurrentMap<String,Integer> currentOrdinal = new ConcurrentHashMap<>();
     /**
-     * indicates the current ordinal in use to identify output files
+     * open journals by symbol key, <code>null</code> if quotes are not buffered
+     */
+    private volatile ConcurrentMap<String,RecordingJournal> journals;
+    /**
+     * periodically flushes {@link #journals}, <code>null</code> if quotes are not buffered
      */
-    private final Map<String,Integer> currentOrdinal = new HashMap<>();
+    private ScheduledExecutorService flushExecutor;
+    /**
+     * format in which quotes are recorded
+     */
+    private RecordFormat recordFormat = RecordFormat.CSV;
+    /**
+     * suffix to use for output files
+     */
+    private String suffix = RecordFormat.CSV.getSuffix();
+    /**
+     * formatted timestamp of the current session, <code>null</code> if not yet determined
+     */
+    private volatile SessionTimestamp sessionTimestamp;
     /**
      * directory to which to write event files to
      */
@@ -386,6 +678,39 @@ public class MarketDataRecorderModule
      * name of {@link #eventCounterMetric}
      */
     private String eventCounterMetricName;
+    /**
+     * Records data of a particular type.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private interface Recorder
+    {
+        /**
+         * Records the given data with the given module.
+         *
+         * @param inModule a <code>MarketDataRecorderModule</code> value
+         * @param inData an <code>Object</code> value
+         * @throws IOException if an error occurs recording the data
+         */
+        void record(MarketDataRecorderModule inModule,
+                    Object inData)
+                throws IOException;
+    }
+    /**
+     * recorders by the type of data they record
+     */
+    private static final ClassDispatchRegistry<Recorder> recorders = new ClassDispatchRegistry<Recorder>().register(QuoteEvent.class,
+                                                                                                                     new Recorder() {
+        @Override
+        public void record(MarketDataRecorderModule inModule,
+                           Object inData)
+                throws IOException
+        {
+            inModule.processQuoteEvent((QuoteEvent)inData);
+        }
+    });
     /**
      * provides unique instance names
      */
@@ -399,10 +724,6 @@ public class MarketDataRecorderModule
      */
     private static final DateTimeFormatter marketDataTimestampFormatter = new DateTimeFormatterBuilder().append(YEAR).append(MONTH).append(DAY).append(DASH)
             .append(HOUR).append(COLON).append(MINUTE).append(COLON).append(SECOND).append(PERIOD).append(MILLISECOND).toFormatter();
-    /**
-     * suffix to use for output files
-     */
-    private static final String suffix = ".csv"; //$NON-NLS-1$
     /**
      * identifier to use for URNs
      */
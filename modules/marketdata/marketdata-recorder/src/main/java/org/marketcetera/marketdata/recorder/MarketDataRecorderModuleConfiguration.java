@@ -38,6 +38,13 @@ public class MarketDataRecorderModuleConfiguration
             throw new IllegalArgumentException(Messages.SESSION_RESET_REQUIRED.getText(),
                                                e);
         }
+        Validate.notNull(recordFormat,
+                         Messages.RECORD_FORMAT_REQUIRED.getText());
+        Validate.isTrue(bufferSize >= MIN_BUFFER_SIZE,
+                        Messages.INVALID_BUFFER_SIZE.getText(bufferSize,
+                                                             MIN_BUFFER_SIZE));
+        Validate.isTrue(flushInterval > 0,
+                        Messages.INVALID_FLUSH_INTERVAL.getText(flushInterval));
     }
     /**
      * Get the timestampGenerator value.
@@ -89,6 +96,87 @@ public class MarketDataRecorderModuleConfiguration
     {
         sessionReset = inSessionReset;
     }
+    /**
+     * Get the recordFormat value.
+     *
+     * @return a <code>RecordFormat</code> value
+     */
+    public RecordFormat getRecordFormat()
+    {
+        return recordFormat;
+    }
+    /**
+     * Sets the recordFormat value.
+     *
+     * @param a <code>RecordFormat</code> value
+     */
+    public void setRecordFormat(RecordFormat inRecordFormat)
+    {
+        recordFormat = inRecordFormat;
+    }
+    /**
+     * Get the bufferedOutput value.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean getBufferedOutput()
+    {
+        return bufferedOutput;
+    }
+    /**
+     * Sets the bufferedOutput value.
+     *
+     * @param a <code>boolean</code> value
+     */
+    public void setBufferedOutput(boolean inBufferedOutput)
+    {
+        bufferedOutput = inBufferedOutput;
+    }
+    /**
+     * Get the bufferSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getBufferSize()
+    {
+        return bufferSize;
+    }
+    /**
+     * Sets the bufferSize value.
+     *
+     * @param an <code>int</code> value
+     */
+    public void setBufferSize(int inBufferSize)
+    {
+        bufferSize = inBufferSize;
+    }
+    /**
+     * Get the flushInterval value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getFlushInterval()
+    {
+        return flushInterval;
+    }
+    /**
+     * Sets the flushInterval value.
+     *
+     * @param a <code>long</code> value
+     */
+    public void setFlushInterval(long inFlushInterval)
+    {
+        flushInterval = inFlushInterval;
+    }
+    /**
+     * Indicates if quotes are written through a {@link RecordingJournal} rather than appended to the file one at a time.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean isJournaled()
+    {
+        return bufferedOutput || recordFormat != RecordFormat.CSV;
+    }
     /**
      * generates timestamps
      */
@@ -97,6 +185,26 @@ public class MarketDataRecorderModuleConfiguration
      * indicates the time time the session should reset
      */
     private String sessionReset;
+    /**
+     * format in which to record quotes
+     */
+    private RecordFormat recordFormat = RecordFormat.CSV;
+    /**
+     * indicates if quotes should be buffered before being written, implied by {@link RecordFormat#BINARY}
+     */
+    private boolean bufferedOutput = false;
+    /**
+     * size in bytes of the buffer used for each symbol when quotes are buffered
+     */
+    private int bufferSize = 64 * 1024;
+    /**
+     * maximum number of milliseconds that quotes are buffered before being written
+     */
+    private long flushInterval = 1000;
+    /**
+     * smallest allowed {@link #bufferSize}
+     */
+    private static final int MIN_BUFFER_SIZE = 1024;
     /**
      * used to parse the {@link #sessionReset} value
      */
@@ -0,0 +1,315 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.marketcetera.module.DataEmitter;
+import org.marketcetera.module.DataEmitterSupport;
+import org.marketcetera.module.DataFlowID;
+import org.marketcetera.module.DataRequest;
+import org.marketcetera.module.IllegalRequestParameterValue;
+import org.marketcetera.module.Module;
+import org.marketcetera.module.RequestID;
+import org.marketcetera.module.UnsupportedRequestParameterType;
+import org.marketcetera.util.log.I18NBoundMessage1P;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.NamedThreadFactory;
+
+/* $License$ */
+
+/**
+ * Emits the quotes of recordings written by {@link MarketDataRecorderModule} in the {@link RecordFormat#BINARY} format.
+ * <p>
+ * The recordings of a request are memory-mapped and merged so that quotes from all recordings are emitted in
+ * exchange timestamp order. Records are decoded in place from the mapped files, so the only allocations made
+ * for each quote are the event and its values. Quotes are emitted as fast as possible, at the spacing with
+ * which they were recorded, or at a multiple of that spacing, according to the {@link ReplayRequest}.
+ * <p>
+ * The module accepts request parameters of following types:
+ * <ul>
+ *      <li>{@link ReplayRequest}: the recordings to replay and the speed at which to replay them</li>
+ *      <li>{@link String}: interpreted by {@link ReplayRequest#fromString(String)}</li>
+ *      <li>{@link File}: a recording or directory of recordings to replay as fast as possible</li>
+ * </ul>
+ * <p>
+ * Module Features
+ * <table>
+ * <tr><th>Capabilities</th><td>Data Emitter</td></tr>
+ * <tr><th>DataFlow Request Parameters</th><td>ReplayRequest, String, or File. Usage explained above.</td></tr>
+ * <tr><th>Stops data flows</th><td>Yes, when all quotes have been emitted or if the recordings cannot be read</td></tr>
+ * <tr><th>Start Operation</th><td>Initializes the thread pool for replaying recordings</td></tr>
+ * <tr><th>Stop Operation</th><td>Shuts down the thread pool</td></tr>
+ * <tr><th>Management Interface</th><td>None</td></tr>
+ * <tr><th>MX Notification</th><td>None</td></tr>
+ * <tr><th>Factory</th><td>{@link MarketDataReplayModuleFactory}</td></tr>
+ * </table>
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+public class MarketDataReplayModule
+        extends Module
+        implements DataEmitter
+{
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.DataEmitter#requestData(org.marketcetera.module.DataRequest, org.marketcetera.module.DataEmitterSupport)
+     */
+    @Override
+    public void requestData(DataRequest inRequest,
+                            DataEmitterSupport inSupport)
+            throws UnsupportedRequestParameterType, IllegalRequestParameterValue
+    {
+        Object data = inRequest.getData();
+        if(data == null) {
+            throw new IllegalRequestParameterValue(getURN(),
+                                                   null);
+        }
+        ReplayRequest request;
+        try {
+            if(data instanceof ReplayRequest) {
+                request = (ReplayRequest)data;
+            } else if(data instanceof String) {
+                request = ReplayRequest.fromString((String)data);
+            } else if(data instanceof File) {
+                request = new ReplayRequest(Arrays.asList((File)data),
+                                            ReplayRequest.AS_FAST_AS_POSSIBLE);
+            } else {
+                throw new UnsupportedRequestParameterType(getURN(),
+                                                          data);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalRequestParameterValue(getURN(),
+                                                   data,
+                                                   e);
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "Starting {} for {}", //$NON-NLS-1$
+                               request,
+                               inSupport.getFlowID());
+        // the replay is registered before it starts so that it can be canceled at once and so that a replay which
+        //  finishes immediately removes its own entry
+        FutureTask<Long> replay = new FutureTask<Long>(new Replay(request,
+                                                                  inSupport));
+        requests.put(inSupport.getRequestID(),
+                     replay);
+        try {
+            replayService.execute(replay);
+        } catch (RejectedExecutionException e) {
+            requests.remove(inSupport.getRequestID());
+            throw e;
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.DataFlowID, org.marketcetera.module.RequestID)
+     */
+    @Override
+    public void cancel(DataFlowID inFlowID,
+                       RequestID inRequestID)
+    {
+        Future<Long> replay = requests.remove(inRequestID);
+        if(replay != null) {
+            replay.cancel(true);
+        }
+    }
+    /**
+     * Create a new MarketDataReplayModule instance.
+     */
+    MarketDataReplayModule()
+    {
+        super(MarketDataReplayModuleFactory.INSTANCE_URN,
+              true);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.Module#preStart()
+     */
+    @Override
+    protected void preStart()
+    {
+        replayService = Executors.newCachedThreadPool(new NamedThreadFactory("MarketDataReplay-")); //$NON-NLS-1$
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.Module#preStop()
+     */
+    @Override
+    protected void preStop()
+    {
+        replayService.shutdownNow();
+        requests.clear();
+    }
+    /**
+     * Gets the recordings named by the given request.
+     *
+     * @param inRequest a <code>ReplayRequest</code> value
+     * @return a <code>List&lt;File&gt;</code> value
+     */
+    private static List<File> getRecordings(ReplayRequest inRequest)
+    {
+        List<File> recordings = new ArrayList<>();
+        for(File file : inRequest.getFiles()) {
+            if(file.isDirectory()) {
+                File[] contents = file.listFiles(RECORDING_FILTER);
+                if(contents != null) {
+                    Arrays.sort(contents);
+                    recordings.addAll(Arrays.asList(contents));
+                }
+            } else {
+                recordings.add(file);
+            }
+        }
+        return recordings;
+    }
+    /**
+     * Replays the recordings of a single request.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since $Release$
+     */
+    private class Replay
+            implements Callable<Long>
+    {
+        /* (non-Javadoc)
+         * @see java.util.concurrent.Callable#call()
+         */
+        @Override
+        public Long call()
+                throws Exception
+        {
+            long count = 0;
+            long started = System.currentTimeMillis();
+            try {
+                List<File> recordings = getRecordings(request);
+                if(recordings.isEmpty()) {
+                    support.dataEmitError(new I18NBoundMessage1P(Messages.NO_RECORDINGS,
+                                                                 request.getFiles()),
+                                          true);
+                    return count;
+                }
+                PriorityQueue<RecordingCursor> cursors = new PriorityQueue<>(recordings.size(),
+                                                                             CURSOR_ORDER);
+                for(File recording : recordings) {
+                    RecordingCursor cursor = new RecordingCursor(recording);
+                    if(cursor.next()) {
+                        cursors.add(cursor);
+                    }
+                }
+                boolean paced = !request.isAsFastAsPossible();
+                long firstTimestamp = 0;
+                long firstNanos = 0;
+                while(!cursors.isEmpty()) {
+                    if(Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    RecordingCursor cursor = cursors.poll();
+                    if(paced) {
+                        long timestamp = cursor.getTimestamp();
+                        if(count == 0) {
+                            firstTimestamp = timestamp;
+                            firstNanos = System.nanoTime();
+                        } else {
+                            long due = firstNanos + (long)(TimeUnit.MILLISECONDS.toNanos(timestamp - firstTimestamp) / request.getSpeed());
+                            long wait = due - System.nanoTime();
+                            if(wait > 0) {
+                                TimeUnit.NANOSECONDS.sleep(wait);
+                            }
+                        }
+                    }
+                    support.send(cursor.createEvent());
+                    count += 1;
+                    if(cursor.next()) {
+                        cursors.add(cursor);
+                    }
+                }
+                SLF4JLoggerProxy.info(MarketDataReplayModule.this,
+                                      "Replayed {} quotes from {} recordings in {}ms", //$NON-NLS-1$
+                                      count,
+                                      recordings.size(),
+                                      System.currentTimeMillis() - started);
+                support.dataEmitError(Messages.REPLAY_COMPLETE,
+                                      true);
+            } catch (InterruptedException e) {
+                SLF4JLoggerProxy.debug(MarketDataReplayModule.this,
+                                       "{} canceled after {} quotes", //$NON-NLS-1$
+                                       request,
+                                       count);
+            } catch (Exception e) {
+                support.dataEmitError(new I18NBoundMessage1P(Messages.REPLAY_FAILED,
+                                                             ExceptionUtils.getRootCauseMessage(e)),
+                                      true);
+            } finally {
+                requests.remove(support.getRequestID());
+            }
+            return count;
+        }
+        /**
+         * Create a new Replay instance.
+         *
+         * @param inRequest a <code>ReplayRequest</code> value
+         * @param inSupport a <code>DataEmitterSupport</code> value
+         */
+        private Replay(ReplayRequest inRequest,
+                       DataEmitterSupport inSupport)
+        {
+            request = inRequest;
+            support = inSupport;
+        }
+        /**
+         * recordings to replay
+         */
+        private final ReplayRequest request;
+        /**
+         * emits quotes into the data flow
+         */
+        private final DataEmitterSupport support;
+    }
+    /**
+     * orders cursors by the timestamp of their current record, then by recording
+     */
+    private static final Comparator<RecordingCursor> CURSOR_ORDER = new Comparator<RecordingCursor>() {
+        @Override
+        public int compare(RecordingCursor inO1,
+                           RecordingCursor inO2)
+        {
+            long timestamp1 = inO1.getTimestamp();
+            long timestamp2 = inO2.getTimestamp();
+            if(timestamp1 != timestamp2) {
+                return timestamp1 < timestamp2 ? -1 : 1;
+            }
+            return inO1.getFile().compareTo(inO2.getFile());
+        }
+    };
+    /**
+     * selects binary recordings from a directory
+     */
+    private static final FileFilter RECORDING_FILTER = new FileFilter() {
+        @Override
+        public boolean accept(File inFile)
+        {
+            return inFile.isFile() && inFile.getName().endsWith(RecordFormat.BINARY.getSuffix());
+        }
+    };
+    /**
+     * replays in progress by request
+     */
+    private final Map<RequestID,Future<Long>> requests = new ConcurrentHashMap<>();
+    /**
+     * runs replays
+     */
+    private volatile ExecutorService replayService;
+}
@@ -3,6 +3,7 @@ package org.marketcetera.marketdata.recorder;
 import org.marketcetera.util.log.I18NLoggerProxy;
 import org.marketcetera.util.log.I18NMessage0P;
 import org.marketcetera.util.log.I18NMessage1P;
+import org.marketcetera.util.log.I18NMessage2P;
 import org.marketcetera.util.log.I18NMessage3P;
 import org.marketcetera.util.log.I18NMessageProvider;
 
@@ -33,4 +34,18 @@ public interface Messages
     static final I18NMessage3P STOPPING_DATA_FLOW = new I18NMessage3P(LOGGER,"stopping_data_flow");   //$NON-NLS-1$
     static final I18NMessage1P NOT_A_DIRECTORY = new I18NMessage1P(LOGGER,"not_a_directory");   //$NON-NLS-1$
     static final I18NMessage0P EVENT_BOUNDARY_CAPABILITY_REQUIRED = new I18NMessage0P(LOGGER,"event_boundary_capability_required");   //$NON-NLS-1$
+    static final I18NMessage0P RECORD_FORMAT_REQUIRED = new I18NMessage0P(LOGGER,"record_format_required");   //$NON-NLS-1$
+    static final I18NMessage2P INVALID_BUFFER_SIZE = new I18NMessage2P(LOGGER,"invalid_buffer_size");   //$NON-NLS-1$
+    static final I18NMessage1P INVALID_FLUSH_INTERVAL = new I18NMessage1P(LOGGER,"invalid_flush_interval");   //$NON-NLS-1$
+    static final I18NMessage1P CANNOT_ENCODE_DECIMAL = new I18NMessage1P(LOGGER,"cannot_encode_decimal");   //$NON-NLS-1$
+    static final I18NMessage1P JOURNAL_FLUSH_FAILED = new I18NMessage1P(LOGGER,"journal_flush_failed");   //$NON-NLS-1$
+    static final I18NMessage0P REPLAY_PROVIDER_DESCRIPTION = new I18NMessage0P(LOGGER,"replay_provider_description");   //$NON-NLS-1$
+    static final I18NMessage0P REPLAY_FILES_REQUIRED = new I18NMessage0P(LOGGER,"replay_files_required");   //$NON-NLS-1$
+    static final I18NMessage1P INVALID_REPLAY_SPEED = new I18NMessage1P(LOGGER,"invalid_replay_speed");   //$NON-NLS-1$
+    static final I18NMessage1P NOT_A_RECORDING = new I18NMessage1P(LOGGER,"not_a_recording");   //$NON-NLS-1$
+    static final I18NMessage2P UNSUPPORTED_RECORDING_VERSION = new I18NMessage2P(LOGGER,"unsupported_recording_version");   //$NON-NLS-1$
+    static final I18NMessage1P UNSUPPORTED_SECURITY_TYPE = new I18NMessage1P(LOGGER,"unsupported_security_type");   //$NON-NLS-1$
+    static final I18NMessage1P NO_RECORDINGS = new I18NMessage1P(LOGGER,"no_recordings");   //$NON-NLS-1$
+    static final I18NMessage0P REPLAY_COMPLETE = new I18NMessage0P(LOGGER,"replay_complete");   //$NON-NLS-1$
+    static final I18NMessage1P REPLAY_FAILED = new I18NMessage1P(LOGGER,"replay_failed");   //$NON-NLS-1$
 }
@@ -0,0 +1,44 @@
+package org.marketcetera.marketdata.recorder;
+
+/* $License$ */
+
+/**
+ * Indicates the layout of the files written by {@link MarketDataRecorderModule}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+public enum RecordFormat
+{
+    /**
+     * one line of comma-separated values per event
+     */
+    CSV(".csv"), //$NON-NLS-1$
+    /**
+     * fixed-length binary records as described by {@link BinaryQuoteRecord}
+     */
+    BINARY(".mdr"); //$NON-NLS-1$
+    /**
+     * Get the suffix used for files of this format.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getSuffix()
+    {
+        return suffix;
+    }
+    /**
+     * Create a new RecordFormat instance.
+     *
+     * @param inSuffix a <code>String</code> value
+     */
+    private RecordFormat(String inSuffix)
+    {
+        suffix = inSuffix;
+    }
+    /**
+     * suffix used for files of this format
+     */
+    private final String suffix;
+}
@@ -0,0 +1,307 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.options.OptionUtils;
+import org.marketcetera.trade.ConvertibleBond;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.SecurityType;
+
+/* $License$ */
+
+/**
+ * Reads the records of a {@link RecordFormat#BINARY} recording in place from a memory-mapped view of the file.
+ * <p>
+ * The header is decoded once when the cursor is opened. After that, moving to the next record and reading its
+ * timestamp does not allocate, and {@link #createEvent()} allocates only the event and its values.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+@NotThreadSafe
+class RecordingCursor
+{
+    /**
+     * Create a new RecordingCursor instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @throws IOException if the file could not be read
+     * @throws IllegalArgumentException if the file is not a binary recording this cursor can read
+     */
+    RecordingCursor(File inFile)
+            throws IOException
+    {
+        file = inFile;
+        try(FileChannel channel = FileChannel.open(inFile.toPath(),
+                                                   StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY,
+                                            0,
+                                            Math.min(fileSize,
+                                                     MAX_HEADER_LENGTH));
+            SecurityType securityType;
+            String fullSymbol;
+            try {
+                if(header.getInt() != BinaryQuoteRecord.MAGIC) {
+                    throw new IllegalArgumentException(Messages.NOT_A_RECORDING.getText(inFile));
+                }
+                short version = header.getShort();
+                short recordLength = header.getShort();
+                if(version != BinaryQuoteRecord.VERSION || recordLength != BinaryQuoteRecord.RECORD_LENGTH) {
+                    throw new IllegalArgumentException(Messages.UNSUPPORTED_RECORDING_VERSION.getText(inFile,
+                                                                                                     version));
+                }
+                securityType = SecurityType.valueOf(getString(header));
+                fullSymbol = getString(header);
+                exchange = getString(header);
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException(Messages.NOT_A_RECORDING.getText(inFile),
+                                                   e);
+            }
+            instrument = getInstrument(securityType,
+                                       fullSymbol);
+            long recordsStart = header.position();
+            recordCount = (fileSize - recordsStart) / BinaryQuoteRecord.RECORD_LENGTH;
+            // map the records in windows so that recordings larger than a single mapping can be read
+            windows = new MappedByteBuffer[(int)((recordCount + RECORDS_PER_WINDOW - 1) / RECORDS_PER_WINDOW)];
+            for(int i=0;i<windows.length;i++) {
+                long firstRecord = i * RECORDS_PER_WINDOW;
+                long records = Math.min(RECORDS_PER_WINDOW,
+                                        recordCount - firstRecord);
+                windows[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                         recordsStart + firstRecord * BinaryQuoteRecord.RECORD_LENGTH,
+                                         records * BinaryQuoteRecord.RECORD_LENGTH);
+            }
+        }
+        bidBuilder = QuoteEventBuilder.bidEvent(instrument).withExchange(exchange);
+        askBuilder = QuoteEventBuilder.askEvent(instrument).withExchange(exchange);
+    }
+    /**
+     * Moves to the next record.
+     *
+     * @return a <code>boolean</code> value indicating if there is a next record
+     */
+    boolean next()
+    {
+        if(recordIndex + 1 >= recordCount) {
+            recordIndex = recordCount;
+            current = null;
+            return false;
+        }
+        recordIndex += 1;
+        current = windows[(int)(recordIndex / RECORDS_PER_WINDOW)];
+        offset = (int)(recordIndex % RECORDS_PER_WINDOW) * BinaryQuoteRecord.RECORD_LENGTH;
+        return true;
+    }
+    /**
+     * Gets the exchange timestamp of the current record.
+     * 
+     * <p>Records written without an exchange timestamp use the received timestamp instead.
+     *
+     * @return a <code>long</code> value
+     */
+    long getTimestamp()
+    {
+        long timestamp = current.getLong(offset + BinaryQuoteRecord.EXCHANGE_TIMESTAMP_OFFSET);
+        if(timestamp == BinaryQuoteRecord.NO_TIMESTAMP) {
+            timestamp = current.getLong(offset + BinaryQuoteRecord.RECEIVED_TIMESTAMP_OFFSET);
+        }
+        return timestamp;
+    }
+    /**
+     * Creates a quote event from the current record.
+     *
+     * @return a <code>QuoteEvent</code> value
+     */
+    QuoteEvent createEvent()
+    {
+        ByteBuffer buffer = current;
+        int base = offset;
+        BigDecimal price = BigDecimal.valueOf(buffer.getLong(base + BinaryQuoteRecord.PRICE_OFFSET),
+                                              buffer.get(base + BinaryQuoteRecord.PRICE_SCALE_OFFSET));
+        BigDecimal size = BigDecimal.valueOf(buffer.getLong(base + BinaryQuoteRecord.SIZE_OFFSET),
+                                             buffer.get(base + BinaryQuoteRecord.SIZE_SCALE_OFFSET));
+        Date quoteDate = new Date(getTimestamp());
+        QuoteEventBuilder<?> builder;
+        if(buffer.get(base + BinaryQuoteRecord.SIDE_OFFSET) == BinaryQuoteRecord.ASK) {
+            builder = askBuilder;
+        } else {
+            builder = bidBuilder;
+        }
+        builder.withMessageId(buffer.getLong(base + BinaryQuoteRecord.MESSAGE_ID_OFFSET))
+               .withAction(ACTIONS[buffer.get(base + BinaryQuoteRecord.ACTION_OFFSET)])
+               .withPrice(price)
+               .withSize(size)
+               .withQuoteDate(quoteDate)
+               .withTimestamp(quoteDate)
+               .withProcessedTimestamp(buffer.getLong(base + BinaryQuoteRecord.PROCESSED_TIMESTAMP_OFFSET))
+               .withReceivedTimestamp(buffer.getLong(base + BinaryQuoteRecord.RECEIVED_TIMESTAMP_OFFSET));
+        QuoteEvent event = builder.create();
+        event.setEventType(EVENT_TYPES[buffer.get(base + BinaryQuoteRecord.EVENT_TYPE_OFFSET)]);
+        return event;
+    }
+    /**
+     * Get the file value.
+     *
+     * @return a <code>File</code> value
+     */
+    File getFile()
+    {
+        return file;
+    }
+    /**
+     * Get the instrument value.
+     *
+     * @return an <code>Instrument</code> value
+     */
+    Instrument getInstrument()
+    {
+        return instrument;
+    }
+    /**
+     * Get the exchange value.
+     *
+     * @return a <code>String</code> value
+     */
+    String getExchange()
+    {
+        return exchange;
+    }
+    /**
+     * Get the recordCount value.
+     *
+     * @return a <code>long</code> value
+     */
+    long getRecordCount()
+    {
+        return recordCount;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return file.getName();
+    }
+    /**
+     * Reads a string written as an unsigned length followed by UTF-8 bytes.
+     *
+     * @param inBuffer a <code>ByteBuffer</code> value
+     * @return a <code>String</code> value
+     */
+    private static String getString(ByteBuffer inBuffer)
+    {
+        byte[] bytes = new byte[inBuffer.getShort() & 0xFFFF];
+        inBuffer.get(bytes);
+        return new String(bytes,
+                          UTF8);
+    }
+    /**
+     * Gets the instrument with the given security type and full symbol.
+     *
+     * @param inSecurityType a <code>SecurityType</code> value
+     * @param inFullSymbol a <code>String</code> value
+     * @return an <code>Instrument</code> value
+     * @throws IllegalArgumentException if the security type is not supported
+     */
+    private static Instrument getInstrument(SecurityType inSecurityType,
+                                            String inFullSymbol)
+    {
+        switch(inSecurityType) {
+            case CommonStock:
+                return new Equity(inFullSymbol);
+            case Option:
+                return OptionUtils.getOsiOptionFromString(inFullSymbol);
+            case Future:
+                return Future.fromString(inFullSymbol);
+            case Currency:
+                return new Currency(inFullSymbol);
+            case ConvertibleBond:
+                return new ConvertibleBond(inFullSymbol);
+            default:
+                throw new IllegalArgumentException(Messages.UNSUPPORTED_SECURITY_TYPE.getText(inSecurityType));
+        }
+    }
+    /**
+     * quote actions by ordinal
+     */
+    private static final QuoteAction[] ACTIONS = QuoteAction.values();
+    /**
+     * event types by ordinal
+     */
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    /**
+     * number of records in each mapped window
+     */
+    private static final long RECORDS_PER_WINDOW = Integer.MAX_VALUE / BinaryQuoteRecord.RECORD_LENGTH;
+    /**
+     * largest possible header
+     */
+    private static final int MAX_HEADER_LENGTH = 8 + 3 * (2 + 0xFFFF);
+    /**
+     * decodes header strings
+     */
+    private static final Charset UTF8 = Charset.forName("UTF-8"); //$NON-NLS-1$
+    /**
+     * recording being read
+     */
+    private final File file;
+    /**
+     * instrument of the recorded quotes
+     */
+    private final Instrument instrument;
+    /**
+     * exchange of the recorded quotes
+     */
+    private final String exchange;
+    /**
+     * number of complete records in the recording
+     */
+    private final long recordCount;
+    /**
+     * mapped views of the records
+     */
+    private final MappedByteBuffer[] windows;
+    /**
+     * builds bid events for the recorded instrument
+     */
+    private final QuoteEventBuilder<BidEvent> bidBuilder;
+    /**
+     * builds ask events for the recorded instrument
+     */
+    private final QuoteEventBuilder<AskEvent> askBuilder;
+    /**
+     * index of the current record, -1 before the first record
+     */
+    private long recordIndex = -1;
+    /**
+     * window that holds the current record, <code>null</code> if there is no current record
+     */
+    private ByteBuffer current;
+    /**
+     * offset of the current record in {@link #current}
+     */
+    private int offset;
+}
@@ -0,0 +1,243 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.marketcetera.event.QuoteEvent;
+
+/* $License$ */
+
+/**
+ * Writes the quotes of a single symbol key to its current file through a direct buffer.
+ * <p>
+ * The file stays open until the journal is rolled to a different file or closed. Quotes are
+ * encoded into the buffer, which is written to the file when it fills, when a write finds that
+ * the flush interval has passed since the last flush, and when {@link #flush()} is called.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+@ThreadSafe
+class RecordingJournal
+        implements Closeable
+{
+    /**
+     * Create a new RecordingJournal instance.
+     *
+     * @param inFormat a <code>RecordFormat</code> value
+     * @param inBufferSize an <code>int</code> value
+     * @param inFlushInterval a <code>long</code> value holding the maximum number of milliseconds between flushes
+     */
+    RecordingJournal(RecordFormat inFormat,
+                     int inBufferSize,
+                     long inFlushInterval)
+    {
+        format = inFormat;
+        buffer = ByteBuffer.allocateDirect(inBufferSize);
+        flushInterval = inFlushInterval;
+    }
+    /**
+     * Writes the given quote to the given file, rolling to the file if it is not the current file.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @param inLine a <code>CharSequence</code> value holding the quote as a line of text, used only for {@link RecordFormat#CSV}
+     * @throws IOException if the quote could not be written
+     */
+    synchronized void write(File inFile,
+                            QuoteEvent inQuote,
+                            CharSequence inLine)
+            throws IOException
+    {
+        if(!inFile.equals(file)) {
+            roll(inFile,
+                 inQuote);
+        }
+        switch(format) {
+            case BINARY:
+                reserve(BinaryQuoteRecord.RECORD_LENGTH);
+                BinaryQuoteRecord.write(inQuote,
+                                        buffer);
+                break;
+            case CSV:
+                putText(inLine);
+                break;
+            default:
+                throw new UnsupportedOperationException(format.name());
+        }
+        if(System.currentTimeMillis() - lastFlush >= flushInterval) {
+            flush();
+        }
+    }
+    /**
+     * Writes buffered data to the current file.
+     *
+     * @throws IOException if the data could not be written
+     */
+    synchronized void flush()
+            throws IOException
+    {
+        drain();
+        lastFlush = System.currentTimeMillis();
+    }
+    /* (non-Javadoc)
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public synchronized void close()
+            throws IOException
+    {
+        try {
+            drain();
+        } finally {
+            file = null;
+            if(channel != null) {
+                try {
+                    channel.close();
+                } finally {
+                    channel = null;
+                }
+            }
+        }
+    }
+    /**
+     * Closes the current file, if any, and opens the given file for appending.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inQuote a <code>QuoteEvent</code> value holding the first quote to be written to the file
+     * @throws IOException if the file could not be opened
+     */
+    private void roll(File inFile,
+                      QuoteEvent inQuote)
+            throws IOException
+    {
+        close();
+        channel = FileChannel.open(inFile.toPath(),
+                                   StandardOpenOption.CREATE,
+                                   StandardOpenOption.WRITE,
+                                   StandardOpenOption.APPEND);
+        file = inFile;
+        if(format == RecordFormat.BINARY && channel.size() == 0) {
+            reserve(BinaryQuoteRecord.getHeaderLength(inQuote));
+            BinaryQuoteRecord.writeHeader(inQuote,
+                                          buffer);
+        }
+    }
+    /**
+     * Adds the given text to the buffer.
+     *
+     * @param inLine a <code>CharSequence</code> value
+     * @throws IOException if buffered data could not be written to make room
+     */
+    private void putText(CharSequence inLine)
+            throws IOException
+    {
+        int length = inLine.length();
+        if(length > buffer.capacity()) {
+            putBytes(inLine.toString().getBytes(CHARSET));
+            return;
+        }
+        reserve(length);
+        for(int i=0;i<length;i++) {
+            char c = inLine.charAt(i);
+            if(c >= 0x80) {
+                // uncommon, fall back to encoding the whole line
+                buffer.position(buffer.position() - i);
+                putBytes(inLine.toString().getBytes(CHARSET));
+                return;
+            }
+            buffer.put((byte)c);
+        }
+    }
+    /**
+     * Adds the given bytes to the buffer, writing them directly to the file if they do not fit.
+     *
+     * @param inBytes a <code>byte[]</code> value
+     * @throws IOException if the bytes could not be written
+     */
+    private void putBytes(byte[] inBytes)
+            throws IOException
+    {
+        if(inBytes.length > buffer.capacity()) {
+            drain();
+            ByteBuffer bytes = ByteBuffer.wrap(inBytes);
+            while(bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            return;
+        }
+        reserve(inBytes.length);
+        buffer.put(inBytes);
+    }
+    /**
+     * Makes room in the buffer for the given number of bytes.
+     *
+     * @param inLength an <code>int</code> value
+     * @throws IOException if buffered data could not be written
+     */
+    private void reserve(int inLength)
+            throws IOException
+    {
+        if(buffer.remaining() < inLength) {
+            drain();
+        }
+    }
+    /**
+     * Writes the contents of the buffer to the current file.
+     *
+     * @throws IOException if the data could not be written
+     */
+    private void drain()
+            throws IOException
+    {
+        buffer.flip();
+        try {
+            while(buffer.hasRemaining() && channel != null) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+    /**
+     * format in which to write quotes
+     */
+    private final RecordFormat format;
+    /**
+     * holds encoded quotes waiting to be written
+     */
+    @GuardedBy("this")
+    private final ByteBuffer buffer;
+    /**
+     * maximum number of milliseconds between flushes
+     */
+    private final long flushInterval;
+    /**
+     * time of the last flush
+     */
+    @GuardedBy("this")
+    private long lastFlush = System.currentTimeMillis();
+    /**
+     * file currently being written, <code>null</code> if none
+     */
+    @GuardedBy("this")
+    private File file;
+    /**
+     * channel to the current file, <code>null</code> if none
+     */
+    @GuardedBy("this")
+    private FileChannel channel;
+    /**
+     * encodes lines which contain characters outside of ASCII
+     */
+    private static final Charset CHARSET = Charset.defaultCharset();
+}
@@ -0,0 +1,142 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.commons.lang.Validate;
+
+/* $License$ */
+
+/**
+ * Describes the recordings to be replayed by {@link MarketDataReplayModule} and the pace at which to replay them.
+ * <p>
+ * Each file is a recording written in the {@link RecordFormat#BINARY} format. A directory stands for all the
+ * binary recordings it contains. The speed is the multiple of real time at which quotes are emitted: 1 replays
+ * quotes with the same spacing with which they were recorded, 10 replays ten times faster, and
+ * {@link #AS_FAST_AS_POSSIBLE} replays without waiting between quotes.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+@Immutable
+public class ReplayRequest
+        implements Serializable
+{
+    /**
+     * Create a new ReplayRequest instance.
+     *
+     * @param inFiles a <code>Collection&lt;File&gt;</code> value holding recordings or directories of recordings
+     * @param inSpeed a <code>double</code> value holding the multiple of real time at which to replay or {@link #AS_FAST_AS_POSSIBLE}
+     * @throws IllegalArgumentException if no files are given or the speed is negative
+     */
+    public ReplayRequest(Collection<File> inFiles,
+                         double inSpeed)
+    {
+        Validate.notEmpty(inFiles,
+                          Messages.REPLAY_FILES_REQUIRED.getText());
+        Validate.noNullElements(inFiles,
+                                Messages.REPLAY_FILES_REQUIRED.getText());
+        Validate.isTrue(inSpeed >= 0 && !Double.isNaN(inSpeed) && !Double.isInfinite(inSpeed),
+                        Messages.INVALID_REPLAY_SPEED.getText(inSpeed));
+        files = Collections.unmodifiableList(new ArrayList<>(inFiles));
+        speed = inSpeed;
+    }
+    /**
+     * Create a new ReplayRequest instance from a value of the form <code>[speed:]path</code>.
+     * <p>
+     * The speed is a number or <code>max</code> for {@link #AS_FAST_AS_POSSIBLE}. If omitted,
+     * quotes are replayed as fast as possible.
+     *
+     * @param inValue a <code>String</code> value
+     * @return a <code>ReplayRequest</code> value
+     * @throws IllegalArgumentException if the value cannot be interpreted
+     */
+    public static ReplayRequest fromString(String inValue)
+    {
+        Validate.notEmpty(inValue,
+                          Messages.REPLAY_FILES_REQUIRED.getText());
+        double speed = AS_FAST_AS_POSSIBLE;
+        String path = inValue;
+        int separator = inValue.indexOf(':');
+        if(separator > 0) {
+            String prefix = inValue.substring(0,
+                                              separator);
+            if(prefix.equalsIgnoreCase(MAX_SPEED)) {
+                path = inValue.substring(separator+1);
+            } else {
+                try {
+                    speed = Double.parseDouble(prefix);
+                    path = inValue.substring(separator+1);
+                } catch (NumberFormatException ignored) {
+                    // not a speed, this is part of the path, e.g., a drive letter
+                }
+            }
+        }
+        return new ReplayRequest(Collections.singletonList(new File(path)),
+                                 speed);
+    }
+    /**
+     * Get the files value.
+     *
+     * @return a <code>List&lt;File&gt;</code> value
+     */
+    public List<File> getFiles()
+    {
+        return files;
+    }
+    /**
+     * Get the speed value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getSpeed()
+    {
+        return speed;
+    }
+    /**
+     * Indicates if quotes should be emitted without waiting between them.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean isAsFastAsPossible()
+    {
+        return speed == AS_FAST_AS_POSSIBLE;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append("ReplayRequest ").append(files).append(" at ") //$NON-NLS-1$ //$NON-NLS-2$
+                .append(isAsFastAsPossible() ? MAX_SPEED : String.valueOf(speed)).toString();
+    }
+    /**
+     * speed value which replays quotes without waiting between them
+     */
+    public static final double AS_FAST_AS_POSSIBLE = 0;
+    /**
+     * speed value which replays quotes with the spacing with which they were recorded
+     */
+    public static final double REAL_TIME = 1;
+    /**
+     * speed prefix for {@link #AS_FAST_AS_POSSIBLE}
+     */
+    private static final String MAX_SPEED = "max"; //$NON-NLS-1$
+    /**
+     * recordings or directories of recordings to replay
+     */
+    private final List<File> files;
+    /**
+     * multiple of real time at which to replay
+     */
+    private final double speed;
+    private static final long serialVersionUID = 1L;
+}
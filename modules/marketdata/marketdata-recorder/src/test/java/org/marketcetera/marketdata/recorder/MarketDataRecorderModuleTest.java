@@ -9,6 +9,8 @@ import static org.marketcetera.core.time.TimeFactoryImpl.MINUTE;
 import static org.marketcetera.core.time.TimeFactoryImpl.SECOND;
 
 import java.io.File;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -17,6 +19,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.builder.CompareToBuilder;
@@ -688,6 +694,179 @@ public class MarketDataRecorderModuleTest
         verifyEventCount(dataFile,
                          1);
     }
+    /**
+     * Tests that buffered quotes are written when the module stops.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBufferedOutput()
+            throws Exception
+    {
+        MarketDataRecorderModuleConfiguration config = generateConfig(sessionReset);
+        config.setBufferedOutput(true);
+        config.setFlushInterval(60000);
+        ModuleURN instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                                  config);
+        DataFlowID flowId = establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                                        Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                                        AssetClass.FUTURE),
+                                              TestFeedModuleFactory.PROVIDER_URN,
+                                              instanceUrn);
+        verifyNoFiles();
+        AskEvent ask = generateAskEvent(gcInstrument,
+                                        "EX");
+        ask.setEventType(EventType.SNAPSHOT_FINAL);
+        testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+        ask = generateAskEvent(gcInstrument,
+                               "EX");
+        ask.setEventType(EventType.UPDATE_FINAL);
+        testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+        // the file is open but the quotes are still buffered
+        Collection<File> testFiles = getFiles();
+        assertEquals(1,
+                     testFiles.size());
+        File dataFile = testFiles.iterator().next();
+        assertTrue("Expected " + dataFile.getName() + " to end with ''-1.csv''",
+                   dataFile.getAbsolutePath().endsWith("-1.csv"));
+        verifyEventCount(dataFile,
+                         0);
+        moduleManager.cancel(flowId);
+        moduleManager.stop(instanceUrn);
+        verifyEventCount(dataFile,
+                         2);
+    }
+    /**
+     * Tests recording quotes in the binary format.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBinaryFormat()
+            throws Exception
+    {
+        MarketDataRecorderModuleConfiguration config = generateConfig(sessionReset);
+        config.setRecordFormat(RecordFormat.BINARY);
+        ModuleURN instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                                  config);
+        DataFlowID flowId = establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                                        Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                                        AssetClass.FUTURE),
+                                              TestFeedModuleFactory.PROVIDER_URN,
+                                              instanceUrn);
+        verifyNoFiles();
+        List<Event> events = new ArrayList<>();
+        AskEvent ask = generateAskEvent(gcInstrument,
+                                        "EX");
+        ask.setEventType(EventType.SNAPSHOT_FINAL);
+        events.add(ask);
+        for(int i=0;i<2;i++) {
+            ask = generateAskEvent(gcInstrument,
+                                   "EX");
+            ask.setEventType(EventType.UPDATE_FINAL);
+            events.add(ask);
+        }
+        testMarketDataFeed.sendEvents(events);
+        // a new snapshot starts a new file
+        ask = generateAskEvent(gcInstrument,
+                               "EX");
+        ask.setEventType(EventType.SNAPSHOT_FINAL);
+        testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+        moduleManager.cancel(flowId);
+        moduleManager.stop(instanceUrn);
+        SortedSet<File> testFiles = getFiles();
+        assertEquals(2,
+                     testFiles.size());
+        File dataFile = testFiles.first();
+        assertTrue("Expected " + dataFile.getName() + " to end with ''-1.mdr''",
+                   dataFile.getAbsolutePath().endsWith("-1.mdr"));
+        ByteBuffer contents = ByteBuffer.wrap(FileUtils.readFileToByteArray(dataFile));
+        assertEquals(BinaryQuoteRecord.MAGIC,
+                     contents.getInt());
+        assertEquals(BinaryQuoteRecord.VERSION,
+                     contents.getShort());
+        assertEquals(BinaryQuoteRecord.RECORD_LENGTH,
+                     contents.getShort());
+        int headerLength = BinaryQuoteRecord.getHeaderLength(ask);
+        assertEquals(headerLength + 3 * BinaryQuoteRecord.RECORD_LENGTH,
+                     contents.limit());
+        AskEvent firstAsk = (AskEvent)events.get(0);
+        assertEquals(BinaryQuoteRecord.ASK,
+                     contents.get(headerLength + BinaryQuoteRecord.SIDE_OFFSET));
+        assertEquals(EventType.SNAPSHOT_FINAL.ordinal(),
+                     contents.get(headerLength + BinaryQuoteRecord.EVENT_TYPE_OFFSET));
+        assertEquals(firstAsk.getMessageId(),
+                     contents.getLong(headerLength + BinaryQuoteRecord.MESSAGE_ID_OFFSET));
+        assertEquals(0,
+                     firstAsk.getPrice().compareTo(BigDecimal.valueOf(contents.getLong(headerLength + BinaryQuoteRecord.PRICE_OFFSET),
+                                                                      contents.get(headerLength + BinaryQuoteRecord.PRICE_SCALE_OFFSET))));
+        assertEquals(firstAsk.getExchangeTimestamp().getTime(),
+                     contents.getLong(headerLength + BinaryQuoteRecord.EXCHANGE_TIMESTAMP_OFFSET));
+        dataFile = testFiles.last();
+        assertTrue("Expected " + dataFile.getName() + " to end with ''-2.mdr''",
+                   dataFile.getAbsolutePath().endsWith("-2.mdr"));
+        assertEquals(headerLength + BinaryQuoteRecord.RECORD_LENGTH,
+                     dataFile.length());
+    }
+    /**
+     * Tests that quotes for the same symbol key delivered concurrently get distinct files with consecutive ordinals.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConcurrentDelivery()
+            throws Exception
+    {
+        ModuleURN instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                                  sessionReset);
+        DataFlowID flowId = establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                                        Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                                        AssetClass.FUTURE),
+                                              TestFeedModuleFactory.PROVIDER_URN,
+                                              instanceUrn);
+        verifyNoFiles();
+        final int threadCount = 8;
+        final int snapshotsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<java.util.concurrent.Future<?>> results = new ArrayList<>();
+            for(int threadCounter=0;threadCounter<threadCount;threadCounter++) {
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call()
+                            throws Exception
+                    {
+                        // each SNAPSHOT_FINAL starts a new file with the next ordinal
+                        for(int i=0;i<snapshotsPerThread;i++) {
+                            AskEvent ask = generateAskEvent(gcInstrument,
+                                                            "EX");
+                            ask.setEventType(EventType.SNAPSHOT_FINAL);
+                            testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for(java.util.concurrent.Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        moduleManager.cancel(flowId);
+        assertTrue(testExceptionHandler.exceptions.isEmpty());
+        SortedSet<File> testFiles = getFiles();
+        assertEquals(threadCount * snapshotsPerThread,
+                     testFiles.size());
+        int expectedOrdinal = 1;
+        for(File dataFile : testFiles) {
+            assertTrue("Expected " + dataFile.getName() + " to end with ''-" + expectedOrdinal + ".csv''",
+                       dataFile.getAbsolutePath().endsWith("-" + expectedOrdinal + ".csv"));
+            verifyEventCount(dataFile,
+                             1);
+            expectedOrdinal += 1;
+        }
+    }
     /**
      * Verifies that the event count in the given file matches the given expected count.
      *
@@ -800,7 +979,20 @@ public class MarketDataRecorderModuleTest
     private ModuleURN getRecorderModule(String inDirectoryName,
                                         String inSessionReset)
     {
-        ApplicationContext applicationContext = generateApplicationContext(generateConfig(inSessionReset));
+        return getRecorderModule(inDirectoryName,
+                                 generateConfig(inSessionReset));
+    }
+    /**
+     * Creates and starts a recorder module instance with the given configuration.
+     *
+     * @param inDirectoryName a <code>String</code> value
+     * @param inConfig a <code>MarketDataRecorderModuleConfiguration</code> value
+     * @return a <code>ModuleURN</code> value
+     */
+    private ModuleURN getRecorderModule(String inDirectoryName,
+                                        MarketDataRecorderModuleConfiguration inConfig)
+    {
+        ApplicationContext applicationContext = generateApplicationContext(inConfig);
         moduleManager.setApplicationContext(applicationContext);
         ModuleURN recorderUrn = moduleManager.createModule(MarketDataRecorderModuleFactory.PROVIDER_URN,
                                                            inDirectoryName);
@@ -860,7 +1052,7 @@ public class MarketDataRecorderModuleTest
         /**
          * holds the exceptions that have been received
          */
-        private final List<Throwable> exceptions = new ArrayList<>();
+        private final List<Throwable> exceptions = new CopyOnWriteArrayList<>();
         private static final long serialVersionUID = 517430082636110107L;
     }
     /**
@@ -893,7 +1085,7 @@ public class MarketDataRecorderModuleTest
             String filename = inFile.getName();
             int finalDashPos = filename.lastIndexOf('-');
             return Integer.parseInt(filename.substring(finalDashPos+1,
-                                                       filename.indexOf(".csv")));
+                                                       filename.lastIndexOf('.')));
         }
         /**
          * comparison instance to use
@@ -0,0 +1,362 @@
+package org.marketcetera.marketdata.recorder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.module.DataFlowID;
+import org.marketcetera.module.DataRequest;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.module.IllegalRequestParameterValue;
+import org.marketcetera.module.ModuleManager;
+import org.marketcetera.module.SinkDataListener;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+
+/* $License$ */
+
+/**
+ * Tests {@link MarketDataReplayModule}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since $Release$
+ */
+public class MarketDataReplayModuleTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        moduleManager = new ModuleManager();
+        moduleManager.init();
+        moduleManager.addSinkListener(sink);
+        testDirectory = new File(FileUtils.getTempDirectory(),
+                                 MarketDataReplayModuleTest.class.getSimpleName());
+        FileUtils.deleteQuietly(testDirectory);
+        FileUtils.forceMkdir(testDirectory);
+    }
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        moduleManager.removeSinkListener(sink);
+        moduleManager.stop();
+        FileUtils.deleteQuietly(testDirectory);
+    }
+    /**
+     * Tests interpreting replay requests.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReplayRequest()
+            throws Exception
+    {
+        ReplayRequest request = ReplayRequest.fromString("/tmp/recordings");
+        assertEquals(Collections.singletonList(new File("/tmp/recordings")),
+                     request.getFiles());
+        assertTrue(request.isAsFastAsPossible());
+        request = ReplayRequest.fromString("max:/tmp/recordings");
+        assertEquals(Collections.singletonList(new File("/tmp/recordings")),
+                     request.getFiles());
+        assertTrue(request.isAsFastAsPossible());
+        request = ReplayRequest.fromString("2.5:/tmp/recordings");
+        assertEquals(Collections.singletonList(new File("/tmp/recordings")),
+                     request.getFiles());
+        assertEquals(2.5,
+                     request.getSpeed(),
+                     0.0001);
+        request = ReplayRequest.fromString("C:\\recordings");
+        assertEquals(Collections.singletonList(new File("C:\\recordings")),
+                     request.getFiles());
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                ReplayRequest.fromString("-1:/tmp/recordings");
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new ReplayRequest(Collections.<File>emptyList(),
+                                  ReplayRequest.REAL_TIME);
+            }
+        };
+        new ExpectedFailure<IllegalRequestParameterValue>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                moduleManager.createDataFlow(new DataRequest[] { new DataRequest(MarketDataReplayModuleFactory.INSTANCE_URN,
+                                                                                 "-1:" + testDirectory.getAbsolutePath()) });
+            }
+        };
+    }
+    /**
+     * Tests that quotes from several recordings are emitted in timestamp order with their recorded values.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=60000)
+    public void testMergedReplay()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        Future future = Future.fromString("GC-201609");
+        List<QuoteEvent> equityQuotes = new ArrayList<>();
+        List<QuoteEvent> futureQuotes = new ArrayList<>();
+        for(int i=0;i<QUOTE_COUNT;i++) {
+            // interleave the timestamps of the two recordings
+            equityQuotes.add(generateQuote(equity,
+                                           i,
+                                           START + 2 * i));
+            futureQuotes.add(generateQuote(future,
+                                           i,
+                                           START + 2 * i + 1));
+        }
+        record(new File(testDirectory,
+                        "equity.mdr"),
+               equityQuotes);
+        record(new File(testDirectory,
+                        "future.mdr"),
+               futureQuotes);
+        // not a recording, should be ignored
+        FileUtils.write(new File(testDirectory,
+                                 "other.csv"),
+                        "not a recording");
+        replay(testDirectory.getAbsolutePath());
+        assertEquals(2 * QUOTE_COUNT,
+                     sink.received.size());
+        long lastTimestamp = Long.MIN_VALUE;
+        for(int i=0;i<sink.received.size();i++) {
+            QuoteEvent quote = (QuoteEvent)sink.received.get(i);
+            QuoteEvent expected = (i % 2 == 0 ? equityQuotes : futureQuotes).get(i / 2);
+            assertTrue(quote.getExchangeTimestamp().getTime() >= lastTimestamp);
+            lastTimestamp = quote.getExchangeTimestamp().getTime();
+            assertEquals(expected.getInstrument(),
+                         quote.getInstrument());
+            assertEquals(expected.getClass(),
+                         quote.getClass());
+            assertEquals(expected.getMessageId(),
+                         quote.getMessageId());
+            assertEquals(0,
+                         expected.getPrice().compareTo(quote.getPrice()));
+            assertEquals(0,
+                         expected.getSize().compareTo(quote.getSize()));
+            assertEquals(expected.getExchange(),
+                         quote.getExchange());
+            assertEquals(expected.getAction(),
+                         quote.getAction());
+            assertEquals(expected.getEventType(),
+                         quote.getEventType());
+            assertEquals(expected.getExchangeTimestamp(),
+                         quote.getExchangeTimestamp());
+            assertEquals(expected.getProcessedTimestamp(),
+                         quote.getProcessedTimestamp());
+            assertEquals(expected.getReceivedTimestamp(),
+                         quote.getReceivedTimestamp());
+        }
+    }
+    /**
+     * Tests that a paced replay preserves the recorded spacing of the quotes.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=60000)
+    public void testPacedReplay()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        List<QuoteEvent> quotes = new ArrayList<>();
+        for(int i=0;i<5;i++) {
+            quotes.add(generateQuote(equity,
+                                     i,
+                                     START + 1000 * i));
+        }
+        File recording = new File(testDirectory,
+                                  "equity.mdr");
+        record(recording,
+               quotes);
+        // 4 seconds of recording at 10x should take at least 400ms
+        long started = System.currentTimeMillis();
+        replay("10:" + recording.getAbsolutePath());
+        long elapsed = System.currentTimeMillis() - started;
+        assertEquals(quotes.size(),
+                     sink.received.size());
+        assertTrue("Replay took " + elapsed + "ms",
+                   elapsed >= 400);
+    }
+    /**
+     * Tests that a recorded quote without an exchange timestamp is replayed with its received timestamp.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=60000)
+    public void testReplayWithoutExchangeTimestamp()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        QuoteEvent quote = generateQuote(equity,
+                                         0,
+                                         START);
+        File recording = new File(testDirectory,
+                                  "equity.mdr");
+        record(recording,
+               Collections.singletonList(quote));
+        // overwrite the exchange timestamp with the value used for quotes that do not have one
+        try(RandomAccessFile file = new RandomAccessFile(recording,
+                                                         "rw")) {
+            file.seek(BinaryQuoteRecord.getHeaderLength(quote) + BinaryQuoteRecord.EXCHANGE_TIMESTAMP_OFFSET);
+            file.writeLong(BinaryQuoteRecord.NO_TIMESTAMP);
+        }
+        replay("10:" + recording.getAbsolutePath());
+        assertEquals(1,
+                     sink.received.size());
+        QuoteEvent replayed = (QuoteEvent)sink.received.get(0);
+        assertEquals(quote.getReceivedTimestamp(),
+                     replayed.getExchangeTimestamp().getTime());
+        assertEquals(quote.getMessageId(),
+                     replayed.getMessageId());
+    }
+    /**
+     * Replays the given request and waits for the data flow to finish.
+     *
+     * @param inRequest an <code>Object</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void replay(Object inRequest)
+            throws Exception
+    {
+        DataFlowID flowId = moduleManager.createDataFlow(new DataRequest[] { new DataRequest(MarketDataReplayModuleFactory.INSTANCE_URN,
+                                                                                             inRequest) });
+        while(moduleManager.getDataFlows(true).contains(flowId)) {
+            Thread.sleep(100);
+        }
+    }
+    /**
+     * Writes the given quotes to the given binary recording.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inQuotes a <code>List&lt;QuoteEvent&gt;</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void record(File inFile,
+                        List<QuoteEvent> inQuotes)
+            throws Exception
+    {
+        RecordingJournal journal = new RecordingJournal(RecordFormat.BINARY,
+                                                        4096,
+                                                        60000);
+        try {
+            for(QuoteEvent quote : inQuotes) {
+                journal.write(inFile,
+                              quote,
+                              null);
+            }
+        } finally {
+            journal.close();
+        }
+    }
+    /**
+     * Generates a quote with the given attributes, alternating between bids and asks.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inIndex an <code>int</code> value
+     * @param inTimestamp a <code>long</code> value
+     * @return a <code>QuoteEvent</code> value
+     */
+    private QuoteEvent generateQuote(Instrument inInstrument,
+                                     int inIndex,
+                                     long inTimestamp)
+    {
+        QuoteEventBuilder<? extends QuoteEvent> builder;
+        if(inIndex % 2 == 0) {
+            builder = QuoteEventBuilder.bidEvent(inInstrument);
+        } else {
+            builder = QuoteEventBuilder.askEvent(inInstrument);
+        }
+        QuoteEvent quote = builder.withExchange("EX")
+                                  .withMessageId(inIndex + 1)
+                                  .withPrice(new BigDecimal("100.25").add(BigDecimal.valueOf(inIndex)))
+                                  .withSize(new BigDecimal("10").multiply(BigDecimal.valueOf(inIndex + 1)))
+                                  .withQuoteDate(new Date(inTimestamp))
+                                  .withProcessedTimestamp(inTimestamp + 5)
+                                  .withReceivedTimestamp(inTimestamp + 3).create();
+        quote.setEventType(inIndex == 0 ? EventType.SNAPSHOT_FINAL : EventType.UPDATE_FINAL);
+        return quote;
+    }
+    /**
+     * Collects data received by the sink.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since $Release$
+     */
+    private static class TestSink
+            implements SinkDataListener
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.SinkDataListener#receivedData(org.marketcetera.module.DataFlowID, java.lang.Object)
+         */
+        @Override
+        public void receivedData(DataFlowID inFlowID,
+                                 Object inData)
+        {
+            received.add(inData);
+        }
+        /**
+         * data received
+         */
+        private final List<Object> received = Collections.synchronizedList(new ArrayList<>());
+    }
+    /**
+     * number of quotes in each recording
+     */
+    private static final int QUOTE_COUNT = 100;
+    /**
+     * timestamp of the first recorded quote
+     */
+    private static final long START = 1475280000000L;
+    /**
+     * receives replayed quotes
+     */
+    private final TestSink sink = new TestSink();
+    /**
+     * directory to which to write recordings
+     */
+    private File testDirectory;
+    /**
+     * manages modules
+     */
+    private ModuleManager moduleManager;
+}
@@ -26,6 +26,7 @@ import org.marketcetera.event.HasEventType;
 import org.marketcetera.event.QuoteAction;
 import org.marketcetera.event.QuoteEvent;
 import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.EventBuilderPool;
 import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.impl.TradeEventBuilder;
 import org.marketcetera.trade.Equity;
@@ -398,16 +399,20 @@ public enum YahooFeedEventTranslator
         
         // construct instrument
         Instrument instrument = getInstrumentFrom(symbol);
-        QuoteEventBuilder<BidEvent> builder = QuoteEventBuilder.bidEvent(instrument);
+        QuoteEventBuilder<BidEvent> builder = EventBuilderPool.bidEvent(instrument);
         String className = BidEvent.class.getName();
         Map<String, QuoteData> bidQuoteDataMap = getEventQuoteDataMap(className);        
-        lookForQuoteEvent(inData,
-                          inEvents,
-                          bidPrice,
-                          bidSize,
-                          symbol,
-                          instrument,
-                          builder, bidQuoteDataMap, inHandle);
+        try {
+            lookForQuoteEvent(inData,
+                              inEvents,
+                              bidPrice,
+                              bidSize,
+                              symbol,
+                              instrument,
+                              builder, bidQuoteDataMap, inHandle);
+        } finally {
+            EventBuilderPool.release(builder);
+        }
     }
     /**
      * Looks for ask events in the given data. 
@@ -429,16 +434,20 @@ public enum YahooFeedEventTranslator
         }
         // construct instrument
         Instrument instrument = getInstrumentFrom(symbol);
-        QuoteEventBuilder<AskEvent> builder = QuoteEventBuilder.askEvent(instrument);
+        QuoteEventBuilder<AskEvent> builder = EventBuilderPool.askEvent(instrument);
         String className = AskEvent.class.getName();
         Map<String, QuoteData> askQuoteDataMap = getEventQuoteDataMap(className);        
-        lookForQuoteEvent(inData,
-                          inEvents,
-                          askPrice,
-                          askSize,
-                          symbol,
-                          instrument,
-                          builder, askQuoteDataMap, inHandle);
+        try {
+            lookForQuoteEvent(inData,
+                              inEvents,
+                              askPrice,
+                              askSize,
+                              symbol,
+                              instrument,
+                              builder, askQuoteDataMap, inHandle);
+        } finally {
+            EventBuilderPool.release(builder);
+        }
     }
     /**
      * Looks for trade events in the given data. 
@@ -474,22 +483,26 @@ public enum YahooFeedEventTranslator
         } catch (Exception e) {
             return;
         }
-        TradeEventBuilder<? extends TradeEvent> builder = TradeEventBuilder.tradeEvent(instrument);
-        Date date = new Date();
-        // TODO build trade date properly
-        builder.withExchange(exchange)
-               .withPrice(price)
-               .withProviderSymbol(symbol)
-               .withSize(size)
-               .withTimestamp(date)
-               .withTradeDate(date);
-        addFutureAttributes(builder,
-                            instrument,
-                            inData);
-        addOptionAttributes(builder,
-                            instrument,
-                            inData);
-        inEvents.add(builder.create());
+        TradeEventBuilder<? extends TradeEvent> builder = EventBuilderPool.tradeEvent(instrument);
+        try {
+            Date date = new Date();
+            // TODO build trade date properly
+            builder.withExchange(exchange)
+                   .withPrice(price)
+                   .withProviderSymbol(symbol)
+                   .withSize(size)
+                   .withTimestamp(date)
+                   .withTradeDate(date);
+            addFutureAttributes(builder,
+                                instrument,
+                                inData);
+            addOptionAttributes(builder,
+                                instrument,
+                                inData);
+            inEvents.add(builder.create());
+        } finally {
+            EventBuilderPool.release(builder);
+        }
     }
     /**
      * Adds future attributes to the given trade events, if applicable.
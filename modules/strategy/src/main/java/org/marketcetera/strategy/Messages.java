@@ -254,4 +254,6 @@ public interface Messages
     
     static final I18NMessage2P BROKER_STATUS_PROCESS_FAILED = new I18NMessage2P(LOGGER,
     																		  "broker_status_process_failed"); //$NON-NLS-1$
+    static final I18NMessage2P MAILBOX_INTERRUPTED = new I18NMessage2P(LOGGER,
+                                                                       "mailbox_interrupted"); //$NON-NLS-1$
 }
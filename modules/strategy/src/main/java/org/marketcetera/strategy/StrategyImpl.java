@@ -9,8 +9,13 @@ import static org.marketcetera.strategy.Status.UNSTARTED;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FileUtils;
 import org.marketcetera.core.ClassVersion;
@@ -20,6 +25,7 @@ import org.marketcetera.event.DividendEvent;
 import org.marketcetera.event.MarketstatEvent;
 import org.marketcetera.event.TradeEvent;
 import org.marketcetera.event.impl.LogEventBuilder;
+import org.marketcetera.module.ClassDispatchRegistry;
 import org.marketcetera.trade.ExecutionReport;
 import org.marketcetera.trade.OrderCancelReject;
 
@@ -42,6 +48,9 @@ import org.marketcetera.trade.OrderCancelReject;
  * Additionally, the strategy will keep executing until the next garbage-collection,
  * which is not deterministic.  It is good practice to call {@link #stop()} on each
  * strategy at the appropriate time.
+ * 
+ * <p>If the strategy has a mailbox, data is delivered to the embedded strategy on a thread
+ * dedicated to this strategy instead of on the thread that provides the data. See {@link StrategyMailbox}.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -59,6 +68,20 @@ class StrategyImpl
         throws StrategyException
     {
         try {
+            if(mailboxCapacity > 0) {
+                StrategyMailbox newMailbox = new StrategyMailbox("strategy-" + getUniqueIdentifier(), //$NON-NLS-1$
+                                                                 mailboxCapacity,
+                                                                 conflating,
+                                                                 new StrategyMailbox.Dispatcher() {
+                    @Override
+                    public void dispatch(Object inData)
+                    {
+                        dispatchData(inData);
+                    }
+                });
+                newMailbox.start();
+                mailbox = newMailbox;
+            }
             setExecutor(getLanguage().getExecutor(this));
             setStatus(COMPILING);
             getExecutor().start();
@@ -70,6 +93,7 @@ class StrategyImpl
             //  is thrown initializing the execution of "onStart" - this is caught
             //  below
         } catch (Exception e) {
+            stopMailbox();
             setStatus(FAILED);
             throw new StrategyException(e);
         }
@@ -81,6 +105,8 @@ class StrategyImpl
     public final void stop()
         throws Exception
     {
+        // data waiting for the strategy is no longer of interest
+        stopMailbox();
         // if the strategy is at FAILED or STOPPED, this is not an error case to now try to stop it, but nothing
         //  more needs (or is allowed) to be done (and the status should not change)
         if(getStatus().equals(FAILED) ||
@@ -107,6 +133,91 @@ class StrategyImpl
      */
     @Override
     public final void dataReceived(Object inData)
+    {
+        StrategyMailbox currentMailbox = mailbox;
+        if(currentMailbox == null) {
+            dispatchData(inData);
+            return;
+        }
+        try {
+            currentMailbox.put(inData);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            StrategyModule.log(LogEventBuilder.warn().withMessage(MAILBOX_INTERRUPTED,
+                                                                  String.valueOf(this),
+                                                                  String.valueOf(inData)).create(),
+                               this);
+        }
+    }
+    /**
+     * Gets the number of data items waiting to be delivered to the strategy.
+     *
+     * @return an <code>int</code> value, 0 if the strategy has no mailbox
+     */
+    final int getMailboxDepth()
+    {
+        StrategyMailbox currentMailbox = mailbox;
+        return currentMailbox == null ? 0 : currentMailbox.getDepth();
+    }
+    /**
+     * Gets the number of events that were replaced by newer events before they could be delivered to the strategy.
+     *
+     * @return a <code>long</code> value, 0 if the strategy has no mailbox
+     */
+    final long getConflatedEventCount()
+    {
+        StrategyMailbox currentMailbox = mailbox;
+        return currentMailbox == null ? 0 : currentMailbox.getConflatedCount();
+    }
+    /**
+     * Gets the number of times each strategy callback has been invoked.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value
+     */
+    final Map<String,Long> getHandlerCounts()
+    {
+        Map<String,Long> counts = new TreeMap<String,Long>();
+        for(Map.Entry<String,HandlerStatistics> entry : handlerStatistics.entrySet()) {
+            counts.put(entry.getKey(),
+                       entry.getValue().count.get());
+        }
+        return counts;
+    }
+    /**
+     * Gets the mean time in nanoseconds spent in each strategy callback.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value
+     */
+    final Map<String,Long> getHandlerMeanLatencies()
+    {
+        Map<String,Long> latencies = new TreeMap<String,Long>();
+        for(Map.Entry<String,HandlerStatistics> entry : handlerStatistics.entrySet()) {
+            long count = entry.getValue().count.get();
+            latencies.put(entry.getKey(),
+                          count == 0 ? 0 : entry.getValue().totalNanos.get() / count);
+        }
+        return latencies;
+    }
+    /**
+     * Gets the longest time in nanoseconds spent in each strategy callback.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value
+     */
+    final Map<String,Long> getHandlerMaxLatencies()
+    {
+        Map<String,Long> latencies = new TreeMap<String,Long>();
+        for(Map.Entry<String,HandlerStatistics> entry : handlerStatistics.entrySet()) {
+            latencies.put(entry.getKey(),
+                          entry.getValue().maxNanos.get());
+        }
+        return latencies;
+    }
+    /**
+     * Delivers the given data to the embedded strategy.
+     *
+     * @param inData an <code>Object</code> value
+     */
+    private void dispatchData(Object inData)
     {
         // make sure that the strategy is in a state to receive incoming data
         if(!getStatus().canReceiveData()) {
@@ -118,6 +229,8 @@ class StrategyImpl
             return;
         }
         String method = "onOther"; //$NON-NLS-1$
+        long start = 0;
+        boolean timed = false;
         try {
             RunningStrategy runningStrategy = getRunningStrategy();
             if(runningStrategy == null) {
@@ -127,51 +240,15 @@ class StrategyImpl
                                    this);
                 return;
             }
-            if(inData instanceof AskEvent) {
-                method = "onAsk"; //$NON-NLS-1$
-                runningStrategy.onAsk((AskEvent)inData);
-                return;
-            }
-            if(inData instanceof BidEvent) {
-                method = "onBid"; //$NON-NLS-1$
-                runningStrategy.onBid((BidEvent)inData);
-                return;
-            }
-            if(inData instanceof MarketstatEvent) {
-                method = "onMarketstat"; //$NON-NLS-1$
-                runningStrategy.onMarketstat((MarketstatEvent)inData);
-                return;
-            }
-            if(inData instanceof DividendEvent) {
-                method = "onDividend"; //$NON-NLS-1$
-                runningStrategy.onDividend((DividendEvent)inData);
-                return;
-            }
-            if(inData instanceof OrderCancelReject) {
-                method = "onCancelReject"; //$NON-NLS-1$
-                if(runningStrategy instanceof AbstractRunningStrategy) {
-                    ((AbstractRunningStrategy)runningStrategy).onCancelRejectRedirected((OrderCancelReject)inData);
-                } else {
-                    runningStrategy.onCancelReject((OrderCancelReject)inData);
-                }
-                return;
-            }
-            if(inData instanceof ExecutionReport) {
-                method = "onExecutionReport"; //$NON-NLS-1$
-                if(runningStrategy instanceof AbstractRunningStrategy) {
-                    ((AbstractRunningStrategy)runningStrategy).onExecutionReportRedirected((ExecutionReport)inData);
-                } else {
-                    runningStrategy.onExecutionReport((ExecutionReport)inData);
-                }
-                return;
+            Callback callback = inData == null ? ON_OTHER : callbacks.getHandler(inData.getClass());
+            method = callback.method;
+            // callback statistics are kept for strategies with a mailbox, which are the ones that can fall behind
+            if(mailboxCapacity > 0) {
+                start = System.nanoTime();
+                timed = true;
             }
-            if(inData instanceof TradeEvent) {
-                method = "onTrade"; //$NON-NLS-1$
-                runningStrategy.onTrade((TradeEvent)inData);
-                return;
-            }
-            // catch-all for every other type of data
-            runningStrategy.onOther(inData);
+            callback.invoke(runningStrategy,
+                            inData);
         } catch (Exception e) {
             Executor executor = getExecutor();
             String methodName = method;
@@ -186,6 +263,37 @@ class StrategyImpl
                                                                   exceptionTranslation)
                                                      .withException(e).create(),
                                this);
+        } finally {
+            if(timed) {
+                recordLatency(method,
+                              System.nanoTime() - start);
+            }
+        }
+    }
+    /**
+     * Records the time spent in the given strategy callback.
+     *
+     * @param inMethod a <code>String</code> value
+     * @param inElapsedNanos a <code>long</code> value
+     */
+    private void recordLatency(String inMethod,
+                               long inElapsedNanos)
+    {
+        HandlerStatistics statistics = handlerStatistics.get(inMethod);
+        if(statistics == null) {
+            statistics = new HandlerStatistics();
+            HandlerStatistics existingStatistics = handlerStatistics.putIfAbsent(inMethod,
+                                                                                 statistics);
+            if(existingStatistics != null) {
+                statistics = existingStatistics;
+            }
+        }
+        statistics.count.incrementAndGet();
+        statistics.totalNanos.addAndGet(inElapsedNanos);
+        long max = statistics.maxNanos.get();
+        while(inElapsedNanos > max && !statistics.maxNanos.compareAndSet(max,
+                                                                         inElapsedNanos)) {
+            max = statistics.maxNanos.get();
         }
     }
     /* (non-Javadoc)
@@ -279,6 +387,8 @@ class StrategyImpl
      * @param inNamespace a <code>String</code> value 
      * @param inServicesProvider an <code>OutboundServices</code> value
      * @param inInboundServicesProvider an <code>InboundServices</code> value
+     * @param inMailboxCapacity an <code>int</code> value containing the number of data items that may wait for the strategy, 0 to deliver data on the thread that provides it
+     * @param inConflating a <code>boolean</code> value indicating if waiting market data may be merged with newer market data
      * @throws IOException if the given <code>File</code> could not be resolved
      */
     StrategyImpl(String inName,
@@ -287,7 +397,9 @@ class StrategyImpl
                  File inSource,
                  Properties inParameters,
                  String inNamespace,
-                 ServicesProvider inServicesProvider)
+                 ServicesProvider inServicesProvider,
+                 int inMailboxCapacity,
+                 boolean inConflating)
         throws IOException
     {
         status = UNSTARTED;
@@ -307,6 +419,8 @@ class StrategyImpl
             code = fileToString(getSource());
         }
         defaultNamespace = inNamespace;
+        mailboxCapacity = inMailboxCapacity;
+        conflating = inConflating;
     }
     /**
      * Get the uniqueIdentifier value.
@@ -388,6 +502,17 @@ class StrategyImpl
     {
         executor = inExecutor;
     }
+    /**
+     * Stops the mailbox, if any.
+     */
+    private void stopMailbox()
+    {
+        StrategyMailbox currentMailbox = mailbox;
+        if(currentMailbox != null) {
+            currentMailbox.stop();
+            mailbox = null;
+        }
+    }
     /**
      * Reads the given <code>File</code> and renders its contents as a <code>String</code>.
      *
@@ -400,6 +525,150 @@ class StrategyImpl
     {
         return FileUtils.readFileToString(inFile);
     }
+    /**
+     * Delivers data of a particular type to a strategy.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static abstract class Callback
+    {
+        /**
+         * Create a new Callback instance.
+         *
+         * @param inMethod a <code>String</code> value containing the name of the strategy method invoked
+         */
+        private Callback(String inMethod)
+        {
+            method = inMethod;
+        }
+        /**
+         * Delivers the given data to the given strategy.
+         *
+         * @param inRunningStrategy a <code>RunningStrategy</code> value
+         * @param inData an <code>Object</code> value
+         * @throws Exception if the strategy throws an exception
+         */
+        abstract void invoke(RunningStrategy inRunningStrategy,
+                             Object inData)
+                throws Exception;
+        /**
+         * the name of the strategy method invoked
+         */
+        private final String method;
+    }
+    /**
+     * Holds the statistics of a strategy callback.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class HandlerStatistics
+    {
+        /**
+         * number of invocations
+         */
+        private final AtomicLong count = new AtomicLong();
+        /**
+         * total time spent in the callback in nanoseconds
+         */
+        private final AtomicLong totalNanos = new AtomicLong();
+        /**
+         * longest time spent in the callback in nanoseconds
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+    /**
+     * delivers data of types that have no specific callback
+     */
+    private static final Callback ON_OTHER = new Callback("onOther") { //$NON-NLS-1$
+        @Override
+        void invoke(RunningStrategy inRunningStrategy,
+                    Object inData)
+        {
+            inRunningStrategy.onOther(inData);
+        }
+    };
+    /**
+     * callbacks by the type of data they deliver, registered in order of precedence
+     */
+    private static final ClassDispatchRegistry<Callback> callbacks = new ClassDispatchRegistry<Callback>();
+    static {
+        callbacks.register(AskEvent.class,
+                           new Callback("onAsk") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                inRunningStrategy.onAsk((AskEvent)inData);
+            }
+        });
+        callbacks.register(BidEvent.class,
+                           new Callback("onBid") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                inRunningStrategy.onBid((BidEvent)inData);
+            }
+        });
+        callbacks.register(MarketstatEvent.class,
+                           new Callback("onMarketstat") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                inRunningStrategy.onMarketstat((MarketstatEvent)inData);
+            }
+        });
+        callbacks.register(DividendEvent.class,
+                           new Callback("onDividend") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                inRunningStrategy.onDividend((DividendEvent)inData);
+            }
+        });
+        callbacks.register(OrderCancelReject.class,
+                           new Callback("onCancelReject") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                if(inRunningStrategy instanceof AbstractRunningStrategy) {
+                    ((AbstractRunningStrategy)inRunningStrategy).onCancelRejectRedirected((OrderCancelReject)inData);
+                } else {
+                    inRunningStrategy.onCancelReject((OrderCancelReject)inData);
+                }
+            }
+        });
+        callbacks.register(ExecutionReport.class,
+                           new Callback("onExecutionReport") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                if(inRunningStrategy instanceof AbstractRunningStrategy) {
+                    ((AbstractRunningStrategy)inRunningStrategy).onExecutionReportRedirected((ExecutionReport)inData);
+                } else {
+                    inRunningStrategy.onExecutionReport((ExecutionReport)inData);
+                }
+            }
+        });
+        callbacks.register(TradeEvent.class,
+                           new Callback("onTrade") { //$NON-NLS-1$
+            @Override
+            void invoke(RunningStrategy inRunningStrategy,
+                        Object inData)
+            {
+                inRunningStrategy.onTrade((TradeEvent)inData);
+            }
+        });
+        callbacks.setDefaultHandler(ON_OTHER);
+    }
     /**
      * all strategies that are in RUNNING state 
      */
@@ -452,4 +721,20 @@ class StrategyImpl
      * description of this object initialized when needed
      */
     private String description;
+    /**
+     * the number of data items that may wait for the strategy, 0 to deliver data on the thread that provides it
+     */
+    private final int mailboxCapacity;
+    /**
+     * indicates if waiting market data may be merged with newer market data
+     */
+    private final boolean conflating;
+    /**
+     * the mailbox of the strategy or <code>null</code> if data is delivered on the thread that provides it
+     */
+    private volatile StrategyMailbox mailbox;
+    /**
+     * statistics by strategy callback
+     */
+    private final ConcurrentMap<String,HandlerStatistics> handlerStatistics = new ConcurrentHashMap<String,HandlerStatistics>();
 }
@@ -1,5 +1,7 @@
 package org.marketcetera.strategy;
 
+import java.util.Map;
+
 import javax.management.MXBean;
 
 import org.marketcetera.core.ClassVersion;
@@ -112,4 +114,84 @@ public interface StrategyMXBean
      */
     @DisplayName("Strategy language")
     public Language getLanguage();
+    /**
+     * Sets the number of data items that may wait to be delivered to the strategy.
+     *
+     * <p>If the value is greater than zero, data is delivered to the strategy on a thread dedicated to the strategy
+     * and a thread that provides data to a strategy that is that far behind waits for the strategy to catch up.
+     * If the value is zero, data is delivered to the strategy on the thread that provides it.
+     *
+     * @param inCapacity an <code>int</code> value
+     * @throws IllegalArgumentException if the value is negative
+     */
+    @DisplayName("The number of data items that may wait to be delivered to the strategy, 0 to deliver data on the thread that provides it")
+    public void setMailboxCapacity(@DisplayName("The number of data items that may wait to be delivered to the strategy")
+                                   int inCapacity);
+    /**
+     * Gets the number of data items that may wait to be delivered to the strategy.
+     *
+     * @return an <code>int</code> value
+     */
+    @DisplayName("The number of data items that may wait to be delivered to the strategy, 0 to deliver data on the thread that provides it")
+    public int getMailboxCapacity();
+    /**
+     * Sets whether market data waiting to be delivered to the strategy is merged with newer market data. A top-of-book
+     * event is replaced by a newer top-of-book event for the same instrument. A bid or ask event is merged with newer
+     * events for the same book entry, so that the strategy ends up with the same book.
+     * 
+     * <p>This value has no effect unless the mailbox capacity is greater than zero.
+     *
+     * @param inConflating a <code>boolean</code> value
+     */
+    @DisplayName("Indicates if waiting market data is merged with newer market data")
+    public void setConflating(@DisplayName("Indicates if waiting market data is merged with newer market data")
+                              boolean inConflating);
+    /**
+     * Indicates if market data waiting to be delivered to the strategy is merged with newer market data.
+     *
+     * @return a <code>boolean</code> value
+     */
+    @DisplayName("Indicates if waiting market data is merged with newer market data")
+    public boolean isConflating();
+    /**
+     * Gets the number of data items waiting to be delivered to the strategy.
+     *
+     * @return an <code>int</code> value
+     */
+    @DisplayName("The number of data items waiting to be delivered to the strategy")
+    public int getMailboxDepth();
+    /**
+     * Gets the number of events that were merged with or cancelled by newer events before they could be delivered to the strategy.
+     *
+     * @return a <code>long</code> value
+     */
+    @DisplayName("The number of events merged with or cancelled by newer events before they could be delivered to the strategy")
+    public long getConflatedEventCount();
+    /**
+     * Gets the number of times each strategy callback has been invoked.
+     *
+     * <p>Callback statistics are kept only while the mailbox capacity is greater than zero.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value keyed by callback name
+     */
+    @DisplayName("The number of times each strategy callback has been invoked")
+    public Map<String,Long> getHandlerCounts();
+    /**
+     * Gets the mean time in nanoseconds spent in each strategy callback.
+     *
+     * <p>Callback statistics are kept only while the mailbox capacity is greater than zero.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value keyed by callback name
+     */
+    @DisplayName("The mean time in nanoseconds spent in each strategy callback")
+    public Map<String,Long> getHandlerMeanLatencies();
+    /**
+     * Gets the longest time in nanoseconds spent in each strategy callback.
+     *
+     * <p>Callback statistics are kept only while the mailbox capacity is greater than zero.
+     *
+     * @return a <code>Map&lt;String,Long&gt;</code> value keyed by callback name
+     */
+    @DisplayName("The longest time in nanoseconds spent in each strategy callback")
+    public Map<String,Long> getHandlerMaxLatencies();
 }
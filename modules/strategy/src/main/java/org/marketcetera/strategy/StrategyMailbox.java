@@ -0,0 +1,465 @@
+package org.marketcetera.strategy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Queues data for a strategy and delivers it on a thread dedicated to that strategy.
+ *
+ * <p>The mailbox holds at most a fixed number of items. A thread that delivers data to a full mailbox
+ * waits until the strategy has caught up, so no data is lost. Data delivered by the dispatch thread itself,
+ * for example data a strategy sends to itself, is passed to the strategy immediately.
+ *
+ * <p>If conflation is on, an event that updates something a waiting event already updates is merged into
+ * the waiting event, which keeps its place in the mailbox. A top-of-book event replaces a waiting top-of-book
+ * event for the same instrument. A bid or ask event is merged with a waiting event for the same book entry,
+ * that is the same instrument, side, and message id, the way an order book would apply both: a change
+ * to a waiting add is delivered as an add with the new values, a change or delete replaces a waiting change,
+ * and a delete of a waiting add cancels both. An event that follows a waiting delete is queued as usual.
+ * A strategy that maintains a book therefore ends up with the same book, having seen fewer events.
+ * Conflation only happens while the strategy is behind.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+class StrategyMailbox
+{
+    /**
+     * Delivers data taken from a mailbox.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    interface Dispatcher
+    {
+        /**
+         * Delivers the given data to the strategy.
+         *
+         * @param inData an <code>Object</code> value
+         */
+        void dispatch(Object inData);
+    }
+    /**
+     * Create a new StrategyMailbox instance.
+     *
+     * @param inName a <code>String</code> value used to name the dispatch thread
+     * @param inCapacity an <code>int</code> value
+     * @param inConflating a <code>boolean</code> value
+     * @param inDispatcher a <code>Dispatcher</code> value
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    StrategyMailbox(String inName,
+                    int inCapacity,
+                    boolean inConflating,
+                    Dispatcher inDispatcher)
+    {
+        if(inCapacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        capacity = inCapacity;
+        conflating = inConflating;
+        dispatcher = inDispatcher;
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                dispatchLoop();
+            }
+        },
+                            inName);
+        thread.setDaemon(true);
+    }
+    /**
+     * Starts the dispatch thread.
+     */
+    void start()
+    {
+        thread.start();
+    }
+    /**
+     * Stops the dispatch thread after the current item, if any, has been delivered.
+     *
+     * <p>Waiting data is discarded.
+     */
+    void stop()
+    {
+        lock.lock();
+        try {
+            running = false;
+            mailbox.clear();
+            pendingByKey.clear();
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Adds the given data to the mailbox, waiting for room if necessary.
+     *
+     * @param inData an <code>Object</code> value
+     * @throws InterruptedException if the calling thread is interrupted while waiting for room
+     */
+    void put(Object inData)
+            throws InterruptedException
+    {
+        if(Thread.currentThread() == thread) {
+            dispatcher.dispatch(inData);
+            return;
+        }
+        ConflationKey key = conflating ? ConflationKey.of(inData) : null;
+        lock.lockInterruptibly();
+        try {
+            if(key != null) {
+                Entry pending = pendingByKey.get(key);
+                if(pending != null && conflate(pending,
+                                               inData)) {
+                    // the waiting entry now holds the newer data, so there is no need to wait for room
+                    return;
+                }
+            }
+            while(running && mailbox.size() >= capacity) {
+                notFull.await();
+            }
+            if(!running) {
+                SLF4JLoggerProxy.debug(StrategyMailbox.class,
+                                       "{} discarding {} because the mailbox is stopped", //$NON-NLS-1$
+                                       thread.getName(),
+                                       inData);
+                return;
+            }
+            enqueue(inData,
+                    key);
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Merges the given data into the given waiting entry, if possible.
+     *
+     * <p>The caller must hold {@link #lock}.
+     *
+     * @param inPending an <code>Entry</code> value waiting in the mailbox with the same key as the data
+     * @param inData an <code>Object</code> value
+     * @return a <code>boolean</code> value indicating if the data was merged into the entry
+     */
+    @GuardedBy("lock")
+    private boolean conflate(Entry inPending,
+                             Object inData)
+    {
+        if(inData instanceof TopOfBookEvent) {
+            inPending.data = inData;
+            conflatedCount += 1;
+            return true;
+        }
+        QuoteAction pendingAction = ((QuoteEvent)inPending.data).getAction();
+        QuoteEvent quote = (QuoteEvent)inData;
+        if(pendingAction == QuoteAction.DELETE) {
+            // the entry is gone from the book before the newer event applies, so both are needed
+            return false;
+        }
+        if(pendingAction == QuoteAction.ADD) {
+            switch(quote.getAction()) {
+                case DELETE:
+                    // the entry never reaches the strategy
+                    inPending.data = null;
+                    pendingByKey.remove(inPending.key);
+                    conflatedCount += 2;
+                    return true;
+                case CHANGE:
+                    inPending.data = QuoteEventBuilder.add(quote);
+                    conflatedCount += 1;
+                    return true;
+                default:
+                    break;
+            }
+        }
+        inPending.data = quote;
+        conflatedCount += 1;
+        return true;
+    }
+    /**
+     * Adds the given data to the end of the mailbox.
+     *
+     * <p>The caller must hold {@link #lock}.
+     *
+     * @param inData an <code>Object</code> value
+     * @param inKey a <code>ConflationKey</code> value or <code>null</code> if the data may not be conflated
+     */
+    @GuardedBy("lock")
+    private void enqueue(Object inData,
+                         ConflationKey inKey)
+    {
+        Entry entry = new Entry(inData,
+                                inKey);
+        mailbox.addLast(entry);
+        if(inKey != null) {
+            pendingByKey.put(inKey,
+                             entry);
+        }
+        notEmpty.signal();
+    }
+    /**
+     * Gets the number of items waiting to be delivered.
+     *
+     * <p>Items cancelled by later events are counted until the dispatch thread reaches them.
+     *
+     * @return an <code>int</code> value
+     */
+    int getDepth()
+    {
+        lock.lock();
+        try {
+            return mailbox.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Gets the number of events that were replaced by newer events before they could be delivered.
+     *
+     * @return a <code>long</code> value
+     */
+    long getConflatedCount()
+    {
+        lock.lock();
+        try {
+            return conflatedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Takes items from the mailbox and delivers them until the mailbox is stopped.
+     */
+    private void dispatchLoop()
+    {
+        while(true) {
+            Object data;
+            lock.lock();
+            try {
+                while(running && mailbox.isEmpty()) {
+                    notEmpty.await();
+                }
+                if(!running) {
+                    return;
+                }
+                Entry entry = mailbox.removeFirst();
+                if(entry.key != null && pendingByKey.get(entry.key) == entry) {
+                    pendingByKey.remove(entry.key);
+                }
+                data = entry.data;
+                notFull.signal();
+                if(data == null) {
+                    // the data was cancelled by a later event
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                SLF4JLoggerProxy.debug(StrategyMailbox.class,
+                                       "{} interrupted", //$NON-NLS-1$
+                                       thread.getName());
+                return;
+            } finally {
+                lock.unlock();
+            }
+            dispatcher.dispatch(data);
+        }
+    }
+    /**
+     * An item in the mailbox.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class Entry
+    {
+        /**
+         * Create a new Entry instance.
+         *
+         * @param inData an <code>Object</code> value
+         * @param inKey a <code>ConflationKey</code> value or <code>null</code>
+         */
+        private Entry(Object inData,
+                      ConflationKey inKey)
+        {
+            data = inData;
+            key = inKey;
+        }
+        /**
+         * the data to deliver or <code>null</code> if the data was cancelled by a later event, guarded by the lock of the mailbox
+         */
+        private Object data;
+        /**
+         * the conflation key of the data or <code>null</code> if the data may not be conflated
+         */
+        private final ConflationKey key;
+    }
+    /**
+     * Identifies events that may replace each other.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class ConflationKey
+    {
+        /**
+         * Gets the conflation key for the given data.
+         *
+         * <p>Top-of-book events are keyed by instrument. Bid and ask events are keyed by the book entry they
+         * update, which order books identify by instrument, side, and message id.
+         *
+         * @param inData an <code>Object</code> value
+         * @return a <code>ConflationKey</code> value or <code>null</code> if the data may not be conflated
+         */
+        private static ConflationKey of(Object inData)
+        {
+            if(inData instanceof TopOfBookEvent) {
+                return new ConflationKey(TopOfBookEvent.class,
+                                         ((TopOfBookEvent)inData).getInstrument(),
+                                         0);
+            }
+            if(inData instanceof QuoteEvent) {
+                QuoteEvent quote = (QuoteEvent)inData;
+                if(quote.isEmpty() || quote.getAction() == null) {
+                    return null;
+                }
+                if(quote instanceof BidEvent) {
+                    return new ConflationKey(BidEvent.class,
+                                             quote.getInstrument(),
+                                             quote.getMessageId());
+                }
+                if(quote instanceof AskEvent) {
+                    return new ConflationKey(AskEvent.class,
+                                             quote.getInstrument(),
+                                             quote.getMessageId());
+                }
+            }
+            return null;
+        }
+        /**
+         * Create a new ConflationKey instance.
+         *
+         * @param inType a <code>Class&lt;?&gt;</code> value
+         * @param inInstrument an <code>Instrument</code> value
+         * @param inMessageId a <code>long</code> value
+         */
+        private ConflationKey(Class<?> inType,
+                              Instrument inInstrument,
+                              long inMessageId)
+        {
+            type = inType;
+            instrument = inInstrument;
+            messageId = inMessageId;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode()
+        {
+            return new HashCodeBuilder().append(type).append(instrument).append(messageId).toHashCode();
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj)
+        {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof ConflationKey)) {
+                return false;
+            }
+            ConflationKey other = (ConflationKey)obj;
+            return new EqualsBuilder().append(type,other.type).append(instrument,other.instrument).append(messageId,other.messageId).isEquals();
+        }
+        /**
+         * the type of event
+         */
+        private final Class<?> type;
+        /**
+         * the instrument of the event
+         */
+        private final Instrument instrument;
+        /**
+         * the message id of the book entry, 0 for top-of-book events
+         */
+        private final long messageId;
+    }
+    /**
+     * the maximum number of items waiting to be delivered
+     */
+    private final int capacity;
+    /**
+     * indicates if events may replace waiting events
+     */
+    private final boolean conflating;
+    /**
+     * delivers data to the strategy
+     */
+    private final Dispatcher dispatcher;
+    /**
+     * the dispatch thread
+     */
+    private final Thread thread;
+    /**
+     * guards the mailbox
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * signalled when an item is added
+     */
+    private final Condition notEmpty = lock.newCondition();
+    /**
+     * signalled when an item is removed
+     */
+    private final Condition notFull = lock.newCondition();
+    /**
+     * items waiting to be delivered
+     */
+    @GuardedBy("lock")
+    private final Deque<Entry> mailbox = new ArrayDeque<Entry>();
+    /**
+     * the latest waiting item for each key that later data may be merged into
+     */
+    @GuardedBy("lock")
+    private final Map<ConflationKey,Entry> pendingByKey = new HashMap<ConflationKey,Entry>();
+    /**
+     * number of events merged into other events or cancelled
+     */
+    @GuardedBy("lock")
+    private long conflatedCount;
+    /**
+     * indicates if the mailbox accepts and delivers data
+     */
+    @GuardedBy("lock")
+    private boolean running = true;
+}
@@ -31,6 +31,7 @@ import org.marketcetera.event.LogEventLevel;
 import org.marketcetera.event.impl.LogEventBuilder;
 import org.marketcetera.marketdata.MarketDataRequest;
 import org.marketcetera.marketdata.core.manager.MarketDataManager;
+import org.marketcetera.metrics.CheckpointLatency;
 import org.marketcetera.metrics.ThreadedMetric;
 import org.marketcetera.module.*;
 import org.marketcetera.trade.*;
@@ -72,7 +73,7 @@ import com.google.common.collect.Sets;
 @ClassVersion("$Id$")
 final class StrategyModule
         extends Module
-        implements DataEmitter, DataFlowRequester, DataReceiver, ServicesProvider, StrategyMXBean, NotificationEmitter
+        implements DataEmitter, DataFlowRequester, BatchDataReceiver, ServicesProvider, StrategyMXBean, NotificationEmitter
 {
     /* (non-Javadoc)
      * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.RequestID)
@@ -144,6 +145,7 @@ final class StrategyModule
             throws UnsupportedDataTypeException, StopDataFlowException
     {
         ThreadedMetric.event("strategy-IN");  //$NON-NLS-1$
+        CheckpointLatency.checkpoint(IN_STAGE);
         assertStateForReceiveData();
         SLF4JLoggerProxy.trace(StrategyModule.class,
                                "{} received {}", //$NON-NLS-1$
@@ -156,6 +158,33 @@ final class StrategyModule
         }
         strategy.dataReceived(inData);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.BatchDataReceiver#receiveBatch(org.marketcetera.module.DataFlowID, java.util.List)
+     */
+    @Override
+    public void receiveBatch(DataFlowID inFlowID,
+                             List<Object> inBatch)
+            throws UnsupportedDataTypeException, StopDataFlowException
+    {
+        ThreadedMetric.event("strategy-IN");  //$NON-NLS-1$
+        CheckpointLatency.checkpoint(IN_STAGE);
+        assertStateForReceiveData();
+        boolean traceEnabled = SLF4JLoggerProxy.isTraceEnabled(StrategyModule.class);
+        for(Object data : inBatch) {
+            if(traceEnabled) {
+                SLF4JLoggerProxy.trace(StrategyModule.class,
+                                       "{} received {}", //$NON-NLS-1$
+                                       strategy,
+                                       data);
+            }
+            if(data instanceof Event) {
+                Event event = (Event)data;
+                setEventSource(event,
+                               inFlowID);
+            }
+            strategy.dataReceived(data);
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.strategy.OutboundServicesProvider#cancelOrder(org.marketcetera.trade.OrderCancel)
      */
@@ -696,6 +725,86 @@ final class StrategyModule
     {
         return strategy.getStatus().toString();
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#setMailboxCapacity(int)
+     */
+    @Override
+    public void setMailboxCapacity(int inCapacity)
+    {
+        if(inCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        mailboxCapacity = inCapacity;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getMailboxCapacity()
+     */
+    @Override
+    public int getMailboxCapacity()
+    {
+        return mailboxCapacity;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#setConflating(boolean)
+     */
+    @Override
+    public void setConflating(boolean inConflating)
+    {
+        conflating = inConflating;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#isConflating()
+     */
+    @Override
+    public boolean isConflating()
+    {
+        return conflating;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getMailboxDepth()
+     */
+    @Override
+    public int getMailboxDepth()
+    {
+        StrategyImpl currentStrategy = strategy;
+        return currentStrategy == null ? 0 : currentStrategy.getMailboxDepth();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getConflatedEventCount()
+     */
+    @Override
+    public long getConflatedEventCount()
+    {
+        StrategyImpl currentStrategy = strategy;
+        return currentStrategy == null ? 0 : currentStrategy.getConflatedEventCount();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getHandlerCounts()
+     */
+    @Override
+    public Map<String,Long> getHandlerCounts()
+    {
+        StrategyImpl currentStrategy = strategy;
+        return currentStrategy == null ? Collections.<String,Long>emptyMap() : currentStrategy.getHandlerCounts();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getHandlerMeanLatencies()
+     */
+    @Override
+    public Map<String,Long> getHandlerMeanLatencies()
+    {
+        StrategyImpl currentStrategy = strategy;
+        return currentStrategy == null ? Collections.<String,Long>emptyMap() : currentStrategy.getHandlerMeanLatencies();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.StrategyMXBean#getHandlerMaxLatencies()
+     */
+    @Override
+    public Map<String,Long> getHandlerMaxLatencies()
+    {
+        StrategyImpl currentStrategy = strategy;
+        return currentStrategy == null ? Collections.<String,Long>emptyMap() : currentStrategy.getHandlerMaxLatencies();
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.strategy.OutboundServicesProvider#statusChanged(org.marketcetera.strategy.Status, org.marketcetera.strategy.Status)
      */
@@ -1090,7 +1199,9 @@ final class StrategyModule
                                         source,
                                         parameters,
                                         getURN().instanceName(),
-                                        this);
+                                        this,
+                                        mailboxCapacity,
+                                        conflating);
             strategy.start();
         } catch (Exception e) {
             throw new ModuleException(e,
@@ -1307,6 +1418,7 @@ final class StrategyModule
            inObject instanceof OrderCancel ||
            inObject instanceof OrderReplace) {
             ThreadedMetric.event("strategy-OUT");  //$NON-NLS-1$
+            CheckpointLatency.checkpoint(OUT_STAGE);
             ordersPublisher.publish(inObject);
         } else if(inObject instanceof Suggestion) {
             suggestionsPublisher.publish(inObject);
@@ -1750,6 +1862,15 @@ final class StrategyModule
      * indicates if orders should be routed to the ORS client or not
      */
     private boolean routeOrdersToORS;
+    /**
+     * the number of data items that may wait to be delivered to the strategy, 0 to deliver data on the thread that provides it
+     */
+    private volatile int mailboxCapacity = Integer.getInteger(MAILBOX_CAPACITY_KEY,
+                                                              0);
+    /**
+     * indicates if waiting top-of-book events are replaced by newer events
+     */
+    private volatile boolean conflating = Boolean.getBoolean(CONFLATING_KEY);
     /**
      * the parameters to present to the strategy, may be empty or null.  may be null or empty.
      */
@@ -1810,10 +1931,26 @@ final class StrategyModule
             return ClientManager.getInstance();
         }
     };
+    /**
+     * system property containing the default mailbox capacity of strategies
+     */
+    static final String MAILBOX_CAPACITY_KEY = "org.marketcetera.strategy.mailboxCapacity"; //$NON-NLS-1$
+    /**
+     * system property indicating if strategies conflate market data by default
+     */
+    static final String CONFLATING_KEY = "org.marketcetera.strategy.conflating"; //$NON-NLS-1$
     /**
      * counter used to guarantee unique identifiers
      */
     private static final AtomicInteger counter = new AtomicInteger();
+    /**
+     * records the latency of delivering data to the strategy
+     */
+    private static final CheckpointLatency.Stage IN_STAGE = CheckpointLatency.stage("strategy-IN"); //$NON-NLS-1$
+    /**
+     * records the latency of the strategy from receiving data to sending an order
+     */
+    private static final CheckpointLatency.Stage OUT_STAGE = CheckpointLatency.stage("strategy-OUT"); //$NON-NLS-1$
     /**
      * the collection of data flows created to send data to a specific URN
      */
@@ -0,0 +1,452 @@
+package org.marketcetera.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.event.impl.TopOfBookEventBuilder;
+import org.marketcetera.marketdata.IndexedOrderBook;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+
+/* $License$ */
+
+/**
+ * Tests {@link StrategyMailbox}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class StrategyMailboxTest
+{
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        release.countDown();
+        if(mailbox != null) {
+            mailbox.stop();
+        }
+    }
+    /**
+     * Tests that data is delivered in order on the dispatch thread.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testDelivery()
+            throws Exception
+    {
+        release.countDown();
+        mailbox = new StrategyMailbox("test", //$NON-NLS-1$
+                                      2,
+                                      false,
+                                      dispatcher);
+        mailbox.start();
+        for(int i=0;i<10;i++) {
+            mailbox.put(i);
+        }
+        waitForDelivery(10);
+        synchronized(delivered) {
+            for(int i=0;i<10;i++) {
+                assertEquals(i,
+                             delivered.get(i));
+            }
+        }
+        assertEquals(Collections.singletonList("test"), //$NON-NLS-1$
+                     new ArrayList<String>(threadNames));
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new StrategyMailbox("test", //$NON-NLS-1$
+                                    0,
+                                    false,
+                                    dispatcher);
+            }
+        };
+    }
+    /**
+     * Tests that waiting top-of-book events are conflated while the strategy is behind.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConflation()
+            throws Exception
+    {
+        mailbox = new StrategyMailbox("test", //$NON-NLS-1$
+                                      10,
+                                      true,
+                                      dispatcher);
+        mailbox.start();
+        // the first item blocks the dispatch thread until released
+        mailbox.put("first"); //$NON-NLS-1$
+        assertTrue(dispatching.await(10,
+                                     TimeUnit.SECONDS));
+        TopOfBookEvent top1 = top(metc,
+                                  "1"); //$NON-NLS-1$
+        TopOfBookEvent top2 = top(metc,
+                                  "2"); //$NON-NLS-1$
+        TopOfBookEvent otherTop = top(goog,
+                                      "3"); //$NON-NLS-1$
+        TopOfBookEvent top3 = top(metc,
+                                  "4"); //$NON-NLS-1$
+        mailbox.put(top1);
+        mailbox.put("second"); //$NON-NLS-1$
+        mailbox.put(top2);
+        mailbox.put(otherTop);
+        mailbox.put(top3);
+        assertEquals(3,
+                     mailbox.getDepth());
+        assertEquals(2,
+                     mailbox.getConflatedCount());
+        release.countDown();
+        waitForDelivery(4);
+        synchronized(delivered) {
+            // the latest top-of-book takes the place of the first one
+            assertEquals(Arrays.<Object>asList("first", //$NON-NLS-1$
+                                               top3,
+                                               "second", //$NON-NLS-1$
+                                               otherTop),
+                         delivered);
+        }
+    }
+    /**
+     * Tests that bid and ask events for the same book entry are merged while the strategy is behind.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testQuoteConflation()
+            throws Exception
+    {
+        mailbox = new StrategyMailbox("test", //$NON-NLS-1$
+                                      10,
+                                      true,
+                                      dispatcher);
+        mailbox.start();
+        mailbox.put("first"); //$NON-NLS-1$
+        assertTrue(dispatching.await(10,
+                                     TimeUnit.SECONDS));
+        BidEvent bid1 = bid(metc,
+                            "1.00", //$NON-NLS-1$
+                            1);
+        BidEvent bid2 = bid(metc,
+                            "0.99", //$NON-NLS-1$
+                            2);
+        BidEvent bid3 = bid(metc,
+                            "0.98", //$NON-NLS-1$
+                            3);
+        // a different entry at the same price as bid1
+        BidEvent otherBid = bid(metc,
+                                "1.00", //$NON-NLS-1$
+                                1);
+        AskEvent ask = QuoteEventBuilder.equityAskEvent().withInstrument(metc)
+                                                         .withExchange("Q") //$NON-NLS-1$
+                                                         .withPrice(BigDecimal.ONE)
+                                                         .withSize(BigDecimal.TEN)
+                                                         .withQuoteDate(new Date()).create();
+        BidEvent deleteBid3 = QuoteEventBuilder.delete(bid3);
+        QuoteEvent addBid3 = QuoteEventBuilder.add(bid3);
+        // a change to a waiting add is delivered as an add with the new size
+        mailbox.put(bid1);
+        mailbox.put("second"); //$NON-NLS-1$
+        mailbox.put(QuoteEventBuilder.change(bid1,
+                                             new Date(),
+                                             new BigDecimal("20"))); //$NON-NLS-1$
+        // a delete of a waiting add cancels both
+        mailbox.put(bid2);
+        mailbox.put(QuoteEventBuilder.delete(bid2));
+        // a delete replaces a waiting change, and an add after a waiting delete is queued
+        mailbox.put(QuoteEventBuilder.change(bid3,
+                                             new Date(),
+                                             new BigDecimal("30"))); //$NON-NLS-1$
+        mailbox.put(deleteBid3);
+        mailbox.put(addBid3);
+        // other entries are not merged
+        mailbox.put(otherBid);
+        mailbox.put(ask);
+        assertEquals(7,
+                     mailbox.getDepth());
+        assertEquals(4,
+                     mailbox.getConflatedCount());
+        release.countDown();
+        waitForDelivery(7);
+        synchronized(delivered) {
+            assertEquals(7,
+                         delivered.size());
+            QuoteEvent mergedBid = (QuoteEvent)delivered.get(1);
+            assertEquals(QuoteAction.ADD,
+                         mergedBid.getAction());
+            assertEquals(bid1.getMessageId(),
+                         mergedBid.getMessageId());
+            assertEquals(new BigDecimal("20"), //$NON-NLS-1$
+                         mergedBid.getSize());
+            assertEquals(Arrays.<Object>asList("second", //$NON-NLS-1$
+                                               deleteBid3,
+                                               addBid3,
+                                               otherBid,
+                                               ask),
+                         delivered.subList(2,
+                                           delivered.size()));
+        }
+    }
+    /**
+     * Tests that a strategy that builds a book from conflated bid and ask events ends up with the same book.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConflatedBook()
+            throws Exception
+    {
+        mailbox = new StrategyMailbox("test", //$NON-NLS-1$
+                                      1000,
+                                      true,
+                                      dispatcher);
+        mailbox.start();
+        mailbox.put("first"); //$NON-NLS-1$
+        assertTrue(dispatching.await(10,
+                                     TimeUnit.SECONDS));
+        // adds, changes, and deletes of book entries, as a market data provider delivers them. each event has its own
+        //  timestamp, so the time priority of the entries on a price level does not depend on the order of processing
+        Random random = new Random(20170521L);
+        List<QuoteEvent> liveQuotes = new ArrayList<QuoteEvent>();
+        IndexedOrderBook expectedBook = new IndexedOrderBook(metc);
+        for(int i=0;i<500;i++) {
+            int action = random.nextInt(10);
+            QuoteEvent quote;
+            if(liveQuotes.isEmpty() || action < 4) {
+                QuoteEventBuilder<? extends QuoteEvent> builder = random.nextBoolean() ? QuoteEventBuilder.equityAskEvent() : QuoteEventBuilder.equityBidEvent();
+                quote = builder.withInstrument(metc)
+                               .withExchange("Q") //$NON-NLS-1$
+                               .withPrice(new BigDecimal(random.nextInt(20)).movePointLeft(2).add(BigDecimal.ONE))
+                               .withSize(BigDecimal.TEN)
+                               .withTimestamp(new Date(i+1))
+                               .withQuoteDate(new Date()).create();
+                liveQuotes.add(quote);
+            } else {
+                int index = random.nextInt(liveQuotes.size());
+                QuoteEvent liveQuote = liveQuotes.get(index);
+                if(action < 8) {
+                    quote = QuoteEventBuilder.change(liveQuote,
+                                                     new Date(i+1),
+                                                     new BigDecimal(random.nextInt(100) + 1));
+                    liveQuotes.set(index,
+                                   quote);
+                } else {
+                    quote = QuoteEventBuilder.delete(liveQuote);
+                    liveQuotes.remove(index);
+                }
+            }
+            expectedBook.process(quote);
+            mailbox.put(quote);
+        }
+        mailbox.put("last"); //$NON-NLS-1$
+        assertTrue(mailbox.getConflatedCount() > 0);
+        int depth = mailbox.getDepth();
+        assertTrue(depth < 501);
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 10000;
+        while(System.currentTimeMillis() < deadline) {
+            synchronized(delivered) {
+                if(delivered.get(delivered.size() - 1).equals("last")) { //$NON-NLS-1$
+                    break;
+                }
+            }
+            Thread.sleep(10);
+        }
+        IndexedOrderBook actualBook = new IndexedOrderBook(metc);
+        synchronized(delivered) {
+            assertEquals("last", //$NON-NLS-1$
+                         delivered.get(delivered.size() - 1));
+            assertTrue(delivered.size() <= depth + 1);
+            for(Object data : delivered.subList(1,
+                                                delivered.size() - 1)) {
+                actualBook.process((QuoteEvent)data);
+            }
+        }
+        assertFalse(expectedBook.getBidBook().isEmpty());
+        assertEquals(describe(expectedBook.getBidBook()),
+                     describe(actualBook.getBidBook()));
+        assertEquals(describe(expectedBook.getAskBook()),
+                     describe(actualBook.getAskBook()));
+    }
+    /**
+     * Describes the entries of the given side of a book.
+     *
+     * @param inBook a <code>List&lt;? extends QuoteEvent&gt;</code> value
+     * @return a <code>List&lt;String&gt;</code> value containing the message id, price, and size of each entry
+     */
+    private static List<String> describe(List<? extends QuoteEvent> inBook)
+    {
+        List<String> entries = new ArrayList<String>();
+        for(QuoteEvent quote : inBook) {
+            entries.add(quote.getMessageId() + " " + quote.getPrice().toPlainString() + " " + quote.getSize().toPlainString()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return entries;
+    }
+    /**
+     * Tests that a stopped mailbox discards data.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStop()
+            throws Exception
+    {
+        mailbox = new StrategyMailbox("test", //$NON-NLS-1$
+                                      10,
+                                      false,
+                                      dispatcher);
+        mailbox.start();
+        mailbox.put("first"); //$NON-NLS-1$
+        assertTrue(dispatching.await(10,
+                                     TimeUnit.SECONDS));
+        mailbox.put("second"); //$NON-NLS-1$
+        mailbox.stop();
+        assertEquals(0,
+                     mailbox.getDepth());
+        mailbox.put("third"); //$NON-NLS-1$
+        assertEquals(0,
+                     mailbox.getDepth());
+        release.countDown();
+        Thread.sleep(100);
+        synchronized(delivered) {
+            assertEquals(Collections.<Object>singletonList("first"), //$NON-NLS-1$
+                         delivered);
+        }
+    }
+    /**
+     * Creates a bid for the given instrument, price, and level.
+     *
+     * @param inInstrument an <code>Equity</code> value
+     * @param inPrice a <code>String</code> value
+     * @param inLevel an <code>int</code> value
+     * @return a <code>BidEvent</code> value
+     */
+    private static BidEvent bid(Equity inInstrument,
+                                String inPrice,
+                                int inLevel)
+    {
+        return QuoteEventBuilder.equityBidEvent().withInstrument(inInstrument)
+                                                 .withExchange("Q") //$NON-NLS-1$
+                                                 .withPrice(new BigDecimal(inPrice))
+                                                 .withSize(BigDecimal.TEN)
+                                                 .withLevel(inLevel)
+                                                 .withQuoteDate(new Date()).create();
+    }
+    /**
+     * Creates a top-of-book event for the given instrument with a bid at the given price.
+     *
+     * @param inInstrument an <code>Equity</code> value
+     * @param inPrice a <code>String</code> value
+     * @return a <code>TopOfBookEvent</code> value
+     */
+    private static TopOfBookEvent top(Equity inInstrument,
+                                      String inPrice)
+    {
+        return TopOfBookEventBuilder.topOfBookEvent().withInstrument(inInstrument)
+                                                     .withBid(bid(inInstrument,
+                                                                  inPrice,
+                                                                  1)).create();
+    }
+    /**
+     * Waits until the given number of items have been delivered.
+     *
+     * @param inCount an <code>int</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void waitForDelivery(int inCount)
+            throws Exception
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+        while(System.currentTimeMillis() < deadline) {
+            synchronized(delivered) {
+                if(delivered.size() >= inCount) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        synchronized(delivered) {
+            assertEquals(inCount,
+                         delivered.size());
+        }
+    }
+    /**
+     * released to let the dispatch thread proceed
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+    /**
+     * counted down when the dispatch thread delivers its first item
+     */
+    private final CountDownLatch dispatching = new CountDownLatch(1);
+    /**
+     * data delivered by the mailbox
+     */
+    private final List<Object> delivered = new ArrayList<Object>();
+    /**
+     * names of the threads that delivered data
+     */
+    private final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+    /**
+     * records delivered data, blocking until released
+     */
+    private final StrategyMailbox.Dispatcher dispatcher = new StrategyMailbox.Dispatcher() {
+        @Override
+        public void dispatch(Object inData)
+        {
+            threadNames.add(Thread.currentThread().getName());
+            synchronized(delivered) {
+                delivered.add(inData);
+            }
+            dispatching.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+    /**
+     * test instrument
+     */
+    private final Equity metc = new Equity("METC"); //$NON-NLS-1$
+    /**
+     * test instrument
+     */
+    private final Equity goog = new Equity("GOOG"); //$NON-NLS-1$
+    /**
+     * mailbox under test
+     */
+    private StrategyMailbox mailbox;
+}
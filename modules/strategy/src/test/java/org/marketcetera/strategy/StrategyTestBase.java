@@ -112,6 +112,7 @@ import org.marketcetera.trade.Hierarchy;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.trade.Option;
 import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.Order;
 import org.marketcetera.trade.OrderCancel;
 import org.marketcetera.trade.OrderCancelReject;
 import org.marketcetera.trade.OrderID;
@@ -127,6 +128,7 @@ import org.marketcetera.util.ws.tags.SessionId;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import quickfix.Message;
 import quickfix.field.OrdStatus;
@@ -1069,6 +1071,42 @@ public class StrategyTestBase
         {
             throw new UnsupportedOperationException();
         }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderSingle)
+         */
+        @Override
+        public ListenableFuture<Order> sendOrderAsync(OrderSingle inArg0)
+                throws OrderValidationException
+        {
+            throw new UnsupportedOperationException();
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderReplace)
+         */
+        @Override
+        public ListenableFuture<Order> sendOrderAsync(OrderReplace inArg0)
+                throws OrderValidationException
+        {
+            throw new UnsupportedOperationException();
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.Client#sendOrderAsync(org.marketcetera.trade.OrderCancel)
+         */
+        @Override
+        public ListenableFuture<Order> sendOrderAsync(OrderCancel inArg0)
+                throws OrderValidationException
+        {
+            throw new UnsupportedOperationException();
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.Client#sendOrderRawAsync(org.marketcetera.trade.FIXOrder)
+         */
+        @Override
+        public ListenableFuture<Order> sendOrderRawAsync(FIXOrder inArg0)
+                throws OrderValidationException
+        {
+            throw new UnsupportedOperationException();
+        }
         /* (non-Javadoc)
          * @see org.marketcetera.client.Client#isCredentialsMatch(String, char[])
          */
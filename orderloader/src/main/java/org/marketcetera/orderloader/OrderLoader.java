@@ -75,6 +75,7 @@ public class OrderLoader {
         }
         mParser = new OrderParser(mRowProcessor);
         mParser.parseOrders(new FileInputStream(inFile));
+        mRowProcessor.complete();
     }
 
     /**
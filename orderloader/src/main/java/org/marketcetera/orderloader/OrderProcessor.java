@@ -3,6 +3,8 @@ package org.marketcetera.orderloader;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.trade.Order;
 
+import java.util.Map;
+
 /* $License$ */
 /**
  * Processes orders parsed by the {@link OrderParser}.
@@ -30,6 +32,17 @@ public interface OrderProcessor {
      */
     public void processOrder(Order inOrder, int inOrderIndex) throws Exception;
 
+    /**
+     * Waits for the orders accepted by {@link #processOrder(Order, int)}
+     * to be sent. A processor that sends orders asynchronously may
+     * accept an order that later fails to send; such failures are
+     * returned so that they can be reported against the order's row.
+     *
+     * @return the failures of orders that were accepted but could not
+     * be sent, by order index. Empty if every accepted order was sent.
+     */
+    Map<Integer,Exception> awaitSent();
+
     /**
      * Invoked to release resources when the system is done processing
      * orders.
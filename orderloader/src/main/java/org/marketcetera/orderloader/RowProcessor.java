@@ -8,6 +8,10 @@ import org.marketcetera.trade.BrokerID;
 import java.util.List;
 import java.util.LinkedList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 /* $License$ */
 /**
@@ -51,12 +55,43 @@ public abstract class RowProcessor {
             Order order = parseOrder(inRow);
             getProcessor().processOrder(order, inIndex);
             mNumSuccess++;
+            mAcceptedRows.put(inIndex, inRow);
         }catch(Exception e) {
             mNumFailed++;
             addFailed(inIndex, inRow, e);
         }
     }
 
+    /**
+     * Waits for the orders accepted by the {@link OrderProcessor} to be
+     * sent, and records each accepted order that could not be sent as a
+     * failure instead of a success.
+     */
+    public final void complete() {
+        Map<Integer,Exception> failures = getProcessor().awaitSent();
+        for(Map.Entry<Integer,Exception> failure: failures.entrySet()) {
+            String[] row = mAcceptedRows.get(failure.getKey());
+            if(row == null) {
+                continue;
+            }
+            mNumSuccess--;
+            mNumFailed++;
+            addFailed(failure.getKey(), row, failure.getValue());
+        }
+        mAcceptedRows.clear();
+        if(!failures.isEmpty()) {
+            // keep failures in the order the rows appear
+            Collections.sort(mFailedOrders, new Comparator<FailedOrderInfo>() {
+                @Override
+                public int compare(FailedOrderInfo inInfo1,
+                                   FailedOrderInfo inInfo2) {
+                    return Integer.compare(inInfo1.getIndex(),
+                                           inInfo2.getIndex());
+                }
+            });
+        }
+    }
+
     /**
      * Returns the total number of orders processed. The returned
      * value is the sum of {@link #getNumFailed()} & {@link #getNumSuccess()}.
@@ -178,6 +213,12 @@ public abstract class RowProcessor {
     private int mNumFailed = 0;
     private final List<FailedOrderInfo> mFailedOrders =
             new LinkedList<FailedOrderInfo>();
+    /**
+     * The rows of orders accepted by the processor, by row index, until
+     * the processor reports whether they were sent.
+     */
+    private final Map<Integer,String[]> mAcceptedRows =
+            new HashMap<Integer,String[]>();
     private final BrokerID mBrokerID;
     private final OrderProcessor mProcessor;
 }
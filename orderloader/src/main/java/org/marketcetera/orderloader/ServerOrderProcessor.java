@@ -1,6 +1,9 @@
 package org.marketcetera.orderloader;
 
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
+
 import org.marketcetera.client.ClientInitException;
 import org.marketcetera.client.ClientManager;
 import org.marketcetera.client.ClientParameters;
@@ -15,6 +18,10 @@ import org.marketcetera.trade.Originator;
 import org.marketcetera.util.log.I18NBoundMessage1P;
 import org.marketcetera.util.misc.ClassVersion;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
 /* $License$ */
 /**
  * An order processor that sends orders to the server.
@@ -36,6 +43,26 @@ public class ServerOrderProcessor implements OrderProcessor {
 
     private AtomicInteger mOrdersOutstanding;
 
+    /**
+     * Guards {@link #mSendsPending} and {@link #mSendFailures}.
+     */
+
+    private final Object mSendLock=new Object();
+
+    /**
+     * The number of orders submitted to the client that have not yet
+     * been sent or failed to send.
+     */
+
+    private int mSendsPending;
+
+    /**
+     * The failures of orders that could not be sent, by order index.
+     */
+
+    private final Map<Integer,Exception> mSendFailures=
+        new TreeMap<Integer,Exception>();
+
     /**
      * Counts ORS acknowledgements.
      */
@@ -78,16 +105,92 @@ public class ServerOrderProcessor implements OrderProcessor {
     }
 
     @Override
-    public void processOrder(Order inOrder, int inOrderIndex) throws Exception {
+    public void processOrder(Order inOrder, final int inOrderIndex) throws Exception {
+        ListenableFuture<Order> submitted;
         if(inOrder instanceof OrderSingle) {
-            ClientManager.getInstance().sendOrder((OrderSingle)inOrder);
+            submitted = ClientManager.getInstance().sendOrderAsync((OrderSingle)inOrder);
         } else if(inOrder instanceof FIXOrder) {
-            ClientManager.getInstance().sendOrderRaw((FIXOrder)inOrder);
+            submitted = ClientManager.getInstance().sendOrderRawAsync((FIXOrder)inOrder);
         } else {
             throw new OrderParsingException(new I18NBoundMessage1P(
                     Messages.UNEXPECTED_ORDER_TYPE, inOrder));
         }
         mOrdersOutstanding.getAndIncrement();
+        synchronized(mSendLock) {
+            mSendsPending++;
+        }
+        Futures.addCallback(submitted, new FutureCallback<Order>() {
+            @Override
+            public void onSuccess(Order inResult)
+            {
+                sendCompleted(inOrderIndex,null);
+            }
+            @Override
+            public void onFailure(Throwable inFailure)
+            {
+                // the server will never acknowledge this order
+                mOrdersOutstanding.getAndDecrement();
+                Messages.LOG_FAILED_SEND.error(ServerOrderProcessor.this,
+                                               inFailure,
+                                               inOrderIndex);
+                sendCompleted(inOrderIndex,
+                              inFailure instanceof Exception ?
+                                      (Exception)inFailure :
+                                      new ConnectionException(inFailure,
+                                              new I18NBoundMessage1P(
+                                                      Messages.LOG_FAILED_SEND,
+                                                      inOrderIndex)));
+            }
+        });
+    }
+
+    /**
+     * Waits until every submitted order has been sent or has failed to
+     * send, or until {@link #MAXIMUM_DELIVERY_WAIT} passes without any
+     * order completing.
+     */
+    @Override
+    public Map<Integer,Exception> awaitSent() {
+        synchronized(mSendLock) {
+            long end=System.currentTimeMillis()+MAXIMUM_DELIVERY_WAIT;
+            int lastSendsPending=mSendsPending;
+            while (mSendsPending!=0) {
+                long now=System.currentTimeMillis();
+                if (mSendsPending<lastSendsPending) {
+                    // Extend the timeout if at least one order has
+                    // completed.
+                    end=now+MAXIMUM_DELIVERY_WAIT;
+                    lastSendsPending=mSendsPending;
+                } else if (now>=end) {
+                    break;
+                }
+                try {
+                    mSendLock.wait(end-now);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return new TreeMap<Integer,Exception>(mSendFailures);
+        }
+    }
+
+    /**
+     * Records that the submitted order with the given index has been
+     * sent or has failed to send.
+     *
+     * @param inOrderIndex the index of the order.
+     * @param inFailure the failure, or null if the order was sent.
+     */
+    private void sendCompleted(int inOrderIndex,
+                               Exception inFailure) {
+        synchronized(mSendLock) {
+            if (inFailure!=null) {
+                mSendFailures.put(inOrderIndex,inFailure);
+            }
+            mSendsPending--;
+            mSendLock.notifyAll();
+        }
     }
 
     @Override
@@ -96,6 +199,9 @@ public class ServerOrderProcessor implements OrderProcessor {
             return;
         }
 
+        // Wait for orders still queued in the client to be sent.
+        awaitSent();
+
         // Wait until a certain timeout for the ORS to acknowledge
         // receipt of orders sent. If we don't wait, because orders
         // are sent via JMS which is asynchronous, we might close the
@@ -5,6 +5,8 @@ import org.marketcetera.trade.Order;
 
 import java.util.List;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A mock order processor for unit testing.
@@ -25,6 +27,18 @@ public class MockOrderProcessor implements OrderProcessor {
         if(mFail) {
             throw new IllegalArgumentException(ORDER_FAILURE_STRING);
         }
+        mIndices.add(inOrderIndex);
+    }
+    @Override
+    public Map<Integer, Exception> awaitSent() {
+        Map<Integer, Exception> failures = new TreeMap<Integer, Exception>();
+        if(mSendFail) {
+            for(int index: mIndices) {
+                failures.put(index,
+                        new IllegalStateException(SEND_FAILURE_STRING));
+            }
+        }
+        return failures;
     }
     public List<Order> getOrders() {
         return mOrders;
@@ -34,12 +48,19 @@ public class MockOrderProcessor implements OrderProcessor {
         mFail = inFail;
     }
 
+    public void setSendFail(boolean inSendFail) {
+        mSendFail = inSendFail;
+    }
+
     public boolean isDoneInvoked() {
         return mDoneInvoked;
     }
 
     private boolean mFail = false;
+    private boolean mSendFail = false;
     private boolean mDoneInvoked = false;
     private final List<Order> mOrders = new LinkedList<Order>();
+    private final List<Integer> mIndices = new LinkedList<Integer>();
     static final String ORDER_FAILURE_STRING = "OrderFailure";
+    static final String SEND_FAILURE_STRING = "SendFailure";
 }
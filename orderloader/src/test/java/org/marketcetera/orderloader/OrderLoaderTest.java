@@ -1,9 +1,12 @@
 package org.marketcetera.orderloader;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
@@ -92,6 +95,36 @@ public class OrderLoaderTest {
                 tmpFile, 28, 6, 6, 5, 10);
         tmpFile.delete();
     }
+    @Test
+    public void sendFailures() throws Exception {
+        File tmpFile = File.createTempFile("ordloader",".csv");
+        tmpFile.deleteOnExit();
+        CopyCharsUtils.copy(OrderParserTest.arrayToLines(SYSTEM_ORDER_EXAMPLE).toCharArray(),
+                tmpFile.getAbsolutePath());
+        MockOrderProcessor processor = new MockOrderProcessor();
+        processor.setSendFail(true);
+        OrderLoader loader = new OrderLoader(OrderLoader.MODE_SYSTEM, null,
+                processor, tmpFile);
+        //orders that were accepted but never sent are reported as failed
+        assertEquals(0, loader.getNumSuccess());
+        assertEquals(15, loader.getNumFailed());
+        List<FailedOrderInfo> failed = loader.getFailedOrders();
+        assertEquals(15, failed.size());
+        int sendFailures = 0;
+        for(int i = 0; i < failed.size(); i++) {
+            FailedOrderInfo info = failed.get(i);
+            if(i > 0) {
+                assertTrue(failed.get(i - 1).getIndex() < info.getIndex());
+            }
+            assertNotNull(info.getRow());
+            if(MockOrderProcessor.SEND_FAILURE_STRING.equals(
+                    info.getException().getMessage())) {
+                sendFailures++;
+            }
+        }
+        assertEquals(5, sendFailures);
+        tmpFile.delete();
+    }
     private OrderLoader assertLoader(String inMode, BrokerID inBrokerID,
                               File inFile, int inNumLines, int inBlankLines,
                               int inNumComments, int inNumSuccess,
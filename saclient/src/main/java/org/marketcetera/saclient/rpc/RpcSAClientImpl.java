@@ -6,8 +6,6 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 
 import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -18,13 +16,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.marketcetera.core.CloseableLock;
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.module.ModuleInfo;
 import org.marketcetera.module.ModuleURN;
 import org.marketcetera.saclient.AbstractSAClient;
@@ -41,6 +37,7 @@ import org.marketcetera.saclient.rpc.RpcSAClient.RpcSAClientService.BlockingInte
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.ContextClassProvider;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.tags.NodeId;
 import org.marketcetera.util.ws.tags.SessionId;
 
@@ -332,11 +329,9 @@ public class RpcSAClientImpl
     protected void doStart()
     {
         try {
-            synchronized(contextLock) {
-                context = JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses());
-                marshaller = context.createMarshaller();
-                unmarshaller = context.createUnmarshaller();
-            }
+            marshallerPool = new MarshallerPool(JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses()));
+            MarshallerPoolMetrics.register(RpcSAClientImpl.class.getSimpleName(),
+                                           marshallerPool);
             startService();
             heartbeatFuture = heartbeatService.scheduleAtFixedRate(new HeartbeatMonitor(),
                                                                    heartbeatInterval,
@@ -459,12 +454,7 @@ public class RpcSAClientImpl
     private String marshal(Object inObject)
             throws JAXBException
     {
-        StringWriter output = new StringWriter();
-        synchronized(contextLock) {
-            marshaller.marshal(inObject,
-                               output);
-        }
-        return output.toString();
+        return marshallerPool.marshal(inObject);
     }
     /**
      * Unmarshals an object from the given XML stream.
@@ -473,13 +463,10 @@ public class RpcSAClientImpl
      * @return a <code>Clazz</code> value
      * @throws JAXBException if an error occurs unmarshalling the data
      */
-    @SuppressWarnings("unchecked")
     private <Clazz> Clazz unmarshal(String inData)
             throws JAXBException
     {
-        synchronized(contextLock) {
-            return (Clazz)unmarshaller.unmarshal(new StringReader(inData));
-        }
+        return marshallerPool.unmarshal(inData);
     }
     /**
      * Sends heartbeats and monitors the responses.
@@ -541,24 +528,9 @@ public class RpcSAClientImpl
      */
     private RpcController controller;
     /**
-     * guards access to JAXB context objects
-     */
-    private final Object contextLock = new Object();
-    /**
-     * context used to serialize and unserialize messages as necessary
-     */
-    @GuardedBy("contextLock")
-    private JAXBContext context;
-    /**
-     * marshals messages
-     */
-    @GuardedBy("contextLock")
-    private Marshaller marshaller;
-    /**
-     * unmarshals messages
+     * marshals and unmarshals messages as necessary
      */
-    @GuardedBy("contextLock")
-    private Unmarshaller unmarshaller;
+    private volatile MarshallerPool marshallerPool;
     /**
      * provides context classes for marshalling/unmarshalling, may be <code>null</code>
      */
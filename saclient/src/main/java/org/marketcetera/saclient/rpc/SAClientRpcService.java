@@ -6,6 +6,7 @@ import java.util.Map;
 
 import javax.xml.bind.JAXBException;
 
+import org.marketcetera.metrics.MarshallerPoolMetrics;
 import org.marketcetera.module.ModuleInfo;
 import org.marketcetera.module.ModuleURN;
 import org.marketcetera.saclient.CreateStrategyParameters;
@@ -41,8 +42,10 @@ import org.marketcetera.saclient.rpc.RpcSAClient.StrategyCreateParmsResponse;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.rpc.RpcCredentials;
+import org.marketcetera.util.rpc.RpcServer;
 import org.marketcetera.util.rpc.RpcServerServices;
 import org.marketcetera.util.rpc.RpcServiceSpec;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.tags.SessionId;
 
 import com.google.common.collect.Maps;
@@ -455,6 +458,13 @@ public class SAClientRpcService<SessionClazz>
     public void setRpcServerServices(RpcServerServices<SessionClazz> inServerServices)
     {
         serverServices = inServerServices;
+        if(inServerServices instanceof RpcServer) {
+            MarshallerPool marshallerPool = ((RpcServer<?>)inServerServices).getMarshallerPool();
+            if(marshallerPool != null) {
+                MarshallerPoolMetrics.register(RpcServer.class.getSimpleName(),
+                                               marshallerPool);
+            }
+        }
     }
     /**
      * Sets the service adapter value.
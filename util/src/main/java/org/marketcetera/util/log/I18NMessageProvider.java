@@ -5,6 +5,8 @@ import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.i18n.MessageManager;
 import org.apache.commons.i18n.MessageNotFoundException;
 import org.apache.commons.i18n.ResourceBundleMessageProvider;
@@ -73,6 +75,8 @@ public class I18NMessageProvider
     // INSTANCE DATA.
 
     private String mProviderId;
+    private transient ConcurrentMap<Locale,ConcurrentMap<I18NMessage,MessageFormat>> mFormats=
+        new ConcurrentHashMap<Locale,ConcurrentMap<I18NMessage,MessageFormat>>();
 
 
     // CONSTRUCTORS.
@@ -184,6 +188,7 @@ public class I18NMessageProvider
                ClassNotFoundException
     {
         in.defaultReadObject();
+        mFormats=new ConcurrentHashMap<Locale,ConcurrentMap<I18NMessage,MessageFormat>>();
         try {
             init(null);
         } catch (MessageNotFoundException ex) {
@@ -193,6 +198,50 @@ public class I18NMessageProvider
         }
     }
 
+    /**
+     * Returns the compiled format of the given message in the given
+     * locale, using the receiver's map. Formats are compiled once
+     * per message and locale, and compiled again only if the default
+     * formatting locale of the JVM changes, as the text of a message
+     * is formatted in that locale.
+     *
+     * @param locale The locale.
+     * @param message The message.
+     *
+     * @return The format. Callers must hold its lock while using it.
+     *
+     * @throws MessageNotFoundException Thrown if the message cannot
+     * be found.
+     */
+
+    private MessageFormat getFormat
+        (Locale locale,
+         I18NMessage message)
+        throws MessageNotFoundException
+    {
+        ConcurrentMap<I18NMessage,MessageFormat> formats=
+            mFormats.get(locale);
+        if (formats==null) {
+            formats=new ConcurrentHashMap<I18NMessage,MessageFormat>();
+            ConcurrentMap<I18NMessage,MessageFormat> existingFormats=
+                mFormats.putIfAbsent(locale,formats);
+            if (existingFormats!=null) {
+                formats=existingFormats;
+            }
+        }
+        MessageFormat format=formats.get(message);
+        if ((format==null) ||
+            !format.getLocale().equals
+            (Locale.getDefault(Locale.Category.FORMAT))) {
+            format=new MessageFormat
+                (MessageManager.getText
+                 (getProviderId(),message.getMessageId(),
+                  message.getEntryId(),null,locale));
+            formats.put(message,format);
+        }
+        return format;
+    }
+
     /**
      * Returns the text of the given message in the given locale,
      * using the receiver's map. The given parameters are used to
@@ -216,8 +265,14 @@ public class I18NMessageProvider
         String entryId=message.getEntryId();
         try {
             //throw new IllegalArgumentException(); // EXTREME TEST 2.
-            return MessageManager.getText
-                (getProviderId(),messageId,entryId,params,locale);
+            if ((params==null) || (params.length==0)) {
+                return MessageManager.getText
+                    (getProviderId(),messageId,entryId,params,locale);
+            }
+            MessageFormat format=getFormat(locale,message);
+            synchronized (format) {
+                return format.format(params);
+            }
         } catch (Exception ex) {
             ExceptUtils.interrupt(ex);
 
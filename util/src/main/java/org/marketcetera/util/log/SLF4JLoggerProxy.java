@@ -1,5 +1,7 @@
 package org.marketcetera.util.log;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.marketcetera.util.misc.ClassVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +53,37 @@ public final class SLF4JLoggerProxy
 
     private final static String SELF_PROXY=
         SLF4JLoggerProxy.class.getName();
+
+    /**
+     * The loggers of categories given as a class or as an object,
+     * by class. Looking up a logger via the logger factory is costly
+     * enough to matter on paths that log on every call, even when
+     * the logger turns out to be disabled.
+     */
+
+    private static final ClassValue<Logger> CLASS_LOGGERS=
+        new ClassValue<Logger>() {
+            @Override
+            protected Logger computeValue
+                (Class<?> type)
+            {
+                return LoggerFactory.getLogger(type.getName());
+            }
+        };
+
+    /**
+     * The loggers of categories given as a name, by name.
+     */
+
+    private static final ConcurrentMap<String,Logger> NAMED_LOGGERS=
+        new ConcurrentHashMap<String,Logger>();
+
+    /**
+     * The parameters of messages logged without parameters.
+     */
+
+    private static final Object[] NO_PARAMS=
+        new Object[0];
     
     
     // CLASS METHODS.
@@ -70,12 +103,17 @@ public final class SLF4JLoggerProxy
             return UNKNOWN_LOGGER;
         }
         if (category instanceof String) {
-            return LoggerFactory.getLogger((String)category);
+            Logger logger=NAMED_LOGGERS.get(category);
+            if (logger==null) {
+                logger=LoggerFactory.getLogger((String)category);
+                NAMED_LOGGERS.putIfAbsent((String)category,logger);
+            }
+            return logger;
         }
         if (category instanceof Class<?>) {
-            return LoggerFactory.getLogger(((Class<?>)category).getName());
+            return CLASS_LOGGERS.get((Class<?>)category);
         }
-        return LoggerFactory.getLogger(category.getClass().getName());
+        return CLASS_LOGGERS.get(category.getClass());
     }
 
     /**
@@ -129,7 +167,7 @@ public final class SLF4JLoggerProxy
                                           proxy,
                                           level,
                                           message,
-                                          new Object[0],
+                                          NO_PARAMS,
                                           throwable);
         return true;
     }
@@ -376,6 +414,52 @@ public final class SLF4JLoggerProxy
         errorProxy(SELF_PROXY,category,message,params);
     }
 
+    /**
+     * Logs the given message, parameterized by one parameter, under
+     * the given logging category at the error level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of error messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The message parameter.
+     */
+    
+    public static void error
+        (Object category,
+         String message,
+         Object p1)
+    {
+        if (!isErrorEnabled(category)) {
+            return;
+        }
+        errorProxy(SELF_PROXY,category,message,new Object[] {p1});
+    }
+
+    /**
+     * Logs the given message, parameterized by two parameters, under
+     * the given logging category at the error level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of error messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The first message parameter.
+     * @param p2 The second message parameter.
+     */
+    
+    public static void error
+        (Object category,
+         String message,
+         Object p1,
+         Object p2)
+    {
+        if (!isErrorEnabled(category)) {
+            return;
+        }
+        errorProxy(SELF_PROXY,category,message,new Object[] {p1,p2});
+    }
+
     /**
      * Logs the given parameterized message and throwable under the
      * given logging category at the error level via the given logging
@@ -607,6 +691,52 @@ public final class SLF4JLoggerProxy
         warnProxy(SELF_PROXY,category,message,params);
     }
 
+    /**
+     * Logs the given message, parameterized by one parameter, under
+     * the given logging category at the warning level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of warning messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The message parameter.
+     */
+    
+    public static void warn
+        (Object category,
+         String message,
+         Object p1)
+    {
+        if (!isWarnEnabled(category)) {
+            return;
+        }
+        warnProxy(SELF_PROXY,category,message,new Object[] {p1});
+    }
+
+    /**
+     * Logs the given message, parameterized by two parameters, under
+     * the given logging category at the warning level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of warning messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The first message parameter.
+     * @param p2 The second message parameter.
+     */
+    
+    public static void warn
+        (Object category,
+         String message,
+         Object p1,
+         Object p2)
+    {
+        if (!isWarnEnabled(category)) {
+            return;
+        }
+        warnProxy(SELF_PROXY,category,message,new Object[] {p1,p2});
+    }
+
     /**
      * Logs the given parameterized message and throwable under the
      * given logging category at the warning level via the given
@@ -840,6 +970,52 @@ public final class SLF4JLoggerProxy
         infoProxy(SELF_PROXY,category,message,params);
     }
 
+    /**
+     * Logs the given message, parameterized by one parameter, under
+     * the given logging category at the informational level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of informational messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The message parameter.
+     */
+    
+    public static void info
+        (Object category,
+         String message,
+         Object p1)
+    {
+        if (!isInfoEnabled(category)) {
+            return;
+        }
+        infoProxy(SELF_PROXY,category,message,new Object[] {p1});
+    }
+
+    /**
+     * Logs the given message, parameterized by two parameters, under
+     * the given logging category at the informational level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of informational messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The first message parameter.
+     * @param p2 The second message parameter.
+     */
+    
+    public static void info
+        (Object category,
+         String message,
+         Object p1,
+         Object p2)
+    {
+        if (!isInfoEnabled(category)) {
+            return;
+        }
+        infoProxy(SELF_PROXY,category,message,new Object[] {p1,p2});
+    }
+
     /**
      * Logs the given parameterized message and throwable under the
      * given logging category at the informational level via the given
@@ -1071,6 +1247,52 @@ public final class SLF4JLoggerProxy
         debugProxy(SELF_PROXY,category,message,params);
     }
 
+    /**
+     * Logs the given message, parameterized by one parameter, under
+     * the given logging category at the debugging level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of debugging messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The message parameter.
+     */
+    
+    public static void debug
+        (Object category,
+         String message,
+         Object p1)
+    {
+        if (!isDebugEnabled(category)) {
+            return;
+        }
+        debugProxy(SELF_PROXY,category,message,new Object[] {p1});
+    }
+
+    /**
+     * Logs the given message, parameterized by two parameters, under
+     * the given logging category at the debugging level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of debugging messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The first message parameter.
+     * @param p2 The second message parameter.
+     */
+    
+    public static void debug
+        (Object category,
+         String message,
+         Object p1,
+         Object p2)
+    {
+        if (!isDebugEnabled(category)) {
+            return;
+        }
+        debugProxy(SELF_PROXY,category,message,new Object[] {p1,p2});
+    }
+
     /**
      * Logs the given parameterized message and throwable under the
      * given logging category at the debugging level via the given
@@ -1302,6 +1524,52 @@ public final class SLF4JLoggerProxy
         traceProxy(SELF_PROXY,category,message,params);
     }
 
+    /**
+     * Logs the given message, parameterized by one parameter, under
+     * the given logging category at the tracing level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of tracing messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The message parameter.
+     */
+    
+    public static void trace
+        (Object category,
+         String message,
+         Object p1)
+    {
+        if (!isTraceEnabled(category)) {
+            return;
+        }
+        traceProxy(SELF_PROXY,category,message,new Object[] {p1});
+    }
+
+    /**
+     * Logs the given message, parameterized by two parameters, under
+     * the given logging category at the tracing level. Unlike the
+     * variable argument form, no parameter array is created if
+     * logging of tracing messages is disabled for the category.
+     * 
+     * @param category The category.
+     * @param message The message.
+     * @param p1 The first message parameter.
+     * @param p2 The second message parameter.
+     */
+    
+    public static void trace
+        (Object category,
+         String message,
+         Object p1,
+         Object p2)
+    {
+        if (!isTraceEnabled(category)) {
+            return;
+        }
+        traceProxy(SELF_PROXY,category,message,new Object[] {p1,p2});
+    }
+
     /**
      * Logs the given parameterized message and throwable under the
      * given logging category at the tracing level via the given
@@ -6,8 +6,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -18,13 +16,12 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.commons.lang.Validate;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.ContextClassProvider;
+import org.marketcetera.util.ws.MarshallerPool;
 import org.marketcetera.util.ws.stateful.Authenticator;
 import org.marketcetera.util.ws.stateful.PortDescriptor;
 import org.marketcetera.util.ws.stateful.SessionHolder;
@@ -99,9 +96,7 @@ public class RpcServer<SessionClazz>
             stop();
         }
         try {
-            reportContext = JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses());
-            marshaller = reportContext.createMarshaller();
-            unmarshaller = reportContext.createUnmarshaller();
+            marshallerPool = new MarshallerPool(JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses()));
         } catch (JAXBException e) {
             SLF4JLoggerProxy.error(this,
                                    e);
@@ -181,9 +176,7 @@ public class RpcServer<SessionClazz>
             rpcSessions.clear();
             channelToken = null;
             executor = null;
-            reportContext = null;
-            marshaller = null;
-            unmarshaller = null;
+            marshallerPool = null;
             running.set(false);
         }
     }
@@ -442,24 +435,25 @@ public class RpcServer<SessionClazz>
     public String marshal(Object inObject)
             throws JAXBException
     {
-        StringWriter output = new StringWriter();
-        synchronized(marshaller) {
-            marshaller.marshal(inObject,
-                               output);
-        }
-        return output.toString();
+        return marshallerPool.marshal(inObject);
     }
     /* (non-Javadoc)
      * @see org.marketcetera.client.rpc.RpcServerServices#unmarshall(java.lang.String)
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <Clazz> Clazz unmarshall(String inData)
             throws JAXBException
     {
-        synchronized(unmarshaller) {
-            return (Clazz)unmarshaller.unmarshal(new StringReader(inData));
-        }
+        return marshallerPool.unmarshal(inData);
+    }
+    /**
+     * Gets the pool used to marshal and unmarshal data.
+     *
+     * @return a <code>MarshallerPool</code> value or <code>null</code> if the server is not running
+     */
+    public MarshallerPool getMarshallerPool()
+    {
+        return marshallerPool;
     }
     /* (non-Javadoc)
      * @see org.marketcetera.util.ws.stateful.UsesPort#getPortDescriptors()
@@ -549,17 +543,9 @@ public class RpcServer<SessionClazz>
      */
     private ContextClassProvider contextClassProvider;
     /**
-     * context used to control the marshaller and unmarshaller
-     */
-    private JAXBContext reportContext;
-    /**
-     * marshals data for JAXB
-     */
-    private Marshaller marshaller;
-    /**
-     * unmarshals data for JAXB
+     * marshals and unmarshals data for JAXB
      */
-    private Unmarshaller unmarshaller;
+    private volatile MarshallerPool marshallerPool;
     /**
      * RPC services to manage
      */
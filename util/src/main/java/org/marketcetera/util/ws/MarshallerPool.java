@@ -0,0 +1,387 @@
+package org.marketcetera.util.ws;
+
+import java.io.StringReader;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Marshals and unmarshals objects to and from XML using a pool of JAXB marshallers and unmarshallers
+ * created from a single context.
+ *
+ * <p>Marshallers and unmarshallers are not thread-safe and are expensive to create, so callers that share
+ * one instance must serialize their use of it. This class instead lends each caller an instance of its own,
+ * creating one if none is idle, and keeps up to a fixed number of idle instances for reuse. Each pooled
+ * marshaller keeps the buffer it writes to, so marshalling does not allocate a new buffer each time.
+ *
+ * <p>By default, the number of instances in use at once is unbounded and obtaining one never waits. If a
+ * maximum is given, callers wait for an instance when the maximum is in use. The time taken to obtain each
+ * instance, including creating it or waiting for it, is accumulated for reporting.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class MarshallerPool
+{
+    /**
+     * Create a new MarshallerPool instance.
+     *
+     * @param inContextClasses a <code>Class&lt;?&gt;...</code> value
+     * @throws JAXBException if the context cannot be created
+     */
+    public MarshallerPool(Class<?>...inContextClasses)
+            throws JAXBException
+    {
+        this(JAXBContext.newInstance(inContextClasses));
+    }
+    /**
+     * Create a new MarshallerPool instance.
+     *
+     * @param inContext a <code>JAXBContext</code> value
+     */
+    public MarshallerPool(JAXBContext inContext)
+    {
+        this(inContext,
+             DEFAULT_MAX_IDLE,
+             0);
+    }
+    /**
+     * Create a new MarshallerPool instance.
+     *
+     * @param inContext a <code>JAXBContext</code> value
+     * @param inMaxIdle an <code>int</code> value indicating the number of idle marshallers and unmarshallers to keep
+     * @param inMaxActive an <code>int</code> value indicating the number of marshallers, and separately unmarshallers,
+     *  that may be in use at once, or 0 for no limit
+     * @throws IllegalArgumentException if the context is <code>null</code> or a size is negative
+     */
+    public MarshallerPool(JAXBContext inContext,
+                          int inMaxIdle,
+                          int inMaxActive)
+    {
+        Validate.notNull(inContext);
+        Validate.isTrue(inMaxIdle >= 0);
+        Validate.isTrue(inMaxActive >= 0);
+        context = inContext;
+        marshallers = new Pool<PooledMarshaller>(inMaxIdle,
+                                                 inMaxActive) {
+            @Override
+            protected PooledMarshaller create()
+                    throws JAXBException
+            {
+                return new PooledMarshaller(context.createMarshaller());
+            }
+        };
+        unmarshallers = new Pool<Unmarshaller>(inMaxIdle,
+                                               inMaxActive) {
+            @Override
+            protected Unmarshaller create()
+                    throws JAXBException
+            {
+                return context.createUnmarshaller();
+            }
+        };
+    }
+    /**
+     * Marshals the given object to XML.
+     *
+     * @param inObject an <code>Object</code> value
+     * @return a <code>String</code> value
+     * @throws JAXBException if the object cannot be marshalled
+     */
+    public String marshal(Object inObject)
+            throws JAXBException
+    {
+        PooledMarshaller marshaller = marshallers.acquire();
+        try {
+            return marshaller.marshal(inObject);
+        } finally {
+            marshallers.release(marshaller);
+        }
+    }
+    /**
+     * Unmarshals an object from the given XML.
+     *
+     * @param inXml a <code>String</code> value
+     * @return a <code>Clazz</code> value
+     * @throws JAXBException if the XML cannot be unmarshalled
+     */
+    @SuppressWarnings("unchecked")
+    public <Clazz> Clazz unmarshal(String inXml)
+            throws JAXBException
+    {
+        Unmarshaller unmarshaller = unmarshallers.acquire();
+        try {
+            return (Clazz)unmarshaller.unmarshal(new StringReader(inXml));
+        } finally {
+            unmarshallers.release(unmarshaller);
+        }
+    }
+    /**
+     * Gets the context from which marshallers and unmarshallers are created.
+     *
+     * @return a <code>JAXBContext</code> value
+     */
+    public JAXBContext getContext()
+    {
+        return context;
+    }
+    /**
+     * Gets the number of times a marshaller or unmarshaller was obtained.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getAcquiredCount()
+    {
+        return marshallers.acquired.get() + unmarshallers.acquired.get();
+    }
+    /**
+     * Gets the number of marshallers and unmarshallers created.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getCreatedCount()
+    {
+        return marshallers.created.get() + unmarshallers.created.get();
+    }
+    /**
+     * Gets the total time spent obtaining marshallers and unmarshallers.
+     *
+     * @return a <code>long</code> value in nanoseconds
+     */
+    public long getTotalWaitNanos()
+    {
+        return marshallers.totalWait.get() + unmarshallers.totalWait.get();
+    }
+    /**
+     * Gets the longest time spent obtaining a marshaller or unmarshaller.
+     *
+     * @return a <code>long</code> value in nanoseconds
+     */
+    public long getMaxWaitNanos()
+    {
+        return Math.max(marshallers.maxWait.get(),
+                        unmarshallers.maxWait.get());
+    }
+    /**
+     * Gets the mean time spent obtaining a marshaller or unmarshaller.
+     *
+     * @return a <code>long</code> value in nanoseconds
+     */
+    public long getMeanWaitNanos()
+    {
+        long acquired = getAcquiredCount();
+        return acquired == 0 ? 0 : getTotalWaitNanos() / acquired;
+    }
+    /**
+     * Holds idle instances of a type.
+     *
+     * @param <T> the type of pooled instance
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    @ThreadSafe
+    private static abstract class Pool<T>
+    {
+        /**
+         * Create a new Pool instance.
+         *
+         * @param inMaxIdle an <code>int</code> value
+         * @param inMaxActive an <code>int</code> value or 0 for no limit
+         */
+        private Pool(int inMaxIdle,
+                     int inMaxActive)
+        {
+            maxIdle = inMaxIdle;
+            permits = inMaxActive == 0 ? null : new Semaphore(inMaxActive);
+        }
+        /**
+         * Creates an instance.
+         *
+         * @return a <code>T</code> value
+         * @throws JAXBException if the instance cannot be created
+         */
+        protected abstract T create()
+                throws JAXBException;
+        /**
+         * Obtains an instance, waiting if the maximum number of instances is in use.
+         *
+         * @return a <code>T</code> value
+         * @throws JAXBException if an instance cannot be created or the calling thread is interrupted while waiting
+         */
+        private T acquire()
+                throws JAXBException
+        {
+            long start = System.nanoTime();
+            if(permits != null) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JAXBException(e);
+                }
+            }
+            T instance = idle.poll();
+            if(instance == null) {
+                try {
+                    instance = create();
+                } catch (JAXBException | RuntimeException e) {
+                    if(permits != null) {
+                        permits.release();
+                    }
+                    throw e;
+                }
+                created.incrementAndGet();
+            } else {
+                idleCount.decrementAndGet();
+            }
+            long wait = System.nanoTime() - start;
+            acquired.incrementAndGet();
+            totalWait.addAndGet(wait);
+            long max = maxWait.get();
+            while(wait > max && !maxWait.compareAndSet(max,
+                                                       wait)) {
+                max = maxWait.get();
+            }
+            return instance;
+        }
+        /**
+         * Returns the given instance to the pool.
+         *
+         * @param inInstance a <code>T</code> value
+         */
+        private void release(T inInstance)
+        {
+            if(idleCount.incrementAndGet() <= maxIdle) {
+                idle.offer(inInstance);
+            } else {
+                idleCount.decrementAndGet();
+            }
+            if(permits != null) {
+                permits.release();
+            }
+        }
+        /**
+         * maximum number of idle instances to keep
+         */
+        private final int maxIdle;
+        /**
+         * limits the number of instances in use, <code>null</code> for no limit
+         */
+        private final Semaphore permits;
+        /**
+         * idle instances
+         */
+        private final Queue<T> idle = new ConcurrentLinkedQueue<T>();
+        /**
+         * number of idle instances
+         */
+        private final AtomicInteger idleCount = new AtomicInteger();
+        /**
+         * number of instances obtained
+         */
+        private final AtomicLong acquired = new AtomicLong();
+        /**
+         * number of instances created
+         */
+        private final AtomicLong created = new AtomicLong();
+        /**
+         * total time spent obtaining instances in nanoseconds
+         */
+        private final AtomicLong totalWait = new AtomicLong();
+        /**
+         * longest time spent obtaining an instance in nanoseconds
+         */
+        private final AtomicLong maxWait = new AtomicLong();
+    }
+    /**
+     * A marshaller with the buffer it writes to.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.0.12
+     */
+    private static class PooledMarshaller
+    {
+        /**
+         * Create a new PooledMarshaller instance.
+         *
+         * @param inMarshaller a <code>Marshaller</code> value
+         */
+        private PooledMarshaller(Marshaller inMarshaller)
+        {
+            marshaller = inMarshaller;
+        }
+        /**
+         * Marshals the given object.
+         *
+         * @param inObject an <code>Object</code> value
+         * @return a <code>String</code> value
+         * @throws JAXBException if the object cannot be marshalled
+         */
+        private String marshal(Object inObject)
+                throws JAXBException
+        {
+            StringBuilder buffer = output.getBuilder();
+            buffer.setLength(0);
+            try {
+                marshaller.marshal(inObject,
+                                   output);
+                return buffer.toString();
+            } finally {
+                if(buffer.capacity() > MAX_RETAINED_BUFFER) {
+                    output = new StringBuilderWriter(INITIAL_BUFFER);
+                }
+            }
+        }
+        /**
+         * marshals objects
+         */
+        private final Marshaller marshaller;
+        /**
+         * receives marshalled output
+         */
+        private StringBuilderWriter output = new StringBuilderWriter(INITIAL_BUFFER);
+    }
+    /**
+     * default number of idle marshallers and unmarshallers kept
+     */
+    public static final int DEFAULT_MAX_IDLE = 32;
+    /**
+     * initial size of marshaller buffers
+     */
+    private static final int INITIAL_BUFFER = 1024;
+    /**
+     * largest marshaller buffer kept for reuse
+     */
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    /**
+     * creates marshallers and unmarshallers
+     */
+    private final JAXBContext context;
+    /**
+     * pooled marshallers
+     */
+    private final Pool<PooledMarshaller> marshallers;
+    /**
+     * pooled unmarshallers
+     */
+    private final Pool<Unmarshaller> unmarshallers;
+}
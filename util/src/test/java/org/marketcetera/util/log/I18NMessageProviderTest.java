@@ -149,6 +149,27 @@ public class I18NMessageProviderTest
              getText(TestMessages.HELLO_TITLE,"Le Monde"));
     }
 
+    @Test
+    public void formatsFollowDefaultLocale()
+    {
+        Locale saved=Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            assertEquals
+                ("There are 1,234 orders ma'am.",TestMessages.PROVIDER.
+                 getText(TestMessages.CHOICE_MSG,1234));
+            assertEquals
+                ("There are 1,234 orders ma'am.",TestMessages.PROVIDER.
+                 getText(TestMessages.CHOICE_MSG,1234));
+            Locale.setDefault(Locale.GERMANY);
+            assertEquals
+                ("There are 1.234 orders ma'am.",TestMessages.PROVIDER.
+                 getText(TestMessages.CHOICE_MSG,1234));
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+
     @Test
     public void nonexistentMappingFile()
     {
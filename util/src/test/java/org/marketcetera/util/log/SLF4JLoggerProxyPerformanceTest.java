@@ -0,0 +1,202 @@
+package org.marketcetera.util.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeFalse;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+/* $License$ */
+
+/**
+ * Measures the cost of logging statements whose level is disabled, which is what most debug statements on
+ * the hot paths of the platform cost in production, and the cost of formatting internationalized messages.
+ *
+ * <p>{@link #jitCompilation()} is a test that is ran to allow JIT compilation of the code exercised in
+ * this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class SLF4JLoggerProxyPerformanceTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        assumeFalse(SLF4JLoggerProxy.isDebugEnabled(this));
+    }
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        disabledDebug(ITERATIONS / 10);
+        formatting(ITERATIONS / 100);
+    }
+    /**
+     * Measures disabled debug statements.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void disabledDebug()
+            throws Exception
+    {
+        disabledDebug(ITERATIONS);
+    }
+    /**
+     * Measures formatting internationalized messages.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void formatting()
+            throws Exception
+    {
+        formatting(ITERATIONS / 10);
+    }
+    /**
+     * Executes disabled debug statements of each form the given number of times.
+     *
+     * @param inIterations an <code>int</code> value
+     */
+    private void disabledDebug(int inIterations)
+    {
+        // looking up the logger on every statement, which is what the proxy did before it cached loggers
+        String name = getClass().getName();
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            if(LoggerFactory.getLogger(name).isDebugEnabled()) {
+                LoggerFactory.getLogger(name).debug(MESSAGE);
+            }
+        }
+        log("uncached logger lookup", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            SLF4JLoggerProxy.debug(this,
+                                   MESSAGE);
+        }
+        log("no parameters", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            SLF4JLoggerProxy.debug(SLF4JLoggerProxyPerformanceTest.class,
+                                   MESSAGE,
+                                   PARAMETER);
+        }
+        log("one parameter", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            SLF4JLoggerProxy.debug(this,
+                                   MESSAGE,
+                                   PARAMETER,
+                                   PARAMETER);
+        }
+        log("two parameters", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            SLF4JLoggerProxy.debug(this,
+                                   MESSAGE,
+                                   PARAMETER,
+                                   PARAMETER,
+                                   PARAMETER);
+        }
+        log("three parameters", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            TestMessages.LOG_MSG.debug(this,
+                                       PARAMETER);
+        }
+        log("internationalized message", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+    }
+    /**
+     * Formats an internationalized message the given number of times.
+     *
+     * @param inIterations an <code>int</code> value
+     */
+    private void formatting(int inIterations)
+    {
+        // compiling the message format on every call, which is what the provider did before it cached formats
+        String pattern = TestMessages.PROVIDER.getText(Locale.ROOT,
+                                                       TestMessages.HELLO_TITLE,
+                                                       (Object[])null);
+        long length = 0;
+        long start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            length += MessageFormat.format(pattern,
+                                           PARAMETER).length();
+        }
+        log("uncached format", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        long cachedLength = 0;
+        start = System.nanoTime();
+        for(int i=0;i<inIterations;i++) {
+            cachedLength += TestMessages.PROVIDER.getText(Locale.ROOT,
+                                                          TestMessages.HELLO_TITLE,
+                                                          PARAMETER).length();
+        }
+        log("provider", //$NON-NLS-1$
+            inIterations,
+            System.nanoTime() - start);
+        assertEquals(length,
+                     cachedLength);
+    }
+    /**
+     * Logs the results of a run.
+     *
+     * @param inLabel a <code>String</code> value
+     * @param inCount an <code>int</code> value
+     * @param inElapsed a <code>long</code> value in nanoseconds
+     */
+    private static void log(String inLabel,
+                            int inCount,
+                            long inElapsed)
+    {
+        SLF4JLoggerProxy.info(SLF4JLoggerProxyPerformanceTest.class,
+                              "{}: {} in {}ms, {}ns each", //$NON-NLS-1$
+                              inLabel,
+                              inCount,
+                              inElapsed / 1000000,
+                              inElapsed / inCount);
+    }
+    /**
+     * message logged by the measured statements
+     */
+    private static final String MESSAGE = "Test message {} {} {} (not expected)"; //$NON-NLS-1$
+    /**
+     * parameter of the measured statements, created once so that boxing is not measured
+     */
+    private static final Object PARAMETER = Integer.valueOf(1000);
+    /**
+     * number of times each statement is executed
+     */
+    private static final int ITERATIONS = 100000;
+}
@@ -0,0 +1,217 @@
+package org.marketcetera.util.ws;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.junit.Test;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.ws.MarshallerPoolTest.Sample;
+
+/* $License$ */
+
+/**
+ * Compares the multi-threaded serialization throughput of a {@link MarshallerPool} to a single marshaller
+ * shared under a lock, which is how the RPC clients and server serialized payloads before the pool.
+ *
+ * <p>{@link #jitCompilation()} is a test that is ran to allow JIT compilation of the code exercised in
+ * this unit test.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class MarshallerPoolPerformanceTest
+{
+    /**
+     * This test does not test anything. It's just executed first
+     * to let the jit compilation kick in.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void jitCompilation()
+            throws Exception
+    {
+        compare(1,
+                ITERATIONS / 10);
+    }
+    /**
+     * Measures serialization from a single thread.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void singleThread()
+            throws Exception
+    {
+        compare(1,
+                ITERATIONS);
+    }
+    /**
+     * Measures serialization from several threads at once.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void multipleThreads()
+            throws Exception
+    {
+        compare(THREADS,
+                ITERATIONS);
+    }
+    /**
+     * Marshals objects with a shared marshaller and with a pool from the given number of threads and reports the throughput of each.
+     *
+     * @param inThreads an <code>int</code> value
+     * @param inIterations an <code>int</code> value indicating the number of objects each thread marshals
+     * @throws Exception if an unexpected error occurs
+     */
+    private static void compare(int inThreads,
+                                int inIterations)
+            throws Exception
+    {
+        JAXBContext context = JAXBContext.newInstance(Sample.class);
+        final Marshaller sharedMarshaller = context.createMarshaller();
+        Serializer shared = new Serializer() {
+            @Override
+            public String marshal(Object inObject)
+                    throws JAXBException
+            {
+                StringWriter output = new StringWriter();
+                synchronized(sharedMarshaller) {
+                    sharedMarshaller.marshal(inObject,
+                                             output);
+                }
+                return output.toString();
+            }
+        };
+        final MarshallerPool pool = new MarshallerPool(context);
+        Serializer pooled = new Serializer() {
+            @Override
+            public String marshal(Object inObject)
+                    throws JAXBException
+            {
+                return pool.marshal(inObject);
+            }
+        };
+        long sharedElapsed = run(shared,
+                                 inThreads,
+                                 inIterations);
+        long pooledElapsed = run(pooled,
+                                 inThreads,
+                                 inIterations);
+        long messages = (long)inThreads * inIterations;
+        SLF4JLoggerProxy.info(MarshallerPoolPerformanceTest.class,
+                              "{} threads x {} objects: shared marshaller {} msg/s, pool {} msg/s, mean pool wait {}ns, {} marshallers created", //$NON-NLS-1$
+                              inThreads,
+                              inIterations,
+                              throughput(messages,
+                                         sharedElapsed),
+                              throughput(messages,
+                                         pooledElapsed),
+                              pool.getMeanWaitNanos(),
+                              pool.getCreatedCount());
+    }
+    /**
+     * Marshals objects with the given serializer from the given number of threads.
+     *
+     * @param inSerializer a <code>Serializer</code> value
+     * @param inThreads an <code>int</code> value
+     * @param inIterations an <code>int</code> value
+     * @return a <code>long</code> value containing the elapsed time in nanoseconds
+     * @throws Exception if an unexpected error occurs
+     */
+    private static long run(final Serializer inSerializer,
+                            int inThreads,
+                            final int inIterations)
+            throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(inThreads);
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            @SuppressWarnings("unchecked")
+            Future<Integer>[] results = new Future[inThreads];
+            for(int i=0;i<inThreads;i++) {
+                final int thread = i;
+                results[i] = executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call()
+                            throws Exception
+                    {
+                        startGate.await();
+                        int length = 0;
+                        for(int j=0;j<inIterations;j++) {
+                            length += inSerializer.marshal(new Sample("METC", //$NON-NLS-1$
+                                                                      thread)).length();
+                        }
+                        return length;
+                    }
+                });
+            }
+            long start = System.nanoTime();
+            startGate.countDown();
+            int expectedLength = -1;
+            for(Future<Integer> result : results) {
+                int length = result.get();
+                if(expectedLength == -1) {
+                    expectedLength = length;
+                }
+                assertEquals(expectedLength,
+                             length);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10,
+                                      TimeUnit.SECONDS);
+        }
+    }
+    /**
+     * Calculates the number of messages per second.
+     *
+     * @param inMessages a <code>long</code> value
+     * @param inElapsedNanos a <code>long</code> value
+     * @return a <code>long</code> value
+     */
+    private static long throughput(long inMessages,
+                                   long inElapsedNanos)
+    {
+        return inMessages * TimeUnit.SECONDS.toNanos(1) / Math.max(1,
+                                                                   inElapsedNanos);
+    }
+    /**
+     * Marshals objects to XML.
+     */
+    private interface Serializer
+    {
+        /**
+         * Marshals the given object.
+         *
+         * @param inObject an <code>Object</code> value
+         * @return a <code>String</code> value
+         * @throws JAXBException if the object cannot be marshalled
+         */
+        String marshal(Object inObject)
+                throws JAXBException;
+    }
+    /**
+     * number of objects each thread marshals
+     */
+    private static final int ITERATIONS = 10000;
+    /**
+     * number of threads used for the multi-threaded comparison
+     */
+    private static final int THREADS = Math.max(2,
+                                                Runtime.getRuntime().availableProcessors());
+}
@@ -0,0 +1,256 @@
+package org.marketcetera.util.ws;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.apache.commons.lang.StringUtils;
+import org.junit.Test;
+
+/* $License$ */
+
+/**
+ * Tests {@link MarshallerPool}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.0.12
+ */
+public class MarshallerPoolTest
+{
+    /**
+     * Tests that objects survive a round trip through the pool.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testRoundTrip()
+            throws Exception
+    {
+        MarshallerPool pool = new MarshallerPool(Sample.class);
+        Sample sample = new Sample("METC", //$NON-NLS-1$
+                                   42);
+        Sample copy = pool.unmarshal(pool.marshal(sample));
+        assertEquals(sample.name,
+                     copy.name);
+        assertEquals(sample.value,
+                     copy.value);
+        // a second object marshalled with the same marshaller does not carry output of the first
+        Sample other = new Sample("other", //$NON-NLS-1$
+                                  7);
+        String xml = pool.marshal(other);
+        assertFalse(xml.contains("METC")); //$NON-NLS-1$
+        assertEquals(other.value,
+                     ((Sample)pool.unmarshal(xml)).value);
+        // output that outgrows the retained buffer is still complete
+        Sample large = new Sample(StringUtils.repeat("x", //$NON-NLS-1$
+                                                     100000),
+                                  1);
+        assertEquals(large.name,
+                     ((Sample)pool.unmarshal(pool.marshal(large))).name);
+        assertEquals(other.name,
+                     ((Sample)pool.unmarshal(pool.marshal(other))).name);
+    }
+    /**
+     * Tests that idle marshallers and unmarshallers are reused and that statistics are kept.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReuse()
+            throws Exception
+    {
+        MarshallerPool pool = new MarshallerPool(Sample.class);
+        assertEquals(0,
+                     pool.getAcquiredCount());
+        assertEquals(0,
+                     pool.getMeanWaitNanos());
+        for(int i=0;i<10;i++) {
+            pool.unmarshal(pool.marshal(new Sample("METC", //$NON-NLS-1$
+                                                   i)));
+        }
+        assertEquals(20,
+                     pool.getAcquiredCount());
+        assertEquals(2,
+                     pool.getCreatedCount());
+        assertTrue(pool.getMaxWaitNanos() > 0);
+        assertTrue(pool.getTotalWaitNanos() >= pool.getMaxWaitNanos());
+    }
+    /**
+     * Tests that marshalling errors are reported and do not leak pool capacity.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testErrors()
+            throws Exception
+    {
+        MarshallerPool pool = new MarshallerPool(JAXBContext.newInstance(Sample.class),
+                                                 1,
+                                                 1);
+        for(int i=0;i<3;i++) {
+            try {
+                pool.unmarshal("not xml"); //$NON-NLS-1$
+            } catch (JAXBException expected) {}
+        }
+        assertEquals(1,
+                     ((Sample)pool.unmarshal(pool.marshal(new Sample("METC", //$NON-NLS-1$
+                                                                     1)))).value);
+    }
+    /**
+     * Tests that callers wait when the maximum number of marshallers is in use.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMaxActive()
+            throws Exception
+    {
+        final MarshallerPool pool = new MarshallerPool(JAXBContext.newInstance(Sample.class,
+                                                                               BlockingSample.class),
+                                                       1,
+                                                       1);
+        final CountDownLatch marshalling = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        Thread holder = new Thread() {
+            @Override
+            public void run()
+            {
+                try {
+                    pool.marshal(new BlockingSample(marshalling,
+                                                    proceed));
+                } catch (JAXBException ignored) {}
+            }
+        };
+        holder.start();
+        assertTrue(marshalling.await(10,
+                                     TimeUnit.SECONDS));
+        final AtomicReference<String> result = new AtomicReference<String>();
+        Thread waiter = new Thread() {
+            @Override
+            public void run()
+            {
+                try {
+                    result.set(pool.marshal(new Sample("METC", //$NON-NLS-1$
+                                                       1)));
+                } catch (JAXBException ignored) {}
+            }
+        };
+        waiter.start();
+        waiter.join(250);
+        assertTrue(waiter.isAlive());
+        proceed.countDown();
+        waiter.join(10000);
+        holder.join(10000);
+        assertTrue(result.get().contains("METC")); //$NON-NLS-1$
+        assertEquals(1,
+                     pool.getCreatedCount());
+        assertTrue(pool.getMaxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+    /**
+     * Sample marshallable type.
+     */
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class Sample
+    {
+        /**
+         * Create a new Sample instance.
+         */
+        public Sample() {}
+        /**
+         * Create a new Sample instance.
+         *
+         * @param inName a <code>String</code> value
+         * @param inValue an <code>int</code> value
+         */
+        public Sample(String inName,
+                      int inValue)
+        {
+            name = inName;
+            value = inValue;
+        }
+        /**
+         * sample name
+         */
+        @XmlAttribute
+        protected String name;
+        /**
+         * sample value
+         */
+        @XmlAttribute
+        protected int value;
+    }
+    /**
+     * Holds the marshaller it is marshalled with until told to proceed.
+     */
+    @XmlRootElement
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class BlockingSample
+    {
+        /**
+         * Create a new BlockingSample instance.
+         */
+        public BlockingSample()
+        {
+            marshalling = null;
+            proceed = null;
+        }
+        /**
+         * Create a new BlockingSample instance.
+         *
+         * @param inMarshalling a <code>CountDownLatch</code> value counted down when marshalling starts
+         * @param inProceed a <code>CountDownLatch</code> value awaited before marshalling completes
+         */
+        public BlockingSample(CountDownLatch inMarshalling,
+                              CountDownLatch inProceed)
+        {
+            marshalling = inMarshalling;
+            proceed = inProceed;
+        }
+        /**
+         * Gets the name, blocking until told to proceed.
+         *
+         * @return a <code>String</code> value
+         */
+        @XmlAttribute
+        public String getName()
+        {
+            if(marshalling != null) {
+                marshalling.countDown();
+                try {
+                    proceed.await(10,
+                                  TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "blocking"; //$NON-NLS-1$
+        }
+        /**
+         * Sets the name.
+         *
+         * @param inName a <code>String</code> value
+         */
+        public void setName(String inName) {}
+        /**
+         * counted down when marshalling starts
+         */
+        private final CountDownLatch marshalling;
+        /**
+         * awaited before marshalling completes
+         */
+        private final CountDownLatch proceed;
+    }
+}